@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file ({@code -rf json}) against a recorded baseline and exits with status 1
+ * when any benchmark present in both files is slower than the baseline by more than the tolerance.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.firefly.core.banking.ledger.benchmarks.RegressionCheck
+ * <baseline.json> <current.json> [tolerancePercent]} (default tolerance 10%).
+ */
+public final class RegressionCheck {
+
+    private static final double DEFAULT_TOLERANCE_PERCENT = 10.0;
+
+    private RegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionCheck <baseline.json> <current.json> [tolerancePercent]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT;
+
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : new TreeMap<>(current).entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW        %s: %.3f %s%n", entry.getKey(), entry.getValue().score(), entry.getValue().unit());
+                continue;
+            }
+            double change = entry.getValue().slowdownPercent(before);
+            boolean regressed = change > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%% slower)%n",
+                    regressed ? "REGRESSED" : "OK", entry.getKey(),
+                    before.score(), entry.getValue().score(), entry.getValue().unit(), change);
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, tolerance);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields().forEachRemaining(p ->
+                    key.append(':').append(p.getKey()).append('=').append(p.getValue().asText()));
+            key.append(" [").append(run.path("mode").asText()).append(']');
+
+            JsonNode metric = run.path("primaryMetric");
+            results.put(key.toString(), new Result(
+                    run.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    /**
+     * A single primary metric. Throughput scores are better when higher, every other mode is a time per
+     * operation and is better when lower.
+     */
+    private record Result(String mode, double score, String unit) {
+
+        double slowdownPercent(Result baseline) {
+            if (baseline.score() == 0) {
+                return 0;
+            }
+            double ratio = "thrpt".equals(mode) ? baseline.score() / score : score / baseline.score();
+            return (ratio - 1) * 100;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.endtoend;
+
+import com.firefly.core.banking.ledger.benchmarks.support.LedgerBenchmarkContext;
+import com.firefly.core.banking.ledger.core.services.directdebit.v1.DirectDebitCollectionService;
+import com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1.DirectDebitCollectionResultDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitProcessingStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitSequenceTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Direct debit collection run over {@value #COLLECTIONS} due debits against a local PostgreSQL database
+ * (see {@link LedgerBenchmarkContext} for the connection settings).
+ * <p>
+ * The score is the time per collection. Collecting 50k debits a minute, the sizing goal for collection runs,
+ * would take at most 1.2 ms/op; no measured score is recorded.
+ * One in five debits is the second collection (RCUR) of a mandate whose first collection (FRST) is due in the
+ * same run, so the per-mandate ordering is exercised as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DirectDebitCollectionBenchmark {
+
+    static final int COLLECTIONS = 50_000;
+
+    private static final MultiRowInsert<TransactionLineDirectDebit> INSERT_DEBITS =
+            MultiRowInsert.<TransactionLineDirectDebit>into("transaction_line_direct_debit")
+                    .column("transaction_line_direct_debit_id", UUID.class, TransactionLineDirectDebit::getTransactionLineDirectDebitId)
+                    .column("transaction_id", UUID.class, TransactionLineDirectDebit::getTransactionId)
+                    .column("direct_debit_mandate_id", String.class, TransactionLineDirectDebit::getDirectDebitMandateId)
+                    .column("direct_debit_creditor_id", String.class, TransactionLineDirectDebit::getDirectDebitCreditorId)
+                    .column("direct_debit_sequence_type", String.class, d -> d.getDirectDebitSequenceType().name())
+                    .column("direct_debit_due_date", LocalDate.class, TransactionLineDirectDebit::getDirectDebitDueDate)
+                    .column("direct_debit_processing_status", String.class, d -> d.getDirectDebitProcessingStatus().name());
+
+    private ConfigurableApplicationContext context;
+    private DirectDebitCollectionService collectionService;
+    private TransactionRepository transactionRepository;
+    private DatabaseClient databaseClient;
+    private LocalDate dueDate;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = LedgerBenchmarkContext.start();
+        collectionService = context.getBean(DirectDebitCollectionService.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        databaseClient = context.getBean(DatabaseClient.class);
+        dueDate = LocalDate.now();
+    }
+
+    @Setup(Level.Invocation)
+    public void seedDueDebits() {
+        LocalDateTime now = LocalDateTime.now();
+        String creditorId = "CRED-" + UUID.randomUUID();
+        List<Transaction> transactions = new ArrayList<>(COLLECTIONS);
+        List<TransactionLineDirectDebit> debits = new ArrayList<>(COLLECTIONS);
+        String mandateId = null;
+
+        for (int i = 0; i < COLLECTIONS; i++) {
+            boolean secondOfMandate = i % 5 == 4;
+            if (!secondOfMandate) {
+                mandateId = "MANDATE-" + UUID.randomUUID();
+            }
+
+            Transaction transaction = new Transaction();
+            transaction.setTransactionId(UUID.randomUUID());
+            transaction.setTransactionDate(now);
+            transaction.setValueDate(dueDate.atStartOfDay());
+            transaction.setBookingDate(now);
+            transaction.setTransactionType(TransactionTypeEnum.DIRECT_DEBIT);
+            transaction.setTransactionStatus(TransactionStatusEnum.PENDING);
+            transaction.setTotalAmount(new BigDecimal("29.99"));
+            transaction.setCurrency("EUR");
+            transaction.setAccountId(UUID.randomUUID());
+            transactions.add(transaction);
+
+            TransactionLineDirectDebit debit = new TransactionLineDirectDebit();
+            debit.setTransactionLineDirectDebitId(UUID.randomUUID());
+            debit.setTransactionId(transaction.getTransactionId());
+            debit.setDirectDebitMandateId(mandateId);
+            debit.setDirectDebitCreditorId(creditorId);
+            debit.setDirectDebitSequenceType(secondOfMandate ? DirectDebitSequenceTypeEnum.RCUR : DirectDebitSequenceTypeEnum.FRST);
+            debit.setDirectDebitDueDate(dueDate);
+            debit.setDirectDebitProcessingStatus(DirectDebitProcessingStatusEnum.INITIATED);
+            debits.add(debit);
+        }
+
+        transactionRepository.insertAll(transactions)
+                .then(INSERT_DEBITS.execute(databaseClient, debits))
+                .block();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLLECTIONS)
+    public DirectDebitCollectionResultDTO collectDueDirectDebits() {
+        return collectionService.collectDueDirectDebits(dueDate).block();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
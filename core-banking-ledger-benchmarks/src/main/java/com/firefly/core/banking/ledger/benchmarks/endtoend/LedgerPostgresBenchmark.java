@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.endtoend;
+
+import com.firefly.core.banking.ledger.benchmarks.support.BenchmarkFixtures;
+import com.firefly.core.banking.ledger.benchmarks.support.LedgerBenchmarkContext;
+import com.firefly.core.banking.ledger.core.services.core.v1.TransactionService;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Create and read throughput of the transaction service against a local PostgreSQL database
+ * (see {@link LedgerBenchmarkContext} for the connection settings).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(1)
+public class LedgerPostgresBenchmark {
+
+    private static final int READ_SET_SIZE = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private UUID accountId;
+    private List<UUID> readSet;
+
+    @Setup
+    public void setUp() {
+        context = LedgerBenchmarkContext.start();
+        transactionService = context.getBean(TransactionService.class);
+        accountId = UUID.randomUUID();
+
+        readSet = new ArrayList<>(READ_SET_SIZE);
+        for (int i = 0; i < READ_SET_SIZE; i++) {
+            readSet.add(transactionService.createTransaction(BenchmarkFixtures.newTransactionDTO(accountId))
+                    .map(TransactionDTO::getTransactionId)
+                    .block());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionDTO createTransaction() {
+        return transactionService.createTransaction(BenchmarkFixtures.newTransactionDTO(accountId)).block();
+    }
+
+    @Benchmark
+    public TransactionDTO readTransaction() {
+        UUID transactionId = readSet.get(ThreadLocalRandom.current().nextInt(READ_SET_SIZE));
+        return transactionService.getTransaction(transactionId).block();
+    }
+
+    @Benchmark
+    public TransactionDTO createThenReadTransaction() {
+        return transactionService.createTransaction(BenchmarkFixtures.newTransactionDTO(accountId))
+                .flatMap(created -> transactionService.getTransaction(created.getTransactionId()))
+                .block();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.mappers;
+
+import com.firefly.core.banking.ledger.benchmarks.support.BenchmarkFixtures;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapperImpl;
+import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapper;
+import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapperImpl;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion cost of the MapStruct mappers on the transaction hot paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final TransactionMapper transactionMapper = new TransactionMapperImpl();
+    private final TransactionLegMapper legMapper = new TransactionLegMapperImpl();
+
+    private Transaction transaction;
+    private TransactionDTO transactionDTO;
+    private TransactionLeg leg;
+    private TransactionLegDTO legDTO;
+
+    @Setup
+    public void setUp() {
+        transaction = BenchmarkFixtures.transaction();
+        transactionDTO = transactionMapper.toDTO(transaction);
+        leg = BenchmarkFixtures.leg(transaction.getTransactionId());
+        legDTO = legMapper.toDTO(leg);
+    }
+
+    @Benchmark
+    public TransactionDTO transactionToDTO() {
+        return transactionMapper.toDTO(transaction);
+    }
+
+    @Benchmark
+    public Transaction transactionToEntity() {
+        return transactionMapper.toEntity(transactionDTO);
+    }
+
+    @Benchmark
+    public TransactionLegDTO legToDTO() {
+        return legMapper.toDTO(leg);
+    }
+
+    @Benchmark
+    public TransactionLeg legToEntity() {
+        return legMapper.toEntity(legDTO);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.benchmarks.money;
+
+import com.firefly.core.banking.ledger.core.money.MinorUnits;
+import com.firefly.core.banking.ledger.core.money.MoneyAccumulator;
+import com.firefly.core.banking.ledger.core.money.ScaledAmounts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running balance and credit/debit totals over a statement's legs: BigDecimal against scaled-long accumulation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+    private static final String CURRENCY = "EUR";
+
+    /**
+     * Number of legs on the statement.
+     */
+    @Param({"1000", "100000"})
+    public int legs;
+
+    private BigDecimal openingBalance;
+    private BigDecimal[] amounts;
+    private boolean[] credits;
+    private long[] amountUnits;
+    private int scale;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        scale = MinorUnits.of(CURRENCY);
+        openingBalance = new BigDecimal("1000.00");
+        amounts = new BigDecimal[legs];
+        credits = new boolean[legs];
+        amountUnits = new long[legs];
+        for (int i = 0; i < legs; i++) {
+            // Leg amounts come back from DECIMAL(19,4) columns
+            amounts[i] = BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2).setScale(4);
+            credits[i] = random.nextBoolean();
+            amountUnits[i] = ScaledAmounts.toUnits(amounts[i], scale);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal balance = openingBalance;
+        BigDecimal creditTotal = BigDecimal.ZERO;
+        BigDecimal debitTotal = BigDecimal.ZERO;
+        for (int i = 0; i < legs; i++) {
+            if (credits[i]) {
+                creditTotal = creditTotal.add(amounts[i]);
+                balance = balance.add(amounts[i]);
+            } else {
+                debitTotal = debitTotal.add(amounts[i]);
+                balance = balance.subtract(amounts[i]);
+            }
+        }
+        return balance.add(creditTotal).add(debitTotal);
+    }
+
+    /**
+     * Legs handed over as BigDecimal: each leg converted to units on the way in.
+     */
+    @Benchmark
+    public BigDecimal accumulator() {
+        MoneyAccumulator balance = MoneyAccumulator.forCurrency(CURRENCY).add(openingBalance);
+        MoneyAccumulator creditTotal = MoneyAccumulator.forCurrency(CURRENCY);
+        MoneyAccumulator debitTotal = MoneyAccumulator.forCurrency(CURRENCY);
+        for (int i = 0; i < legs; i++) {
+            if (credits[i]) {
+                creditTotal.add(amounts[i]);
+                balance.add(amounts[i]);
+            } else {
+                debitTotal.add(amounts[i]);
+                balance.subtract(amounts[i]);
+            }
+        }
+        return balance.toBigDecimal().add(creditTotal.toBigDecimal()).add(debitTotal.toBigDecimal());
+    }
+
+    /**
+     * The statement path: legs read with their amount already in units.
+     */
+    @Benchmark
+    public BigDecimal accumulatorUnits() {
+        MoneyAccumulator balance = MoneyAccumulator.forCurrency(CURRENCY).add(openingBalance);
+        MoneyAccumulator creditTotal = MoneyAccumulator.forCurrency(CURRENCY);
+        MoneyAccumulator debitTotal = MoneyAccumulator.forCurrency(CURRENCY);
+        for (int i = 0; i < legs; i++) {
+            if (credits[i]) {
+                creditTotal.addUnits(amountUnits[i]);
+                balance.addUnits(amountUnits[i]);
+            } else {
+                debitTotal.addUnits(amountUnits[i]);
+                balance.subtractUnits(amountUnits[i]);
+            }
+        }
+        return balance.toBigDecimal().add(creditTotal.toBigDecimal()).add(debitTotal.toBigDecimal());
+    }
+
+    /**
+     * Lower bound: amounts already held as units.
+     */
+    @Benchmark
+    public long units() {
+        long balance = ScaledAmounts.toUnits(openingBalance, scale);
+        long creditTotal = 0;
+        long debitTotal = 0;
+        for (int i = 0; i < legs; i++) {
+            if (credits[i]) {
+                creditTotal = Math.addExact(creditTotal, amountUnits[i]);
+                balance = Math.addExact(balance, amountUnits[i]);
+            } else {
+                debitTotal = Math.addExact(debitTotal, amountUnits[i]);
+                balance = Math.subtractExact(balance, amountUnits[i]);
+            }
+        }
+        return balance + creditTotal + debitTotal;
+    }
+}
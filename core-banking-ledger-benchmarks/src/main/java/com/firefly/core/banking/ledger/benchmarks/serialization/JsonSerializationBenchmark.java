@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.firefly.core.banking.ledger.benchmarks.support.BenchmarkFixtures;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapperImpl;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization cost of the API payloads, configured like the WebFlux codecs (ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    /**
+     * Number of entries of the serialized statement.
+     */
+    @Param({"10", "1000"})
+    public int statementEntries;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private TransactionDTO transaction;
+    private byte[] transactionJson;
+    private StatementDTO statement;
+    private byte[] statementJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        transaction = new TransactionMapperImpl().toDTO(BenchmarkFixtures.transaction());
+        transactionJson = objectMapper.writeValueAsBytes(transaction);
+        statement = BenchmarkFixtures.statement(statementEntries);
+        statementJson = objectMapper.writeValueAsBytes(statement);
+    }
+
+    @Benchmark
+    public byte[] serializeTransaction() throws IOException {
+        return objectMapper.writeValueAsBytes(transaction);
+    }
+
+    @Benchmark
+    public TransactionDTO deserializeTransaction() throws IOException {
+        return objectMapper.readValue(transactionJson, TransactionDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializeStatement() throws IOException {
+        return objectMapper.writeValueAsBytes(statement);
+    }
+
+    @Benchmark
+    public StatementDTO deserializeStatement() throws IOException {
+        return objectMapper.readValue(statementJson, StatementDTO.class);
+    }
+}
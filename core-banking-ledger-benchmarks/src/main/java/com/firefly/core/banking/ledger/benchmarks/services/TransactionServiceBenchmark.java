@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.services;
+
+import com.firefly.core.banking.ledger.benchmarks.support.BenchmarkFixtures;
+import com.firefly.core.banking.ledger.benchmarks.support.Stubs;
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapperImpl;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionStatusHistoryMapperImpl;
+import com.firefly.core.banking.ledger.core.services.core.v1.IdempotencyKeyCache;
+import com.firefly.core.banking.ledger.core.services.core.v1.TransactionServiceImpl;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the reactive chains of {@link TransactionServiceImpl} (mapping, status history, outbox append)
+ * with in-memory repositories, i.e. everything but the database round-trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    private TransactionServiceImpl service;
+    private TransactionServiceImpl cachedService;
+    private TransactionDTO newTransaction;
+    private TransactionDTO newIdempotentTransaction;
+    private TransactionDTO replayedTransaction;
+    private UUID existingTransactionId;
+
+    @Setup
+    public void setUp() {
+        Transaction stored = BenchmarkFixtures.transaction();
+        existingTransactionId = stored.getTransactionId();
+
+        TransactionRepository repository = Stubs.of(TransactionRepository.class)
+                .answer("save", args -> {
+                    Transaction transaction = (Transaction) args[0];
+                    if (transaction.getTransactionId() == null) {
+                        transaction.setTransactionId(UUID.randomUUID());
+                    }
+                    return Mono.just(transaction);
+                })
+                .answer("insertAllIfAbsent", args -> Flux.fromIterable((List<?>) args[0]))
+                // A fresh copy per call, so status updates always see the original status
+                .answer("findById", args -> Mono.fromSupplier(() -> {
+                    Transaction transaction = BenchmarkFixtures.transaction();
+                    transaction.setTransactionId((UUID) args[0]);
+                    transaction.setTransactionStatus(TransactionStatusEnum.PENDING);
+                    return transaction;
+                }))
+                .build();
+        TransactionStatusHistoryRepository statusHistoryRepository = Stubs.of(TransactionStatusHistoryRepository.class)
+                .answer("save", args -> Mono.just((TransactionStatusHistory) args[0]))
+                .build();
+        OutboxService outboxService = Stubs.of(OutboxService.class)
+                .answer("append", args -> Mono.empty())
+                .build();
+
+        service = new TransactionServiceImpl();
+        ReflectionTestUtils.setField(service, "repository", repository);
+        ReflectionTestUtils.setField(service, "statusHistoryRepository", statusHistoryRepository);
+        ReflectionTestUtils.setField(service, "mapper", new TransactionMapperImpl());
+        ReflectionTestUtils.setField(service, "statusHistoryMapper", new TransactionStatusHistoryMapperImpl());
+        ReflectionTestUtils.setField(service, "outboxService", outboxService);
+        ReflectionTestUtils.setField(service, "idempotencyKeyCache", new IdempotencyKeyCache(10_000));
+        ReflectionTestUtils.setField(service, "readCaches", new LedgerReadCaches());
+
+        // Same service with the read-through caches enabled
+        LedgerReadCaches readCaches = new LedgerReadCaches();
+        ReflectionTestUtils.setField(readCaches, "enabled", true);
+        ReflectionTestUtils.setField(readCaches, "maxSize", 10_000);
+        ReflectionTestUtils.setField(readCaches, "ttl", Duration.ofMinutes(10));
+        cachedService = new TransactionServiceImpl();
+        ReflectionTestUtils.setField(cachedService, "repository", repository);
+        ReflectionTestUtils.setField(cachedService, "mapper", new TransactionMapperImpl());
+        ReflectionTestUtils.setField(cachedService, "readCaches", readCaches);
+
+        newTransaction = BenchmarkFixtures.newTransactionDTO(UUID.randomUUID());
+        newIdempotentTransaction = BenchmarkFixtures.newTransactionDTO(UUID.randomUUID());
+        replayedTransaction = BenchmarkFixtures.newTransactionDTO(UUID.randomUUID());
+        replayedTransaction.setRequestId(UUID.randomUUID().toString());
+        service.createTransaction(replayedTransaction).block();
+    }
+
+    @Benchmark
+    public TransactionDTO createTransaction() {
+        return service.createTransaction(newTransaction).block();
+    }
+
+    /**
+     * Creation with a request ID that was never seen: the idempotency cache misses and the insert goes ahead.
+     */
+    @Benchmark
+    public TransactionDTO createTransactionWithRequestId() {
+        newIdempotentTransaction.setRequestId(UUID.randomUUID().toString());
+        return service.createTransaction(newIdempotentTransaction).block();
+    }
+
+    /**
+     * Retried creation answered from the idempotency cache.
+     */
+    @Benchmark
+    public TransactionDTO replayTransaction() {
+        return service.createTransaction(replayedTransaction).block();
+    }
+
+    @Benchmark
+    public TransactionDTO getTransaction() {
+        return service.getTransaction(existingTransactionId).block();
+    }
+
+    @Benchmark
+    public TransactionDTO getTransactionCached() {
+        return cachedService.getTransaction(existingTransactionId).block();
+    }
+
+    @Benchmark
+    public TransactionDTO updateTransactionStatus() {
+        return service.updateTransactionStatus(existingTransactionId, TransactionStatusEnum.POSTED, "Benchmark").block();
+    }
+}
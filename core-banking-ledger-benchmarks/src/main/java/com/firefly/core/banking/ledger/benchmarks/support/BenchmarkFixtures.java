@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.support;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementEntryDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementMetadataDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementPeriodEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representative ledger objects shared by the benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime BOOKING_DATE = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * A fully populated card-style transaction entity.
+     */
+    public static Transaction transaction() {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setExternalReference("EXT-" + UUID.randomUUID());
+        transaction.setTransactionDate(BOOKING_DATE);
+        transaction.setValueDate(BOOKING_DATE);
+        transaction.setBookingDate(BOOKING_DATE);
+        transaction.setTransactionType(TransactionTypeEnum.CARD);
+        transaction.setTransactionStatus(TransactionStatusEnum.POSTED);
+        transaction.setTotalAmount(new BigDecimal("125.40"));
+        transaction.setCurrency("EUR");
+        transaction.setDescription("Grocery store purchase");
+        transaction.setInitiatingParty("ACME Supermarkets");
+        transaction.setAccountId(UUID.randomUUID());
+        transaction.setAccountSpaceId(UUID.randomUUID());
+        transaction.setTransactionCategoryId(UUID.randomUUID());
+        transaction.setBranchOfficeCode("0042");
+        transaction.setLatitude(40.4168);
+        transaction.setLongitude(-3.7038);
+        transaction.setLocationName("Madrid Centro");
+        transaction.setCountry("ES");
+        transaction.setCity("Madrid");
+        transaction.setPostalCode("28013");
+        transaction.setRequestId(UUID.randomUUID().toString());
+        transaction.setRowVersion(0L);
+        transaction.setAmlRiskScore(12);
+        transaction.setAmlLargeTxnFlag(false);
+        transaction.setScaMethod("OTP");
+        transaction.setScaResult("SUCCESS");
+        transaction.setInstantFlag(true);
+        return transaction;
+    }
+
+    /**
+     * A transaction DTO as submitted to the create endpoint (no ID yet).
+     */
+    public static TransactionDTO newTransactionDTO(UUID accountId) {
+        return TransactionDTO.builder()
+                .externalReference("EXT-" + UUID.randomUUID())
+                .transactionDate(BOOKING_DATE)
+                .valueDate(BOOKING_DATE)
+                .bookingDate(BOOKING_DATE)
+                .transactionType(TransactionTypeEnum.CARD)
+                .transactionStatus(TransactionStatusEnum.POSTED)
+                .totalAmount(new BigDecimal("125.40"))
+                .currency("EUR")
+                .description("Grocery store purchase")
+                .initiatingParty("ACME Supermarkets")
+                .accountId(accountId)
+                .country("ES")
+                .city("Madrid")
+                .build();
+    }
+
+    /**
+     * A debit leg of the given transaction.
+     */
+    public static TransactionLeg leg(UUID transactionId) {
+        TransactionLeg leg = new TransactionLeg();
+        leg.setTransactionLegId(UUID.randomUUID());
+        leg.setTransactionId(transactionId);
+        leg.setAccountId(UUID.randomUUID());
+        leg.setAccountSpaceId(UUID.randomUUID());
+        leg.setLegType("DEBIT");
+        leg.setAmount(new BigDecimal("125.40"));
+        leg.setCurrency("EUR");
+        leg.setDescription("Grocery store purchase");
+        leg.setValueDate(BOOKING_DATE);
+        leg.setBookingDate(BOOKING_DATE);
+        return leg;
+    }
+
+    /**
+     * A monthly statement with the given number of entries.
+     */
+    public static StatementDTO statement(int entryCount) {
+        List<StatementEntryDTO> entries = new ArrayList<>(entryCount);
+        BigDecimal balance = new BigDecimal("1000.00");
+        for (int i = 0; i < entryCount; i++) {
+            BigDecimal amount = new BigDecimal("12.34");
+            balance = balance.subtract(amount);
+            entries.add(StatementEntryDTO.builder()
+                    .transactionId(UUID.randomUUID())
+                    .transactionDate(BOOKING_DATE.plusMinutes(i))
+                    .valueDate(BOOKING_DATE.plusMinutes(i))
+                    .bookingDate(BOOKING_DATE.plusMinutes(i))
+                    .transactionType(TransactionTypeEnum.CARD)
+                    .transactionStatus(TransactionStatusEnum.POSTED)
+                    .amount(amount.negate())
+                    .currency("EUR")
+                    .description("Card payment " + i)
+                    .initiatingParty("Merchant " + (i % 50))
+                    .runningBalance(balance)
+                    .build());
+        }
+        return StatementDTO.builder()
+                .metadata(StatementMetadataDTO.builder()
+                        .statementId(UUID.randomUUID())
+                        .accountId(UUID.randomUUID())
+                        .periodType(StatementPeriodEnum.MONTHLY)
+                        .startDate(LocalDate.of(2024, 3, 1))
+                        .endDate(LocalDate.of(2024, 3, 31))
+                        .generationDate(BOOKING_DATE)
+                        .transactionCount(entryCount)
+                        .includedPending(false)
+                        .includedDetails(true)
+                        .build())
+                .openingBalance(new BigDecimal("1000.00"))
+                .closingBalance(balance)
+                .totalCredits(BigDecimal.ZERO)
+                .totalDebits(new BigDecimal("1000.00").subtract(balance))
+                .entries(entries)
+                .build();
+    }
+}
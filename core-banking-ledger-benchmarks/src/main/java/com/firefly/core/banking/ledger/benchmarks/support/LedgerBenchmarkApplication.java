@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.support;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+/**
+ * Headless ledger application for the end-to-end benchmarks: the services, repositories and migrations of the
+ * real application, without the web layer.
+ */
+@SpringBootApplication(
+        scanBasePackages = {
+                "com.firefly.core.banking.ledger.core",
+                "com.firefly.core.banking.ledger.models"
+        }
+)
+@EnableR2dbcRepositories(
+        basePackages = "com.firefly.core.banking.ledger.models.repositories"
+)
+@EnableR2dbcAuditing
+public class LedgerBenchmarkApplication {
+}
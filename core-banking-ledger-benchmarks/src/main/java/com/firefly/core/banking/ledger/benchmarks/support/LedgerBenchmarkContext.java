@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.support;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the headless ledger application against a local PostgreSQL database.
+ * <p>
+ * The database is configured with system properties (pass them to the forks with {@code -jvmArgs}):
+ * <ul>
+ *     <li>{@code ledger.benchmark.db.host} (default {@code localhost})</li>
+ *     <li>{@code ledger.benchmark.db.port} (default {@code 5432})</li>
+ *     <li>{@code ledger.benchmark.db.name} (default {@code ledger_benchmark})</li>
+ *     <li>{@code ledger.benchmark.db.username} / {@code ledger.benchmark.db.password} (default {@code postgres})</li>
+ *     <li>{@code ledger.benchmark.pool-size} (default {@code 20})</li>
+ * </ul>
+ * The database must exist; Flyway migrates it on startup. Background workers (outbox relay, statement jobs,
+ * standing order scheduler) are disabled so they do not compete with the measured work.
+ */
+public final class LedgerBenchmarkContext {
+
+    private LedgerBenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        String host = System.getProperty("ledger.benchmark.db.host", "localhost");
+        String port = System.getProperty("ledger.benchmark.db.port", "5432");
+        String name = System.getProperty("ledger.benchmark.db.name", "ledger_benchmark");
+        String username = System.getProperty("ledger.benchmark.db.username", "postgres");
+        String password = System.getProperty("ledger.benchmark.db.password", "postgres");
+        String poolSize = System.getProperty("ledger.benchmark.pool-size", "20");
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.r2dbc.url", "r2dbc:postgresql://" + host + ":" + port + "/" + name);
+        properties.put("spring.r2dbc.username", username);
+        properties.put("spring.r2dbc.password", password);
+        properties.put("spring.r2dbc.pool.initial-size", poolSize);
+        properties.put("spring.r2dbc.pool.max-size", poolSize);
+        properties.put("spring.flyway.enabled", "true");
+        properties.put("spring.flyway.baseline-on-migrate", "true");
+        properties.put("spring.flyway.locations", "classpath:db/migration");
+        properties.put("spring.flyway.url", "jdbc:postgresql://" + host + ":" + port + "/" + name);
+        properties.put("spring.flyway.user", username);
+        properties.put("spring.flyway.password", password);
+        properties.put("ledger.outbox.relay.enabled", "false");
+        properties.put("ledger.statements.jobs.enabled", "false");
+        properties.put("ledger.standing-orders.scheduler.enabled", "false");
+
+        return new SpringApplicationBuilder(LedgerBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.benchmarks.support;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Minimal interface stubs for benchmarks.
+ * <p>
+ * Mocking frameworks record every invocation, which would dominate the cost of the code under measurement.
+ * These stubs dispatch on the method name only and answer with a fixed function of the arguments.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Start a stub of the given interface.
+     */
+    public static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * Answer every call of the named method (whatever its overload) with the given function of the arguments.
+         */
+        public Builder<T> answer(String methodName, Function<Object[], Object> answer) {
+            answers.put(methodName, answer);
+            return this;
+        }
+
+        /**
+         * Create the stub. Methods without an answer throw {@link UnsupportedOperationException}.
+         */
+        public T build() {
+            Map<String, Function<Object[], Object>> frozen = Map.copyOf(answers);
+            Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> "Stub of " + type.getSimpleName();
+                    };
+                }
+                Function<Object[], Object> answer = frozen.get(method.getName());
+                if (answer == null) {
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+                }
+                return answer.apply(args);
+            });
+            return type.cast(stub);
+        }
+    }
+}
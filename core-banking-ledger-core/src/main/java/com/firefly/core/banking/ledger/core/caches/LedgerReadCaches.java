@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.caches;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-process read-through caches of transactions and transaction lines.
+ * <p>
+ * Transactions are versioned by {@code rowVersion}; lines have no version of their own and are versioned by
+ * load stamps. Writes going through the transaction and line services invalidate the affected entries.
+ * Writes from other replicas or bulk updates are only picked up once {@code ledger.cache.ttl} has passed,
+ * which bounds how stale a cached read can be.
+ * <p>
+ * Each cache reports hit, miss, put, eviction and size meters as {@code cache.*} with a {@code cache} tag
+ * when a {@link MeterRegistry} is available.
+ */
+@Component
+public class LedgerReadCaches {
+
+    public static final String LINE_ACH = "ach";
+    public static final String LINE_CARD = "card";
+    public static final String LINE_DEPOSIT = "deposit";
+    public static final String LINE_DIRECT_DEBIT = "direct-debit";
+    public static final String LINE_FEE = "fee";
+    public static final String LINE_INTEREST = "interest";
+    public static final String LINE_SEPA_TRANSFER = "sepa-transfer";
+    public static final String LINE_STANDING_ORDER = "standing-order";
+    public static final String LINE_TRANSFER = "transfer";
+    public static final String LINE_WIRE_TRANSFER = "wire-transfer";
+    public static final String LINE_WITHDRAWAL = "withdrawal";
+
+    private static final ToLongFunction<TransactionDTO> ROW_VERSION =
+            transaction -> transaction.getRowVersion() != null ? transaction.getRowVersion() : 0L;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${ledger.cache.ttl:30s}")
+    private Duration ttl;
+
+    private final Map<String, VersionedCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Transactions by transaction ID.
+     */
+    public VersionedCache<UUID, TransactionDTO> transactions() {
+        return cache("ledger.transactions", ROW_VERSION);
+    }
+
+    /**
+     * Transactions by external reference.
+     */
+    public VersionedCache<String, TransactionDTO> transactionsByExternalReference() {
+        return cache("ledger.transactions.by-external-reference", ROW_VERSION);
+    }
+
+    /**
+     * Transaction lines of one type (one of the {@code LINE_*} constants) by transaction ID.
+     */
+    public <V> VersionedCache<UUID, V> lines(String lineType) {
+        return cache("ledger.lines." + lineType, null);
+    }
+
+    /**
+     * Invalidate the cached reads of a transaction after it was written with the given row version.
+     */
+    public void invalidateTransaction(UUID transactionId, String externalReference, Long rowVersion) {
+        long version = rowVersion != null ? rowVersion : 0L;
+        transactions().invalidate(transactionId, version);
+        if (externalReference != null) {
+            transactionsByExternalReference().invalidate(externalReference, version);
+        }
+    }
+
+    /**
+     * Invalidate the cached line of a transaction after a write. Lines are versioned by load stamps, so a read
+     * between this call and the commit could still cache the previous line; the entry is therefore invalidated
+     * again once the surrounding database transaction has committed.
+     */
+    public Mono<Void> invalidateLine(String lineType, UUID transactionId) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        Runnable invalidation = () -> lines(lineType).invalidate(transactionId);
+        invalidation.run();
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return Mono.fromRunnable(invalidation);
+                    }
+                }))
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Invalidate the cached lines of several transactions, for bulk writers that invalidate once their
+     * database transaction has committed.
+     */
+    public void invalidateLines(String lineType, Collection<UUID> transactionIds) {
+        VersionedCache<UUID, Object> cache = lines(lineType);
+        transactionIds.forEach(cache::invalidate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> VersionedCache<K, V> cache(String name, ToLongFunction<V> versionOf) {
+        return (VersionedCache<K, V>) caches.computeIfAbsent(name, cacheName -> {
+            VersionedCache<K, V> cache = new VersionedCache<>(enabled ? maxSize : 0, ttl, versionOf);
+            if (meterRegistry != null) {
+                new VersionedCacheMetrics(cache, cacheName, Tags.empty()).bindTo(meterRegistry);
+            }
+            return cache;
+        });
+    }
+}
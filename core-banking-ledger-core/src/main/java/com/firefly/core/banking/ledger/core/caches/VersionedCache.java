@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.caches;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded, TTL-evicted read-through cache whose entries carry a version.
+ * <p>
+ * A loaded value is only stored when its version is not older than what the cache already holds for the key,
+ * including invalidation markers. This keeps a read that raced with a write from putting the pre-write value
+ * back after the write invalidated it:
+ * <ul>
+ *     <li>With a version function (e.g. {@code rowVersion}), writers invalidate with the version they wrote,
+ *         so only values at least that recent are cached afterwards.</li>
+ *     <li>Without one, each load is versioned by a stamp taken when it starts, and an invalidation takes a
+ *         later stamp, so loads that started before the invalidation are not cached.</li>
+ * </ul>
+ * Empty results and errors are never cached. A cache created with a maximum size of zero is a pass-through.
+ *
+ * @param <K> the key type
+ * @param <V> the value type; cached values are shared between callers and must not be modified
+ */
+public final class VersionedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ToLongFunction<V> versionOf;
+    private final Map<K, Entry<V>> entries;
+    private final AtomicLong stamps = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of entries; least recently used entries are evicted beyond it
+     * @param ttl how long an entry is served after it was stored
+     * @param versionOf extracts the version of a value, or null to version loads by stamp
+     */
+    public VersionedCache(int maxSize, Duration ttl, ToLongFunction<V> versionOf) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl != null ? ttl.toNanos() : 0;
+        this.versionOf = versionOf;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > VersionedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached value of the key, or subscribe to the loader and cache what it emits.
+     */
+    public Mono<V> get(K key, Supplier<Mono<V>> loader) {
+        if (maxSize <= 0) {
+            return loader.get();
+        }
+        return Mono.defer(() -> {
+            long loadStamp;
+            synchronized (entries) {
+                Entry<V> entry = entries.get(key);
+                if (entry != null && entry.isExpired(System.nanoTime())) {
+                    entries.remove(key);
+                    evictions.increment();
+                    entry = null;
+                }
+                if (entry != null && entry.value() != null) {
+                    hits.increment();
+                    return Mono.just(entry.value());
+                }
+                misses.increment();
+                loadStamp = stamps.incrementAndGet();
+            }
+            return loader.get().doOnNext(value -> put(key, value, loadStamp));
+        });
+    }
+
+    /**
+     * Drop the entry of the key; afterwards only values of at least the given version are cached.
+     * Used by writers that know the version they wrote.
+     */
+    public void invalidate(K key, long version) {
+        if (maxSize > 0) {
+            store(key, new Entry<>(null, version, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * Drop the entry of the key. On a versioned cache nothing is cached for the key until the TTL has passed,
+     * so this is meant for writes whose resulting version is unknown, such as deletes.
+     */
+    public void invalidate(K key) {
+        invalidate(key, versionOf != null ? Long.MAX_VALUE : stamps.incrementAndGet());
+    }
+
+    long size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long putCount() {
+        return puts.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void put(K key, V value, long loadStamp) {
+        long version = versionOf != null ? versionOf.applyAsLong(value) : loadStamp;
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> existing = entries.get(key);
+            if (existing != null && !existing.isExpired(now) && existing.version() > version) {
+                return;
+            }
+            entries.put(key, new Entry<>(value, version, now + ttlNanos));
+            puts.increment();
+        }
+    }
+
+    private void store(K key, Entry<V> entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * A cached value, or an invalidation marker when the value is null.
+     */
+    private record Entry<V>(V value, long version, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
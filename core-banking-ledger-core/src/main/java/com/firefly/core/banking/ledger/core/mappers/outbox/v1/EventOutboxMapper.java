@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.mappers.outbox.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.outbox.v1.OutboxEventDTO;
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for converting outbox entities to the DTO handed to event sinks.
+ */
+@Mapper(componentModel = "spring")
+public interface EventOutboxMapper {
+    @Mapping(target = "payload", expression = "java(entity.getPayload() != null ? entity.getPayload().asString() : null)")
+    OutboxEventDTO toDTO(EventOutbox entity);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.mappers.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobDTO;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper for converting a StatementJob entity to a StatementJobDTO.
+ * Progress counters are filled in by the service.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface StatementJobMapper {
+    /**
+     * Convert a StatementJob entity to a StatementJobDTO.
+     *
+     * @param entity The StatementJob entity.
+     * @return The StatementJobDTO without progress counters.
+     */
+    @Mapping(target = "pendingItems", ignore = true)
+    @Mapping(target = "inProgressItems", ignore = true)
+    @Mapping(target = "completedItems", ignore = true)
+    @Mapping(target = "failedItems", ignore = true)
+    @Mapping(target = "itemsPerSecond", ignore = true)
+    StatementJobDTO toDTO(StatementJob entity);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.money;
+
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Number of minor units (decimal places) of each currency: 2 for EUR, 0 for JPY, 3 for BHD.
+ * <p>
+ * The table is built once from the ISO 4217 currencies known to the JDK, so a lookup is a single map read.
+ * Currencies without a fixed number of minor units, and codes that are not ISO currencies, use
+ * {@link #DEFAULT_MINOR_UNITS}.
+ */
+public final class MinorUnits {
+
+    public static final int DEFAULT_MINOR_UNITS = 2;
+
+    private static final Map<String, Integer> TABLE;
+
+    static {
+        Map<String, Integer> table = new HashMap<>();
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int digits = currency.getDefaultFractionDigits();
+            if (digits >= 0) {
+                table.put(currency.getCurrencyCode(), digits);
+            }
+        }
+        TABLE = Map.copyOf(table);
+    }
+
+    private MinorUnits() {
+    }
+
+    /**
+     * Minor units of the currency; codes are matched case-insensitively, surrounding blanks ignored.
+     */
+    public static int of(String currency) {
+        if (currency == null) {
+            return DEFAULT_MINOR_UNITS;
+        }
+        Integer digits = TABLE.get(currency);
+        if (digits == null) {
+            digits = TABLE.get(currency.trim().toUpperCase(Locale.ROOT));
+        }
+        return digits != null ? digits : DEFAULT_MINOR_UNITS;
+    }
+}
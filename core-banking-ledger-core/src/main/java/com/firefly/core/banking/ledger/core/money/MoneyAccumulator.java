@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Overflow-checked running sum of amounts held as a scaled long.
+ * <p>
+ * Amounts already in units of the accumulator's scale ({@link #addUnits}, {@link #subtractUnits}) are summed
+ * with {@link Math#addExact} and allocate nothing, so hot paths should read amounts as units where they are
+ * loaded. A {@code BigDecimal} amount ({@link #add}, {@link #subtract}) is converted first, which allocates
+ * intermediate {@code BigDecimal}s on every call. When an amount has digits beyond the scale, or the sum would
+ * overflow, the accumulator switches to {@code BigDecimal} arithmetic for the rest of its life: results are
+ * always exact, only slower. Not thread-safe.
+ */
+public final class MoneyAccumulator {
+
+    private final int scale;
+
+    private long units;
+
+    /**
+     * The exact sum, once it no longer fits in {@link #units}.
+     */
+    private BigDecimal exact;
+
+    /**
+     * An empty accumulator summing at the given scale.
+     */
+    public MoneyAccumulator(int scale) {
+        this.scale = scale;
+    }
+
+    /**
+     * An empty accumulator summing at the minor units of the currency.
+     */
+    public static MoneyAccumulator forCurrency(String currency) {
+        return new MoneyAccumulator(MinorUnits.of(currency));
+    }
+
+    /**
+     * Add an amount; null adds nothing.
+     */
+    public MoneyAccumulator add(BigDecimal amount) {
+        if (amount == null) {
+            return this;
+        }
+        if (exact == null) {
+            try {
+                units = Math.addExact(units, ScaledAmounts.toUnits(amount, scale));
+                return this;
+            } catch (ArithmeticException e) {
+                exact = ScaledAmounts.toBigDecimal(units, scale);
+            }
+        }
+        exact = exact.add(amount);
+        return this;
+    }
+
+    /**
+     * Subtract an amount; null subtracts nothing.
+     */
+    public MoneyAccumulator subtract(BigDecimal amount) {
+        if (amount == null) {
+            return this;
+        }
+        if (exact == null) {
+            try {
+                units = Math.subtractExact(units, ScaledAmounts.toUnits(amount, scale));
+                return this;
+            } catch (ArithmeticException e) {
+                exact = ScaledAmounts.toBigDecimal(units, scale);
+            }
+        }
+        exact = exact.subtract(amount);
+        return this;
+    }
+
+    /**
+     * Add an amount already in units of this accumulator's scale.
+     */
+    public MoneyAccumulator addUnits(long amountUnits) {
+        if (exact == null) {
+            try {
+                units = Math.addExact(units, amountUnits);
+                return this;
+            } catch (ArithmeticException e) {
+                exact = ScaledAmounts.toBigDecimal(units, scale);
+            }
+        }
+        exact = exact.add(ScaledAmounts.toBigDecimal(amountUnits, scale));
+        return this;
+    }
+
+    /**
+     * Subtract an amount already in units of this accumulator's scale.
+     */
+    public MoneyAccumulator subtractUnits(long amountUnits) {
+        if (exact == null) {
+            try {
+                units = Math.subtractExact(units, amountUnits);
+                return this;
+            } catch (ArithmeticException e) {
+                exact = ScaledAmounts.toBigDecimal(units, scale);
+            }
+        }
+        exact = exact.subtract(ScaledAmounts.toBigDecimal(amountUnits, scale));
+        return this;
+    }
+
+    /**
+     * Scale the amounts are summed at.
+     */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Whether the sum is still held as a scaled long.
+     */
+    public boolean isScaled() {
+        return exact == null;
+    }
+
+    /**
+     * The sum in units of {@link #scale()}.
+     *
+     * @throws ArithmeticException when the sum is no longer held as a scaled long
+     */
+    public long units() {
+        if (exact != null) {
+            throw new ArithmeticException("Sum does not fit in units of scale " + scale);
+        }
+        return units;
+    }
+
+    /**
+     * The sum: at {@link #scale()} while it is held as a scaled long, at the scale of its most precise
+     * amount otherwise.
+     */
+    public BigDecimal toBigDecimal() {
+        return exact != null ? exact : ScaledAmounts.toBigDecimal(units, scale);
+    }
+}
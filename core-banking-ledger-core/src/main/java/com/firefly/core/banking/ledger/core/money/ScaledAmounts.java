@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Conversions between {@link BigDecimal} amounts and scaled longs: an amount in units of
+ * 10<sup>-scale</sup>, so 12.34 at scale 2 is 1234. Conversions belong at the boundaries of the aggregation
+ * hot paths, where amounts are read from or handed back as {@code BigDecimal}; everything in between runs on
+ * primitive longs. Where possible the database hands amounts over as units already, so not even the
+ * conversion runs per amount.
+ */
+public final class ScaledAmounts {
+
+    private ScaledAmounts() {
+    }
+
+    /**
+     * The amount in units of the given scale. Allocates an intermediate {@code BigDecimal} on every call.
+     *
+     * @throws ArithmeticException when the amount has non-zero digits beyond the scale or does not fit in a long
+     */
+    public static long toUnits(BigDecimal amount, int scale) {
+        return amount.movePointRight(scale).longValueExact();
+    }
+
+    /**
+     * The amount represented by units of the given scale.
+     */
+    public static BigDecimal toBigDecimal(long units, int scale) {
+        return BigDecimal.valueOf(units, scale);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.queries;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.CursorPageResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keyset (cursor) pagination over listings ordered by {@code (booking_date DESC, id DESC)}.
+ * <p>
+ * Unlike OFFSET/LIMIT pagination, each page seeks directly to the cursor position, so
+ * page N costs the same as page 1. Counting the total is optional because it is the
+ * only part of the request whose cost grows with the size of the listing.
+ */
+public final class KeysetPaginationUtils {
+
+    /**
+     * Default page size when none is requested.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * Largest page size that can be requested.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Lower bound used when a listing has no start date.
+     */
+    public static final LocalDateTime MIN_BOOKING_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    /**
+     * Upper bound used when a listing has no end date.
+     */
+    public static final LocalDateTime MAX_BOOKING_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private KeysetPaginationUtils() {
+    }
+
+    /**
+     * Fetch one page of a keyset-paginated listing.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size
+     * @param firstPageQuery fetches the first {@code limit} rows
+     * @param nextPageQuery fetches the first {@code limit} rows after the cursor
+     * @param cursorExtractor extracts the cursor position of a row
+     * @param mapper maps a row to its DTO
+     * @param countQuery counts all rows of the listing, or null when the count is not requested
+     * @throws IllegalArgumentException (through the returned Mono) if the cursor is invalid
+     */
+    public static <E, D> Mono<CursorPageResponse<D>> paginateQuery(
+            String cursor,
+            int size,
+            Function<Integer, Flux<E>> firstPageQuery,
+            BiFunction<KeysetCursor, Integer, Flux<E>> nextPageQuery,
+            Function<E, KeysetCursor> cursorExtractor,
+            Function<E, D> mapper,
+            Supplier<Mono<Long>> countQuery) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // One extra row tells whether a next page exists without counting
+        int limit = pageSize + 1;
+
+        return Mono.fromCallable(() -> Optional.ofNullable(cursor).filter(c -> !c.isBlank()).map(KeysetCursor::decode))
+                .flatMap(position -> position
+                        .map(c -> nextPageQuery.apply(c, limit))
+                        .orElseGet(() -> firstPageQuery.apply(limit))
+                        .collectList())
+                .zipWith(countQuery != null
+                        ? countQuery.get().map(Optional::of)
+                        : Mono.just(Optional.<Long>empty()))
+                .map(tuple -> {
+                    List<E> rows = tuple.getT1();
+                    boolean hasNext = rows.size() > pageSize;
+                    List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+                    return CursorPageResponse.<D>builder()
+                            .content(pageRows.stream().map(mapper).toList())
+                            .size(pageSize)
+                            .hasNext(hasNext)
+                            .nextCursor(hasNext ? cursorExtractor.apply(pageRows.get(pageSize - 1)).encode() : null)
+                            .totalElements(tuple.getT2().orElse(null))
+                            .build();
+                });
+    }
+}
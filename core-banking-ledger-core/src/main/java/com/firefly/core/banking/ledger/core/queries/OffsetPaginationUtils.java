@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.queries;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.OffsetPageResponse;
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * OFFSET/LIMIT pagination whose total count is optional.
+ * <p>
+ * One row more than the page size is fetched so that {@code hasNext} is known without counting.
+ * When the count is skipped the totals are left null rather than reported as a placeholder value.
+ */
+public final class OffsetPaginationUtils {
+
+    private OffsetPaginationUtils() {
+    }
+
+    /**
+     * Fetch one page of an offset-paginated listing.
+     *
+     * @param paginationRequest the requested page
+     * @param mapper maps a row to its DTO
+     * @param pageQuery fetches {@code limit} rows starting at {@code offset}
+     * @param countQuery counts all rows of the listing, or null when the count is not requested
+     */
+    public static <E, D> Mono<OffsetPageResponse<D>> paginateQuery(
+            PaginationRequest paginationRequest,
+            Function<E, D> mapper,
+            BiFunction<Integer, Long, Flux<E>> pageQuery,
+            Supplier<Mono<Long>> countQuery) {
+        return Mono.fromCallable(paginationRequest::toPageable)
+                .flatMap(pageable -> fetch(pageable, mapper, pageQuery, countQuery));
+    }
+
+    private static <E, D> Mono<OffsetPageResponse<D>> fetch(
+            Pageable pageable,
+            Function<E, D> mapper,
+            BiFunction<Integer, Long, Flux<E>> pageQuery,
+            Supplier<Mono<Long>> countQuery) {
+        int pageSize = pageable.getPageSize();
+        // One extra row tells whether a next page exists without counting
+        int limit = pageSize + 1;
+
+        return pageQuery.apply(limit, pageable.getOffset())
+                .collectList()
+                .zipWith(countQuery != null
+                        ? countQuery.get().map(Optional::of)
+                        : Mono.just(Optional.<Long>empty()))
+                .map(tuple -> {
+                    List<E> rows = tuple.getT1();
+                    boolean hasNext = rows.size() > pageSize;
+                    List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+                    Long totalElements = tuple.getT2().orElse(null);
+                    return OffsetPageResponse.<D>builder()
+                            .content(pageRows.stream().map(mapper).toList())
+                            .currentPage(pageable.getPageNumber())
+                            .size(pageSize)
+                            .hasNext(hasNext)
+                            .totalElements(totalElements)
+                            .totalPages(totalElements != null
+                                    ? (int) ((totalElements + pageSize - 1) / pageSize)
+                                    : null)
+                            .build();
+                });
+    }
+}
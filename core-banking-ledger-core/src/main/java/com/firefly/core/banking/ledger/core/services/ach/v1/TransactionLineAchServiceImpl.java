@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.ach.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.ach.v1.TransactionLineAchMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.ach.v1.TransactionLineAchDTO;
 import com.firefly.core.banking.ledger.models.entities.ach.v1.TransactionLineAch;
@@ -42,10 +43,13 @@ public class TransactionLineAchServiceImpl implements TransactionLineAchService
     @Autowired
     private TransactionLineAchMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineAchDTO> getAchLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineAchDTO>lines(LedgerReadCaches.LINE_ACH).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line ACH not found")));
     }
 
@@ -65,7 +69,8 @@ public class TransactionLineAchServiceImpl implements TransactionLineAchService
                     achDTO.setTransactionId(transactionId);
                     achDTO.setTransactionLineAchId(existingEntity.getTransactionLineAchId());
                     TransactionLineAch updatedEntity = mapper.toEntity(achDTO);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_ACH, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO);
     }
@@ -74,6 +79,6 @@ public class TransactionLineAchServiceImpl implements TransactionLineAchService
     public Mono<Void> deleteAchLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line ACH not found")))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_ACH, transactionId)));
     }
 }
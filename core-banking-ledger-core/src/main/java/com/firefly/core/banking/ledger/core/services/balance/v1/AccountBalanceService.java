@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.balance.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceAsOfDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+/**
+ * Service interface for the account balance projection.
+ */
+public interface AccountBalanceService {
+    /**
+     * Apply a persisted transaction leg to the balance of its account.
+     * Must be called within the transaction that writes the leg.
+     * A leg dated before the current day also invalidates the account's balance snapshots from its date on.
+     *
+     * @param legDTO The transaction leg that was written.
+     * @return The updated account balance.
+     */
+    Mono<AccountBalanceDTO> applyLeg(TransactionLegDTO legDTO);
+
+    /**
+     * Apply all legs of the given transactions with a single set-based update.
+     * Must be called within the transaction that bulk-inserts the legs.
+     *
+     * @param transactionIds The IDs of the transactions whose legs were written.
+     * @return The number of balance rows created or updated.
+     */
+    Mono<Long> applyLegsOfTransactions(Collection<UUID> transactionIds);
+
+    /**
+     * Get the balances of an account, one per account space and currency.
+     *
+     * @param accountId The ID of the account.
+     * @param accountSpaceId Optional account space filter.
+     * @param currency Optional currency filter.
+     * @return The matching account balances.
+     */
+    Flux<AccountBalanceDTO> getAccountBalances(UUID accountId, UUID accountSpaceId, String currency);
+
+    /**
+     * Get the closing balances of an account at the end of a day, by leg value date, one per currency.
+     * Each balance is the nearest valid end-of-day snapshot plus the legs dated since, so the leg history
+     * before the snapshot is never aggregated.
+     *
+     * @param accountId The ID of the account.
+     * @param currency Optional currency filter; all currencies of the account otherwise.
+     * @param asOf The day whose closing balance is returned.
+     * @return The balances, one per currency.
+     */
+    Flux<AccountBalanceAsOfDTO> getAccountBalancesAsOf(UUID accountId, String currency, LocalDate asOf);
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.balance.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.balance.v1.AccountBalanceMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceAsOfDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.models.entities.balance.v1.AccountBalance;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceRepository;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import java.util.UUID;
+/**
+ * Implementation of the AccountBalanceService interface.
+ */
+@Service
+@Transactional
+public class AccountBalanceServiceImpl implements AccountBalanceService {
+
+    @Autowired
+    private AccountBalanceRepository repository;
+
+    @Autowired
+    private AccountBalanceMapper mapper;
+
+    @Autowired
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @Override
+    public Mono<AccountBalanceDTO> applyLeg(TransactionLegDTO legDTO) {
+        if (legDTO.getAccountId() == null || legDTO.getAmount() == null || legDTO.getCurrency() == null) {
+            return Mono.error(new RuntimeException("Transaction leg is missing account, amount or currency"));
+        }
+
+        boolean credit = "CREDIT".equals(legDTO.getLegType());
+        BigDecimal amount = legDTO.getAmount();
+        LocalDateTime bookingDate = legDTO.getBookingDate() != null
+                ? legDTO.getBookingDate()
+                : legDTO.getValueDate();
+
+        return repository.applyLeg(
+                        legDTO.getAccountId(),
+                        legDTO.getAccountSpaceId(),
+                        legDTO.getCurrency(),
+                        credit ? amount : BigDecimal.ZERO,
+                        credit ? BigDecimal.ZERO : amount,
+                        bookingDate)
+                .flatMap(balance -> invalidateSnapshots(legDTO).thenReturn(balance))
+                .map(mapper::toDTO);
+    }
+
+    private Mono<Void> invalidateSnapshots(TransactionLegDTO legDTO) {
+        LocalDateTime balanceDate = legDTO.getValueDate() != null ? legDTO.getValueDate() : legDTO.getBookingDate();
+        if (balanceDate == null || !balanceDate.toLocalDate().isBefore(LocalDate.now())) {
+            return Mono.empty();
+        }
+        return snapshotRepository.invalidate(legDTO.getAccountId(), legDTO.getCurrency(), balanceDate.toLocalDate());
+    }
+
+    @Override
+    public Mono<Long> applyLegsOfTransactions(Collection<UUID> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return repository.applyLegsOfTransactions(transactionIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<AccountBalanceDTO> getAccountBalances(UUID accountId, UUID accountSpaceId, String currency) {
+        // Every combination is served by the unique index on (account_id, account_space_id, currency)
+        Flux<AccountBalance> balances;
+        if (accountSpaceId != null) {
+            balances = currency != null
+                    ? repository.findByAccountIdAndAccountSpaceIdAndCurrency(accountId, accountSpaceId, currency)
+                    : repository.findByAccountIdAndAccountSpaceId(accountId, accountSpaceId);
+        } else {
+            balances = currency != null
+                    ? repository.findByAccountIdAndCurrency(accountId, currency)
+                    : repository.findByAccountId(accountId);
+        }
+        return balances.map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<AccountBalanceAsOfDTO> getAccountBalancesAsOf(UUID accountId, String currency, LocalDate asOf) {
+        Flux<String> currencies = currency != null
+                ? Flux.just(currency)
+                : repository.findByAccountId(accountId).map(AccountBalance::getCurrency).distinct();
+
+        return currencies.concatMap(balanceCurrency -> snapshotRepository.findBalanceAsOf(accountId, balanceCurrency, asOf)
+                .map(balance -> AccountBalanceAsOfDTO.builder()
+                        .accountId(accountId)
+                        .currency(balanceCurrency)
+                        .asOfDate(asOf)
+                        .balance(balance.balance())
+                        .snapshotDate(balance.snapshotDate())
+                        .legsSinceSnapshot(balance.legsSinceSnapshot())
+                        .build()));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.balance.v1;
+
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository.SnapshotPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the end-of-day balance snapshots behind balance-as-of queries.
+ * <p>
+ * Each run first recomputes the snapshots invalidated by backdated legs, then, once the previous day is over by
+ * {@code settle-delay}, snapshots that day for every account and currency that moved since its last snapshot.
+ * Accounts are processed in pages of {@code page-size}, one statement each; a day is claimed by one replica at a
+ * time under {@code lease}. Days missed while the scheduler was down are not backfilled: as-of queries stay exact
+ * and only add more legs to the previous snapshot.
+ */
+@Component
+public class BalanceSnapshotScheduler {
+
+    @Autowired
+    private AccountBalanceSnapshotRepository repository;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.balances.snapshots.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.balances.snapshots.page-size:1000}")
+    private int pageSize;
+
+    @Value("${ledger.balances.snapshots.settle-delay:5m}")
+    private Duration settleDelay;
+
+    @Value("${ledger.balances.snapshots.lease:30m}")
+    private Duration lease;
+
+    @Value("${ledger.balances.snapshots.poll-interval:5m}")
+    private Duration pollInterval;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        subscription = connectionBudget.withPermit(Mono.defer(() -> runOnce(LocalDateTime.now())))
+                .onErrorResume(e -> Mono.just(0L))
+                .then(Mono.delay(pollInterval))
+                .repeat()
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Recompute invalidated snapshots and snapshot the last settled day if that was not done yet.
+     *
+     * @return the number of snapshots recomputed or created
+     */
+    public Mono<Long> runOnce(LocalDateTime now) {
+        LocalDate snapshotDate = now.minus(settleDelay).toLocalDate().minusDays(1);
+        return recomputeInvalidated()
+                .flatMap(recomputed -> snapshotDay(snapshotDate).map(created -> recomputed + created));
+    }
+
+    private Mono<Long> recomputeInvalidated() {
+        return repository.findInvalidations(pageSize)
+                .concatMap(invalidation -> repository.recomputeInvalidated(invalidation)
+                        .onErrorResume(error -> {
+                            record("failed", 1);
+                            return Mono.just(0L);
+                        }))
+                .reduce(0L, Long::sum)
+                .doOnNext(recomputed -> record("recomputed", recomputed));
+    }
+
+    /**
+     * Snapshot a day page by page, when the day can be claimed.
+     *
+     * @return the number of snapshots created
+     */
+    private Mono<Long> snapshotDay(LocalDate snapshotDate) {
+        return repository.claimRun(snapshotDate, lease)
+                .flatMap(claimed -> repository.snapshotPage(snapshotDate, null, pageSize)
+                        .expand(page -> page.lastAccountId() != null
+                                ? repository.snapshotPage(snapshotDate, page.lastAccountId(), pageSize)
+                                : Mono.empty())
+                        .map(SnapshotPage::created)
+                        .reduce(0L, Long::sum)
+                        .flatMap(created -> repository.completeRun(snapshotDate).thenReturn(created)))
+                .doOnNext(created -> record("created", created))
+                .defaultIfEmpty(0L);
+    }
+
+    private void record(String outcome, long count) {
+        if (meterRegistry != null && count > 0) {
+            meterRegistry.counter("ledger.balances.snapshots", "outcome", outcome).increment(count);
+        }
+    }
+}
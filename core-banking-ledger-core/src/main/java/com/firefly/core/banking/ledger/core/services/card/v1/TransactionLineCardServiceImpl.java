@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.card.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.card.v1.TransactionLineCardMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.card.v1.TransactionLineCardDTO;
 import com.firefly.core.banking.ledger.models.entities.card.v1.TransactionLineCard;
@@ -38,10 +39,13 @@ public class TransactionLineCardServiceImpl implements TransactionLineCardServic
     @Autowired
     private TransactionLineCardMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineCardDTO> getCardLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineCardDTO>lines(LedgerReadCaches.LINE_CARD).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Card not found")));
     }
 
@@ -62,7 +66,8 @@ public class TransactionLineCardServiceImpl implements TransactionLineCardServic
                     cardDTO.setTransactionLineCardId(existingEntity.getTransactionLineCardId());
                     cardDTO.setTransactionId(transactionId);
                     TransactionLineCard updatedEntity = mapper.toEntity(cardDTO);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_CARD, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> {
@@ -77,6 +82,6 @@ public class TransactionLineCardServiceImpl implements TransactionLineCardServic
     public Mono<Void> deleteCardLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Card not found")))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_CARD, transactionId)));
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.core.v1;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded in-process cache of recently used transaction request IDs (idempotency keys)
+ * and the transaction created for each of them.
+ * <p>
+ * The unique index on {@code transaction.request_id} remains the source of truth; the cache only lets a
+ * retried request be answered without attempting another insert. Every posting goes through it, so it takes
+ * no global lock: keys are held in a {@link ConcurrentHashMap} and, once more than
+ * {@code ledger.idempotency.cache-size} keys are held, the oldest keys are evicted first. A key evicted early
+ * only costs a retry its insert attempt.
+ */
+@Component
+public class IdempotencyKeyCache {
+
+    private final int maxSize;
+    private final Map<String, UUID> transactionIds = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public IdempotencyKeyCache(@Value("${ledger.idempotency.cache-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the ID of the transaction created for the request ID, or null when the key is not cached
+     */
+    public UUID get(String requestId) {
+        return transactionIds.get(requestId);
+    }
+
+    /**
+     * Remember the transaction created for a request ID.
+     */
+    public void put(String requestId, UUID transactionId) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (transactionIds.put(requestId, transactionId) != null) {
+            return;
+        }
+        insertionOrder.offer(requestId);
+        // The queue, not the map, is bounded: keys forgotten by evict() stay queued until their turn comes
+        if (queued.incrementAndGet() > maxSize) {
+            String eldest = insertionOrder.poll();
+            if (eldest != null) {
+                queued.decrementAndGet();
+                transactionIds.remove(eldest);
+            }
+        }
+    }
+
+    /**
+     * Forget a request ID, e.g. because its transaction was deleted.
+     */
+    public void evict(String requestId) {
+        transactionIds.remove(requestId);
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.core.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.ach.v1.TransactionLineAchMapper;
+import com.firefly.core.banking.ledger.core.mappers.card.v1.TransactionLineCardMapper;
+import com.firefly.core.banking.ledger.core.mappers.deposit.v1.TransactionLineDepositMapper;
+import com.firefly.core.banking.ledger.core.mappers.directdebit.v1.TransactionLineDirectDebitMapper;
+import com.firefly.core.banking.ledger.core.mappers.fee.v1.TransactionLineFeeMapper;
+import com.firefly.core.banking.ledger.core.mappers.interest.v1.TransactionLineInterestMapper;
+import com.firefly.core.banking.ledger.core.mappers.sepa.v1.TransactionLineSepaTransferMapper;
+import com.firefly.core.banking.ledger.core.mappers.standingorder.v1.TransactionLineStandingOrderMapper;
+import com.firefly.core.banking.ledger.core.mappers.transfer.v1.TransactionLineTransferMapper;
+import com.firefly.core.banking.ledger.core.mappers.wire.v1.TransactionLineWireTransferMapper;
+import com.firefly.core.banking.ledger.core.mappers.withdrawal.v1.TransactionLineWithdrawalMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchItemDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.ach.v1.TransactionLineAch;
+import com.firefly.core.banking.ledger.models.entities.card.v1.TransactionLineCard;
+import com.firefly.core.banking.ledger.models.entities.deposit.v1.TransactionLineDeposit;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.TransactionLineFee;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.TransactionLineInterest;
+import com.firefly.core.banking.ledger.models.entities.sepa.v1.TransactionLineSepaTransfer;
+import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
+import com.firefly.core.banking.ledger.models.entities.transfer.v1.TransactionLineTransfer;
+import com.firefly.core.banking.ledger.models.entities.wire.v1.TransactionLineWireTransfer;
+import com.firefly.core.banking.ledger.models.entities.withdrawal.v1.TransactionLineWithdrawal;
+import com.firefly.core.banking.ledger.models.repositories.ach.v1.TransactionLineAchRepository;
+import com.firefly.core.banking.ledger.models.repositories.card.v1.TransactionLineCardRepository;
+import com.firefly.core.banking.ledger.models.repositories.deposit.v1.TransactionLineDepositRepository;
+import com.firefly.core.banking.ledger.models.repositories.directdebit.v1.TransactionLineDirectDebitRepository;
+import com.firefly.core.banking.ledger.models.repositories.fee.v1.TransactionLineFeeRepository;
+import com.firefly.core.banking.ledger.models.repositories.interest.v1.TransactionLineInterestRepository;
+import com.firefly.core.banking.ledger.models.repositories.sepa.v1.TransactionLineSepaRepository;
+import com.firefly.core.banking.ledger.models.repositories.standingorder.v1.TransactionLineStandingOrderRepository;
+import com.firefly.core.banking.ledger.models.repositories.transfer.v1.TransactionLineTransferRepository;
+import com.firefly.core.banking.ledger.models.repositories.wire.v1.TransactionLineWireRepository;
+import com.firefly.core.banking.ledger.models.repositories.withdrawal.v1.TransactionLineWithdrawalRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes the transaction lines of bulk-ingested transactions.
+ * <p>
+ * The lines of a chunk are grouped by line type and each group is written with one multi-row INSERT, so a
+ * chunk costs at most one statement per line type instead of one statement per line.
+ */
+@Component
+public class TransactionBatchLineWriter {
+
+    @Autowired
+    private TransactionLineCardRepository cardRepository;
+
+    @Autowired
+    private TransactionLineWireRepository wireTransferRepository;
+
+    @Autowired
+    private TransactionLineSepaRepository sepaTransferRepository;
+
+    @Autowired
+    private TransactionLineDirectDebitRepository directDebitRepository;
+
+    @Autowired
+    private TransactionLineDepositRepository depositRepository;
+
+    @Autowired
+    private TransactionLineWithdrawalRepository withdrawalRepository;
+
+    @Autowired
+    private TransactionLineTransferRepository transferRepository;
+
+    @Autowired
+    private TransactionLineFeeRepository feeRepository;
+
+    @Autowired
+    private TransactionLineInterestRepository interestRepository;
+
+    @Autowired
+    private TransactionLineStandingOrderRepository standingOrderRepository;
+
+    @Autowired
+    private TransactionLineAchRepository achRepository;
+
+    @Autowired
+    private TransactionLineCardMapper cardMapper;
+
+    @Autowired
+    private TransactionLineWireTransferMapper wireTransferMapper;
+
+    @Autowired
+    private TransactionLineSepaTransferMapper sepaTransferMapper;
+
+    @Autowired
+    private TransactionLineDirectDebitMapper directDebitMapper;
+
+    @Autowired
+    private TransactionLineDepositMapper depositMapper;
+
+    @Autowired
+    private TransactionLineWithdrawalMapper withdrawalMapper;
+
+    @Autowired
+    private TransactionLineTransferMapper transferMapper;
+
+    @Autowired
+    private TransactionLineFeeMapper feeMapper;
+
+    @Autowired
+    private TransactionLineInterestMapper interestMapper;
+
+    @Autowired
+    private TransactionLineStandingOrderMapper standingOrderMapper;
+
+    @Autowired
+    private TransactionLineAchMapper achMapper;
+
+    /**
+     * @return the number of transaction lines of the item
+     */
+    public static long lineCount(TransactionBatchItemDTO item) {
+        return Stream.of(item.getCard(), item.getWireTransfer(), item.getSepaTransfer(), item.getDirectDebit(),
+                        item.getDeposit(), item.getWithdrawal(), item.getTransfer(), item.getFee(),
+                        item.getInterest(), item.getStandingOrder(), item.getAch())
+                .filter(Objects::nonNull)
+                .count();
+    }
+
+    /**
+     * @return the type of the item's transaction line, or null when the item has none
+     */
+    public static TransactionLineTypeEnum lineType(TransactionBatchItemDTO item) {
+        if (item.getCard() != null) {
+            return TransactionLineTypeEnum.CARD;
+        }
+        if (item.getWireTransfer() != null) {
+            return TransactionLineTypeEnum.WIRE_TRANSFER;
+        }
+        if (item.getSepaTransfer() != null) {
+            return TransactionLineTypeEnum.SEPA_TRANSFER;
+        }
+        if (item.getDirectDebit() != null) {
+            return TransactionLineTypeEnum.DIRECT_DEBIT;
+        }
+        if (item.getDeposit() != null) {
+            return TransactionLineTypeEnum.DEPOSIT;
+        }
+        if (item.getWithdrawal() != null) {
+            return TransactionLineTypeEnum.WITHDRAWAL;
+        }
+        if (item.getTransfer() != null) {
+            return TransactionLineTypeEnum.TRANSFER;
+        }
+        if (item.getFee() != null) {
+            return TransactionLineTypeEnum.FEE;
+        }
+        if (item.getInterest() != null) {
+            return TransactionLineTypeEnum.INTEREST;
+        }
+        if (item.getStandingOrder() != null) {
+            return TransactionLineTypeEnum.STANDING_ORDER;
+        }
+        if (item.getAch() != null) {
+            return TransactionLineTypeEnum.ACH;
+        }
+        return null;
+    }
+
+    /**
+     * Insert the transaction lines of the items, one multi-row INSERT per line type.
+     *
+     * @param items The items by the ID of their inserted transaction
+     * @return A Mono that completes once all lines are inserted
+     */
+    public Mono<Void> insertAll(Map<UUID, TransactionBatchItemDTO> items) {
+        List<TransactionLineCard> cards = new ArrayList<>();
+        List<TransactionLineWireTransfer> wireTransfers = new ArrayList<>();
+        List<TransactionLineSepaTransfer> sepaTransfers = new ArrayList<>();
+        List<TransactionLineDirectDebit> directDebits = new ArrayList<>();
+        List<TransactionLineDeposit> deposits = new ArrayList<>();
+        List<TransactionLineWithdrawal> withdrawals = new ArrayList<>();
+        List<TransactionLineTransfer> transfers = new ArrayList<>();
+        List<TransactionLineFee> fees = new ArrayList<>();
+        List<TransactionLineInterest> interests = new ArrayList<>();
+        List<TransactionLineStandingOrder> standingOrders = new ArrayList<>();
+        List<TransactionLineAch> achs = new ArrayList<>();
+
+        items.forEach((transactionId, item) -> {
+            if (item.getCard() != null) {
+                TransactionLineCard line = cardMapper.toEntity(item.getCard());
+                line.setTransactionId(transactionId);
+                cards.add(line);
+            } else if (item.getWireTransfer() != null) {
+                TransactionLineWireTransfer line = wireTransferMapper.toEntity(item.getWireTransfer());
+                line.setTransactionId(transactionId);
+                wireTransfers.add(line);
+            } else if (item.getSepaTransfer() != null) {
+                TransactionLineSepaTransfer line = sepaTransferMapper.toEntity(item.getSepaTransfer());
+                line.setTransactionId(transactionId);
+                sepaTransfers.add(line);
+            } else if (item.getDirectDebit() != null) {
+                TransactionLineDirectDebit line = directDebitMapper.toEntity(item.getDirectDebit());
+                line.setTransactionId(transactionId);
+                directDebits.add(line);
+            } else if (item.getDeposit() != null) {
+                TransactionLineDeposit line = depositMapper.toEntity(item.getDeposit());
+                line.setTransactionId(transactionId);
+                deposits.add(line);
+            } else if (item.getWithdrawal() != null) {
+                TransactionLineWithdrawal line = withdrawalMapper.toEntity(item.getWithdrawal());
+                line.setTransactionId(transactionId);
+                withdrawals.add(line);
+            } else if (item.getTransfer() != null) {
+                TransactionLineTransfer line = transferMapper.toEntity(item.getTransfer());
+                line.setTransactionId(transactionId);
+                transfers.add(line);
+            } else if (item.getFee() != null) {
+                TransactionLineFee line = feeMapper.toEntity(item.getFee());
+                line.setTransactionId(transactionId);
+                fees.add(line);
+            } else if (item.getInterest() != null) {
+                TransactionLineInterest line = interestMapper.toEntity(item.getInterest());
+                line.setTransactionId(transactionId);
+                interests.add(line);
+            } else if (item.getStandingOrder() != null) {
+                TransactionLineStandingOrder line = standingOrderMapper.toEntity(item.getStandingOrder());
+                line.setTransactionId(transactionId);
+                standingOrders.add(line);
+            } else if (item.getAch() != null) {
+                TransactionLineAch line = achMapper.toEntity(item.getAch());
+                line.setTransactionId(transactionId);
+                achs.add(line);
+            }
+        });
+
+        return insert(cards, cardRepository::insertAll)
+                .then(insert(wireTransfers, wireTransferRepository::insertAll))
+                .then(insert(sepaTransfers, sepaTransferRepository::insertAll))
+                .then(insert(directDebits, directDebitRepository::insertAll))
+                .then(insert(deposits, depositRepository::insertAll))
+                .then(insert(withdrawals, withdrawalRepository::insertAll))
+                .then(insert(transfers, transferRepository::insertAll))
+                .then(insert(fees, feeRepository::insertAll))
+                .then(insert(interests, interestRepository::insertAll))
+                .then(insert(standingOrders, standingOrderRepository::insertAll))
+                .then(insert(achs, achRepository::insertAll))
+                .then();
+    }
+
+    private static <L> Mono<Long> insert(List<L> lines, Function<List<L>, Mono<Long>> insertAll) {
+        return lines.isEmpty() ? Mono.empty() : insertAll.apply(lines);
+    }
+}
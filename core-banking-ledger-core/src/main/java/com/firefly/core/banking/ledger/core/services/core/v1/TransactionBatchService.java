@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.core.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchItemDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchResultDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionStatusUpdateProgressDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionStatusUpdateRequestDTO;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for bulk transaction ingestion and status transitions.
+ */
+public interface TransactionBatchService {
+
+    /**
+     * Create all transactions of the stream, together with their legs and initial status history.
+     * Items are written in chunks with multi-row INSERT statements, each chunk in its own database transaction.
+     * When a chunk fails, its items are retried one by one so that only the offending items are reported as failed.
+     * Items whose request ID was already used are not written again; they are reported as duplicates
+     * together with the ID of the original transaction. Fees of the fee schedules are charged on the created
+     * transactions in the same database transaction as their chunk; they are not reported as items.
+     *
+     * @param items the transactions to create
+     * @param batchId the batch ID stored on every created transaction; generated when null or blank
+     * @return one result per item, in stream order
+     */
+    Flux<TransactionBatchResultDTO> createTransactions(Flux<TransactionBatchItemDTO> items, String batchId);
+
+    /**
+     * Move the requested transactions, given by ID or by batch ID, to a new status.
+     * Transactions are updated in chunks, each with one set-based UPDATE, one multi-row status history insert
+     * and one outbox insert in its own database transaction. Transactions already in the new status, or not in
+     * the requested current status, are skipped, so a run that stopped on an error can simply be repeated.
+     *
+     * @param request the transactions to update and their new status
+     * @return the progress of each committed chunk, in order
+     */
+    Flux<TransactionStatusUpdateProgressDTO> updateTransactionStatuses(TransactionStatusUpdateRequestDTO request);
+}
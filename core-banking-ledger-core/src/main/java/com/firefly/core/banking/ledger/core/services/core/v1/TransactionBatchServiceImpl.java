@@ -0,0 +1,512 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.core.v1;
+
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessment;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchItemDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchResultDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionStatusUpdateProgressDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionStatusUpdateRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.BatchItemStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionKeyView;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusChangeView;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the TransactionBatchService interface.
+ * <p>
+ * Not annotated with {@code @Transactional}: a single transaction spanning the whole stream
+ * would hold locks for the entire ingestion, so each chunk is committed on its own
+ * through the {@link TransactionalOperator}. The transaction lines of a chunk are written with one statement
+ * per line type, and the fees of the inserted transactions are assessed in one pass over the chunk and
+ * written with it.
+ */
+@Service
+public class TransactionBatchServiceImpl implements TransactionBatchService {
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private TransactionLegRepository legRepository;
+
+    @Autowired
+    private TransactionMapper mapper;
+
+    @Autowired
+    private TransactionLegMapper legMapper;
+
+    @Autowired
+    private AccountBalanceService balanceService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private IdempotencyKeyCache idempotencyKeyCache;
+
+    @Autowired
+    private LedgerReadCaches readCaches;
+
+    @Autowired
+    private FeeAssessmentService feeAssessmentService;
+
+    @Autowired
+    private TransactionBatchLineWriter lineWriter;
+
+    @Value("${ledger.batch.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<TransactionBatchResultDTO> createTransactions(Flux<TransactionBatchItemDTO> items, String batchId) {
+        String effectiveBatchId = batchId != null && !batchId.isBlank() ? batchId : UUID.randomUUID().toString();
+        return items.index()
+                .buffer(chunkSize)
+                .concatMap(chunk -> processChunk(chunk, effectiveBatchId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<TransactionStatusUpdateProgressDTO> updateTransactionStatuses(TransactionStatusUpdateRequestDTO request) {
+        String error = validate(request);
+        if (error != null) {
+            return Flux.error(new IllegalArgumentException(error));
+        }
+        return Flux.defer(() -> {
+            // IDs of a batch are read through a cursor, so the batch is never held in memory; their booking dates
+            // come along so each chunk only probes its months. Explicit IDs have no known booking date.
+            Flux<TransactionKeyView> transactionKeys = request.getBatchId() != null
+                    ? repository.streamKeysByBatchId(request.getBatchId(), chunkSize)
+                    : Flux.fromIterable(new LinkedHashSet<>(request.getTransactionIds()))
+                            .map(transactionId -> new TransactionKeyView(transactionId, null));
+            AtomicLong totalUpdated = new AtomicLong();
+            return transactionKeys
+                    .buffer(chunkSize)
+                    .index()
+                    .concatMap(chunk -> {
+                        List<UUID> transactionIds = chunk.getT2().stream().map(TransactionKeyView::getTransactionId).toList();
+                        BookingDateRange bookedWithin = BookingDateRange.covering(
+                                chunk.getT2().stream().map(TransactionKeyView::getBookingDate).toList());
+                        return updateStatusChunk(transactionIds, bookedWithin, request)
+                                .map(changes -> progress(chunk.getT1(), transactionIds, changes,
+                                        totalUpdated.addAndGet(changes.size())));
+                    });
+        });
+    }
+
+    /**
+     * Update the statuses of one chunk, with their history, events and fees, in one database transaction.
+     *
+     * @return the transactions actually updated
+     */
+    private Mono<List<TransactionStatusChangeView>> updateStatusChunk(List<UUID> transactionIds, BookingDateRange bookedWithin,
+                                                                      TransactionStatusUpdateRequestDTO request) {
+        List<Transaction> fees = new ArrayList<>();
+        Mono<List<TransactionStatusChangeView>> write = repository
+                .updateStatusesReturning(transactionIds, request.getNewStatus(), request.getCurrentStatus(), bookedWithin)
+                .collectList()
+                .flatMap(changes -> {
+                    if (changes.isEmpty()) {
+                        return Mono.just(changes);
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    List<TransactionStatusHistory> statusHistories = new ArrayList<>(changes.size());
+                    Map<UUID, Object> statusChangedEvents = new LinkedHashMap<>();
+                    for (TransactionStatusChangeView change : changes) {
+                        Transaction transaction = change.getTransaction();
+
+                        TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+                        statusHistory.setTransactionStatusHistoryId(UUID.randomUUID());
+                        statusHistory.setTransactionId(transaction.getTransactionId());
+                        statusHistory.setStatusCode(request.getNewStatus());
+                        statusHistory.setStatusStartDatetime(now);
+                        statusHistory.setReason(request.getReason());
+                        statusHistory.setRegulatedReportingFlag(false);
+                        statusHistories.add(statusHistory);
+
+                        statusChangedEvents.put(transaction.getTransactionId(), TransactionServiceImpl.statusChangedPayload(
+                                mapper.toDTO(transaction), change.getPreviousStatus(), request.getReason()));
+                    }
+                    return statusHistoryRepository.insertAll(statusHistories)
+                            .then(outboxService.appendAll(OutboxService.AGGREGATE_TRANSACTION,
+                                    OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED, statusChangedEvents))
+                            .then(feeAssessmentService.propagateStatus(statusChangedEvents.keySet(),
+                                    BookingDateRange.covering(changes.stream()
+                                            .map(change -> change.getTransaction().getBookingDate())
+                                            .toList()),
+                                    request.getNewStatus(), request.getReason()))
+                            .doOnNext(fees::addAll)
+                            .thenReturn(changes);
+                });
+        return transactionalOperator.transactional(write)
+                .doOnNext(changes -> {
+                    changes.forEach(change -> readCaches.invalidateTransaction(
+                            change.getTransaction().getTransactionId(),
+                            change.getTransaction().getExternalReference(),
+                            change.getTransaction().getRowVersion()));
+                    fees.forEach(fee -> readCaches.invalidateTransaction(
+                            fee.getTransactionId(), fee.getExternalReference(), fee.getRowVersion()));
+                });
+    }
+
+    private TransactionStatusUpdateProgressDTO progress(long chunk, List<UUID> transactionIds,
+                                                        List<TransactionStatusChangeView> changes, long totalUpdated) {
+        Set<UUID> updatedIds = changes.stream()
+                .map(change -> change.getTransaction().getTransactionId())
+                .collect(Collectors.toSet());
+        return TransactionStatusUpdateProgressDTO.builder()
+                .chunk(chunk)
+                .requested(transactionIds.size())
+                .updated(changes.size())
+                .totalUpdated(totalUpdated)
+                .skippedTransactionIds(transactionIds.stream().filter(id -> !updatedIds.contains(id)).toList())
+                .build();
+    }
+
+    private Flux<TransactionBatchResultDTO> processChunk(List<Tuple2<Long, TransactionBatchItemDTO>> chunk, String batchId) {
+        List<TransactionBatchResultDTO> rejected = new ArrayList<>();
+        List<Tuple2<Long, TransactionBatchItemDTO>> valid = new ArrayList<>();
+        Map<String, UUID> cachedTransactionIds = new HashMap<>();
+
+        for (Tuple2<Long, TransactionBatchItemDTO> indexed : chunk) {
+            String error = validate(indexed.getT2());
+            if (error != null) {
+                rejected.add(failed(batchId, indexed.getT1(), indexed.getT2().getTransaction(), null, error));
+                continue;
+            }
+            valid.add(indexed);
+            String requestId = indexed.getT2().getTransaction().getRequestId();
+            UUID cachedTransactionId = requestId != null ? idempotencyKeyCache.get(requestId) : null;
+            if (cachedTransactionId != null) {
+                cachedTransactionIds.put(requestId, cachedTransactionId);
+            }
+        }
+
+        // Cached request IDs are confirmed with one primary key lookup instead of attempting their inserts
+        Mono<Set<UUID>> existingTransactionIds = cachedTransactionIds.isEmpty()
+                ? Mono.just(Set.of())
+                : repository.findAllById(cachedTransactionIds.values()).map(Transaction::getTransactionId).collect(Collectors.toSet());
+
+        return existingTransactionIds.flatMapMany(existingIds -> {
+            List<TransactionBatchResultDTO> duplicates = new ArrayList<>();
+            List<PreparedItem> prepared = new ArrayList<>();
+            for (Tuple2<Long, TransactionBatchItemDTO> indexed : valid) {
+                UUID cachedTransactionId = cachedTransactionIds.get(indexed.getT2().getTransaction().getRequestId());
+                if (cachedTransactionId != null && existingIds.contains(cachedTransactionId)) {
+                    duplicates.add(duplicate(batchId, indexed.getT1(), indexed.getT2().getTransaction().getExternalReference(), cachedTransactionId));
+                } else {
+                    prepared.add(prepare(indexed.getT1(), indexed.getT2(), batchId));
+                }
+            }
+
+            Flux<TransactionBatchResultDTO> written = writeChunk(prepared)
+                    .flatMapMany(storedIds -> Flux.fromIterable(prepared).map(item -> stored(batchId, item, storedIds)))
+                    .onErrorResume(chunkError -> prepared.size() > 1
+                            ? Flux.fromIterable(prepared).concatMap(item -> writeChunk(List.of(item))
+                                    .map(storedIds -> stored(batchId, item, storedIds))
+                                    .onErrorResume(itemError -> Mono.just(failed(batchId, item, itemError))))
+                            : Flux.fromIterable(prepared).map(item -> failed(batchId, item, chunkError)));
+
+            return Flux.concat(Flux.fromIterable(rejected), Flux.fromIterable(duplicates), written);
+        }).sort(Comparator.comparing(TransactionBatchResultDTO::getSequence));
+    }
+
+    /**
+     * Write the items in one database transaction. Items whose request ID was already used are not written.
+     *
+     * @return for each item's generated transaction ID, the ID of the stored transaction: the same ID when the
+     *         item was inserted, the ID of the original transaction when its request ID was already used
+     */
+    private Mono<Map<UUID, UUID>> writeChunk(List<PreparedItem> items) {
+        if (items.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<Transaction> transactions = items.stream().map(PreparedItem::transaction).toList();
+
+        Mono<Map<UUID, UUID>> write = repository.insertAllIfAbsent(transactions)
+                .map(Transaction::getTransactionId)
+                .collect(Collectors.toSet())
+                .flatMap(insertedIds -> {
+                    List<PreparedItem> inserted = new ArrayList<>(insertedIds.size());
+                    Set<String> duplicateRequestIds = new HashSet<>();
+                    for (PreparedItem item : items) {
+                        if (insertedIds.contains(item.transaction().getTransactionId())) {
+                            inserted.add(item);
+                        } else {
+                            duplicateRequestIds.add(item.transaction().getRequestId());
+                        }
+                    }
+
+                    Mono<Map<String, UUID>> originals = duplicateRequestIds.isEmpty()
+                            ? Mono.just(Map.of())
+                            : repository.findByRequestIdIn(duplicateRequestIds)
+                                    .collectMap(Transaction::getRequestId, Transaction::getTransactionId);
+
+                    return writeDependents(inserted)
+                            .then(originals)
+                            .map(originalIds -> {
+                                Map<UUID, UUID> storedIds = new HashMap<>();
+                                for (PreparedItem item : items) {
+                                    UUID transactionId = item.transaction().getTransactionId();
+                                    UUID storedId = insertedIds.contains(transactionId)
+                                            ? transactionId
+                                            : originalIds.get(item.transaction().getRequestId());
+                                    if (storedId != null) {
+                                        storedIds.put(transactionId, storedId);
+                                    }
+                                }
+                                return storedIds;
+                            });
+                });
+        return transactionalOperator.transactional(write);
+    }
+
+    private Mono<Void> writeDependents(List<PreparedItem> items) {
+        if (items.isEmpty()) {
+            return Mono.empty();
+        }
+
+        List<TransactionStatusHistory> statusHistories = new ArrayList<>(items.size());
+        List<TransactionLeg> legs = new ArrayList<>();
+        List<UUID> transactionIdsWithLegs = new ArrayList<>();
+        Map<UUID, TransactionBatchItemDTO> itemsWithLines = new LinkedHashMap<>();
+        Map<UUID, TransactionDTO> createdEvents = new LinkedHashMap<>();
+        FeeAssessment fees = new FeeAssessment();
+
+        for (PreparedItem item : items) {
+            TransactionLineTypeEnum lineType = TransactionBatchLineWriter.lineType(item.source());
+            if (lineType != null) {
+                itemsWithLines.put(item.transaction().getTransactionId(), item.source());
+            }
+            createdEvents.put(item.transaction().getTransactionId(), mapper.toDTO(item.transaction()));
+            feeAssessmentService.assess(fees, item.transaction(), lineType);
+            statusHistories.add(item.statusHistory());
+            legs.addAll(item.legs());
+            if (!item.legs().isEmpty()) {
+                transactionIdsWithLegs.add(item.transaction().getTransactionId());
+            }
+        }
+
+        return statusHistoryRepository.insertAll(statusHistories)
+                .then(legRepository.insertAll(legs))
+                .then(balanceService.applyLegsOfTransactions(transactionIdsWithLegs))
+                .then(lineWriter.insertAll(itemsWithLines))
+                .then(outboxService.appendAll(OutboxService.AGGREGATE_TRANSACTION, OutboxEventTypeEnum.TRANSACTION_CREATED, createdEvents))
+                .then(feeAssessmentService.write(fees));
+    }
+
+    private PreparedItem prepare(long sequence, TransactionBatchItemDTO item, String batchId) {
+        Transaction transaction = mapper.toEntity(item.getTransaction());
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setBatchId(batchId);
+        if (transaction.getBookingDate() == null) {
+            transaction.setBookingDate(LocalDateTime.now());
+        }
+
+        TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+        statusHistory.setTransactionStatusHistoryId(UUID.randomUUID());
+        statusHistory.setTransactionId(transaction.getTransactionId());
+        statusHistory.setStatusCode(transaction.getTransactionStatus());
+        statusHistory.setStatusStartDatetime(LocalDateTime.now());
+        statusHistory.setReason("Initial transaction creation");
+        statusHistory.setRegulatedReportingFlag(false);
+
+        List<TransactionLeg> legs = new ArrayList<>();
+        if (item.getLegs() != null) {
+            for (TransactionLegDTO legDTO : item.getLegs()) {
+                TransactionLeg leg = legMapper.toEntity(legDTO);
+                leg.setTransactionLegId(UUID.randomUUID());
+                leg.setTransactionId(transaction.getTransactionId());
+                if (leg.getValueDate() == null) {
+                    leg.setValueDate(transaction.getValueDate());
+                }
+                if (leg.getBookingDate() == null) {
+                    leg.setBookingDate(transaction.getBookingDate());
+                }
+                legs.add(leg);
+            }
+        }
+
+        return new PreparedItem(sequence, item, transaction, statusHistory, legs);
+    }
+
+    private String validate(TransactionStatusUpdateRequestDTO request) {
+        boolean byIds = request.getTransactionIds() != null && !request.getTransactionIds().isEmpty();
+        boolean byBatch = request.getBatchId() != null && !request.getBatchId().isBlank();
+        if (byIds == byBatch) {
+            return "Either transaction IDs or a batch ID is required";
+        }
+        if (request.getNewStatus() == null) {
+            return "New status is required";
+        }
+        if (request.getReason() == null || request.getReason().isBlank()) {
+            return "Reason is required";
+        }
+        return null;
+    }
+
+    private String validate(TransactionBatchItemDTO item) {
+        TransactionDTO transaction = item.getTransaction();
+        if (transaction == null) {
+            return "Transaction is required";
+        }
+        if (transaction.getTransactionDate() == null) {
+            return "Transaction date is required";
+        }
+        if (transaction.getValueDate() == null) {
+            return "Value date is required";
+        }
+        if (transaction.getTransactionType() == null) {
+            return "Transaction type is required";
+        }
+        if (transaction.getTransactionStatus() == null) {
+            return "Transaction status is required";
+        }
+        if (transaction.getTotalAmount() == null) {
+            return "Total amount is required";
+        }
+        if (transaction.getCurrency() == null || transaction.getCurrency().isBlank()) {
+            return "Currency is required";
+        }
+        if (transaction.getAccountId() == null) {
+            return "Account ID is required";
+        }
+        if (item.getLegs() != null) {
+            for (TransactionLegDTO leg : item.getLegs()) {
+                if (leg.getAccountId() == null) {
+                    return "Leg account ID is required";
+                }
+                if (!"DEBIT".equals(leg.getLegType()) && !"CREDIT".equals(leg.getLegType())) {
+                    return "Leg type must be either DEBIT or CREDIT";
+                }
+                if (leg.getAmount() == null || leg.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+                    return "Leg amount must be positive";
+                }
+                if (leg.getCurrency() == null || leg.getCurrency().isBlank()) {
+                    return "Leg currency is required";
+                }
+            }
+        }
+        if (TransactionBatchLineWriter.lineCount(item) > 1) {
+            return "At most one transaction line can be ingested per transaction";
+        }
+        return null;
+    }
+
+    private TransactionBatchResultDTO stored(String batchId, PreparedItem item, Map<UUID, UUID> storedIds) {
+        UUID transactionId = item.transaction().getTransactionId();
+        UUID storedId = storedIds.get(transactionId);
+        if (storedId == null) {
+            return failed(batchId, item.sequence(), null, item.transaction().getExternalReference(),
+                    "Request ID " + item.transaction().getRequestId() + " is already used");
+        }
+        if (item.transaction().getRequestId() != null) {
+            idempotencyKeyCache.put(item.transaction().getRequestId(), storedId);
+        }
+        return storedId.equals(transactionId)
+                ? created(batchId, item)
+                : duplicate(batchId, item.sequence(), item.transaction().getExternalReference(), storedId);
+    }
+
+    private TransactionBatchResultDTO created(String batchId, PreparedItem item) {
+        return TransactionBatchResultDTO.builder()
+                .batchId(batchId)
+                .sequence(item.sequence())
+                .transactionId(item.transaction().getTransactionId())
+                .externalReference(item.transaction().getExternalReference())
+                .status(BatchItemStatusEnum.CREATED)
+                .build();
+    }
+
+    private TransactionBatchResultDTO duplicate(String batchId, long sequence, String externalReference, UUID originalTransactionId) {
+        return TransactionBatchResultDTO.builder()
+                .batchId(batchId)
+                .sequence(sequence)
+                .transactionId(originalTransactionId)
+                .externalReference(externalReference)
+                .status(BatchItemStatusEnum.DUPLICATE)
+                .build();
+    }
+
+    private TransactionBatchResultDTO failed(String batchId, PreparedItem item, Throwable error) {
+        return failed(batchId, item.sequence(), null, item.transaction().getExternalReference(), error.getMessage());
+    }
+
+    private TransactionBatchResultDTO failed(String batchId, long sequence, TransactionDTO transaction, String externalReference, String error) {
+        return TransactionBatchResultDTO.builder()
+                .batchId(batchId)
+                .sequence(sequence)
+                .externalReference(transaction != null ? transaction.getExternalReference() : externalReference)
+                .status(BatchItemStatusEnum.FAILED)
+                .errorMessage(error)
+                .build();
+    }
+
+    private record PreparedItem(long sequence, TransactionBatchItemDTO source, Transaction transaction,
+                                TransactionStatusHistory statusHistory, List<TransactionLeg> legs) {
+    }
+}
@@ -17,11 +17,13 @@
 
 package com.firefly.core.banking.ledger.core.services.core.v1;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.ledger.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
 
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
@@ -37,9 +39,11 @@ public interface TransactionService {
 
     /**
      * Creates a new transaction record.
+     * The request ID, when present, is an idempotency key: if a transaction was already created for it,
+     * that transaction is returned and nothing is written.
      *
      * @param transactionDTO The transaction data to create
-     * @return A Mono emitting the created transaction with its generated ID
+     * @return A Mono emitting the created transaction with its generated ID, or the original transaction on replay
      */
     Mono<TransactionDTO> createTransaction(TransactionDTO transactionDTO);
 
@@ -77,7 +81,8 @@ public interface TransactionService {
     Mono<PaginationResponse<TransactionDTO>> filterTransactions(FilterRequest<TransactionDTO> filterRequest);
 
     /**
-     * Gets all transactions for an account.
+     * Streams all transactions for an account, newest booking date first. Rows are read from the database
+     * through a cursor as the subscriber requests them, so memory use does not depend on the size of the history.
      *
      * @param accountId The account ID
      * @return A Flux emitting all transactions for the account
@@ -85,7 +90,8 @@ public interface TransactionService {
     Flux<TransactionDTO> getTransactionsByAccountId(UUID accountId);
 
     /**
-     * Gets all transactions for an account space.
+     * Streams all transactions for an account space, newest booking date first. Rows are read from the database
+     * through a cursor as the subscriber requests them, so memory use does not depend on the size of the history.
      *
      * @param accountSpaceId The account space ID
      * @return A Flux emitting all transactions for the account space
@@ -109,4 +115,57 @@ public interface TransactionService {
      * @return A Mono emitting the transaction if found, or an empty Mono if not found
      */
     Mono<TransactionDTO> findByExternalReference(String externalReference);
-}
\ No newline at end of file
+
+    /**
+     * Lists the transactions of an account using keyset (cursor) pagination,
+     * ordered by booking date (newest first). Transactions without a booking date are not listed.
+     *
+     * @param accountId The account ID
+     * @param startDate Optional start of the booking date range
+     * @param endDate Optional end of the booking date range
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The page size
+     * @param includeCount Whether to compute the total number of matching transactions
+     * @return A Mono emitting a page of transactions with the cursor of the next page
+     */
+    Mono<CursorPageResponse<TransactionDTO>> listTransactionsByAccountId(
+            UUID accountId, LocalDateTime startDate, LocalDateTime endDate, String cursor, int size, boolean includeCount);
+
+    /**
+     * Lists the transactions of an account space using keyset (cursor) pagination,
+     * ordered by booking date (newest first). Transactions without a booking date are not listed.
+     *
+     * @param accountSpaceId The account space ID
+     * @param startDate Optional start of the booking date range
+     * @param endDate Optional end of the booking date range
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size The page size
+     * @param includeCount Whether to compute the total number of matching transactions
+     * @return A Mono emitting a page of transactions with the cursor of the next page
+     */
+    Mono<CursorPageResponse<TransactionDTO>> listTransactionsByAccountSpaceId(
+            UUID accountSpaceId, LocalDateTime startDate, LocalDateTime endDate, String cursor, int size, boolean includeCount);
+
+    /**
+     * Searches the transactions located within a radius of a point, nearest first.
+     * Only the transactions of the grid cells around the point are read; the exact distance is checked on those.
+     *
+     * @param latitude Latitude of the centre, in degrees
+     * @param longitude Longitude of the centre, in degrees
+     * @param radiusInKm The radius, in kilometres; at most {@code ledger.geo.max-radius-km}
+     * @param paginationRequest The page to return; the sort is always by distance
+     * @return A Mono emitting a page of transactions, or an IllegalArgumentException for an invalid centre or radius
+     */
+    Mono<PaginationResponse<TransactionDTO>> searchTransactionsWithinRadius(
+            Double latitude, Double longitude, Double radiusInKm, PaginationRequest paginationRequest);
+
+    /**
+     * Searches transactions by free text over their description, initiating party and counterparty names,
+     * best match first. Words are matched by trigram similarity, so small typos are tolerated.
+     *
+     * @param query The search text; at least three characters
+     * @param paginationRequest The page to return; the sort is always by relevance
+     * @return A Mono emitting a page of transactions, or an IllegalArgumentException for a query that is too short
+     */
+    Mono<PaginationResponse<TransactionDTO>> searchTransactions(String query, PaginationRequest paginationRequest);
+}
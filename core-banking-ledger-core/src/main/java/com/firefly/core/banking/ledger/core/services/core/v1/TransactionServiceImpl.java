@@ -19,17 +19,28 @@ package com.firefly.core.banking.ledger.core.services.core.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
+import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
 import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionStatusHistoryMapper;
+import com.firefly.core.banking.ledger.core.queries.KeysetCursor;
+import com.firefly.core.banking.ledger.core.queries.KeysetPaginationUtils;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
 import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
 import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
 import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
 import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -37,6 +48,9 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import java.util.UUID;
 /**
@@ -60,6 +74,27 @@ public class TransactionServiceImpl implements TransactionService {
     @Autowired
     private TransactionStatusHistoryMapper statusHistoryMapper;
 
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private IdempotencyKeyCache idempotencyKeyCache;
+
+    @Autowired
+    private LedgerReadCaches readCaches;
+
+    @Autowired
+    private FeeAssessmentService feeAssessmentService;
+
+    /**
+     * Largest radius accepted by geo searches; larger circles cover too many grid cells to stay index-bound.
+     */
+    @Value("${ledger.geo.max-radius-km:500}")
+    private double maxGeoRadiusKm;
+
+    @Value("${ledger.transactions.stream.fetch-size:1000}")
+    private int streamFetchSize;
+
 
 
     /**
@@ -67,22 +102,61 @@ public class TransactionServiceImpl implements TransactionService {
      */
     @Override
     public Mono<TransactionDTO> createTransaction(TransactionDTO transactionDTO) {
+        String requestId = transactionDTO.getRequestId();
+        if (requestId == null) {
+            return repository.save(newTransaction(transactionDTO))
+                    .flatMap(this::recordCreation);
+        }
+
+        // Replay of a recently seen request: answer from the stored transaction without inserting.
+        // A cached ID whose transaction is gone (rolled back or deleted) falls through to a normal creation.
+        UUID knownTransactionId = idempotencyKeyCache.get(requestId);
+        Mono<TransactionDTO> replay = knownTransactionId != null
+                ? repository.findById(knownTransactionId).map(mapper::toDTO)
+                : Mono.empty();
+
+        return replay.switchIfEmpty(Mono.defer(() -> {
+                    Transaction transaction = newTransaction(transactionDTO);
+                    transaction.setTransactionId(UUID.randomUUID());
+                    // The insert is skipped when the request ID is already taken; the original is returned instead
+                    return repository.insertAllIfAbsent(List.of(transaction))
+                            .next()
+                            .flatMap(this::recordCreation)
+                            .switchIfEmpty(Mono.defer(() -> repository.findByRequestId(requestId).map(mapper::toDTO)));
+                }))
+                .doOnNext(transaction -> idempotencyKeyCache.put(requestId, transaction.getTransactionId()));
+    }
+
+    /**
+     * Map a transaction to create. The transaction table is partitioned by booking date, so a transaction
+     * without one is booked now.
+     */
+    private Transaction newTransaction(TransactionDTO transactionDTO) {
         Transaction transaction = mapper.toEntity(transactionDTO);
-        return repository.save(transaction)
-                .flatMap(savedTransaction -> {
-                    // Create initial status history record
-                    TransactionStatusHistory statusHistory = new TransactionStatusHistory();
-                    statusHistory.setTransactionId(savedTransaction.getTransactionId());
-                    statusHistory.setStatusCode(savedTransaction.getTransactionStatus());
-                    statusHistory.setStatusStartDatetime(LocalDateTime.now());
-                    statusHistory.setReason("Initial transaction creation");
-                    statusHistory.setRegulatedReportingFlag(false);
-
-                    return statusHistoryRepository.save(statusHistory)
-                            .then(Mono.just(savedTransaction));
-                })
+        if (transaction.getBookingDate() == null) {
+            transaction.setBookingDate(LocalDateTime.now());
+        }
+        return transaction;
+    }
 
-                .map(mapper::toDTO);
+    private Mono<TransactionDTO> recordCreation(Transaction savedTransaction) {
+        // Create initial status history record
+        TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+        statusHistory.setTransactionId(savedTransaction.getTransactionId());
+        statusHistory.setStatusCode(savedTransaction.getTransactionStatus());
+        statusHistory.setStatusStartDatetime(LocalDateTime.now());
+        statusHistory.setReason("Initial transaction creation");
+        statusHistory.setRegulatedReportingFlag(false);
+
+        return statusHistoryRepository.save(statusHistory)
+                .then(Mono.just(savedTransaction))
+                .map(mapper::toDTO)
+                .flatMap(createdTransaction -> outboxService.append(
+                                OutboxService.AGGREGATE_TRANSACTION,
+                                createdTransaction.getTransactionId(),
+                                OutboxEventTypeEnum.TRANSACTION_CREATED,
+                                createdTransaction)
+                        .thenReturn(createdTransaction));
     }
 
     /**
@@ -90,8 +164,8 @@ public class TransactionServiceImpl implements TransactionService {
      */
     @Override
     public Mono<TransactionDTO> getTransaction(UUID transactionId) {
-        return repository.findById(transactionId)
-                .map(mapper::toDTO);
+        return readCaches.transactions().get(transactionId, () -> repository.findById(transactionId)
+                .map(mapper::toDTO));
     }
 
     /**
@@ -102,10 +176,21 @@ public class TransactionServiceImpl implements TransactionService {
         return repository.findById(transactionId)
                 .flatMap(existingTransaction -> {
                     TransactionStatusEnum oldStatus = existingTransaction.getTransactionStatus();
+                    String oldExternalReference = existingTransaction.getExternalReference();
                     Transaction updatedTransaction = mapper.toEntity(transactionDTO);
                     updatedTransaction.setTransactionId(existingTransaction.getTransactionId());
+                    if (updatedTransaction.getBookingDate() == null) {
+                        updatedTransaction.setBookingDate(existingTransaction.getBookingDate());
+                    }
 
                     return repository.save(updatedTransaction)
+                            .doOnNext(savedTransaction -> {
+                                readCaches.invalidateTransaction(savedTransaction.getTransactionId(),
+                                        savedTransaction.getExternalReference(), savedTransaction.getRowVersion());
+                                if (oldExternalReference != null && !oldExternalReference.equals(savedTransaction.getExternalReference())) {
+                                    readCaches.transactionsByExternalReference().invalidate(oldExternalReference);
+                                }
+                            })
                             .flatMap(savedTransaction -> {
                                 // If status has changed, create a status history record
                                 if (!oldStatus.equals(savedTransaction.getTransactionStatus())) {
@@ -121,9 +206,23 @@ public class TransactionServiceImpl implements TransactionService {
                                 }
                                 return Mono.just(savedTransaction);
                             })
-;
-                })
-                .map(mapper::toDTO);
+                            .map(mapper::toDTO)
+                            .flatMap(updatedTransaction -> {
+                                Mono<Void> events = outboxService.append(
+                                        OutboxService.AGGREGATE_TRANSACTION,
+                                        updatedTransaction.getTransactionId(),
+                                        OutboxEventTypeEnum.TRANSACTION_UPDATED,
+                                        updatedTransaction);
+                                if (!oldStatus.equals(updatedTransaction.getTransactionStatus())) {
+                                    events = events.then(outboxService.append(
+                                            OutboxService.AGGREGATE_TRANSACTION,
+                                            updatedTransaction.getTransactionId(),
+                                            OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED,
+                                            statusChangedPayload(updatedTransaction, oldStatus, "Status updated via API")));
+                                }
+                                return events.thenReturn(updatedTransaction);
+                            });
+                });
     }
 
     /**
@@ -132,6 +231,15 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     public Mono<Void> deleteTransaction(UUID transactionId) {
         return repository.findById(transactionId)
+                .doOnNext(transaction -> {
+                    if (transaction.getRequestId() != null) {
+                        idempotencyKeyCache.evict(transaction.getRequestId());
+                    }
+                    readCaches.transactions().invalidate(transaction.getTransactionId());
+                    if (transaction.getExternalReference() != null) {
+                        readCaches.transactionsByExternalReference().invalidate(transaction.getExternalReference());
+                    }
+                })
                 .flatMap(repository::delete);
     }
 
@@ -150,13 +258,13 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public Flux<TransactionDTO> getTransactionsByAccountId(UUID accountId) {
-        return repository.findByAccountId(accountId)
+        return repository.streamByAccountId(accountId, streamFetchSize)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Flux<TransactionDTO> getTransactionsByAccountSpaceId(UUID accountSpaceId) {
-        return repository.findByAccountSpaceId(accountSpaceId)
+        return repository.streamByAccountSpaceId(accountSpaceId, streamFetchSize)
                 .map(mapper::toDTO);
     }
 
@@ -168,13 +276,15 @@ public class TransactionServiceImpl implements TransactionService {
 
                     // Only update if status is different
                     if (oldStatus.equals(newStatus)) {
-                        return Mono.just(transaction);
+                        return Mono.just(mapper.toDTO(transaction));
                     }
 
                     // Update transaction status
                     transaction.setTransactionStatus(newStatus);
 
                     return repository.save(transaction)
+                            .doOnNext(savedTransaction -> readCaches.invalidateTransaction(savedTransaction.getTransactionId(),
+                                    savedTransaction.getExternalReference(), savedTransaction.getRowVersion()))
                             .flatMap(savedTransaction -> {
                                 // Create status history record
                                 TransactionStatusHistory statusHistory = new TransactionStatusHistory();
@@ -186,14 +296,102 @@ public class TransactionServiceImpl implements TransactionService {
 
                                 return statusHistoryRepository.save(statusHistory)
                                         .then(Mono.just(savedTransaction));
-                            });
-                })
-                .map(mapper::toDTO);
+                            })
+                            .map(mapper::toDTO)
+                            .flatMap(updatedTransaction -> outboxService.append(
+                                            OutboxService.AGGREGATE_TRANSACTION,
+                                            updatedTransaction.getTransactionId(),
+                                            OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED,
+                                            statusChangedPayload(updatedTransaction, oldStatus, reason))
+                                    // Fees follow the status of their source
+                                    .then(feeAssessmentService.propagateStatus(List.of(transactionId),
+                                            BookingDateRange.at(updatedTransaction.getBookingDate()), newStatus, reason))
+                                    .doOnNext(fees -> fees.forEach(fee -> readCaches.invalidateTransaction(
+                                            fee.getTransactionId(), fee.getExternalReference(), fee.getRowVersion())))
+                                    .thenReturn(updatedTransaction));
+                });
+    }
+
+    static Map<String, Object> statusChangedPayload(TransactionDTO transaction, TransactionStatusEnum previousStatus, String reason) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("transactionId", transaction.getTransactionId());
+        payload.put("previousStatus", previousStatus);
+        payload.put("newStatus", transaction.getTransactionStatus());
+        payload.put("reason", reason);
+        payload.put("transaction", transaction);
+        return payload;
     }
 
     @Override
     public Mono<TransactionDTO> findByExternalReference(String externalReference) {
-        return repository.findByExternalReference(externalReference)
-                .map(mapper::toDTO);
+        return readCaches.transactionsByExternalReference().get(externalReference, () -> repository.findByExternalReference(externalReference)
+                .map(mapper::toDTO));
+    }
+
+    @Override
+    public Mono<CursorPageResponse<TransactionDTO>> listTransactionsByAccountId(
+            UUID accountId, LocalDateTime startDate, LocalDateTime endDate, String cursor, int size, boolean includeCount) {
+        LocalDateTime from = startDate != null ? startDate : KeysetPaginationUtils.MIN_BOOKING_DATE;
+        LocalDateTime to = endDate != null ? endDate : KeysetPaginationUtils.MAX_BOOKING_DATE;
+        return KeysetPaginationUtils.paginateQuery(
+                cursor,
+                size,
+                limit -> repository.findAccountTransactionsFirstPage(accountId, from, to, limit),
+                (position, limit) -> repository.findAccountTransactionsAfter(accountId, from, to, position.bookingDate(), position.id(), limit),
+                transaction -> new KeysetCursor(transaction.getBookingDate(), transaction.getTransactionId()),
+                mapper::toDTO,
+                includeCount ? () -> repository.countByAccountIdAndBookingDateBetween(accountId, from, to) : null
+        );
+    }
+
+    @Override
+    public Mono<CursorPageResponse<TransactionDTO>> listTransactionsByAccountSpaceId(
+            UUID accountSpaceId, LocalDateTime startDate, LocalDateTime endDate, String cursor, int size, boolean includeCount) {
+        LocalDateTime from = startDate != null ? startDate : KeysetPaginationUtils.MIN_BOOKING_DATE;
+        LocalDateTime to = endDate != null ? endDate : KeysetPaginationUtils.MAX_BOOKING_DATE;
+        return KeysetPaginationUtils.paginateQuery(
+                cursor,
+                size,
+                limit -> repository.findAccountSpaceTransactionsFirstPage(accountSpaceId, from, to, limit),
+                (position, limit) -> repository.findAccountSpaceTransactionsAfter(accountSpaceId, from, to, position.bookingDate(), position.id(), limit),
+                transaction -> new KeysetCursor(transaction.getBookingDate(), transaction.getTransactionId()),
+                mapper::toDTO,
+                includeCount ? () -> repository.countByAccountSpaceIdAndBookingDateBetween(accountSpaceId, from, to) : null
+        );
+    }
+
+    @Override
+    public Mono<PaginationResponse<TransactionDTO>> searchTransactionsWithinRadius(
+            Double latitude, Double longitude, Double radiusInKm, PaginationRequest paginationRequest) {
+        if (latitude == null || latitude < -90 || latitude > 90) {
+            return Mono.error(new IllegalArgumentException("Latitude must be between -90 and 90"));
+        }
+        if (longitude == null || longitude < -180 || longitude > 180) {
+            return Mono.error(new IllegalArgumentException("Longitude must be between -180 and 180"));
+        }
+        if (radiusInKm == null || radiusInKm <= 0 || radiusInKm > maxGeoRadiusKm) {
+            return Mono.error(new IllegalArgumentException("Radius must be greater than 0 and at most " + maxGeoRadiusKm + " km"));
+        }
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                pageable -> repository.findTransactionsWithinRadius(latitude, longitude, radiusInKm, pageable),
+                () -> repository.countTransactionsWithinRadius(latitude, longitude, radiusInKm)
+        );
+    }
+
+    @Override
+    public Mono<PaginationResponse<TransactionDTO>> searchTransactions(String query, PaginationRequest paginationRequest) {
+        String text = query != null ? query.trim() : "";
+        // Trigrams need at least three characters to match anything selective
+        if (text.length() < 3) {
+            return Mono.error(new IllegalArgumentException("Search query must have at least 3 characters"));
+        }
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                pageable -> repository.searchTransactions(text, pageable),
+                () -> repository.countSearchTransactions(text)
+        );
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.deposit.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.deposit.v1.TransactionLineDepositMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.deposit.v1.TransactionLineDepositDTO;
 import com.firefly.core.banking.ledger.models.entities.deposit.v1.TransactionLineDeposit;
@@ -42,10 +43,13 @@ public class TransactionLineDepositServiceImpl implements TransactionLineDeposit
     @Autowired
     private TransactionLineDepositMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineDepositDTO> getDepositLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineDepositDTO>lines(LedgerReadCaches.LINE_DEPOSIT).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Deposit not found")));
     }
 
@@ -66,7 +70,8 @@ public class TransactionLineDepositServiceImpl implements TransactionLineDeposit
                     TransactionLineDeposit updatedEntity = mapper.toEntity(depositDTO);
                     updatedEntity.setTransactionLineDepositId(existingEntity.getTransactionLineDepositId());
                     updatedEntity.setTransactionId(transactionId);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_DEPOSIT, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Failed to update Transaction Line Deposit", e)));
@@ -76,6 +81,6 @@ public class TransactionLineDepositServiceImpl implements TransactionLineDeposit
     public Mono<Void> deleteDepositLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Deposit not found")))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_DEPOSIT, transactionId)));
     }
 }
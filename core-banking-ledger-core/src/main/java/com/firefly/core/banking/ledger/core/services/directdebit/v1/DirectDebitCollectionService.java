@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.directdebit.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1.DirectDebitCollectionResultDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+/**
+ * Service interface for collecting due direct debits.
+ */
+public interface DirectDebitCollectionService {
+    /**
+     * Collect every pending (INITIATED, not revoked) direct debit due on or before the given date.
+     * <p>
+     * Each debit is either COMPLETED, posting its transaction, or FAILED when it violates the sequence of its
+     * mandate (a FRST or OOFF collection on a mandate that was already used, or any collection after a FNAL one).
+     * Collections of one mandate are processed in sequence order. The run can be repeated safely: collected
+     * debits are no longer pending.
+     *
+     * @param dueDate The due date to collect.
+     * @return The number of completed and failed collections.
+     */
+    Mono<DirectDebitCollectionResultDTO> collectDueDirectDebits(LocalDate dueDate);
+}
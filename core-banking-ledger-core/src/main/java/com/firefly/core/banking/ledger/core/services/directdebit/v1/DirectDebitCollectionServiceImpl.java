@@ -0,0 +1,336 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.directdebit.v1;
+
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1.DirectDebitCollectionResultDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitProcessingStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitSequenceTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.DirectDebitMandateHistoryView;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.directdebit.v1.TransactionLineDirectDebitRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Implementation of the DirectDebitCollectionService interface.
+ * <p>
+ * Debits are claimed in pages with {@code FOR UPDATE SKIP LOCKED} and each page is collected in one database
+ * transaction with set-based writes: one status update per outcome for the debits and for their transactions,
+ * a multi-row insert for the status history and one outbox append. Several pages are collected concurrently,
+ * capped below the R2DBC pool size.
+ * <p>
+ * A page only contains the first pending debit of each mandate, so later collections of a mandate are claimed
+ * by a following page once the earlier one is committed; this keeps FRST, RCUR and FNAL in order without
+ * coordinating the workers.
+ */
+@Service
+public class DirectDebitCollectionServiceImpl implements DirectDebitCollectionService {
+
+    static final String COLLECTED_REASON = "Direct debit collected";
+
+    static final String NOT_COLLECTED_REASON = "Direct debit not collected";
+
+    @Autowired
+    private TransactionLineDirectDebitRepository directDebitRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private LedgerReadCaches readCaches;
+
+    @Autowired
+    private FeeAssessmentService feeAssessmentService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.direct-debits.collection.page-size:1000}")
+    private int pageSize;
+
+    @Value("${ledger.direct-debits.collection.concurrency:4}")
+    private int concurrency;
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<DirectDebitCollectionResultDTO> collectDueDirectDebits(LocalDate dueDate) {
+        if (dueDate == null) {
+            return Mono.error(new IllegalArgumentException("Due date is required"));
+        }
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return Flux.range(0, effectiveConcurrency())
+                    .flatMap(worker -> connectionBudget.withPermit(Mono.defer(() -> collectPage(dueDate)))
+                            .repeat()
+                            .takeWhile(page -> page.claimed() > 0))
+                    .reduce(PageResult.EMPTY, PageResult::plus)
+                    .map(total -> DirectDebitCollectionResultDTO.builder()
+                            .dueDate(dueDate)
+                            .completed((long) total.completed())
+                            .failed((long) total.failed())
+                            .durationMillis(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                            .build());
+        });
+    }
+
+    /**
+     * Number of pages collected concurrently: the configured concurrency, capped at the {@link ConnectionBudget} shared
+     * with the other background workers.
+     */
+    int effectiveConcurrency() {
+        return connectionBudget.concurrency(concurrency);
+    }
+
+    /**
+     * Claim and collect one page of due debits in a single transaction. Once it has committed, the cached
+     * reads of the updated transactions and direct debit lines are invalidated.
+     */
+    Mono<PageResult> collectPage(LocalDate dueDate) {
+        List<TransactionLineDirectDebit> claimed = new ArrayList<>();
+        List<Transaction> updated = new ArrayList<>();
+        Mono<PageResult> page = directDebitRepository.claimCollectableDirectDebits(dueDate, pageSize)
+                .collectList()
+                .flatMap(debits -> {
+                    claimed.addAll(debits);
+                    return debits.isEmpty() ? Mono.just(PageResult.EMPTY) : collect(debits, updated);
+                });
+        return transactionalOperator.transactional(page)
+                .doOnNext(result -> invalidateCaches(claimed, updated))
+                .doOnNext(this::record);
+    }
+
+    private void invalidateCaches(List<TransactionLineDirectDebit> debits, List<Transaction> transactions) {
+        transactions.forEach(transaction -> readCaches.invalidateTransaction(
+                transaction.getTransactionId(), transaction.getExternalReference(), transaction.getRowVersion()));
+        if (!debits.isEmpty()) {
+            readCaches.invalidateLines(LedgerReadCaches.LINE_DIRECT_DEBIT, debits.stream()
+                    .map(TransactionLineDirectDebit::getTransactionId)
+                    .distinct()
+                    .toList());
+        }
+    }
+
+    private Mono<PageResult> collect(List<TransactionLineDirectDebit> debits, List<Transaction> updated) {
+        List<String> mandateIds = debits.stream()
+                .map(TransactionLineDirectDebit::getDirectDebitMandateId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        List<UUID> transactionIds = debits.stream()
+                .map(TransactionLineDirectDebit::getTransactionId)
+                .distinct()
+                .toList();
+
+        Mono<Map<String, DirectDebitMandateHistoryView>> histories = mandateIds.isEmpty()
+                ? Mono.just(Map.of())
+                : directDebitRepository.findMandateHistories(mandateIds).collectMap(DirectDebitMandateHistoryView::getMandateId);
+        Mono<Map<UUID, Transaction>> transactions = transactionRepository.findAllById(transactionIds)
+                .collectMap(Transaction::getTransactionId);
+
+        return Mono.zip(histories, transactions)
+                .flatMap(loaded -> write(debits, loaded.getT1(), loaded.getT2(), updated));
+    }
+
+    private Mono<PageResult> write(List<TransactionLineDirectDebit> debits,
+                                   Map<String, DirectDebitMandateHistoryView> histories,
+                                   Map<UUID, Transaction> transactions,
+                                   List<Transaction> updated) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> completedDebits = new ArrayList<>();
+        List<UUID> failedDebits = new ArrayList<>();
+        List<UUID> postedTransactions = new ArrayList<>();
+        List<UUID> failedTransactions = new ArrayList<>();
+        List<TransactionStatusHistory> statusHistories = new ArrayList<>();
+        Map<UUID, Map<String, Object>> statusChangedEvents = new LinkedHashMap<>();
+
+        for (TransactionLineDirectDebit debit : debits) {
+            Transaction transaction = transactions.get(debit.getTransactionId());
+            String rejection = transaction == null
+                    ? "Transaction " + debit.getTransactionId() + " not found"
+                    : rejectionReason(debit, histories.get(debit.getDirectDebitMandateId()));
+
+            if (rejection == null) {
+                completedDebits.add(debit.getTransactionLineDirectDebitId());
+            } else {
+                failedDebits.add(debit.getTransactionLineDirectDebitId());
+            }
+            if (transaction == null) {
+                continue;
+            }
+
+            TransactionStatusEnum previousStatus = transaction.getTransactionStatus();
+            TransactionStatusEnum newStatus = rejection == null ? TransactionStatusEnum.POSTED : TransactionStatusEnum.FAILED;
+            if (newStatus == previousStatus) {
+                continue;
+            }
+            String reason = rejection == null ? COLLECTED_REASON : rejection;
+            (rejection == null ? postedTransactions : failedTransactions).add(transaction.getTransactionId());
+            statusHistories.add(statusHistory(transaction.getTransactionId(), newStatus, reason, now));
+
+            transaction.setTransactionStatus(newStatus);
+            if (transaction.getRowVersion() != null) {
+                transaction.setRowVersion(transaction.getRowVersion() + 1);
+            }
+            statusChangedEvents.put(transaction.getTransactionId(), statusChangedPayload(transaction, previousStatus, reason));
+            updated.add(transaction);
+        }
+
+        BookingDateRange postedBookedWithin = bookedWithin(postedTransactions, transactions);
+        BookingDateRange failedBookedWithin = bookedWithin(failedTransactions, transactions);
+        return updateDebits(completedDebits, DirectDebitProcessingStatusEnum.COMPLETED)
+                .then(updateDebits(failedDebits, DirectDebitProcessingStatusEnum.FAILED))
+                .then(updateTransactions(postedTransactions, postedBookedWithin, TransactionStatusEnum.POSTED))
+                .then(updateTransactions(failedTransactions, failedBookedWithin, TransactionStatusEnum.FAILED))
+                .then(statusHistoryRepository.insertAll(statusHistories))
+                .then(outboxService.appendAll(OutboxService.AGGREGATE_TRANSACTION,
+                        OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED, statusChangedEvents))
+                // Fees follow the status of their source
+                .then(feeAssessmentService.propagateStatus(postedTransactions, postedBookedWithin,
+                        TransactionStatusEnum.POSTED, COLLECTED_REASON))
+                .doOnNext(updated::addAll)
+                .then(feeAssessmentService.propagateStatus(failedTransactions, failedBookedWithin,
+                        TransactionStatusEnum.FAILED, NOT_COLLECTED_REASON))
+                .doOnNext(updated::addAll)
+                .thenReturn(new PageResult(debits.size(), completedDebits.size(), failedDebits.size()));
+    }
+
+    /**
+     * Why a debit cannot be collected given the completed collections of its mandate, or null if it can.
+     */
+    static String rejectionReason(TransactionLineDirectDebit debit, DirectDebitMandateHistoryView history) {
+        if (debit.getDirectDebitMandateId() == null) {
+            return "Direct debit has no mandate";
+        }
+        if (history == null) {
+            return null;
+        }
+        if (history.isFinalized()) {
+            return "Mandate " + debit.getDirectDebitMandateId() + " was closed by a final (FNAL) collection";
+        }
+        DirectDebitSequenceTypeEnum sequenceType = debit.getDirectDebitSequenceType();
+        if ((sequenceType == DirectDebitSequenceTypeEnum.FRST || sequenceType == DirectDebitSequenceTypeEnum.OOFF)
+                && history.getCompletedCollections() > 0) {
+            return sequenceType + " collection on mandate " + debit.getDirectDebitMandateId() + " that was already collected";
+        }
+        return null;
+    }
+
+    private Mono<Long> updateDebits(Collection<UUID> ids, DirectDebitProcessingStatusEnum status) {
+        return ids.isEmpty() ? Mono.just(0L) : directDebitRepository.updateProcessingStatus(ids, status);
+    }
+
+    /**
+     * The booking dates of the given loaded transactions, so their updates only probe those months.
+     */
+    private static BookingDateRange bookedWithin(Collection<UUID> ids, Map<UUID, Transaction> transactions) {
+        return BookingDateRange.covering(ids.stream().map(id -> transactions.get(id).getBookingDate()).toList());
+    }
+
+    private Mono<Long> updateTransactions(Collection<UUID> ids, BookingDateRange bookedWithin, TransactionStatusEnum status) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return bookedWithin != null
+                ? transactionRepository.updateStatuses(ids, status, bookedWithin.from(), bookedWithin.to())
+                : transactionRepository.updateStatuses(ids, status);
+    }
+
+    private TransactionStatusHistory statusHistory(UUID transactionId, TransactionStatusEnum status, String reason, LocalDateTime now) {
+        TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+        statusHistory.setTransactionStatusHistoryId(UUID.randomUUID());
+        statusHistory.setTransactionId(transactionId);
+        statusHistory.setStatusCode(status);
+        statusHistory.setStatusStartDatetime(now);
+        statusHistory.setReason(reason);
+        statusHistory.setRegulatedReportingFlag(false);
+        return statusHistory;
+    }
+
+    private Map<String, Object> statusChangedPayload(Transaction transaction, TransactionStatusEnum previousStatus, String reason) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("transactionId", transaction.getTransactionId());
+        payload.put("previousStatus", previousStatus);
+        payload.put("newStatus", transaction.getTransactionStatus());
+        payload.put("reason", reason);
+        payload.put("transaction", transactionMapper.toDTO(transaction));
+        return payload;
+    }
+
+    private void record(PageResult page) {
+        if (meterRegistry == null) {
+            return;
+        }
+        meterRegistry.counter("ledger.direct-debits.collections", "outcome", "completed").increment(page.completed());
+        meterRegistry.counter("ledger.direct-debits.collections", "outcome", "failed").increment(page.failed());
+    }
+
+    record PageResult(int claimed, int completed, int failed) {
+        static final PageResult EMPTY = new PageResult(0, 0, 0);
+
+        PageResult plus(PageResult other) {
+            return new PageResult(claimed + other.claimed, completed + other.completed, failed + other.failed);
+        }
+    }
+}
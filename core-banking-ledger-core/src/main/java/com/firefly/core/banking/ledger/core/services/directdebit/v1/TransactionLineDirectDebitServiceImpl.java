@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.directdebit.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.directdebit.v1.TransactionLineDirectDebitMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1.TransactionLineDirectDebitDTO;
 import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
@@ -38,10 +39,13 @@ public class TransactionLineDirectDebitServiceImpl implements TransactionLineDir
     @Autowired
     private TransactionLineDirectDebitMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineDirectDebitDTO> getDirectDebitLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO);
+        return readCaches.<TransactionLineDirectDebitDTO>lines(LedgerReadCaches.LINE_DIRECT_DEBIT).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO));
     }
 
     @Override
@@ -59,7 +63,8 @@ public class TransactionLineDirectDebitServiceImpl implements TransactionLineDir
                     TransactionLineDirectDebit updatedEntity = mapper.toEntity(directDebitDTO);
                     updatedEntity.setTransactionLineDirectDebitId(existingEntity.getTransactionLineDirectDebitId());
                     updatedEntity.setTransactionId(transactionId);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_DIRECT_DEBIT, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO);
     }
@@ -67,6 +72,6 @@ public class TransactionLineDirectDebitServiceImpl implements TransactionLineDir
     @Override
     public Mono<Void> deleteDirectDebitLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_DIRECT_DEBIT, transactionId)));
     }
 }
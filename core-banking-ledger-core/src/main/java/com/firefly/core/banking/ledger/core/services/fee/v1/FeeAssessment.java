@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.TransactionLineFee;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fees assessed on one or more source transactions and not written yet: the fee transactions together with
+ * their status history, legs and fee lines. Filled by {@link FeeAssessmentService#assess} and written by
+ * {@link FeeAssessmentService#write}.
+ */
+public final class FeeAssessment {
+
+    final List<Transaction> transactions = new ArrayList<>();
+    final List<TransactionStatusHistory> statusHistories = new ArrayList<>();
+    final List<TransactionLeg> legs = new ArrayList<>();
+    final List<TransactionLineFee> feeLines = new ArrayList<>();
+
+    /**
+     * Whether no fee was assessed.
+     */
+    public boolean isEmpty() {
+        return transactions.isEmpty();
+    }
+
+    /**
+     * Number of fees assessed.
+     */
+    public int size() {
+        return transactions.size();
+    }
+}
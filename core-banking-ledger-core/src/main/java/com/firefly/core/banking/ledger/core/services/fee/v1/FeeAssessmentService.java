@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for charging the fees of the fee schedules on new transactions.
+ */
+public interface FeeAssessmentService {
+
+    /**
+     * Evaluate the active fee rules of the transaction's type, line type and currency and add one fee
+     * transaction per rule that charges a positive amount to the assessment. Only the in-memory rule table is
+     * read, so this never touches the database; pending and posted transactions are charged, failed and reversed
+     * ones are not. Fees are written in the status of their source and follow its later status changes through
+     * {@link #propagateStatus}.
+     *
+     * @param assessment the assessment the fees are added to
+     * @param transaction the source transaction, with its ID assigned
+     * @param lineType the transaction line the source carries, null when it has none
+     */
+    void assess(FeeAssessment assessment, Transaction transaction, TransactionLineTypeEnum lineType);
+
+    /**
+     * Write the assessed fees: the fee transactions, their status history, legs and fee lines with multi-row
+     * inserts, followed by the balance projection and the outbox. Joins the caller's database transaction, so
+     * fees are committed together with their source transactions.
+     *
+     * @param assessment the fees to write
+     * @return completes once written; empty assessments write nothing
+     */
+    Mono<Void> write(FeeAssessment assessment);
+
+    /**
+     * Move the fee transactions of the given source transactions to the sources' new status, with their status
+     * history and outbox events, so that e.g. the fee of a pending transaction is posted with it. Joins the
+     * caller's database transaction; every path changing transaction statuses calls it for the changed sources.
+     *
+     * Fees are booked on the booking date of their source, so the sources' booking dates bound the partitions
+     * the fees are looked up in.
+     *
+     * @param sourceTransactionIds the transactions whose status changed
+     * @param sourcesBookedWithin the booking dates of those transactions, null when unknown
+     * @param status their new status
+     * @param reason the reason of the status change
+     * @return the fee transactions whose status changed, for the caller to invalidate once committed
+     */
+    Mono<List<Transaction>> propagateStatus(Collection<UUID> sourceTransactionIds, BookingDateRange sourcesBookedWithin,
+                                            TransactionStatusEnum status, String reason);
+
+    /**
+     * Reload the fee rules from the fee schedules. Rules are swapped atomically, so assessments running
+     * concurrently see either the previous or the new rules.
+     *
+     * @return the number of active rules loaded
+     */
+    Mono<Integer> reloadSchedules();
+}
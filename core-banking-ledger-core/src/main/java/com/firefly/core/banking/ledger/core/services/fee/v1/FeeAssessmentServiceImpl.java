@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusChangeView;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.TransactionLineFee;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.fee.v1.FeeScheduleRepository;
+import com.firefly.core.banking.ledger.models.repositories.fee.v1.TransactionLineFeeRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of the FeeAssessmentService interface.
+ * <p>
+ * The active fee schedules are compiled into a {@link FeeRuleTable}, reloaded by {@link FeeScheduleRefreshScheduler}
+ * and after every change made through the fee schedule service. Until the first load, or when
+ * {@code ledger.fees.enabled} is false, no fee is charged. A fee debits the account of its source transaction
+ * and credits the fee account of its rule; it is written as a FEE transaction in the source's status, related
+ * to the source and part of the same batch, and follows the status changes of the source.
+ */
+@Service
+public class FeeAssessmentServiceImpl implements FeeAssessmentService {
+
+    static final String PROCESSED_BY = "fee-schedule";
+
+    static final String RELATION_TYPE = "FEE";
+
+    private static final String DEBIT = "DEBIT";
+    private static final String CREDIT = "CREDIT";
+
+    @Autowired
+    private FeeScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private TransactionLegRepository legRepository;
+
+    @Autowired
+    private TransactionLineFeeRepository feeLineRepository;
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+
+    @Autowired
+    private AccountBalanceService balanceService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.fees.enabled:true}")
+    private boolean enabled;
+
+    private volatile FeeRuleTable rules = FeeRuleTable.EMPTY;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assess(FeeAssessment assessment, Transaction transaction, TransactionLineTypeEnum lineType) {
+        if (!enabled || !chargeable(transaction.getTransactionStatus())) {
+            return;
+        }
+        FeeRuleTable.Rule[] matching = rules.rules(transaction.getTransactionType(), lineType, transaction.getCurrency());
+        if (matching.length == 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (FeeRuleTable.Rule rule : matching) {
+            BigDecimal fee = rule.fee(transaction.getTotalAmount());
+            if (fee.signum() <= 0) {
+                continue;
+            }
+            Transaction feeTransaction = newTransaction(rule, transaction, fee, now);
+            assessment.transactions.add(feeTransaction);
+            assessment.statusHistories.add(newStatusHistory(feeTransaction, "Fee assessment", now));
+            assessment.legs.add(newLeg(feeTransaction, transaction.getAccountId(), DEBIT));
+            assessment.legs.add(newLeg(feeTransaction, rule.feeAccountId, CREDIT));
+            assessment.feeLines.add(newFeeLine(rule, transaction, feeTransaction, now));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> write(FeeAssessment assessment) {
+        if (assessment.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            List<UUID> transactionIds = new ArrayList<>(assessment.size());
+            Map<UUID, TransactionDTO> createdEvents = new LinkedHashMap<>();
+            for (Transaction transaction : assessment.transactions) {
+                transactionIds.add(transaction.getTransactionId());
+                createdEvents.put(transaction.getTransactionId(), transactionMapper.toDTO(transaction));
+            }
+            return transactionRepository.insertAll(assessment.transactions)
+                    .then(statusHistoryRepository.insertAll(assessment.statusHistories))
+                    .then(legRepository.insertAll(assessment.legs))
+                    .then(feeLineRepository.insertAll(assessment.feeLines))
+                    .then(balanceService.applyLegsOfTransactions(transactionIds))
+                    .then(outboxService.appendAll(OutboxService.AGGREGATE_TRANSACTION, OutboxEventTypeEnum.TRANSACTION_CREATED, createdEvents))
+                    .doOnSuccess(ignored -> record(assessment.size()));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<List<Transaction>> propagateStatus(Collection<UUID> sourceTransactionIds, BookingDateRange sourcesBookedWithin,
+                                                   TransactionStatusEnum status, String reason) {
+        if (sourceTransactionIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return transactionRepository.updateRelatedStatusesReturning(sourceTransactionIds, RELATION_TYPE, status,
+                        sourcesBookedWithin)
+                .collectList()
+                .flatMap(changes -> {
+                    if (changes.isEmpty()) {
+                        return Mono.just(List.<Transaction>of());
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    List<Transaction> feeTransactions = new ArrayList<>(changes.size());
+                    List<TransactionStatusHistory> statusHistories = new ArrayList<>(changes.size());
+                    Map<UUID, Map<String, Object>> statusChangedEvents = new LinkedHashMap<>();
+                    for (TransactionStatusChangeView change : changes) {
+                        Transaction feeTransaction = change.getTransaction();
+                        feeTransactions.add(feeTransaction);
+                        statusHistories.add(newStatusHistory(feeTransaction, reason, now));
+                        statusChangedEvents.put(feeTransaction.getTransactionId(),
+                                statusChangedPayload(feeTransaction, change.getPreviousStatus(), reason));
+                    }
+                    return statusHistoryRepository.insertAll(statusHistories)
+                            .then(outboxService.appendAll(OutboxService.AGGREGATE_TRANSACTION,
+                                    OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED, statusChangedEvents))
+                            .thenReturn(feeTransactions);
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Integer> reloadSchedules() {
+        return scheduleRepository.findByActiveTrue()
+                .collectList()
+                .map(FeeRuleTable::of)
+                .doOnNext(table -> rules = table)
+                .map(FeeRuleTable::size);
+    }
+
+    private static boolean chargeable(TransactionStatusEnum status) {
+        return status == TransactionStatusEnum.PENDING || status == TransactionStatusEnum.POSTED;
+    }
+
+    private Transaction newTransaction(FeeRuleTable.Rule rule, Transaction source, BigDecimal fee, LocalDateTime now) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setTransactionDate(source.getTransactionDate() != null ? source.getTransactionDate() : now);
+        transaction.setValueDate(source.getValueDate());
+        transaction.setBookingDate(source.getBookingDate() != null ? source.getBookingDate() : now);
+        transaction.setTransactionType(TransactionTypeEnum.FEE);
+        transaction.setTransactionStatus(source.getTransactionStatus());
+        transaction.setTotalAmount(fee);
+        transaction.setCurrency(source.getCurrency());
+        transaction.setDescription(rule.feeDescription != null ? rule.feeDescription : rule.feeType + " fee");
+        transaction.setAccountId(source.getAccountId());
+        transaction.setAccountSpaceId(source.getAccountSpaceId());
+        transaction.setRelatedTransactionId(source.getTransactionId());
+        transaction.setRelationType(RELATION_TYPE);
+        transaction.setBatchId(source.getBatchId());
+        return transaction;
+    }
+
+    private TransactionStatusHistory newStatusHistory(Transaction transaction, String reason, LocalDateTime now) {
+        TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+        statusHistory.setTransactionStatusHistoryId(UUID.randomUUID());
+        statusHistory.setTransactionId(transaction.getTransactionId());
+        statusHistory.setStatusCode(transaction.getTransactionStatus());
+        statusHistory.setStatusStartDatetime(now);
+        statusHistory.setReason(reason);
+        statusHistory.setRegulatedReportingFlag(false);
+        return statusHistory;
+    }
+
+    private TransactionLeg newLeg(Transaction transaction, UUID accountId, String legType) {
+        TransactionLeg leg = new TransactionLeg();
+        leg.setTransactionLegId(UUID.randomUUID());
+        leg.setTransactionId(transaction.getTransactionId());
+        leg.setAccountId(accountId);
+        leg.setLegType(legType);
+        leg.setAmount(transaction.getTotalAmount());
+        leg.setCurrency(transaction.getCurrency());
+        leg.setDescription(transaction.getDescription());
+        leg.setValueDate(transaction.getValueDate());
+        leg.setBookingDate(transaction.getBookingDate());
+        return leg;
+    }
+
+    private TransactionLineFee newFeeLine(FeeRuleTable.Rule rule, Transaction source, Transaction transaction, LocalDateTime now) {
+        TransactionLineFee line = new TransactionLineFee();
+        line.setTransactionLineFeeId(UUID.randomUUID());
+        line.setTransactionId(transaction.getTransactionId());
+        line.setFeeType(rule.feeType);
+        line.setFeeDescription(transaction.getDescription());
+        line.setFeeReference(rule.feeScheduleId != null ? rule.feeScheduleId.toString() : null);
+        line.setFeeRelatedTransactionId(source.getTransactionId());
+        line.setFeeRelatedService(source.getTransactionType().name());
+        line.setFeeCalculationMethod(rule.calculationMethod.name());
+        line.setFeeCalculationBase(source.getTotalAmount() != null ? source.getTotalAmount().abs() : null);
+        line.setFeeRatePercentage(rule.ratePercentage);
+        line.setFeeFixedAmount(rule.fixedAmount);
+        line.setFeeCurrency(transaction.getCurrency());
+        line.setFeeWaived(false);
+        line.setFeeTimestamp(now);
+        line.setFeeProcessedBy(PROCESSED_BY);
+        return line;
+    }
+
+    private Map<String, Object> statusChangedPayload(Transaction transaction, TransactionStatusEnum previousStatus, String reason) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("transactionId", transaction.getTransactionId());
+        payload.put("previousStatus", previousStatus);
+        payload.put("newStatus", transaction.getTransactionStatus());
+        payload.put("reason", reason);
+        payload.put("transaction", transactionMapper.toDTO(transaction));
+        return payload;
+    }
+
+    private void record(int count) {
+        if (meterRegistry != null && count > 0) {
+            meterRegistry.counter("ledger.fees.assessed").increment(count);
+        }
+    }
+}
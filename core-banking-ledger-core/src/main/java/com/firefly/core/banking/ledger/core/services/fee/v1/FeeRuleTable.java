@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.core.money.MinorUnits;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.fee.v1.FeeCalculationMethodEnum;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.FeeSchedule;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable index of the active fee rules, compiled from the fee schedules.
+ * <p>
+ * Rules are stored in one slot per transaction type and line type, plus one slot per transaction type for
+ * transactions without a line, each mapping a currency to the rules to apply. A rule without a line type is
+ * copied into every slot of its transaction type, so a lookup is two array reads and one map lookup and
+ * allocates nothing. Everything that only depends on the rule, such as its rate as a fraction, its currency
+ * scale and the amount of fixed fees, is computed once when the table is built.
+ */
+final class FeeRuleTable {
+
+    static final FeeRuleTable EMPTY = new FeeRuleTable(List.of());
+
+    private static final Rule[] NO_RULES = new Rule[0];
+
+    private static final int LINE_SLOTS = TransactionLineTypeEnum.values().length + 1;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final int RATE_SCALE = 10;
+
+    private final Map<String, Rule[]>[] slots;
+
+    private final int size;
+
+    @SuppressWarnings("unchecked")
+    private FeeRuleTable(Collection<FeeSchedule> schedules) {
+        Map<String, List<Rule>>[] building = new Map[TransactionTypeEnum.values().length * LINE_SLOTS];
+        int count = 0;
+        for (FeeSchedule schedule : schedules) {
+            if (schedule.getTransactionType() == null || schedule.getCurrency() == null || Boolean.FALSE.equals(schedule.getActive())) {
+                continue;
+            }
+            Rule rule = new Rule(schedule);
+            int first = schedule.getTransactionType().ordinal() * LINE_SLOTS;
+            if (schedule.getLineType() == null) {
+                for (int slot = first; slot < first + LINE_SLOTS; slot++) {
+                    add(building, slot, rule);
+                }
+            } else {
+                add(building, first + schedule.getLineType().ordinal(), rule);
+            }
+            count++;
+        }
+
+        slots = new Map[building.length];
+        for (int slot = 0; slot < building.length; slot++) {
+            if (building[slot] != null) {
+                Map<String, Rule[]> byCurrency = new HashMap<>();
+                building[slot].forEach((currency, rules) -> byCurrency.put(currency, rules.toArray(NO_RULES)));
+                slots[slot] = byCurrency;
+            }
+        }
+        size = count;
+    }
+
+    /**
+     * Compile the given schedules; inactive schedules are left out.
+     */
+    static FeeRuleTable of(Collection<FeeSchedule> schedules) {
+        return new FeeRuleTable(schedules);
+    }
+
+    /**
+     * Number of rules in the table.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Rules charged on a transaction of the given type, line type (null for a transaction without a line) and
+     * currency, in no particular order. The returned array is shared and must not be modified.
+     */
+    Rule[] rules(TransactionTypeEnum transactionType, TransactionLineTypeEnum lineType, String currency) {
+        if (transactionType == null || currency == null) {
+            return NO_RULES;
+        }
+        int slot = transactionType.ordinal() * LINE_SLOTS + (lineType != null ? lineType.ordinal() : LINE_SLOTS - 1);
+        Map<String, Rule[]> byCurrency = slots[slot];
+        if (byCurrency == null) {
+            return NO_RULES;
+        }
+        // Keys are upper-case ISO codes; only a miss pays for normalizing the currency
+        Rule[] rules = byCurrency.get(currency);
+        if (rules == null) {
+            rules = byCurrency.get(currency.trim().toUpperCase(Locale.ROOT));
+        }
+        return rules != null ? rules : NO_RULES;
+    }
+
+    private static void add(Map<String, List<Rule>>[] building, int slot, Rule rule) {
+        if (building[slot] == null) {
+            building[slot] = new HashMap<>();
+        }
+        building[slot].computeIfAbsent(rule.currency, currency -> new ArrayList<>()).add(rule);
+    }
+
+    /**
+     * A compiled fee rule.
+     */
+    static final class Rule {
+
+        final UUID feeScheduleId;
+        final String feeType;
+        final String feeDescription;
+        final String currency;
+        final FeeCalculationMethodEnum calculationMethod;
+        final BigDecimal ratePercentage;
+        final BigDecimal fixedAmount;
+        final UUID feeAccountId;
+
+        private final BigDecimal rate;
+        private final BigDecimal minimumAmount;
+        private final BigDecimal maximumAmount;
+        private final int scale;
+        private final BigDecimal fixedFee;
+
+        private Rule(FeeSchedule schedule) {
+            feeScheduleId = schedule.getFeeScheduleId();
+            feeType = schedule.getFeeType();
+            feeDescription = schedule.getFeeDescription();
+            currency = schedule.getCurrency().trim().toUpperCase(Locale.ROOT);
+            calculationMethod = schedule.getCalculationMethod() != null ? schedule.getCalculationMethod() : FeeCalculationMethodEnum.FIXED;
+            scale = MinorUnits.of(currency);
+            ratePercentage = calculationMethod != FeeCalculationMethodEnum.FIXED && schedule.getRatePercentage() != null
+                    ? schedule.getRatePercentage()
+                    : BigDecimal.ZERO;
+            fixedAmount = calculationMethod != FeeCalculationMethodEnum.PERCENTAGE && schedule.getFixedAmount() != null
+                    ? schedule.getFixedAmount()
+                    : BigDecimal.ZERO;
+            rate = ratePercentage.divide(HUNDRED, RATE_SCALE, RoundingMode.HALF_EVEN);
+            minimumAmount = schedule.getMinimumAmount();
+            maximumAmount = schedule.getMaximumAmount();
+            feeAccountId = schedule.getFeeAccountId();
+            fixedFee = ratePercentage.signum() == 0 ? bound(fixedAmount) : null;
+        }
+
+        /**
+         * Fee charged on a transaction of the given amount, rounded half up to the currency's minor unit and
+         * bounded by the rule's minimum and maximum; zero when nothing is charged. Fixed fees are computed once,
+         * when the rule is compiled.
+         */
+        BigDecimal fee(BigDecimal amount) {
+            if (fixedFee != null) {
+                return fixedFee;
+            }
+            BigDecimal percentage = amount != null ? amount.abs().multiply(rate) : BigDecimal.ZERO;
+            return bound(fixedAmount.signum() != 0 ? percentage.add(fixedAmount) : percentage);
+        }
+
+        private BigDecimal bound(BigDecimal fee) {
+            BigDecimal bounded = fee;
+            if (minimumAmount != null && bounded.compareTo(minimumAmount) < 0) {
+                bounded = minimumAmount;
+            }
+            if (maximumAmount != null && bounded.compareTo(maximumAmount) > 0) {
+                bounded = maximumAmount;
+            }
+            return bounded.setScale(scale, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Loads the fee rules on startup and reloads them every {@code refresh-interval}, which bounds how long a
+ * change made on another replica takes to be charged here. A failed reload keeps the previous rules.
+ */
+@Component
+public class FeeScheduleRefreshScheduler {
+
+    @Autowired
+    private FeeAssessmentService assessmentService;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Value("${ledger.fees.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.fees.refresh-interval:1m}")
+    private Duration refreshInterval;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        subscription = connectionBudget.withPermit(Mono.defer(this::runOnce))
+                .onErrorResume(e -> Mono.empty())
+                .then(Mono.delay(refreshInterval))
+                .repeat()
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Reload the fee rules.
+     */
+    public Mono<Integer> runOnce() {
+        return assessmentService.reloadSchedules();
+    }
+}
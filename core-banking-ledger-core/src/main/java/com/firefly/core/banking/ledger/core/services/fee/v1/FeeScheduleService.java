@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.fee.v1.FeeScheduleDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+/**
+ * Service interface for the fee schedules charged by the fee engine.
+ */
+public interface FeeScheduleService {
+    /**
+     * Create a fee rule. It is charged on transactions created from then on; other replicas pick it up at
+     * their next refresh.
+     */
+    Mono<FeeScheduleDTO> createFeeSchedule(FeeScheduleDTO scheduleDTO);
+
+    /**
+     * Update a fee rule. Fees already charged are not changed; rules are deactivated by setting active to false.
+     */
+    Mono<FeeScheduleDTO> updateFeeSchedule(UUID feeScheduleId, FeeScheduleDTO scheduleDTO);
+
+    /**
+     * Get a fee rule.
+     */
+    Mono<FeeScheduleDTO> getFeeSchedule(UUID feeScheduleId);
+
+    /**
+     * Get every fee rule, active or not.
+     */
+    Flux<FeeScheduleDTO> getFeeSchedules();
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.fee.v1.FeeScheduleMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.fee.v1.FeeScheduleDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.fee.v1.FeeCalculationMethodEnum;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.FeeSchedule;
+import com.firefly.core.banking.ledger.models.repositories.fee.v1.FeeScheduleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Implementation of the FeeScheduleService interface.
+ * <p>
+ * Every change reloads the fee rules of this replica, so it is charged from the next transaction on.
+ */
+@Service
+public class FeeScheduleServiceImpl implements FeeScheduleService {
+
+    @Autowired
+    private FeeScheduleRepository repository;
+
+    @Autowired
+    private FeeScheduleMapper mapper;
+
+    @Autowired
+    private FeeAssessmentService assessmentService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FeeScheduleDTO> createFeeSchedule(FeeScheduleDTO scheduleDTO) {
+        return Mono.defer(() -> {
+            String error = validate(scheduleDTO);
+            if (error != null) {
+                return Mono.error(new IllegalArgumentException(error));
+            }
+            FeeSchedule schedule = normalize(mapper.toEntity(scheduleDTO));
+            schedule.setFeeScheduleId(null);
+            return repository.save(schedule)
+                    .flatMap(saved -> assessmentService.reloadSchedules().thenReturn(saved))
+                    .map(mapper::toDTO);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FeeScheduleDTO> updateFeeSchedule(UUID feeScheduleId, FeeScheduleDTO scheduleDTO) {
+        return Mono.defer(() -> {
+            String error = validate(scheduleDTO);
+            if (error != null) {
+                return Mono.error(new IllegalArgumentException(error));
+            }
+            return repository.findById(feeScheduleId)
+                    .flatMap(existing -> {
+                        FeeSchedule schedule = normalize(mapper.toEntity(scheduleDTO));
+                        schedule.setFeeScheduleId(existing.getFeeScheduleId());
+                        schedule.setDateCreated(existing.getDateCreated());
+                        return repository.save(schedule);
+                    })
+                    .flatMap(saved -> assessmentService.reloadSchedules().thenReturn(saved))
+                    .map(mapper::toDTO);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FeeScheduleDTO> getFeeSchedule(UUID feeScheduleId) {
+        return repository.findById(feeScheduleId).map(mapper::toDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<FeeScheduleDTO> getFeeSchedules() {
+        return repository.findAll().map(mapper::toDTO);
+    }
+
+    private static FeeSchedule normalize(FeeSchedule schedule) {
+        schedule.setCurrency(schedule.getCurrency().trim().toUpperCase(Locale.ROOT));
+        schedule.setRatePercentage(schedule.getRatePercentage() != null ? schedule.getRatePercentage() : BigDecimal.ZERO);
+        schedule.setFixedAmount(schedule.getFixedAmount() != null ? schedule.getFixedAmount() : BigDecimal.ZERO);
+        schedule.setActive(schedule.getActive() != null ? schedule.getActive() : Boolean.TRUE);
+        return schedule;
+    }
+
+    private String validate(FeeScheduleDTO schedule) {
+        if (schedule == null) {
+            return "Fee schedule is required";
+        }
+        if (schedule.getCurrency() == null || schedule.getCurrency().isBlank()) {
+            return "Currency is required";
+        }
+        FeeCalculationMethodEnum method = schedule.getCalculationMethod();
+        if (method == null) {
+            return "Calculation method is required";
+        }
+        boolean hasRate = schedule.getRatePercentage() != null && schedule.getRatePercentage().signum() > 0;
+        boolean hasFixed = schedule.getFixedAmount() != null && schedule.getFixedAmount().signum() > 0;
+        if (method != FeeCalculationMethodEnum.FIXED && !hasRate) {
+            return "Rate percentage is required for " + method + " fees";
+        }
+        if (method != FeeCalculationMethodEnum.PERCENTAGE && !hasFixed) {
+            return "Fixed amount is required for " + method + " fees";
+        }
+        if (schedule.getMinimumAmount() != null && schedule.getMaximumAmount() != null
+                && schedule.getMinimumAmount().compareTo(schedule.getMaximumAmount()) > 0) {
+            return "Minimum amount cannot exceed maximum amount";
+        }
+        return null;
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.fee.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.fee.v1.TransactionLineFeeMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.fee.v1.TransactionLineFeeDTO;
 import com.firefly.core.banking.ledger.models.entities.fee.v1.TransactionLineFee;
@@ -42,10 +43,13 @@ public class TransactionLineFeeServiceImpl implements TransactionLineFeeService
     @Autowired
     private TransactionLineFeeMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineFeeDTO> getFeeLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineFeeDTO>lines(LedgerReadCaches.LINE_FEE).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Fee not found")));
     }
 
@@ -65,7 +69,8 @@ public class TransactionLineFeeServiceImpl implements TransactionLineFeeService
                     TransactionLineFee updatedEntity = mapper.toEntity(feeDTO);
                     updatedEntity.setTransactionLineFeeId(existingEntity.getTransactionLineFeeId());
                     updatedEntity.setTransactionId(transactionId);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_FEE, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO)
                 .switchIfEmpty(Mono.error(new RuntimeException("Failed to update Transaction Line Fee")));
@@ -74,7 +79,7 @@ public class TransactionLineFeeServiceImpl implements TransactionLineFeeService
     @Override
     public Mono<Void> deleteFeeLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
-                .flatMap(entity -> repository.delete(entity))
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_FEE, transactionId)))
                 .switchIfEmpty(Mono.empty());
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.interest.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.InterestAccrualResultDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Runs the daily interest accrual.
+ * <p>
+ * Each poll accrues every day that has been over for {@code settle-delay}, which leaves in-flight transactions
+ * and the end-of-day balance snapshots time to be written first. Polls with nothing due only cost one claim
+ * query per partition; days missed while the scheduler was down are caught up by the next poll.
+ */
+@Component
+public class InterestAccrualScheduler {
+
+    @Autowired
+    private InterestAccrualService accrualService;
+
+    @Value("${ledger.interest.accrual.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.interest.accrual.poll-interval:15m}")
+    private Duration pollInterval;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        subscription = Mono.defer(this::runOnce)
+                .onErrorResume(e -> Mono.empty())
+                .then(Mono.delay(pollInterval))
+                .repeat()
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Accrue interest through the last settled day.
+     */
+    public Mono<InterestAccrualResultDTO> runOnce() {
+        return accrualService.accrueInterest(accrualService.lastSettledDate());
+    }
+}
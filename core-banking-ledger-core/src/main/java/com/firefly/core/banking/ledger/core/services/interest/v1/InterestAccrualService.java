@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.interest.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.AccountInterestTermsDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.InterestAccrualResultDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+/**
+ * Service interface for account interest terms and the daily interest accrual engine.
+ */
+public interface InterestAccrualService {
+    /**
+     * Create interest terms for an account. Accrual starts on the start date of the terms.
+     */
+    Mono<AccountInterestTermsDTO> createInterestTerms(UUID accountId, AccountInterestTermsDTO termsDTO);
+
+    /**
+     * Update the conditions of interest terms. Changes apply to the days not accrued yet; the next accrual
+     * date and the carried amount are kept.
+     */
+    Mono<AccountInterestTermsDTO> updateInterestTerms(UUID accountId, UUID accountInterestTermsId, AccountInterestTermsDTO termsDTO);
+
+    /**
+     * Get the interest terms of an account, in every currency.
+     */
+    Flux<AccountInterestTermsDTO> getInterestTerms(UUID accountId);
+
+    /**
+     * Accrue interest on every account with interest terms, one day at a time, up to and including the given
+     * date.
+     * <p>
+     * Each day's interest is computed on the account's closing balance of that day (by value date) with the
+     * day count convention of the terms, and posted as an INTEREST transaction with its legs and interest line.
+     * Days missed by earlier runs are accrued one after the other. The run can be repeated safely: accrued days
+     * are never accrued again. Days that are not settled yet cannot be accrued, since their closing balance
+     * may still change.
+     *
+     * @param throughDate The last day to accrue, at most {@link #lastSettledDate()}.
+     * @return The number of days accrued, transactions posted and days that failed.
+     */
+    Mono<InterestAccrualResultDTO> accrueInterest(LocalDate throughDate);
+
+    /**
+     * The last day that has been over for {@code ledger.interest.accrual.settle-delay}, so that its in-flight
+     * transactions and end-of-day balance snapshots are written: the latest day interest can be accrued for.
+     */
+    LocalDate lastSettledDate();
+}
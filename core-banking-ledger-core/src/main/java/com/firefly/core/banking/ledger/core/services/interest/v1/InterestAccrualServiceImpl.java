@@ -0,0 +1,449 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.interest.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.mappers.interest.v1.AccountInterestTermsMapper;
+import com.firefly.core.banking.ledger.core.money.MinorUnits;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.core.workers.ClaimedPages;
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.AccountInterestTermsDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.InterestAccrualResultDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestAccrualTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.AccountInterestTerms;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.InterestAccrualView;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.TransactionLineInterest;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.interest.v1.AccountInterestTermsRepository;
+import com.firefly.core.banking.ledger.models.repositories.interest.v1.TransactionLineInterestRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the InterestAccrualService interface.
+ * <p>
+ * Terms are split into {@code partitions} by a hash of their account ID and the partitions are accrued
+ * concurrently, capped below the R2DBC pool size. Within a partition, due terms are claimed in pages with
+ * {@code FOR UPDATE SKIP LOCKED}, each with the account's end-of-day balance read from the balance snapshots.
+ * A page accrues one day per terms row in one database transaction: the transactions, their legs, status history
+ * and interest lines are written with multi-row inserts, the balance projection and outbox are updated, and the
+ * terms are advanced to their next day with a single statement. Replicas running concurrently skip each other's
+ * pages.
+ * <p>
+ * Interest below the smallest currency unit is carried into the next day instead of being rounded away. A page
+ * that fails is retried terms by terms, and terms that still fail are skipped for the rest of the run.
+ */
+@Service
+public class InterestAccrualServiceImpl implements InterestAccrualService {
+
+    static final String PROCESSED_BY = "interest-accrual";
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final int CARRY_SCALE = 10;
+
+    @Autowired
+    private AccountInterestTermsRepository termsRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private TransactionLegRepository legRepository;
+
+    @Autowired
+    private TransactionLineInterestRepository interestLineRepository;
+
+    @Autowired
+    private AccountInterestTermsMapper termsMapper;
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+
+    @Autowired
+    private AccountBalanceService balanceService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.interest.accrual.page-size:1000}")
+    private int pageSize;
+
+    @Value("${ledger.interest.accrual.partitions:16}")
+    private int partitions;
+
+    @Value("${ledger.interest.accrual.concurrency:8}")
+    private int concurrency;
+
+
+    @Value("${ledger.interest.accrual.settle-delay:15m}")
+    private Duration settleDelay;
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<AccountInterestTermsDTO> createInterestTerms(UUID accountId, AccountInterestTermsDTO termsDTO) {
+        return Mono.defer(() -> {
+            String error = validate(termsDTO);
+            if (error != null) {
+                return Mono.error(new IllegalArgumentException(error));
+            }
+            AccountInterestTerms terms = termsMapper.toEntity(termsDTO);
+            terms.setAccountInterestTermsId(null);
+            terms.setAccountId(accountId);
+            terms.setTaxWithheldRate(terms.getTaxWithheldRate() != null ? terms.getTaxWithheldRate() : BigDecimal.ZERO);
+            terms.setNextAccrualDate(terms.getStartDate());
+            terms.setCarriedAmount(BigDecimal.ZERO);
+            return termsRepository.save(terms).map(termsMapper::toDTO);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<AccountInterestTermsDTO> updateInterestTerms(UUID accountId, UUID accountInterestTermsId,
+                                                             AccountInterestTermsDTO termsDTO) {
+        return Mono.defer(() -> {
+            String error = validate(termsDTO);
+            if (error != null) {
+                return Mono.error(new IllegalArgumentException(error));
+            }
+            return termsRepository.findById(accountInterestTermsId)
+                    .filter(existing -> accountId.equals(existing.getAccountId()))
+                    .flatMap(existing -> {
+                        AccountInterestTerms terms = termsMapper.toEntity(termsDTO);
+                        terms.setAccountInterestTermsId(existing.getAccountInterestTermsId());
+                        terms.setAccountId(accountId);
+                        terms.setTaxWithheldRate(terms.getTaxWithheldRate() != null ? terms.getTaxWithheldRate() : BigDecimal.ZERO);
+                        terms.setNextAccrualDate(existing.getNextAccrualDate());
+                        terms.setCarriedAmount(existing.getCarriedAmount());
+                        terms.setDateCreated(existing.getDateCreated());
+                        return termsRepository.save(terms);
+                    })
+                    .map(termsMapper::toDTO);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<AccountInterestTermsDTO> getInterestTerms(UUID accountId) {
+        return termsRepository.findByAccountId(accountId).map(termsMapper::toDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<InterestAccrualResultDTO> accrueInterest(LocalDate throughDate) {
+        if (throughDate == null) {
+            return Mono.error(new IllegalArgumentException("Through date is required"));
+        }
+        LocalDate lastSettledDate = lastSettledDate();
+        if (throughDate.isAfter(lastSettledDate)) {
+            return Mono.error(new IllegalArgumentException(
+                    "Through date " + throughDate + " is not settled yet; the last settled day is " + lastSettledDate));
+        }
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            Set<UUID> failed = ConcurrentHashMap.newKeySet();
+            return Flux.range(0, partitions)
+                    .flatMap(partition -> connectionBudget.withPermit(Mono.defer(() -> accruePage(throughDate, partition, failed)))
+                            .repeat()
+                            .takeWhile(page -> page.claimed() > 0), effectiveConcurrency())
+                    .reduce(PageResult.EMPTY, PageResult::plus)
+                    .map(total -> InterestAccrualResultDTO.builder()
+                            .throughDate(throughDate)
+                            .accrued((long) total.accrued())
+                            .posted((long) total.posted())
+                            .failed((long) failed.size())
+                            .durationMillis(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                            .build());
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalDate lastSettledDate() {
+        return LocalDateTime.now().minus(settleDelay).toLocalDate().minusDays(1);
+    }
+
+    /**
+     * Number of partitions accrued concurrently: the configured concurrency, capped at the {@link ConnectionBudget} shared
+     * with the other background workers.
+     */
+    int effectiveConcurrency() {
+        return connectionBudget.concurrency(concurrency);
+    }
+
+    /**
+     * Claim and accrue one page of due terms of a partition in a single transaction. If the page fails, its
+     * terms are retried one by one and those that fail again are added to {@code failed}.
+     */
+    Mono<PageResult> accruePage(LocalDate throughDate, int partition, Set<UUID> failed) {
+        return ClaimedPages.process(transactionalOperator,
+                        termsRepository.claimDueTerms(throughDate, partitions, partition, List.copyOf(failed), pageSize),
+                        accrual -> termsRepository.claimDueTerm(accrual.getTerms().getAccountInterestTermsId(), throughDate),
+                        this::accrue,
+                        accrual -> accrual.getTerms().getAccountInterestTermsId(),
+                        failed, PageResult.EMPTY, PageResult::plus)
+                .doOnNext(page -> {
+                    record("accrued", page.result().accrued());
+                    record("failed", page.failed());
+                })
+                .map(page -> new PageResult(page.claimed(), page.result().accrued(), page.result().posted()));
+    }
+
+    private Mono<PageResult> accrue(List<InterestAccrualView> accruals) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> transactions = new ArrayList<>();
+        List<TransactionStatusHistory> statusHistories = new ArrayList<>();
+        List<TransactionLeg> legs = new ArrayList<>();
+        List<TransactionLineInterest> interestLines = new ArrayList<>();
+        Map<UUID, TransactionDTO> createdEvents = new LinkedHashMap<>();
+        List<UUID> termsIds = new ArrayList<>(accruals.size());
+        List<BigDecimal> carriedAmounts = new ArrayList<>(accruals.size());
+
+        for (InterestAccrualView accrual : accruals) {
+            AccountInterestTerms terms = accrual.getTerms();
+            DailyInterest interest = dailyInterest(terms, accrual.getBalance());
+            termsIds.add(terms.getAccountInterestTermsId());
+            carriedAmounts.add(interest.carried());
+            if (interest.gross().signum() == 0) {
+                continue;
+            }
+
+            Transaction transaction = newTransaction(terms, interest, now);
+            transactions.add(transaction);
+            createdEvents.put(transaction.getTransactionId(), transactionMapper.toDTO(transaction));
+            statusHistories.add(newStatusHistory(transaction, now));
+            legs.addAll(newLegs(terms, interest, transaction));
+            interestLines.add(newInterestLine(terms, interest, transaction, now));
+        }
+
+        List<UUID> transactionIds = transactions.stream().map(Transaction::getTransactionId).toList();
+        return transactionRepository.insertAll(transactions)
+                .then(statusHistoryRepository.insertAll(statusHistories))
+                .then(legRepository.insertAll(legs))
+                .then(interestLineRepository.insertAll(interestLines))
+                .then(balanceService.applyLegsOfTransactions(transactionIds))
+                .then(outboxService.appendAll(OutboxService.AGGREGATE_TRANSACTION, OutboxEventTypeEnum.TRANSACTION_CREATED, createdEvents))
+                .then(termsRepository.advanceAccruals(termsIds, carriedAmounts))
+                .thenReturn(new PageResult(accruals.size(), accruals.size(), transactions.size()));
+    }
+
+    /**
+     * Interest of the terms' next accrual day on the given closing balance, plus the amount carried from the
+     * previous days. Credit interest accrues on positive balances and debit interest on negative ones; the
+     * posted amount is rounded down to the currency's minor unit and the remainder carried.
+     */
+    static DailyInterest dailyInterest(AccountInterestTerms terms, BigDecimal balance) {
+        LocalDate day = terms.getNextAccrualDate();
+        int days = InterestDayCount.days(terms.getDayCountConvention(), day, day.plusDays(1));
+        BigDecimal base = terms.getInterestType() == InterestAccrualTypeEnum.CREDIT ? balance : balance.negate();
+        BigDecimal carried = terms.getCarriedAmount() != null ? terms.getCarriedAmount() : BigDecimal.ZERO;
+
+        BigDecimal accrued = base.signum() > 0
+                ? base.multiply(terms.getRatePercentage()).multiply(BigDecimal.valueOf(days))
+                        .divide(HUNDRED.multiply(BigDecimal.valueOf(InterestDayCount.daysInYear(terms.getDayCountConvention()))),
+                                CARRY_SCALE, RoundingMode.HALF_EVEN)
+                : BigDecimal.ZERO;
+        BigDecimal total = accrued.add(carried);
+        int scale = MinorUnits.of(terms.getCurrency());
+        BigDecimal gross = total.setScale(scale, RoundingMode.DOWN);
+
+        BigDecimal taxRate = terms.getInterestType() == InterestAccrualTypeEnum.CREDIT && terms.getTaxWithheldRate() != null
+                ? terms.getTaxWithheldRate()
+                : BigDecimal.ZERO;
+        BigDecimal tax = gross.multiply(taxRate).divide(HUNDRED, scale, RoundingMode.HALF_UP);
+        return new DailyInterest(day, days, base.max(BigDecimal.ZERO), gross, tax, gross.subtract(tax),
+                total.subtract(gross).setScale(CARRY_SCALE, RoundingMode.HALF_EVEN));
+    }
+
+    private String validate(AccountInterestTermsDTO terms) {
+        if (terms == null) {
+            return "Interest terms are required";
+        }
+        if (terms.getEndDate() != null && terms.getStartDate() != null && terms.getEndDate().isBefore(terms.getStartDate())) {
+            return "End date cannot be before start date";
+        }
+        if (terms.getTaxWithheldRate() != null && terms.getTaxWithheldRate().signum() > 0 && terms.getTaxAccountId() == null) {
+            return "Tax account ID is required when tax is withheld";
+        }
+        return null;
+    }
+
+    private Transaction newTransaction(AccountInterestTerms terms, DailyInterest interest, LocalDateTime now) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setTransactionDate(now);
+        // Credited at the start of the next day, so it is part of the next day's balance
+        transaction.setValueDate(interest.day().plusDays(1).atStartOfDay());
+        transaction.setBookingDate(now);
+        transaction.setTransactionType(TransactionTypeEnum.INTEREST);
+        transaction.setTransactionStatus(TransactionStatusEnum.POSTED);
+        transaction.setTotalAmount(interest.gross());
+        transaction.setCurrency(terms.getCurrency());
+        transaction.setDescription(description(terms, interest));
+        transaction.setAccountId(terms.getAccountId());
+        transaction.setRequestId("interest:" + terms.getAccountInterestTermsId() + ":" + interest.day());
+        return transaction;
+    }
+
+    private TransactionStatusHistory newStatusHistory(Transaction transaction, LocalDateTime now) {
+        TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+        statusHistory.setTransactionStatusHistoryId(UUID.randomUUID());
+        statusHistory.setTransactionId(transaction.getTransactionId());
+        statusHistory.setStatusCode(transaction.getTransactionStatus());
+        statusHistory.setStatusStartDatetime(now);
+        statusHistory.setReason("Interest accrual");
+        statusHistory.setRegulatedReportingFlag(false);
+        return statusHistory;
+    }
+
+    /**
+     * Credit interest moves the gross amount out of the interest account, to the customer net of tax and to the
+     * tax account; debit interest moves it from the customer to the interest account.
+     */
+    private List<TransactionLeg> newLegs(AccountInterestTerms terms, DailyInterest interest, Transaction transaction) {
+        List<TransactionLeg> legs = new ArrayList<>(3);
+        if (terms.getInterestType() == InterestAccrualTypeEnum.CREDIT) {
+            legs.add(newLeg(transaction, terms.getInterestAccountId(), "DEBIT", interest.gross()));
+            legs.add(newLeg(transaction, terms.getAccountId(), "CREDIT", interest.net()));
+            if (interest.tax().signum() > 0) {
+                legs.add(newLeg(transaction, terms.getTaxAccountId(), "CREDIT", interest.tax()));
+            }
+        } else {
+            legs.add(newLeg(transaction, terms.getAccountId(), "DEBIT", interest.gross()));
+            legs.add(newLeg(transaction, terms.getInterestAccountId(), "CREDIT", interest.gross()));
+        }
+        return legs;
+    }
+
+    private TransactionLeg newLeg(Transaction transaction, UUID accountId, String legType, BigDecimal amount) {
+        TransactionLeg leg = new TransactionLeg();
+        leg.setTransactionLegId(UUID.randomUUID());
+        leg.setTransactionId(transaction.getTransactionId());
+        leg.setAccountId(accountId);
+        leg.setLegType(legType);
+        leg.setAmount(amount);
+        leg.setCurrency(transaction.getCurrency());
+        leg.setDescription(transaction.getDescription());
+        leg.setValueDate(transaction.getValueDate());
+        leg.setBookingDate(transaction.getBookingDate());
+        return leg;
+    }
+
+    private TransactionLineInterest newInterestLine(AccountInterestTerms terms, DailyInterest interest,
+                                                    Transaction transaction, LocalDateTime now) {
+        TransactionLineInterest line = new TransactionLineInterest();
+        line.setTransactionLineInterestId(UUID.randomUUID());
+        line.setTransactionId(transaction.getTransactionId());
+        line.setInterestType(terms.getInterestType().name());
+        line.setInterestDescription(transaction.getDescription());
+        line.setInterestReference(terms.getAccountInterestTermsId().toString());
+        line.setInterestCalculationMethod(terms.getDayCountConvention().name());
+        line.setInterestCalculationBase(interest.base());
+        line.setInterestRatePercentage(terms.getRatePercentage());
+        line.setInterestAccrualStartDate(interest.day());
+        line.setInterestAccrualEndDate(interest.day());
+        line.setInterestDaysCalculated(interest.days());
+        line.setInterestCurrency(terms.getCurrency());
+        line.setInterestTaxWithheldAmount(interest.tax());
+        line.setInterestTaxWithheldRate(terms.getInterestType() == InterestAccrualTypeEnum.CREDIT ? terms.getTaxWithheldRate() : BigDecimal.ZERO);
+        line.setInterestGrossAmount(interest.gross());
+        line.setInterestNetAmount(interest.net());
+        line.setInterestTimestamp(now);
+        line.setInterestProcessedBy(PROCESSED_BY);
+        return line;
+    }
+
+    private static String description(AccountInterestTerms terms, DailyInterest interest) {
+        return (terms.getInterestType() == InterestAccrualTypeEnum.CREDIT ? "Credit" : "Debit")
+                + " interest for " + interest.day();
+    }
+
+    private void record(String outcome, int count) {
+        if (meterRegistry != null && count > 0) {
+            meterRegistry.counter("ledger.interest.accruals", "outcome", outcome).increment(count);
+        }
+    }
+
+    /**
+     * One day of interest: the posted gross, tax and net amounts (zero when below the minor unit) and the
+     * remainder carried into the next day.
+     */
+    record DailyInterest(LocalDate day, int days, BigDecimal base, BigDecimal gross, BigDecimal tax,
+                         BigDecimal net, BigDecimal carried) {
+    }
+
+    record PageResult(int claimed, int accrued, int posted) {
+        static final PageResult EMPTY = new PageResult(0, 0, 0);
+
+        PageResult plus(PageResult other) {
+            return new PageResult(claimed + other.claimed, accrued + other.accrued, posted + other.posted);
+        }
+    }
+}
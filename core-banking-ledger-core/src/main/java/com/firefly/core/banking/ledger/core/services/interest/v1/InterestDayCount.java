@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.interest.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestDayCountConventionEnum;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Day count conventions used to accrue interest.
+ */
+final class InterestDayCount {
+
+    private InterestDayCount() {
+    }
+
+    /**
+     * Days counted between two dates, start included and end excluded.
+     * <p>
+     * ACT/360 and ACT/365 count calendar days. 30/360 (US bond basis) counts every month as 30 days: a day
+     * ending on the 31st counts 0, and the last day of February counts the days up to the 30th, so every full
+     * month adds up to 30.
+     */
+    static int days(InterestDayCountConventionEnum convention, LocalDate start, LocalDate end) {
+        return switch (convention) {
+            case ACT_360, ACT_365 -> (int) ChronoUnit.DAYS.between(start, end);
+            case THIRTY_360 -> thirty360Days(start, end);
+        };
+    }
+
+    /**
+     * Length of the year the counted days are divided by.
+     */
+    static int daysInYear(InterestDayCountConventionEnum convention) {
+        return switch (convention) {
+            case ACT_360, THIRTY_360 -> 360;
+            case ACT_365 -> 365;
+        };
+    }
+
+    private static int thirty360Days(LocalDate start, LocalDate end) {
+        int startDay = Math.min(start.getDayOfMonth(), 30);
+        int endDay = startDay == 30 ? Math.min(end.getDayOfMonth(), 30) : end.getDayOfMonth();
+        return 360 * (end.getYear() - start.getYear())
+                + 30 * (end.getMonthValue() - start.getMonthValue())
+                + endDay - startDay;
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.interest.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.interest.v1.TransactionLineInterestMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.TransactionLineInterestDTO;
 import com.firefly.core.banking.ledger.models.entities.interest.v1.TransactionLineInterest;
@@ -42,10 +43,13 @@ public class TransactionLineInterestServiceImpl implements TransactionLineIntere
     @Autowired
     private TransactionLineInterestMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineInterestDTO> getInterestLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineInterestDTO>lines(LedgerReadCaches.LINE_INTEREST).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Interest not found")));
     }
 
@@ -65,7 +69,8 @@ public class TransactionLineInterestServiceImpl implements TransactionLineIntere
                     TransactionLineInterest updatedEntity = mapper.toEntity(interestDTO);
                     updatedEntity.setTransactionLineInterestId(existingEntity.getTransactionLineInterestId());
                     updatedEntity.setTransactionId(transactionId);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_INTEREST, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO)
                 .switchIfEmpty(Mono.error(new RuntimeException("Failed to update Transaction Line Interest")));
@@ -74,7 +79,7 @@ public class TransactionLineInterestServiceImpl implements TransactionLineIntere
     @Override
     public Mono<Void> deleteInterestLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
-                .flatMap(entity -> repository.delete(entity))
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_INTEREST, transactionId)))
                 .switchIfEmpty(Mono.empty());
     }
 }
@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.leg.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.ledger.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
 import reactor.core.publisher.Mono;
 
@@ -80,4 +81,25 @@ public interface TransactionLegService {
             LocalDateTime endDate, 
             PaginationRequest paginationRequest
     );
+
+    /**
+     * List legs for a specific account using keyset (cursor) pagination,
+     * ordered by booking date (newest first). Legs without a booking date are not listed.
+     *
+     * @param accountId The ID of the account.
+     * @param startDate Optional start of the booking date range.
+     * @param endDate Optional end of the booking date range.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size The page size.
+     * @param includeCount Whether to compute the total number of matching legs.
+     * @return A page of transaction legs with the cursor of the next page.
+     */
+    Mono<CursorPageResponse<TransactionLegDTO>> listAccountLegsByCursor(
+            UUID accountId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String cursor,
+            int size,
+            boolean includeCount
+    );
 }
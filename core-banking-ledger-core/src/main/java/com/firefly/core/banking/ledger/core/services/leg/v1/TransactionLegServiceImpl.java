@@ -21,6 +21,10 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapper;
+import com.firefly.core.banking.ledger.core.queries.KeysetCursor;
+import com.firefly.core.banking.ledger.core.queries.KeysetPaginationUtils;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
 import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
 import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
@@ -45,12 +49,21 @@ public class TransactionLegServiceImpl implements TransactionLegService {
     @Autowired
     private TransactionLegMapper mapper;
 
+    @Autowired
+    private AccountBalanceService balanceService;
+
     @Override
     public Mono<TransactionLegDTO> createTransactionLeg(UUID transactionId, TransactionLegDTO legDTO) {
         legDTO.setTransactionId(transactionId);
         TransactionLeg entity = mapper.toEntity(legDTO);
+        // The leg table is partitioned by booking date
+        if (entity.getBookingDate() == null) {
+            entity.setBookingDate(LocalDateTime.now());
+        }
+        // The balance projection is updated within the same transaction as the leg insert
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(savedLeg -> balanceService.applyLeg(savedLeg).thenReturn(savedLeg));
     }
 
     @Override
@@ -94,4 +107,26 @@ public class TransactionLegServiceImpl implements TransactionLegService {
                 () -> repository.countByAccountIdAndBookingDateBetween(accountId, startDate, endDate)
         );
     }
+
+    @Override
+    public Mono<CursorPageResponse<TransactionLegDTO>> listAccountLegsByCursor(
+            UUID accountId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String cursor,
+            int size,
+            boolean includeCount
+    ) {
+        LocalDateTime from = startDate != null ? startDate : KeysetPaginationUtils.MIN_BOOKING_DATE;
+        LocalDateTime to = endDate != null ? endDate : KeysetPaginationUtils.MAX_BOOKING_DATE;
+        return KeysetPaginationUtils.paginateQuery(
+                cursor,
+                size,
+                limit -> repository.findAccountLegsFirstPage(accountId, from, to, limit),
+                (position, limit) -> repository.findAccountLegsAfter(accountId, from, to, position.bookingDate(), position.id(), limit),
+                leg -> new KeysetCursor(leg.getBookingDate(), leg.getTransactionLegId()),
+                mapper::toDTO,
+                includeCount ? () -> repository.countByAccountIdAndBookingDateBetween(accountId, from, to) : null
+        );
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.models.repositories.outbox.v1.EventOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Deletes published outbox events once they are older than {@code ledger.outbox.cleanup.retention}.
+ * <p>
+ * Every transaction write appends to {@code event_outbox}, so without cleanup the table grows with the ledger.
+ * Events are deleted {@code batch-size} at a time, each batch in its own statement, until a batch comes back
+ * short. Pending and dead-lettered events are kept: they have not been delivered yet. Deleted events are counted
+ * by {@code ledger.outbox.deleted}.
+ */
+@Component
+public class OutboxCleanupScheduler {
+
+    @Autowired
+    private EventOutboxRepository repository;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.outbox.cleanup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.outbox.cleanup.retention:7d}")
+    private Duration retention;
+
+    @Value("${ledger.outbox.cleanup.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${ledger.outbox.cleanup.poll-interval:1h}")
+    private Duration pollInterval;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        subscription = connectionBudget.withPermit(Mono.defer(this::runOnce))
+                .onErrorResume(e -> Mono.just(0L))
+                .then(Mono.delay(pollInterval))
+                .repeat()
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Delete the published events past retention.
+     *
+     * @return the number of deleted events
+     */
+    public Mono<Long> runOnce() {
+        double retentionSeconds = retention.toMillis() / 1000.0;
+        return repository.deleteProcessed(retentionSeconds, batchSize)
+                .expand(deleted -> deleted >= batchSize
+                        ? repository.deleteProcessed(retentionSeconds, batchSize)
+                        : Mono.empty())
+                .reduce(0L, Long::sum)
+                .doOnNext(deleted -> {
+                    if (meterRegistry != null && deleted > 0) {
+                        meterRegistry.counter("ledger.outbox.deleted").increment(deleted);
+                    }
+                });
+    }
+}
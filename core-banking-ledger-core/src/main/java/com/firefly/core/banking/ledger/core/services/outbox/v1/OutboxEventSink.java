@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.outbox.v1.OutboxEventDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Destination of the events drained from the outbox by the {@link OutboxRelay}.
+ * <p>
+ * Implementations are provided as Spring beans (e.g. a message broker publisher). Delivery is
+ * at-least-once: an event whose publication succeeded may be published again if the relay fails
+ * to mark it processed, so consumers should deduplicate on the event ID.
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Publish a single event. The returned Mono must only complete once the event is durably accepted.
+     *
+     * @param event the event to publish
+     * @return a Mono completing on success or failing with the publication error
+     */
+    Mono<Void> publish(OutboxEventDTO event);
+}
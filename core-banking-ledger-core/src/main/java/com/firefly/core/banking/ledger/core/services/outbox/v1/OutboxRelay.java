@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.outbox.v1.EventOutboxMapper;
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import com.firefly.core.banking.ledger.models.repositories.outbox.v1.EventOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the transactional outbox into the configured {@link OutboxEventSink}.
+ * <p>
+ * Each iteration claims a batch of due events with {@code FOR UPDATE SKIP LOCKED} and a lease, publishes
+ * them (sequentially per aggregate, concurrently across aggregates), marks the published ones processed in
+ * one statement and schedules the failed ones for a retry with exponential backoff on {@code retry_count}.
+ * A full batch is followed immediately by the next one; otherwise the relay waits for the poll interval.
+ * <p>
+ * Claims are serialized across replicas and skip events with an older pending event of the same aggregate
+ * in backoff, so the events of an aggregate are published in append order. An event that fails
+ * {@code max-retries} times is dead-lettered ({@code ledger.outbox.dead-lettered} metric) and stops
+ * blocking its aggregate.
+ * <p>
+ * The relay only starts when an {@link OutboxEventSink} bean exists, so events are never marked processed
+ * without having been delivered somewhere. Without one, events are still appended and stay pending for
+ * another process to relay.
+ */
+@Component
+public class OutboxRelay {
+
+    @Autowired
+    private EventOutboxRepository repository;
+
+    @Autowired
+    private EventOutboxMapper mapper;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired(required = false)
+    private OutboxEventSink sink;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${ledger.outbox.relay.concurrency:16}")
+    private int concurrency;
+
+    @Value("${ledger.outbox.relay.poll-interval:500ms}")
+    private Duration pollInterval;
+
+    @Value("${ledger.outbox.relay.lease:60s}")
+    private Duration lease;
+
+    @Value("${ledger.outbox.relay.max-retries:10}")
+    private int maxRetries;
+
+    @Value("${ledger.outbox.relay.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${ledger.outbox.relay.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || sink == null || subscription != null) {
+            return;
+        }
+        // Park events that are already past max-retries, e.g. after it was lowered
+        Mono<Long> deadLetterExhausted = connectionBudget.withPermit(repository.deadLetterExhausted(maxRetries))
+                .doOnNext(this::recordDeadLettered)
+                .onErrorResume(e -> Mono.just(0L));
+        Flux<Integer> relay = connectionBudget.withPermit(Mono.defer(this::relayBatch))
+                .onErrorResume(e -> Mono.just(0))
+                .flatMap(published -> published >= batchSize
+                        ? Mono.just(published)
+                        : Mono.delay(pollInterval).thenReturn(published))
+                .repeat();
+        subscription = deadLetterExhausted.thenMany(relay).subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Claim, publish and acknowledge one batch of due events.
+     *
+     * @return the number of claimed events
+     */
+    public Mono<Integer> relayBatch() {
+        Mono<List<EventOutbox>> claim = repository.lockClaims()
+                .thenMany(repository.claimBatch(batchSize, lease.toMillis() / 1000.0))
+                .collectList();
+        return transactionalOperator.transactional(claim)
+                .flatMap(events -> events.isEmpty()
+                        ? Mono.just(0)
+                        : publishAll(events).thenReturn(events.size()));
+    }
+
+    private Mono<Void> publishAll(List<EventOutbox> events) {
+        Map<String, List<EventOutbox>> eventsByAggregate = events.stream()
+                .sorted(Comparator.comparing(EventOutbox::getSequenceNumber, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.groupingBy(event -> event.getAggregateType() + ':' + event.getAggregateId(),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        return Flux.fromIterable(eventsByAggregate.values())
+                // Stop at the first failure of an aggregate so its later events are not published ahead of it;
+                // they are released and claimed again after the failed one
+                .flatMap(aggregateEvents -> Flux.fromIterable(aggregateEvents)
+                        .concatMap(this::publish)
+                        .takeUntil(result -> result.error() != null), concurrency)
+                .collectList()
+                .flatMap(results -> {
+                    List<UUID> published = results.stream()
+                            .filter(result -> result.error() == null)
+                            .map(result -> result.event().getEventId())
+                            .toList();
+                    Set<UUID> attempted = results.stream()
+                            .map(result -> result.event().getEventId())
+                            .collect(Collectors.toSet());
+                    List<UUID> heldBack = events.stream()
+                            .map(EventOutbox::getEventId)
+                            .filter(eventId -> !attempted.contains(eventId))
+                            .toList();
+                    Mono<Long> acknowledge = published.isEmpty() ? Mono.just(0L) : repository.markProcessed(published);
+                    Mono<Long> release = heldBack.isEmpty() ? Mono.just(0L) : repository.release(heldBack);
+                    return acknowledge
+                            .thenMany(Flux.fromIterable(results)
+                                    .filter(result -> result.error() != null)
+                                    .concatMap(this::fail))
+                            .then(release)
+                            .then();
+                });
+    }
+
+    private Mono<PublishResult> publish(EventOutbox event) {
+        return Mono.defer(() -> sink.publish(mapper.toDTO(event)))
+                .thenReturn(new PublishResult(event, null))
+                .onErrorResume(error -> Mono.just(new PublishResult(event, error)));
+    }
+
+    private Mono<Long> fail(PublishResult result) {
+        EventOutbox event = result.event();
+        String message = result.error().getMessage();
+        int retries = event.getRetryCount() != null ? event.getRetryCount() : 0;
+        if (retries + 1 >= maxRetries) {
+            return repository.markDeadLettered(event.getEventId(), message)
+                    .doOnNext(this::recordDeadLettered);
+        }
+        return repository.markFailed(event.getEventId(), message, backoffSeconds(event));
+    }
+
+    private void recordDeadLettered(long count) {
+        if (meterRegistry != null && count > 0) {
+            meterRegistry.counter("ledger.outbox.dead-lettered").increment(count);
+        }
+    }
+
+    private double backoffSeconds(EventOutbox event) {
+        int retries = event.getRetryCount() != null ? event.getRetryCount() : 0;
+        long backoffMillis = initialBackoff.toMillis() << Math.min(retries, 20);
+        return Math.min(backoffMillis, maxBackoff.toMillis()) / 1000.0;
+    }
+
+    private record PublishResult(EventOutbox event, Throwable error) {
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service interface for appending domain events to the transactional outbox.
+ * Events must be appended within the database transaction of the change they describe,
+ * so that either both are committed or neither is.
+ */
+public interface OutboxService {
+
+    /**
+     * Aggregate type of transaction events.
+     */
+    String AGGREGATE_TRANSACTION = "TRANSACTION";
+
+    /**
+     * Append a single event to the outbox.
+     *
+     * @param aggregateType The type of the aggregate the event belongs to.
+     * @param aggregateId The ID of the aggregate.
+     * @param eventType The type of the event.
+     * @param payload The event payload, serialized as JSON.
+     * @return A Mono completing once the event is written.
+     */
+    Mono<Void> append(String aggregateType, UUID aggregateId, OutboxEventTypeEnum eventType, Object payload);
+
+    /**
+     * Append one event per aggregate with a single multi-row insert.
+     *
+     * @param aggregateType The type of the aggregates the events belong to.
+     * @param eventType The type of the events.
+     * @param payloads The event payloads keyed by aggregate ID.
+     * @return A Mono completing once the events are written.
+     */
+    Mono<Void> appendAll(String aggregateType, OutboxEventTypeEnum eventType, Map<UUID, ?> payloads);
+}
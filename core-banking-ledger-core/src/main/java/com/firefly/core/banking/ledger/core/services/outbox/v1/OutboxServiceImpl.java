@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import com.firefly.core.banking.ledger.models.repositories.outbox.v1.EventOutboxRepository;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of the OutboxService interface.
+ * <p>
+ * Events are always appended in the caller's transaction, whether or not this application relays them: the
+ * {@link OutboxRelay} drains the table when an {@link OutboxEventSink} bean exists, otherwise another process
+ * is expected to. Published events are removed by the {@link OutboxCleanupScheduler} after their retention.
+ */
+@Service
+@Transactional
+public class OutboxServiceImpl implements OutboxService {
+
+    @Autowired
+    private EventOutboxRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> append(String aggregateType, UUID aggregateId, OutboxEventTypeEnum eventType, Object payload) {
+        return appendAll(aggregateType, eventType, Collections.singletonMap(aggregateId, payload));
+    }
+
+    @Override
+    public Mono<Void> appendAll(String aggregateType, OutboxEventTypeEnum eventType, Map<UUID, ?> payloads) {
+        if (payloads.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    List<EventOutbox> events = new ArrayList<>(payloads.size());
+                    for (Map.Entry<UUID, ?> entry : payloads.entrySet()) {
+                        EventOutbox event = new EventOutbox();
+                        event.setEventId(UUID.randomUUID());
+                        event.setAggregateType(aggregateType);
+                        event.setAggregateId(entry.getKey().toString());
+                        event.setEventType(eventType.name());
+                        event.setPayload(Json.of(serialize(entry.getValue())));
+                        events.add(event);
+                    }
+                    return events;
+                })
+                .flatMap(repository::insertAll)
+                .then();
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize outbox event payload", e);
+        }
+    }
+}
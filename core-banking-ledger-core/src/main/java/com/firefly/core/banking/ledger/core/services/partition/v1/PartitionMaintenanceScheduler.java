@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.partition.v1;
+
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.models.repositories.partition.v1.LedgerPartitionRepository;
+import com.firefly.core.banking.ledger.models.repositories.partition.v1.LedgerPartitionRepository.Partition;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the monthly {@code booking_date} partitions of {@code transaction} and {@code transaction_leg} in shape.
+ * <p>
+ * Each run creates the partitions of the current month and the next {@code premake-months}, so inserts never
+ * find their month missing, and, when {@code retention-months} is set, detaches the months whose whole range
+ * is older than that many months. Detached partitions stay in the database as standalone tables, to be archived
+ * or dropped outside of the ledger; queries on the partitioned tables no longer see them.
+ * <p>
+ * A month of {@code transaction} is detached together with the same month of {@code transaction_leg}, legs first,
+ * and only while nothing else references its transactions: the reference triggers do not fire on a detach, so
+ * status history, transaction lines, attachments, legs booked in another month and related transactions have to
+ * be archived first. Such a month is skipped and counted ({@code outcome=blocked}). References written while the
+ * month was being detached are checked again afterwards, and the month is attached back if there are any. Once
+ * detached, the request IDs and external references of its transactions are released.
+ * <p>
+ * Creation is serialized across replicas by the database. A partition that fails to detach is retried on the
+ * next run. A failed run is counted ({@code ledger.partitions.maintenance} with {@code outcome=error}) and
+ * {@code ledger.partitions.maintenance.last-success} holds the epoch second of the last successful run: without
+ * a default partition, inserts fail once the premade months run out, so alert on either well before that.
+ */
+@Component
+public class PartitionMaintenanceScheduler {
+
+    private static final String TRANSACTION = "transaction";
+    private static final String TRANSACTION_LEG = "transaction_leg";
+
+    @Autowired
+    private LedgerPartitionRepository repository;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.partitions.maintenance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.partitions.maintenance.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${ledger.partitions.maintenance.retention-months:0}")
+    private int retentionMonths;
+
+    @Value("${ledger.partitions.maintenance.poll-interval:6h}")
+    private Duration pollInterval;
+
+    private final AtomicLong lastSuccess = new AtomicLong();
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        if (meterRegistry != null) {
+            meterRegistry.gauge("ledger.partitions.maintenance.last-success", lastSuccess);
+        }
+        subscription = connectionBudget.withPermit(Mono.defer(() -> maintain(LocalDate.now())))
+                .then(Mono.delay(pollInterval))
+                .repeat()
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Run {@link #runOnce(LocalDate)}, recording its success or failure instead of propagating errors.
+     *
+     * @return the number of partitions created or detached, 0 when the run failed
+     */
+    public Mono<Integer> maintain(LocalDate today) {
+        return runOnce(today)
+                .doOnNext(changed -> lastSuccess.set(Instant.now().getEpochSecond()))
+                .onErrorResume(error -> {
+                    record("error", 1);
+                    return Mono.just(0);
+                });
+    }
+
+    /**
+     * Create the partitions needed up to {@code premake-months} after the month of {@code today} and detach
+     * the months past retention.
+     *
+     * @return the number of partitions created or detached
+     */
+    public Mono<Integer> runOnce(LocalDate today) {
+        LocalDate currentMonth = today.withDayOfMonth(1);
+        Mono<Integer> created = repository.findPartitionedTables()
+                .concatMap(table -> repository.createMonthlyPartitions(table, currentMonth.plusMonths(premakeMonths))
+                        .doOnNext(count -> record("created", count)))
+                .reduce(0, Integer::sum);
+        if (retentionMonths <= 0) {
+            return created;
+        }
+        return created.flatMap(count -> detachExpired(currentMonth.minusMonths(retentionMonths).atStartOfDay())
+                .map(detached -> count + detached));
+    }
+
+    /**
+     * Detach, oldest first, the months of {@code transaction} and {@code transaction_leg} whose range ends at or
+     * before {@code cutoff}.
+     *
+     * @return the number of partitions detached
+     */
+    private Mono<Integer> detachExpired(LocalDateTime cutoff) {
+        return repository.findPartitions(TRANSACTION_LEG)
+                .collectMap(Partition::upperBound)
+                .flatMap(legPartitions -> repository.findPartitions(TRANSACTION)
+                        .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(cutoff))
+                        .concatMap(partition -> detachMonth(partition, legPartitions.get(partition.upperBound()))
+                                .onErrorResume(error -> {
+                                    record("failed", 1);
+                                    return Mono.just(0);
+                                }))
+                        .reduce(0, Integer::sum))
+                .doOnNext(detached -> record("detached", detached));
+    }
+
+    /**
+     * Detach a month of transactions and its legs, unless their transactions are still referenced.
+     *
+     * @param legs the partition of {@code transaction_leg} with the same range, null when there is none
+     * @return the number of partitions detached
+     */
+    private Mono<Integer> detachMonth(Partition transactions, Partition legs) {
+        String legName = legs != null ? legs.name() : null;
+        return repository.findTransactionReference(transactions.name(), legName)
+                .map(reference -> {
+                    record("blocked", 1);
+                    return 0;
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    Mono<Void> detachLegs = legs != null
+                            ? Mono.defer(() -> repository.detachPartition(TRANSACTION_LEG, legs.name()))
+                            : Mono.empty();
+                    Mono<Void> attachLegs = legs != null
+                            ? Mono.defer(() -> repository.attachPartition(TRANSACTION_LEG, legs.name(), legs.bound()))
+                            : Mono.empty();
+                    return detachLegs
+                            .then(Mono.defer(() -> repository.detachPartition(TRANSACTION, transactions.name()))
+                                    .onErrorResume(error -> attachLegs.then(Mono.error(error))))
+                            // References written while the month was being detached
+                            .then(Mono.defer(() -> repository.findTransactionReference(transactions.name(), legName)))
+                            .flatMap(reference -> repository.attachPartition(TRANSACTION, transactions.name(), transactions.bound())
+                                    .then(attachLegs)
+                                    .then(Mono.fromSupplier(() -> {
+                                        record("blocked", 1);
+                                        return 0;
+                                    })))
+                            .switchIfEmpty(Mono.defer(() -> repository.purgeTransactionKeys(transactions.name())
+                                    .thenReturn(legs != null ? 2 : 1)));
+                }));
+    }
+
+    private void record(String outcome, int count) {
+        if (meterRegistry != null && count > 0) {
+            meterRegistry.counter("ledger.partitions.maintenance", "outcome", outcome).increment(count);
+        }
+    }
+}
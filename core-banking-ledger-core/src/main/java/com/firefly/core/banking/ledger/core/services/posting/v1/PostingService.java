@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.posting.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.posting.v1.PostingDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for atomic double-entry postings.
+ */
+public interface PostingService {
+
+    /**
+     * Create a transaction together with its legs, its initial status history and an optional transaction line.
+     * Debits and credits are checked to balance per currency before anything is written; the transaction, status
+     * history and legs are then written with multi-row inserts, the balance projection is updated and the line is
+     * created, all in one database transaction. Fees of the fee schedules matching the transaction type, line
+     * and currency are posted as FEE transactions in the same database transaction.
+     * When the request ID of the transaction was already used, nothing is written and the original transaction
+     * and legs are returned.
+     *
+     * @param posting the posting to create
+     * @return the created posting, with the generated transaction, leg and line IDs;
+     *         an {@link IllegalArgumentException} when the posting is incomplete or unbalanced
+     */
+    Mono<PostingDTO> createPosting(PostingDTO posting);
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.posting.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapper;
+import com.firefly.core.banking.ledger.core.services.ach.v1.TransactionLineAchService;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.card.v1.TransactionLineCardService;
+import com.firefly.core.banking.ledger.core.services.deposit.v1.TransactionLineDepositService;
+import com.firefly.core.banking.ledger.core.services.directdebit.v1.TransactionLineDirectDebitService;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessment;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.fee.v1.TransactionLineFeeService;
+import com.firefly.core.banking.ledger.core.services.interest.v1.TransactionLineInterestService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.core.services.sepa.v1.TransactionLineSepaTransferService;
+import com.firefly.core.banking.ledger.core.services.standingorder.v1.TransactionLineStandingOrderService;
+import com.firefly.core.banking.ledger.core.services.transfer.v1.TransactionLineTransferService;
+import com.firefly.core.banking.ledger.core.services.wire.v1.TransactionLineWireTransferService;
+import com.firefly.core.banking.ledger.core.services.withdrawal.v1.TransactionLineWithdrawalService;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.posting.v1.PostingDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the PostingService interface.
+ * <p>
+ * Validation happens entirely in memory, so an unbalanced posting is rejected without touching the database.
+ * The line is created through its line service, which joins the transaction opened by the
+ * {@link TransactionalOperator}. Fees of the fee schedules are assessed in memory as well and written in the
+ * same database transaction as the posting.
+ */
+@Service
+public class PostingServiceImpl implements PostingService {
+
+    private static final String DEBIT = "DEBIT";
+    private static final String CREDIT = "CREDIT";
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private TransactionLegRepository legRepository;
+
+    @Autowired
+    private TransactionMapper mapper;
+
+    @Autowired
+    private TransactionLegMapper legMapper;
+
+    @Autowired
+    private AccountBalanceService balanceService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private TransactionLineCardService cardLineService;
+
+    @Autowired
+    private TransactionLineWireTransferService wireTransferLineService;
+
+    @Autowired
+    private TransactionLineSepaTransferService sepaTransferLineService;
+
+    @Autowired
+    private TransactionLineDirectDebitService directDebitLineService;
+
+    @Autowired
+    private TransactionLineDepositService depositLineService;
+
+    @Autowired
+    private TransactionLineWithdrawalService withdrawalLineService;
+
+    @Autowired
+    private TransactionLineTransferService transferLineService;
+
+    @Autowired
+    private TransactionLineFeeService feeLineService;
+
+    @Autowired
+    private TransactionLineInterestService interestLineService;
+
+    @Autowired
+    private TransactionLineStandingOrderService standingOrderLineService;
+
+    @Autowired
+    private TransactionLineAchService achLineService;
+
+    @Autowired
+    private FeeAssessmentService feeAssessmentService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PostingDTO> createPosting(PostingDTO posting) {
+        return Mono.defer(() -> {
+            String error = validate(posting);
+            if (error != null) {
+                return Mono.error(new IllegalArgumentException(error));
+            }
+
+            Transaction transaction = mapper.toEntity(posting.getTransaction());
+            transaction.setTransactionId(UUID.randomUUID());
+            if (transaction.getBookingDate() == null) {
+                transaction.setBookingDate(LocalDateTime.now());
+            }
+            UUID transactionId = transaction.getTransactionId();
+
+            TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+            statusHistory.setTransactionStatusHistoryId(UUID.randomUUID());
+            statusHistory.setTransactionId(transactionId);
+            statusHistory.setStatusCode(transaction.getTransactionStatus());
+            statusHistory.setStatusStartDatetime(LocalDateTime.now());
+            statusHistory.setReason("Initial transaction creation");
+            statusHistory.setRegulatedReportingFlag(false);
+
+            List<TransactionLeg> legs = new ArrayList<>(posting.getLegs().size());
+            for (TransactionLegDTO legDTO : posting.getLegs()) {
+                TransactionLeg leg = legMapper.toEntity(legDTO);
+                leg.setTransactionLegId(UUID.randomUUID());
+                leg.setTransactionId(transactionId);
+                if (leg.getValueDate() == null) {
+                    leg.setValueDate(transaction.getValueDate());
+                }
+                if (leg.getBookingDate() == null) {
+                    leg.setBookingDate(transaction.getBookingDate());
+                }
+                legs.add(leg);
+            }
+
+            TransactionDTO createdTransaction = mapper.toDTO(transaction);
+            PostingDTO created = PostingDTO.builder()
+                    .transaction(createdTransaction)
+                    .legs(legs.stream().map(legMapper::toDTO).toList())
+                    .build();
+
+            FeeAssessment fees = new FeeAssessment();
+            feeAssessmentService.assess(fees, transaction, lineType(posting));
+
+            // A posting whose request ID was already used is not written again; the original is returned instead
+            Mono<PostingDTO> write = repository.insertAllIfAbsent(List.of(transaction))
+                    .next()
+                    .flatMap(inserted -> statusHistoryRepository.insertAll(List.of(statusHistory))
+                            .then(legRepository.insertAll(legs))
+                            .then(balanceService.applyLegsOfTransactions(List.of(transactionId)))
+                            .then(createLine(posting, transactionId, created))
+                            .then(feeAssessmentService.write(fees))
+                            .then(outboxService.append(OutboxService.AGGREGATE_TRANSACTION, transactionId,
+                                    OutboxEventTypeEnum.TRANSACTION_CREATED, createdTransaction))
+                            .thenReturn(created))
+                    .switchIfEmpty(Mono.defer(() -> findOriginal(transaction.getRequestId())));
+            return transactionalOperator.transactional(write);
+        });
+    }
+
+    private Mono<PostingDTO> findOriginal(String requestId) {
+        return repository.findByRequestId(requestId)
+                .flatMap(original -> legRepository.findByTransactionIdIn(List.of(original.getTransactionId()))
+                        .map(legMapper::toDTO)
+                        .collectList()
+                        .map(originalLegs -> PostingDTO.builder()
+                                .transaction(mapper.toDTO(original))
+                                .legs(originalLegs)
+                                .build()));
+    }
+
+    private Mono<Void> createLine(PostingDTO posting, UUID transactionId, PostingDTO created) {
+        if (posting.getCard() != null) {
+            return cardLineService.createCardLine(transactionId, posting.getCard()).doOnNext(created::setCard).then();
+        }
+        if (posting.getWireTransfer() != null) {
+            return wireTransferLineService.createWireTransferLine(transactionId, posting.getWireTransfer()).doOnNext(created::setWireTransfer).then();
+        }
+        if (posting.getSepaTransfer() != null) {
+            return sepaTransferLineService.createSepaTransferLine(transactionId, posting.getSepaTransfer()).doOnNext(created::setSepaTransfer).then();
+        }
+        if (posting.getDirectDebit() != null) {
+            return directDebitLineService.createDirectDebitLine(transactionId, posting.getDirectDebit()).doOnNext(created::setDirectDebit).then();
+        }
+        if (posting.getDeposit() != null) {
+            return depositLineService.createDepositLine(transactionId, posting.getDeposit()).doOnNext(created::setDeposit).then();
+        }
+        if (posting.getWithdrawal() != null) {
+            return withdrawalLineService.createWithdrawalLine(transactionId, posting.getWithdrawal()).doOnNext(created::setWithdrawal).then();
+        }
+        if (posting.getTransfer() != null) {
+            return transferLineService.createTransferLine(transactionId, posting.getTransfer()).doOnNext(created::setTransfer).then();
+        }
+        if (posting.getFee() != null) {
+            return feeLineService.createFeeLine(transactionId, posting.getFee()).doOnNext(created::setFee).then();
+        }
+        if (posting.getInterest() != null) {
+            return interestLineService.createInterestLine(transactionId, posting.getInterest()).doOnNext(created::setInterest).then();
+        }
+        if (posting.getStandingOrder() != null) {
+            return standingOrderLineService.createStandingOrderLine(transactionId, posting.getStandingOrder()).doOnNext(created::setStandingOrder).then();
+        }
+        if (posting.getAch() != null) {
+            return achLineService.createAchLine(transactionId, posting.getAch()).doOnNext(created::setAch).then();
+        }
+        return Mono.empty();
+    }
+
+    private static TransactionLineTypeEnum lineType(PostingDTO posting) {
+        if (posting.getCard() != null) {
+            return TransactionLineTypeEnum.CARD;
+        }
+        if (posting.getWireTransfer() != null) {
+            return TransactionLineTypeEnum.WIRE_TRANSFER;
+        }
+        if (posting.getSepaTransfer() != null) {
+            return TransactionLineTypeEnum.SEPA_TRANSFER;
+        }
+        if (posting.getDirectDebit() != null) {
+            return TransactionLineTypeEnum.DIRECT_DEBIT;
+        }
+        if (posting.getDeposit() != null) {
+            return TransactionLineTypeEnum.DEPOSIT;
+        }
+        if (posting.getWithdrawal() != null) {
+            return TransactionLineTypeEnum.WITHDRAWAL;
+        }
+        if (posting.getTransfer() != null) {
+            return TransactionLineTypeEnum.TRANSFER;
+        }
+        if (posting.getFee() != null) {
+            return TransactionLineTypeEnum.FEE;
+        }
+        if (posting.getInterest() != null) {
+            return TransactionLineTypeEnum.INTEREST;
+        }
+        if (posting.getStandingOrder() != null) {
+            return TransactionLineTypeEnum.STANDING_ORDER;
+        }
+        if (posting.getAch() != null) {
+            return TransactionLineTypeEnum.ACH;
+        }
+        return null;
+    }
+
+    private String validate(PostingDTO posting) {
+        if (posting == null || posting.getTransaction() == null) {
+            return "Transaction is required";
+        }
+        TransactionDTO transaction = posting.getTransaction();
+        if (transaction.getTransactionDate() == null) {
+            return "Transaction date is required";
+        }
+        if (transaction.getValueDate() == null) {
+            return "Value date is required";
+        }
+        if (transaction.getTransactionType() == null) {
+            return "Transaction type is required";
+        }
+        if (transaction.getTransactionStatus() == null) {
+            return "Transaction status is required";
+        }
+        if (transaction.getTotalAmount() == null) {
+            return "Total amount is required";
+        }
+        if (transaction.getCurrency() == null || transaction.getCurrency().isBlank()) {
+            return "Currency is required";
+        }
+        if (transaction.getAccountId() == null) {
+            return "Account ID is required";
+        }
+        if (posting.getLegs() == null || posting.getLegs().isEmpty()) {
+            return "At least one debit and one credit leg are required";
+        }
+
+        // Net amount per currency: debits add, credits subtract
+        Map<String, BigDecimal> balances = new TreeMap<>();
+        for (TransactionLegDTO leg : posting.getLegs()) {
+            if (leg.getAccountId() == null) {
+                return "Leg account ID is required";
+            }
+            if (!DEBIT.equals(leg.getLegType()) && !CREDIT.equals(leg.getLegType())) {
+                return "Leg type must be either DEBIT or CREDIT";
+            }
+            if (leg.getAmount() == null || leg.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+                return "Leg amount must be positive";
+            }
+            if (leg.getCurrency() == null || leg.getCurrency().isBlank()) {
+                return "Leg currency is required";
+            }
+            BigDecimal signed = DEBIT.equals(leg.getLegType()) ? leg.getAmount() : leg.getAmount().negate();
+            balances.merge(leg.getCurrency(), signed, BigDecimal::add);
+        }
+        for (Map.Entry<String, BigDecimal> balance : balances.entrySet()) {
+            if (balance.getValue().signum() != 0) {
+                return "Debits and credits do not balance in " + balance.getKey() + " (difference " + balance.getValue().toPlainString() + ")";
+            }
+        }
+
+        long lines = Stream.of(posting.getCard(), posting.getWireTransfer(), posting.getSepaTransfer(), posting.getDirectDebit(),
+                        posting.getDeposit(), posting.getWithdrawal(), posting.getTransfer(), posting.getFee(),
+                        posting.getInterest(), posting.getStandingOrder(), posting.getAch())
+                .filter(Objects::nonNull)
+                .count();
+        if (lines > 1) {
+            return "At most one transaction line can be posted";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of a block of candles.
+ * <p>
+ * Prices are written as unscaled longs at one scale per block: the smallest scale that represents every price
+ * exactly, lowered (rounding half-even) until every price fits in a long. Each candle is then encoded relative
+ * to its predecessor as variable-length integers: the number of empty periods skipped, the open minus the
+ * previous close (zigzag), the high minus the open, the open minus the low, the close minus the low and the
+ * tick count. Consecutive candles of a quiet market take a few bytes each.
+ */
+final class CandleCodec {
+
+    private static final int VERSION = 1;
+
+    private static final int MAX_SCALE = 18;
+
+    private CandleCodec() {
+    }
+
+    /**
+     * Encode candles of one block, in period order.
+     *
+     * @param blockStart start of the block, in seconds since the epoch
+     * @param periodSeconds length of a candle period
+     */
+    static byte[] encode(List<PriceCandle> candles, long blockStart, long periodSeconds) {
+        int scale = scale(candles);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + candles.size() * 8);
+        writeVarLong(out, VERSION);
+        writeVarLong(out, scale);
+        writeVarLong(out, candles.size());
+
+        long previousPeriod = -1;
+        long previousClose = 0;
+        for (PriceCandle candle : candles) {
+            long period = (candle.periodStart() - blockStart) / periodSeconds;
+            long open = unscaled(candle.open(), scale);
+            long high = unscaled(candle.high(), scale);
+            long low = unscaled(candle.low(), scale);
+            long close = unscaled(candle.close(), scale);
+
+            writeVarLong(out, period - previousPeriod - 1);
+            writeVarLong(out, zigzag(open - previousClose));
+            writeVarLong(out, high - open);
+            writeVarLong(out, open - low);
+            writeVarLong(out, close - low);
+            writeVarLong(out, candle.tickCount());
+
+            previousPeriod = period;
+            previousClose = close;
+        }
+        return out.toByteArray();
+    }
+
+    static List<PriceCandle> decode(byte[] bytes, long blockStart, long periodSeconds) {
+        Reader in = new Reader(bytes);
+        int version = (int) in.readVarLong();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported candle block version " + version);
+        }
+        int scale = (int) in.readVarLong();
+        int count = (int) in.readVarLong();
+
+        List<PriceCandle> candles = new ArrayList<>(count);
+        long previousPeriod = -1;
+        long previousClose = 0;
+        for (int i = 0; i < count; i++) {
+            long period = previousPeriod + 1 + in.readVarLong();
+            long open = previousClose + unzigzag(in.readVarLong());
+            long high = open + in.readVarLong();
+            long low = open - in.readVarLong();
+            long close = low + in.readVarLong();
+            int tickCount = (int) in.readVarLong();
+
+            candles.add(new PriceCandle(blockStart + period * periodSeconds,
+                    BigDecimal.valueOf(open, scale), BigDecimal.valueOf(high, scale),
+                    BigDecimal.valueOf(low, scale), BigDecimal.valueOf(close, scale), tickCount));
+            previousPeriod = period;
+            previousClose = close;
+        }
+        return candles;
+    }
+
+    private static int scale(List<PriceCandle> candles) {
+        int scale = 0;
+        for (PriceCandle candle : candles) {
+            scale = Math.max(scale, exactScale(candle.open()));
+            scale = Math.max(scale, exactScale(candle.high()));
+            scale = Math.max(scale, exactScale(candle.low()));
+            scale = Math.max(scale, exactScale(candle.close()));
+        }
+        scale = Math.min(scale, MAX_SCALE);
+        while (scale > 0 && !fits(candles, scale)) {
+            scale--;
+        }
+        return scale;
+    }
+
+    private static int exactScale(BigDecimal price) {
+        return Math.max(0, price.stripTrailingZeros().scale());
+    }
+
+    private static boolean fits(List<PriceCandle> candles, int scale) {
+        for (PriceCandle candle : candles) {
+            // The high is the largest price of a candle
+            if (candle.high().setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().bitLength() >= Long.SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long unscaled(BigDecimal price, int scale) {
+        return price.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("Truncated candle block");
+                }
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed candle block");
+        }
+    }
+}
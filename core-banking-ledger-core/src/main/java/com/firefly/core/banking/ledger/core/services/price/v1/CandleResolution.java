@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.price.v1.PriceResolutionEnum;
+
+/**
+ * Period and storage block lengths of the candle resolutions, in seconds. Periods and blocks are aligned on
+ * their length since the epoch.
+ */
+final class CandleResolution {
+
+    /**
+     * Resolutions from the finest to the coarsest.
+     */
+    static final PriceResolutionEnum[] ALL = {PriceResolutionEnum.MINUTE, PriceResolutionEnum.HOUR, PriceResolutionEnum.DAY};
+
+    private static final long MINUTE = 60;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+
+    private CandleResolution() {
+    }
+
+    static long seconds(PriceResolutionEnum resolution) {
+        return switch (resolution) {
+            case MINUTE -> MINUTE;
+            case HOUR -> HOUR;
+            case DAY -> DAY;
+        };
+    }
+
+    /**
+     * Length of a storage block: a day of minute candles, 30 days of hourly candles, 360 days of daily candles.
+     */
+    static long blockSeconds(PriceResolutionEnum resolution) {
+        return switch (resolution) {
+            case MINUTE -> DAY;
+            case HOUR -> 30 * DAY;
+            case DAY -> 360 * DAY;
+        };
+    }
+
+    static long periodStart(long epochSecond, PriceResolutionEnum resolution) {
+        long seconds = seconds(resolution);
+        return Math.floorDiv(epochSecond, seconds) * seconds;
+    }
+
+    static long blockStart(long epochSecond, PriceResolutionEnum resolution) {
+        long seconds = blockSeconds(resolution);
+        return Math.floorDiv(epochSecond, seconds) * seconds;
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable OHLC candle of one price series, starting at {@code periodStart} seconds since the epoch (UTC).
+ */
+record PriceCandle(long periodStart, BigDecimal open, BigDecimal high, BigDecimal low, BigDecimal close,
+                   int tickCount) {
+}
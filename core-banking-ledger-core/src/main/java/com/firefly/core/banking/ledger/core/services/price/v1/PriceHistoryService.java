@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceCandleDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceUpdate;
+import com.firefly.core.banking.ledger.interfaces.enums.price.v1.PriceResolutionEnum;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for the price history of crypto assets: recent ticks and OHLC candles at 1 minute, 1 hour
+ * and 1 day resolution. Timestamps are UTC.
+ */
+public interface PriceHistoryService {
+
+    /**
+     * Add a price update to the recent ticks of its asset and quote currency and roll it up into the open
+     * candles. Only memory is touched.
+     *
+     * @param quoteCurrency the quote currency, upper case
+     * @return false when the update is older than the open minute candle and was not rolled up
+     */
+    boolean record(UUID cryptoAssetId, String quoteCurrency, BigDecimal price, LocalDateTime timestamp);
+
+    /**
+     * The latest ticks of an asset in a quote currency, oldest first.
+     *
+     * @param limit maximum number of ticks, capped by the ring buffer size
+     */
+    Flux<PriceUpdate> getRecentTicks(UUID cryptoAssetId, String quoteCurrency, int limit);
+
+    /**
+     * Candles of an asset in a quote currency whose period starts in the range, oldest first: the persisted
+     * blocks overlapping the range merged with the candles still in memory, including the open one.
+     *
+     * @param resolution the resolution, or null for {@link #resolutionFor}
+     * @param maxPoints the candle budget used to pick the resolution, null for the configured default
+     * @throws IllegalArgumentException (signalled) when the range is empty or the budget not positive
+     */
+    Flux<PriceCandleDTO> getCandles(UUID cryptoAssetId, String quoteCurrency, LocalDateTime from, LocalDateTime to,
+                                    PriceResolutionEnum resolution, Integer maxPoints);
+
+    /**
+     * The finest resolution that covers the range with at most {@code maxPoints} candles, or the coarsest one
+     * when none does.
+     */
+    PriceResolutionEnum resolutionFor(LocalDateTime from, LocalDateTime to, int maxPoints);
+
+    /**
+     * Close the candles whose period is over and merge every closed candle into its persisted block.
+     *
+     * @return the number of candles persisted
+     */
+    Mono<Integer> flush();
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceCandleDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceUpdate;
+import com.firefly.core.banking.ledger.interfaces.enums.price.v1.PriceResolutionEnum;
+import com.firefly.core.banking.ledger.models.entities.price.v1.CryptoPriceCandleBlock;
+import com.firefly.core.banking.ledger.models.repositories.price.v1.CryptoPriceCandleBlockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the PriceHistoryService interface.
+ * <p>
+ * Each asset and quote currency has a {@link PriceSeries} holding its recent ticks and the candles not persisted
+ * yet, fed by {@link PriceService} with every update that became the latest price. Recording a tick updates the
+ * three open candles in place, so ingestion cost does not depend on the history length.
+ * {@link PriceHistoryFlushScheduler} periodically merges the closed candles into their blocks in
+ * {@code crypto_price_candle_block}, compressed with {@link CandleCodec}: one read and one multi-row upsert for
+ * every series at once. Range queries read the blocks of a single resolution and overlay the candles still in
+ * memory. While flushes fail, each series keeps at most {@code max-pending-candles} closed candles per resolution
+ * and drops the oldest, counted by {@code ledger.prices.history.candles.dropped}.
+ */
+@Service
+public class PriceHistoryServiceImpl implements PriceHistoryService {
+
+    @Autowired
+    private CryptoPriceCandleBlockRepository blockRepository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.prices.history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.prices.history.tick-buffer-size:1024}")
+    private int tickBufferSize;
+
+    @Value("${ledger.prices.history.close-delay:5s}")
+    private Duration closeDelay;
+
+    @Value("${ledger.prices.history.max-points:500}")
+    private int defaultMaxPoints;
+
+    @Value("${ledger.prices.history.max-pending-candles:1440}")
+    private int maxPendingCandles;
+
+    private final Map<SeriesKey, PriceSeries> series = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean record(UUID cryptoAssetId, String quoteCurrency, BigDecimal price, LocalDateTime timestamp) {
+        if (!enabled) {
+            return false;
+        }
+        SeriesKey key = new SeriesKey(cryptoAssetId, quoteCurrency);
+        PriceSeries prices = series.get(key);
+        if (prices == null) {
+            prices = series.computeIfAbsent(key, k -> new PriceSeries(tickBufferSize, maxPendingCandles));
+        }
+        boolean rolledUp = prices.add(timestamp, timestamp.toEpochSecond(ZoneOffset.UTC), price);
+        if (!rolledUp && meterRegistry != null) {
+            meterRegistry.counter("ledger.prices.history.late").increment();
+        }
+        return rolledUp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<PriceUpdate> getRecentTicks(UUID cryptoAssetId, String quoteCurrency, int limit) {
+        return Flux.defer(() -> {
+            PriceSeries prices = series.get(new SeriesKey(cryptoAssetId, normalize(quoteCurrency)));
+            return prices != null ? Flux.fromIterable(prices.recentTicks(limit)) : Flux.<PriceSeries.Tick>empty();
+        }).map(tick -> PriceUpdate.builder()
+                .cryptoAssetId(cryptoAssetId)
+                .quoteCurrency(normalize(quoteCurrency))
+                .price(tick.price())
+                .timestamp(tick.timestamp())
+                .build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<PriceCandleDTO> getCandles(UUID cryptoAssetId, String quoteCurrency, LocalDateTime from,
+                                           LocalDateTime to, PriceResolutionEnum resolution, Integer maxPoints) {
+        return Flux.defer(() -> {
+            if (from == null || to == null || !from.isBefore(to)) {
+                return Flux.error(new IllegalArgumentException("from must be before to"));
+            }
+            int points = maxPoints != null ? maxPoints : defaultMaxPoints;
+            if (points <= 0) {
+                return Flux.error(new IllegalArgumentException("maxPoints must be positive"));
+            }
+            PriceResolutionEnum selected = resolution != null ? resolution : resolutionFor(from, to, points);
+            String currency = normalize(quoteCurrency);
+            long periodSeconds = CandleResolution.seconds(selected);
+            long firstPeriod = CandleResolution.periodStart(epochSecond(from), selected);
+            long end = epochSecond(to);
+
+            return blockRepository.findBlocks(cryptoAssetId, currency, selected.name(),
+                            toDateTime(CandleResolution.blockStart(firstPeriod, selected)), to)
+                    .concatMapIterable(block -> CandleCodec.decode(block.getCandles(),
+                            epochSecond(block.getBlockStart()), periodSeconds))
+                    .collect(TreeMap<Long, PriceCandle>::new, (candles, candle) -> candles.put(candle.periodStart(), candle))
+                    .flatMapIterable(candles -> {
+                        PriceSeries prices = series.get(new SeriesKey(cryptoAssetId, currency));
+                        if (prices != null) {
+                            for (PriceCandle candle : prices.unpersisted(selected)) {
+                                candles.put(candle.periodStart(), candle);
+                            }
+                        }
+                        return candles.subMap(firstPeriod, end).values();
+                    })
+                    .map(candle -> toDTO(cryptoAssetId, currency, selected, candle));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PriceResolutionEnum resolutionFor(LocalDateTime from, LocalDateTime to, int maxPoints) {
+        long range = Math.max(1, Duration.between(from, to).toSeconds());
+        for (PriceResolutionEnum resolution : CandleResolution.ALL) {
+            long seconds = CandleResolution.seconds(resolution);
+            if ((range + seconds - 1) / seconds <= maxPoints) {
+                return resolution;
+            }
+        }
+        return CandleResolution.ALL[CandleResolution.ALL.length - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Integer> flush() {
+        return Mono.defer(() -> {
+            long cutoff = epochSecond(LocalDateTime.now(ZoneOffset.UTC)) - closeDelay.toSeconds();
+            Map<BlockKey, List<PriceCandle>> pendingBlocks = new LinkedHashMap<>();
+            List<Runnable> acknowledgements = new ArrayList<>();
+            int[] candleCount = {0};
+            int[] dropped = {0};
+
+            series.forEach((key, prices) -> {
+                prices.closeBefore(cutoff);
+                dropped[0] += prices.takeDropped();
+                for (PriceResolutionEnum resolution : CandleResolution.ALL) {
+                    List<PriceCandle> pending = prices.pending(resolution);
+                    if (pending.isEmpty()) {
+                        continue;
+                    }
+                    for (PriceCandle candle : pending) {
+                        BlockKey block = new BlockKey(key, resolution, CandleResolution.blockStart(candle.periodStart(), resolution));
+                        pendingBlocks.computeIfAbsent(block, b -> new ArrayList<>()).add(candle);
+                    }
+                    long throughPeriodStart = pending.get(pending.size() - 1).periodStart();
+                    acknowledgements.add(() -> prices.persisted(resolution, throughPeriodStart));
+                    candleCount[0] += pending.size();
+                }
+            });
+            if (dropped[0] > 0 && meterRegistry != null) {
+                meterRegistry.counter("ledger.prices.history.candles.dropped").increment(dropped[0]);
+            }
+            if (pendingBlocks.isEmpty()) {
+                return Mono.just(0);
+            }
+
+            List<CryptoPriceCandleBlock> keys = new ArrayList<>(pendingBlocks.size());
+            pendingBlocks.keySet().forEach(block -> keys.add(block.toEntity(null, 0)));
+            return blockRepository.findByKeys(keys)
+                    .collectMap(BlockKey::of)
+                    .map(stored -> merge(pendingBlocks, stored))
+                    .flatMap(blockRepository::upsertAll)
+                    .then(Mono.fromSupplier(() -> {
+                        acknowledgements.forEach(Runnable::run);
+                        if (meterRegistry != null) {
+                            meterRegistry.counter("ledger.prices.history.candles.persisted").increment(candleCount[0]);
+                        }
+                        return candleCount[0];
+                    }));
+        });
+    }
+
+    private static List<CryptoPriceCandleBlock> merge(Map<BlockKey, List<PriceCandle>> pendingBlocks,
+                                                      Map<BlockKey, CryptoPriceCandleBlock> stored) {
+        List<CryptoPriceCandleBlock> blocks = new ArrayList<>(pendingBlocks.size());
+        pendingBlocks.forEach((key, pending) -> {
+            long periodSeconds = CandleResolution.seconds(key.resolution());
+            NavigableMap<Long, PriceCandle> candles = new TreeMap<>();
+            CryptoPriceCandleBlock existing = stored.get(key);
+            if (existing != null) {
+                for (PriceCandle candle : CandleCodec.decode(existing.getCandles(), key.blockStart(), periodSeconds)) {
+                    candles.put(candle.periodStart(), candle);
+                }
+            }
+            for (PriceCandle candle : pending) {
+                candles.put(candle.periodStart(), candle);
+            }
+            List<PriceCandle> merged = new ArrayList<>(candles.values());
+            blocks.add(key.toEntity(CandleCodec.encode(merged, key.blockStart(), periodSeconds), merged.size()));
+        });
+        return blocks;
+    }
+
+    private static PriceCandleDTO toDTO(UUID cryptoAssetId, String quoteCurrency, PriceResolutionEnum resolution,
+                                        PriceCandle candle) {
+        return PriceCandleDTO.builder()
+                .cryptoAssetId(cryptoAssetId)
+                .quoteCurrency(quoteCurrency)
+                .resolution(resolution)
+                .periodStart(toDateTime(candle.periodStart()))
+                .open(candle.open())
+                .high(candle.high())
+                .low(candle.low())
+                .close(candle.close())
+                .tickCount(candle.tickCount())
+                .build();
+    }
+
+    private static String normalize(String quoteCurrency) {
+        return quoteCurrency == null ? null : quoteCurrency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private record SeriesKey(UUID cryptoAssetId, String quoteCurrency) {
+    }
+
+    private record BlockKey(SeriesKey series, PriceResolutionEnum resolution, long blockStart) {
+
+        static BlockKey of(CryptoPriceCandleBlock block) {
+            return new BlockKey(new SeriesKey(block.getCryptoAssetId(), block.getQuoteCurrency()),
+                    PriceResolutionEnum.valueOf(block.getResolution()), epochSecond(block.getBlockStart()));
+        }
+
+        CryptoPriceCandleBlock toEntity(byte[] candles, int candleCount) {
+            CryptoPriceCandleBlock block = new CryptoPriceCandleBlock();
+            block.setCryptoAssetId(series.cryptoAssetId());
+            block.setQuoteCurrency(series.quoteCurrency());
+            block.setResolution(resolution.name());
+            block.setBlockStart(toDateTime(blockStart));
+            block.setCandleCount(candleCount);
+            block.setCandles(candles);
+            return block;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.price.v1.PriceResolutionEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Recent history of one crypto asset in one quote currency: a ring buffer of the latest ticks and, per
+ * resolution, the candle being built and the closed candles not persisted yet.
+ * <p>
+ * Each tick updates the open candle of every resolution in place; a candle closes when a tick of a later period
+ * arrives or when its period has been over for the close delay. Ticks older than the open minute candle are
+ * kept in the ring buffer but not rolled up. At most {@code maxPendingCandles} closed candles are kept per
+ * resolution; while flushes fail, the oldest are dropped to make room and counted. All methods synchronize on
+ * the series, so only updates of the same asset and quote currency contend.
+ */
+final class PriceSeries {
+
+    private final LocalDateTime[] tickTimes;
+    private final BigDecimal[] tickPrices;
+    private int tickHead;
+    private int tickCount;
+
+    private final CandleBuilder[] builders = new CandleBuilder[CandleResolution.ALL.length];
+
+    PriceSeries(int tickCapacity, int maxPendingCandles) {
+        this.tickTimes = new LocalDateTime[tickCapacity];
+        this.tickPrices = new BigDecimal[tickCapacity];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new CandleBuilder(CandleResolution.seconds(CandleResolution.ALL[i]), Math.max(1, maxPendingCandles));
+        }
+    }
+
+    /**
+     * Add a tick.
+     *
+     * @param epochSecond the tick timestamp in seconds since the epoch
+     * @return false when the tick was too late to be rolled up
+     */
+    synchronized boolean add(LocalDateTime timestamp, long epochSecond, BigDecimal price) {
+        tickTimes[tickHead] = timestamp;
+        tickPrices[tickHead] = price;
+        tickHead = (tickHead + 1) % tickTimes.length;
+        tickCount = Math.min(tickCount + 1, tickTimes.length);
+
+        // Rolled up into every resolution or none, decided by the finest
+        if (!builders[0].add(epochSecond, price)) {
+            return false;
+        }
+        for (int i = 1; i < builders.length; i++) {
+            builders[i].add(epochSecond, price);
+        }
+        return true;
+    }
+
+    /**
+     * The latest ticks in arrival order, oldest first.
+     */
+    synchronized List<Tick> recentTicks(int limit) {
+        int count = Math.min(limit, tickCount);
+        List<Tick> ticks = new ArrayList<>(count);
+        for (int i = count; i > 0; i--) {
+            int index = Math.floorMod(tickHead - i, tickTimes.length);
+            ticks.add(new Tick(tickTimes[index], tickPrices[index]));
+        }
+        return ticks;
+    }
+
+    /**
+     * Close the open candles whose period ended before {@code cutoff} (seconds since the epoch).
+     */
+    synchronized void closeBefore(long cutoff) {
+        for (CandleBuilder builder : builders) {
+            builder.closeBefore(cutoff);
+        }
+    }
+
+    /**
+     * Closed candles of a resolution not persisted yet, oldest first.
+     */
+    synchronized List<PriceCandle> pending(PriceResolutionEnum resolution) {
+        return new ArrayList<>(builder(resolution).closed);
+    }
+
+    /**
+     * Drop the pending candles of a resolution up to the period starting at {@code throughPeriodStart}, once
+     * persisted. Pending candles are in period order, and candles dropped since they were read are simply no
+     * longer there.
+     */
+    synchronized void persisted(PriceResolutionEnum resolution, long throughPeriodStart) {
+        Deque<PriceCandle> closed = builder(resolution).closed;
+        while (!closed.isEmpty() && closed.peekFirst().periodStart() <= throughPeriodStart) {
+            closed.pollFirst();
+        }
+    }
+
+    /**
+     * Return the number of closed candles dropped because too many were pending, and reset it.
+     */
+    synchronized int takeDropped() {
+        int dropped = 0;
+        for (CandleBuilder builder : builders) {
+            dropped += builder.dropped;
+            builder.dropped = 0;
+        }
+        return dropped;
+    }
+
+    /**
+     * Candles of a resolution held in memory, oldest first: the pending ones and the open one.
+     */
+    synchronized List<PriceCandle> unpersisted(PriceResolutionEnum resolution) {
+        CandleBuilder builder = builder(resolution);
+        List<PriceCandle> candles = new ArrayList<>(builder.closed.size() + 1);
+        candles.addAll(builder.closed);
+        if (builder.isOpen()) {
+            candles.add(builder.snapshot());
+        }
+        return candles;
+    }
+
+    private CandleBuilder builder(PriceResolutionEnum resolution) {
+        return builders[resolution.ordinal()];
+    }
+
+    record Tick(LocalDateTime timestamp, BigDecimal price) {
+    }
+
+    private static final class CandleBuilder {
+        private final long periodSeconds;
+        private final int maxPending;
+
+        /**
+         * Start of the open candle's period, or of the first period it may still open when none is.
+         */
+        private long periodStart = Long.MIN_VALUE;
+        private boolean open;
+        private BigDecimal openPrice;
+        private BigDecimal high;
+        private BigDecimal low;
+        private BigDecimal close;
+        private long openSecond;
+        private long closeSecond;
+        private int ticks;
+
+        private final Deque<PriceCandle> closed = new ArrayDeque<>();
+        private int dropped;
+
+        private CandleBuilder(long periodSeconds, int maxPending) {
+            this.periodSeconds = periodSeconds;
+            this.maxPending = maxPending;
+        }
+
+        private boolean isOpen() {
+            return open;
+        }
+
+        private boolean add(long epochSecond, BigDecimal price) {
+            long period = Math.floorDiv(epochSecond, periodSeconds) * periodSeconds;
+            if (period < periodStart) {
+                return false;
+            }
+            if (open && period == periodStart) {
+                if (price.compareTo(high) > 0) {
+                    high = price;
+                }
+                if (price.compareTo(low) < 0) {
+                    low = price;
+                }
+                // Ticks of one key can be added out of order by concurrent ingestion streams
+                if (epochSecond < openSecond) {
+                    openPrice = price;
+                    openSecond = epochSecond;
+                }
+                if (epochSecond >= closeSecond) {
+                    close = price;
+                    closeSecond = epochSecond;
+                }
+                ticks++;
+                return true;
+            }
+            if (open) {
+                close();
+            }
+            open = true;
+            periodStart = period;
+            openPrice = price;
+            high = price;
+            low = price;
+            close = price;
+            openSecond = epochSecond;
+            closeSecond = epochSecond;
+            ticks = 1;
+            return true;
+        }
+
+        private void closeBefore(long cutoff) {
+            if (open && periodStart + periodSeconds <= cutoff) {
+                close();
+                open = false;
+                periodStart += periodSeconds;
+            }
+        }
+
+        private void close() {
+            if (closed.size() >= maxPending) {
+                closed.pollFirst();
+                dropped++;
+            }
+            closed.addLast(snapshot());
+        }
+
+        private PriceCandle snapshot() {
+            return new PriceCandle(periodStart, openPrice, high, low, close, ticks);
+        }
+    }
+}
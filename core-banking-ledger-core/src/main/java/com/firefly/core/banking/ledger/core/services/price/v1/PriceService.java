@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.MarketData;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceIngestionResultDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceUpdate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Service interface for the live crypto price table: ingestion of price feeds and current-price reads.
+ * Current prices are always served from memory; the database only receives periodic snapshots.
+ */
+public interface PriceService {
+
+    /**
+     * Apply a stream of price updates. Updates are conflated to the latest price per asset and quote currency;
+     * an update older than the price already held is ignored.
+     *
+     * @param updates the price updates, in any order
+     * @return the ingestion summary, once the stream completes
+     */
+    Mono<PriceIngestionResultDTO> ingestPriceUpdates(Flux<PriceUpdate> updates);
+
+    /**
+     * Apply the current prices of a stream of market data, like {@link #ingestPriceUpdates}. The 24h price
+     * change is taken from the "24h" entries of the price change maps.
+     */
+    Mono<PriceIngestionResultDTO> ingestMarketData(Flux<MarketData> marketData);
+
+    /**
+     * Latest prices of a crypto asset in every quote currency.
+     *
+     * @return the prices, empty when none was received
+     */
+    Flux<PriceUpdate> getPrices(UUID cryptoAssetId);
+
+    /**
+     * Latest price of a crypto asset in a quote currency.
+     *
+     * @return the price, empty when none was received
+     */
+    Mono<PriceUpdate> getPrice(UUID cryptoAssetId, String quoteCurrency);
+
+    /**
+     * Current price of a crypto asset in a quote currency, for valuations. Reads the in-memory table only,
+     * without allocating or blocking.
+     *
+     * @return the price, or null when none was received
+     */
+    BigDecimal currentPrice(UUID cryptoAssetId, String quoteCurrency);
+
+    /**
+     * Persist the prices changed since the previous snapshot with one multi-row upsert.
+     *
+     * @return the number of prices written
+     */
+    Mono<Integer> persistSnapshot();
+
+    /**
+     * Load the persisted prices into the in-memory table. Prices already received are kept when they are later.
+     *
+     * @return the number of prices loaded
+     */
+    Mono<Integer> loadSnapshot();
+}
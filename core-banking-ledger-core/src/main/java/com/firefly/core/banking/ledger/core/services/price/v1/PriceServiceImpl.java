@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.MarketData;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceIngestionResultDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceUpdate;
+import com.firefly.core.banking.ledger.models.entities.price.v1.CryptoPriceSnapshot;
+import com.firefly.core.banking.ledger.models.repositories.price.v1.CryptoPriceSnapshotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of the PriceService interface.
+ * <p>
+ * Prices are held in a {@link PriceTable}; ingesting an update costs a map read and a compare-and-set, whatever
+ * the burst size, and nothing is written to the database per update. {@link PriceSnapshotScheduler} loads the
+ * table on startup and persists the changed prices periodically, so a crash loses at most one snapshot interval
+ * of prices, which the feeds replace with their next updates. Every update that becomes the latest price is also
+ * added to the {@link PriceHistoryService}. Concurrent ingestion streams can add the updates of one key slightly
+ * out of timestamp order, which the history tolerates within the open candle.
+ */
+@Service
+public class PriceServiceImpl implements PriceService {
+
+    private static final String CHANGE_24H = "24h";
+
+    @Autowired
+    private CryptoPriceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private PriceHistoryService historyService;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final PriceTable table = new PriceTable();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PriceIngestionResultDTO> ingestPriceUpdates(Flux<PriceUpdate> updates) {
+        return updates
+                .reduceWith(IngestionTally::new, (tally, update) -> tally.count(offer(toQuote(update))))
+                .map(this::summarize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PriceIngestionResultDTO> ingestMarketData(Flux<MarketData> marketData) {
+        return marketData
+                .reduceWith(IngestionTally::new, (tally, data) -> tally.count(offer(toQuote(data))))
+                .map(this::summarize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<PriceUpdate> getPrices(UUID cryptoAssetId) {
+        return Flux.defer(() -> Flux.fromIterable(table.get(cryptoAssetId)))
+                .map(PriceTable.Quote::toPriceUpdate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PriceUpdate> getPrice(UUID cryptoAssetId, String quoteCurrency) {
+        return Mono.fromSupplier(() -> quote(cryptoAssetId, quoteCurrency))
+                .map(PriceTable.Quote::toPriceUpdate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal currentPrice(UUID cryptoAssetId, String quoteCurrency) {
+        PriceTable.Quote quote = quote(cryptoAssetId, quoteCurrency);
+        return quote != null ? quote.price() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Integer> persistSnapshot() {
+        return Mono.defer(() -> {
+            List<PriceTable.Pending> changed = table.changed();
+            if (changed.isEmpty()) {
+                return Mono.just(0);
+            }
+            List<CryptoPriceSnapshot> snapshots = new ArrayList<>(changed.size());
+            for (PriceTable.Pending pending : changed) {
+                snapshots.add(toSnapshot(pending.quote()));
+            }
+            return snapshotRepository.upsertAll(snapshots)
+                    .then(Mono.fromSupplier(() -> {
+                        changed.forEach(PriceTable.Pending::persisted);
+                        return changed.size();
+                    }));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Integer> loadSnapshot() {
+        return snapshotRepository.findAll()
+                .map(this::toQuote)
+                .filter(table::restore)
+                .count()
+                .map(Long::intValue);
+    }
+
+    private PriceTable.Quote quote(UUID cryptoAssetId, String quoteCurrency) {
+        if (cryptoAssetId == null || quoteCurrency == null) {
+            return null;
+        }
+        PriceTable.Quote quote = table.get(cryptoAssetId, quoteCurrency);
+        return quote != null ? quote : table.get(cryptoAssetId, normalize(quoteCurrency));
+    }
+
+    private Outcome offer(PriceTable.Quote quote) {
+        if (quote == null) {
+            return Outcome.REJECTED;
+        }
+        if (!table.offer(quote)) {
+            return Outcome.STALE;
+        }
+        historyService.record(quote.cryptoAssetId(), quote.quoteCurrency(), quote.price(), quote.timestamp());
+        return Outcome.APPLIED;
+    }
+
+    private PriceTable.Quote toQuote(PriceUpdate update) {
+        if (update == null || !valid(update.getCryptoAssetId(), update.getQuoteCurrency(), update.getPrice(), update.getTimestamp())) {
+            return null;
+        }
+        return new PriceTable.Quote(update.getCryptoAssetId(), normalize(update.getQuoteCurrency()),
+                update.getAssetSymbol(), update.getAssetName(), update.getPrice(), update.getPriceChange24h(),
+                update.getPriceChangePercentage24h(), update.getSource(), update.getTimestamp());
+    }
+
+    private PriceTable.Quote toQuote(MarketData data) {
+        if (data == null || !valid(data.getCryptoAssetId(), data.getQuoteCurrency(), data.getCurrentPrice(), data.getTimestamp())) {
+            return null;
+        }
+        Map<String, BigDecimal> change = data.getPriceChange();
+        Map<String, Double> changePercentage = data.getPriceChangePercentage();
+        return new PriceTable.Quote(data.getCryptoAssetId(), normalize(data.getQuoteCurrency()),
+                data.getAssetSymbol(), data.getAssetName(), data.getCurrentPrice(),
+                change != null ? change.get(CHANGE_24H) : null,
+                changePercentage != null ? changePercentage.get(CHANGE_24H) : null,
+                data.getSource(), data.getTimestamp());
+    }
+
+    private PriceTable.Quote toQuote(CryptoPriceSnapshot snapshot) {
+        return new PriceTable.Quote(snapshot.getCryptoAssetId(), normalize(snapshot.getQuoteCurrency()),
+                snapshot.getAssetSymbol(), snapshot.getAssetName(), snapshot.getPrice(), snapshot.getPriceChange24h(),
+                snapshot.getPriceChangePercentage24h(), snapshot.getSource(), snapshot.getPriceTimestamp());
+    }
+
+    private static CryptoPriceSnapshot toSnapshot(PriceTable.Quote quote) {
+        CryptoPriceSnapshot snapshot = new CryptoPriceSnapshot();
+        snapshot.setCryptoAssetId(quote.cryptoAssetId());
+        snapshot.setQuoteCurrency(quote.quoteCurrency());
+        snapshot.setAssetSymbol(quote.assetSymbol());
+        snapshot.setAssetName(quote.assetName());
+        snapshot.setPrice(quote.price());
+        snapshot.setPriceChange24h(quote.priceChange24h());
+        snapshot.setPriceChangePercentage24h(quote.priceChangePercentage24h());
+        snapshot.setSource(quote.source());
+        snapshot.setPriceTimestamp(quote.timestamp());
+        return snapshot;
+    }
+
+    private static boolean valid(UUID cryptoAssetId, String quoteCurrency, BigDecimal price, LocalDateTime timestamp) {
+        return cryptoAssetId != null && quoteCurrency != null && !quoteCurrency.isBlank()
+                && price != null && price.signum() >= 0 && timestamp != null;
+    }
+
+    private static String normalize(String quoteCurrency) {
+        return quoteCurrency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private PriceIngestionResultDTO summarize(IngestionTally tally) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("ledger.prices.ingested", "outcome", "applied").increment(tally.applied);
+            meterRegistry.counter("ledger.prices.ingested", "outcome", "stale").increment(tally.stale);
+            meterRegistry.counter("ledger.prices.ingested", "outcome", "rejected").increment(tally.rejected);
+        }
+        return PriceIngestionResultDTO.builder()
+                .received(tally.applied + tally.stale + tally.rejected)
+                .applied(tally.applied)
+                .stale(tally.stale)
+                .rejected(tally.rejected)
+                .build();
+    }
+
+    private enum Outcome {
+        APPLIED, STALE, REJECTED
+    }
+
+    /**
+     * Counts of one ingestion stream. Confined to the subscription that created it.
+     */
+    private static final class IngestionTally {
+        private long applied;
+        private long stale;
+        private long rejected;
+
+        private IngestionTally count(Outcome outcome) {
+            switch (outcome) {
+                case APPLIED -> applied++;
+                case STALE -> stale++;
+                case REJECTED -> rejected++;
+            }
+            return this;
+        }
+    }
+}
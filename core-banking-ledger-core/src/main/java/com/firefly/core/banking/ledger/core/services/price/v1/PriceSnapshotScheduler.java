@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Loads the persisted prices on startup, then persists the prices changed since the previous snapshot every
+ * {@code interval} and once more on shutdown. A failed snapshot leaves the prices pending for the next one.
+ */
+@Component
+public class PriceSnapshotScheduler {
+
+    @Autowired
+    private PriceService priceService;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Value("${ledger.prices.snapshots.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.prices.snapshots.interval:10s}")
+    private Duration interval;
+
+    @Value("${ledger.prices.snapshots.shutdown-timeout:10s}")
+    private Duration shutdownTimeout;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        subscription = connectionBudget.withPermit(Mono.defer(priceService::loadSnapshot))
+                .onErrorResume(e -> Mono.empty())
+                .then(Mono.delay(interval)
+                        .then(connectionBudget.withPermit(Mono.defer(this::runOnce)))
+                        .onErrorResume(e -> Mono.empty())
+                        .repeat()
+                        .then())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+            runOnce().onErrorResume(e -> Mono.empty()).block(shutdownTimeout);
+        }
+    }
+
+    /**
+     * Persist the prices changed since the previous snapshot.
+     */
+    public Mono<Integer> runOnce() {
+        return priceService.persistSnapshot();
+    }
+}
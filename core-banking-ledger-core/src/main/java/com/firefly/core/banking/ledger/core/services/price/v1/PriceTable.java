@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceUpdate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Latest price of each crypto asset per quote currency, conflated in memory.
+ * <p>
+ * Reads and updates of a known asset and currency are lock-free: a map read followed by a compare-and-set on
+ * the slot of the key, which keeps the price with the latest timestamp whatever order concurrent updates arrive
+ * in. Only the first update of a key takes a map bin lock, to create its slot. Each slot also remembers the last
+ * price persisted, so a snapshot writes only the prices that changed since the previous one.
+ */
+final class PriceTable {
+
+    private final Map<UUID, Map<String, Slot>> assets = new ConcurrentHashMap<>();
+
+    /**
+     * Make the quote the latest price of its key, unless a later one is already held.
+     *
+     * @return true when the quote became the latest price
+     */
+    boolean offer(Quote quote) {
+        AtomicReference<Quote> latest = slot(quote.cryptoAssetId(), quote.quoteCurrency()).latest;
+        Quote current;
+        do {
+            current = latest.get();
+            if (current != null && quote.timestamp().isBefore(current.timestamp())) {
+                return false;
+            }
+        } while (!latest.compareAndSet(current, quote));
+        return true;
+    }
+
+    /**
+     * Offer a quote read back from a snapshot, already persisted.
+     */
+    boolean restore(Quote quote) {
+        Slot slot = slot(quote.cryptoAssetId(), quote.quoteCurrency());
+        if (!offer(quote)) {
+            return false;
+        }
+        slot.persisted = quote;
+        return true;
+    }
+
+    Quote get(UUID cryptoAssetId, String quoteCurrency) {
+        Map<String, Slot> quotes = assets.get(cryptoAssetId);
+        Slot slot = quotes != null ? quotes.get(quoteCurrency) : null;
+        return slot != null ? slot.latest.get() : null;
+    }
+
+    /**
+     * Latest prices of an asset in every quote currency.
+     */
+    List<Quote> get(UUID cryptoAssetId) {
+        Map<String, Slot> quotes = assets.get(cryptoAssetId);
+        if (quotes == null) {
+            return List.of();
+        }
+        List<Quote> prices = new ArrayList<>(quotes.size());
+        for (Slot slot : quotes.values()) {
+            Quote quote = slot.latest.get();
+            if (quote != null) {
+                prices.add(quote);
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Prices changed since they were last persisted. Each must be acknowledged with {@link Pending#persisted()}
+     * once written; the others are returned again by the next call.
+     */
+    List<Pending> changed() {
+        List<Pending> changed = new ArrayList<>();
+        for (Map<String, Slot> quotes : assets.values()) {
+            for (Slot slot : quotes.values()) {
+                Quote quote = slot.latest.get();
+                if (quote != null && quote != slot.persisted) {
+                    changed.add(new Pending(slot, quote));
+                }
+            }
+        }
+        return changed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<String, Slot> quotes : assets.values()) {
+            size += quotes.size();
+        }
+        return size;
+    }
+
+    private Slot slot(UUID cryptoAssetId, String quoteCurrency) {
+        Map<String, Slot> quotes = assets.get(cryptoAssetId);
+        if (quotes == null) {
+            quotes = assets.computeIfAbsent(cryptoAssetId, id -> new ConcurrentHashMap<>());
+        }
+        Slot slot = quotes.get(quoteCurrency);
+        if (slot == null) {
+            slot = quotes.computeIfAbsent(quoteCurrency, currency -> new Slot());
+        }
+        return slot;
+    }
+
+    private static final class Slot {
+        private final AtomicReference<Quote> latest = new AtomicReference<>();
+        private volatile Quote persisted;
+    }
+
+    /**
+     * A price changed since the last snapshot.
+     */
+    static final class Pending {
+        private final Slot slot;
+        private final Quote quote;
+
+        private Pending(Slot slot, Quote quote) {
+            this.slot = slot;
+            this.quote = quote;
+        }
+
+        Quote quote() {
+            return quote;
+        }
+
+        void persisted() {
+            slot.persisted = quote;
+        }
+    }
+
+    /**
+     * Immutable price of an asset in a quote currency; the quote currency is upper case.
+     */
+    record Quote(UUID cryptoAssetId, String quoteCurrency, String assetSymbol, String assetName, BigDecimal price,
+                 BigDecimal priceChange24h, Double priceChangePercentage24h, String source, LocalDateTime timestamp) {
+
+        PriceUpdate toPriceUpdate() {
+            return PriceUpdate.builder()
+                    .cryptoAssetId(cryptoAssetId)
+                    .quoteCurrency(quoteCurrency)
+                    .assetSymbol(assetSymbol)
+                    .assetName(assetName)
+                    .price(price)
+                    .priceChange24h(priceChange24h)
+                    .priceChangePercentage24h(priceChangePercentage24h)
+                    .source(source)
+                    .timestamp(timestamp)
+                    .build();
+        }
+    }
+}
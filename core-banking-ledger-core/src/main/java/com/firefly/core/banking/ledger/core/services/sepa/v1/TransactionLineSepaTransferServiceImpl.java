@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.sepa.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.sepa.v1.TransactionLineSepaTransferMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.sepa.v1.TransactionLineSepaTransferDTO;
 import com.firefly.core.banking.ledger.models.entities.sepa.v1.TransactionLineSepaTransfer;
@@ -38,10 +39,13 @@ public class TransactionLineSepaTransferServiceImpl implements TransactionLineSe
     @Autowired
     private TransactionLineSepaTransferMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineSepaTransferDTO> getSepaTransferLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineSepaTransferDTO>lines(LedgerReadCaches.LINE_SEPA_TRANSFER).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("SEPA transfer line not found for transactionId: " + transactionId)));
     }
 
@@ -61,6 +65,7 @@ public class TransactionLineSepaTransferServiceImpl implements TransactionLineSe
                     TransactionLineSepaTransfer updatedEntity = mapper.toEntity(sepaDTO);
                     updatedEntity.setTransactionLineSepaId(existingEntity.getTransactionLineSepaId());
                     return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_SEPA_TRANSFER, transactionId).thenReturn(savedEntity))
                             .map(mapper::toDTO);
                 });
     }
@@ -69,6 +74,6 @@ public class TransactionLineSepaTransferServiceImpl implements TransactionLineSe
     public Mono<Void> deleteSepaTransferLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
                 .switchIfEmpty(Mono.error(new RuntimeException("SEPA transfer line not found for transactionId: " + transactionId)))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_SEPA_TRANSFER, transactionId)));
     }
 }
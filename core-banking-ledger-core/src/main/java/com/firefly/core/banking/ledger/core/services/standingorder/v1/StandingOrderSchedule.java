@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.standingorder.v1;
+
+import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Execution calendar of a standing order.
+ */
+final class StandingOrderSchedule {
+
+    private StandingOrderSchedule() {
+    }
+
+    /**
+     * Execution date following the order's current next execution date.
+     * <p>
+     * Monthly and yearly orders stay anchored to the day of month of the start date, so an order starting on
+     * the 31st runs on the last day of shorter months and returns to the 31st afterwards.
+     *
+     * @return the next execution date, or null when it would fall after the end date
+     * @throws IllegalStateException if the order has no frequency
+     */
+    static LocalDate nextExecutionDate(TransactionLineStandingOrder order) {
+        if (order.getStandingOrderFrequency() == null) {
+            throw new IllegalStateException("Standing order " + order.getStandingOrderId() + " has no frequency");
+        }
+        LocalDate current = order.getStandingOrderNextExecutionDate();
+        LocalDate anchor = order.getStandingOrderStartDate() != null ? order.getStandingOrderStartDate() : current;
+        LocalDate next = switch (order.getStandingOrderFrequency()) {
+            case DAILY -> current.plusDays(1);
+            case WEEKLY -> current.plusWeeks(1);
+            case MONTHLY -> anchored(YearMonth.from(current).plusMonths(1), anchor.getDayOfMonth());
+            case YEARLY -> anchored(YearMonth.from(current).plusYears(1), anchor.getDayOfMonth());
+        };
+        LocalDate endDate = order.getStandingOrderEndDate();
+        return endDate != null && next.isAfter(endDate) ? null : next;
+    }
+
+    private static LocalDate anchored(YearMonth month, int dayOfMonth) {
+        return month.atDay(Math.min(dayOfMonth, month.lengthOfMonth()));
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.standingorder.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.core.workers.ClaimedPages;
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import com.firefly.core.banking.ledger.models.repositories.standingorder.v1.TransactionLineStandingOrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Executes due standing orders.
+ * <p>
+ * Due schedule lines are claimed in pages with {@code FOR UPDATE SKIP LOCKED}, restricted to the shard of this
+ * instance ({@code hash(standingOrderId) mod shard-count}), so replicas never contend for the same rows. Each
+ * page is executed in one database transaction: the transactions, their legs, status history and standing order
+ * lines are written with multi-row inserts, the balance projection and outbox are updated, and the schedules are
+ * advanced with a single statement. Several pages are executed concurrently, capped below the R2DBC pool size.
+ * <p>
+ * When its own shard is drained an instance steals work from the others (if {@code work-stealing} is enabled),
+ * so a replica that is down does not hold back its shard. A page that fails is retried order by order, and orders
+ * that still fail are skipped for the rest of the run instead of blocking the page forever.
+ * <p>
+ * Each execution creates a new transaction with its own standing order line pointing back at the schedule line;
+ * a unique index on (schedule line, execution date) guarantees an occurrence is never executed twice. Occurrences
+ * missed while the scheduler was not running are executed one after the other on the next run.
+ */
+@Component
+public class StandingOrderScheduler {
+
+    static final String RELATION_TYPE = "STANDING_ORDER_EXECUTION";
+
+    @Autowired
+    private TransactionLineStandingOrderRepository standingOrderRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private TransactionLegRepository legRepository;
+
+    @Autowired
+    private TransactionMapper transactionMapper;
+
+    @Autowired
+    private AccountBalanceService balanceService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.standing-orders.scheduler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.standing-orders.scheduler.page-size:500}")
+    private int pageSize;
+
+    @Value("${ledger.standing-orders.scheduler.concurrency:4}")
+    private int concurrency;
+
+
+
+    @Value("${ledger.standing-orders.scheduler.shard-count:1}")
+    private int shardCount;
+
+    @Value("${ledger.standing-orders.scheduler.shard-index:0}")
+    private int shardIndex;
+
+    @Value("${ledger.standing-orders.scheduler.work-stealing:true}")
+    private boolean workStealing;
+
+    @Value("${ledger.standing-orders.scheduler.poll-interval:1m}")
+    private Duration pollInterval;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalStateException("Invalid standing order shard " + shardIndex + " of " + shardCount);
+        }
+        subscription = Mono.defer(() -> runOnce(LocalDate.now()))
+                .onErrorResume(e -> Mono.just(0))
+                .then(Mono.delay(pollInterval))
+                .repeat()
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Execute every standing order due on or before the given date.
+     *
+     * @return the number of claimed orders, including those that failed
+     */
+    public Mono<Integer> runOnce(LocalDate executionDate) {
+        Set<UUID> failed = ConcurrentHashMap.newKeySet();
+        return connectionBudget.withPermit(standingOrderRepository.reactivateExpiredSuspensions(executionDate))
+                .thenMany(Flux.range(0, effectiveConcurrency())
+                        .flatMap(worker -> connectionBudget.withPermit(Mono.defer(() -> executePage(executionDate, failed)))
+                                .repeat()
+                                .takeWhile(claimed -> claimed > 0)
+                                .reduce(0, Integer::sum)))
+                .reduce(0, Integer::sum);
+    }
+
+    /**
+     * Number of pages executed concurrently: the configured concurrency, capped at the {@link ConnectionBudget} shared
+     * with the other background workers.
+     */
+    int effectiveConcurrency() {
+        return connectionBudget.concurrency(concurrency);
+    }
+
+    /**
+     * Claim and execute one page of due orders in a single transaction. If the page fails, its orders are
+     * retried one by one and those that fail again are added to {@code failed}.
+     *
+     * @return the number of claimed orders
+     */
+    Mono<Integer> executePage(LocalDate executionDate, Set<UUID> failed) {
+        return ClaimedPages.process(transactionalOperator,
+                        claim(executionDate, List.copyOf(failed)),
+                        order -> standingOrderRepository.claimDueStandingOrder(order.getTransactionLineStandingOrderId(), executionDate),
+                        orders -> execute(orders).thenReturn(orders.size()),
+                        TransactionLineStandingOrder::getTransactionLineStandingOrderId,
+                        failed, 0, Integer::sum)
+                .doOnNext(page -> {
+                    record("executed", page.result());
+                    record("failed", page.failed());
+                })
+                .map(ClaimedPages.Page::claimed);
+    }
+
+    private Flux<TransactionLineStandingOrder> claim(LocalDate executionDate, Collection<UUID> excludedIds) {
+        Flux<TransactionLineStandingOrder> ownShard = standingOrderRepository
+                .claimDueStandingOrders(executionDate, shardCount, shardIndex, excludedIds, pageSize);
+        if (!workStealing || shardCount == 1) {
+            return ownShard;
+        }
+        return ownShard.switchIfEmpty(Flux.defer(() -> standingOrderRepository
+                .claimDueStandingOrders(executionDate, 1, 0, excludedIds, pageSize)));
+    }
+
+    private Mono<Void> execute(List<TransactionLineStandingOrder> orders) {
+        List<UUID> templateIds = orders.stream().map(TransactionLineStandingOrder::getTransactionId).distinct().toList();
+        return transactionRepository.findAllById(templateIds)
+                .collectMap(Transaction::getTransactionId)
+                .zipWith(legRepository.findByTransactionIdIn(templateIds).collectMultimap(TransactionLeg::getTransactionId))
+                .flatMap(templates -> write(orders, templates.getT1(), templates.getT2()));
+    }
+
+    private Mono<Void> write(List<TransactionLineStandingOrder> orders, Map<UUID, Transaction> templates,
+                             Map<UUID, Collection<TransactionLeg>> templateLegs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> transactions = new ArrayList<>(orders.size());
+        List<TransactionStatusHistory> statusHistories = new ArrayList<>(orders.size());
+        List<TransactionLeg> legs = new ArrayList<>();
+        List<TransactionLineStandingOrder> executionLines = new ArrayList<>(orders.size());
+        List<UUID> transactionIdsWithLegs = new ArrayList<>();
+        Map<UUID, TransactionDTO> createdEvents = new LinkedHashMap<>();
+        List<UUID> scheduleIds = new ArrayList<>(orders.size());
+        List<LocalDate> executionDates = new ArrayList<>(orders.size());
+        List<LocalDate> nextExecutionDates = new ArrayList<>(orders.size());
+
+        for (TransactionLineStandingOrder order : orders) {
+            Transaction template = templates.get(order.getTransactionId());
+            if (template == null) {
+                return Mono.error(new IllegalStateException(
+                        "Transaction " + order.getTransactionId() + " of standing order " + order.getStandingOrderId() + " not found"));
+            }
+            LocalDate executionDate = order.getStandingOrderNextExecutionDate();
+
+            Transaction transaction = newTransaction(order, template, executionDate, now);
+            transactions.add(transaction);
+            createdEvents.put(transaction.getTransactionId(), transactionMapper.toDTO(transaction));
+            statusHistories.add(newStatusHistory(transaction, now));
+            executionLines.add(newExecutionLine(order, transaction, executionDate, now));
+
+            Collection<TransactionLeg> orderLegs = templateLegs.getOrDefault(order.getTransactionId(), List.of());
+            for (TransactionLeg templateLeg : orderLegs) {
+                legs.add(newLeg(templateLeg, transaction));
+            }
+            if (!orderLegs.isEmpty()) {
+                transactionIdsWithLegs.add(transaction.getTransactionId());
+            }
+
+            scheduleIds.add(order.getTransactionLineStandingOrderId());
+            executionDates.add(executionDate);
+            nextExecutionDates.add(StandingOrderSchedule.nextExecutionDate(order));
+        }
+
+        return transactionRepository.insertAll(transactions)
+                .then(statusHistoryRepository.insertAll(statusHistories))
+                .then(legRepository.insertAll(legs))
+                .then(standingOrderRepository.insertAll(executionLines))
+                .then(balanceService.applyLegsOfTransactions(transactionIdsWithLegs))
+                .then(outboxService.appendAll(OutboxService.AGGREGATE_TRANSACTION, OutboxEventTypeEnum.TRANSACTION_CREATED, createdEvents))
+                .then(standingOrderRepository.advanceSchedules(scheduleIds, executionDates, nextExecutionDates))
+                .then();
+    }
+
+    private Transaction newTransaction(TransactionLineStandingOrder order, Transaction template,
+                                       LocalDate executionDate, LocalDateTime now) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setExternalReference(order.getStandingOrderReference());
+        transaction.setTransactionDate(now);
+        transaction.setValueDate(executionDate.atStartOfDay());
+        transaction.setBookingDate(now);
+        transaction.setTransactionType(TransactionTypeEnum.STANDING_ORDER);
+        transaction.setTransactionStatus(TransactionStatusEnum.POSTED);
+        transaction.setTotalAmount(template.getTotalAmount());
+        transaction.setCurrency(template.getCurrency());
+        transaction.setDescription(order.getStandingOrderPurpose() != null ? order.getStandingOrderPurpose() : template.getDescription());
+        transaction.setInitiatingParty(template.getInitiatingParty());
+        transaction.setAccountId(template.getAccountId());
+        transaction.setAccountSpaceId(template.getAccountSpaceId());
+        transaction.setTransactionCategoryId(template.getTransactionCategoryId());
+        transaction.setBranchOfficeCode(template.getBranchOfficeCode());
+        transaction.setNifInitiatingParty(template.getNifInitiatingParty());
+        transaction.setRelatedTransactionId(template.getTransactionId());
+        transaction.setRelationType(RELATION_TYPE);
+        transaction.setRequestId("standing-order:" + order.getTransactionLineStandingOrderId() + ":" + executionDate);
+        transaction.setAssetType(template.getAssetType());
+        return transaction;
+    }
+
+    private TransactionStatusHistory newStatusHistory(Transaction transaction, LocalDateTime now) {
+        TransactionStatusHistory statusHistory = new TransactionStatusHistory();
+        statusHistory.setTransactionStatusHistoryId(UUID.randomUUID());
+        statusHistory.setTransactionId(transaction.getTransactionId());
+        statusHistory.setStatusCode(transaction.getTransactionStatus());
+        statusHistory.setStatusStartDatetime(now);
+        statusHistory.setReason("Standing order execution");
+        statusHistory.setRegulatedReportingFlag(false);
+        return statusHistory;
+    }
+
+    private TransactionLeg newLeg(TransactionLeg templateLeg, Transaction transaction) {
+        TransactionLeg leg = new TransactionLeg();
+        leg.setTransactionLegId(UUID.randomUUID());
+        leg.setTransactionId(transaction.getTransactionId());
+        leg.setAccountId(templateLeg.getAccountId());
+        leg.setAccountSpaceId(templateLeg.getAccountSpaceId());
+        leg.setLegType(templateLeg.getLegType());
+        leg.setAmount(templateLeg.getAmount());
+        leg.setCurrency(templateLeg.getCurrency());
+        leg.setDescription(templateLeg.getDescription());
+        leg.setValueDate(transaction.getValueDate());
+        leg.setBookingDate(transaction.getBookingDate());
+        return leg;
+    }
+
+    private TransactionLineStandingOrder newExecutionLine(TransactionLineStandingOrder order, Transaction transaction,
+                                                          LocalDate executionDate, LocalDateTime now) {
+        TransactionLineStandingOrder line = new TransactionLineStandingOrder();
+        line.setTransactionLineStandingOrderId(UUID.randomUUID());
+        line.setTransactionId(transaction.getTransactionId());
+        line.setStandingOrderId(order.getStandingOrderId());
+        line.setStandingOrderFrequency(order.getStandingOrderFrequency());
+        line.setStandingOrderStartDate(order.getStandingOrderStartDate());
+        line.setStandingOrderEndDate(order.getStandingOrderEndDate());
+        line.setStandingOrderReference(order.getStandingOrderReference());
+        line.setStandingOrderRecipientName(order.getStandingOrderRecipientName());
+        line.setStandingOrderRecipientIban(order.getStandingOrderRecipientIban());
+        line.setStandingOrderRecipientBic(order.getStandingOrderRecipientBic());
+        line.setStandingOrderPurpose(order.getStandingOrderPurpose());
+        line.setStandingOrderLastExecutionDate(executionDate);
+        line.setStandingOrderTotalExecutions(
+                (order.getStandingOrderTotalExecutions() != null ? order.getStandingOrderTotalExecutions() : 0) + 1);
+        line.setStandingOrderSpanishTaxFlag(order.getStandingOrderSpanishTaxFlag());
+        line.setStandingOrderCreationTimestamp(now);
+        line.setStandingOrderUpdateTimestamp(now);
+        line.setStandingOrderSourceLineId(order.getTransactionLineStandingOrderId());
+        return line;
+    }
+
+    private void record(String outcome, int count) {
+        if (meterRegistry != null && count > 0) {
+            meterRegistry.counter("ledger.standing-orders.executions", "outcome", outcome).increment(count);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.standingorder.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.standingorder.v1.TransactionLineStandingOrderMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.standingorder.v1.TransactionLineStandingOrderDTO;
 import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
@@ -38,10 +39,13 @@ public class TransactionLineStandingOrderServiceImpl implements TransactionLineS
     @Autowired
     private TransactionLineStandingOrderMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineStandingOrderDTO> getStandingOrderLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO);
+        return readCaches.<TransactionLineStandingOrderDTO>lines(LedgerReadCaches.LINE_STANDING_ORDER).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO));
     }
 
     @Override
@@ -58,7 +62,8 @@ public class TransactionLineStandingOrderServiceImpl implements TransactionLineS
                 .flatMap(existingEntity -> {
                     TransactionLineStandingOrder updatedEntity = mapper.toEntity(standingOrderDTO);
                     updatedEntity.setStandingOrderId(existingEntity.getStandingOrderId());
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_STANDING_ORDER, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO);
     }
@@ -66,6 +71,6 @@ public class TransactionLineStandingOrderServiceImpl implements TransactionLineS
     @Override
     public Mono<Void> deleteStandingOrderLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_STANDING_ORDER, transactionId)));
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.statement.v1;
+
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJob;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJobItem;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobItemRepository;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Executes statement batch jobs.
+ * <p>
+ * Jobs run one at a time per instance. Each job is drained in batches of items claimed with
+ * {@code FOR UPDATE SKIP LOCKED}; the items of a batch are generated concurrently, each in its own database
+ * transaction that persists the statement and checkpoints the item. Concurrency is capped below the R2DBC
+ * pool size so API traffic still gets connections while a job runs.
+ * <p>
+ * Jobs left RUNNING by a previous instance are resumed on startup; items it had claimed are picked up again
+ * once their lease expires.
+ */
+@Component
+public class StatementJobRunner {
+
+    @Autowired
+    private StatementJobRepository jobRepository;
+
+    @Autowired
+    private StatementJobItemRepository itemRepository;
+
+    @Autowired
+    private StatementService statementService;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ConnectionBudget connectionBudget;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.statements.jobs.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ledger.statements.jobs.batch-size:200}")
+    private int batchSize;
+
+    @Value("${ledger.statements.jobs.concurrency:8}")
+    private int concurrency;
+
+
+
+    @Value("${ledger.statements.jobs.lease:5m}")
+    private Duration lease;
+
+    @Value("${ledger.statements.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    private final Sinks.Many<UUID> jobs = Sinks.many().unicast().onBackpressureBuffer();
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        subscription = jobs.asFlux()
+                .concatMap(jobId -> runJob(jobId).onErrorResume(e -> Mono.empty()))
+                .subscribe();
+        jobRepository.findByStatus(StatementJobStatusEnum.RUNNING)
+                .map(StatementJob::getJobId)
+                .subscribe(this::submit);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Queue a job for execution. Submitting a job that is already queued or completed is harmless.
+     */
+    public synchronized void submit(UUID jobId) {
+        jobs.emitNext(jobId, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+
+    /**
+     * Number of items generated concurrently: the configured concurrency, capped at the {@link ConnectionBudget} shared
+     * with the other background workers.
+     */
+    int effectiveConcurrency() {
+        return connectionBudget.concurrency(concurrency);
+    }
+
+    /**
+     * Drain all open items of a job, then mark it completed.
+     */
+    Mono<Void> runJob(UUID jobId) {
+        return connectionBudget.withPermit(jobRepository.findById(jobId))
+                .filter(job -> job.getStatus() == StatementJobStatusEnum.RUNNING)
+                .flatMap(job -> Mono.defer(() -> processBatch(job))
+                        .repeat()
+                        .takeWhile(claimed -> claimed > 0)
+                        .then(connectionBudget.withPermit(jobRepository.completeIfDrained(jobId))))
+                .then();
+    }
+
+    /**
+     * Claim and process one batch of items.
+     *
+     * @return the number of claimed items
+     */
+    Mono<Integer> processBatch(StatementJob job) {
+        // Collect the claim before processing so its permit is released before the items take theirs
+        return connectionBudget.withPermit(itemRepository.claimBatch(job.getJobId(), batchSize, lease.toMillis() / 1000.0)
+                        .collectList())
+                .flatMap(items -> Flux.fromIterable(items)
+                        .flatMap(item -> connectionBudget.withPermit(processItem(job, item)), effectiveConcurrency())
+                        .then(Mono.just(items.size())));
+    }
+
+    private Mono<Void> processItem(StatementJob job, StatementJobItem item) {
+        Timer.Sample sample = meterRegistry != null ? Timer.start(meterRegistry) : null;
+        Mono<Long> generate = statementService.generateAccountStatementSummary(item.getAccountId(), toRequest(job, item))
+                .flatMap(statement -> itemRepository.markCompleted(
+                        item.getJobItemId(), statement.getMetadata().getStatementId()));
+
+        return transactionalOperator.transactional(generate)
+                .doOnSuccess(updated -> record(sample, "completed"))
+                .then()
+                .onErrorResume(error -> itemRepository
+                        .markFailed(item.getJobItemId(), String.valueOf(error.getMessage()), maxAttempts)
+                        .doOnSuccess(updated -> record(sample, "failed"))
+                        .then());
+    }
+
+    private StatementRequestDTO toRequest(StatementJob job, StatementJobItem item) {
+        return StatementRequestDTO.builder()
+                .periodType(job.getPeriodType())
+                .startDate(job.getStartDate())
+                .endDate(job.getEndDate())
+                .year(job.getStartDate().getYear())
+                .month(job.getStartDate().getMonthValue())
+                .quarter((job.getStartDate().getMonthValue() - 1) / 3 + 1)
+                .currency(item.getCurrency())
+                .includePending(job.getIncludePending())
+                .includeDetails(job.getIncludeDetails())
+                .build();
+    }
+
+    private void record(Timer.Sample sample, String outcome) {
+        if (meterRegistry == null) {
+            return;
+        }
+        meterRegistry.counter("ledger.statement.jobs.items", "outcome", outcome).increment();
+        sample.stop(meterRegistry.timer("ledger.statement.jobs.item.duration", "outcome", outcome));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobRequestDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service interface for statement batch jobs, which generate statements for every account of a set of
+ * account spaces in the background.
+ */
+public interface StatementJobService {
+    /**
+     * Create a job and queue it for execution.
+     * The accounts to process are enumerated when the job is created.
+     *
+     * @param request The account spaces and statement period.
+     * @return The created job, or an {@link IllegalArgumentException} if the period is invalid.
+     */
+    Mono<StatementJobDTO> createJob(StatementJobRequestDTO request);
+
+    /**
+     * Get a job with its progress.
+     *
+     * @param jobId The ID of the job.
+     * @return The job, or empty if it does not exist.
+     */
+    Mono<StatementJobDTO> getJob(UUID jobId);
+
+    /**
+     * Resume a job: failed items get a fresh attempt budget and the job is queued again.
+     * Items already completed are not regenerated.
+     *
+     * @param jobId The ID of the job.
+     * @return The job, or empty if it does not exist.
+     */
+    Mono<StatementJobDTO> resumeJob(UUID jobId);
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.statement.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.statement.v1.StatementJobMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobItemStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJob;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobItemRepository;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Implementation of the StatementJobService interface.
+ * <p>
+ * Job creation and resumption run in explicit transactions so the job is only handed to the
+ * {@link StatementJobRunner} once its rows are committed.
+ */
+@Service
+public class StatementJobServiceImpl implements StatementJobService {
+
+    @Autowired
+    private StatementJobRepository jobRepository;
+
+    @Autowired
+    private StatementJobItemRepository itemRepository;
+
+    @Autowired
+    private StatementJobMapper mapper;
+
+    @Autowired
+    private StatementJobRunner runner;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<StatementJobDTO> createJob(StatementJobRequestDTO request) {
+        return Mono.defer(() -> {
+            StatementPeriod period = StatementPeriod.resolve(StatementRequestDTO.builder()
+                    .periodType(request.getPeriodType())
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .month(request.getMonth())
+                    .quarter(request.getQuarter())
+                    .year(request.getYear())
+                    .build());
+
+            StatementJob job = new StatementJob();
+            job.setPeriodType(request.getPeriodType());
+            job.setStartDate(period.startDate());
+            job.setEndDate(period.endDate());
+            job.setIncludePending(Boolean.TRUE.equals(request.getIncludePending()));
+            job.setIncludeDetails(request.getIncludeDetails() == null || request.getIncludeDetails());
+            job.setStatus(StatementJobStatusEnum.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+
+            Mono<StatementJob> create = jobRepository.save(job)
+                    .flatMap(saved -> itemRepository.insertItemsForAccountSpaces(saved.getJobId(), request.getAccountSpaceIds())
+                            .flatMap(count -> jobRepository.updateTotalItems(saved.getJobId(), count.intValue())
+                                    .then(Mono.fromSupplier(() -> {
+                                        saved.setTotalItems(count.intValue());
+                                        return saved;
+                                    }))));
+
+            return transactionalOperator.transactional(create)
+                    .doOnSuccess(saved -> runner.submit(saved.getJobId()))
+                    .flatMap(this::withProgress);
+        });
+    }
+
+    @Override
+    public Mono<StatementJobDTO> getJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .flatMap(this::withProgress);
+    }
+
+    @Override
+    public Mono<StatementJobDTO> resumeJob(UUID jobId) {
+        Mono<StatementJob> reopen = jobRepository.findById(jobId)
+                .flatMap(job -> itemRepository.resetFailed(jobId)
+                        .then(jobRepository.reopen(jobId))
+                        .thenReturn(job));
+
+        return transactionalOperator.transactional(reopen)
+                .doOnSuccess(job -> {
+                    if (job != null) {
+                        runner.submit(jobId);
+                    }
+                })
+                .then(Mono.defer(() -> getJob(jobId)));
+    }
+
+    private Mono<StatementJobDTO> withProgress(StatementJob job) {
+        UUID jobId = job.getJobId();
+        return Mono.zip(
+                        itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.PENDING),
+                        itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.IN_PROGRESS),
+                        itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.COMPLETED),
+                        itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.FAILED))
+                .map(counts -> {
+                    StatementJobDTO dto = mapper.toDTO(job);
+                    dto.setPendingItems(counts.getT1());
+                    dto.setInProgressItems(counts.getT2());
+                    dto.setCompletedItems(counts.getT3());
+                    dto.setFailedItems(counts.getT4());
+                    dto.setItemsPerSecond(throughput(job, counts.getT3() + counts.getT4()));
+                    return dto;
+                });
+    }
+
+    private static Double throughput(StatementJob job, long processedItems) {
+        if (job.getStartedAt() == null) {
+            return null;
+        }
+        LocalDateTime end = job.getCompletedAt() != null ? job.getCompletedAt() : LocalDateTime.now();
+        long elapsedMillis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+        return processedItems * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Inclusive date range covered by a statement.
+ */
+record StatementPeriod(LocalDate startDate, LocalDate endDate) {
+
+    /**
+     * Resolve the period of a statement request.
+     *
+     * @throws IllegalArgumentException if the fields required by the period type are missing or inconsistent
+     */
+    static StatementPeriod resolve(StatementRequestDTO request) {
+        if (request.getPeriodType() == null) {
+            throw new IllegalArgumentException("Period type is required");
+        }
+        switch (request.getPeriodType()) {
+            case MONTHLY -> {
+                require(request.getYear() != null && request.getMonth() != null,
+                        "Year and month are required for MONTHLY statements");
+                YearMonth yearMonth = YearMonth.of(request.getYear(), request.getMonth());
+                return new StatementPeriod(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+            }
+            case QUARTERLY -> {
+                require(request.getYear() != null && request.getQuarter() != null,
+                        "Year and quarter are required for QUARTERLY statements");
+                LocalDate start = LocalDate.of(request.getYear(), (request.getQuarter() - 1) * 3 + 1, 1);
+                return new StatementPeriod(start, start.plusMonths(3).minusDays(1));
+            }
+            case YEARLY -> {
+                require(request.getYear() != null, "Year is required for YEARLY statements");
+                return new StatementPeriod(LocalDate.of(request.getYear(), 1, 1), LocalDate.of(request.getYear(), 12, 31));
+            }
+            default -> {
+                require(request.getStartDate() != null && request.getEndDate() != null,
+                        "Start date and end date are required for CUSTOM statements");
+                require(!request.getEndDate().isBefore(request.getStartDate()),
+                        "End date must not be before start date");
+                return new StatementPeriod(request.getStartDate(), request.getEndDate());
+            }
+        }
+    }
+
+    /**
+     * Inclusive lower bound of the booking dates in the period.
+     */
+    LocalDateTime from() {
+        return startDate.atStartOfDay();
+    }
+
+    /**
+     * Exclusive upper bound of the booking dates in the period.
+     */
+    LocalDateTime to() {
+        return endDate.plusDays(1).atStartOfDay();
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
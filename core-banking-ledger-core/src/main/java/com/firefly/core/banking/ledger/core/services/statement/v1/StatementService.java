@@ -19,7 +19,12 @@ package com.firefly.core.banking.ledger.core.services.statement.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.ledger.interfaces.dtos.OffsetPageResponse;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementLineDTO;
 import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementMetadataDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -27,7 +32,7 @@ import java.time.LocalDate;
 import java.util.UUID;
 /**
  * Service interface for managing statement records.
- * Provides basic CRUD operations for statement data persistence.
+ * Provides basic CRUD operations for statement data persistence and statement generation.
  */
 public interface StatementService {
     /**
@@ -68,6 +73,20 @@ public interface StatementService {
     Mono<PaginationResponse<StatementMetadataDTO>> listAccountStatementsByDateRange(
             UUID accountId, LocalDate startDate, LocalDate endDate, PaginationRequest paginationRequest);
 
+    /**
+     * List statements for an account within a date range, optionally skipping the total count.
+     *
+     * @param accountId The ID of the account.
+     * @param startDate The start date of the range.
+     * @param endDate The end date of the range.
+     * @param paginationRequest Pagination parameters.
+     * @param includeCount Whether to count the statements in the range; when false no count query is run and
+     *                     the totals are null, leaving {@code hasNext} to tell whether another page exists.
+     * @return A page of statement metadata.
+     */
+    Mono<OffsetPageResponse<StatementMetadataDTO>> listAccountStatementsByDateRange(
+            UUID accountId, LocalDate startDate, LocalDate endDate, PaginationRequest paginationRequest, boolean includeCount);
+
     /**
      * List statements for an account space within a date range.
      *
@@ -79,4 +98,41 @@ public interface StatementService {
      */
     Mono<PaginationResponse<StatementMetadataDTO>> listAccountSpaceStatementsByDateRange(
             UUID accountSpaceId, LocalDate startDate, LocalDate endDate, PaginationRequest paginationRequest);
+
+    /**
+     * List statements for an account space within a date range, optionally skipping the total count.
+     *
+     * @param accountSpaceId The ID of the account space.
+     * @param startDate The start date of the range.
+     * @param endDate The end date of the range.
+     * @param paginationRequest Pagination parameters.
+     * @param includeCount Whether to count the statements in the range; when false no count query is run and
+     *                     the totals are null, leaving {@code hasNext} to tell whether another page exists.
+     * @return A page of statement metadata.
+     */
+    Mono<OffsetPageResponse<StatementMetadataDTO>> listAccountSpaceStatementsByDateRange(
+            UUID accountSpaceId, LocalDate startDate, LocalDate endDate, PaginationRequest paginationRequest, boolean includeCount);
+
+    /**
+     * Generate a statement for an account and stream it.
+     * Emits a HEADER record (period and opening balance), one ENTRY record per leg in booking order with its
+     * running balance, and a SUMMARY record with totals, closing balance and the persisted statement metadata.
+     * Entries are computed in a single pass over the legs, so memory use does not grow with the statement size.
+     *
+     * @param accountId The ID of the account.
+     * @param request The statement period and options; {@code currency} is required.
+     * @return The statement records, or an {@link IllegalArgumentException} if the request is invalid.
+     */
+    Flux<StatementLineDTO> generateAccountStatement(UUID accountId, StatementRequestDTO request);
+
+    /**
+     * Generate a statement for an account without its entries.
+     * Totals are computed with aggregate queries and the statement metadata is persisted; used by batch jobs
+     * that only need the statement record.
+     *
+     * @param accountId The ID of the account.
+     * @param request The statement period and options; {@code currency} is required.
+     * @return The statement with metadata and balances but no entries.
+     */
+    Mono<StatementDTO> generateAccountStatementSummary(UUID accountId, StatementRequestDTO request);
 }
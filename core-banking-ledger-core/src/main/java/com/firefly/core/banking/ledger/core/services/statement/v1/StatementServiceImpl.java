@@ -21,26 +21,44 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.ledger.core.mappers.statement.v1.StatementMapper;
+import com.firefly.core.banking.ledger.core.money.MoneyAccumulator;
+import com.firefly.core.banking.ledger.core.queries.OffsetPaginationUtils;
+import com.firefly.core.banking.ledger.interfaces.dtos.OffsetPageResponse;
 import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementDTO;
 import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementEntryDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementLineDTO;
 import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementMetadataDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementLineTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.StatementLegView;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
 import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Implementation of the StatementService interface.
+ * <p>
+ * Balances and totals are summed as scaled longs at the minor units of the statement currency
+ * ({@link MoneyAccumulator}). Streamed legs arrive with their amount already in minor units, converted by the
+ * database, so the running totals allocate nothing per leg; amounts are only converted to {@code BigDecimal}
+ * when statement lines are emitted.
  */
 @Service
 @Transactional
@@ -52,6 +70,14 @@ public class StatementServiceImpl implements StatementService {
     @Autowired
     private StatementMapper mapper;
 
+    @Autowired
+    private TransactionLegRepository legRepository;
+
+    @Value("${ledger.statements.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${ledger.statements.stream-timeout:5m}")
+    private Duration streamTimeout;
 
     @Override
     public Mono<StatementMetadataDTO> getStatement(UUID statementId) {
@@ -85,8 +111,22 @@ public class StatementServiceImpl implements StatementService {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
-                pageable -> repository.findByAccountIdAndDateRange(accountId, startDate, endDate, pageable),
-                () -> repository.countByAccountId(accountId) // This is a simplification, ideally we'd count only within the date range
+                pageable -> repository.findByAccountIdAndDateRange(
+                        accountId, startDate, endDate, pageable.getPageSize(), pageable.getOffset()),
+                () -> repository.countByAccountIdAndDateRange(accountId, startDate, endDate)
+        );
+    }
+
+    @Override
+    public Mono<OffsetPageResponse<StatementMetadataDTO>> listAccountStatementsByDateRange(
+            UUID accountId, LocalDate startDate, LocalDate endDate, PaginationRequest paginationRequest, boolean includeCount) {
+        return OffsetPaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                (limit, offset) -> repository.findByAccountIdAndDateRange(accountId, startDate, endDate, limit, offset),
+                includeCount
+                        ? () -> repository.countByAccountIdAndDateRange(accountId, startDate, endDate)
+                        : null
         );
     }
 
@@ -96,8 +136,211 @@ public class StatementServiceImpl implements StatementService {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
-                pageable -> repository.findByAccountSpaceIdAndDateRange(accountSpaceId, startDate, endDate, pageable),
-                () -> repository.countByAccountSpaceId(accountSpaceId) // This is a simplification, ideally we'd count only within the date range
+                pageable -> repository.findByAccountSpaceIdAndDateRange(
+                        accountSpaceId, startDate, endDate, pageable.getPageSize(), pageable.getOffset()),
+                () -> repository.countByAccountSpaceIdAndDateRange(accountSpaceId, startDate, endDate)
         );
     }
+
+    @Override
+    public Mono<OffsetPageResponse<StatementMetadataDTO>> listAccountSpaceStatementsByDateRange(
+            UUID accountSpaceId, LocalDate startDate, LocalDate endDate, PaginationRequest paginationRequest, boolean includeCount) {
+        return OffsetPaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                (limit, offset) -> repository.findByAccountSpaceIdAndDateRange(accountSpaceId, startDate, endDate, limit, offset),
+                includeCount
+                        ? () -> repository.countByAccountSpaceIdAndDateRange(accountSpaceId, startDate, endDate)
+                        : null
+        );
+    }
+
+    /**
+     * Runs in a REPEATABLE READ transaction so the opening balance and the streamed legs
+     * are read from the same snapshot.
+     * <p>
+     * The transaction, its connection and its snapshot are held until the last record is written to the client,
+     * so a slow reader holds them as long as it reads. Paging the legs in separate short transactions would
+     * give up the single snapshot, and a running balance computed across snapshots can disagree with the
+     * closing balance. The stream therefore keeps one transaction but fails with a {@link TimeoutException}
+     * once it has run for {@code ledger.statements.stream-timeout}. The transaction is then rolled back and
+     * the statement is not persisted. Statements too large to download within that time should be generated by a
+     * statement job or requested as a summary.
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public Flux<StatementLineDTO> generateAccountStatement(UUID accountId, StatementRequestDTO request) {
+        return Flux.defer(() -> {
+            StatementPeriod period = resolveRequest(request);
+            StatementMetadataDTO metadata = newMetadata(accountId, request, period);
+            List<String> statuses = includedStatuses(metadata.getIncludedPending());
+            boolean includeDetails = metadata.getIncludedDetails();
+
+            return legRepository.sumSignedAmountBefore(accountId, request.getCurrency(), period.from(), statuses)
+                    .flatMapMany(openingBalance -> {
+                        RunningTotals totals = new RunningTotals(openingBalance, request.getCurrency());
+
+                        Mono<StatementLineDTO> header = Mono.fromSupplier(() -> StatementLineDTO.builder()
+                                .type(StatementLineTypeEnum.HEADER)
+                                .statement(StatementDTO.builder()
+                                        .metadata(metadata)
+                                        .openingBalance(openingBalance)
+                                        .build())
+                                .build());
+
+                        Flux<StatementLineDTO> entries = legRepository
+                                .streamStatementLegs(accountId, request.getCurrency(), period.from(), period.to(),
+                                        statuses, totals.scale(), fetchSize)
+                                .map(leg -> StatementLineDTO.builder()
+                                        .type(StatementLineTypeEnum.ENTRY)
+                                        .entry(toEntry(leg, totals.apply(leg), includeDetails))
+                                        .build());
+
+                        Mono<StatementLineDTO> summary = Mono.defer(() -> {
+                            metadata.setTransactionCount(totals.count);
+                            return repository.save(mapper.toEntity(metadata))
+                                    .map(saved -> StatementLineDTO.builder()
+                                            .type(StatementLineTypeEnum.SUMMARY)
+                                            .statement(StatementDTO.builder()
+                                                    .metadata(mapper.toDTO(saved))
+                                                    .openingBalance(openingBalance)
+                                                    .closingBalance(totals.balance.toBigDecimal())
+                                                    .totalCredits(totals.credits.toBigDecimal())
+                                                    .totalDebits(totals.debits.toBigDecimal())
+                                                    .build())
+                                            .build());
+                        });
+
+                        return Flux.concat(header, entries, summary);
+                    })
+                    .takeUntilOther(Mono.delay(streamTimeout).then(Mono.error(() -> new TimeoutException(
+                            "Statement streaming exceeded " + streamTimeout))));
+        });
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public Mono<StatementDTO> generateAccountStatementSummary(UUID accountId, StatementRequestDTO request) {
+        return Mono.defer(() -> {
+            StatementPeriod period = resolveRequest(request);
+            StatementMetadataDTO metadata = newMetadata(accountId, request, period);
+            List<String> statuses = includedStatuses(metadata.getIncludedPending());
+
+            return legRepository.sumSignedAmountBefore(accountId, request.getCurrency(), period.from(), statuses)
+                    .flatMap(openingBalance -> legRepository
+                            .sumStatementPeriod(accountId, request.getCurrency(), period.from(), period.to(), statuses)
+                            .flatMap(totals -> {
+                                metadata.setTransactionCount(Math.toIntExact(totals.getLegCount()));
+                                return repository.save(mapper.toEntity(metadata))
+                                        .map(saved -> StatementDTO.builder()
+                                                .metadata(mapper.toDTO(saved))
+                                                .openingBalance(openingBalance)
+                                                .closingBalance(MoneyAccumulator.forCurrency(request.getCurrency())
+                                                        .add(openingBalance)
+                                                        .add(totals.getTotalCredits())
+                                                        .subtract(totals.getTotalDebits())
+                                                        .toBigDecimal())
+                                                .totalCredits(totals.getTotalCredits())
+                                                .totalDebits(totals.getTotalDebits())
+                                                .build());
+                            }));
+        });
+    }
+
+    private static StatementPeriod resolveRequest(StatementRequestDTO request) {
+        if (request.getCurrency() == null || request.getCurrency().isBlank()) {
+            throw new IllegalArgumentException("Currency is required to generate a statement");
+        }
+        return StatementPeriod.resolve(request);
+    }
+
+    private static StatementMetadataDTO newMetadata(UUID accountId, StatementRequestDTO request, StatementPeriod period) {
+        StatementMetadataDTO metadata = new StatementMetadataDTO();
+        metadata.setAccountId(accountId);
+        metadata.setPeriodType(request.getPeriodType());
+        metadata.setStartDate(period.startDate());
+        metadata.setEndDate(period.endDate());
+        metadata.setGenerationDate(LocalDateTime.now());
+        metadata.setIncludedPending(Boolean.TRUE.equals(request.getIncludePending()));
+        metadata.setIncludedDetails(request.getIncludeDetails() == null || request.getIncludeDetails());
+        return metadata;
+    }
+
+    private static List<String> includedStatuses(boolean includePending) {
+        List<String> statuses = new ArrayList<>();
+        statuses.add(TransactionStatusEnum.POSTED.name());
+        statuses.add(TransactionStatusEnum.REVERSED.name());
+        if (includePending) {
+            statuses.add(TransactionStatusEnum.PENDING.name());
+        }
+        return statuses;
+    }
+
+    private static StatementEntryDTO toEntry(StatementLegView leg, BigDecimal runningBalance, boolean includeDetails) {
+        StatementEntryDTO entry = new StatementEntryDTO();
+        entry.setTransactionId(leg.getTransactionId());
+        entry.setTransactionDate(leg.getTransactionDate());
+        entry.setValueDate(leg.getValueDate());
+        entry.setBookingDate(leg.getBookingDate());
+        entry.setTransactionType(leg.getTransactionType());
+        entry.setTransactionStatus(leg.getTransactionStatus());
+        entry.setAmount(RunningTotals.signedAmount(leg));
+        entry.setCurrency(leg.getCurrency());
+        entry.setRunningBalance(runningBalance);
+        if (includeDetails) {
+            entry.setDescription(leg.getDescription());
+            entry.setInitiatingParty(leg.getInitiatingParty());
+            entry.setExternalReference(leg.getExternalReference());
+            entry.setTransactionCategoryId(leg.getTransactionCategoryId());
+        }
+        return entry;
+    }
+
+    /**
+     * Single-pass accumulator for one statement generation. Confined to the subscription that created it.
+     */
+    private static final class RunningTotals {
+        private final MoneyAccumulator balance;
+        private final MoneyAccumulator credits;
+        private final MoneyAccumulator debits;
+        private int count;
+
+        private RunningTotals(BigDecimal openingBalance, String currency) {
+            this.balance = MoneyAccumulator.forCurrency(currency).add(openingBalance);
+            this.credits = MoneyAccumulator.forCurrency(currency);
+            this.debits = MoneyAccumulator.forCurrency(currency);
+        }
+
+        private int scale() {
+            return balance.scale();
+        }
+
+        private BigDecimal apply(StatementLegView leg) {
+            // Legs with digits beyond the minor units come without units and are summed exactly instead
+            Long units = leg.getAmountUnits();
+            if ("CREDIT".equals(leg.getLegType())) {
+                if (units != null) {
+                    credits.addUnits(units);
+                    balance.addUnits(units);
+                } else {
+                    credits.add(leg.getAmount());
+                    balance.add(leg.getAmount());
+                }
+            } else {
+                if (units != null) {
+                    debits.addUnits(units);
+                    balance.subtractUnits(units);
+                } else {
+                    debits.add(leg.getAmount());
+                    balance.subtract(leg.getAmount());
+                }
+            }
+            count++;
+            return balance.toBigDecimal();
+        }
+
+        private static BigDecimal signedAmount(StatementLegView leg) {
+            return "CREDIT".equals(leg.getLegType()) ? leg.getAmount() : leg.getAmount().negate();
+        }
+    }
 }
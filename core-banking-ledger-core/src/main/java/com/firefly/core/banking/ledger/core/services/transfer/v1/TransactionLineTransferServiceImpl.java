@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.transfer.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.transfer.v1.TransactionLineTransferMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.transfer.v1.TransactionLineTransferDTO;
 import com.firefly.core.banking.ledger.models.entities.transfer.v1.TransactionLineTransfer;
@@ -42,10 +43,13 @@ public class TransactionLineTransferServiceImpl implements TransactionLineTransf
     @Autowired
     private TransactionLineTransferMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineTransferDTO> getTransferLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineTransferDTO>lines(LedgerReadCaches.LINE_TRANSFER).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Transfer not found")));
     }
 
@@ -65,7 +69,8 @@ public class TransactionLineTransferServiceImpl implements TransactionLineTransf
                     TransactionLineTransfer updatedEntity = mapper.toEntity(transferDTO);
                     updatedEntity.setTransactionLineTransferId(existingEntity.getTransactionLineTransferId());
                     updatedEntity.setTransactionId(transactionId);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_TRANSFER, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO)
                 .switchIfEmpty(Mono.error(new RuntimeException("Failed to update Transaction Line Transfer")));
@@ -74,7 +79,7 @@ public class TransactionLineTransferServiceImpl implements TransactionLineTransf
     @Override
     public Mono<Void> deleteTransferLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
-                .flatMap(entity -> repository.delete(entity))
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_TRANSFER, transactionId)))
                 .switchIfEmpty(Mono.empty());
     }
 }
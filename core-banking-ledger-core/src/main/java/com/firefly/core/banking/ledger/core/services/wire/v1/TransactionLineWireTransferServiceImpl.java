@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.wire.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.wire.v1.TransactionLineWireTransferMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.wire.v1.TransactionLineWireTransferDTO;
 import com.firefly.core.banking.ledger.models.entities.wire.v1.TransactionLineWireTransfer;
@@ -38,10 +39,13 @@ public class TransactionLineWireTransferServiceImpl implements TransactionLineWi
     @Autowired
     private TransactionLineWireTransferMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineWireTransferDTO> getWireTransferLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO);
+        return readCaches.<TransactionLineWireTransferDTO>lines(LedgerReadCaches.LINE_WIRE_TRANSFER).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO));
     }
 
     @Override
@@ -58,7 +62,8 @@ public class TransactionLineWireTransferServiceImpl implements TransactionLineWi
                 .flatMap(existingEntity -> {
                     TransactionLineWireTransfer updatedEntity = mapper.toEntity(wireDTO);
                     updatedEntity.setTransactionLineWireTransferId(existingEntity.getTransactionLineWireTransferId());
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_WIRE_TRANSFER, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO);
     }
@@ -66,6 +71,6 @@ public class TransactionLineWireTransferServiceImpl implements TransactionLineWi
     @Override
     public Mono<Void> deleteWireTransferLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_WIRE_TRANSFER, transactionId)));
     }
 }
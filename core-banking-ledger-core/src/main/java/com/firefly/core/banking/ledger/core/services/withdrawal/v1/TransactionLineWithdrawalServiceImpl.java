@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.core.services.withdrawal.v1;
 
 import java.util.UUID;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.withdrawal.v1.TransactionLineWithdrawalMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.withdrawal.v1.TransactionLineWithdrawalDTO;
 import com.firefly.core.banking.ledger.models.entities.withdrawal.v1.TransactionLineWithdrawal;
@@ -42,10 +43,13 @@ public class TransactionLineWithdrawalServiceImpl implements TransactionLineWith
     @Autowired
     private TransactionLineWithdrawalMapper mapper;
 
+    @Autowired
+    private LedgerReadCaches readCaches;
+
     @Override
     public Mono<TransactionLineWithdrawalDTO> getWithdrawalLine(UUID transactionId) {
-        return repository.findByTransactionId(transactionId)
-                .map(mapper::toDTO)
+        return readCaches.<TransactionLineWithdrawalDTO>lines(LedgerReadCaches.LINE_WITHDRAWAL).get(transactionId, () -> repository.findByTransactionId(transactionId)
+                .map(mapper::toDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction Line Withdrawal not found")));
     }
 
@@ -65,7 +69,8 @@ public class TransactionLineWithdrawalServiceImpl implements TransactionLineWith
                     TransactionLineWithdrawal updatedEntity = mapper.toEntity(withdrawalDTO);
                     updatedEntity.setTransactionLineWithdrawalId(existingEntity.getTransactionLineWithdrawalId());
                     updatedEntity.setTransactionId(transactionId);
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(savedEntity -> readCaches.invalidateLine(LedgerReadCaches.LINE_WITHDRAWAL, transactionId).thenReturn(savedEntity));
                 })
                 .map(mapper::toDTO)
                 .switchIfEmpty(Mono.error(new RuntimeException("Failed to update Transaction Line Withdrawal")));
@@ -74,7 +79,7 @@ public class TransactionLineWithdrawalServiceImpl implements TransactionLineWith
     @Override
     public Mono<Void> deleteWithdrawalLine(UUID transactionId) {
         return repository.findByTransactionId(transactionId)
-                .flatMap(entity -> repository.delete(entity))
+                .flatMap(entity -> repository.delete(entity).then(readCaches.invalidateLine(LedgerReadCaches.LINE_WITHDRAWAL, transactionId)))
                 .switchIfEmpty(Mono.empty());
     }
 }
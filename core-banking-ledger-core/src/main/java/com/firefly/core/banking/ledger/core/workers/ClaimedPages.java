@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.workers;
+
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Processes pages of rows claimed with {@code FOR UPDATE SKIP LOCKED}, each page in one database transaction.
+ * <p>
+ * If a page fails, its rows are claimed again and processed one by one, each in its own transaction, so one bad
+ * row does not hold back the rest of its page. Rows that fail again are added to the run's failed set, which its
+ * later claims exclude, so a run always ends.
+ */
+public final class ClaimedPages {
+
+    private ClaimedPages() {
+    }
+
+    /**
+     * Claim and process one page.
+     *
+     * @param claim claims the page, excluding the rows in {@code failed}
+     * @param reclaim claims one row of a failed page again, or completes empty if it is no longer due
+     * @param process processes claimed rows, a whole page or a single row
+     * @param idOf the ID under which a failed row is added to {@code failed}
+     * @param failed the rows the run has given up on
+     * @param empty the result of processing nothing
+     * @param plus combines the results of single rows
+     * @return the page, with no rows claimed when nothing was due
+     */
+    public static <T, R> Mono<Page<R>> process(TransactionalOperator transactionalOperator,
+                                               Flux<T> claim,
+                                               Function<T, Mono<T>> reclaim,
+                                               Function<List<T>, Mono<R>> process,
+                                               Function<T, UUID> idOf,
+                                               Set<UUID> failed,
+                                               R empty,
+                                               BinaryOperator<R> plus) {
+        List<T> claimed = new ArrayList<>();
+        Mono<R> page = claim.collectList()
+                .flatMap(rows -> {
+                    claimed.addAll(rows);
+                    return rows.isEmpty() ? Mono.just(empty) : process.apply(rows);
+                });
+
+        return transactionalOperator.transactional(page)
+                .map(result -> new Page<>(claimed.size(), result, 0))
+                .onErrorResume(pageError -> Flux.fromIterable(claimed)
+                        .concatMap(row -> transactionalOperator.transactional(reclaim.apply(row)
+                                        .flatMap(single -> process.apply(List.of(single))))
+                                .map(result -> new Page<>(0, result, 0))
+                                .onErrorResume(error -> {
+                                    failed.add(idOf.apply(row));
+                                    return Mono.just(new Page<>(0, empty, 1));
+                                }))
+                        .reduce(new Page<>(claimed.size(), empty, 0), (total, single) -> total.plus(single, plus)));
+    }
+
+    /**
+     * Outcome of one page.
+     *
+     * @param claimed the number of rows claimed
+     * @param result the combined result of the rows processed
+     * @param failed the number of rows that failed on their own and were added to the failed set
+     */
+    public record Page<R>(int claimed, R result, int failed) {
+
+        Page<R> plus(Page<R> other, BinaryOperator<R> plus) {
+            return new Page<>(claimed + other.claimed, plus.apply(result, other.result), failed + other.failed);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.workers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.pool.Pool;
+import reactor.pool.PoolBuilder;
+
+/**
+ * Connections of the R2DBC pool that background work may hold at once, shared by every batch worker and scheduler
+ * so that API traffic still gets connections while they run.
+ * <p>
+ * Holds {@code spring.r2dbc.pool.max-size} minus {@code ledger.workers.reserved-connections} permits (at least 1).
+ * Each unit of background work that holds one connection at a time, a claimed page or one scheduler run, holds
+ * a permit while it runs; units beyond the budget wait for one in arrival order, whichever worker they come from.
+ * A unit must not wait for a permit while holding one, or the workers could deadlock once the budget is used up.
+ */
+@Component
+public class ConnectionBudget {
+
+    private static final Object PERMIT = new Object();
+
+    private final int permits;
+    private final Pool<Object> pool;
+
+    public ConnectionBudget(@Value("${spring.r2dbc.pool.max-size:10}") int poolMaxSize,
+                            @Value("${ledger.workers.reserved-connections:2}") int reservedConnections) {
+        this.permits = Math.max(1, poolMaxSize - reservedConnections);
+        this.pool = PoolBuilder.from(Mono.just(PERMIT))
+                .sizeBetween(0, permits)
+                .buildPool();
+    }
+
+    /**
+     * @return the number of permits, i.e. the connections background work may hold at once
+     */
+    public int permits() {
+        return permits;
+    }
+
+    /**
+     * Return the configured concurrency of a worker, capped at the budget; at least 1. Running more units than
+     * there are permits would only queue them.
+     */
+    public int concurrency(int configured) {
+        return Math.max(1, Math.min(configured, permits));
+    }
+
+    /**
+     * Run {@code work} once a permit is available, and release the permit when it terminates or is cancelled.
+     */
+    public <T> Mono<T> withPermit(Mono<T> work) {
+        return Mono.from(pool.withPoolable(permit -> work));
+    }
+}
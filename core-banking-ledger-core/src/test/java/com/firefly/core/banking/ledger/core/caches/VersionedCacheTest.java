@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.caches;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VersionedCacheTest {
+
+    private record Versioned(String value, long version) {
+    }
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Mono<Versioned> load(Versioned value) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return value;
+        });
+    }
+
+    @Test
+    void get_ServesSecondReadFromCache() {
+        // Arrange
+        VersionedCache<String, Versioned> cache = new VersionedCache<>(10, Duration.ofMinutes(1), Versioned::version);
+        Versioned value = new Versioned("a", 1);
+
+        // Act & Assert
+        StepVerifier.create(cache.get("k", () -> load(value))).expectNext(value).verifyComplete();
+        StepVerifier.create(cache.get("k", () -> load(value))).expectNext(value).verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void get_DoesNotCacheValueOlderThanInvalidation() {
+        // Arrange
+        VersionedCache<String, Versioned> cache = new VersionedCache<>(10, Duration.ofMinutes(1), Versioned::version);
+        Versioned stale = new Versioned("old", 1);
+        Versioned fresh = new Versioned("new", 2);
+        cache.invalidate("k", 2);
+
+        // Act & Assert
+        StepVerifier.create(cache.get("k", () -> load(stale))).expectNext(stale).verifyComplete();
+        StepVerifier.create(cache.get("k", () -> load(fresh))).expectNext(fresh).verifyComplete();
+        StepVerifier.create(cache.get("k", () -> load(stale))).expectNext(fresh).verifyComplete();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_DoesNotCacheLoadThatStartedBeforeInvalidation() {
+        // Arrange
+        VersionedCache<String, String> cache = new VersionedCache<>(10, Duration.ofMinutes(1), null);
+        Mono<String> inFlight = cache.get("k", () -> Mono.just("old").doOnNext(v -> cache.invalidate("k")));
+
+        // Act & Assert
+        StepVerifier.create(inFlight).expectNext("old").verifyComplete();
+        StepVerifier.create(cache.get("k", () -> Mono.just("new"))).expectNext("new").verifyComplete();
+        StepVerifier.create(cache.get("k", () -> Mono.just("other"))).expectNext("new").verifyComplete();
+    }
+
+    @Test
+    void get_EvictsLeastRecentlyUsedBeyondMaxSize() {
+        // Arrange
+        VersionedCache<String, String> cache = new VersionedCache<>(2, Duration.ofMinutes(1), null);
+
+        // Act
+        cache.get("a", () -> Mono.just("a")).block();
+        cache.get("b", () -> Mono.just("b")).block();
+        cache.get("c", () -> Mono.just("c")).block();
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertEquals(3, cache.putCount());
+    }
+
+    @Test
+    void get_PassesThroughWhenMaxSizeIsZero() {
+        // Arrange
+        VersionedCache<String, Versioned> cache = new VersionedCache<>(0, Duration.ofMinutes(1), Versioned::version);
+        Versioned value = new Versioned("a", 1);
+
+        // Act
+        cache.get("k", () -> load(value)).block();
+        cache.get("k", () -> load(value)).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void add_SumsAtCurrencyMinorUnits() {
+        // Arrange
+        MoneyAccumulator accumulator = MoneyAccumulator.forCurrency("EUR");
+
+        // Act
+        accumulator.add(new BigDecimal("100.00"))
+                .add(new BigDecimal("25.5000"))
+                .subtract(new BigDecimal("30.25"))
+                .add(null);
+
+        // Assert
+        assertTrue(accumulator.isScaled());
+        assertEquals(9525L, accumulator.units());
+        assertEquals(new BigDecimal("95.25"), accumulator.toBigDecimal());
+    }
+
+    @Test
+    void add_UsesZeroMinorUnitsForYen() {
+        // Arrange
+        MoneyAccumulator accumulator = MoneyAccumulator.forCurrency("jpy");
+
+        // Act
+        accumulator.add(new BigDecimal("1500")).add(new BigDecimal("250.0000"));
+
+        // Assert
+        assertEquals(0, accumulator.scale());
+        assertEquals(new BigDecimal("1750"), accumulator.toBigDecimal());
+    }
+
+    @Test
+    void add_SwitchesToExactSumOnExcessPrecision() {
+        // Arrange
+        MoneyAccumulator accumulator = MoneyAccumulator.forCurrency("EUR").add(new BigDecimal("10.00"));
+
+        // Act
+        accumulator.add(new BigDecimal("0.0050")).add(new BigDecimal("1.00"));
+
+        // Assert
+        assertFalse(accumulator.isScaled());
+        assertEquals(new BigDecimal("11.0050"), accumulator.toBigDecimal());
+        assertThrows(ArithmeticException.class, accumulator::units);
+    }
+
+    @Test
+    void add_SwitchesToExactSumOnOverflow() {
+        // Arrange
+        MoneyAccumulator accumulator = new MoneyAccumulator(2).addUnits(Long.MAX_VALUE);
+
+        // Act
+        accumulator.add(new BigDecimal("0.01"));
+
+        // Assert
+        assertFalse(accumulator.isScaled());
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01")), accumulator.toBigDecimal());
+    }
+
+    @Test
+    void subtractUnits_ContinuesExactlyAfterSwitch() {
+        // Arrange
+        MoneyAccumulator accumulator = MoneyAccumulator.forCurrency("EUR").addUnits(1000).subtractUnits(250);
+
+        // Act
+        accumulator.add(new BigDecimal("0.0050")).subtractUnits(100);
+
+        // Assert
+        assertFalse(accumulator.isScaled());
+        assertEquals(new BigDecimal("6.5050"), accumulator.toBigDecimal());
+    }
+
+    @Test
+    void of_FallsBackToDefaultMinorUnits() {
+        assertEquals(MinorUnits.DEFAULT_MINOR_UNITS, MinorUnits.of("XYZ1"));
+        assertEquals(MinorUnits.DEFAULT_MINOR_UNITS, MinorUnits.of(null));
+        assertEquals(3, MinorUnits.of(" kwd "));
+    }
+}
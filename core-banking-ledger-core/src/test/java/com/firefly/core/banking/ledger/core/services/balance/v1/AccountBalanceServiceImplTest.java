@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.balance.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.balance.v1.AccountBalanceMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.models.entities.balance.v1.AccountBalance;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceRepository;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository.BalanceAsOf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountBalanceServiceImplTest {
+
+    @Mock
+    private AccountBalanceRepository repository;
+
+    @Mock
+    private AccountBalanceMapper mapper;
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @InjectMocks
+    private AccountBalanceServiceImpl service;
+
+    private TransactionLegDTO legDTO;
+    private AccountBalance balanceEntity;
+    private AccountBalanceDTO balanceDTO;
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID accountSpaceId = UUID.randomUUID();
+    private final LocalDateTime bookingDate = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        legDTO = new TransactionLegDTO();
+        legDTO.setAccountId(accountId);
+        legDTO.setLegType("CREDIT");
+        legDTO.setAmount(new BigDecimal("250.00"));
+        legDTO.setCurrency("EUR");
+        legDTO.setValueDate(bookingDate);
+        legDTO.setBookingDate(bookingDate);
+
+        balanceEntity = new AccountBalance();
+        balanceEntity.setAccountId(accountId);
+        balanceEntity.setCurrency("EUR");
+        balanceEntity.setBalance(new BigDecimal("250.00"));
+
+        balanceDTO = new AccountBalanceDTO();
+        balanceDTO.setAccountId(accountId);
+        balanceDTO.setCurrency("EUR");
+        balanceDTO.setBalance(new BigDecimal("250.00"));
+    }
+
+    @Test
+    void applyLeg_Credit_Success() {
+        // Arrange
+        when(repository.applyLeg(accountId, null, "EUR", new BigDecimal("250.00"), BigDecimal.ZERO, bookingDate))
+                .thenReturn(Mono.just(balanceEntity));
+        when(mapper.toDTO(balanceEntity)).thenReturn(balanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.applyLeg(legDTO))
+                .expectNext(balanceDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void applyLeg_Debit_Success() {
+        // Arrange
+        legDTO.setLegType("DEBIT");
+        when(repository.applyLeg(accountId, null, "EUR", BigDecimal.ZERO, new BigDecimal("250.00"), bookingDate))
+                .thenReturn(Mono.just(balanceEntity));
+        when(mapper.toDTO(balanceEntity)).thenReturn(balanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.applyLeg(legDTO))
+                .expectNext(balanceDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void applyLeg_MissingAccount_Error() {
+        // Arrange
+        legDTO.setAccountId(null);
+
+        // Act & Assert
+        StepVerifier.create(service.applyLeg(legDTO))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(repository, never()).applyLeg(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getAccountBalances_FilterByAccountSpace_Success() {
+        // Arrange
+        AccountBalance spaceBalance = new AccountBalance();
+        spaceBalance.setAccountId(accountId);
+        spaceBalance.setAccountSpaceId(accountSpaceId);
+        AccountBalanceDTO spaceBalanceDTO = new AccountBalanceDTO();
+        when(repository.findByAccountIdAndAccountSpaceId(accountId, accountSpaceId)).thenReturn(Flux.just(spaceBalance));
+        when(mapper.toDTO(spaceBalance)).thenReturn(spaceBalanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountBalances(accountId, accountSpaceId, null))
+                .expectNext(spaceBalanceDTO)
+                .verifyComplete();
+
+        verify(repository, never()).findByAccountId(any(UUID.class));
+    }
+
+    @Test
+    void getAccountBalances_FilterByAccountSpaceAndCurrency_Success() {
+        // Arrange
+        AccountBalance spaceBalance = new AccountBalance();
+        spaceBalance.setAccountId(accountId);
+        spaceBalance.setAccountSpaceId(accountSpaceId);
+        AccountBalanceDTO spaceBalanceDTO = new AccountBalanceDTO();
+        when(repository.findByAccountIdAndAccountSpaceIdAndCurrency(accountId, accountSpaceId, "EUR"))
+                .thenReturn(Flux.just(spaceBalance));
+        when(mapper.toDTO(spaceBalance)).thenReturn(spaceBalanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountBalances(accountId, accountSpaceId, "EUR"))
+                .expectNext(spaceBalanceDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void getAccountBalances_FilterByCurrency_Success() {
+        // Arrange
+        when(repository.findByAccountIdAndCurrency(accountId, "EUR")).thenReturn(Flux.just(balanceEntity));
+        when(mapper.toDTO(balanceEntity)).thenReturn(balanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountBalances(accountId, null, "EUR"))
+                .expectNext(balanceDTO)
+                .verifyComplete();
+
+        verify(repository, never()).findByAccountId(any(UUID.class));
+    }
+
+    @Test
+    void applyLeg_Backdated_InvalidatesSnapshots() {
+        // Arrange
+        LocalDateTime valueDate = bookingDate.minusDays(3);
+        legDTO.setValueDate(valueDate);
+        when(repository.applyLeg(accountId, null, "EUR", new BigDecimal("250.00"), BigDecimal.ZERO, bookingDate))
+                .thenReturn(Mono.just(balanceEntity));
+        when(snapshotRepository.invalidate(accountId, "EUR", valueDate.toLocalDate())).thenReturn(Mono.empty());
+        when(mapper.toDTO(balanceEntity)).thenReturn(balanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.applyLeg(legDTO))
+                .expectNext(balanceDTO)
+                .verifyComplete();
+
+        verify(snapshotRepository).invalidate(accountId, "EUR", valueDate.toLocalDate());
+    }
+
+    @Test
+    void applyLeg_CurrentDay_KeepsSnapshots() {
+        // Arrange
+        when(repository.applyLeg(accountId, null, "EUR", new BigDecimal("250.00"), BigDecimal.ZERO, bookingDate))
+                .thenReturn(Mono.just(balanceEntity));
+        when(mapper.toDTO(balanceEntity)).thenReturn(balanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.applyLeg(legDTO))
+                .expectNext(balanceDTO)
+                .verifyComplete();
+
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    @Test
+    void getAccountBalancesAsOf_EveryCurrencyOfTheAccount() {
+        // Arrange
+        LocalDate asOf = LocalDate.of(2025, 3, 31);
+        AccountBalance spaceBalance = new AccountBalance();
+        spaceBalance.setAccountId(accountId);
+        spaceBalance.setAccountSpaceId(accountSpaceId);
+        spaceBalance.setCurrency("EUR");
+        AccountBalance usdBalance = new AccountBalance();
+        usdBalance.setAccountId(accountId);
+        usdBalance.setCurrency("USD");
+        when(repository.findByAccountId(accountId)).thenReturn(Flux.just(balanceEntity, spaceBalance, usdBalance));
+        when(snapshotRepository.findBalanceAsOf(accountId, "EUR", asOf)).thenReturn(Mono.just(
+                new BalanceAsOf(new BigDecimal("1200.00"), LocalDate.of(2025, 3, 30), 2L)));
+        when(snapshotRepository.findBalanceAsOf(accountId, "USD", asOf)).thenReturn(Mono.just(
+                new BalanceAsOf(new BigDecimal("80.00"), null, 4L)));
+
+        // Act & Assert
+        StepVerifier.create(service.getAccountBalancesAsOf(accountId, null, asOf))
+                .assertNext(balance -> {
+                    assertEquals("EUR", balance.getCurrency());
+                    assertEquals(asOf, balance.getAsOfDate());
+                    assertEquals(new BigDecimal("1200.00"), balance.getBalance());
+                    assertEquals(LocalDate.of(2025, 3, 30), balance.getSnapshotDate());
+                    assertEquals(2L, balance.getLegsSinceSnapshot());
+                })
+                .assertNext(balance -> {
+                    assertEquals("USD", balance.getCurrency());
+                    assertNull(balance.getSnapshotDate());
+                })
+                .verifyComplete();
+    }
+}
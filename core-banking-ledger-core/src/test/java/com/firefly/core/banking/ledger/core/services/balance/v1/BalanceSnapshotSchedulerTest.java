@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.balance.v1;
+
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository.Invalidation;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository.SnapshotPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BalanceSnapshotSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 2, 0, 30);
+    private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2025, 4, 1);
+
+    @Mock
+    private AccountBalanceSnapshotRepository repository;
+
+    @InjectMocks
+    private BalanceSnapshotScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "pageSize", 2);
+        ReflectionTestUtils.setField(scheduler, "settleDelay", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(scheduler, "lease", Duration.ofMinutes(30));
+    }
+
+    @Test
+    void runOnce_RecomputesInvalidatedSnapshotsAndSnapshotsThePreviousDay() {
+        // Arrange
+        Invalidation invalidation = new Invalidation(UUID.randomUUID(), "EUR", LocalDate.of(2025, 3, 20), NOW.minusHours(1));
+        UUID firstPageEnd = UUID.randomUUID();
+        UUID secondPageEnd = UUID.randomUUID();
+        when(repository.findInvalidations(2)).thenReturn(Flux.just(invalidation));
+        when(repository.recomputeInvalidated(invalidation)).thenReturn(Mono.just(12L));
+        when(repository.claimRun(SNAPSHOT_DATE, Duration.ofMinutes(30))).thenReturn(Mono.just(SNAPSHOT_DATE));
+        when(repository.snapshotPage(SNAPSHOT_DATE, null, 2)).thenReturn(Mono.just(new SnapshotPage(firstPageEnd, 3L)));
+        when(repository.snapshotPage(SNAPSHOT_DATE, firstPageEnd, 2)).thenReturn(Mono.just(new SnapshotPage(secondPageEnd, 1L)));
+        when(repository.snapshotPage(SNAPSHOT_DATE, secondPageEnd, 2)).thenReturn(Mono.just(new SnapshotPage(null, 0L)));
+        when(repository.completeRun(SNAPSHOT_DATE)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(NOW))
+                .expectNext(16L)
+                .verifyComplete();
+
+        verify(repository).completeRun(SNAPSHOT_DATE);
+    }
+
+    @Test
+    void runOnce_WaitsForTheSettleDelay() {
+        // Arrange
+        LocalDateTime justAfterMidnight = LocalDateTime.of(2025, 4, 2, 0, 2);
+        when(repository.findInvalidations(2)).thenReturn(Flux.empty());
+        when(repository.claimRun(LocalDate.of(2025, 3, 31), Duration.ofMinutes(30))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(justAfterMidnight))
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(repository, never()).snapshotPage(any(), any(), anyInt());
+    }
+}
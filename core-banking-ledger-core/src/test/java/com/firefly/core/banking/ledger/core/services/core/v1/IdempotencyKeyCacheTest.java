@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.core.v1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyKeyCacheTest {
+
+    @Test
+    void put_RemembersTransactionOfRequestId() {
+        // Arrange
+        IdempotencyKeyCache cache = new IdempotencyKeyCache(10);
+        UUID transactionId = UUID.randomUUID();
+
+        // Act
+        cache.put("REQ-1", transactionId);
+
+        // Assert
+        assertEquals(transactionId, cache.get("REQ-1"));
+        assertNull(cache.get("REQ-2"));
+    }
+
+    @Test
+    void put_BeyondMaxSize_EvictsOldestKeys() {
+        // Arrange
+        IdempotencyKeyCache cache = new IdempotencyKeyCache(2);
+
+        // Act
+        cache.put("REQ-1", UUID.randomUUID());
+        cache.put("REQ-2", UUID.randomUUID());
+        cache.put("REQ-1", UUID.randomUUID());
+        cache.put("REQ-3", UUID.randomUUID());
+
+        // Assert
+        assertNull(cache.get("REQ-1"));
+        assertNotNull(cache.get("REQ-2"));
+        assertNotNull(cache.get("REQ-3"));
+    }
+
+    @Test
+    void evict_ForgetsRequestId() {
+        // Arrange
+        IdempotencyKeyCache cache = new IdempotencyKeyCache(10);
+        cache.put("REQ-1", UUID.randomUUID());
+
+        // Act
+        cache.evict("REQ-1");
+
+        // Assert
+        assertNull(cache.get("REQ-1"));
+    }
+
+    @Test
+    void put_ZeroMaxSize_CachesNothing() {
+        // Arrange
+        IdempotencyKeyCache cache = new IdempotencyKeyCache(0);
+
+        // Act
+        cache.put("REQ-1", UUID.randomUUID());
+
+        // Assert
+        assertNull(cache.get("REQ-1"));
+    }
+
+    @Test
+    void put_ConcurrentWriters_StayBounded() {
+        // Arrange
+        IdempotencyKeyCache cache = new IdempotencyKeyCache(100);
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+
+        // Act
+        for (int writer = 0; writer < 8; writer++) {
+            int offset = writer * 1000;
+            writers.add(CompletableFuture.runAsync(() -> IntStream.range(offset, offset + 1000)
+                    .forEach(i -> cache.put("REQ-" + i, UUID.randomUUID()))));
+        }
+        CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).join();
+
+        // Assert
+        long cached = IntStream.range(0, 8000).filter(i -> cache.get("REQ-" + i) != null).count();
+        assertTrue(cached > 0 && cached <= 100, "cached " + cached);
+    }
+}
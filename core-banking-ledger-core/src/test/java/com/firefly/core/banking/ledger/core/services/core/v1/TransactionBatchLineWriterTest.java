@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.core.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.card.v1.TransactionLineCardMapper;
+import com.firefly.core.banking.ledger.core.mappers.fee.v1.TransactionLineFeeMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.card.v1.TransactionLineCardDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchItemDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.fee.v1.TransactionLineFeeDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.card.v1.TransactionLineCard;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.TransactionLineFee;
+import com.firefly.core.banking.ledger.models.repositories.ach.v1.TransactionLineAchRepository;
+import com.firefly.core.banking.ledger.models.repositories.card.v1.TransactionLineCardRepository;
+import com.firefly.core.banking.ledger.models.repositories.deposit.v1.TransactionLineDepositRepository;
+import com.firefly.core.banking.ledger.models.repositories.directdebit.v1.TransactionLineDirectDebitRepository;
+import com.firefly.core.banking.ledger.models.repositories.fee.v1.TransactionLineFeeRepository;
+import com.firefly.core.banking.ledger.models.repositories.interest.v1.TransactionLineInterestRepository;
+import com.firefly.core.banking.ledger.models.repositories.sepa.v1.TransactionLineSepaRepository;
+import com.firefly.core.banking.ledger.models.repositories.standingorder.v1.TransactionLineStandingOrderRepository;
+import com.firefly.core.banking.ledger.models.repositories.transfer.v1.TransactionLineTransferRepository;
+import com.firefly.core.banking.ledger.models.repositories.wire.v1.TransactionLineWireRepository;
+import com.firefly.core.banking.ledger.models.repositories.withdrawal.v1.TransactionLineWithdrawalRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionBatchLineWriterTest {
+
+    @Mock
+    private TransactionLineCardRepository cardRepository;
+
+    @Mock
+    private TransactionLineWireRepository wireTransferRepository;
+
+    @Mock
+    private TransactionLineSepaRepository sepaTransferRepository;
+
+    @Mock
+    private TransactionLineDirectDebitRepository directDebitRepository;
+
+    @Mock
+    private TransactionLineDepositRepository depositRepository;
+
+    @Mock
+    private TransactionLineWithdrawalRepository withdrawalRepository;
+
+    @Mock
+    private TransactionLineTransferRepository transferRepository;
+
+    @Mock
+    private TransactionLineFeeRepository feeRepository;
+
+    @Mock
+    private TransactionLineInterestRepository interestRepository;
+
+    @Mock
+    private TransactionLineStandingOrderRepository standingOrderRepository;
+
+    @Mock
+    private TransactionLineAchRepository achRepository;
+
+    @Mock
+    private TransactionLineCardMapper cardMapper;
+
+    @Mock
+    private TransactionLineFeeMapper feeMapper;
+
+    @InjectMocks
+    private TransactionBatchLineWriter writer;
+
+    @Test
+    void insertAll_OneInsertPerLineType() {
+        // Arrange
+        UUID firstCardTransactionId = UUID.randomUUID();
+        UUID secondCardTransactionId = UUID.randomUUID();
+        UUID feeTransactionId = UUID.randomUUID();
+        Map<UUID, TransactionBatchItemDTO> items = new LinkedHashMap<>();
+        items.put(firstCardTransactionId, TransactionBatchItemDTO.builder().card(new TransactionLineCardDTO()).build());
+        items.put(feeTransactionId, TransactionBatchItemDTO.builder().fee(new TransactionLineFeeDTO()).build());
+        items.put(secondCardTransactionId, TransactionBatchItemDTO.builder().card(new TransactionLineCardDTO()).build());
+        when(cardMapper.toEntity(any(TransactionLineCardDTO.class))).thenAnswer(invocation -> new TransactionLineCard());
+        when(feeMapper.toEntity(any(TransactionLineFeeDTO.class))).thenAnswer(invocation -> new TransactionLineFee());
+        when(cardRepository.insertAll(anyList())).thenReturn(Mono.just(2L));
+        when(feeRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(writer.insertAll(items))
+                .verifyComplete();
+
+        verify(cardRepository).insertAll(argThat(lines -> lines.stream().map(TransactionLineCard::getTransactionId).toList()
+                .equals(List.of(firstCardTransactionId, secondCardTransactionId))));
+        verify(feeRepository).insertAll(argThat(lines -> lines.size() == 1
+                && feeTransactionId.equals(lines.get(0).getTransactionId())));
+        verifyNoInteractions(wireTransferRepository, sepaTransferRepository, directDebitRepository, depositRepository,
+                withdrawalRepository, transferRepository, interestRepository, standingOrderRepository, achRepository);
+    }
+
+    @Test
+    void insertAll_NoLines_WritesNothing() {
+        // Act & Assert
+        StepVerifier.create(writer.insertAll(Map.of()))
+                .verifyComplete();
+
+        verifyNoInteractions(cardRepository, feeRepository);
+    }
+
+    @Test
+    void lineTypeAndCount() {
+        // Arrange
+        TransactionBatchItemDTO withoutLine = new TransactionBatchItemDTO();
+        TransactionBatchItemDTO withTwoLines = TransactionBatchItemDTO.builder()
+                .card(new TransactionLineCardDTO())
+                .fee(new TransactionLineFeeDTO())
+                .build();
+
+        // Act & Assert
+        assertNull(TransactionBatchLineWriter.lineType(withoutLine));
+        assertEquals(0, TransactionBatchLineWriter.lineCount(withoutLine));
+        assertEquals(TransactionLineTypeEnum.CARD, TransactionBatchLineWriter.lineType(withTwoLines));
+        assertEquals(2, TransactionBatchLineWriter.lineCount(withTwoLines));
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.core.v1;
+
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessment;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.interfaces.dtos.card.v1.TransactionLineCardDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchItemDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionStatusUpdateRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.fee.v1.TransactionLineFeeDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.BatchItemStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionKeyView;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusChangeView;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TransactionBatchServiceImplTest {
+
+    @Mock
+    private TransactionRepository repository;
+
+    @Mock
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private TransactionLegRepository legRepository;
+
+    @Mock
+    private TransactionMapper mapper;
+
+    @Mock
+    private TransactionLegMapper legMapper;
+
+    @Mock
+    private AccountBalanceService balanceService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private IdempotencyKeyCache idempotencyKeyCache;
+
+    @Mock
+    private FeeAssessmentService feeAssessmentService;
+
+    @Mock
+    private TransactionBatchLineWriter lineWriter;
+
+    // Caching disabled: invalidations are no-ops
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
+    @InjectMocks
+    private TransactionBatchServiceImpl service;
+
+    private final UUID accountId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toEntity(any(TransactionDTO.class))).thenAnswer(invocation -> {
+            TransactionDTO dto = invocation.getArgument(0);
+            Transaction entity = new Transaction();
+            entity.setExternalReference(dto.getExternalReference());
+            entity.setTransactionStatus(dto.getTransactionStatus());
+            entity.setValueDate(dto.getValueDate());
+            return entity;
+        });
+        when(legMapper.toEntity(any(TransactionLegDTO.class))).thenAnswer(invocation -> new TransactionLeg());
+        when(statusHistoryRepository.insertAll(anyList())).thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+        when(legRepository.insertAll(anyList())).thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+        when(balanceService.applyLegsOfTransactions(anyList())).thenReturn(Mono.just(1L));
+        when(outboxService.appendAll(any(), any(), anyMap())).thenReturn(Mono.empty());
+        when(feeAssessmentService.write(any(FeeAssessment.class))).thenReturn(Mono.empty());
+        when(lineWriter.insertAll(anyMap())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void createTransactions_Success() {
+        // Arrange
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> Flux.fromIterable((List<Transaction>) invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(item("REF-1"), item("REF-2"), item("REF-3")), "BATCH-1"))
+                .assertNext(result -> {
+                    assertEquals(0L, result.getSequence());
+                    assertEquals(BatchItemStatusEnum.CREATED, result.getStatus());
+                    assertEquals("BATCH-1", result.getBatchId());
+                    assertNotNull(result.getTransactionId());
+                })
+                .assertNext(result -> {
+                    assertEquals(1L, result.getSequence());
+                    assertEquals(BatchItemStatusEnum.CREATED, result.getStatus());
+                })
+                .assertNext(result -> {
+                    assertEquals(2L, result.getSequence());
+                    assertEquals(BatchItemStatusEnum.CREATED, result.getStatus());
+                })
+                .verifyComplete();
+
+        // Two chunks of at most two transactions each
+        verify(repository, times(2)).insertAllIfAbsent(anyList());
+        verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 2
+                && transactions.stream().allMatch(t -> "BATCH-1".equals(t.getBatchId()))));
+        verify(statusHistoryRepository, times(2)).insertAll(anyList());
+        verify(legRepository, times(2)).insertAll(anyList());
+        verify(outboxService, times(2)).appendAll(eq(OutboxService.AGGREGATE_TRANSACTION), eq(OutboxEventTypeEnum.TRANSACTION_CREATED), anyMap());
+        // Fees are assessed per transaction and written once per chunk
+        verify(feeAssessmentService, times(3)).assess(any(FeeAssessment.class), any(Transaction.class), isNull());
+        verify(feeAssessmentService, times(2)).write(any(FeeAssessment.class));
+    }
+
+    @Test
+    void createTransactions_InvalidItem_ReportedAsFailed() {
+        // Arrange
+        TransactionBatchItemDTO invalid = item("REF-2");
+        invalid.getTransaction().setTransactionType(null);
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> Flux.fromIterable((List<Transaction>) invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(item("REF-1"), invalid), null))
+                .assertNext(result -> {
+                    assertEquals(BatchItemStatusEnum.CREATED, result.getStatus());
+                    assertNotNull(result.getBatchId());
+                })
+                .assertNext(result -> {
+                    assertEquals(BatchItemStatusEnum.FAILED, result.getStatus());
+                    assertEquals("REF-2", result.getExternalReference());
+                    assertEquals("Transaction type is required", result.getErrorMessage());
+                })
+                .verifyComplete();
+
+        verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 1));
+    }
+
+    @Test
+    void createTransactions_ChunkFails_RetriesItemsIndividually() {
+        // Arrange: the chunk insert fails, then the single-item retries succeed for REF-1 only
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<Transaction> transactions = invocation.getArgument(0);
+            if (transactions.size() > 1 || "REF-2".equals(transactions.get(0).getExternalReference())) {
+                return Flux.error(new RuntimeException("duplicate key value violates unique constraint"));
+            }
+            return Flux.fromIterable(transactions);
+        });
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(item("REF-1"), item("REF-2")), "BATCH-1"))
+                .assertNext(result -> {
+                    assertEquals("REF-1", result.getExternalReference());
+                    assertEquals(BatchItemStatusEnum.CREATED, result.getStatus());
+                })
+                .assertNext(result -> {
+                    assertEquals("REF-2", result.getExternalReference());
+                    assertEquals(BatchItemStatusEnum.FAILED, result.getStatus());
+                    assertTrue(result.getErrorMessage().contains("duplicate key"));
+                })
+                .verifyComplete();
+
+        verify(repository, times(3)).insertAllIfAbsent(anyList());
+    }
+
+    @Test
+    void createTransactions_RequestIdAlreadyUsed_ReportedAsDuplicate() {
+        // Arrange: REF-2 reuses a request ID stored before, so its insert is skipped
+        UUID originalTransactionId = UUID.randomUUID();
+        TransactionBatchItemDTO retried = item("REF-2");
+        retried.getTransaction().setRequestId("REQ-2");
+        when(mapper.toEntity(any(TransactionDTO.class))).thenAnswer(invocation -> {
+            TransactionDTO dto = invocation.getArgument(0);
+            Transaction entity = new Transaction();
+            entity.setExternalReference(dto.getExternalReference());
+            entity.setRequestId(dto.getRequestId());
+            return entity;
+        });
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> Flux.fromIterable((List<Transaction>) invocation.getArgument(0))
+                .filter(transaction -> transaction.getRequestId() == null));
+        Transaction original = new Transaction();
+        original.setTransactionId(originalTransactionId);
+        original.setRequestId("REQ-2");
+        when(repository.findByRequestIdIn(anyCollection())).thenReturn(Flux.just(original));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(item("REF-1"), retried), "BATCH-1"))
+                .assertNext(result -> assertEquals(BatchItemStatusEnum.CREATED, result.getStatus()))
+                .assertNext(result -> {
+                    assertEquals(BatchItemStatusEnum.DUPLICATE, result.getStatus());
+                    assertEquals(originalTransactionId, result.getTransactionId());
+                    assertEquals("REF-2", result.getExternalReference());
+                })
+                .verifyComplete();
+
+        // Only the new transaction gets its dependents written
+        verify(statusHistoryRepository).insertAll(argThat(histories -> histories.size() == 1));
+        verify(idempotencyKeyCache).put("REQ-2", originalTransactionId);
+    }
+
+    @Test
+    void createTransactions_CachedRequestId_NotInserted() {
+        // Arrange
+        UUID originalTransactionId = UUID.randomUUID();
+        TransactionBatchItemDTO retried = item("REF-1");
+        retried.getTransaction().setRequestId("REQ-1");
+        Transaction original = new Transaction();
+        original.setTransactionId(originalTransactionId);
+        when(idempotencyKeyCache.get("REQ-1")).thenReturn(originalTransactionId);
+        when(repository.findAllById(anyIterable())).thenReturn(Flux.just(original));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(retried), "BATCH-1"))
+                .assertNext(result -> {
+                    assertEquals(BatchItemStatusEnum.DUPLICATE, result.getStatus());
+                    assertEquals(originalTransactionId, result.getTransactionId());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).insertAllIfAbsent(anyList());
+        verify(outboxService, never()).appendAll(any(), any(), anyMap());
+    }
+
+    @Test
+    void createTransactions_Lines_WrittenOncePerChunk() {
+        // Arrange
+        TransactionBatchItemDTO cardItem = item("REF-1");
+        cardItem.setCard(new TransactionLineCardDTO());
+        TransactionBatchItemDTO feeItem = item("REF-2");
+        feeItem.setFee(new TransactionLineFeeDTO());
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> Flux.fromIterable((List<Transaction>) invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(cardItem, feeItem), "BATCH-1"))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // Both lines of the chunk are handed over together; fees are assessed against the line type
+        verify(lineWriter).insertAll(argThat(lines -> lines.size() == 2
+                && lines.containsValue(cardItem) && lines.containsValue(feeItem)));
+        verify(feeAssessmentService).assess(any(FeeAssessment.class), any(Transaction.class), eq(TransactionLineTypeEnum.CARD));
+        verify(feeAssessmentService).assess(any(FeeAssessment.class), any(Transaction.class), eq(TransactionLineTypeEnum.FEE));
+    }
+
+    @Test
+    void createTransactions_MoreThanOneLine_ReportedAsFailed() {
+        // Arrange
+        TransactionBatchItemDTO invalid = item("REF-1");
+        invalid.setCard(new TransactionLineCardDTO());
+        invalid.setFee(new TransactionLineFeeDTO());
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(invalid), "BATCH-1"))
+                .assertNext(result -> {
+                    assertEquals(BatchItemStatusEnum.FAILED, result.getStatus());
+                    assertEquals("At most one transaction line can be ingested per transaction", result.getErrorMessage());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).insertAllIfAbsent(anyList());
+    }
+
+    private TransactionBatchItemDTO item(String externalReference) {
+        TransactionDTO transaction = new TransactionDTO();
+        transaction.setExternalReference(externalReference);
+        transaction.setTransactionDate(LocalDateTime.now());
+        transaction.setValueDate(LocalDateTime.now());
+        transaction.setTransactionType(TransactionTypeEnum.CARD);
+        transaction.setTransactionStatus(TransactionStatusEnum.PENDING);
+        transaction.setTotalAmount(new BigDecimal("100.00"));
+        transaction.setCurrency("EUR");
+        transaction.setAccountId(accountId);
+
+        TransactionLegDTO leg = new TransactionLegDTO();
+        leg.setAccountId(accountId);
+        leg.setLegType("DEBIT");
+        leg.setAmount(new BigDecimal("100.00"));
+        leg.setCurrency("EUR");
+
+        return TransactionBatchItemDTO.builder()
+                .transaction(transaction)
+                .legs(List.of(leg))
+                .build();
+    }
+
+    @Test
+    void updateTransactionStatuses_UpdatesInChunksAndReportsSkippedTransactions() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID alreadySettled = UUID.randomUUID();
+        stubStatusUpdates(alreadySettled);
+
+        // Act & Assert
+        StepVerifier.create(service.updateTransactionStatuses(statusRequest(List.of(first, second, alreadySettled), null)))
+                .assertNext(progress -> {
+                    assertEquals(0L, progress.getChunk());
+                    assertEquals(2, progress.getRequested());
+                    assertEquals(2, progress.getUpdated());
+                    assertEquals(2L, progress.getTotalUpdated());
+                    assertTrue(progress.getSkippedTransactionIds().isEmpty());
+                })
+                .assertNext(progress -> {
+                    assertEquals(1L, progress.getChunk());
+                    assertEquals(1, progress.getRequested());
+                    assertEquals(0, progress.getUpdated());
+                    assertEquals(2L, progress.getTotalUpdated());
+                    assertEquals(List.of(alreadySettled), progress.getSkippedTransactionIds());
+                })
+                .verifyComplete();
+
+        // Explicit IDs have no known booking date, so every month is probed
+        verify(repository).updateStatusesReturning(List.of(first, second), TransactionStatusEnum.POSTED,
+                TransactionStatusEnum.PENDING, null);
+        verify(statusHistoryRepository, times(1)).insertAll(argThat(histories -> histories.size() == 2
+                && histories.stream().allMatch(history -> history.getStatusCode() == TransactionStatusEnum.POSTED
+                        && "Clearing run".equals(history.getReason()))));
+        verify(outboxService, times(1)).appendAll(eq(OutboxService.AGGREGATE_TRANSACTION),
+                eq(OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED), argThat(events -> events.size() == 2));
+        verify(feeAssessmentService).propagateStatus(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(first, second))),
+                isNull(), eq(TransactionStatusEnum.POSTED), eq("Clearing run"));
+        verify(readCaches, times(2)).invalidateTransaction(any(), any(), any());
+    }
+
+    @Test
+    void updateTransactionStatuses_ByBatchId() {
+        // Arrange
+        LocalDateTime march = LocalDateTime.of(2024, 3, 31, 23, 0);
+        LocalDateTime april = LocalDateTime.of(2024, 4, 1, 8, 0);
+        List<TransactionKeyView> keys = List.of(new TransactionKeyView(UUID.randomUUID(), march),
+                new TransactionKeyView(UUID.randomUUID(), april), new TransactionKeyView(UUID.randomUUID(), april));
+        when(repository.streamKeysByBatchId("BATCH-1", 2)).thenReturn(Flux.fromIterable(keys));
+        stubStatusUpdates();
+
+        // Act & Assert
+        StepVerifier.create(service.updateTransactionStatuses(statusRequest(null, "BATCH-1")))
+                .assertNext(progress -> assertEquals(2L, progress.getTotalUpdated()))
+                .assertNext(progress -> assertEquals(3L, progress.getTotalUpdated()))
+                .verifyComplete();
+
+        // Each chunk only probes the months its transactions are booked in
+        verify(repository).updateStatusesReturning(List.of(keys.get(0).getTransactionId(), keys.get(1).getTransactionId()),
+                TransactionStatusEnum.POSTED, TransactionStatusEnum.PENDING, new BookingDateRange(march, april));
+        verify(repository).updateStatusesReturning(List.of(keys.get(2).getTransactionId()),
+                TransactionStatusEnum.POSTED, TransactionStatusEnum.PENDING, BookingDateRange.at(april));
+    }
+
+    @Test
+    void updateTransactionStatuses_RequiresEitherIdsOrBatchId() {
+        // Act & Assert
+        StepVerifier.create(service.updateTransactionStatuses(statusRequest(List.of(UUID.randomUUID()), "BATCH-1")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(service.updateTransactionStatuses(statusRequest(null, null)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).updateStatusesReturning(anyCollection(), any(), any(), any());
+    }
+
+    private void stubStatusUpdates(UUID... skipped) {
+        List<UUID> skippedIds = List.of(skipped);
+        when(mapper.toDTO(any(Transaction.class))).thenAnswer(invocation -> {
+            Transaction transaction = invocation.getArgument(0);
+            TransactionDTO dto = new TransactionDTO();
+            dto.setTransactionId(transaction.getTransactionId());
+            dto.setTransactionStatus(transaction.getTransactionStatus());
+            return dto;
+        });
+        when(feeAssessmentService.propagateStatus(anyCollection(), any(), any(), any())).thenReturn(Mono.just(List.of()));
+        when(repository.updateStatusesReturning(anyCollection(), any(), any(), any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            TransactionStatusEnum status = invocation.getArgument(1);
+            return Flux.fromIterable(ids)
+                    .filter(id -> !skippedIds.contains(id))
+                    .map(id -> {
+                        Transaction transaction = new Transaction();
+                        transaction.setTransactionId(id);
+                        transaction.setTransactionStatus(status);
+                        transaction.setRowVersion(2L);
+                        return new TransactionStatusChangeView(transaction, TransactionStatusEnum.PENDING);
+                    });
+        });
+    }
+
+    private TransactionStatusUpdateRequestDTO statusRequest(List<UUID> transactionIds, String batchId) {
+        return TransactionStatusUpdateRequestDTO.builder()
+                .transactionIds(transactionIds)
+                .batchId(batchId)
+                .currentStatus(TransactionStatusEnum.PENDING)
+                .newStatus(TransactionStatusEnum.POSTED)
+                .reason("Clearing run")
+                .build();
+    }
+}
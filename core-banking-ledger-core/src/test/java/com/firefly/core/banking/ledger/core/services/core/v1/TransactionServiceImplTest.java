@@ -22,14 +22,21 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
 import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionStatusHistoryMapper;
+import com.firefly.core.banking.ledger.core.queries.KeysetCursor;
+import com.firefly.core.banking.ledger.core.queries.KeysetPaginationUtils;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
 
 import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
 import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
 import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
 import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
 import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,10 +45,12 @@ import java.util.UUID;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -49,8 +58,11 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,8 +80,21 @@ public class TransactionServiceImplTest {
     @Mock
     private TransactionStatusHistoryMapper statusHistoryMapper;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private IdempotencyKeyCache idempotencyKeyCache;
+
+    @Mock
+    private FeeAssessmentService feeAssessmentService;
+
 
 
+    // Caching disabled: every read goes to the mocked repository
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
     @InjectMocks
     private TransactionServiceImpl service;
 
@@ -116,6 +141,7 @@ public class TransactionServiceImplTest {
         when(statusHistoryRepository.save(any(TransactionStatusHistory.class))).thenReturn(Mono.just(statusHistory));
 
         when(mapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
+        when(outboxService.append(any(), any(), any(), any())).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.createTransaction(transactionDTO))
@@ -127,6 +153,81 @@ public class TransactionServiceImplTest {
         verify(statusHistoryRepository).save(any(TransactionStatusHistory.class));
 
         verify(mapper).toDTO(transaction);
+        verify(outboxService).append(OutboxService.AGGREGATE_TRANSACTION, transactionDTO.getTransactionId(),
+                OutboxEventTypeEnum.TRANSACTION_CREATED, transactionDTO);
+    }
+
+    @Test
+    void createTransaction_OutboxFails_PropagatesError() {
+        // Arrange
+        when(mapper.toEntity(any(TransactionDTO.class))).thenReturn(transaction);
+        when(repository.save(any(Transaction.class))).thenReturn(Mono.just(transaction));
+        when(statusHistoryRepository.save(any(TransactionStatusHistory.class))).thenReturn(Mono.just(new TransactionStatusHistory()));
+        when(mapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
+        when(outboxService.append(any(), any(), any(), any())).thenReturn(Mono.error(new RuntimeException("Outbox write failed")));
+
+        // Act & Assert: the error rolls back the whole transaction, including the transaction row
+        StepVerifier.create(service.createTransaction(transactionDTO))
+                .expectErrorMessage("Outbox write failed")
+                .verify();
+    }
+
+    @Test
+    void createTransaction_WithRequestId_InsertsAndCachesKey() {
+        // Arrange
+        transactionDTO.setRequestId("REQ-1");
+        transactionDTO.setTransactionId(transaction.getTransactionId());
+        when(idempotencyKeyCache.get("REQ-1")).thenReturn(null);
+        when(mapper.toEntity(any(TransactionDTO.class))).thenReturn(transaction);
+        when(repository.insertAllIfAbsent(anyList())).thenReturn(Flux.just(transaction));
+        when(statusHistoryRepository.save(any(TransactionStatusHistory.class))).thenReturn(Mono.just(new TransactionStatusHistory()));
+        when(mapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
+        when(outboxService.append(any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.createTransaction(transactionDTO))
+                .expectNext(transactionDTO)
+                .verifyComplete();
+
+        verify(repository, never()).save(any(Transaction.class));
+        verify(repository, never()).findByRequestId(any());
+        verify(idempotencyKeyCache).put("REQ-1", transaction.getTransactionId());
+    }
+
+    @Test
+    void createTransaction_DuplicateRequestId_ReturnsOriginal() {
+        // Arrange: the insert is skipped because the request ID is taken
+        transactionDTO.setRequestId("REQ-1");
+        when(idempotencyKeyCache.get("REQ-1")).thenReturn(null);
+        when(mapper.toEntity(any(TransactionDTO.class))).thenReturn(transaction);
+        when(repository.insertAllIfAbsent(anyList())).thenReturn(Flux.empty());
+        when(repository.findByRequestId("REQ-1")).thenReturn(Mono.just(transaction));
+        when(mapper.toDTO(transaction)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.createTransaction(transactionDTO))
+                .expectNext(transactionDTO)
+                .verifyComplete();
+
+        verify(statusHistoryRepository, never()).save(any(TransactionStatusHistory.class));
+        verify(outboxService, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    void createTransaction_CachedRequestId_ReplaysWithoutInsert() {
+        // Arrange
+        transactionDTO.setRequestId("REQ-1");
+        when(idempotencyKeyCache.get("REQ-1")).thenReturn(transaction.getTransactionId());
+        when(repository.findById(transaction.getTransactionId())).thenReturn(Mono.just(transaction));
+        when(mapper.toDTO(transaction)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.createTransaction(transactionDTO))
+                .expectNext(transactionDTO)
+                .verifyComplete();
+
+        verify(repository, never()).insertAllIfAbsent(anyList());
+        verify(outboxService, never()).append(any(), any(), any(), any());
     }
 
     @Test
@@ -168,6 +269,7 @@ public class TransactionServiceImplTest {
         when(repository.save(any(Transaction.class))).thenReturn(Mono.just(transaction));
 
         when(mapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
+        when(outboxService.append(any(), any(), any(), any())).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateTransaction(testId, transactionDTO))
@@ -179,6 +281,50 @@ public class TransactionServiceImplTest {
         verify(repository).save(transaction);
 
         verify(mapper).toDTO(transaction);
+        verify(outboxService).append(OutboxService.AGGREGATE_TRANSACTION, transactionDTO.getTransactionId(),
+                OutboxEventTypeEnum.TRANSACTION_UPDATED, transactionDTO);
+        verify(outboxService, never()).append(any(), any(), eq(OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED), any());
+    }
+
+    @Test
+    void updateTransactionStatus_StatusChanged_AppendsOutboxEvent() {
+        // Arrange
+        UUID testId = transaction.getTransactionId();
+        transactionDTO.setTransactionStatus(TransactionStatusEnum.REVERSED);
+        transactionDTO.setBookingDate(LocalDateTime.of(2024, 3, 1, 9, 0));
+        BookingDateRange bookedWithin = BookingDateRange.at(transactionDTO.getBookingDate());
+        when(repository.findById(testId)).thenReturn(Mono.just(transaction));
+        when(repository.save(any(Transaction.class))).thenReturn(Mono.just(transaction));
+        when(statusHistoryRepository.save(any(TransactionStatusHistory.class))).thenReturn(Mono.just(new TransactionStatusHistory()));
+        when(mapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
+        when(outboxService.append(any(), any(), any(), any())).thenReturn(Mono.empty());
+        when(feeAssessmentService.propagateStatus(List.of(testId), bookedWithin, TransactionStatusEnum.REVERSED, "Customer dispute"))
+                .thenReturn(Mono.just(List.of()));
+
+        // Act & Assert
+        StepVerifier.create(service.updateTransactionStatus(testId, TransactionStatusEnum.REVERSED, "Customer dispute"))
+                .expectNext(transactionDTO)
+                .verifyComplete();
+
+        verify(outboxService).append(eq(OutboxService.AGGREGATE_TRANSACTION), eq(transactionDTO.getTransactionId()),
+                eq(OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED), any());
+        verify(feeAssessmentService).propagateStatus(List.of(testId), bookedWithin, TransactionStatusEnum.REVERSED, "Customer dispute");
+    }
+
+    @Test
+    void updateTransactionStatus_SameStatus_NoOutboxEvent() {
+        // Arrange
+        UUID testId = transaction.getTransactionId();
+        when(repository.findById(testId)).thenReturn(Mono.just(transaction));
+        when(mapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateTransactionStatus(testId, TransactionStatusEnum.POSTED, "No change"))
+                .expectNext(transactionDTO)
+                .verifyComplete();
+
+        verify(repository, never()).save(any(Transaction.class));
+        verifyNoInteractions(outboxService, feeAssessmentService);
     }
 
     @Test
@@ -245,4 +391,134 @@ public class TransactionServiceImplTest {
         // and properly mock it
     }
 
+    @Test
+    void listTransactionsByAccountId_FirstPage_Success() {
+        // Arrange
+        UUID accountId = transaction.getAccountId();
+        transaction.setBookingDate(LocalDateTime.now());
+        when(repository.findAccountTransactionsFirstPage(accountId, KeysetPaginationUtils.MIN_BOOKING_DATE,
+                KeysetPaginationUtils.MAX_BOOKING_DATE, 21)).thenReturn(Flux.just(transaction));
+        when(mapper.toDTO(transaction)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.listTransactionsByAccountId(accountId, null, null, null, 20, false))
+                .assertNext(page -> {
+                    assertEquals(List.of(transactionDTO), page.getContent());
+                    assertFalse(page.getHasNext());
+                    assertNull(page.getNextCursor());
+                    assertNull(page.getTotalElements());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void listTransactionsByAccountSpaceId_NextPage_Success() {
+        // Arrange
+        UUID accountSpaceId = UUID.randomUUID();
+        LocalDateTime startDate = LocalDateTime.now().minusDays(30);
+        LocalDateTime endDate = LocalDateTime.now();
+        KeysetCursor cursor = new KeysetCursor(endDate.minusDays(1), UUID.randomUUID());
+        when(repository.findAccountSpaceTransactionsAfter(accountSpaceId, startDate, endDate,
+                cursor.bookingDate(), cursor.id(), 21)).thenReturn(Flux.just(transaction));
+        when(repository.countByAccountSpaceIdAndBookingDateBetween(accountSpaceId, startDate, endDate)).thenReturn(Mono.just(21L));
+        when(mapper.toDTO(transaction)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.listTransactionsByAccountSpaceId(accountSpaceId, startDate, endDate, cursor.encode(), 20, true))
+                .assertNext(page -> {
+                    assertEquals(List.of(transactionDTO), page.getContent());
+                    assertEquals(21L, page.getTotalElements());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchTransactionsWithinRadius_Success() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "maxGeoRadiusKm", 500.0);
+        PaginationRequest paginationRequest = new PaginationRequest(0, 10, null, null);
+        PaginationResponse<TransactionDTO> expectedResponse = new PaginationResponse<>(
+                List.of(transactionDTO), 0, 10, 1
+        );
+
+        try (MockedStatic<PaginationUtils> paginationUtilsMocked = Mockito.mockStatic(PaginationUtils.class)) {
+            paginationUtilsMocked.when(() -> PaginationUtils.paginateQuery(
+                    eq(paginationRequest),
+                    any(),
+                    any(),
+                    any()
+            )).thenReturn(Mono.just(expectedResponse));
+
+            // Act & Assert
+            StepVerifier.create(service.searchTransactionsWithinRadius(40.4168, -3.7038, 5.0, paginationRequest))
+                    .expectNext(expectedResponse)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void searchTransactionsWithinRadius_RadiusTooLarge() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "maxGeoRadiusKm", 500.0);
+        PaginationRequest paginationRequest = new PaginationRequest(0, 10, null, null);
+
+        // Act & Assert
+        StepVerifier.create(service.searchTransactionsWithinRadius(40.4168, -3.7038, 501.0, paginationRequest))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(service.searchTransactionsWithinRadius(91.0, -3.7038, 5.0, paginationRequest))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchTransactions_Success() {
+        // Arrange
+        PaginationRequest paginationRequest = new PaginationRequest(0, 10, null, null);
+        PaginationResponse<TransactionDTO> expectedResponse = new PaginationResponse<>(
+                List.of(transactionDTO), 0, 10, 1
+        );
+
+        try (MockedStatic<PaginationUtils> paginationUtilsMocked = Mockito.mockStatic(PaginationUtils.class)) {
+            paginationUtilsMocked.when(() -> PaginationUtils.paginateQuery(
+                    eq(paginationRequest),
+                    any(),
+                    any(),
+                    any()
+            )).thenReturn(Mono.just(expectedResponse));
+
+            // Act & Assert
+            StepVerifier.create(service.searchTransactions(" acme ", paginationRequest))
+                    .expectNext(expectedResponse)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void searchTransactions_QueryTooShort() {
+        // Act & Assert
+        StepVerifier.create(service.searchTransactions(" ab ", new PaginationRequest(0, 10, null, null)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getTransactionsByAccountId_StreamsWithConfiguredFetchSize() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        ReflectionTestUtils.setField(service, "streamFetchSize", 250);
+        when(repository.streamByAccountId(accountId, 250)).thenReturn(Flux.just(transaction));
+        when(mapper.toDTO(transaction)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getTransactionsByAccountId(accountId))
+                .expectNext(transactionDTO)
+                .verifyComplete();
+
+        verify(repository, never()).findByAccountId(any(UUID.class));
+    }
 }
@@ -17,6 +17,7 @@
 
 package com.firefly.core.banking.ledger.core.services.deposit.v1;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.deposit.v1.TransactionLineDepositMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.deposit.v1.TransactionLineDepositDTO;
 import com.firefly.core.banking.ledger.models.entities.deposit.v1.TransactionLineDeposit;
@@ -27,6 +28,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -47,6 +49,10 @@ class TransactionLineDepositServiceImplTest {
     @Mock
     private TransactionLineDepositMapper mapper;
 
+    // Caching disabled: every read goes to the mocked repository
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
     @InjectMocks
     private TransactionLineDepositServiceImpl service;
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.directdebit.v1;
+
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitProcessingStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitSequenceTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.DirectDebitMandateHistoryView;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.directdebit.v1.TransactionLineDirectDebitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DirectDebitCollectionServiceImplTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.of(2024, 3, 1);
+    private static final LocalDateTime BOOKED = DUE_DATE.atTime(9, 0);
+
+    @Mock
+    private TransactionLineDirectDebitRepository directDebitRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private FeeAssessmentService feeAssessmentService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private LedgerReadCaches readCaches;
+
+    @InjectMocks
+    private DirectDebitCollectionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "pageSize", 100);
+        ReflectionTestUtils.setField(service, "concurrency", 1);
+        ReflectionTestUtils.setField(service, "connectionBudget", new ConnectionBudget(10, 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void collectPage_CompletesValidDebitsAndFailsSequenceViolations() {
+        // Arrange
+        TransactionLineDirectDebit first = debit("M-NEW", DirectDebitSequenceTypeEnum.FRST);
+        TransactionLineDirectDebit afterFinal = debit("M-CLOSED", DirectDebitSequenceTypeEnum.RCUR);
+        TransactionLineDirectDebit secondFirst = debit("M-USED", DirectDebitSequenceTypeEnum.FRST);
+        List<TransactionLineDirectDebit> debits = List.of(first, afterFinal, secondFirst);
+        Map<UUID, Transaction> transactions = Map.of(
+                first.getTransactionId(), transaction(first.getTransactionId()),
+                afterFinal.getTransactionId(), transaction(afterFinal.getTransactionId()),
+                secondFirst.getTransactionId(), transaction(secondFirst.getTransactionId()));
+        Transaction fee = transaction(UUID.randomUUID());
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(directDebitRepository.claimCollectableDirectDebits(DUE_DATE, 100)).thenReturn(Flux.fromIterable(debits));
+        when(directDebitRepository.findMandateHistories(any())).thenReturn(Flux.just(
+                new DirectDebitMandateHistoryView("M-CLOSED", 3, true),
+                new DirectDebitMandateHistoryView("M-USED", 1, false)));
+        when(transactionRepository.findAllById(anyIterable())).thenReturn(Flux.fromIterable(transactions.values()));
+        when(directDebitRepository.updateProcessingStatus(any(), any())).thenReturn(Mono.just(1L));
+        when(transactionRepository.updateStatuses(any(), any(), any(), any())).thenReturn(Mono.just(1L));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(3L));
+        when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(TransactionDTO.builder().build());
+        when(outboxService.appendAll(any(), any(), anyMap())).thenReturn(Mono.empty());
+        when(feeAssessmentService.propagateStatus(List.of(first.getTransactionId()), BookingDateRange.at(BOOKED),
+                TransactionStatusEnum.POSTED, DirectDebitCollectionServiceImpl.COLLECTED_REASON)).thenReturn(Mono.just(List.of(fee)));
+        when(feeAssessmentService.propagateStatus(List.of(afterFinal.getTransactionId(), secondFirst.getTransactionId()),
+                BookingDateRange.at(BOOKED), TransactionStatusEnum.FAILED, DirectDebitCollectionServiceImpl.NOT_COLLECTED_REASON))
+                .thenReturn(Mono.just(List.of()));
+
+        // Act & Assert
+        StepVerifier.create(service.collectPage(DUE_DATE))
+                .expectNext(new DirectDebitCollectionServiceImpl.PageResult(3, 1, 2))
+                .verifyComplete();
+
+        verify(directDebitRepository).updateProcessingStatus(
+                List.of(first.getTransactionLineDirectDebitId()), DirectDebitProcessingStatusEnum.COMPLETED);
+        verify(directDebitRepository).updateProcessingStatus(
+                List.of(afterFinal.getTransactionLineDirectDebitId(), secondFirst.getTransactionLineDirectDebitId()),
+                DirectDebitProcessingStatusEnum.FAILED);
+        // Only the month the transactions are booked in is probed
+        verify(transactionRepository).updateStatuses(List.of(first.getTransactionId()), TransactionStatusEnum.POSTED,
+                BOOKED, BOOKED);
+        verify(transactionRepository).updateStatuses(
+                List.of(afterFinal.getTransactionId(), secondFirst.getTransactionId()), TransactionStatusEnum.FAILED,
+                BOOKED, BOOKED);
+
+        ArgumentCaptor<List<TransactionStatusHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(statusHistoryRepository).insertAll(histories.capture());
+        assertEquals(3, histories.getValue().size());
+        assertEquals(DirectDebitCollectionServiceImpl.COLLECTED_REASON, histories.getValue().get(0).getReason());
+        verify(outboxService).appendAll(eq(OutboxService.AGGREGATE_TRANSACTION),
+                eq(OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED), argThat(events -> events.size() == 3));
+
+        // Cached reads are invalidated once the page is committed
+        verify(readCaches).invalidateTransaction(eq(first.getTransactionId()), any(), any());
+        verify(readCaches).invalidateTransaction(eq(afterFinal.getTransactionId()), any(), any());
+        verify(readCaches).invalidateTransaction(eq(secondFirst.getTransactionId()), any(), any());
+        verify(readCaches).invalidateTransaction(eq(fee.getTransactionId()), any(), any());
+        verify(readCaches).invalidateLines(eq(LedgerReadCaches.LINE_DIRECT_DEBIT), argThat(ids -> ids.size() == 3
+                && ids.containsAll(transactions.keySet())));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void collectDueDirectDebits_RepeatsPagesUntilNothingIsClaimable() {
+        // Arrange
+        TransactionLineDirectDebit first = debit("M-1", DirectDebitSequenceTypeEnum.FRST);
+        TransactionLineDirectDebit recurring = debit("M-1", DirectDebitSequenceTypeEnum.RCUR);
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(directDebitRepository.claimCollectableDirectDebits(DUE_DATE, 100))
+                .thenReturn(Flux.just(first), Flux.just(recurring), Flux.empty());
+        when(directDebitRepository.findMandateHistories(any()))
+                .thenReturn(Flux.empty(), Flux.just(new DirectDebitMandateHistoryView("M-1", 1, false)));
+        when(transactionRepository.findAllById(anyIterable()))
+                .thenReturn(Flux.just(transaction(first.getTransactionId())), Flux.just(transaction(recurring.getTransactionId())));
+        when(directDebitRepository.updateProcessingStatus(any(), any())).thenReturn(Mono.just(1L));
+        when(transactionRepository.updateStatuses(any(), any(), any(), any())).thenReturn(Mono.just(1L));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(TransactionDTO.builder().build());
+        when(outboxService.appendAll(any(), any(), anyMap())).thenReturn(Mono.empty());
+        when(feeAssessmentService.propagateStatus(any(), any(), any(), any())).thenReturn(Mono.just(List.of()));
+
+        // Act & Assert
+        StepVerifier.create(service.collectDueDirectDebits(DUE_DATE))
+                .assertNext(result -> {
+                    assertEquals(DUE_DATE, result.getDueDate());
+                    assertEquals(2L, result.getCompleted());
+                    assertEquals(0L, result.getFailed());
+                })
+                .verifyComplete();
+
+        verify(directDebitRepository, times(3)).claimCollectableDirectDebits(DUE_DATE, 100);
+    }
+
+    @Test
+    void collectDueDirectDebits_RequiresDueDate() {
+        StepVerifier.create(service.collectDueDirectDebits(null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(directDebitRepository);
+    }
+
+    @Test
+    void effectiveConcurrency_ReservesPoolConnections() {
+        ReflectionTestUtils.setField(service, "concurrency", 16);
+
+        assertEquals(8, service.effectiveConcurrency());
+    }
+
+    private TransactionLineDirectDebit debit(String mandateId, DirectDebitSequenceTypeEnum sequenceType) {
+        TransactionLineDirectDebit debit = new TransactionLineDirectDebit();
+        debit.setTransactionLineDirectDebitId(UUID.randomUUID());
+        debit.setTransactionId(UUID.randomUUID());
+        debit.setDirectDebitMandateId(mandateId);
+        debit.setDirectDebitSequenceType(sequenceType);
+        debit.setDirectDebitDueDate(DUE_DATE);
+        debit.setDirectDebitProcessingStatus(DirectDebitProcessingStatusEnum.INITIATED);
+        return debit;
+    }
+
+    private Transaction transaction(UUID transactionId) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(transactionId);
+        transaction.setTransactionStatus(TransactionStatusEnum.PENDING);
+        transaction.setBookingDate(BOOKED);
+        transaction.setRowVersion(0L);
+        return transaction;
+    }
+}
@@ -17,6 +17,7 @@
 
 package com.firefly.core.banking.ledger.core.services.directdebit.v1;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.directdebit.v1.TransactionLineDirectDebitMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1.TransactionLineDirectDebitDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitProcessingStatusEnum;
@@ -30,6 +31,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -49,6 +51,10 @@ public class TransactionLineDirectDebitServiceImplTest {
     @Mock
     private TransactionLineDirectDebitMapper mapper;
 
+    // Caching disabled: every read goes to the mocked repository
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
     @InjectMocks
     private TransactionLineDirectDebitServiceImpl service;
 
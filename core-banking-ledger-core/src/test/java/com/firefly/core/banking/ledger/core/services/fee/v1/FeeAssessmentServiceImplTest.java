@@ -0,0 +1,347 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.fee.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.fee.v1.FeeCalculationMethodEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusChangeView;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.FeeSchedule;
+import com.firefly.core.banking.ledger.models.entities.fee.v1.TransactionLineFee;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.fee.v1.FeeScheduleRepository;
+import com.firefly.core.banking.ledger.models.repositories.fee.v1.TransactionLineFeeRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FeeAssessmentServiceImplTest {
+
+    @Mock
+    private FeeScheduleRepository scheduleRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private TransactionLegRepository legRepository;
+
+    @Mock
+    private TransactionLineFeeRepository feeLineRepository;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private AccountBalanceService balanceService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @InjectMocks
+    private FeeAssessmentServiceImpl service;
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID feeAccountId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "enabled", true);
+    }
+
+    @Test
+    void reloadSchedules_CompilesActiveRules() {
+        // Arrange
+        when(scheduleRepository.findByActiveTrue()).thenReturn(Flux.just(
+                schedule("CARD_FX", TransactionLineTypeEnum.CARD, FeeCalculationMethodEnum.PERCENTAGE, "1.5", null),
+                schedule("SERVICE", null, FeeCalculationMethodEnum.FIXED, null, "0.30")));
+
+        // Act & Assert
+        StepVerifier.create(service.reloadSchedules())
+                .expectNext(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void assess_PercentageBoundedByMinimumAndMaximum() {
+        // Arrange
+        FeeSchedule schedule = schedule("TRANSFER", null, FeeCalculationMethodEnum.PERCENTAGE, "1.0", null);
+        schedule.setMinimumAmount(new BigDecimal("0.50"));
+        schedule.setMaximumAmount(new BigDecimal("5.00"));
+        load(schedule);
+        FeeAssessment fees = new FeeAssessment();
+
+        // Act
+        service.assess(fees, transaction("10.00", "EUR", TransactionStatusEnum.POSTED), null);
+        service.assess(fees, transaction("123.45", "EUR", TransactionStatusEnum.POSTED), null);
+        service.assess(fees, transaction("10000.00", "EUR", TransactionStatusEnum.POSTED), null);
+
+        // Assert
+        assertEquals(3, fees.size());
+        assertEquals(new BigDecimal("0.50"), fees.transactions.get(0).getTotalAmount());
+        assertEquals(new BigDecimal("1.23"), fees.transactions.get(1).getTotalAmount());
+        assertEquals(new BigDecimal("5.00"), fees.transactions.get(2).getTotalAmount());
+    }
+
+    @Test
+    void assess_WritesFeeTransactionLegsAndLine() {
+        // Arrange
+        load(schedule("SERVICE", null, FeeCalculationMethodEnum.FIXED_PLUS_PERCENTAGE, "0.5", "0.25"));
+        Transaction source = transaction("200.00", "EUR", TransactionStatusEnum.PENDING);
+        source.setBatchId("BATCH-1");
+        FeeAssessment fees = new FeeAssessment();
+
+        // Act
+        service.assess(fees, source, TransactionLineTypeEnum.SEPA_TRANSFER);
+
+        // Assert
+        Transaction fee = fees.transactions.get(0);
+        assertEquals(TransactionTypeEnum.FEE, fee.getTransactionType());
+        assertEquals(TransactionStatusEnum.PENDING, fee.getTransactionStatus());
+        assertEquals(new BigDecimal("1.25"), fee.getTotalAmount());
+        assertEquals(source.getTransactionId(), fee.getRelatedTransactionId());
+        assertEquals(FeeAssessmentServiceImpl.RELATION_TYPE, fee.getRelationType());
+        assertEquals("BATCH-1", fee.getBatchId());
+        assertEquals(source.getValueDate(), fee.getValueDate());
+
+        assertEquals(2, fees.legs.size());
+        TransactionLeg debit = fees.legs.get(0);
+        TransactionLeg credit = fees.legs.get(1);
+        assertEquals("DEBIT", debit.getLegType());
+        assertEquals(accountId, debit.getAccountId());
+        assertEquals("CREDIT", credit.getLegType());
+        assertEquals(feeAccountId, credit.getAccountId());
+        assertEquals(fee.getTotalAmount(), debit.getAmount());
+        assertEquals(fee.getTotalAmount(), credit.getAmount());
+
+        TransactionLineFee line = fees.feeLines.get(0);
+        assertEquals(fee.getTransactionId(), line.getTransactionId());
+        assertEquals(source.getTransactionId(), line.getFeeRelatedTransactionId());
+        assertEquals("SERVICE", line.getFeeType());
+        assertEquals("FIXED_PLUS_PERCENTAGE", line.getFeeCalculationMethod());
+        assertEquals(new BigDecimal("200.00"), line.getFeeCalculationBase());
+        assertEquals(new BigDecimal("0.5"), line.getFeeRatePercentage());
+        assertEquals(new BigDecimal("0.25"), line.getFeeFixedAmount());
+        assertFalse(line.getFeeWaived());
+        assertEquals(1, fees.statusHistories.size());
+    }
+
+    @Test
+    void assess_LineTypeRulesOnlyMatchTheirLine() {
+        // Arrange
+        load(schedule("CARD_FX", TransactionLineTypeEnum.CARD, FeeCalculationMethodEnum.PERCENTAGE, "1.0", null),
+                schedule("SERVICE", null, FeeCalculationMethodEnum.FIXED, null, "0.30"));
+        FeeAssessment card = new FeeAssessment();
+        FeeAssessment wire = new FeeAssessment();
+        FeeAssessment noLine = new FeeAssessment();
+
+        // Act
+        service.assess(card, transaction("50.00", "EUR", TransactionStatusEnum.POSTED), TransactionLineTypeEnum.CARD);
+        service.assess(wire, transaction("50.00", "EUR", TransactionStatusEnum.POSTED), TransactionLineTypeEnum.WIRE_TRANSFER);
+        service.assess(noLine, transaction("50.00", "EUR", TransactionStatusEnum.POSTED), null);
+
+        // Assert
+        assertEquals(2, card.size());
+        assertEquals(1, wire.size());
+        assertEquals("SERVICE", wire.feeLines.get(0).getFeeType());
+        assertEquals(1, noLine.size());
+    }
+
+    @Test
+    void assess_OtherCurrencyOrFailedTransaction_NothingAssessed() {
+        // Arrange
+        load(schedule("SERVICE", null, FeeCalculationMethodEnum.FIXED, null, "0.30"));
+        FeeAssessment fees = new FeeAssessment();
+
+        // Act
+        service.assess(fees, transaction("50.00", "USD", TransactionStatusEnum.POSTED), null);
+        service.assess(fees, transaction("50.00", "EUR", TransactionStatusEnum.FAILED), null);
+
+        // Assert
+        assertTrue(fees.isEmpty());
+    }
+
+    @Test
+    void assess_CurrencyMatchedCaseInsensitively() {
+        // Arrange
+        load(schedule("SERVICE", null, FeeCalculationMethodEnum.FIXED, null, "0.30"));
+        FeeAssessment fees = new FeeAssessment();
+
+        // Act
+        service.assess(fees, transaction("50.00", "eur", TransactionStatusEnum.POSTED), null);
+
+        // Assert
+        assertEquals(1, fees.size());
+    }
+
+    @Test
+    void assess_Disabled_NothingAssessed() {
+        // Arrange
+        load(schedule("SERVICE", null, FeeCalculationMethodEnum.FIXED, null, "0.30"));
+        ReflectionTestUtils.setField(service, "enabled", false);
+        FeeAssessment fees = new FeeAssessment();
+
+        // Act
+        service.assess(fees, transaction("50.00", "EUR", TransactionStatusEnum.POSTED), null);
+
+        // Assert
+        assertTrue(fees.isEmpty());
+    }
+
+    @Test
+    void write_InsertsFeesAndUpdatesBalancesAndOutbox() {
+        // Arrange
+        load(schedule("SERVICE", null, FeeCalculationMethodEnum.FIXED, null, "0.30"));
+        FeeAssessment fees = new FeeAssessment();
+        service.assess(fees, transaction("50.00", "EUR", TransactionStatusEnum.POSTED), null);
+        service.assess(fees, transaction("70.00", "EUR", TransactionStatusEnum.POSTED), null);
+        when(transactionMapper.toDTO(any(Transaction.class))).thenAnswer(invocation -> new TransactionDTO());
+        when(transactionRepository.insertAll(anyList())).thenReturn(Mono.just(2L));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(2L));
+        when(legRepository.insertAll(anyList())).thenReturn(Mono.just(4L));
+        when(feeLineRepository.insertAll(anyList())).thenReturn(Mono.just(2L));
+        when(balanceService.applyLegsOfTransactions(anyList())).thenReturn(Mono.just(4L));
+        when(outboxService.appendAll(any(), any(), anyMap())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.write(fees))
+                .verifyComplete();
+
+        verify(transactionRepository).insertAll(argThat(transactions -> transactions.size() == 2));
+        verify(legRepository).insertAll(argThat(legs -> legs.size() == 4));
+        verify(feeLineRepository).insertAll(argThat(lines -> lines.size() == 2));
+        verify(balanceService).applyLegsOfTransactions(argThat(ids -> ids.size() == 2));
+        verify(outboxService).appendAll(eq(OutboxService.AGGREGATE_TRANSACTION), eq(OutboxEventTypeEnum.TRANSACTION_CREATED),
+                argThat(events -> events.size() == 2));
+    }
+
+    @Test
+    void write_NoFees_NothingWritten() {
+        // Act & Assert
+        StepVerifier.create(service.write(new FeeAssessment()))
+                .verifyComplete();
+
+        verifyNoInteractions(transactionRepository, legRepository, feeLineRepository, balanceService, outboxService);
+    }
+
+    @Test
+    void propagateStatus_UpdatesFeesOfTheSourceTransactions() {
+        // Arrange
+        UUID sourceId = UUID.randomUUID();
+        Transaction fee = transaction("0.30", "EUR", TransactionStatusEnum.POSTED);
+        BookingDateRange sourcesBookedWithin = BookingDateRange.at(LocalDateTime.of(2024, 3, 1, 9, 0));
+        when(transactionRepository.updateRelatedStatusesReturning(List.of(sourceId), "FEE", TransactionStatusEnum.POSTED,
+                sourcesBookedWithin))
+                .thenReturn(Flux.just(new TransactionStatusChangeView(fee, TransactionStatusEnum.PENDING)));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(outboxService.appendAll(any(), any(), anyMap())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.propagateStatus(List.of(sourceId), sourcesBookedWithin, TransactionStatusEnum.POSTED, "Settled"))
+                .expectNext(List.of(fee))
+                .verifyComplete();
+
+        verify(statusHistoryRepository).insertAll(argThat(histories -> histories.size() == 1));
+        verify(outboxService).appendAll(eq(OutboxService.AGGREGATE_TRANSACTION), eq(OutboxEventTypeEnum.TRANSACTION_STATUS_CHANGED),
+                argThat(events -> events.containsKey(fee.getTransactionId())));
+    }
+
+    @Test
+    void propagateStatus_NoFees_NothingWritten() {
+        // Arrange
+        UUID sourceId = UUID.randomUUID();
+        when(transactionRepository.updateRelatedStatusesReturning(List.of(sourceId), "FEE", TransactionStatusEnum.FAILED, null))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.propagateStatus(List.of(sourceId), null, TransactionStatusEnum.FAILED, "Rejected"))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        verifyNoInteractions(statusHistoryRepository, outboxService);
+    }
+
+    private void load(FeeSchedule... schedules) {
+        when(scheduleRepository.findByActiveTrue()).thenReturn(Flux.just(schedules));
+        service.reloadSchedules().block();
+    }
+
+    private FeeSchedule schedule(String feeType, TransactionLineTypeEnum lineType, FeeCalculationMethodEnum method,
+                                 String ratePercentage, String fixedAmount) {
+        FeeSchedule schedule = new FeeSchedule();
+        schedule.setFeeScheduleId(UUID.randomUUID());
+        schedule.setFeeType(feeType);
+        schedule.setTransactionType(TransactionTypeEnum.TRANSFER);
+        schedule.setLineType(lineType);
+        schedule.setCurrency("EUR");
+        schedule.setCalculationMethod(method);
+        schedule.setRatePercentage(ratePercentage != null ? new BigDecimal(ratePercentage) : BigDecimal.ZERO);
+        schedule.setFixedAmount(fixedAmount != null ? new BigDecimal(fixedAmount) : BigDecimal.ZERO);
+        schedule.setFeeAccountId(feeAccountId);
+        schedule.setActive(true);
+        return schedule;
+    }
+
+    private Transaction transaction(String amount, String currency, TransactionStatusEnum status) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setTransactionDate(LocalDateTime.now());
+        transaction.setValueDate(LocalDateTime.now());
+        transaction.setBookingDate(LocalDateTime.now());
+        transaction.setTransactionType(TransactionTypeEnum.TRANSFER);
+        transaction.setTransactionStatus(status);
+        transaction.setTotalAmount(new BigDecimal(amount));
+        transaction.setCurrency(currency);
+        transaction.setAccountId(accountId);
+        return transaction;
+    }
+}
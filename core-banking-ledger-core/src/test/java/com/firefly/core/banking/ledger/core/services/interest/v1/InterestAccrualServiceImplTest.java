@@ -0,0 +1,350 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.interest.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.mappers.interest.v1.AccountInterestTermsMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.AccountInterestTermsDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestAccrualTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestDayCountConventionEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.AccountInterestTerms;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.InterestAccrualView;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.TransactionLineInterest;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.interest.v1.AccountInterestTermsRepository;
+import com.firefly.core.banking.ledger.models.repositories.interest.v1.TransactionLineInterestRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InterestAccrualServiceImplTest {
+
+    private static final LocalDate ACCRUAL_DATE = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private AccountInterestTermsRepository termsRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private TransactionLegRepository legRepository;
+
+    @Mock
+    private TransactionLineInterestRepository interestLineRepository;
+
+    @Mock
+    private AccountInterestTermsMapper termsMapper;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private AccountBalanceService balanceService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private InterestAccrualServiceImpl service;
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID interestAccountId = UUID.randomUUID();
+    private final UUID taxAccountId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "pageSize", 100);
+        ReflectionTestUtils.setField(service, "partitions", 4);
+        ReflectionTestUtils.setField(service, "concurrency", 8);
+        ReflectionTestUtils.setField(service, "connectionBudget", new ConnectionBudget(10, 2));
+        ReflectionTestUtils.setField(service, "settleDelay", Duration.ofMinutes(15));
+    }
+
+    @Test
+    void accrueInterest_Today_Error() {
+        // Act & Assert
+        StepVerifier.create(service.accrueInterest(LocalDate.now()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(termsRepository);
+    }
+
+    @Test
+    void accrueInterest_AfterLastSettledDay_Error() {
+        // Act & Assert
+        StepVerifier.create(service.accrueInterest(service.lastSettledDate().plusDays(1)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(termsRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accruePage_PostsCreditInterestNetOfTax() {
+        // Arrange
+        AccountInterestTerms terms = terms(InterestAccrualTypeEnum.CREDIT, InterestDayCountConventionEnum.ACT_365, "1.0000");
+        terms.setTaxWithheldRate(new BigDecimal("19.00"));
+        terms.setTaxAccountId(taxAccountId);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(termsRepository.claimDueTerms(eq(ACCRUAL_DATE), eq(4), eq(1), any(), eq(100)))
+                .thenReturn(Flux.just(new InterestAccrualView(terms, new BigDecimal("36500.00"))));
+        stubWrites();
+
+        // Act & Assert
+        StepVerifier.create(service.accruePage(ACCRUAL_DATE, 1, new HashSet<>()))
+                .expectNext(new InterestAccrualServiceImpl.PageResult(1, 1, 1))
+                .verifyComplete();
+
+        ArgumentCaptor<List<Transaction>> transactions = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).insertAll(transactions.capture());
+        Transaction posted = transactions.getValue().get(0);
+        assertEquals(TransactionTypeEnum.INTEREST, posted.getTransactionType());
+        assertEquals(new BigDecimal("1.00"), posted.getTotalAmount());
+        assertEquals(ACCRUAL_DATE.plusDays(1).atStartOfDay(), posted.getValueDate());
+        assertEquals("interest:" + terms.getAccountInterestTermsId() + ":" + ACCRUAL_DATE, posted.getRequestId());
+
+        ArgumentCaptor<List<TransactionLeg>> legs = ArgumentCaptor.forClass(List.class);
+        verify(legRepository).insertAll(legs.capture());
+        assertEquals(3, legs.getValue().size());
+        assertLeg(legs.getValue().get(0), interestAccountId, "DEBIT", "1.00");
+        assertLeg(legs.getValue().get(1), accountId, "CREDIT", "0.81");
+        assertLeg(legs.getValue().get(2), taxAccountId, "CREDIT", "0.19");
+
+        ArgumentCaptor<List<TransactionLineInterest>> lines = ArgumentCaptor.forClass(List.class);
+        verify(interestLineRepository).insertAll(lines.capture());
+        TransactionLineInterest line = lines.getValue().get(0);
+        assertEquals(posted.getTransactionId(), line.getTransactionId());
+        assertEquals("ACT_365", line.getInterestCalculationMethod());
+        assertEquals(1, line.getInterestDaysCalculated());
+        assertEquals(new BigDecimal("0.19"), line.getInterestTaxWithheldAmount());
+        assertEquals(new BigDecimal("0.81"), line.getInterestNetAmount());
+
+        ArgumentCaptor<List<BigDecimal>> carried = ArgumentCaptor.forClass(List.class);
+        verify(termsRepository).advanceAccruals(eq(List.of(terms.getAccountInterestTermsId())), carried.capture());
+        assertEquals(0, carried.getValue().get(0).signum());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accruePage_CarriesInterestBelowTheMinorUnit() {
+        // Arrange
+        AccountInterestTerms terms = terms(InterestAccrualTypeEnum.CREDIT, InterestDayCountConventionEnum.ACT_360, "1.0000");
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(termsRepository.claimDueTerms(eq(ACCRUAL_DATE), eq(4), eq(0), any(), eq(100)))
+                .thenReturn(Flux.just(new InterestAccrualView(terms, new BigDecimal("100.00"))));
+        stubWrites();
+
+        // Act & Assert
+        StepVerifier.create(service.accruePage(ACCRUAL_DATE, 0, new HashSet<>()))
+                .expectNext(new InterestAccrualServiceImpl.PageResult(1, 1, 0))
+                .verifyComplete();
+
+        verify(transactionRepository).insertAll(List.of());
+        ArgumentCaptor<List<BigDecimal>> carried = ArgumentCaptor.forClass(List.class);
+        verify(termsRepository).advanceAccruals(anyList(), carried.capture());
+        assertEquals(new BigDecimal("0.0027777778"), carried.getValue().get(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accruePage_FailedTermsAreRetriedAloneAndSkipped() {
+        // Arrange
+        AccountInterestTerms terms = terms(InterestAccrualTypeEnum.CREDIT, InterestDayCountConventionEnum.ACT_365, "1.0000");
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(termsRepository.claimDueTerms(eq(ACCRUAL_DATE), eq(4), eq(0), any(), eq(100)))
+                .thenReturn(Flux.just(new InterestAccrualView(terms, new BigDecimal("36500.00"))));
+        when(termsRepository.claimDueTerm(terms.getAccountInterestTermsId(), ACCRUAL_DATE))
+                .thenReturn(Mono.just(new InterestAccrualView(terms, new BigDecimal("36500.00"))));
+        when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(TransactionDTO.builder().build());
+        when(transactionRepository.insertAll(anyList())).thenReturn(Mono.error(new IllegalStateException("boom")));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(legRepository.insertAll(anyList())).thenReturn(Mono.just(0L));
+        when(interestLineRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(balanceService.applyLegsOfTransactions(any())).thenReturn(Mono.just(0L));
+        when(outboxService.appendAll(anyString(), any(), anyMap())).thenReturn(Mono.empty());
+        when(termsRepository.advanceAccruals(anyList(), anyList())).thenReturn(Mono.just(1L));
+        HashSet<UUID> failed = new HashSet<>();
+
+        // Act & Assert
+        StepVerifier.create(service.accruePage(ACCRUAL_DATE, 0, failed))
+                .expectNext(new InterestAccrualServiceImpl.PageResult(1, 0, 0))
+                .verifyComplete();
+
+        assertEquals(Set.of(terms.getAccountInterestTermsId()), failed);
+    }
+
+    @Test
+    void dailyInterest_DebitInterestOnNegativeBalance() {
+        // Arrange
+        AccountInterestTerms terms = terms(InterestAccrualTypeEnum.DEBIT, InterestDayCountConventionEnum.ACT_360, "10.0000");
+
+        // Act
+        InterestAccrualServiceImpl.DailyInterest interest = InterestAccrualServiceImpl.dailyInterest(terms, new BigDecimal("-7200.00"));
+        InterestAccrualServiceImpl.DailyInterest none = InterestAccrualServiceImpl.dailyInterest(terms, new BigDecimal("7200.00"));
+
+        // Assert
+        assertEquals(new BigDecimal("2.00"), interest.gross());
+        assertEquals(new BigDecimal("2.00"), interest.net());
+        assertEquals(0, none.gross().signum());
+    }
+
+    @Test
+    void dailyInterest_Thirty360CountsMonthsAsThirtyDays() {
+        // Arrange
+        AccountInterestTerms terms = terms(InterestAccrualTypeEnum.CREDIT, InterestDayCountConventionEnum.THIRTY_360, "3.6000");
+        terms.setCarriedAmount(new BigDecimal("0.0050000000"));
+
+        // Act
+        terms.setNextAccrualDate(LocalDate.of(2025, 1, 31));
+        InterestAccrualServiceImpl.DailyInterest thirtyFirst = InterestAccrualServiceImpl.dailyInterest(terms, new BigDecimal("1000.00"));
+        terms.setNextAccrualDate(LocalDate.of(2025, 2, 28));
+        InterestAccrualServiceImpl.DailyInterest endOfFebruary = InterestAccrualServiceImpl.dailyInterest(terms, new BigDecimal("1000.00"));
+
+        // Assert
+        assertEquals(0, thirtyFirst.days());
+        assertEquals(0, thirtyFirst.gross().signum());
+        assertEquals(new BigDecimal("0.0050000000"), thirtyFirst.carried());
+        assertEquals(3, endOfFebruary.days());
+        assertEquals(new BigDecimal("0.30"), endOfFebruary.gross());
+        assertEquals(new BigDecimal("0.0050000000"), endOfFebruary.carried());
+    }
+
+    @Test
+    void days_Thirty360AddsUpToThirtyPerMonth() {
+        assertEquals(30, InterestDayCount.days(InterestDayCountConventionEnum.THIRTY_360, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)));
+        assertEquals(30, InterestDayCount.days(InterestDayCountConventionEnum.THIRTY_360, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1)));
+        assertEquals(29, InterestDayCount.days(InterestDayCountConventionEnum.ACT_360, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)));
+        assertEquals(365, InterestDayCount.daysInYear(InterestDayCountConventionEnum.ACT_365));
+    }
+
+    @Test
+    void createInterestTerms_TaxWithoutTaxAccount_Error() {
+        // Arrange
+        AccountInterestTermsDTO termsDTO = AccountInterestTermsDTO.builder()
+                .currency("EUR")
+                .taxWithheldRate(new BigDecimal("19.00"))
+                .startDate(ACCRUAL_DATE)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.createInterestTerms(accountId, termsDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(termsRepository);
+    }
+
+    @Test
+    void createInterestTerms_StartsAccruingOnTheStartDate() {
+        // Arrange
+        AccountInterestTermsDTO termsDTO = AccountInterestTermsDTO.builder().currency("EUR").startDate(ACCRUAL_DATE).build();
+        AccountInterestTerms entity = new AccountInterestTerms();
+        entity.setStartDate(ACCRUAL_DATE);
+        AccountInterestTermsDTO created = AccountInterestTermsDTO.builder().build();
+        when(termsMapper.toEntity(termsDTO)).thenReturn(entity);
+        when(termsRepository.save(entity)).thenReturn(Mono.just(entity));
+        when(termsMapper.toDTO(entity)).thenReturn(created);
+
+        // Act & Assert
+        StepVerifier.create(service.createInterestTerms(accountId, termsDTO))
+                .expectNext(created)
+                .verifyComplete();
+
+        assertEquals(accountId, entity.getAccountId());
+        assertEquals(ACCRUAL_DATE, entity.getNextAccrualDate());
+        assertEquals(BigDecimal.ZERO, entity.getCarriedAmount());
+        assertEquals(BigDecimal.ZERO, entity.getTaxWithheldRate());
+    }
+
+    private void stubWrites() {
+        lenient().when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(TransactionDTO.builder().build());
+        when(transactionRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(legRepository.insertAll(anyList())).thenReturn(Mono.just(0L));
+        when(interestLineRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(balanceService.applyLegsOfTransactions(any())).thenReturn(Mono.just(0L));
+        when(outboxService.appendAll(anyString(), any(), anyMap())).thenReturn(Mono.empty());
+        when(termsRepository.advanceAccruals(anyList(), anyList())).thenReturn(Mono.just(1L));
+    }
+
+    private AccountInterestTerms terms(InterestAccrualTypeEnum type, InterestDayCountConventionEnum convention, String rate) {
+        AccountInterestTerms terms = new AccountInterestTerms();
+        terms.setAccountInterestTermsId(UUID.randomUUID());
+        terms.setAccountId(accountId);
+        terms.setCurrency("EUR");
+        terms.setInterestType(type);
+        terms.setRatePercentage(new BigDecimal(rate));
+        terms.setDayCountConvention(convention);
+        terms.setInterestAccountId(interestAccountId);
+        terms.setTaxWithheldRate(BigDecimal.ZERO);
+        terms.setStartDate(ACCRUAL_DATE.minusMonths(1));
+        terms.setNextAccrualDate(ACCRUAL_DATE);
+        terms.setCarriedAmount(BigDecimal.ZERO);
+        return terms;
+    }
+
+    private static void assertLeg(TransactionLeg leg, UUID accountId, String legType, String amount) {
+        assertEquals(accountId, leg.getAccountId());
+        assertEquals(legType, leg.getLegType());
+        assertEquals(new BigDecimal(amount), leg.getAmount());
+    }
+}
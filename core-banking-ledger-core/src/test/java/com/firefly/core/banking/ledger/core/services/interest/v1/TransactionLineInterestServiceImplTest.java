@@ -17,6 +17,7 @@
 
 package com.firefly.core.banking.ledger.core.services.interest.v1;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.interest.v1.TransactionLineInterestMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.TransactionLineInterestDTO;
 import com.firefly.core.banking.ledger.models.entities.interest.v1.TransactionLineInterest;
@@ -27,6 +28,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -46,6 +48,10 @@ public class TransactionLineInterestServiceImplTest {
     @Mock
     private TransactionLineInterestMapper mapper;
 
+    // Caching disabled: every read goes to the mocked repository
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
     @InjectMocks
     private TransactionLineInterestServiceImpl service;
 
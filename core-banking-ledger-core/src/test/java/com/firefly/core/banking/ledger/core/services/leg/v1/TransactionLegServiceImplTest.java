@@ -21,6 +21,10 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapper;
+import com.firefly.core.banking.ledger.core.queries.KeysetCursor;
+import com.firefly.core.banking.ledger.core.queries.KeysetPaginationUtils;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceDTO;
 import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
 import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
 import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
@@ -42,6 +46,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -54,6 +59,9 @@ public class TransactionLegServiceImplTest {
     @Mock
     private TransactionLegMapper mapper;
 
+    @Mock
+    private AccountBalanceService balanceService;
+
     @InjectMocks
     private TransactionLegServiceImpl service;
 
@@ -97,6 +105,7 @@ public class TransactionLegServiceImplTest {
         when(mapper.toEntity(any(TransactionLegDTO.class))).thenReturn(legEntity);
         when(repository.save(any(TransactionLeg.class))).thenReturn(Mono.just(legEntity));
         when(mapper.toDTO(any(TransactionLeg.class))).thenReturn(legDTO);
+        when(balanceService.applyLeg(any(TransactionLegDTO.class))).thenReturn(Mono.just(new AccountBalanceDTO()));
 
         // Act & Assert
         StepVerifier.create(service.createTransactionLeg(transactionId, legDTO))
@@ -106,6 +115,22 @@ public class TransactionLegServiceImplTest {
         verify(mapper).toEntity(legDTO);
         verify(repository).save(legEntity);
         verify(mapper).toDTO(legEntity);
+        verify(balanceService).applyLeg(legDTO);
+    }
+
+    @Test
+    void createTransactionLeg_BalanceUpdateFails_PropagatesError() {
+        // Arrange
+        when(mapper.toEntity(any(TransactionLegDTO.class))).thenReturn(legEntity);
+        when(repository.save(any(TransactionLeg.class))).thenReturn(Mono.just(legEntity));
+        when(mapper.toDTO(any(TransactionLeg.class))).thenReturn(legDTO);
+        when(balanceService.applyLeg(any(TransactionLegDTO.class)))
+                .thenReturn(Mono.error(new RuntimeException("Balance update failed")));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactionLeg(transactionId, legDTO))
+                .expectErrorMessage("Balance update failed")
+                .verify();
     }
 
     @Test
@@ -205,4 +230,57 @@ public class TransactionLegServiceImplTest {
                     .verifyComplete();
         }
     }
+
+    @Test
+    void listAccountLegsByCursor_FirstPage_ReturnsNextCursor() {
+        // Arrange: page size 1, the query returns one extra row to signal a next page
+        TransactionLeg olderLeg = new TransactionLeg();
+        olderLeg.setTransactionLegId(UUID.randomUUID());
+        olderLeg.setBookingDate(legEntity.getBookingDate().minusDays(1));
+        when(repository.findAccountLegsFirstPage(accountId, startDate, endDate, 2)).thenReturn(Flux.just(legEntity, olderLeg));
+        when(mapper.toDTO(legEntity)).thenReturn(legDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.listAccountLegsByCursor(accountId, startDate, endDate, null, 1, false))
+                .assertNext(page -> {
+                    assertEquals(List.of(legDTO), page.getContent());
+                    assertTrue(page.getHasNext());
+                    assertEquals(new KeysetCursor(legEntity.getBookingDate(), legId), KeysetCursor.decode(page.getNextCursor()));
+                    assertNull(page.getTotalElements());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).countByAccountIdAndBookingDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void listAccountLegsByCursor_NextPage_SeeksAfterCursor() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(repository.findAccountLegsAfter(accountId, KeysetPaginationUtils.MIN_BOOKING_DATE, KeysetPaginationUtils.MAX_BOOKING_DATE,
+                cursor.bookingDate(), cursor.id(), 21)).thenReturn(Flux.just(legEntity));
+        when(repository.countByAccountIdAndBookingDateBetween(accountId, KeysetPaginationUtils.MIN_BOOKING_DATE, KeysetPaginationUtils.MAX_BOOKING_DATE))
+                .thenReturn(Mono.just(5L));
+        when(mapper.toDTO(legEntity)).thenReturn(legDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.listAccountLegsByCursor(accountId, null, null, cursor.encode(), 20, true))
+                .assertNext(page -> {
+                    assertEquals(List.of(legDTO), page.getContent());
+                    assertFalse(page.getHasNext());
+                    assertNull(page.getNextCursor());
+                    assertEquals(5L, page.getTotalElements());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).findAccountLegsFirstPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void listAccountLegsByCursor_InvalidCursor_Error() {
+        // Act & Assert
+        StepVerifier.create(service.listAccountLegsByCursor(accountId, null, null, "not-a-cursor", 20, false))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.outbox.v1.OutboxEventDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@link OutboxEventSink} that keeps published events in memory, for tests.
+ */
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final ConcurrentLinkedQueue<OutboxEventDTO> events = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public Mono<Void> publish(OutboxEventDTO event) {
+        return Mono.fromRunnable(() -> events.add(event));
+    }
+
+    /**
+     * All events published so far, in publication order.
+     */
+    public List<OutboxEventDTO> getPublishedEvents() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * Forget all published events.
+     */
+    public void clear() {
+        events.clear();
+    }
+}
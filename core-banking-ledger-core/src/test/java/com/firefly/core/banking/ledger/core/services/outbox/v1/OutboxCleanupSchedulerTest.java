@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.firefly.core.banking.ledger.models.repositories.outbox.v1.EventOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxCleanupSchedulerTest {
+
+    @Mock
+    private EventOutboxRepository repository;
+
+    @InjectMocks
+    private OutboxCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "retention", Duration.ofDays(7));
+        ReflectionTestUtils.setField(scheduler, "batchSize", 100);
+    }
+
+    @Test
+    void runOnce_DeletesBatchesUntilShort() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(scheduler, "meterRegistry", meterRegistry);
+        when(repository.deleteProcessed(604800.0, 100))
+                .thenReturn(Mono.just(100L))
+                .thenReturn(Mono.just(100L))
+                .thenReturn(Mono.just(42L));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce())
+                .expectNext(242L)
+                .verifyComplete();
+
+        verify(repository, times(3)).deleteProcessed(604800.0, 100);
+        assertEquals(242.0, meterRegistry.counter("ledger.outbox.deleted").count());
+    }
+
+    @Test
+    void runOnce_NothingPastRetention() {
+        // Arrange
+        when(repository.deleteProcessed(604800.0, 100)).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(repository).deleteProcessed(604800.0, 100);
+    }
+}
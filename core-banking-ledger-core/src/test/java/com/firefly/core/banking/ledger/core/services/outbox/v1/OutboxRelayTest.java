@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.outbox.v1.EventOutboxMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.outbox.v1.OutboxEventDTO;
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import com.firefly.core.banking.ledger.models.repositories.outbox.v1.EventOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @Mock
+    private EventOutboxRepository repository;
+
+    @Mock
+    private EventOutboxMapper mapper;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private InMemoryOutboxEventSink sink = new InMemoryOutboxEventSink();
+
+    @InjectMocks
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "concurrency", 4);
+        ReflectionTestUtils.setField(relay, "maxRetries", 10);
+        ReflectionTestUtils.setField(relay, "lease", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(relay, "initialBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(relay, "maxBackoff", Duration.ofMinutes(5));
+        lenient().when(repository.lockClaims()).thenReturn(Mono.empty());
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void relayBatch_PublishesAndMarksProcessed() {
+        // Arrange
+        EventOutbox first = event("agg-1", 0);
+        EventOutbox second = event("agg-2", 0);
+        when(repository.claimBatch(100, 60.0)).thenReturn(Flux.just(first, second));
+        when(mapper.toDTO(any(EventOutbox.class))).thenAnswer(invocation ->
+                OutboxEventDTO.builder().eventId(((EventOutbox) invocation.getArgument(0)).getEventId()).build());
+        when(repository.markProcessed(any())).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(2)
+                .verifyComplete();
+
+        assertEquals(2, sink.getPublishedEvents().size());
+        verify(repository).markProcessed(argThat((Collection<UUID> ids) ->
+                ids.size() == 2 && ids.contains(first.getEventId()) && ids.contains(second.getEventId())));
+        verify(repository, never()).markFailed(any(), any(), anyDouble());
+    }
+
+    @Test
+    void relayBatch_PublishFailure_SchedulesRetryWithBackoff() {
+        // Arrange: the first event of agg-1 fails, so the second one of the same aggregate is held back
+        EventOutbox failing = event("agg-1", 3);
+        EventOutbox heldBack = event("agg-1", 0);
+        EventOutbox other = event("agg-2", 0);
+        // RETURNING does not preserve the claim order
+        when(repository.claimBatch(100, 60.0)).thenReturn(Flux.just(heldBack, other, failing));
+        when(mapper.toDTO(any(EventOutbox.class))).thenAnswer(invocation ->
+                OutboxEventDTO.builder().eventId(((EventOutbox) invocation.getArgument(0)).getEventId()).build());
+        doReturn(Mono.error(new RuntimeException("broker unavailable")))
+                .when(sink).publish(argThat(dto -> dto != null && failing.getEventId().equals(dto.getEventId())));
+        when(repository.markProcessed(any())).thenReturn(Mono.just(1L));
+        when(repository.markFailed(eq(failing.getEventId()), eq("broker unavailable"), anyDouble())).thenReturn(Mono.just(1L));
+        when(repository.release(any())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(3)
+                .verifyComplete();
+
+        List<UUID> published = sink.getPublishedEvents().stream().map(OutboxEventDTO::getEventId).toList();
+        assertEquals(List.of(other.getEventId()), published);
+        verify(repository).markProcessed(argThat((Collection<UUID> ids) -> ids.size() == 1 && ids.contains(other.getEventId())));
+        // retry_count 3 -> 1s * 2^3
+        verify(repository).markFailed(failing.getEventId(), "broker unavailable", 8.0);
+        verify(repository).release(argThat((Collection<UUID> ids) -> ids.size() == 1 && ids.contains(heldBack.getEventId())));
+        verify(repository, never()).markDeadLettered(any(), any());
+    }
+
+    @Test
+    void relayBatch_RetriesExhausted_DeadLetters() {
+        // Arrange: the tenth failure exhausts max-retries
+        EventOutbox exhausted = event("agg-1", 9);
+        when(repository.claimBatch(100, 60.0)).thenReturn(Flux.just(exhausted));
+        when(mapper.toDTO(any(EventOutbox.class))).thenAnswer(invocation ->
+                OutboxEventDTO.builder().eventId(((EventOutbox) invocation.getArgument(0)).getEventId()).build());
+        doReturn(Mono.error(new RuntimeException("rejected"))).when(sink).publish(any());
+        when(repository.markDeadLettered(exhausted.getEventId(), "rejected")).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(repository).markDeadLettered(exhausted.getEventId(), "rejected");
+        verify(repository, never()).markFailed(any(), any(), anyDouble());
+        verify(repository, never()).markProcessed(any());
+    }
+
+    @Test
+    void relayBatch_NothingDue_NoAcknowledgement() {
+        // Arrange
+        when(repository.claimBatch(anyInt(), anyDouble())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(repository, never()).markProcessed(any());
+    }
+
+    private long sequence;
+
+    private EventOutbox event(String aggregateId, int retryCount) {
+        EventOutbox event = new EventOutbox();
+        event.setEventId(UUID.randomUUID());
+        event.setAggregateType("TRANSACTION");
+        event.setAggregateId(aggregateId);
+        event.setEventType("TRANSACTION_CREATED");
+        event.setRetryCount(retryCount);
+        event.setSequenceNumber(++sequence);
+        return event;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.outbox.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import com.firefly.core.banking.ledger.models.repositories.outbox.v1.EventOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxServiceImplTest {
+
+    @Mock
+    private EventOutboxRepository repository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private OutboxServiceImpl service;
+
+    @Test
+    void append_Success() {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        when(repository.insertAll(anyList())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(service.append(OutboxService.AGGREGATE_TRANSACTION, transactionId,
+                        OutboxEventTypeEnum.TRANSACTION_CREATED, Map.of("amount", "100.00")))
+                .verifyComplete();
+
+        verify(repository).insertAll(argThat((List<EventOutbox> events) -> {
+            EventOutbox event = events.get(0);
+            return events.size() == 1
+                    && event.getEventId() != null
+                    && "TRANSACTION".equals(event.getAggregateType())
+                    && transactionId.toString().equals(event.getAggregateId())
+                    && "TRANSACTION_CREATED".equals(event.getEventType())
+                    && "{\"amount\":\"100.00\"}".equals(event.getPayload().asString());
+        }));
+    }
+
+    @Test
+    void appendAll_OneRowPerAggregate() {
+        // Arrange
+        Map<UUID, Object> payloads = new LinkedHashMap<>();
+        payloads.put(UUID.randomUUID(), Map.of("n", 1));
+        payloads.put(UUID.randomUUID(), Map.of("n", 2));
+        when(repository.insertAll(anyList())).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(service.appendAll(OutboxService.AGGREGATE_TRANSACTION, OutboxEventTypeEnum.TRANSACTION_CREATED, payloads))
+                .verifyComplete();
+
+        verify(repository).insertAll(argThat((List<EventOutbox> events) -> events.size() == 2
+                && !events.get(0).getEventId().equals(events.get(1).getEventId())));
+    }
+
+    @Test
+    void appendAll_Empty_NoInsert() {
+        // Act & Assert
+        StepVerifier.create(service.appendAll(OutboxService.AGGREGATE_TRANSACTION, OutboxEventTypeEnum.TRANSACTION_CREATED, Map.of()))
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void append_UnserializablePayload_Error() {
+        // Act & Assert
+        StepVerifier.create(service.append(OutboxService.AGGREGATE_TRANSACTION, UUID.randomUUID(),
+                        OutboxEventTypeEnum.TRANSACTION_CREATED, new Object()))
+                .expectErrorSatisfies(error -> assertEquals("Failed to serialize outbox event payload", error.getMessage()))
+                .verify();
+
+        verify(repository, never()).insertAll(anyList());
+    }
+}
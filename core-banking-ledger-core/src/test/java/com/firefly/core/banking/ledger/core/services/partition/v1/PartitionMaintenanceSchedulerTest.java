@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.partition.v1;
+
+import com.firefly.core.banking.ledger.models.repositories.partition.v1.LedgerPartitionRepository;
+import com.firefly.core.banking.ledger.models.repositories.partition.v1.LedgerPartitionRepository.Partition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PartitionMaintenanceSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 5, 17);
+
+    @Mock
+    private LedgerPartitionRepository repository;
+
+    @InjectMocks
+    private PartitionMaintenanceScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "premakeMonths", 3);
+        ReflectionTestUtils.setField(scheduler, "retentionMonths", 0);
+    }
+
+    @Test
+    void runOnce_CreatesPartitionsThroughPremakeMonths() {
+        // Arrange
+        when(repository.findPartitionedTables()).thenReturn(Flux.just("transaction", "transaction_leg"));
+        when(repository.createMonthlyPartitions(anyString(), any())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(TODAY))
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(repository).createMonthlyPartitions("transaction", LocalDate.of(2025, 8, 1));
+        verify(repository).createMonthlyPartitions("transaction_leg", LocalDate.of(2025, 8, 1));
+        verify(repository, never()).findPartitions(anyString());
+        verify(repository, never()).detachPartition(anyString(), anyString());
+    }
+
+    @Test
+    void runOnce_DetachesMonthsPastRetentionWithTheirLegs() {
+        // Arrange
+        ReflectionTestUtils.setField(scheduler, "retentionMonths", 12);
+        when(repository.findPartitionedTables()).thenReturn(Flux.just("transaction", "transaction_leg"));
+        when(repository.createMonthlyPartitions(anyString(), any())).thenReturn(Mono.just(0));
+        when(repository.findPartitions("transaction")).thenReturn(Flux.just(
+                partition("transaction_legacy", 2024, 3),
+                partition("transaction_p2024_04", 2024, 5),
+                partition("transaction_p2024_05", 2024, 6)));
+        when(repository.findPartitions("transaction_leg")).thenReturn(Flux.just(
+                partition("transaction_leg_legacy", 2024, 3),
+                partition("transaction_leg_p2024_04", 2024, 5),
+                partition("transaction_leg_p2024_05", 2024, 6)));
+        when(repository.findTransactionReference(anyString(), anyString())).thenReturn(Mono.empty());
+        when(repository.detachPartition(anyString(), anyString())).thenReturn(Mono.empty());
+        when(repository.purgeTransactionKeys(anyString())).thenReturn(Mono.just(10L));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(TODAY))
+                .expectNext(4)
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).detachPartition("transaction_leg", "transaction_leg_legacy");
+        inOrder.verify(repository).detachPartition("transaction", "transaction_legacy");
+        inOrder.verify(repository).purgeTransactionKeys("transaction_legacy");
+        inOrder.verify(repository).detachPartition("transaction_leg", "transaction_leg_p2024_04");
+        inOrder.verify(repository).detachPartition("transaction", "transaction_p2024_04");
+        inOrder.verify(repository).purgeTransactionKeys("transaction_p2024_04");
+        verify(repository, never()).detachPartition("transaction", "transaction_p2024_05");
+        verify(repository, never()).detachPartition("transaction_leg", "transaction_leg_p2024_05");
+    }
+
+    @Test
+    void runOnce_SkipsReferencedMonths() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(scheduler, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "retentionMonths", 1);
+        when(repository.findPartitionedTables()).thenReturn(Flux.just("transaction", "transaction_leg"));
+        when(repository.createMonthlyPartitions(anyString(), any())).thenReturn(Mono.just(0));
+        when(repository.findPartitions("transaction")).thenReturn(Flux.just(
+                partition("transaction_p2025_01", 2025, 2),
+                partition("transaction_p2025_02", 2025, 3)));
+        when(repository.findPartitions("transaction_leg")).thenReturn(Flux.just(
+                partition("transaction_leg_p2025_01", 2025, 2),
+                partition("transaction_leg_p2025_02", 2025, 3)));
+        when(repository.findTransactionReference("transaction_p2025_01", "transaction_leg_p2025_01"))
+                .thenReturn(Mono.just("transaction_status_history.transaction_id"));
+        when(repository.findTransactionReference("transaction_p2025_02", "transaction_leg_p2025_02")).thenReturn(Mono.empty());
+        when(repository.detachPartition(anyString(), anyString())).thenReturn(Mono.empty());
+        when(repository.purgeTransactionKeys("transaction_p2025_02")).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(TODAY))
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(repository, never()).detachPartition("transaction", "transaction_p2025_01");
+        verify(repository, never()).detachPartition("transaction_leg", "transaction_leg_p2025_01");
+        verify(repository, never()).purgeTransactionKeys("transaction_p2025_01");
+        assertEquals(1.0, meterRegistry.counter("ledger.partitions.maintenance", "outcome", "blocked").count());
+    }
+
+    @Test
+    void runOnce_AttachesBackWhenReferencedWhileDetaching() {
+        // Arrange
+        ReflectionTestUtils.setField(scheduler, "retentionMonths", 1);
+        Partition transactions = partition("transaction_p2025_01", 2025, 2);
+        Partition legs = partition("transaction_leg_p2025_01", 2025, 2);
+        when(repository.findPartitionedTables()).thenReturn(Flux.just("transaction", "transaction_leg"));
+        when(repository.createMonthlyPartitions(anyString(), any())).thenReturn(Mono.just(0));
+        when(repository.findPartitions("transaction")).thenReturn(Flux.just(transactions));
+        when(repository.findPartitions("transaction_leg")).thenReturn(Flux.just(legs));
+        when(repository.findTransactionReference("transaction_p2025_01", "transaction_leg_p2025_01"))
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.just("transaction_line_card.transaction_id"));
+        when(repository.detachPartition(anyString(), anyString())).thenReturn(Mono.empty());
+        when(repository.attachPartition(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(TODAY))
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(repository).attachPartition("transaction", "transaction_p2025_01", transactions.bound());
+        verify(repository).attachPartition("transaction_leg", "transaction_leg_p2025_01", legs.bound());
+        verify(repository, never()).purgeTransactionKeys(anyString());
+    }
+
+    @Test
+    void runOnce_KeepsGoingWhenADetachFails() {
+        // Arrange
+        ReflectionTestUtils.setField(scheduler, "retentionMonths", 1);
+        when(repository.findPartitionedTables()).thenReturn(Flux.just("transaction", "transaction_leg"));
+        when(repository.createMonthlyPartitions(anyString(), any())).thenReturn(Mono.just(0));
+        when(repository.findPartitions("transaction")).thenReturn(Flux.just(
+                partition("transaction_p2025_01", 2025, 2),
+                partition("transaction_p2025_02", 2025, 3)));
+        when(repository.findPartitions("transaction_leg")).thenReturn(Flux.just(
+                partition("transaction_leg_p2025_01", 2025, 2),
+                partition("transaction_leg_p2025_02", 2025, 3)));
+        when(repository.findTransactionReference(anyString(), anyString())).thenReturn(Mono.empty());
+        when(repository.detachPartition(anyString(), anyString())).thenReturn(Mono.empty());
+        when(repository.detachPartition("transaction", "transaction_p2025_01"))
+                .thenReturn(Mono.error(new IllegalStateException("lock timeout")));
+        when(repository.attachPartition(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+        when(repository.purgeTransactionKeys("transaction_p2025_02")).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(TODAY))
+                .expectNext(2)
+                .verifyComplete();
+
+        // The legs of the failed month are attached back
+        verify(repository).attachPartition(eq("transaction_leg"), eq("transaction_leg_p2025_01"), anyString());
+    }
+
+    @Test
+    void maintain_FailedRunIsCounted() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(scheduler, "meterRegistry", meterRegistry);
+        when(repository.findPartitionedTables()).thenReturn(Flux.just("transaction"));
+        when(repository.createMonthlyPartitions(anyString(), any()))
+                .thenReturn(Mono.error(new IllegalStateException("permission denied")));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.maintain(TODAY))
+                .expectNext(0)
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.counter("ledger.partitions.maintenance", "outcome", "error").count());
+    }
+
+    private static Partition partition(String name, int upperYear, int upperMonth) {
+        LocalDate upperBound = LocalDate.of(upperYear, upperMonth, 1);
+        String bound = name.endsWith("_legacy")
+                ? "FOR VALUES FROM (MINVALUE) TO ('" + upperBound + " 00:00:00')"
+                : "FOR VALUES FROM ('" + upperBound.minusMonths(1) + " 00:00:00') TO ('" + upperBound + " 00:00:00')";
+        return new Partition(name, bound, upperBound.atStartOfDay());
+    }
+}
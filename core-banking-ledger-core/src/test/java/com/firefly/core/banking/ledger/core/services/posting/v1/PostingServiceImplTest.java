@@ -0,0 +1,306 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.posting.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.mappers.leg.v1.TransactionLegMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.card.v1.TransactionLineCardService;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessment;
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeAssessmentService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.interfaces.dtos.card.v1.TransactionLineCardDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.posting.v1.PostingDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.transfer.v1.TransactionLineTransferDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.outbox.v1.OutboxEventTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PostingServiceImplTest {
+
+    @Mock
+    private TransactionRepository repository;
+
+    @Mock
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private TransactionLegRepository legRepository;
+
+    @Mock
+    private TransactionMapper mapper;
+
+    @Mock
+    private TransactionLegMapper legMapper;
+
+    @Mock
+    private AccountBalanceService balanceService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private TransactionLineCardService cardLineService;
+
+    @Mock
+    private FeeAssessmentService feeAssessmentService;
+
+    @InjectMocks
+    private PostingServiceImpl service;
+
+    private final UUID debitAccountId = UUID.randomUUID();
+    private final UUID creditAccountId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toEntity(any(TransactionDTO.class))).thenAnswer(invocation -> {
+            TransactionDTO dto = invocation.getArgument(0);
+            Transaction entity = new Transaction();
+            entity.setTransactionStatus(dto.getTransactionStatus());
+            entity.setValueDate(dto.getValueDate());
+            return entity;
+        });
+        when(mapper.toDTO(any(Transaction.class))).thenAnswer(invocation -> {
+            Transaction entity = invocation.getArgument(0);
+            TransactionDTO dto = new TransactionDTO();
+            dto.setTransactionId(entity.getTransactionId());
+            return dto;
+        });
+        when(legMapper.toEntity(any(TransactionLegDTO.class))).thenAnswer(invocation -> {
+            TransactionLegDTO dto = invocation.getArgument(0);
+            TransactionLeg entity = new TransactionLeg();
+            entity.setLegType(dto.getLegType());
+            return entity;
+        });
+        when(legMapper.toDTO(any(TransactionLeg.class))).thenAnswer(invocation -> {
+            TransactionLeg entity = invocation.getArgument(0);
+            TransactionLegDTO dto = new TransactionLegDTO();
+            dto.setTransactionLegId(entity.getTransactionLegId());
+            dto.setTransactionId(entity.getTransactionId());
+            return dto;
+        });
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> Flux.fromIterable((List<Transaction>) invocation.getArgument(0)));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(legRepository.insertAll(anyList())).thenAnswer(invocation -> Mono.just((long) ((List<?>) invocation.getArgument(0)).size()));
+        when(balanceService.applyLegsOfTransactions(anyList())).thenReturn(Mono.just(2L));
+        when(outboxService.append(any(), any(), any(), any())).thenReturn(Mono.empty());
+        when(feeAssessmentService.write(any(FeeAssessment.class))).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void createPosting_Success() {
+        // Arrange
+        PostingDTO posting = posting(leg(debitAccountId, "DEBIT", "100.00", "EUR"), leg(creditAccountId, "CREDIT", "100.00", "EUR"));
+        TransactionLineCardDTO card = new TransactionLineCardDTO();
+        card.setCardMerchantName("Coffee Shop");
+        posting.setCard(card);
+        when(cardLineService.createCardLine(any(UUID.class), eq(card))).thenAnswer(invocation -> {
+            TransactionLineCardDTO created = new TransactionLineCardDTO();
+            created.setTransactionLineCardId(UUID.randomUUID());
+            created.setTransactionId(invocation.getArgument(0));
+            return Mono.just(created);
+        });
+
+        // Act & Assert
+        StepVerifier.create(service.createPosting(posting))
+                .assertNext(created -> {
+                    UUID transactionId = created.getTransaction().getTransactionId();
+                    assertNotNull(transactionId);
+                    assertEquals(2, created.getLegs().size());
+                    assertTrue(created.getLegs().stream().allMatch(leg -> transactionId.equals(leg.getTransactionId())));
+                    assertEquals(transactionId, created.getCard().getTransactionId());
+                    assertNotNull(created.getCard().getTransactionLineCardId());
+                })
+                .verifyComplete();
+
+        verify(legRepository).insertAll(argThat(legs -> legs.size() == 2));
+        verify(balanceService).applyLegsOfTransactions(argThat(ids -> ids.size() == 1));
+        verify(outboxService).append(eq(OutboxService.AGGREGATE_TRANSACTION), any(UUID.class), eq(OutboxEventTypeEnum.TRANSACTION_CREATED), any());
+        verify(feeAssessmentService).assess(any(FeeAssessment.class), argThat(t -> t.getTransactionId() != null), eq(TransactionLineTypeEnum.CARD));
+        verify(feeAssessmentService).write(any(FeeAssessment.class));
+        verify(transactionalOperator).transactional(any(Mono.class));
+    }
+
+    @Test
+    void createPosting_BalancedPerCurrency_Success() {
+        // Arrange: an FX posting balanced in each currency
+        PostingDTO posting = posting(
+                leg(debitAccountId, "DEBIT", "100.00", "EUR"), leg(creditAccountId, "CREDIT", "100", "EUR"),
+                leg(debitAccountId, "DEBIT", "108.50", "USD"), leg(creditAccountId, "CREDIT", "60.25", "USD"),
+                leg(creditAccountId, "CREDIT", "48.25", "USD"));
+
+        // Act & Assert
+        StepVerifier.create(service.createPosting(posting))
+                .assertNext(created -> assertEquals(5, created.getLegs().size()))
+                .verifyComplete();
+    }
+
+    @Test
+    void createPosting_Unbalanced_NothingWritten() {
+        // Arrange
+        PostingDTO posting = posting(leg(debitAccountId, "DEBIT", "100.00", "EUR"), leg(creditAccountId, "CREDIT", "99.99", "EUR"));
+
+        // Act & Assert
+        StepVerifier.create(service.createPosting(posting))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException && e.getMessage().contains("do not balance in EUR"))
+                .verify();
+
+        verify(repository, never()).insertAllIfAbsent(anyList());
+        verify(legRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void createPosting_SameAmountInDifferentCurrencies_Rejected() {
+        // Arrange
+        PostingDTO posting = posting(leg(debitAccountId, "DEBIT", "100.00", "EUR"), leg(creditAccountId, "CREDIT", "100.00", "USD"));
+
+        // Act & Assert
+        StepVerifier.create(service.createPosting(posting))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).insertAllIfAbsent(anyList());
+    }
+
+    @Test
+    void createPosting_SeveralLines_Rejected() {
+        // Arrange
+        PostingDTO posting = posting(leg(debitAccountId, "DEBIT", "100.00", "EUR"), leg(creditAccountId, "CREDIT", "100.00", "EUR"));
+        posting.setCard(new TransactionLineCardDTO());
+        posting.setTransfer(new TransactionLineTransferDTO());
+
+        // Act & Assert
+        StepVerifier.create(service.createPosting(posting))
+                .expectErrorMessage("At most one transaction line can be posted")
+                .verify();
+
+        verifyNoInteractions(cardLineService);
+    }
+
+    @Test
+    void createPosting_LineFails_ErrorPropagated() {
+        // Arrange
+        PostingDTO posting = posting(leg(debitAccountId, "DEBIT", "100.00", "EUR"), leg(creditAccountId, "CREDIT", "100.00", "EUR"));
+        posting.setCard(new TransactionLineCardDTO());
+        when(cardLineService.createCardLine(any(UUID.class), any(TransactionLineCardDTO.class)))
+                .thenReturn(Mono.error(new RuntimeException("Failed to create Transaction Line Card")));
+
+        // Act & Assert
+        StepVerifier.create(service.createPosting(posting))
+                .expectErrorMessage("Failed to create Transaction Line Card")
+                .verify();
+
+        verify(outboxService, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    void createPosting_RequestIdAlreadyUsed_ReturnsOriginal() {
+        // Arrange
+        PostingDTO posting = posting(leg(debitAccountId, "DEBIT", "100.00", "EUR"), leg(creditAccountId, "CREDIT", "100.00", "EUR"));
+        posting.getTransaction().setRequestId("REQ-1");
+        Transaction original = new Transaction();
+        original.setTransactionId(UUID.randomUUID());
+        TransactionLeg originalLeg = new TransactionLeg();
+        originalLeg.setTransactionLegId(UUID.randomUUID());
+        originalLeg.setTransactionId(original.getTransactionId());
+        when(mapper.toEntity(any(TransactionDTO.class))).thenAnswer(invocation -> {
+            Transaction entity = new Transaction();
+            entity.setRequestId("REQ-1");
+            return entity;
+        });
+        when(repository.insertAllIfAbsent(anyList())).thenReturn(Flux.empty());
+        when(repository.findByRequestId("REQ-1")).thenReturn(Mono.just(original));
+        when(legRepository.findByTransactionIdIn(anyList())).thenReturn(Flux.just(originalLeg, originalLeg));
+
+        // Act & Assert
+        StepVerifier.create(service.createPosting(posting))
+                .assertNext(replayed -> {
+                    assertEquals(original.getTransactionId(), replayed.getTransaction().getTransactionId());
+                    assertEquals(2, replayed.getLegs().size());
+                })
+                .verifyComplete();
+
+        verify(legRepository, never()).insertAll(anyList());
+        verify(balanceService, never()).applyLegsOfTransactions(anyList());
+        verify(outboxService, never()).append(any(), any(), any(), any());
+        verify(feeAssessmentService, never()).write(any(FeeAssessment.class));
+    }
+
+    private PostingDTO posting(TransactionLegDTO... legs) {
+        TransactionDTO transaction = new TransactionDTO();
+        transaction.setTransactionDate(LocalDateTime.now());
+        transaction.setValueDate(LocalDateTime.now());
+        transaction.setTransactionType(TransactionTypeEnum.TRANSFER);
+        transaction.setTransactionStatus(TransactionStatusEnum.POSTED);
+        transaction.setTotalAmount(new BigDecimal("100.00"));
+        transaction.setCurrency("EUR");
+        transaction.setAccountId(debitAccountId);
+
+        return PostingDTO.builder()
+                .transaction(transaction)
+                .legs(List.of(legs))
+                .build();
+    }
+
+    private TransactionLegDTO leg(UUID accountId, String legType, String amount, String currency) {
+        TransactionLegDTO leg = new TransactionLegDTO();
+        leg.setAccountId(accountId);
+        leg.setLegType(legType);
+        leg.setAmount(new BigDecimal(amount));
+        leg.setCurrency(currency);
+        return leg;
+    }
+}
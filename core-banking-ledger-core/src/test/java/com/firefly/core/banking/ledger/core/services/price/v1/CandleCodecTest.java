@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleCodecTest {
+
+    private static final long BLOCK_START = 1_735_689_600L;
+
+    @Test
+    void encode_RoundTripsCandlesWithGaps() {
+        // Arrange
+        List<PriceCandle> candles = List.of(
+                candle(0, "94000.12", "94010.50", "93990.00", "94005.25", 12),
+                candle(1, "94005.25", "94005.25", "94001.10", "94002.00", 3),
+                candle(7, "93950.5", "94100", "93900.125", "94000", 40));
+
+        // Act
+        byte[] encoded = CandleCodec.encode(candles, BLOCK_START, 60);
+        List<PriceCandle> decoded = CandleCodec.decode(encoded, BLOCK_START, 60);
+
+        // Assert
+        assertEquals(3, decoded.size());
+        for (int i = 0; i < candles.size(); i++) {
+            PriceCandle expected = candles.get(i);
+            PriceCandle actual = decoded.get(i);
+            assertEquals(expected.periodStart(), actual.periodStart());
+            assertEquals(0, expected.open().compareTo(actual.open()));
+            assertEquals(0, expected.high().compareTo(actual.high()));
+            assertEquals(0, expected.low().compareTo(actual.low()));
+            assertEquals(0, expected.close().compareTo(actual.close()));
+            assertEquals(expected.tickCount(), actual.tickCount());
+        }
+        assertTrue(encoded.length < 3 * 4 * Long.BYTES);
+    }
+
+    @Test
+    void encode_LowersScaleWhenPricesDoNotFitInLong() {
+        // Arrange
+        List<PriceCandle> candles = List.of(
+                candle(0, "0.000000000000000001", "123456789.5", "0.000000000000000001", "123456789.5", 2));
+
+        // Act
+        List<PriceCandle> decoded = CandleCodec.decode(CandleCodec.encode(candles, BLOCK_START, 60), BLOCK_START, 60);
+
+        // Assert
+        assertEquals(0, new BigDecimal("123456789.5").compareTo(decoded.get(0).high()));
+        assertTrue(decoded.get(0).low().scale() < 18);
+    }
+
+    @Test
+    void decode_RejectsTruncatedBlock() {
+        // Arrange
+        byte[] encoded = CandleCodec.encode(List.of(candle(0, "1", "2", "1", "2", 1)), BLOCK_START, 60);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CandleCodec.decode(truncated, BLOCK_START, 60));
+    }
+
+    private static PriceCandle candle(int period, String open, String high, String low, String close, int ticks) {
+        return new PriceCandle(BLOCK_START + period * 60L, new BigDecimal(open), new BigDecimal(high),
+                new BigDecimal(low), new BigDecimal(close), ticks);
+    }
+}
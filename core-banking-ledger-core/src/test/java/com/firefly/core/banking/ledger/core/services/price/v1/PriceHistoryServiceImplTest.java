@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceCandleDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.price.v1.PriceResolutionEnum;
+import com.firefly.core.banking.ledger.models.entities.price.v1.CryptoPriceCandleBlock;
+import com.firefly.core.banking.ledger.models.repositories.price.v1.CryptoPriceCandleBlockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PriceHistoryServiceImplTest {
+
+    @Mock
+    private CryptoPriceCandleBlockRepository blockRepository;
+
+    @InjectMocks
+    private PriceHistoryServiceImpl service;
+
+    private final UUID btc = UUID.randomUUID();
+    private final LocalDateTime start = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "tickBufferSize", 4);
+        ReflectionTestUtils.setField(service, "closeDelay", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(service, "defaultMaxPoints", 500);
+        ReflectionTestUtils.setField(service, "maxPendingCandles", 1440);
+    }
+
+    @Test
+    void record_RollsTicksUpIntoCandles() {
+        // Arrange
+        record("100", 0);
+        record("105", 10);
+        record("98", 20);
+        record("101", 30);
+        record("110", 70);
+        when(blockRepository.findBlocks(eq(btc), eq("USD"), eq("MINUTE"), any(), any())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getCandles(btc, "usd", start, start.plusMinutes(5), PriceResolutionEnum.MINUTE, null))
+                .assertNext(candle -> assertCandle(candle, start, "100", "105", "98", "101", 4))
+                .assertNext(candle -> assertCandle(candle, start.plusMinutes(1), "110", "110", "110", "110", 1))
+                .verifyComplete();
+    }
+
+    @Test
+    void record_IgnoresTicksBeforeOpenMinute() {
+        // Arrange
+        record("100", 70);
+
+        // Act & Assert
+        assertFalse(service.record(btc, "USD", new BigDecimal("90"), start.plusSeconds(10)));
+        assertTrue(service.record(btc, "USD", new BigDecimal("101"), start.plusSeconds(80)));
+    }
+
+    @Test
+    void getRecentTicks_ReturnsRingBufferOldestFirst() {
+        // Arrange
+        for (int i = 0; i < 6; i++) {
+            record(String.valueOf(100 + i), i);
+        }
+
+        // Act & Assert
+        StepVerifier.create(service.getRecentTicks(btc, "USD", 10).map(tick -> tick.getPrice().intValue()).collectList())
+                .assertNext(prices -> assertEquals(List.of(102, 103, 104, 105), prices))
+                .verifyComplete();
+    }
+
+    @Test
+    void resolutionFor_PicksFinestResolutionWithinBudget() {
+        assertEquals(PriceResolutionEnum.MINUTE, service.resolutionFor(start, start.plusHours(8), 500));
+        assertEquals(PriceResolutionEnum.HOUR, service.resolutionFor(start, start.plusDays(7), 500));
+        assertEquals(PriceResolutionEnum.DAY, service.resolutionFor(start, start.plusDays(365), 500));
+        assertEquals(PriceResolutionEnum.DAY, service.resolutionFor(start, start.plusYears(5), 500));
+    }
+
+    @Test
+    void getCandles_RejectsEmptyRange() {
+        StepVerifier.create(service.getCandles(btc, "USD", start, start, null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_MergesClosedCandlesIntoStoredBlocks() {
+        // Arrange
+        long blockStart = start.toLocalDate().atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        CryptoPriceCandleBlock stored = new CryptoPriceCandleBlock();
+        stored.setCryptoAssetId(btc);
+        stored.setQuoteCurrency("USD");
+        stored.setResolution("MINUTE");
+        stored.setBlockStart(start.toLocalDate().atStartOfDay());
+        stored.setCandles(CandleCodec.encode(List.of(new PriceCandle(blockStart + 60, BigDecimal.ONE, BigDecimal.ONE,
+                BigDecimal.ONE, BigDecimal.ONE, 1)), blockStart, 60));
+        when(blockRepository.findByKeys(anyList())).thenReturn(Flux.just(stored));
+        when(blockRepository.upsertAll(anyList())).thenReturn(Mono.just(3L));
+
+        record("100", 0);
+        record("101", 30);
+
+        // Act & Assert
+        StepVerifier.create(service.flush()).expectNext(3).verifyComplete();
+        StepVerifier.create(service.flush()).expectNext(0).verifyComplete();
+
+        ArgumentCaptor<List<CryptoPriceCandleBlock>> written = ArgumentCaptor.forClass(List.class);
+        verify(blockRepository).upsertAll(written.capture());
+        CryptoPriceCandleBlock minutes = written.getValue().stream()
+                .filter(block -> "MINUTE".equals(block.getResolution()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, minutes.getCandleCount());
+        List<PriceCandle> candles = CandleCodec.decode(minutes.getCandles(), blockStart, 60);
+        assertEquals(blockStart + 60, candles.get(0).periodStart());
+        assertEquals(start.toEpochSecond(ZoneOffset.UTC), candles.get(1).periodStart());
+        assertEquals(0, new BigDecimal("101").compareTo(candles.get(1).close()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_DropsOldestCandlesBeyondCapWhileFlushesFail() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "maxPendingCandles", 2);
+        when(blockRepository.findByKeys(anyList())).thenReturn(Flux.empty());
+        when(blockRepository.upsertAll(anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("database unavailable")))
+                .thenReturn(Mono.just(4L));
+
+        for (int minute = 0; minute < 4; minute++) {
+            record(String.valueOf(100 + minute), minute * 60);
+        }
+
+        // Act & Assert
+        StepVerifier.create(service.flush()).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(service.flush()).expectNext(4).verifyComplete();
+
+        ArgumentCaptor<List<CryptoPriceCandleBlock>> written = ArgumentCaptor.forClass(List.class);
+        verify(blockRepository, times(2)).upsertAll(written.capture());
+        List<PriceCandle> minutes = minuteCandles(written.getValue());
+        assertEquals(List.of(start.plusMinutes(2).toEpochSecond(ZoneOffset.UTC), start.plusMinutes(3).toEpochSecond(ZoneOffset.UTC)),
+                minutes.stream().map(PriceCandle::periodStart).toList());
+        assertEquals(2.0, meterRegistry.counter("ledger.prices.history.candles.dropped").count());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_KeepsCandlesClosedWhileWriting() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "maxPendingCandles", 2);
+        when(blockRepository.findByKeys(anyList())).thenReturn(Flux.empty());
+        when(blockRepository.upsertAll(anyList()))
+                .thenReturn(Mono.fromSupplier(() -> {
+                    // Closes three more minutes, dropping the candles being written and the next one
+                    record("102", 120);
+                    record("103", 180);
+                    record("104", 240);
+                    return 4L;
+                }))
+                .thenReturn(Mono.just(4L));
+
+        record("100", 0);
+        record("101", 60);
+
+        // Act & Assert
+        StepVerifier.create(service.flush()).expectNext(4).verifyComplete();
+        StepVerifier.create(service.flush()).expectNext(2).verifyComplete();
+
+        ArgumentCaptor<List<CryptoPriceCandleBlock>> written = ArgumentCaptor.forClass(List.class);
+        verify(blockRepository, times(2)).upsertAll(written.capture());
+        List<PriceCandle> minutes = minuteCandles(written.getValue());
+        assertEquals(List.of(start.plusMinutes(3).toEpochSecond(ZoneOffset.UTC), start.plusMinutes(4).toEpochSecond(ZoneOffset.UTC)),
+                minutes.stream().map(PriceCandle::periodStart).toList());
+    }
+
+    private static List<PriceCandle> minuteCandles(List<CryptoPriceCandleBlock> blocks) {
+        CryptoPriceCandleBlock minutes = blocks.stream()
+                .filter(block -> "MINUTE".equals(block.getResolution()))
+                .findFirst()
+                .orElseThrow();
+        long blockStart = minutes.getBlockStart().toEpochSecond(ZoneOffset.UTC);
+        return CandleCodec.decode(minutes.getCandles(), blockStart, 60);
+    }
+
+    private void record(String price, int secondsAfterStart) {
+        assertTrue(service.record(btc, "USD", new BigDecimal(price), start.plusSeconds(secondsAfterStart)));
+    }
+
+    private static void assertCandle(PriceCandleDTO candle, LocalDateTime periodStart, String open, String high,
+                                     String low, String close, int ticks) {
+        assertEquals(periodStart, candle.getPeriodStart());
+        assertEquals(new BigDecimal(open), candle.getOpen());
+        assertEquals(new BigDecimal(high), candle.getHigh());
+        assertEquals(new BigDecimal(low), candle.getLow());
+        assertEquals(new BigDecimal(close), candle.getClose());
+        assertEquals(ticks, candle.getTickCount());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.services.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.MarketData;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceUpdate;
+import com.firefly.core.banking.ledger.models.entities.price.v1.CryptoPriceSnapshot;
+import com.firefly.core.banking.ledger.models.repositories.price.v1.CryptoPriceSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PriceServiceImplTest {
+
+    @Mock
+    private CryptoPriceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private PriceHistoryService historyService;
+
+    @InjectMocks
+    private PriceServiceImpl service;
+
+    private final UUID btc = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    void ingestPriceUpdates_ConflatesToLatestPrice() {
+        // Arrange
+        Flux<PriceUpdate> updates = Flux.just(
+                update(btc, "usd", "100", now),
+                update(btc, "USD", "102", now.plusSeconds(2)),
+                update(btc, "USD", "101", now.plusSeconds(1)),
+                update(btc, "EUR", "95", now),
+                update(null, "USD", "1", now));
+
+        // Act & Assert
+        StepVerifier.create(service.ingestPriceUpdates(updates))
+                .assertNext(result -> {
+                    assertEquals(5, result.getReceived());
+                    assertEquals(3, result.getApplied());
+                    assertEquals(1, result.getStale());
+                    assertEquals(1, result.getRejected());
+                })
+                .verifyComplete();
+
+        assertEquals(new BigDecimal("102"), service.currentPrice(btc, "USD"));
+        assertEquals(new BigDecimal("102"), service.currentPrice(btc, "usd"));
+        assertNull(service.currentPrice(UUID.randomUUID(), "USD"));
+        StepVerifier.create(service.getPrices(btc).map(PriceUpdate::getQuoteCurrency).collectList())
+                .assertNext(currencies -> assertEquals(2, currencies.size()))
+                .verifyComplete();
+        verifyNoInteractions(snapshotRepository);
+        verify(historyService, times(3)).record(eq(btc), anyString(), any(BigDecimal.class), any(LocalDateTime.class));
+        verify(historyService, never()).record(btc, "USD", new BigDecimal("101"), now.plusSeconds(1));
+    }
+
+    @Test
+    void ingestMarketData_AppliesCurrentPrice() {
+        // Arrange
+        MarketData data = MarketData.builder()
+                .cryptoAssetId(btc)
+                .quoteCurrency("USD")
+                .currentPrice(new BigDecimal("100"))
+                .priceChange(Map.of("24h", new BigDecimal("-2.5")))
+                .timestamp(now)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.ingestMarketData(Flux.just(data)))
+                .assertNext(result -> assertEquals(1, result.getApplied()))
+                .verifyComplete();
+
+        StepVerifier.create(service.getPrice(btc, "USD"))
+                .assertNext(price -> {
+                    assertEquals(new BigDecimal("100"), price.getPrice());
+                    assertEquals(new BigDecimal("-2.5"), price.getPriceChange24h());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void persistSnapshot_WritesOnlyChangedPrices() {
+        // Arrange
+        when(snapshotRepository.upsertAll(anyList())).thenReturn(Mono.just(1L));
+        service.ingestPriceUpdates(Flux.just(update(btc, "USD", "100", now))).block();
+
+        // Act & Assert
+        StepVerifier.create(service.persistSnapshot()).expectNext(1).verifyComplete();
+        StepVerifier.create(service.persistSnapshot()).expectNext(0).verifyComplete();
+
+        service.ingestPriceUpdates(Flux.just(update(btc, "USD", "101", now.plusSeconds(1)))).block();
+        StepVerifier.create(service.persistSnapshot()).expectNext(1).verifyComplete();
+
+        verify(snapshotRepository, times(2)).upsertAll(argThat((List<CryptoPriceSnapshot> snapshots) -> snapshots.size() == 1));
+    }
+
+    @Test
+    void persistSnapshot_KeepsPricesPendingOnFailure() {
+        // Arrange
+        when(snapshotRepository.upsertAll(anyList()))
+                .thenReturn(Mono.error(new RuntimeException("down")))
+                .thenReturn(Mono.just(1L));
+        service.ingestPriceUpdates(Flux.just(update(btc, "USD", "100", now))).block();
+
+        // Act & Assert
+        StepVerifier.create(service.persistSnapshot()).expectError(RuntimeException.class).verify();
+        StepVerifier.create(service.persistSnapshot()).expectNext(1).verifyComplete();
+    }
+
+    @Test
+    void loadSnapshot_KeepsLaterPrices() {
+        // Arrange
+        UUID eth = UUID.randomUUID();
+        service.ingestPriceUpdates(Flux.just(update(btc, "USD", "105", now.plusMinutes(1)))).block();
+        when(snapshotRepository.findAll()).thenReturn(Flux.just(snapshot(btc, "100", now), snapshot(eth, "3000", now)));
+
+        // Act & Assert
+        StepVerifier.create(service.loadSnapshot()).expectNext(1).verifyComplete();
+
+        assertEquals(new BigDecimal("105"), service.currentPrice(btc, "USD"));
+        assertEquals(new BigDecimal("3000"), service.currentPrice(eth, "USD"));
+    }
+
+    private static PriceUpdate update(UUID assetId, String quoteCurrency, String price, LocalDateTime timestamp) {
+        return PriceUpdate.builder()
+                .cryptoAssetId(assetId)
+                .assetSymbol("BTC")
+                .assetName("Bitcoin")
+                .quoteCurrency(quoteCurrency)
+                .price(new BigDecimal(price))
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static CryptoPriceSnapshot snapshot(UUID assetId, String price, LocalDateTime timestamp) {
+        CryptoPriceSnapshot snapshot = new CryptoPriceSnapshot();
+        snapshot.setCryptoAssetId(assetId);
+        snapshot.setQuoteCurrency("USD");
+        snapshot.setPrice(new BigDecimal(price));
+        snapshot.setPriceTimestamp(timestamp);
+        return snapshot;
+    }
+}
@@ -17,6 +17,7 @@
 
 package com.firefly.core.banking.ledger.core.services.sepa.v1;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.sepa.v1.TransactionLineSepaTransferMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.sepa.v1.TransactionLineSepaTransferDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.sepa.v1.SepaSpanishSchemeEnum;
@@ -29,6 +30,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -49,6 +51,10 @@ public class TransactionLineSepaTransferServiceImplTest {
     @Mock
     private TransactionLineSepaTransferMapper mapper;
 
+    // Caching disabled: every read goes to the mocked repository
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
     @InjectMocks
     private TransactionLineSepaTransferServiceImpl service;
 
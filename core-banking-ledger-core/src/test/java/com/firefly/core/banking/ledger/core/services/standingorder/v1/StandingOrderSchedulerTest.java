@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.standingorder.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.core.services.outbox.v1.OutboxService;
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.StandingOrderFrequencyEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.StandingOrderStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionRepository;
+import com.firefly.core.banking.ledger.models.repositories.core.v1.TransactionStatusHistoryRepository;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
+import com.firefly.core.banking.ledger.models.repositories.standingorder.v1.TransactionLineStandingOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StandingOrderSchedulerTest {
+
+    private static final LocalDate EXECUTION_DATE = LocalDate.of(2024, 1, 31);
+
+    @Mock
+    private TransactionLineStandingOrderRepository standingOrderRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private TransactionLegRepository legRepository;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private AccountBalanceService balanceService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private StandingOrderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "pageSize", 100);
+        ReflectionTestUtils.setField(scheduler, "concurrency", 4);
+        ReflectionTestUtils.setField(scheduler, "connectionBudget", new ConnectionBudget(10, 2));
+        ReflectionTestUtils.setField(scheduler, "shardCount", 1);
+        ReflectionTestUtils.setField(scheduler, "shardIndex", 0);
+        ReflectionTestUtils.setField(scheduler, "workStealing", true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executePage_ExecutesClaimedOrdersAndAdvancesSchedules() {
+        // Arrange
+        Transaction template = template();
+        TransactionLineStandingOrder order = order(template.getTransactionId(), StandingOrderFrequencyEnum.MONTHLY);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(standingOrderRepository.claimDueStandingOrders(eq(EXECUTION_DATE), eq(1), eq(0), any(), eq(100)))
+                .thenReturn(Flux.just(order));
+        when(transactionRepository.findAllById(anyIterable())).thenReturn(Flux.just(template));
+        when(legRepository.findByTransactionIdIn(any())).thenReturn(Flux.just(
+                leg(template.getTransactionId(), "DEBIT"), leg(template.getTransactionId(), "CREDIT")));
+        stubWrites();
+
+        // Act & Assert
+        StepVerifier.create(scheduler.executePage(EXECUTION_DATE, new HashSet<>()))
+                .expectNext(1)
+                .verifyComplete();
+
+        ArgumentCaptor<List<Transaction>> transactions = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).insertAll(transactions.capture());
+        Transaction executed = transactions.getValue().get(0);
+        assertEquals(TransactionTypeEnum.STANDING_ORDER, executed.getTransactionType());
+        assertEquals(template.getTransactionId(), executed.getRelatedTransactionId());
+        assertEquals(new BigDecimal("50.00"), executed.getTotalAmount());
+        assertEquals(EXECUTION_DATE.atStartOfDay(), executed.getValueDate());
+
+        ArgumentCaptor<List<TransactionLeg>> legs = ArgumentCaptor.forClass(List.class);
+        verify(legRepository).insertAll(legs.capture());
+        assertEquals(2, legs.getValue().size());
+        assertTrue(legs.getValue().stream().allMatch(leg -> executed.getTransactionId().equals(leg.getTransactionId())));
+
+        ArgumentCaptor<List<TransactionLineStandingOrder>> lines = ArgumentCaptor.forClass(List.class);
+        verify(standingOrderRepository).insertAll(lines.capture());
+        assertEquals(order.getTransactionLineStandingOrderId(), lines.getValue().get(0).getStandingOrderSourceLineId());
+        assertEquals(EXECUTION_DATE, lines.getValue().get(0).getStandingOrderLastExecutionDate());
+
+        verify(balanceService).applyLegsOfTransactions(List.of(executed.getTransactionId()));
+        verify(standingOrderRepository).advanceSchedules(
+                List.of(order.getTransactionLineStandingOrderId()),
+                List.of(EXECUTION_DATE),
+                List.of(LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executePage_StealsFromOtherShardsWhenOwnShardIsDrained() {
+        // Arrange
+        ReflectionTestUtils.setField(scheduler, "shardCount", 4);
+        ReflectionTestUtils.setField(scheduler, "shardIndex", 1);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(standingOrderRepository.claimDueStandingOrders(eq(EXECUTION_DATE), anyInt(), anyInt(), any(), eq(100)))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(scheduler.executePage(EXECUTION_DATE, new HashSet<>()))
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(standingOrderRepository).claimDueStandingOrders(eq(EXECUTION_DATE), eq(4), eq(1), any(), eq(100));
+        verify(standingOrderRepository).claimDueStandingOrders(eq(EXECUTION_DATE), eq(1), eq(0), any(), eq(100));
+        verify(transactionRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executePage_RetriesOrdersOneByOneAndExcludesFailures() {
+        // Arrange
+        Transaction template = template();
+        TransactionLineStandingOrder healthy = order(template.getTransactionId(), StandingOrderFrequencyEnum.WEEKLY);
+        TransactionLineStandingOrder broken = order(UUID.randomUUID(), StandingOrderFrequencyEnum.WEEKLY);
+        Map<UUID, Transaction> templates = Map.of(template.getTransactionId(), template);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(standingOrderRepository.claimDueStandingOrders(eq(EXECUTION_DATE), eq(1), eq(0), any(), eq(100)))
+                .thenReturn(Flux.just(healthy, broken));
+        when(standingOrderRepository.claimDueStandingOrder(healthy.getTransactionLineStandingOrderId(), EXECUTION_DATE))
+                .thenReturn(Mono.just(healthy));
+        when(standingOrderRepository.claimDueStandingOrder(broken.getTransactionLineStandingOrderId(), EXECUTION_DATE))
+                .thenReturn(Mono.just(broken));
+        when(transactionRepository.findAllById(anyIterable())).thenAnswer(invocation -> Flux.fromStream(
+                StreamSupport.stream(((Iterable<UUID>) invocation.getArgument(0)).spliterator(), false)
+                        .filter(templates::containsKey)
+                        .map(templates::get)));
+        when(legRepository.findByTransactionIdIn(any())).thenReturn(Flux.empty());
+        stubWrites();
+        Set<UUID> failed = new HashSet<>();
+
+        // Act & Assert
+        StepVerifier.create(scheduler.executePage(EXECUTION_DATE, failed))
+                .expectNext(2)
+                .verifyComplete();
+
+        assertEquals(Set.of(broken.getTransactionLineStandingOrderId()), failed);
+        verify(standingOrderRepository).advanceSchedules(
+                List.of(healthy.getTransactionLineStandingOrderId()),
+                List.of(EXECUTION_DATE),
+                List.of(EXECUTION_DATE.plusWeeks(1)));
+    }
+
+    @Test
+    void nextExecutionDate_KeepsMonthlyOrdersAnchoredToStartDay() {
+        TransactionLineStandingOrder order = order(UUID.randomUUID(), StandingOrderFrequencyEnum.MONTHLY);
+        order.setStandingOrderNextExecutionDate(LocalDate.of(2024, 2, 29));
+
+        assertEquals(LocalDate.of(2024, 3, 31), StandingOrderSchedule.nextExecutionDate(order));
+    }
+
+    @Test
+    void nextExecutionDate_ReturnsNullAfterEndDate() {
+        TransactionLineStandingOrder order = order(UUID.randomUUID(), StandingOrderFrequencyEnum.DAILY);
+        order.setStandingOrderEndDate(EXECUTION_DATE);
+
+        assertNull(StandingOrderSchedule.nextExecutionDate(order));
+    }
+
+    @Test
+    void effectiveConcurrency_ReservesPoolConnections() {
+        ReflectionTestUtils.setField(scheduler, "concurrency", 16);
+
+        assertEquals(8, scheduler.effectiveConcurrency());
+    }
+
+    private void stubWrites() {
+        when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(TransactionDTO.builder().build());
+        when(transactionRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(statusHistoryRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(legRepository.insertAll(anyList())).thenReturn(Mono.just(0L));
+        when(standingOrderRepository.insertAll(anyList())).thenReturn(Mono.just(1L));
+        when(balanceService.applyLegsOfTransactions(any())).thenReturn(Mono.just(0L));
+        when(outboxService.appendAll(anyString(), any(), anyMap())).thenReturn(Mono.empty());
+        when(standingOrderRepository.advanceSchedules(anyList(), anyList(), anyList())).thenReturn(Mono.just(1L));
+    }
+
+    private Transaction template() {
+        Transaction template = new Transaction();
+        template.setTransactionId(UUID.randomUUID());
+        template.setTotalAmount(new BigDecimal("50.00"));
+        template.setCurrency("EUR");
+        template.setAccountId(UUID.randomUUID());
+        return template;
+    }
+
+    private TransactionLeg leg(UUID transactionId, String legType) {
+        TransactionLeg leg = new TransactionLeg();
+        leg.setTransactionLegId(UUID.randomUUID());
+        leg.setTransactionId(transactionId);
+        leg.setAccountId(UUID.randomUUID());
+        leg.setLegType(legType);
+        leg.setAmount(new BigDecimal("50.00"));
+        leg.setCurrency("EUR");
+        return leg;
+    }
+
+    private TransactionLineStandingOrder order(UUID transactionId, StandingOrderFrequencyEnum frequency) {
+        TransactionLineStandingOrder order = new TransactionLineStandingOrder();
+        order.setTransactionLineStandingOrderId(UUID.randomUUID());
+        order.setTransactionId(transactionId);
+        order.setStandingOrderId("SO-" + transactionId);
+        order.setStandingOrderFrequency(frequency);
+        order.setStandingOrderStartDate(EXECUTION_DATE);
+        order.setStandingOrderNextExecutionDate(EXECUTION_DATE);
+        order.setStandingOrderStatus(StandingOrderStatusEnum.ACTIVE);
+        order.setStandingOrderTotalExecutions(0);
+        return order;
+    }
+}
@@ -17,6 +17,7 @@
 
 package com.firefly.core.banking.ledger.core.services.standingorder.v1;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.standingorder.v1.TransactionLineStandingOrderMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.standingorder.v1.TransactionLineStandingOrderDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.StandingOrderFrequencyEnum;
@@ -29,6 +30,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -48,6 +50,10 @@ public class TransactionLineStandingOrderServiceImplTest {
     @Mock
     private TransactionLineStandingOrderMapper mapper;
 
+    // Caching disabled: every read goes to the mocked repository
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
     @InjectMocks
     private TransactionLineStandingOrderServiceImpl service;
 
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.statement.v1;
+
+import com.firefly.core.banking.ledger.core.workers.ConnectionBudget;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementMetadataDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobItemStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementPeriodEnum;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJob;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJobItem;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobItemRepository;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatementJobRunnerTest {
+
+    @Mock
+    private StatementJobRepository jobRepository;
+
+    @Mock
+    private StatementJobItemRepository itemRepository;
+
+    @Mock
+    private StatementService statementService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private StatementJobRunner runner;
+
+    private StatementJob job;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(runner, "batchSize", 100);
+        ReflectionTestUtils.setField(runner, "concurrency", 8);
+        ReflectionTestUtils.setField(runner, "connectionBudget", new ConnectionBudget(10, 2));
+        ReflectionTestUtils.setField(runner, "lease", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(runner, "maxAttempts", 3);
+
+        job = new StatementJob();
+        job.setJobId(UUID.randomUUID());
+        job.setPeriodType(StatementPeriodEnum.MONTHLY);
+        job.setStartDate(LocalDate.of(2025, 5, 1));
+        job.setEndDate(LocalDate.of(2025, 5, 31));
+        job.setIncludePending(false);
+        job.setIncludeDetails(true);
+        job.setStatus(StatementJobStatusEnum.RUNNING);
+    }
+
+    @Test
+    void effectiveConcurrency_LeavesReservedConnections() {
+        assertEquals(8, runner.effectiveConcurrency());
+
+        ReflectionTestUtils.setField(runner, "concurrency", 32);
+        assertEquals(8, runner.effectiveConcurrency());
+
+        ReflectionTestUtils.setField(runner, "connectionBudget", new ConnectionBudget(2, 2));
+        assertEquals(1, runner.effectiveConcurrency());
+    }
+
+    @Test
+    void runJob_DrainsItemsAndCompletesJob() {
+        // Arrange
+        StatementJobItem first = item("EUR");
+        StatementJobItem second = item("USD");
+        UUID statementId = UUID.randomUUID();
+        when(jobRepository.findById(job.getJobId())).thenReturn(Mono.just(job));
+        when(itemRepository.claimBatch(job.getJobId(), 100, 300.0))
+                .thenReturn(Flux.just(first, second))
+                .thenReturn(Flux.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(statementService.generateAccountStatementSummary(any(UUID.class), any(StatementRequestDTO.class)))
+                .thenReturn(Mono.just(statement(statementId)));
+        when(itemRepository.markCompleted(any(UUID.class), eq(statementId))).thenReturn(Mono.just(1L));
+        when(jobRepository.completeIfDrained(job.getJobId())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(runner.runJob(job.getJobId()))
+                .verifyComplete();
+
+        verify(statementService).generateAccountStatementSummary(eq(first.getAccountId()), argThat(request ->
+                "EUR".equals(request.getCurrency())
+                        && request.getPeriodType() == StatementPeriodEnum.MONTHLY
+                        && request.getYear() == 2025 && request.getMonth() == 5));
+        verify(itemRepository).markCompleted(first.getJobItemId(), statementId);
+        verify(itemRepository).markCompleted(second.getJobItemId(), statementId);
+        verify(itemRepository, times(2)).claimBatch(job.getJobId(), 100, 300.0);
+        verify(jobRepository).completeIfDrained(job.getJobId());
+    }
+
+    @Test
+    void processBatch_FailedItemIsCheckpointedAsFailedAttempt() {
+        // Arrange
+        StatementJobItem failing = item("EUR");
+        when(itemRepository.claimBatch(job.getJobId(), 100, 300.0)).thenReturn(Flux.just(failing));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(statementService.generateAccountStatementSummary(any(UUID.class), any(StatementRequestDTO.class)))
+                .thenReturn(Mono.error(new RuntimeException("boom")));
+        when(itemRepository.markFailed(failing.getJobItemId(), "boom", 3)).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(runner.processBatch(job))
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(itemRepository).markFailed(failing.getJobItemId(), "boom", 3);
+        verify(itemRepository, never()).markCompleted(any(), any());
+    }
+
+    @Test
+    void runJob_SkipsCompletedJob() {
+        // Arrange
+        job.setStatus(StatementJobStatusEnum.COMPLETED);
+        when(jobRepository.findById(job.getJobId())).thenReturn(Mono.just(job));
+
+        // Act & Assert
+        StepVerifier.create(runner.runJob(job.getJobId()))
+                .verifyComplete();
+
+        verify(itemRepository, never()).claimBatch(any(), anyInt(), anyDouble());
+    }
+
+    private StatementJobItem item(String currency) {
+        StatementJobItem item = new StatementJobItem();
+        item.setJobItemId(UUID.randomUUID());
+        item.setJobId(job.getJobId());
+        item.setAccountId(UUID.randomUUID());
+        item.setAccountSpaceId(UUID.randomUUID());
+        item.setCurrency(currency);
+        item.setStatus(StatementJobItemStatusEnum.IN_PROGRESS);
+        item.setAttempts(0);
+        return item;
+    }
+
+    private StatementDTO statement(UUID statementId) {
+        StatementMetadataDTO metadata = new StatementMetadataDTO();
+        metadata.setStatementId(statementId);
+        return StatementDTO.builder().metadata(metadata).build();
+    }
+}
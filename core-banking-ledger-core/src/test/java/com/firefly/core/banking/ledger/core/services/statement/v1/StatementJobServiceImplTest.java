@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.core.services.statement.v1;
+
+import com.firefly.core.banking.ledger.core.mappers.statement.v1.StatementJobMapper;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobItemStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementPeriodEnum;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJob;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobItemRepository;
+import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementJobRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatementJobServiceImplTest {
+
+    @Mock
+    private StatementJobRepository jobRepository;
+
+    @Mock
+    private StatementJobItemRepository itemRepository;
+
+    @Mock
+    private StatementJobMapper mapper;
+
+    @Mock
+    private StatementJobRunner runner;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private StatementJobServiceImpl service;
+
+    @Test
+    void createJob_EnumeratesItemsAndSubmitsJob() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        Set<UUID> accountSpaceIds = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        StatementJobRequestDTO request = StatementJobRequestDTO.builder()
+                .accountSpaceIds(accountSpaceIds)
+                .periodType(StatementPeriodEnum.QUARTERLY)
+                .year(2025)
+                .quarter(2)
+                .build();
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobRepository.save(any(StatementJob.class))).thenAnswer(invocation -> {
+            StatementJob job = invocation.getArgument(0);
+            job.setJobId(jobId);
+            return Mono.just(job);
+        });
+        when(itemRepository.insertItemsForAccountSpaces(jobId, accountSpaceIds)).thenReturn(Mono.just(42L));
+        when(jobRepository.updateTotalItems(jobId, 42)).thenReturn(Mono.just(1L));
+        when(itemRepository.countByJobIdAndStatus(eq(jobId), any(StatementJobItemStatusEnum.class))).thenReturn(Mono.just(0L));
+        when(itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.PENDING)).thenReturn(Mono.just(42L));
+        when(mapper.toDTO(any(StatementJob.class))).thenAnswer(invocation -> {
+            StatementJob job = invocation.getArgument(0);
+            return StatementJobDTO.builder()
+                    .jobId(job.getJobId())
+                    .startDate(job.getStartDate())
+                    .endDate(job.getEndDate())
+                    .totalItems(job.getTotalItems())
+                    .status(job.getStatus())
+                    .build();
+        });
+
+        // Act & Assert
+        StepVerifier.create(service.createJob(request))
+                .assertNext(job -> {
+                    assertEquals(jobId, job.getJobId());
+                    assertEquals(LocalDate.of(2025, 4, 1), job.getStartDate());
+                    assertEquals(LocalDate.of(2025, 6, 30), job.getEndDate());
+                    assertEquals(42, job.getTotalItems());
+                    assertEquals(42L, job.getPendingItems());
+                    assertEquals(StatementJobStatusEnum.RUNNING, job.getStatus());
+                })
+                .verifyComplete();
+
+        verify(runner).submit(jobId);
+    }
+
+    @Test
+    void createJob_InvalidPeriod() {
+        // Arrange
+        StatementJobRequestDTO request = StatementJobRequestDTO.builder()
+                .accountSpaceIds(Set.of(UUID.randomUUID()))
+                .periodType(StatementPeriodEnum.MONTHLY)
+                .year(2025)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.createJob(request))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(jobRepository, itemRepository, runner);
+    }
+
+    @Test
+    void getJob_ReportsProgressAndThroughput() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        StatementJob job = new StatementJob();
+        job.setJobId(jobId);
+        job.setStatus(StatementJobStatusEnum.COMPLETED);
+        job.setStartedAt(LocalDateTime.of(2025, 6, 1, 0, 0, 0));
+        job.setCompletedAt(LocalDateTime.of(2025, 6, 1, 0, 0, 10));
+
+        when(jobRepository.findById(jobId)).thenReturn(Mono.just(job));
+        when(itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.PENDING)).thenReturn(Mono.just(0L));
+        when(itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.IN_PROGRESS)).thenReturn(Mono.just(0L));
+        when(itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.COMPLETED)).thenReturn(Mono.just(95L));
+        when(itemRepository.countByJobIdAndStatus(jobId, StatementJobItemStatusEnum.FAILED)).thenReturn(Mono.just(5L));
+        when(mapper.toDTO(job)).thenReturn(StatementJobDTO.builder().jobId(jobId).build());
+
+        // Act & Assert
+        StepVerifier.create(service.getJob(jobId))
+                .assertNext(dto -> {
+                    assertEquals(95L, dto.getCompletedItems());
+                    assertEquals(5L, dto.getFailedItems());
+                    assertEquals(10.0, dto.getItemsPerSecond(), 0.0001);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void resumeJob_ResetsFailedItemsAndSubmitsJob() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        StatementJob job = new StatementJob();
+        job.setJobId(jobId);
+        job.setStatus(StatementJobStatusEnum.COMPLETED);
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobRepository.findById(jobId)).thenReturn(Mono.just(job));
+        when(itemRepository.resetFailed(jobId)).thenReturn(Mono.just(3L));
+        when(jobRepository.reopen(jobId)).thenReturn(Mono.just(1L));
+        when(itemRepository.countByJobIdAndStatus(eq(jobId), any(StatementJobItemStatusEnum.class))).thenReturn(Mono.just(0L));
+        when(mapper.toDTO(job)).thenReturn(StatementJobDTO.builder().jobId(jobId).build());
+
+        // Act & Assert
+        StepVerifier.create(service.resumeJob(jobId))
+                .assertNext(dto -> assertEquals(jobId, dto.getJobId()))
+                .verifyComplete();
+
+        verify(itemRepository).resetFailed(jobId);
+        verify(runner).submit(jobId);
+    }
+
+    @Test
+    void resumeJob_NotFound() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobRepository.findById(jobId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.resumeJob(jobId))
+                .verifyComplete();
+
+        verify(runner, never()).submit(any());
+    }
+}
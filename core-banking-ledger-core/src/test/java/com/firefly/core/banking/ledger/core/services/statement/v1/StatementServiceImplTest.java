@@ -17,14 +17,23 @@
 
 package com.firefly.core.banking.ledger.core.services.statement.v1;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.ledger.core.mappers.core.v1.TransactionMapper;
 import com.firefly.core.banking.ledger.core.mappers.statement.v1.StatementMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementMetadataDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementLineTypeEnum;
 import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementPeriodEnum;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.StatementLegView;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.StatementTotalsView;
 import com.firefly.core.banking.ledger.models.entities.statement.v1.Statement;
+import com.firefly.core.banking.ledger.models.repositories.leg.v1.TransactionLegRepository;
 import com.firefly.core.banking.ledger.models.repositories.statement.v1.StatementRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,17 +44,33 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +82,8 @@ class StatementServiceImplTest {
     @Mock
     private StatementMapper mapper;
 
+    @Mock
+    private TransactionLegRepository legRepository;
 
 
     @InjectMocks
@@ -95,6 +122,9 @@ class StatementServiceImplTest {
         statement.setTransactionCount(10);
         statement.setIncludedPending(true);
         statement.setIncludedDetails(true);
+
+        ReflectionTestUtils.setField(service, "fetchSize", 1000);
+        ReflectionTestUtils.setField(service, "streamTimeout", Duration.ofMinutes(5));
     }
 
     @Test
@@ -194,4 +224,264 @@ class StatementServiceImplTest {
                     .verifyComplete();
         }
     }
+
+    @Test
+    void listAccountStatementsByDateRange_CountsOnlyStatementsInRange() {
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 6, 30);
+        PaginationRequest paginationRequest = new PaginationRequest(0, 10, null, null);
+        PaginationResponse<StatementMetadataDTO> expectedResponse = new PaginationResponse<>(
+                List.of(metadataDTO), 3, 1, 0
+        );
+        AtomicLong countedTotal = new AtomicLong();
+        when(repository.countByAccountIdAndDateRange(accountId, startDate, endDate)).thenReturn(Mono.just(3L));
+
+        try (MockedStatic<PaginationUtils> paginationUtilsMocked = Mockito.mockStatic(PaginationUtils.class)) {
+            paginationUtilsMocked.when(() -> PaginationUtils.paginateQuery(
+                    eq(paginationRequest),
+                    any(),
+                    any(),
+                    any()
+            )).thenAnswer(invocation -> {
+                Supplier<Mono<Long>> countQuery = invocation.getArgument(3);
+                return countQuery.get().doOnNext(countedTotal::set).thenReturn(expectedResponse);
+            });
+
+            StepVerifier.create(service.listAccountStatementsByDateRange(accountId, startDate, endDate, paginationRequest))
+                    .expectNext(expectedResponse)
+                    .verifyComplete();
+        }
+
+        assertEquals(3L, countedTotal.get());
+        verify(repository, never()).countByAccountId(any());
+    }
+
+    @Test
+    void listAccountSpaceStatementsByDateRange_SkipsCount() {
+        // Arrange
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 6, 30);
+        PaginationRequest paginationRequest = new PaginationRequest(0, 10, null, null);
+        when(repository.findByAccountSpaceIdAndDateRange(accountSpaceId, startDate, endDate, 11, 0L))
+                .thenReturn(Flux.fromIterable(Collections.nCopies(11, statement)));
+        when(mapper.toDTO(statement)).thenReturn(metadataDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.listAccountSpaceStatementsByDateRange(
+                        accountSpaceId, startDate, endDate, paginationRequest, false))
+                .assertNext(page -> {
+                    JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(page);
+                    assertEquals(10, json.get("content").size());
+                    assertEquals(0, json.get("currentPage").asInt());
+                    assertEquals(10, json.get("size").asInt());
+                    assertTrue(json.get("hasNext").asBoolean());
+                    assertTrue(json.get("totalElements").isNull());
+                    assertTrue(json.get("totalPages").isNull());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).countByAccountSpaceIdAndDateRange(any(), any(), any());
+        verify(repository, never()).countByAccountSpaceId(any());
+    }
+
+    @Test
+    void listAccountStatementsByDateRange_CountedLastPage() {
+        // Arrange
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 6, 30);
+        PaginationRequest paginationRequest = new PaginationRequest(1, 10, null, null);
+        when(repository.findByAccountIdAndDateRange(accountId, startDate, endDate, 11, 10L))
+                .thenReturn(Flux.fromIterable(Collections.nCopies(3, statement)));
+        when(repository.countByAccountIdAndDateRange(accountId, startDate, endDate)).thenReturn(Mono.just(13L));
+        when(mapper.toDTO(statement)).thenReturn(metadataDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.listAccountStatementsByDateRange(
+                        accountId, startDate, endDate, paginationRequest, true))
+                .assertNext(page -> {
+                    JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(page);
+                    assertEquals(3, json.get("content").size());
+                    assertEquals(1, json.get("currentPage").asInt());
+                    assertEquals(10, json.get("size").asInt());
+                    assertFalse(json.get("hasNext").asBoolean());
+                    assertEquals(13L, json.get("totalElements").asLong());
+                    assertEquals(2, json.get("totalPages").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void generateAccountStatement_StreamsRunningBalancesAndPersistsMetadata() {
+        StatementRequestDTO request = StatementRequestDTO.builder()
+                .periodType(StatementPeriodEnum.MONTHLY)
+                .year(2023)
+                .month(6)
+                .currency("EUR")
+                .build();
+        LocalDateTime from = LocalDateTime.of(2023, 6, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2023, 7, 1, 0, 0);
+
+        when(legRepository.sumSignedAmountBefore(eq(accountId), eq("EUR"), eq(from), anyCollection()))
+                .thenReturn(Mono.just(new BigDecimal("100.00")));
+        when(legRepository.streamStatementLegs(eq(accountId), eq("EUR"), eq(from), eq(to), anyCollection(), eq(2), eq(1000)))
+                .thenReturn(Flux.just(
+                        leg("CREDIT", "50.00", LocalDateTime.of(2023, 6, 2, 10, 0)),
+                        leg("DEBIT", "30.00", LocalDateTime.of(2023, 6, 15, 10, 0))));
+        when(mapper.toEntity(any(StatementMetadataDTO.class))).thenReturn(statement);
+        when(repository.save(statement)).thenReturn(Mono.just(statement));
+        when(mapper.toDTO(statement)).thenReturn(metadataDTO);
+
+        StepVerifier.create(service.generateAccountStatement(accountId, request))
+                .assertNext(line -> {
+                    assertEquals(StatementLineTypeEnum.HEADER, line.getType());
+                    assertEquals(new BigDecimal("100.00"), line.getStatement().getOpeningBalance());
+                    assertEquals(LocalDate.of(2023, 6, 30), line.getStatement().getMetadata().getEndDate());
+                })
+                .assertNext(line -> {
+                    assertEquals(StatementLineTypeEnum.ENTRY, line.getType());
+                    assertEquals(new BigDecimal("50.00"), line.getEntry().getAmount());
+                    assertEquals(new BigDecimal("150.00"), line.getEntry().getRunningBalance());
+                })
+                .assertNext(line -> {
+                    assertEquals(new BigDecimal("-30.00"), line.getEntry().getAmount());
+                    assertEquals(new BigDecimal("120.00"), line.getEntry().getRunningBalance());
+                })
+                .assertNext(line -> {
+                    assertEquals(StatementLineTypeEnum.SUMMARY, line.getType());
+                    assertEquals(metadataDTO, line.getStatement().getMetadata());
+                    assertEquals(new BigDecimal("120.00"), line.getStatement().getClosingBalance());
+                    assertEquals(new BigDecimal("50.00"), line.getStatement().getTotalCredits());
+                    assertEquals(new BigDecimal("30.00"), line.getStatement().getTotalDebits());
+                    assertNull(line.getStatement().getEntries());
+                })
+                .verifyComplete();
+
+        verify(mapper).toEntity(Mockito.<StatementMetadataDTO>argThat(m -> m.getTransactionCount() == 2));
+    }
+
+    @Test
+    void generateAccountStatement_LegBeyondMinorUnits_SummedExactly() {
+        StatementRequestDTO request = StatementRequestDTO.builder()
+                .periodType(StatementPeriodEnum.MONTHLY)
+                .year(2023)
+                .month(6)
+                .currency("EUR")
+                .build();
+        LocalDateTime from = LocalDateTime.of(2023, 6, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2023, 7, 1, 0, 0);
+        StatementLegView subCent = leg("DEBIT", "0.0050", LocalDateTime.of(2023, 6, 15, 10, 0));
+        subCent.setAmountUnits(null);
+
+        when(legRepository.sumSignedAmountBefore(eq(accountId), eq("EUR"), eq(from), anyCollection()))
+                .thenReturn(Mono.just(new BigDecimal("100.00")));
+        when(legRepository.streamStatementLegs(eq(accountId), eq("EUR"), eq(from), eq(to), anyCollection(), eq(2), eq(1000)))
+                .thenReturn(Flux.just(leg("CREDIT", "50.00", LocalDateTime.of(2023, 6, 2, 10, 0)), subCent));
+        when(mapper.toEntity(any(StatementMetadataDTO.class))).thenReturn(statement);
+        when(repository.save(statement)).thenReturn(Mono.just(statement));
+        when(mapper.toDTO(statement)).thenReturn(metadataDTO);
+
+        StepVerifier.create(service.generateAccountStatement(accountId, request))
+                .expectNextCount(2)
+                .assertNext(line -> assertEquals(new BigDecimal("149.9950"), line.getEntry().getRunningBalance()))
+                .assertNext(line -> {
+                    assertEquals(new BigDecimal("149.9950"), line.getStatement().getClosingBalance());
+                    assertEquals(new BigDecimal("50.00"), line.getStatement().getTotalCredits());
+                    assertEquals(new BigDecimal("0.0050"), line.getStatement().getTotalDebits());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void generateAccountStatement_StalledStream_TimesOut() {
+        ReflectionTestUtils.setField(service, "streamTimeout", Duration.ofMillis(100));
+        StatementRequestDTO request = StatementRequestDTO.builder()
+                .periodType(StatementPeriodEnum.MONTHLY)
+                .year(2023)
+                .month(6)
+                .currency("EUR")
+                .build();
+        LocalDateTime from = LocalDateTime.of(2023, 6, 1, 0, 0);
+
+        when(legRepository.sumSignedAmountBefore(eq(accountId), eq("EUR"), eq(from), anyCollection()))
+                .thenReturn(Mono.just(new BigDecimal("100.00")));
+        when(legRepository.streamStatementLegs(eq(accountId), eq("EUR"), eq(from), any(), anyCollection(), eq(2), eq(1000)))
+                .thenReturn(Flux.never());
+
+        StepVerifier.create(service.generateAccountStatement(accountId, request))
+                .expectNextCount(1)
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void generateAccountStatementSummary_UsesAggregates() {
+        StatementRequestDTO request = StatementRequestDTO.builder()
+                .periodType(StatementPeriodEnum.QUARTERLY)
+                .year(2023)
+                .quarter(2)
+                .currency("EUR")
+                .build();
+        LocalDateTime from = LocalDateTime.of(2023, 4, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2023, 7, 1, 0, 0);
+
+        when(legRepository.sumSignedAmountBefore(eq(accountId), eq("EUR"), eq(from), anyCollection()))
+                .thenReturn(Mono.just(new BigDecimal("100.00")));
+        when(legRepository.sumStatementPeriod(eq(accountId), eq("EUR"), eq(from), eq(to), anyCollection()))
+                .thenReturn(Mono.just(new StatementTotalsView(new BigDecimal("80.00"), new BigDecimal("30.00"), 7)));
+        when(mapper.toEntity(any(StatementMetadataDTO.class))).thenReturn(statement);
+        when(repository.save(statement)).thenReturn(Mono.just(statement));
+        when(mapper.toDTO(statement)).thenReturn(metadataDTO);
+
+        StepVerifier.create(service.generateAccountStatementSummary(accountId, request))
+                .assertNext(summary -> {
+                    assertEquals(metadataDTO, summary.getMetadata());
+                    assertEquals(new BigDecimal("150.00"), summary.getClosingBalance());
+                    assertNull(summary.getEntries());
+                })
+                .verifyComplete();
+
+        verify(mapper).toEntity(Mockito.<StatementMetadataDTO>argThat(m -> m.getTransactionCount() == 7
+                && LocalDate.of(2023, 6, 30).equals(m.getEndDate())));
+        verify(legRepository, never()).streamStatementLegs(any(), any(), any(), any(), anyCollection(), anyInt(), anyInt());
+    }
+
+    @Test
+    void generateAccountStatement_MissingCurrency() {
+        StatementRequestDTO request = StatementRequestDTO.builder()
+                .periodType(StatementPeriodEnum.YEARLY)
+                .year(2023)
+                .build();
+
+        StepVerifier.create(service.generateAccountStatement(accountId, request))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(legRepository);
+    }
+
+    @Test
+    void generateAccountStatement_CustomPeriodEndBeforeStart() {
+        StatementRequestDTO request = StatementRequestDTO.builder()
+                .periodType(StatementPeriodEnum.CUSTOM)
+                .startDate(LocalDate.of(2023, 6, 30))
+                .endDate(LocalDate.of(2023, 6, 1))
+                .currency("EUR")
+                .build();
+
+        StepVerifier.create(service.generateAccountStatement(accountId, request))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).save(any());
+    }
+
+    private StatementLegView leg(String legType, String amount, LocalDateTime bookingDate) {
+        // Units as the database converts them at the minor units of EUR
+        return new StatementLegView(UUID.randomUUID(), UUID.randomUUID(), legType, new BigDecimal(amount),
+                new BigDecimal(amount).movePointRight(2).longValue(), "EUR",
+                "Test leg", bookingDate, bookingDate, bookingDate, TransactionTypeEnum.TRANSFER,
+                TransactionStatusEnum.POSTED, null, null, null);
+    }
 }
@@ -17,6 +17,7 @@
 
 package com.firefly.core.banking.ledger.core.services.wire.v1;
 
+import com.firefly.core.banking.ledger.core.caches.LedgerReadCaches;
 import com.firefly.core.banking.ledger.core.mappers.wire.v1.TransactionLineWireTransferMapper;
 import com.firefly.core.banking.ledger.interfaces.dtos.wire.v1.TransactionLineWireTransferDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.wire.v1.WireTransferPriorityEnum;
@@ -28,6 +29,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -47,6 +49,10 @@ public class TransactionLineWireTransferServiceImplTest {
     @Mock
     private TransactionLineWireTransferMapper mapper;
 
+    // Caching disabled: every read goes to the mocked repository
+    @Spy
+    private LedgerReadCaches readCaches = new LedgerReadCaches();
+
     @InjectMocks
     private TransactionLineWireTransferServiceImpl service;
 
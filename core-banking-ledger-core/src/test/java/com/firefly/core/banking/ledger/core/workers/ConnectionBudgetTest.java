@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.core.workers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConnectionBudgetTest {
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private Mono<Integer> unit(int value) {
+        return Mono.defer(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return Mono.delay(Duration.ofMillis(20)).thenReturn(value);
+        }).doFinally(signal -> running.decrementAndGet());
+    }
+
+    @Test
+    void concurrency_CappedAtThePermits() {
+        ConnectionBudget budget = new ConnectionBudget(10, 2);
+
+        assertEquals(8, budget.permits());
+        assertEquals(4, budget.concurrency(4));
+        assertEquals(8, budget.concurrency(32));
+        assertEquals(1, new ConnectionBudget(2, 2).concurrency(8));
+    }
+
+    @Test
+    void withPermit_BoundsUnitsAcrossWorkers() {
+        // Arrange: two workers of concurrency 3 share a budget of 2 permits
+        ConnectionBudget budget = new ConnectionBudget(3, 1);
+        Flux<Integer> first = Flux.range(0, 6).flatMap(i -> budget.withPermit(unit(i)), 3);
+        Flux<Integer> second = Flux.range(0, 6).flatMap(i -> budget.withPermit(unit(i)), 3);
+
+        // Act & Assert
+        StepVerifier.create(Flux.merge(first, second).count())
+                .expectNext(12L)
+                .verifyComplete();
+
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void withPermit_ReleasesPermitOnErrorAndCancel() {
+        // Arrange
+        ConnectionBudget budget = new ConnectionBudget(1, 0);
+        Sinks.Empty<Void> never = Sinks.empty();
+
+        // Act & Assert
+        StepVerifier.create(budget.withPermit(Mono.error(new IllegalStateException("failed"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(budget.withPermit(never.asMono()))
+                .thenCancel()
+                .verify();
+        StepVerifier.create(budget.withPermit(Mono.just(1)))
+                .expectNext(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of results obtained with page number / page size pagination.
+ * <p>
+ * The totals are only present when the listing was counted; otherwise they are null and
+ * {@code hasNext} tells whether another page exists.
+ *
+ * @param <T> the type of the page content
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OffsetPageResponse<T> {
+
+    /**
+     * The items of the page
+     */
+    private List<T> content;
+
+    /**
+     * The zero-based page number
+     */
+    private Integer currentPage;
+
+    /**
+     * The requested page size
+     */
+    private Integer size;
+
+    /**
+     * Whether a next page exists
+     */
+    private Boolean hasNext;
+
+    /**
+     * Total number of matching items; only computed when explicitly requested
+     */
+    private Long totalElements;
+
+    /**
+     * Total number of pages; only computed when explicitly requested
+     */
+    private Integer totalPages;
+}
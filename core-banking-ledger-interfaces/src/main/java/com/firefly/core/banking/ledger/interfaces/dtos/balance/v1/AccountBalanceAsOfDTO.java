@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.balance.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Closing balance of an account in a single currency at the end of a given day, by leg value date.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceAsOfDTO {
+
+    private UUID accountId;
+
+    private String currency;
+
+    /**
+     * The day the balance is the closing balance of
+     */
+    private LocalDate asOfDate;
+
+    /**
+     * Credits minus debits of every leg with a value date (or booking date when unset) up to the end of asOfDate
+     */
+    private BigDecimal balance;
+
+    /**
+     * The end-of-day snapshot the balance was derived from (null when computed from the first leg)
+     */
+    private LocalDate snapshotDate;
+
+    /**
+     * Number of legs dated after the snapshot that were added to it
+     */
+    private Long legsSinceSnapshot;
+}
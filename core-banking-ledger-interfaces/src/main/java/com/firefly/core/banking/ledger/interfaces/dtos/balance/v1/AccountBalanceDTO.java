@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos.balance.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.BaseDTO;
+import org.fireflyframework.utils.annotations.FilterableId;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+/**
+ * DTO representing the running balance of an account (or account space) in a single currency.
+ * Balances are read-only projections of the transaction legs.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+public class AccountBalanceDTO extends BaseDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID accountBalanceId;
+
+    /**
+     * Reference to account ID in external account microservice.
+     */
+    @FilterableId
+    private UUID accountId;
+
+    /**
+     * Reference to account space ID in external account microservice.
+     */
+    @FilterableId
+    private UUID accountSpaceId;
+
+    private String currency;
+
+    private BigDecimal balance;  // totalCredits - totalDebits
+
+    private BigDecimal totalCredits;
+
+    private BigDecimal totalDebits;
+
+    private Long legCount;
+
+    private LocalDateTime lastBookingDate;
+}
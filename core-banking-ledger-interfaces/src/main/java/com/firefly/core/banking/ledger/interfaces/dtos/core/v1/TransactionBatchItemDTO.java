@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos.core.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.ach.v1.TransactionLineAchDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.card.v1.TransactionLineCardDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.deposit.v1.TransactionLineDepositDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1.TransactionLineDirectDebitDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.fee.v1.TransactionLineFeeDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.TransactionLineInterestDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.sepa.v1.TransactionLineSepaTransferDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.standingorder.v1.TransactionLineStandingOrderDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.transfer.v1.TransactionLineTransferDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.wire.v1.TransactionLineWireTransferDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.withdrawal.v1.TransactionLineWithdrawalDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A single item of a bulk transaction ingestion stream: a transaction together with its legs
+ * and at most one transaction line.
+ * The transaction ID of the legs and of the line is assigned on ingestion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchItemDTO {
+
+    /**
+     * The transaction to create
+     */
+    private TransactionDTO transaction;
+
+    /**
+     * The legs of the transaction (optional)
+     */
+    private List<TransactionLegDTO> legs;
+
+    /**
+     * Card line (optional)
+     */
+    private TransactionLineCardDTO card;
+
+    /**
+     * Wire transfer line (optional)
+     */
+    private TransactionLineWireTransferDTO wireTransfer;
+
+    /**
+     * SEPA transfer line (optional)
+     */
+    private TransactionLineSepaTransferDTO sepaTransfer;
+
+    /**
+     * Direct debit line (optional)
+     */
+    private TransactionLineDirectDebitDTO directDebit;
+
+    /**
+     * Deposit line (optional)
+     */
+    private TransactionLineDepositDTO deposit;
+
+    /**
+     * Withdrawal line (optional)
+     */
+    private TransactionLineWithdrawalDTO withdrawal;
+
+    /**
+     * Internal transfer line (optional)
+     */
+    private TransactionLineTransferDTO transfer;
+
+    /**
+     * Fee line (optional)
+     */
+    private TransactionLineFeeDTO fee;
+
+    /**
+     * Interest line (optional)
+     */
+    private TransactionLineInterestDTO interest;
+
+    /**
+     * Standing order line (optional)
+     */
+    private TransactionLineStandingOrderDTO standingOrder;
+
+    /**
+     * ACH line (optional)
+     */
+    private TransactionLineAchDTO ach;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos.core.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.BatchItemStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+/**
+ * Outcome of a single item of a bulk transaction ingestion stream.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchResultDTO {
+
+    /**
+     * The batch ID shared by all transactions of the ingestion
+     */
+    private String batchId;
+
+    /**
+     * Zero-based position of the item in the ingestion stream
+     */
+    private Long sequence;
+
+    /**
+     * The ID of the created transaction, or of the transaction previously created for the same
+     * request ID when the item is a duplicate (null when the item failed)
+     */
+    private UUID transactionId;
+
+    /**
+     * The external reference of the submitted transaction, if any
+     */
+    private String externalReference;
+
+    private BatchItemStatusEnum status;
+
+    /**
+     * The reason the item failed (null when the item was created)
+     */
+    private String errorMessage;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.core.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of one committed chunk of a bulk status transition.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionStatusUpdateProgressDTO {
+
+    /**
+     * Zero-based position of the chunk
+     */
+    private Long chunk;
+
+    /**
+     * Number of transaction IDs in the chunk
+     */
+    private Integer requested;
+
+    /**
+     * Number of transactions of the chunk moved to the new status
+     */
+    private Integer updated;
+
+    /**
+     * Number of transactions moved so far, this chunk included
+     */
+    private Long totalUpdated;
+
+    /**
+     * IDs of the chunk left unchanged: unknown, already in the new status, or not in the requested current status
+     */
+    private List<UUID> skippedTransactionIds;
+}
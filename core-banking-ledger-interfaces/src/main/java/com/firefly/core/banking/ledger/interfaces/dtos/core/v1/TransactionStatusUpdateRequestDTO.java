@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.core.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A bulk status transition: the transactions to move, given either by ID or by batch ID, and their new status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionStatusUpdateRequestDTO {
+
+    /**
+     * The IDs of the transactions to update (exclusive with batchId)
+     */
+    private List<UUID> transactionIds;
+
+    /**
+     * The batch whose transactions are all updated (exclusive with transactionIds)
+     */
+    private String batchId;
+
+    /**
+     * When set, only transactions currently in this status are updated (optional)
+     */
+    private TransactionStatusEnum currentStatus;
+
+    @NotNull(message = "New status is required")
+    private TransactionStatusEnum newStatus;
+
+    /**
+     * The reason recorded in the status history of every updated transaction
+     */
+    @NotBlank(message = "Reason is required")
+    private String reason;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+/**
+ * Outcome of a direct debit collection run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectDebitCollectionResultDTO {
+
+    /**
+     * Debits due on or before this date were collected
+     */
+    private LocalDate dueDate;
+
+    /**
+     * Number of debits collected (COMPLETED)
+     */
+    private Long completed;
+
+    /**
+     * Number of debits rejected (FAILED), e.g. because their mandate sequence was violated
+     */
+    private Long failed;
+
+    /**
+     * Wall-clock duration of the run in milliseconds
+     */
+    private Long durationMillis;
+}
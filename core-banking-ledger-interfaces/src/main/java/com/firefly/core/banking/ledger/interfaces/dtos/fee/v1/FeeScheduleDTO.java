@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos.fee.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.BaseDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.fee.v1.FeeCalculationMethodEnum;
+import org.fireflyframework.annotations.ValidCurrencyCode;
+import org.fireflyframework.utils.annotations.FilterableId;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+
+import java.util.UUID;
+/**
+ * DTO representing a fee rule, charged by the fee engine on every new transaction of its transaction type,
+ * line type and currency.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+public class FeeScheduleDTO extends BaseDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID feeScheduleId;
+
+    /**
+     * Fee type recorded on the fee lines, unique per transaction type, line type and currency
+     */
+    @NotBlank(message = "Fee type is required")
+    @Size(max = 50, message = "Fee type cannot exceed 50 characters")
+    private String feeType;
+
+    @Size(max = 255, message = "Fee description cannot exceed 255 characters")
+    private String feeDescription;
+
+    @NotNull(message = "Transaction type is required")
+    private TransactionTypeEnum transactionType;
+
+    /**
+     * Transaction line the source carries, null to match any line, including none
+     */
+    private TransactionLineTypeEnum lineType;
+
+    @NotBlank(message = "Currency is required")
+    @ValidCurrencyCode
+    private String currency;
+
+    @NotNull(message = "Calculation method is required")
+    private FeeCalculationMethodEnum calculationMethod;
+
+    /**
+     * Percentage of the transaction amount, used by PERCENTAGE and FIXED_PLUS_PERCENTAGE
+     */
+    @DecimalMin(value = "0.0", message = "Rate percentage cannot be negative")
+    @DecimalMax(value = "100.0", message = "Rate percentage cannot exceed 100")
+    @Digits(integer = 3, fraction = 4, message = "Rate percentage can have at most 4 decimals")
+    private BigDecimal ratePercentage;
+
+    /**
+     * Fixed amount, used by FIXED and FIXED_PLUS_PERCENTAGE
+     */
+    @DecimalMin(value = "0.0", message = "Fixed amount cannot be negative")
+    @Digits(integer = 16, fraction = 2, message = "Fixed amount can have at most 2 decimals")
+    private BigDecimal fixedAmount;
+
+    @DecimalMin(value = "0.0", message = "Minimum amount cannot be negative")
+    @Digits(integer = 16, fraction = 2, message = "Minimum amount can have at most 2 decimals")
+    private BigDecimal minimumAmount;
+
+    @DecimalMin(value = "0.0", message = "Maximum amount cannot be negative")
+    @Digits(integer = 16, fraction = 2, message = "Maximum amount can have at most 2 decimals")
+    private BigDecimal maximumAmount;
+
+    /**
+     * Bank account credited with the fee; the account of the source transaction is debited
+     */
+    @FilterableId
+    @NotNull(message = "Fee account ID is required")
+    private UUID feeAccountId;
+
+    /**
+     * Inactive rules are kept but not charged; defaults to true
+     */
+    private Boolean active;
+}
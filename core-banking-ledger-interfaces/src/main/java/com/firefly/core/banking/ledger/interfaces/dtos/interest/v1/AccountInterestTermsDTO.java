@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.interest.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.BaseDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestAccrualTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestDayCountConventionEnum;
+import org.fireflyframework.annotations.ValidCurrencyCode;
+import org.fireflyframework.utils.annotations.FilterableId;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import java.util.UUID;
+/**
+ * DTO representing the interest conditions of an account in one currency, accrued daily on its end-of-day
+ * balance by the interest accrual engine.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+public class AccountInterestTermsDTO extends BaseDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID accountInterestTermsId;
+
+    /**
+     * Reference to account ID in external account microservice.
+     */
+    @FilterableId
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID accountId;
+
+    @NotBlank(message = "Currency is required")
+    @ValidCurrencyCode
+    private String currency;
+
+    /**
+     * CREDIT pays interest on positive balances, DEBIT charges interest on negative balances
+     */
+    @NotNull(message = "Interest type is required")
+    private InterestAccrualTypeEnum interestType;
+
+    @NotNull(message = "Rate percentage is required")
+    @DecimalMin(value = "0.0", message = "Rate percentage cannot be negative")
+    @DecimalMax(value = "100.0", message = "Rate percentage cannot exceed 100")
+    @Digits(integer = 3, fraction = 4, message = "Rate percentage can have at most 4 decimals")
+    private BigDecimal ratePercentage;
+
+    @NotNull(message = "Day count convention is required")
+    private InterestDayCountConventionEnum dayCountConvention;
+
+    /**
+     * Bank account the interest is paid from (CREDIT) or into (DEBIT)
+     */
+    @FilterableId
+    @NotNull(message = "Interest account ID is required")
+    private UUID interestAccountId;
+
+    /**
+     * Tax withheld from credit interest, credited to the tax account
+     */
+    @DecimalMin(value = "0.0", message = "Tax withheld rate cannot be negative")
+    @DecimalMax(value = "100.0", message = "Tax withheld rate cannot exceed 100")
+    private BigDecimal taxWithheldRate;
+
+    @FilterableId
+    private UUID taxAccountId;
+
+    /**
+     * First day accrued
+     */
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    /**
+     * Last day accrued, null for open-ended terms
+     */
+    private LocalDate endDate;
+
+    /**
+     * First day not accrued yet
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDate nextAccrualDate;
+
+    /**
+     * Interest accrued below the smallest currency unit, carried into the next day
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal carriedAmount;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.interest.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+/**
+ * Outcome of an interest accrual run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestAccrualResultDTO {
+
+    /**
+     * Interest was accrued up to and including this date
+     */
+    private LocalDate throughDate;
+
+    /**
+     * Number of days accrued, one per account terms and day
+     */
+    private Long accrued;
+
+    /**
+     * Number of interest transactions posted; days whose interest stays below the smallest currency unit are
+     * carried into the next day without a posting
+     */
+    private Long posted;
+
+    /**
+     * Number of days that could not be accrued; they are retried by the next run
+     */
+    private Long failed;
+
+    /**
+     * Wall-clock duration of the run in milliseconds
+     */
+    private Long durationMillis;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos.outbox.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object representing a domain event read from the outbox for publication.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventDTO {
+
+    /**
+     * Unique ID of the event, usable by consumers for deduplication
+     */
+    private UUID eventId;
+
+    /**
+     * Type of the aggregate (e.g., TRANSACTION)
+     */
+    private String aggregateType;
+
+    /**
+     * ID of the aggregate (e.g., the transaction ID)
+     */
+    private String aggregateId;
+
+    /**
+     * Type of the event (e.g., TRANSACTION_CREATED)
+     */
+    private String eventType;
+
+    /**
+     * JSON payload of the event
+     */
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * Number of failed publication attempts so far
+     */
+    private Integer retryCount;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos.price.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.price.v1.PriceResolutionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object representing an OHLC candle of the price history of a crypto asset.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceCandleDTO {
+
+    /**
+     * The ID of the crypto asset
+     */
+    private UUID cryptoAssetId;
+
+    /**
+     * The currency in which the prices are quoted (e.g., USD, EUR)
+     */
+    private String quoteCurrency;
+
+    /**
+     * The resolution of the candle
+     */
+    private PriceResolutionEnum resolution;
+
+    /**
+     * Start of the period covered by the candle (UTC)
+     */
+    private LocalDateTime periodStart;
+
+    /**
+     * First price of the period
+     */
+    private BigDecimal open;
+
+    /**
+     * Highest price of the period
+     */
+    private BigDecimal high;
+
+    /**
+     * Lowest price of the period
+     */
+    private BigDecimal low;
+
+    /**
+     * Last price of the period
+     */
+    private BigDecimal close;
+
+    /**
+     * Number of price updates in the period
+     */
+    private Integer tickCount;
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.interfaces.dtos.price.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object summarizing the ingestion of a stream of price updates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceIngestionResultDTO {
+
+    /**
+     * Number of updates received
+     */
+    private long received;
+
+    /**
+     * Number of updates that became the latest price of their asset and quote currency
+     */
+    private long applied;
+
+    /**
+     * Number of updates older than the latest price already held, ignored
+     */
+    private long stale;
+
+    /**
+     * Number of updates without an asset ID, quote currency, timestamp or non-negative price, ignored
+     */
+    private long rejected;
+}
@@ -113,4 +113,10 @@ public class TransactionLineStandingOrderDTO extends BaseDTO {
     private LocalDateTime standingOrderUpdateTimestamp;
 
     private Boolean standingOrderSpanishTaxFlag;
+
+    /**
+     * For execution lines, the schedule line that produced the execution; null for the schedule itself.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID standingOrderSourceLineId;
 }
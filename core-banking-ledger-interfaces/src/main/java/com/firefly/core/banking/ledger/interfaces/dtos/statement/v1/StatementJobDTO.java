@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.dtos.BaseDTO;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementPeriodEnum;
+import org.fireflyframework.utils.annotations.FilterableId;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+/**
+ * DTO representing a statement batch job and its progress.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+public class StatementJobDTO extends BaseDTO {
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @FilterableId
+    private UUID jobId;
+
+    private StatementPeriodEnum periodType;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private Boolean includePending;
+
+    private Boolean includeDetails;
+
+    private StatementJobStatusEnum status;
+
+    /**
+     * Number of account/currency items enumerated for the job.
+     */
+    private Integer totalItems;
+
+    /**
+     * Items not yet claimed by a worker.
+     */
+    private Long pendingItems;
+
+    /**
+     * Items currently being generated.
+     */
+    private Long inProgressItems;
+
+    /**
+     * Items whose statement has been generated.
+     */
+    private Long completedItems;
+
+    /**
+     * Items that failed on every allowed attempt.
+     */
+    private Long failedItems;
+
+    /**
+     * Processed (completed or failed) items per second since the job started.
+     */
+    private Double itemsPerSecond;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+}
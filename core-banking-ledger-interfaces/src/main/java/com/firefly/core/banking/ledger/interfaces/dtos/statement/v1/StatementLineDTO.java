@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.dtos.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementLineTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single NDJSON record of a streamed statement.
+ * HEADER and SUMMARY records carry {@link #statement} (without entries); ENTRY records carry {@link #entry}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementLineDTO {
+    /**
+     * The kind of record.
+     */
+    private StatementLineTypeEnum type;
+
+    /**
+     * Statement metadata and balances (HEADER and SUMMARY records).
+     */
+    private StatementDTO statement;
+
+    /**
+     * The statement entry (ENTRY records).
+     */
+    private StatementEntryDTO entry;
+}
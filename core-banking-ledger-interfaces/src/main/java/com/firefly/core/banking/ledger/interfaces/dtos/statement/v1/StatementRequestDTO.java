@@ -19,6 +19,7 @@ package com.firefly.core.banking.ledger.interfaces.dtos.statement.v1;
 
 import com.firefly.core.banking.ledger.interfaces.dtos.BaseDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementPeriodEnum;
+import org.fireflyframework.annotations.ValidCurrencyCode;
 import org.fireflyframework.annotations.ValidDate;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
@@ -76,6 +77,12 @@ public class StatementRequestDTO extends BaseDTO {
     @Max(value = 2100, message = "Year must be 2100 or earlier")
     private Integer year;
 
+    /**
+     * The currency of the statement (required when generating a statement).
+     */
+    @ValidCurrencyCode
+    private String currency;
+
     /**
      * Whether to include pending transactions.
      */
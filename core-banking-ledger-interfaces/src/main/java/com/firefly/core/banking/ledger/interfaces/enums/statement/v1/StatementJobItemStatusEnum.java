@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.enums.statement.v1;
+
+/**
+ * Enum representing the status of a single account item of a statement batch job.
+ */
+public enum StatementJobItemStatusEnum {
+    /**
+     * Waiting to be claimed by a worker.
+     */
+    PENDING,
+
+    /**
+     * Claimed by a worker under a lease.
+     */
+    IN_PROGRESS,
+
+    /**
+     * Statement generated and persisted.
+     */
+    COMPLETED,
+
+    /**
+     * Generation failed on every allowed attempt.
+     */
+    FAILED
+}
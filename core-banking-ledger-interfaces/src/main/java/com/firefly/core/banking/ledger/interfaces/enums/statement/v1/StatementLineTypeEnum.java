@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.interfaces.enums.statement.v1;
+
+/**
+ * Enum representing the kind of record emitted by the streaming statement generator.
+ */
+public enum StatementLineTypeEnum {
+    /**
+     * First record: statement period and opening balance.
+     */
+    HEADER,
+
+    /**
+     * One record per statement entry, in booking order.
+     */
+    ENTRY,
+
+    /**
+     * Last record: persisted metadata, totals and closing balance.
+     */
+    SUMMARY
+}
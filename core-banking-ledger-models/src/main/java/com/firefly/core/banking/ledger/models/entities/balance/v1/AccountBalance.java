@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.entities.balance.v1;
+
+import com.firefly.core.banking.ledger.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+/**
+ * Entity representing the running balance of an account (or account space) in a single currency.
+ * Rows are maintained incrementally as transaction legs are written, so reading a balance
+ * never requires aggregating the leg history.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("account_balance")
+public class AccountBalance extends BaseEntity {
+    @Id
+    @Column("account_balance_id")
+    private UUID accountBalanceId;
+
+    /**
+     * Reference to account ID in external account microservice.
+     */
+    @Column("account_id")
+    private UUID accountId;
+
+    /**
+     * Reference to account space ID in external account microservice.
+     * Null when the balance belongs to the account itself.
+     */
+    @Column("account_space_id")
+    private UUID accountSpaceId;
+
+    @Column("currency")
+    private String currency;
+
+    @Column("balance")
+    private BigDecimal balance;  // total_credits - total_debits
+
+    @Column("total_credits")
+    private BigDecimal totalCredits;
+
+    @Column("total_debits")
+    private BigDecimal totalDebits;
+
+    @Column("leg_count")
+    private Long legCount;
+
+    @Column("last_booking_date")
+    private LocalDateTime lastBookingDate;
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.entities.fee.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionLineTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.fee.v1.FeeCalculationMethodEnum;
+import com.firefly.core.banking.ledger.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Entity representing a fee rule: the fee charged on new transactions of one type, line type and currency.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("fee_schedule")
+public class FeeSchedule extends BaseEntity {
+    @Id
+    @Column("fee_schedule_id")
+    private UUID feeScheduleId;
+
+    @Column("fee_type")
+    private String feeType;
+
+    @Column("fee_description")
+    private String feeDescription;
+
+    @Column("transaction_type")
+    private TransactionTypeEnum transactionType;
+
+    /**
+     * Transaction line the source carries, null to match any line, including none.
+     */
+    @Column("line_type")
+    private TransactionLineTypeEnum lineType;
+
+    @Column("currency")
+    private String currency;
+
+    @Column("calculation_method")
+    private FeeCalculationMethodEnum calculationMethod;
+
+    @Column("rate_percentage")
+    private BigDecimal ratePercentage;
+
+    @Column("fixed_amount")
+    private BigDecimal fixedAmount;
+
+    @Column("minimum_amount")
+    private BigDecimal minimumAmount;
+
+    @Column("maximum_amount")
+    private BigDecimal maximumAmount;
+
+    /**
+     * Bank account credited with the fee.
+     */
+    @Column("fee_account_id")
+    private UUID feeAccountId;
+
+    @Column("active")
+    private Boolean active;
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.entities.interest.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestAccrualTypeEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.interest.v1.InterestDayCountConventionEnum;
+import com.firefly.core.banking.ledger.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Entity representing the interest conditions of an account in one currency, accrued daily on its
+ * end-of-day balance.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("account_interest_terms")
+public class AccountInterestTerms extends BaseEntity {
+    @Id
+    @Column("account_interest_terms_id")
+    private UUID accountInterestTermsId;
+
+    /**
+     * Reference to account ID in external account microservice.
+     */
+    @Column("account_id")
+    private UUID accountId;
+
+    @Column("currency")
+    private String currency;
+
+    /**
+     * CREDIT accrues on positive balances, DEBIT on negative balances.
+     */
+    @Column("interest_type")
+    private InterestAccrualTypeEnum interestType;
+
+    @Column("rate_percentage")
+    private BigDecimal ratePercentage;
+
+    @Column("day_count_convention")
+    private InterestDayCountConventionEnum dayCountConvention;
+
+    /**
+     * Bank account the interest is paid from (CREDIT) or into (DEBIT).
+     */
+    @Column("interest_account_id")
+    private UUID interestAccountId;
+
+    @Column("tax_withheld_rate")
+    private BigDecimal taxWithheldRate;
+
+    /**
+     * Account credited with the tax withheld from credit interest.
+     */
+    @Column("tax_account_id")
+    private UUID taxAccountId;
+
+    @Column("start_date")
+    private LocalDate startDate;
+
+    /**
+     * Last day accrued, null while the terms are open-ended.
+     */
+    @Column("end_date")
+    private LocalDate endDate;
+
+    /**
+     * First day not accrued yet.
+     */
+    @Column("next_accrual_date")
+    private LocalDate nextAccrualDate;
+
+    /**
+     * Interest accrued below the smallest currency unit, carried into the next day.
+     */
+    @Column("carried_amount")
+    private BigDecimal carriedAmount;
+}
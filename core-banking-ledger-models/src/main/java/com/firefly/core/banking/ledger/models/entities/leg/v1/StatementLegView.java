@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.entities.leg.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a transaction leg joined with its parent transaction,
+ * as streamed by statement generation. Not mapped to a table.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementLegView {
+    private UUID transactionLegId;
+    private UUID transactionId;
+    private String legType;  // "DEBIT" or "CREDIT"
+    private BigDecimal amount;
+    private Long amountUnits;  // amount in units of the statement scale; null when it has digits beyond it
+    private String currency;
+    private String description;
+    private LocalDateTime valueDate;
+    private LocalDateTime bookingDate;
+    private LocalDateTime transactionDate;
+    private TransactionTypeEnum transactionType;
+    private TransactionStatusEnum transactionStatus;
+    private String initiatingParty;
+    private String externalReference;
+    private UUID transactionCategoryId;
+}
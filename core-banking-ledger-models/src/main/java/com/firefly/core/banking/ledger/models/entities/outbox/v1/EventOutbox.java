@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.entities.outbox.v1;
+
+import io.r2dbc.postgresql.codec.Json;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+/**
+ * Entity representing a domain event stored in the transactional outbox.
+ * Events are written in the same database transaction as the change they describe
+ * and published asynchronously by the outbox relay.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("event_outbox")
+public class EventOutbox {
+    @Id
+    @Column("event_id")
+    private UUID eventId;
+
+    @Column("aggregate_type")
+    private String aggregateType;
+
+    @Column("aggregate_id")
+    private String aggregateId;
+
+    @Column("event_type")
+    private String eventType;
+
+    @Column("payload")
+    private Json payload;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("processed")
+    private Boolean processed;
+
+    @Column("processed_at")
+    private LocalDateTime processedAt;
+
+    @Column("retry_count")
+    private Integer retryCount;
+
+    @Column("last_error")
+    private String lastError;
+
+    /**
+     * Earliest time the relay may claim the event (lease expiry or retry backoff).
+     */
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Append order of the event, assigned by the database.
+     */
+    @ReadOnlyProperty
+    @Column("sequence_number")
+    private Long sequenceNumber;
+
+    /**
+     * When the event was parked after exhausting its retries.
+     */
+    @Column("dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.entities.price.v1;
+
+import com.firefly.core.banking.ledger.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a block of OHLC candles of a crypto asset's price history at one resolution.
+ * The candles are packed into a single compressed value, decoded by the price history service.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("crypto_price_candle_block")
+public class CryptoPriceCandleBlock extends BaseEntity {
+    @Column("crypto_asset_id")
+    private UUID cryptoAssetId;
+
+    @Column("quote_currency")
+    private String quoteCurrency;
+
+    /**
+     * Candle resolution: MINUTE, HOUR or DAY.
+     */
+    @Column("resolution")
+    private String resolution;
+
+    @Column("block_start")
+    private LocalDateTime blockStart;
+
+    @Column("candle_count")
+    private Integer candleCount;
+
+    @Column("candles")
+    private byte[] candles;
+}
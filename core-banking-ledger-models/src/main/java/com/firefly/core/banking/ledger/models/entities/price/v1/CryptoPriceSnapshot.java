@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.entities.price.v1;
+
+import com.firefly.core.banking.ledger.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing the latest persisted price of a crypto asset in one quote currency.
+ * Written periodically from the in-memory price table, never per price update.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("crypto_price_snapshot")
+public class CryptoPriceSnapshot extends BaseEntity {
+    @Column("crypto_asset_id")
+    private UUID cryptoAssetId;
+
+    @Column("quote_currency")
+    private String quoteCurrency;
+
+    @Column("asset_symbol")
+    private String assetSymbol;
+
+    @Column("asset_name")
+    private String assetName;
+
+    @Column("price")
+    private BigDecimal price;
+
+    @Column("price_change_24h")
+    private BigDecimal priceChange24h;
+
+    @Column("price_change_percentage_24h")
+    private Double priceChangePercentage24h;
+
+    @Column("source")
+    private String source;
+
+    @Column("price_timestamp")
+    private LocalDateTime priceTimestamp;
+}
@@ -106,4 +106,10 @@ public class TransactionLineStandingOrder extends BaseEntity {
 
     @Column("standing_order_spanish_tax_flag")
     private Boolean standingOrderSpanishTaxFlag;
+
+    /**
+     * For execution lines, the schedule line that produced the execution; null for the schedule itself.
+     */
+    @Column("standing_order_source_line_id")
+    private UUID standingOrderSourceLineId;
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.entities.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementPeriodEnum;
+import com.firefly.core.banking.ledger.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+/**
+ * Entity representing a batch job generating statements for all accounts of a set of account spaces.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("statement_job")
+public class StatementJob extends BaseEntity {
+    @Id
+    @Column("job_id")
+    private UUID jobId;
+
+    @Column("period_type")
+    private StatementPeriodEnum periodType;
+
+    @Column("start_date")
+    private LocalDate startDate;
+
+    @Column("end_date")
+    private LocalDate endDate;
+
+    @Column("include_pending")
+    private Boolean includePending;
+
+    @Column("include_details")
+    private Boolean includeDetails;
+
+    @Column("status")
+    private StatementJobStatusEnum status;
+
+    @Column("total_items")
+    private Integer totalItems;
+
+    @Column("started_at")
+    private LocalDateTime startedAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.entities.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobItemStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+/**
+ * Entity representing one account and currency of a statement batch job.
+ * Its status is the checkpoint of the job for that account.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("statement_job_item")
+public class StatementJobItem {
+    @Id
+    @Column("job_item_id")
+    private UUID jobItemId;
+
+    @Column("job_id")
+    private UUID jobId;
+
+    @Column("account_space_id")
+    private UUID accountSpaceId;
+
+    @Column("account_id")
+    private UUID accountId;
+
+    @Column("currency")
+    private String currency;
+
+    @Column("status")
+    private StatementJobItemStatusEnum status;
+
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("statement_id")
+    private UUID statementId;
+
+    @Column("error_message")
+    private String errorMessage;
+
+    @Column("lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column("processed_at")
+    private LocalDateTime processedAt;
+}
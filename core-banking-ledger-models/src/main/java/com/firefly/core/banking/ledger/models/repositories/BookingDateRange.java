@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Bounds of the {@code booking_date} of the rows a lookup by ID is after.
+ * <p>
+ * {@code transaction} and {@code transaction_leg} are partitioned by month of {@code booking_date}, so a lookup by
+ * ID alone probes the primary key of every partition. Adding the range of booking dates, when the caller knows it,
+ * lets PostgreSQL prune the lookup to the months in between.
+ *
+ * @param from the earliest booking date, inclusive
+ * @param to the latest booking date, inclusive
+ */
+public record BookingDateRange(LocalDateTime from, LocalDateTime to) {
+
+    /**
+     * Return the range covering the given booking dates, or null when there are none or one of them is unknown.
+     */
+    public static BookingDateRange covering(Collection<LocalDateTime> bookingDates) {
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (LocalDateTime bookingDate : bookingDates) {
+            if (bookingDate == null) {
+                return null;
+            }
+            if (from == null || bookingDate.isBefore(from)) {
+                from = bookingDate;
+            }
+            if (to == null || bookingDate.isAfter(to)) {
+                to = bookingDate;
+            }
+        }
+        return from != null ? new BookingDateRange(from, to) : null;
+    }
+
+    /**
+     * Return the range of a single booking date, or null when it is unknown.
+     */
+    public static BookingDateRange at(LocalDateTime bookingDate) {
+        return bookingDate != null ? new BookingDateRange(bookingDate, bookingDate) : null;
+    }
+
+    /**
+     * SQL condition restricting {@code column} to a range bound with {@link #bind}, or {@code TRUE} without one.
+     */
+    public static String condition(BookingDateRange range, String column) {
+        return range != null ? column + " BETWEEN :bookedFrom AND :bookedTo" : "TRUE";
+    }
+
+    /**
+     * Bind the parameters of {@link #condition}, if there is a range.
+     */
+    public static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, BookingDateRange range) {
+        return range != null
+                ? spec.bind("bookedFrom", range.from()).bind("bookedTo", range.to())
+                : spec;
+    }
+}
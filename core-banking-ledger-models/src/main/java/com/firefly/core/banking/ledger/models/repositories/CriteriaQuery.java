@@ -0,0 +1,303 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Builds filtered {@code SELECT} and {@code COUNT} statements that contain only the predicates of the criteria
+ * actually given.
+ * <p>
+ * A catch-all query such as {@code (:x IS NULL OR col = :x)} is planned once for every combination of criteria,
+ * so PostgreSQL cannot use the index of the one column that is selective. Here each criterion is declared once,
+ * and a search emits only the predicates of non-null criteria, plus an {@code ORDER BY} on whitelisted columns.
+ * The statement text depends only on which criteria are present and on the sort (page size and offset are bound),
+ * so it is built once per shape and cached, and the driver can reuse its prepared statement.
+ * <p>
+ * Instances are immutable once declared and meant to be held in static fields.
+ *
+ * @param <T> the type of the selected rows
+ */
+public final class CriteriaQuery<T> {
+
+    private static final int MAX_CACHED_STATEMENTS = 1024;
+
+    private final String columns;
+    private final String from;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Predicate> predicates = new ArrayList<>();
+    private final Map<String, List<Integer>> predicatesByCriterion = new HashMap<>();
+    private final Map<String, String> sortColumns = new HashMap<>();
+    private String defaultOrder;
+    private String uniqueColumn;
+    private final Map<String, String> statements = new ConcurrentHashMap<>();
+
+    private CriteriaQuery(String columns, String from) {
+        this.columns = columns;
+        this.from = from;
+    }
+
+    /**
+     * Start a new query.
+     *
+     * @param columns the select list, e.g. {@code tlc.*}
+     * @param from the {@code FROM} clause including joins, e.g. {@code transaction_line_card tlc JOIN transaction t ...}
+     */
+    public static <T> CriteriaQuery<T> select(String columns, String from) {
+        return new CriteriaQuery<>(columns, from);
+    }
+
+    /**
+     * Declare a condition that every search applies, whatever its criteria.
+     */
+    public CriteriaQuery<T> whereAlways(String condition) {
+        conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Declare a criterion; the condition refers to its value as {@code :criterion}.
+     */
+    public CriteriaQuery<T> where(String criterion, String condition) {
+        return addPredicate(criterion, condition, true, null);
+    }
+
+    /**
+     * Declare a boolean criterion that selects one of two conditions without binding a value.
+     *
+     * @param whenTrue the condition applied when the criterion is true
+     * @param whenFalse the condition applied when the criterion is false, or null to apply none
+     */
+    public CriteriaQuery<T> whereFlag(String criterion, String whenTrue, String whenFalse) {
+        addPredicate(criterion, whenTrue, false, Boolean.TRUE);
+        if (whenFalse != null) {
+            addPredicate(criterion, whenFalse, false, Boolean.FALSE);
+        }
+        return this;
+    }
+
+    /**
+     * Allow sorting by a property; sort orders on other properties are ignored.
+     *
+     * @param property the property name used by callers, e.g. {@code transactionDate}
+     * @param column the column to order by, e.g. {@code t.transaction_date}
+     */
+    public CriteriaQuery<T> sortable(String property, String column) {
+        sortColumns.put(property, column);
+        return this;
+    }
+
+    /**
+     * Set the order applied when the caller does not sort, and the unique column that breaks ties otherwise,
+     * so pages are stable.
+     */
+    public CriteriaQuery<T> orderBy(String defaultOrder, String uniqueColumn) {
+        this.defaultOrder = defaultOrder;
+        this.uniqueColumn = uniqueColumn;
+        return this;
+    }
+
+    /**
+     * Start a search; criteria left null are not part of the statement.
+     */
+    public Search search() {
+        if (predicates.size() > Long.SIZE) {
+            throw new IllegalStateException("At most " + Long.SIZE + " predicates are supported");
+        }
+        return new Search();
+    }
+
+    private CriteriaQuery<T> addPredicate(String criterion, String condition, boolean binds, Boolean flag) {
+        predicatesByCriterion.computeIfAbsent(criterion, name -> new ArrayList<>()).add(predicates.size());
+        predicates.add(new Predicate(criterion, condition, binds, flag));
+        return this;
+    }
+
+    private String orderClause(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = sortColumns.get(order.getProperty());
+            if (column == null) {
+                column = sortColumns.get(toCamelCase(order.getProperty()));
+            }
+            if (column != null) {
+                orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        if (orders.isEmpty()) {
+            return defaultOrder;
+        }
+        orders.add(uniqueColumn);
+        return String.join(", ", orders);
+    }
+
+    private static String toCamelCase(String name) {
+        StringBuilder camelCase = new StringBuilder(name.length());
+        boolean upper = false;
+        for (char c : name.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                camelCase.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return camelCase.toString();
+    }
+
+    private String statement(String key, long mask, String prefix, String suffix) {
+        String cached = statements.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        StringBuilder sql = new StringBuilder(prefix).append(" FROM ").append(from);
+        String separator = " WHERE ";
+        for (String condition : conditions) {
+            sql.append(separator).append(condition);
+            separator = " AND ";
+        }
+        for (int i = 0; i < predicates.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                sql.append(separator).append(predicates.get(i).condition());
+                separator = " AND ";
+            }
+        }
+        String statement = sql.append(suffix).toString();
+        if (statements.size() < MAX_CACHED_STATEMENTS) {
+            statements.put(key, statement);
+        }
+        return statement;
+    }
+
+    private static Object bindValue(Object value) {
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        if (value instanceof Collection<?> values) {
+            // Bound as one array so the statement does not change with the number of values
+            Object first = values.iterator().next();
+            Class<?> type = first instanceof Enum<?> ? String.class : first.getClass();
+            Object array = Array.newInstance(type, values.size());
+            int i = 0;
+            for (Object element : values) {
+                Array.set(array, i++, bindValue(element));
+            }
+            return array;
+        }
+        return value;
+    }
+
+    private record Predicate(String criterion, String condition, boolean binds, Boolean flag) {
+    }
+
+    /**
+     * The criteria of one search.
+     */
+    public final class Search {
+
+        private long mask;
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        private Search() {
+        }
+
+        /**
+         * Set a criterion; null values and empty collections leave it out.
+         */
+        public Search with(String criterion, Object value) {
+            List<Integer> indexes = predicatesByCriterion.get(criterion);
+            if (indexes == null) {
+                throw new IllegalArgumentException("Unknown criterion: " + criterion);
+            }
+            if (value == null || (value instanceof Collection<?> c && c.isEmpty())) {
+                return this;
+            }
+            for (int index : indexes) {
+                Predicate predicate = predicates.get(index);
+                if (predicate.binds()) {
+                    mask |= 1L << index;
+                    values.put(criterion, bindValue(value));
+                } else if (predicate.flag().equals(value)) {
+                    mask |= 1L << index;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Select the matching rows of the page, in the page's sort order when it sorts by whitelisted properties.
+         */
+        public Flux<T> find(DatabaseClient databaseClient, Pageable pageable, BiFunction<Row, RowMetadata, T> mapper) {
+            return pageable.isPaged()
+                    ? find(databaseClient, pageable.getSort(), pageable.getPageSize(), pageable.getOffset(), mapper)
+                    : find(databaseClient, pageable.getSort(), null, null, mapper);
+        }
+
+        /**
+         * Select the matching rows in the given sort order.
+         *
+         * @param limit the maximum number of rows, or null for all
+         * @param offset the number of rows to skip, or null for none
+         */
+        public Flux<T> find(DatabaseClient databaseClient, Sort sort, Integer limit, Long offset,
+                            BiFunction<Row, RowMetadata, T> mapper) {
+            String order = orderClause(sort);
+            boolean paged = limit != null;
+            String sql = statement(mask + "|" + order + "|" + paged, mask, "SELECT " + columns,
+                    " ORDER BY " + order + (paged ? " LIMIT :limit OFFSET :offset" : ""));
+            DatabaseClient.GenericExecuteSpec spec = bind(databaseClient.sql(sql));
+            if (paged) {
+                spec = spec.bind("limit", limit).bind("offset", offset != null ? offset : 0L);
+            }
+            return spec.map(mapper).all();
+        }
+
+        /**
+         * Count the matching rows.
+         */
+        public Mono<Long> count(DatabaseClient databaseClient) {
+            String sql = statement(mask + "|count", mask, "SELECT COUNT(*)", "");
+            return bind(databaseClient.sql(sql))
+                    .map(row -> row.get(0, Long.class))
+                    .one();
+        }
+
+        private DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                spec = spec.bind(value.getKey(), value.getValue());
+            }
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed latitude/longitude grid used to index transaction locations.
+ * <p>
+ * Cells are {@code 1 / CELLS_PER_DEGREE} degrees on each side and numbered row by row from the south-west corner,
+ * so the cells of one latitude row form a contiguous range. The {@code transaction.geo_cell} column is generated
+ * by the database with the same formula as {@link #cellOf(double, double)} (see V59); the two must stay in sync.
+ * <p>
+ * A radius search is turned into a {@link BoundingBox} around the circle and then into the cell ranges covering
+ * that box, which a B-tree on {@code geo_cell} can scan directly. The exact distance is only evaluated on the
+ * rows found there.
+ */
+public final class GeoGrid {
+
+    /** Cells per degree; 10 gives cells of about 11 km in latitude. */
+    public static final int CELLS_PER_DEGREE = 10;
+
+    /** Mean earth radius used for distances, in kilometres. */
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    static final int ROWS = 180 * CELLS_PER_DEGREE;
+    static final int COLUMNS = 360 * CELLS_PER_DEGREE;
+
+    /**
+     * Above this many ranges a search scans the whole latitude band instead, which keeps the generated SQL small
+     * for very large radii. 128 rows of cells cover the default maximum radius of 500 km.
+     */
+    static final int MAX_RANGES = 128;
+
+    private GeoGrid() {
+    }
+
+    /**
+     * Return the cell containing the given location.
+     */
+    public static int cellOf(double latitude, double longitude) {
+        return row(latitude) * COLUMNS + column(longitude);
+    }
+
+    /**
+     * Return the smallest latitude/longitude box containing every point within the radius of the centre.
+     * The longitude range wraps around the antimeridian when {@code minLongitude > maxLongitude}.
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double angularDistance = radiusKm / EARTH_RADIUS_KM;
+        double deltaLatitude = Math.toDegrees(angularDistance);
+        double minLatitude = latitude - deltaLatitude;
+        double maxLatitude = latitude + deltaLatitude;
+
+        // A circle reaching a pole covers every longitude
+        if (minLatitude <= -90 || maxLatitude >= 90 || angularDistance >= Math.PI / 2) {
+            return new BoundingBox(Math.max(minLatitude, -90), Math.min(maxLatitude, 90), -180, 180);
+        }
+
+        double deltaLongitude = Math.toDegrees(Math.asin(
+                Math.min(1, Math.sin(angularDistance) / Math.cos(Math.toRadians(latitude)))));
+        if (deltaLongitude >= 180) {
+            return new BoundingBox(minLatitude, maxLatitude, -180, 180);
+        }
+        double minLongitude = longitude - deltaLongitude;
+        double maxLongitude = longitude + deltaLongitude;
+        if (minLongitude < -180) {
+            minLongitude += 360;
+        }
+        if (maxLongitude > 180) {
+            maxLongitude -= 360;
+        }
+        return new BoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    /**
+     * Return the cell ranges covering the box, in ascending order.
+     */
+    public static List<CellRange> cellRanges(BoundingBox box) {
+        List<int[]> columnRanges = new ArrayList<>(2);
+        if (box.crossesAntimeridian()) {
+            columnRanges.add(new int[]{column(box.minLongitude()), COLUMNS - 1});
+            columnRanges.add(new int[]{0, column(box.maxLongitude())});
+            columnRanges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        } else {
+            columnRanges.add(new int[]{column(box.minLongitude()), column(box.maxLongitude())});
+        }
+
+        int firstRow = row(box.minLatitude());
+        int lastRow = row(box.maxLatitude());
+        List<CellRange> ranges = new ArrayList<>();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int[] columns : columnRanges) {
+                int first = row * COLUMNS + columns[0];
+                int last = row * COLUMNS + columns[1];
+                CellRange previous = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+                if (previous != null && previous.last() + 1 >= first) {
+                    ranges.set(ranges.size() - 1, new CellRange(previous.first(), last));
+                } else {
+                    ranges.add(new CellRange(first, last));
+                }
+            }
+        }
+        if (ranges.size() > MAX_RANGES) {
+            return List.of(new CellRange(ranges.get(0).first(), ranges.get(ranges.size() - 1).last()));
+        }
+        return ranges;
+    }
+
+    private static int row(double latitude) {
+        return Math.min((int) Math.floor((latitude + 90) * CELLS_PER_DEGREE), ROWS - 1);
+    }
+
+    private static int column(double longitude) {
+        return Math.min((int) Math.floor((longitude + 180) * CELLS_PER_DEGREE), COLUMNS - 1);
+    }
+
+    /**
+     * Latitude/longitude box; the longitude range wraps around the antimeridian when
+     * {@code minLongitude > maxLongitude}.
+     */
+    public record BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+        public boolean crossesAntimeridian() {
+            return minLongitude > maxLongitude;
+        }
+
+        public boolean coversAllLongitudes() {
+            return minLongitude <= -180 && maxLongitude >= 180;
+        }
+    }
+
+    /**
+     * Inclusive range of cell numbers.
+     */
+    public record CellRange(int first, int last) {
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories;
+
+/**
+ * SQL for claiming pages of due rows split into shards by a hash of a key.
+ * <p>
+ * Workers of one run, or replicas, each claim the rows of their own shard, so they rarely contend for the same
+ * rows; {@code FOR UPDATE SKIP LOCKED} keeps them correct when they do. Rows a run has given up on are excluded
+ * from its later claims, so a run always ends.
+ */
+public final class HashShards {
+
+    private HashShards() {
+    }
+
+    /**
+     * Return the condition selecting the rows whose key falls in shard {@code :shardIndex} of {@code :shardCount}.
+     *
+     * @param key the SQL expression of the key, of type {@code text}
+     */
+    public static String condition(String key) {
+        // hashtext() is signed; the offset moves it into [0, 2^32) so that mod() never returns a negative shard
+        return "mod(hashtext(" + key + ")::bigint + 2147483648, :shardCount) = :shardIndex";
+    }
+
+    /**
+     * Return a statement claiming up to {@code :limit} due rows of shard {@code :shardIndex} of {@code :shardCount},
+     * skipping the rows locked by other claims and the IDs in {@code :excludedIds}.
+     *
+     * @param table the table to claim from
+     * @param dueCondition the condition a due row satisfies
+     * @param key the SQL expression of the shard key, of type {@code text}
+     * @param idColumn the primary key column, compared to {@code :excludedIds}
+     * @param orderBy the order in which due rows are claimed
+     */
+    public static String claimSql(String table, String dueCondition, String key, String idColumn, String orderBy) {
+        return "SELECT * FROM " + table + " " +
+                "WHERE " + dueCondition + " " +
+                "AND " + condition(key) + " " +
+                "AND " + idColumn + " <> ALL(:excludedIds) " +
+                "ORDER BY " + orderBy + " " +
+                "LIMIT :limit FOR UPDATE SKIP LOCKED";
+    }
+}
@@ -32,7 +32,8 @@ import java.time.LocalDateTime;
 /**
  * Repository interface for TransactionLineAch entity.
  */
-public interface TransactionLineAchRepository extends BaseRepository<TransactionLineAch, UUID> {
+public interface TransactionLineAchRepository extends BaseRepository<TransactionLineAch, UUID>,
+        TransactionLineAchRepositoryCustom {
     /**
      * Find ACH transaction line by transaction ID.
      *
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.ach.v1;
+
+import com.firefly.core.banking.ledger.models.entities.ach.v1.TransactionLineAch;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineAchRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineAchRepositoryCustomImpl implements TransactionLineAchRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLineAch> INSERT =
+            MultiRowInsert.<TransactionLineAch>into("transaction_line_ach")
+                    .column("transaction_line_ach_id", UUID.class,
+                            l -> l.getTransactionLineAchId() != null ? l.getTransactionLineAchId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineAch::getTransactionId)
+                    .column("ach_reference", String.class, TransactionLineAch::getAchReference)
+                    .column("ach_source_account_id", UUID.class, TransactionLineAch::getAchSourceAccountId)
+                    .column("ach_destination_account_id", UUID.class, TransactionLineAch::getAchDestinationAccountId)
+                    .column("ach_source_account_number", String.class, TransactionLineAch::getAchSourceAccountNumber)
+                    .column("ach_destination_account_number", String.class, TransactionLineAch::getAchDestinationAccountNumber)
+                    .column("ach_source_account_name", String.class, TransactionLineAch::getAchSourceAccountName)
+                    .column("ach_destination_account_name", String.class, TransactionLineAch::getAchDestinationAccountName)
+                    .column("ach_routing_number", String.class, TransactionLineAch::getAchRoutingNumber)
+                    .column("ach_transaction_code", String.class, TransactionLineAch::getAchTransactionCode)
+                    .column("ach_purpose", String.class, TransactionLineAch::getAchPurpose)
+                    .column("ach_notes", String.class, TransactionLineAch::getAchNotes)
+                    .column("ach_timestamp", LocalDateTime.class, TransactionLineAch::getAchTimestamp)
+                    .column("ach_processed_by", String.class, TransactionLineAch::getAchProcessedBy)
+                    .column("ach_fee_amount", BigDecimal.class, TransactionLineAch::getAchFeeAmount)
+                    .column("ach_fee_currency", String.class, TransactionLineAch::getAchFeeCurrency)
+                    .column("ach_scheduled_date", LocalDate.class, TransactionLineAch::getAchScheduledDate)
+                    .column("ach_execution_date", LocalDate.class, TransactionLineAch::getAchExecutionDate)
+                    .column("ach_batch_number", String.class, TransactionLineAch::getAchBatchNumber)
+                    .column("ach_trace_number", String.class, TransactionLineAch::getAchTraceNumber)
+                    .column("ach_entry_class_code", String.class, TransactionLineAch::getAchEntryClassCode)
+                    .column("ach_settlement_date", LocalDate.class, TransactionLineAch::getAchSettlementDate)
+                    .column("ach_return_code", String.class, TransactionLineAch::getAchReturnCode)
+                    .column("ach_return_reason", String.class, TransactionLineAch::getAchReturnReason);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineAch> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+}
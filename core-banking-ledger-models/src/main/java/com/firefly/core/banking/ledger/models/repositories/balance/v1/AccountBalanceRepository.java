@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.balance.v1;
+
+import com.firefly.core.banking.ledger.models.entities.balance.v1.AccountBalance;
+import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import java.util.UUID;
+/**
+ * Repository interface for the account balance projection.
+ */
+public interface AccountBalanceRepository extends BaseRepository<AccountBalance, UUID> {
+    /**
+     * Find all balances (every account space and currency) for a specific account.
+     */
+    Flux<AccountBalance> findByAccountId(UUID accountId);
+
+    /**
+     * Find all balances for a specific account and currency.
+     */
+    Flux<AccountBalance> findByAccountIdAndCurrency(UUID accountId, String currency);
+
+    /**
+     * Find all balances (every currency) for a specific account space of an account.
+     */
+    Flux<AccountBalance> findByAccountIdAndAccountSpaceId(UUID accountId, UUID accountSpaceId);
+
+    /**
+     * Find the balance for a specific account space of an account and currency.
+     */
+    Flux<AccountBalance> findByAccountIdAndAccountSpaceIdAndCurrency(UUID accountId, UUID accountSpaceId, String currency);
+
+    /**
+     * Find all balances for a specific account space.
+     */
+    Flux<AccountBalance> findByAccountSpaceId(UUID accountSpaceId);
+
+    /**
+     * Atomically apply a leg to the projection, creating the balance row on first use.
+     * Exactly one of {@code creditAmount} and {@code debitAmount} is expected to be non-zero.
+     */
+    @Query("INSERT INTO account_balance AS ab " +
+           "(account_id, account_space_id, currency, balance, total_credits, total_debits, leg_count, last_booking_date) " +
+           "VALUES (:accountId, :accountSpaceId, :currency, :creditAmount - :debitAmount, :creditAmount, :debitAmount, 1, :bookingDate) " +
+           "ON CONFLICT (account_id, account_space_id, currency) DO UPDATE SET " +
+           "balance = ab.balance + EXCLUDED.balance, " +
+           "total_credits = ab.total_credits + EXCLUDED.total_credits, " +
+           "total_debits = ab.total_debits + EXCLUDED.total_debits, " +
+           "leg_count = ab.leg_count + 1, " +
+           "last_booking_date = GREATEST(ab.last_booking_date, EXCLUDED.last_booking_date), " +
+           "date_updated = CURRENT_TIMESTAMP " +
+           "RETURNING *")
+    Mono<AccountBalance> applyLeg(
+            UUID accountId,
+            UUID accountSpaceId,
+            String currency,
+            BigDecimal creditAmount,
+            BigDecimal debitAmount,
+            LocalDateTime bookingDate);
+
+    /**
+     * Apply all legs of the given transactions to the projection in a single set-based statement.
+     * Used by bulk writers that insert legs without going through {@link #applyLeg}.
+     * Legs dated before the current day also invalidate the balance snapshots from their date on.
+     *
+     * @return the number of balance rows created or updated
+     */
+    @Modifying
+    @Query("WITH legs AS (SELECT account_id, account_space_id, currency, leg_type, amount, booking_date, " +
+           "COALESCE(value_date, booking_date) AS balance_date " +
+           "FROM transaction_leg WHERE transaction_id IN (:transactionIds)), " +
+           "invalidated AS (INSERT INTO account_balance_snapshot_invalidation AS i (account_id, currency, from_date) " +
+           "SELECT account_id, currency, MIN(balance_date)::date FROM legs WHERE balance_date < CURRENT_DATE " +
+           "GROUP BY account_id, currency ORDER BY account_id, currency " +
+           "ON CONFLICT (account_id, currency) DO UPDATE SET " +
+           "from_date = LEAST(i.from_date, EXCLUDED.from_date), invalidated_at = clock_timestamp()) " +
+           "INSERT INTO account_balance AS ab " +
+           "(account_id, account_space_id, currency, balance, total_credits, total_debits, leg_count, last_booking_date) " +
+           "SELECT account_id, account_space_id, currency, " +
+           "SUM(CASE WHEN leg_type = 'CREDIT' THEN amount ELSE -amount END), " +
+           "SUM(CASE WHEN leg_type = 'CREDIT' THEN amount ELSE 0 END), " +
+           "SUM(CASE WHEN leg_type = 'DEBIT' THEN amount ELSE 0 END), " +
+           "COUNT(*), MAX(booking_date) " +
+           "FROM legs " +
+           "GROUP BY account_id, account_space_id, currency " +
+           "ON CONFLICT (account_id, account_space_id, currency) DO UPDATE SET " +
+           "balance = ab.balance + EXCLUDED.balance, " +
+           "total_credits = ab.total_credits + EXCLUDED.total_credits, " +
+           "total_debits = ab.total_debits + EXCLUDED.total_debits, " +
+           "leg_count = ab.leg_count + EXCLUDED.leg_count, " +
+           "last_booking_date = GREATEST(ab.last_booking_date, EXCLUDED.last_booking_date), " +
+           "date_updated = CURRENT_TIMESTAMP")
+    Mono<Long> applyLegsOfTransactions(Collection<UUID> transactionIds);
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.balance.v1;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * End-of-day balance snapshots ({@code account_balance_snapshot}) and the balance-as-of queries they serve.
+ * <p>
+ * The balance date of a leg is its value date, or its booking date when it has none. A snapshot is valid while
+ * no leg dated on or before its day was written after it; writers of backdated legs record the earliest affected
+ * date in {@code account_balance_snapshot_invalidation}, and snapshots from that date on are ignored until
+ * {@link #recomputeInvalidated} has brought them up to date.
+ */
+@Repository
+public class AccountBalanceSnapshotRepository {
+
+    private static final String BALANCE_DATE = "COALESCE(l.value_date, l.booking_date)";
+
+    private static final String SIGNED_AMOUNT = "CASE WHEN l.leg_type = 'CREDIT' THEN l.amount ELSE -l.amount END";
+
+    // Latest snapshot of the account and currency before :before that is not invalidated
+    private static final String VALID_SNAPSHOT =
+            "SELECT s.snapshot_date, s.closing_balance FROM account_balance_snapshot s " +
+            "WHERE s.account_id = :accountId AND s.currency = :currency AND s.snapshot_date < :before " +
+            "AND s.snapshot_date < COALESCE((SELECT i.from_date FROM account_balance_snapshot_invalidation i " +
+            "WHERE i.account_id = :accountId AND i.currency = :currency), 'infinity') " +
+            "ORDER BY s.snapshot_date DESC LIMIT 1";
+
+    private static final String BALANCE_AS_OF_SQL =
+            "WITH snapshot AS (" + VALID_SNAPSHOT + ") " +
+            "SELECT (SELECT snapshot_date FROM snapshot) AS snapshot_date, " +
+            "COALESCE((SELECT closing_balance FROM snapshot), 0) + COALESCE(SUM(" + SIGNED_AMOUNT + "), 0) AS balance, " +
+            "COUNT(l.*) AS legs_since_snapshot " +
+            "FROM transaction_leg l " +
+            "WHERE l.account_id = :accountId AND l.currency = :currency " +
+            "AND " + BALANCE_DATE + " >= COALESCE((SELECT snapshot_date FROM snapshot) + 1, '-infinity') " +
+            "AND " + BALANCE_DATE + " < :before";
+
+    private static final String INVALIDATE_SQL =
+            "INSERT INTO account_balance_snapshot_invalidation AS i (account_id, currency, from_date) " +
+            "VALUES (:accountId, :currency, :fromDate) " +
+            "ON CONFLICT (account_id, currency) DO UPDATE SET " +
+            "from_date = LEAST(i.from_date, EXCLUDED.from_date), invalidated_at = clock_timestamp()";
+
+    private static final String FIND_INVALIDATIONS_SQL =
+            "SELECT account_id, currency, from_date, invalidated_at FROM account_balance_snapshot_invalidation " +
+            "ORDER BY invalidated_at LIMIT :limit";
+
+    /*
+     * Rebuilds the snapshots from :fromDate on with one pass over the legs since the last valid snapshot before
+     * it. The invalidation is cleared only if no backdated leg has renewed it since it was read: a leg committed
+     * while this statement runs leaves it in place for the next run.
+     */
+    private static final String RECOMPUTE_INVALIDATED_SQL =
+            "WITH base AS (SELECT s.snapshot_date, s.closing_balance FROM account_balance_snapshot s " +
+            "WHERE s.account_id = :accountId AND s.currency = :currency AND s.snapshot_date < :fromDate " +
+            "ORDER BY s.snapshot_date DESC LIMIT 1), " +
+            "daily AS (SELECT " + BALANCE_DATE + "::date AS balance_date, SUM(" + SIGNED_AMOUNT + ") AS amount " +
+            "FROM transaction_leg l WHERE l.account_id = :accountId AND l.currency = :currency " +
+            "AND " + BALANCE_DATE + " >= COALESCE((SELECT snapshot_date FROM base) + 1, '-infinity') " +
+            "GROUP BY 1), " +
+            "recomputed AS (UPDATE account_balance_snapshot s SET " +
+            "closing_balance = COALESCE((SELECT closing_balance FROM base), 0) + " +
+            "COALESCE((SELECT SUM(d.amount) FROM daily d WHERE d.balance_date <= s.snapshot_date), 0), " +
+            "date_updated = CURRENT_TIMESTAMP " +
+            "WHERE s.account_id = :accountId AND s.currency = :currency AND s.snapshot_date >= :fromDate " +
+            "RETURNING 1), " +
+            "cleared AS (DELETE FROM account_balance_snapshot_invalidation " +
+            "WHERE account_id = :accountId AND currency = :currency AND invalidated_at = :invalidatedAt) " +
+            "SELECT COUNT(*) AS recomputed FROM recomputed";
+
+    private static final String CLAIM_RUN_SQL =
+            "INSERT INTO account_balance_snapshot_run AS r (snapshot_date) VALUES (:snapshotDate) " +
+            "ON CONFLICT (snapshot_date) DO UPDATE SET claimed_at = CURRENT_TIMESTAMP " +
+            "WHERE r.completed_at IS NULL AND r.claimed_at < CURRENT_TIMESTAMP - make_interval(secs => :leaseSeconds) " +
+            "RETURNING snapshot_date";
+
+    /*
+     * Snapshots :snapshotDate for the accounts of one page (by account ID, after :afterAccountId), for every
+     * currency that moved since its last valid snapshot. Accounts and currencies come from the balance projection.
+     */
+    private static final String SNAPSHOT_PAGE_SQL =
+            "WITH page AS (SELECT DISTINCT account_id FROM account_balance WHERE account_id > :afterAccountId " +
+            "ORDER BY account_id LIMIT :limit), " +
+            "keys AS (SELECT DISTINCT ab.account_id, ab.currency FROM account_balance ab JOIN page p ON p.account_id = ab.account_id), " +
+            "inserted AS (INSERT INTO account_balance_snapshot (account_id, currency, snapshot_date, closing_balance) " +
+            "SELECT k.account_id, k.currency, :snapshotDate, COALESCE(prev.closing_balance, 0) + m.amount " +
+            "FROM keys k " +
+            "LEFT JOIN LATERAL (SELECT s.snapshot_date, s.closing_balance FROM account_balance_snapshot s " +
+            "WHERE s.account_id = k.account_id AND s.currency = k.currency AND s.snapshot_date < :snapshotDate " +
+            "AND s.snapshot_date < COALESCE((SELECT i.from_date FROM account_balance_snapshot_invalidation i " +
+            "WHERE i.account_id = k.account_id AND i.currency = k.currency), 'infinity') " +
+            "ORDER BY s.snapshot_date DESC LIMIT 1) prev ON TRUE " +
+            "CROSS JOIN LATERAL (SELECT SUM(" + SIGNED_AMOUNT + ") AS amount, COUNT(*) AS leg_count FROM transaction_leg l " +
+            "WHERE l.account_id = k.account_id AND l.currency = k.currency " +
+            "AND " + BALANCE_DATE + " >= COALESCE(prev.snapshot_date + 1, '-infinity') " +
+            "AND " + BALANCE_DATE + " < :snapshotDate + 1) m " +
+            "WHERE m.leg_count > 0 " +
+            "ON CONFLICT (account_id, currency, snapshot_date) DO NOTHING RETURNING 1) " +
+            "SELECT (SELECT account_id FROM page ORDER BY account_id DESC LIMIT 1) AS last_account_id, " +
+            "(SELECT COUNT(*) FROM inserted) AS created";
+
+    private static final UUID FIRST_ACCOUNT_ID = new UUID(0L, 0L);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Scalar SQL subquery for the closing balance of an account and currency before a date, for use in
+     * statements over many accounts. Same definition as {@link #findBalanceAsOf}.
+     *
+     * @param accountId SQL expression of the account ID
+     * @param currency SQL expression of the currency
+     * @param before SQL expression of the first day not included
+     */
+    public static String balanceBeforeSql(String accountId, String currency, String before) {
+        return "(SELECT COALESCE(prev.closing_balance, 0) + COALESCE((SELECT SUM(" + SIGNED_AMOUNT + ") " +
+                "FROM transaction_leg l WHERE l.account_id = " + accountId + " AND l.currency = " + currency + " " +
+                "AND " + BALANCE_DATE + " >= COALESCE(prev.snapshot_date + 1, '-infinity') " +
+                "AND " + BALANCE_DATE + " < " + before + "), 0) " +
+                "FROM (SELECT 1) one LEFT JOIN LATERAL (SELECT s.snapshot_date, s.closing_balance " +
+                "FROM account_balance_snapshot s " +
+                "WHERE s.account_id = " + accountId + " AND s.currency = " + currency + " AND s.snapshot_date < " + before + " " +
+                "AND s.snapshot_date < COALESCE((SELECT i.from_date FROM account_balance_snapshot_invalidation i " +
+                "WHERE i.account_id = " + accountId + " AND i.currency = " + currency + "), 'infinity') " +
+                "ORDER BY s.snapshot_date DESC LIMIT 1) prev ON TRUE)";
+    }
+
+    /**
+     * The closing balance of an account in a currency at the end of {@code asOf}: the nearest valid snapshot
+     * plus the legs dated since, read through the balance date index.
+     */
+    public Mono<BalanceAsOf> findBalanceAsOf(UUID accountId, String currency, LocalDate asOf) {
+        return databaseClient.sql(BALANCE_AS_OF_SQL)
+                .bind("accountId", accountId)
+                .bind("currency", currency)
+                .bind("before", asOf.plusDays(1))
+                .map(row -> new BalanceAsOf(
+                        row.get("balance", BigDecimal.class),
+                        row.get("snapshot_date", LocalDate.class),
+                        row.get("legs_since_snapshot", Long.class)))
+                .one();
+    }
+
+    /**
+     * Mark the snapshots of an account and currency from {@code fromDate} on as stale.
+     * Must be called within the transaction that writes the backdated leg.
+     */
+    public Mono<Void> invalidate(UUID accountId, String currency, LocalDate fromDate) {
+        return databaseClient.sql(INVALIDATE_SQL)
+                .bind("accountId", accountId)
+                .bind("currency", currency)
+                .bind("fromDate", fromDate)
+                .then();
+    }
+
+    /**
+     * Pending invalidations, oldest first.
+     */
+    public Flux<Invalidation> findInvalidations(int limit) {
+        return databaseClient.sql(FIND_INVALIDATIONS_SQL)
+                .bind("limit", limit)
+                .map(row -> new Invalidation(
+                        row.get("account_id", UUID.class),
+                        row.get("currency", String.class),
+                        row.get("from_date", LocalDate.class),
+                        row.get("invalidated_at", LocalDateTime.class)))
+                .all();
+    }
+
+    /**
+     * Recompute the snapshots covered by an invalidation and clear it, unless it was renewed in the meantime.
+     *
+     * @return the number of snapshots recomputed
+     */
+    public Mono<Long> recomputeInvalidated(Invalidation invalidation) {
+        return databaseClient.sql(RECOMPUTE_INVALIDATED_SQL)
+                .bind("accountId", invalidation.accountId())
+                .bind("currency", invalidation.currency())
+                .bind("fromDate", invalidation.fromDate())
+                .bind("invalidatedAt", invalidation.invalidatedAt())
+                .map(row -> row.get("recomputed", Long.class))
+                .one();
+    }
+
+    /**
+     * Claim the snapshot run of a day, unless it is completed or claimed by another replica within {@code lease}.
+     *
+     * @return the day when claimed, empty otherwise
+     */
+    public Mono<LocalDate> claimRun(LocalDate snapshotDate, Duration lease) {
+        return databaseClient.sql(CLAIM_RUN_SQL)
+                .bind("snapshotDate", snapshotDate)
+                .bind("leaseSeconds", (double) lease.toSeconds())
+                .map(row -> row.get("snapshot_date", LocalDate.class))
+                .one();
+    }
+
+    public Mono<Void> completeRun(LocalDate snapshotDate) {
+        return databaseClient.sql("UPDATE account_balance_snapshot_run SET completed_at = CURRENT_TIMESTAMP " +
+                        "WHERE snapshot_date = :snapshotDate")
+                .bind("snapshotDate", snapshotDate)
+                .then();
+    }
+
+    /**
+     * Snapshot a day for the next page of accounts.
+     *
+     * @param afterAccountId the last account of the previous page, null for the first page
+     * @return the page's last account (null once every account was processed) and the snapshots created
+     */
+    public Mono<SnapshotPage> snapshotPage(LocalDate snapshotDate, UUID afterAccountId, int limit) {
+        return databaseClient.sql(SNAPSHOT_PAGE_SQL)
+                .bind("snapshotDate", snapshotDate)
+                .bind("afterAccountId", afterAccountId != null ? afterAccountId : FIRST_ACCOUNT_ID)
+                .bind("limit", limit)
+                .map(row -> new SnapshotPage(row.get("last_account_id", UUID.class), row.get("created", Long.class)))
+                .one();
+    }
+
+    /**
+     * A balance as of a date, with the snapshot it was derived from (null when there was none) and the number
+     * of legs added to it.
+     */
+    public record BalanceAsOf(BigDecimal balance, LocalDate snapshotDate, Long legsSinceSnapshot) {
+    }
+
+    /**
+     * Snapshots of an account and currency stale from {@code fromDate} on.
+     */
+    public record Invalidation(UUID accountId, String currency, LocalDate fromDate, LocalDateTime invalidatedAt) {
+    }
+
+    public record SnapshotPage(UUID lastAccountId, Long created) {
+    }
+}
@@ -26,10 +26,9 @@ import reactor.core.publisher.Mono;
 
 
 import java.util.UUID;
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
 
-public interface TransactionLineCardRepository extends BaseRepository<TransactionLineCard, UUID> {
+public interface TransactionLineCardRepository extends BaseRepository<TransactionLineCard, UUID>,
+        TransactionLineCardRepositoryCustom {
     Mono<TransactionLineCard> findByTransactionId(UUID transactionId);
 
     @Query("SELECT * FROM transaction_line_card " +
@@ -66,39 +65,6 @@ public interface TransactionLineCardRepository extends BaseRepository<Transactio
             "WHERE card_merchant_name ILIKE concat('%', :merchantName, '%')")
     Mono<Long> countByMerchantNameContaining(String merchantName);
 
-    @Query("SELECT tlc.* FROM transaction_line_card tlc " +
-            "JOIN transaction t ON t.transaction_id = tlc.transaction_id " +
-            "WHERE (:startDate IS NULL OR tlc.card_transaction_timestamp >= :startDate) " +
-            "AND (:endDate IS NULL OR tlc.card_transaction_timestamp <= :endDate) " +
-            "AND (:merchantCode IS NULL OR tlc.card_merchant_category_code = :merchantCode) " +
-            "AND (:cardPresent IS NULL OR tlc.card_present_flag = :cardPresent) " +
-            "AND (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount)")
-    Flux<TransactionLineCard> findByCustomCriteria(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            String merchantCode,
-            Boolean cardPresent,
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            Pageable pageable);
-
-    @Query("SELECT COUNT(*) FROM transaction_line_card tlc " +
-            "JOIN transaction t ON t.transaction_id = tlc.transaction_id " +
-            "WHERE (:startDate IS NULL OR tlc.card_transaction_timestamp >= :startDate) " +
-            "AND (:endDate IS NULL OR tlc.card_transaction_timestamp <= :endDate) " +
-            "AND (:merchantCode IS NULL OR tlc.card_merchant_category_code = :merchantCode) " +
-            "AND (:cardPresent IS NULL OR tlc.card_present_flag = :cardPresent) " +
-            "AND (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount)")
-    Mono<Long> countByCustomCriteria(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            String merchantCode,
-            Boolean cardPresent,
-            BigDecimal minAmount,
-            BigDecimal maxAmount);
-
     @Query("SELECT * FROM transaction_line_card " +
             "WHERE card_holder_country = :country " +
             "AND card_fraud_flag = true " +
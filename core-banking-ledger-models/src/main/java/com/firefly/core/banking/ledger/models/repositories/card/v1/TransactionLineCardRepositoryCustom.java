@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.card.v1;
+
+import com.firefly.core.banking.ledger.models.entities.card.v1.TransactionLineCard;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom queries and writes for card lines that cannot be expressed as derived or annotated queries.
+ */
+public interface TransactionLineCardRepositoryCustom {
+    /**
+     * Find card lines matching the given criteria; null criteria are ignored.
+     * Only the predicates of the given criteria are part of the statement, ordered by the page's sort when it
+     * uses a sortable property.
+     */
+    Flux<TransactionLineCard> findByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String merchantCode,
+            Boolean cardPresent,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            Pageable pageable);
+
+    /**
+     * Count the card lines matching the given criteria; null criteria are ignored.
+     */
+    Mono<Long> countByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String merchantCode,
+            Boolean cardPresent,
+            BigDecimal minAmount,
+            BigDecimal maxAmount);
+
+    /**
+     * Insert all card lines with multi-row INSERT statements.
+     *
+     * @param lines The card lines to insert; lines without an ID get a generated one
+     * @return A Mono containing the number of inserted rows
+     */
+    Mono<Long> insertAll(List<TransactionLineCard> lines);
+}
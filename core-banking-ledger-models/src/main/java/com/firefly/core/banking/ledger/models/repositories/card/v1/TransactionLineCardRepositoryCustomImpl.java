@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.card.v1;
+
+import com.firefly.core.banking.ledger.models.entities.card.v1.TransactionLineCard;
+import com.firefly.core.banking.ledger.models.repositories.CriteriaQuery;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineCardRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineCardRepositoryCustomImpl implements TransactionLineCardRepositoryCustom {
+
+    private static final CriteriaQuery<TransactionLineCard> CRITERIA = CriteriaQuery.<TransactionLineCard>select(
+                    "tlc.*",
+                    "transaction_line_card tlc JOIN transaction t ON t.transaction_id = tlc.transaction_id")
+            .where("startDate", "tlc.card_transaction_timestamp >= :startDate")
+            .where("endDate", "tlc.card_transaction_timestamp <= :endDate")
+            .where("merchantCode", "tlc.card_merchant_category_code = :merchantCode")
+            .where("cardPresent", "tlc.card_present_flag = :cardPresent")
+            .where("minAmount", "t.total_amount >= :minAmount")
+            .where("maxAmount", "t.total_amount <= :maxAmount")
+            .sortable("cardTransactionTimestamp", "tlc.card_transaction_timestamp")
+            .sortable("cardMerchantName", "tlc.card_merchant_name")
+            .sortable("totalAmount", "t.total_amount")
+            .orderBy("tlc.card_transaction_timestamp DESC, tlc.transaction_line_card_id DESC", "tlc.transaction_line_card_id");
+
+    private static final MultiRowInsert<TransactionLineCard> INSERT =
+            MultiRowInsert.<TransactionLineCard>into("transaction_line_card")
+                    .column("transaction_line_card_id", UUID.class,
+                            l -> l.getTransactionLineCardId() != null ? l.getTransactionLineCardId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineCard::getTransactionId)
+                    .column("card_auth_code", String.class, TransactionLineCard::getCardAuthCode)
+                    .column("card_merchant_category_code", String.class, TransactionLineCard::getCardMerchantCategoryCode)
+                    .column("card_merchant_name", String.class, TransactionLineCard::getCardMerchantName)
+                    .column("card_pos_entry_mode", String.class, TransactionLineCard::getCardPosEntryMode)
+                    .column("card_transaction_reference", String.class, TransactionLineCard::getCardTransactionReference)
+                    .column("card_terminal_id", String.class, TransactionLineCard::getCardTerminalId)
+                    .column("card_holder_country", String.class, TransactionLineCard::getCardHolderCountry)
+                    .column("card_present_flag", Boolean.class, l -> l.getCardPresentFlag() != null ? l.getCardPresentFlag() : Boolean.FALSE)
+                    .column("card_transaction_timestamp", LocalDateTime.class, TransactionLineCard::getCardTransactionTimestamp)
+                    .column("card_fraud_flag", Boolean.class, l -> l.getCardFraudFlag() != null ? l.getCardFraudFlag() : Boolean.FALSE)
+                    .column("card_currency_conversion_rate", BigDecimal.class, TransactionLineCard::getCardCurrencyConversionRate)
+                    .column("card_fee_amount", BigDecimal.class, TransactionLineCard::getCardFeeAmount)
+                    .column("card_fee_currency", String.class, TransactionLineCard::getCardFeeCurrency)
+                    .column("card_installment_plan", String.class, TransactionLineCard::getCardInstallmentPlan)
+                    .column("card_merchant_cif", String.class, TransactionLineCard::getCardMerchantCif);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcConverter converter;
+
+    @Override
+    public Flux<TransactionLineCard> findByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String merchantCode,
+            Boolean cardPresent,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            Pageable pageable) {
+        return criteria(startDate, endDate, merchantCode, cardPresent, minAmount, maxAmount)
+                .find(databaseClient, pageable, (row, metadata) -> converter.read(TransactionLineCard.class, row, metadata));
+    }
+
+    @Override
+    public Mono<Long> countByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String merchantCode,
+            Boolean cardPresent,
+            BigDecimal minAmount,
+            BigDecimal maxAmount) {
+        return criteria(startDate, endDate, merchantCode, cardPresent, minAmount, maxAmount)
+                .count(databaseClient);
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineCard> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+
+    private static CriteriaQuery<TransactionLineCard>.Search criteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String merchantCode,
+            Boolean cardPresent,
+            BigDecimal minAmount,
+            BigDecimal maxAmount) {
+        return CRITERIA.search()
+                .with("startDate", startDate)
+                .with("endDate", endDate)
+                .with("merchantCode", merchantCode)
+                .with("cardPresent", cardPresent)
+                .with("minAmount", minAmount)
+                .with("maxAmount", maxAmount);
+    }
+}
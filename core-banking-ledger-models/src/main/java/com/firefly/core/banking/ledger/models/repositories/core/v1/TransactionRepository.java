@@ -18,21 +18,20 @@
 package com.firefly.core.banking.ledger.models.repositories.core.v1;
 
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
-import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
 import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
 import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 
+import java.util.Collection;
 import java.util.UUID;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
 
-public interface TransactionRepository extends BaseRepository<Transaction, UUID> {
+public interface TransactionRepository extends BaseRepository<Transaction, UUID>, TransactionRepositoryCustom {
     Flux<Transaction> findByAccountId(UUID accountId, Pageable pageable);
     Mono<Long> countByAccountId(UUID accountId);
 
@@ -42,21 +41,6 @@ public interface TransactionRepository extends BaseRepository<Transaction, UUID>
     Flux<Transaction> findByTransactionCategoryId(UUID categoryId, Pageable pageable);
     Mono<Long> countByTransactionCategoryId(UUID categoryId);
 
-    // Geotag query methods
-    @Query("SELECT t.* FROM transaction t " +
-           "WHERE (6371 * acos(cos(radians(:latitude)) * cos(radians(t.latitude)) * " +
-           "cos(radians(t.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-           "sin(radians(t.latitude)))) <= :radiusInKm " +
-           "ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(t.latitude)) * " +
-           "cos(radians(t.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-           "sin(radians(t.latitude)))) ASC")
-    Flux<Transaction> findTransactionsWithinRadius(Double latitude, Double longitude, Double radiusInKm, Pageable pageable);
-
-    @Query("SELECT COUNT(*) FROM transaction t " +
-           "WHERE (6371 * acos(cos(radians(:latitude)) * cos(radians(t.latitude)) * " +
-           "cos(radians(t.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-           "sin(radians(t.latitude)))) <= :radiusInKm")
-    Mono<Long> countTransactionsWithinRadius(Double latitude, Double longitude, Double radiusInKm);
     Flux<Transaction> findByCountry(String country, Pageable pageable);
     Mono<Long> countByCountry(String country);
 
@@ -68,6 +52,16 @@ public interface TransactionRepository extends BaseRepository<Transaction, UUID>
 
     Mono<Transaction> findByExternalReference(String externalReference);
 
+    /**
+     * Find the transaction created for a channel request ID (idempotency key).
+     */
+    Mono<Transaction> findByRequestId(String requestId);
+
+    /**
+     * Find the transactions created for any of the given channel request IDs.
+     */
+    Flux<Transaction> findByRequestIdIn(Collection<String> requestIds);
+
     /**
      * Find a transaction by blockchain transaction hash.
      *
@@ -95,98 +89,64 @@ public interface TransactionRepository extends BaseRepository<Transaction, UUID>
     Flux<Transaction> findByLocationNameContainingIgnoreCase(String locationName, Pageable pageable);
     Mono<Long> countByLocationNameContainingIgnoreCase(String locationName);
 
-    @Query("SELECT t.* FROM transaction t " +
-            "WHERE (:startDate IS NULL OR t.transaction_date >= :startDate) " +
-            "AND (:endDate IS NULL OR t.transaction_date <= :endDate) " +
-            "AND (:currency IS NULL OR t.currency = :currency)")
-    Flux<Transaction> findByDateRangeAndCurrency(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            String currency,
-            Pageable pageable);
-
-    @Query("SELECT COUNT(t.*) FROM transaction t " +
-            "WHERE (:startDate IS NULL OR t.transaction_date >= :startDate) " +
-            "AND (:endDate IS NULL OR t.transaction_date <= :endDate) " +
-            "AND (:currency IS NULL OR t.currency = :currency)")
-    Mono<Long> countByDateRangeAndCurrency(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            String currency);
-
-    @Query("SELECT t.* FROM transaction t " +
-            "WHERE (:startDate IS NULL OR t.transaction_date >= :startDate) " +
-            "AND (:endDate IS NULL OR t.transaction_date <= :endDate) " +
-            "AND (:minAmount IS NULL OR t.amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.amount <= :maxAmount) " +
-            "AND (:currencies IS NULL OR t.currency IN (:currencies)) " +
-            "AND (:types IS NULL OR t.transaction_type IN (:types)) " +
-            "AND (:statuses IS NULL OR t.transaction_status IN (:statuses)) " +
-            "AND (:categoryIds IS NULL OR t.transaction_category_id IN (:categoryIds)) " +
-            "AND (:accountIds IS NULL OR t.account_id IN (:accountIds)) " +
-            "AND (:referenceNumber IS NULL OR t.reference_number LIKE CONCAT('%', :referenceNumber, '%')) " +
-            "AND (:description IS NULL OR t.description LIKE CONCAT('%', :description, '%')) " +
-            "AND (:initiatingParty IS NULL OR t.initiating_party LIKE CONCAT('%', :initiatingParty, '%')) " +
-            "AND (:includeReversed IS NULL OR t.is_reversed = :includeReversed) " +
-            "AND (:onlyFailed IS NULL OR (:onlyFailed = TRUE AND t.transaction_status = 'FAILED')) " +
-            "AND (:onlyPending IS NULL OR (:onlyPending = TRUE AND t.transaction_status = 'PENDING')) " +
-            "ORDER BY CASE " +
-            "    WHEN :sortDirection = 'ASC' THEN CASE WHEN :sortBy = 'transaction_date' THEN t.transaction_date ELSE NULL END " +
-            "    ELSE NULL " + // Handle dynamic sorting if needed, fall back to default sorts
-            "END ASC " +
-            "LIMIT :pageSize OFFSET :pageOffset")
-    Flux<Transaction> findTransactionsByFilter(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            List<String> currencies,
-            List<TransactionTypeEnum> types,
-            List<TransactionStatusEnum> statuses,
-            List<UUID> categoryIds,
-            List<UUID> accountIds,
-            String referenceNumber,
-            String description,
-            String initiatingParty,
-            Boolean includeReversed,
-            Boolean onlyFailed,
-            Boolean onlyPending,
-            Integer pageSize,
-            Integer pageOffset,
-            String sortBy,
-            String sortDirection);
-
-    @Query("SELECT COUNT(*) FROM transaction t " +
-            "WHERE (:startDate IS NULL OR t.transaction_date >= :startDate) " +
-            "AND (:endDate IS NULL OR t.transaction_date <= :endDate) " +
-            "AND (:minAmount IS NULL OR t.amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.amount <= :maxAmount) " +
-            "AND (:currencies IS NULL OR t.currency IN (:currencies)) " +
-            "AND (:types IS NULL OR t.transaction_type IN (:types)) " +
-            "AND (:statuses IS NULL OR t.transaction_status IN (:statuses)) " +
-            "AND (:categoryIds IS NULL OR t.transaction_category_id IN (:categoryIds)) " +
-            "AND (:accountIds IS NULL OR t.account_id IN (:accountIds)) " +
-            "AND (:referenceNumber IS NULL OR t.reference_number LIKE CONCAT('%', :referenceNumber, '%')) " +
-            "AND (:description IS NULL OR t.description LIKE CONCAT('%', :description, '%')) " +
-            "AND (:initiatingParty IS NULL OR t.initiating_party LIKE CONCAT('%', :initiatingParty, '%')) " +
-            "AND (:includeReversed IS NULL OR t.is_reversed = :includeReversed) " +
-            "AND (:onlyFailed IS NULL OR (:onlyFailed = TRUE AND t.transaction_status = 'FAILED')) " +
-            "AND (:onlyPending IS NULL OR (:onlyPending = TRUE AND t.transaction_status = 'PENDING'))")
-    Mono<Long> countTransactionsByFilter(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            List<String> currencies,
-            List<TransactionTypeEnum> types,
-            List<TransactionStatusEnum> statuses,
-            List<UUID> categoryIds,
-            List<UUID> accountIds,
-            String referenceNumber,
-            String description,
-            String initiatingParty,
-            Boolean includeReversed,
-            Boolean onlyFailed,
-            Boolean onlyPending);
+    /**
+     * Keyset pagination: first page of transactions for an account within a booking date range,
+     * ordered by (booking_date, transaction_id) descending.
+     */
+    @Query("SELECT * FROM transaction WHERE account_id = :accountId AND booking_date BETWEEN :startDate AND :endDate " +
+            "ORDER BY booking_date DESC, transaction_id DESC LIMIT :limit")
+    Flux<Transaction> findAccountTransactionsFirstPage(UUID accountId, LocalDateTime startDate, LocalDateTime endDate, int limit);
+
+    /**
+     * Keyset pagination: transactions for an account within a booking date range that come after
+     * the given (booking_date, transaction_id) position.
+     * The redundant bound on booking_date alone lets the planner skip the partitions after the cursor.
+     */
+    @Query("SELECT * FROM transaction WHERE account_id = :accountId AND booking_date BETWEEN :startDate AND :endDate " +
+            "AND booking_date <= :cursorBookingDate AND (booking_date, transaction_id) < (:cursorBookingDate, :cursorId) " +
+            "ORDER BY booking_date DESC, transaction_id DESC LIMIT :limit")
+    Flux<Transaction> findAccountTransactionsAfter(UUID accountId, LocalDateTime startDate, LocalDateTime endDate,
+                                                   LocalDateTime cursorBookingDate, UUID cursorId, int limit);
+
+    Mono<Long> countByAccountIdAndBookingDateBetween(UUID accountId, LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Keyset pagination: first page of transactions for an account space within a booking date range,
+     * ordered by (booking_date, transaction_id) descending.
+     */
+    @Query("SELECT * FROM transaction WHERE account_space_id = :accountSpaceId AND booking_date BETWEEN :startDate AND :endDate " +
+            "ORDER BY booking_date DESC, transaction_id DESC LIMIT :limit")
+    Flux<Transaction> findAccountSpaceTransactionsFirstPage(UUID accountSpaceId, LocalDateTime startDate, LocalDateTime endDate, int limit);
+
+    /**
+     * Keyset pagination: transactions for an account space within a booking date range that come after
+     * the given (booking_date, transaction_id) position.
+     * The redundant bound on booking_date alone lets the planner skip the partitions after the cursor.
+     */
+    @Query("SELECT * FROM transaction WHERE account_space_id = :accountSpaceId AND booking_date BETWEEN :startDate AND :endDate " +
+            "AND booking_date <= :cursorBookingDate AND (booking_date, transaction_id) < (:cursorBookingDate, :cursorId) " +
+            "ORDER BY booking_date DESC, transaction_id DESC LIMIT :limit")
+    Flux<Transaction> findAccountSpaceTransactionsAfter(UUID accountSpaceId, LocalDateTime startDate, LocalDateTime endDate,
+                                                        LocalDateTime cursorBookingDate, UUID cursorId, int limit);
+
+    Mono<Long> countByAccountSpaceIdAndBookingDateBetween(UUID accountSpaceId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Move the given transactions to a new status in one statement, bumping their row version
+     * like a {@code save} of each entity would.
+     */
+    @Modifying
+    @Query("UPDATE transaction SET transaction_status = :status, row_version = row_version + 1 " +
+            "WHERE transaction_id IN (:transactionIds)")
+    Mono<Long> updateStatuses(Collection<UUID> transactionIds, TransactionStatusEnum status);
+
+    /**
+     * Like {@link #updateStatuses(Collection, TransactionStatusEnum)}, only probing the partitions of the months
+     * between the given booking dates.
+     */
+    @Modifying
+    @Query("UPDATE transaction SET transaction_status = :status, row_version = row_version + 1 " +
+            "WHERE transaction_id IN (:transactionIds) AND booking_date BETWEEN :bookedFrom AND :bookedTo")
+    Mono<Long> updateStatuses(Collection<UUID> transactionIds, TransactionStatusEnum status,
+                              LocalDateTime bookedFrom, LocalDateTime bookedTo);
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.core.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionKeyView;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusChangeView;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom bulk operations for transactions that cannot be expressed as derived or annotated queries.
+ */
+public interface TransactionRepositoryCustom {
+    /**
+     * Insert all transactions using multi-row INSERT statements.
+     * Transaction IDs must be assigned by the caller.
+     *
+     * @return the number of inserted rows
+     */
+    Mono<Long> insertAll(List<Transaction> transactions);
+
+    /**
+     * Insert all transactions whose request ID is not taken yet, using multi-row INSERT statements.
+     * Transactions with an existing request ID are skipped rather than failing the statement,
+     * so the surrounding database transaction can go on to load the original ones.
+     * Transaction IDs must be assigned by the caller.
+     *
+     * @return the inserted transactions, as stored
+     */
+    Flux<Transaction> insertAllIfAbsent(List<Transaction> transactions);
+
+    /**
+     * Stream every transaction of an account, newest booking date first. Rows are pulled from the database
+     * {@code fetchSize} at a time through a cursor, as the subscriber requests them, so the full history is never
+     * materialized.
+     */
+    Flux<Transaction> streamByAccountId(UUID accountId, int fetchSize);
+
+    /**
+     * Stream every transaction of an account space, newest booking date first, {@code fetchSize} rows at a time.
+     *
+     * @see #streamByAccountId(UUID, int)
+     */
+    Flux<Transaction> streamByAccountSpaceId(UUID accountSpaceId, int fetchSize);
+
+    /**
+     * Stream the IDs and booking dates of every transaction of a batch, {@code fetchSize} rows at a time.
+     */
+    Flux<TransactionKeyView> streamKeysByBatchId(String batchId, int fetchSize);
+
+    /**
+     * Move the given transactions to a new status in one statement, bumping their row version like a {@code save}
+     * of each entity would. Transactions already in {@code status}, or not in {@code currentStatus} when it is
+     * given, are left unchanged. Rows are locked in ID order, so concurrent bulk updates cannot deadlock.
+     *
+     * @param bookedWithin the booking dates of the transactions, so only their partitions are probed; null when
+     *                     unknown
+     * @return the updated transactions with their previous status
+     */
+    Flux<TransactionStatusChangeView> updateStatusesReturning(Collection<UUID> transactionIds, TransactionStatusEnum status,
+                                                              TransactionStatusEnum currentStatus, BookingDateRange bookedWithin);
+
+    /**
+     * Move the transactions related to the given ones with the given relation type (e.g. their fees) to a new
+     * status in one statement, like {@link #updateStatusesReturning}. Transactions already in {@code status}
+     * are left unchanged.
+     *
+     * @param bookedWithin the booking dates of the related transactions, null when unknown
+     * @return the updated related transactions with their previous status
+     */
+    Flux<TransactionStatusChangeView> updateRelatedStatusesReturning(Collection<UUID> relatedTransactionIds,
+                                                                     String relationType, TransactionStatusEnum status,
+                                                                     BookingDateRange bookedWithin);
+
+    /**
+     * Find the transactions located within the radius of a point, nearest first.
+     * Candidates are read through the geo cell index and only those are checked against the exact distance.
+     *
+     * @param latitude latitude of the centre, in degrees
+     * @param longitude longitude of the centre, in degrees
+     * @param radiusInKm the radius, in kilometres
+     * @param pageable the page to return; its sort is ignored
+     */
+    Flux<Transaction> findTransactionsWithinRadius(Double latitude, Double longitude, Double radiusInKm, Pageable pageable);
+
+    /**
+     * Count the transactions located within the radius of a point.
+     */
+    Mono<Long> countTransactionsWithinRadius(Double latitude, Double longitude, Double radiusInKm);
+
+    /**
+     * Find the transactions whose description, initiating party or counterparty name (card merchant, direct debit
+     * debtor, SEPA recipient, wire beneficiary, standing order recipient) contains words similar to the query,
+     * best match first. Matching uses the pg_trgm word similarity operator and its trigram indexes.
+     *
+     * @param query the search text
+     * @param pageable the page to return; its sort is ignored
+     */
+    Flux<Transaction> searchTransactions(String query, Pageable pageable);
+
+    /**
+     * Count the transactions matched by {@link #searchTransactions(String, Pageable)}.
+     */
+    Mono<Long> countSearchTransactions(String query);
+
+    /**
+     * Find transactions matching the given criteria; null criteria and empty lists are ignored.
+     * Only the predicates of the given criteria are part of the statement.
+     *
+     * @param referenceNumber substring of the external reference
+     * @param includeReversed true for reversed transactions only, false to exclude them
+     * @param onlyFailed true for failed transactions only
+     * @param onlyPending true for pending transactions only
+     * @param sortBy the property or column to sort by (transactionDate, valueDate, bookingDate, totalAmount,
+     *               currency, transactionStatus); others fall back to transaction date, newest first
+     * @param sortDirection ASC or DESC
+     */
+    Flux<Transaction> findTransactionsByFilter(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            List<String> currencies,
+            List<TransactionTypeEnum> types,
+            List<TransactionStatusEnum> statuses,
+            List<UUID> categoryIds,
+            List<UUID> accountIds,
+            String referenceNumber,
+            String description,
+            String initiatingParty,
+            Boolean includeReversed,
+            Boolean onlyFailed,
+            Boolean onlyPending,
+            Integer pageSize,
+            Integer pageOffset,
+            String sortBy,
+            String sortDirection);
+
+    /**
+     * Count the transactions matching the given criteria, as filtered by {@link #findTransactionsByFilter}.
+     */
+    Mono<Long> countTransactionsByFilter(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            List<String> currencies,
+            List<TransactionTypeEnum> types,
+            List<TransactionStatusEnum> statuses,
+            List<UUID> categoryIds,
+            List<UUID> accountIds,
+            String referenceNumber,
+            String description,
+            String initiatingParty,
+            Boolean includeReversed,
+            Boolean onlyFailed,
+            Boolean onlyPending);
+
+    /**
+     * Find transactions within a transaction date range and currency; null criteria are ignored.
+     */
+    Flux<Transaction> findByDateRangeAndCurrency(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String currency,
+            Pageable pageable);
+
+    /**
+     * Count transactions within a transaction date range and currency; null criteria are ignored.
+     */
+    Mono<Long> countByDateRangeAndCurrency(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String currency);
+}
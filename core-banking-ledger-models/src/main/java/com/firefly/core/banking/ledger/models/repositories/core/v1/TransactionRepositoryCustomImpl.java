@@ -0,0 +1,428 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.core.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.core.v1.Transaction;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionKeyView;
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusChangeView;
+import com.firefly.core.banking.ledger.models.repositories.BookingDateRange;
+import com.firefly.core.banking.ledger.models.repositories.CriteriaQuery;
+import com.firefly.core.banking.ledger.models.repositories.GeoGrid;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link TransactionRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+    private static final MultiRowInsert<Transaction> INSERT = MultiRowInsert.<Transaction>into("transaction")
+            .column("transaction_id", UUID.class, Transaction::getTransactionId)
+            .column("external_reference", String.class, Transaction::getExternalReference)
+            .column("transaction_date", LocalDateTime.class, Transaction::getTransactionDate)
+            .column("value_date", LocalDateTime.class, Transaction::getValueDate)
+            .column("transaction_type", String.class, t -> t.getTransactionType() != null ? t.getTransactionType().name() : null)
+            .column("transaction_status", String.class, t -> t.getTransactionStatus() != null ? t.getTransactionStatus().name() : null)
+            .column("total_amount", BigDecimal.class, Transaction::getTotalAmount)
+            .column("currency", String.class, Transaction::getCurrency)
+            .column("description", String.class, Transaction::getDescription)
+            .column("initiating_party", String.class, Transaction::getInitiatingParty)
+            .column("account_id", UUID.class, Transaction::getAccountId)
+            .column("account_space_id", UUID.class, Transaction::getAccountSpaceId)
+            .column("transaction_category_id", UUID.class, Transaction::getTransactionCategoryId)
+            .column("branch_office_code", String.class, Transaction::getBranchOfficeCode)
+            .column("nif_initiating_party", String.class, Transaction::getNifInitiatingParty)
+            .column("latitude", Double.class, Transaction::getLatitude)
+            .column("longitude", Double.class, Transaction::getLongitude)
+            .column("location_name", String.class, Transaction::getLocationName)
+            .column("country", String.class, Transaction::getCountry)
+            .column("city", String.class, Transaction::getCity)
+            .column("postal_code", String.class, Transaction::getPostalCode)
+            .column("related_transaction_id", UUID.class, Transaction::getRelatedTransactionId)
+            .column("relation_type", String.class, Transaction::getRelationType)
+            .column("request_id", String.class, Transaction::getRequestId)
+            .column("batch_id", String.class, Transaction::getBatchId)
+            .column("booking_date", LocalDateTime.class, Transaction::getBookingDate)
+            .column("aml_risk_score", Integer.class, Transaction::getAmlRiskScore)
+            .column("aml_screening_result", String.class, Transaction::getAmlScreeningResult)
+            .column("aml_large_txn_flag", Boolean.class, Transaction::getAmlLargeTxnFlag)
+            .column("sca_method", String.class, Transaction::getScaMethod)
+            .column("sca_result", String.class, Transaction::getScaResult)
+            .column("instant_flag", Boolean.class, Transaction::getInstantFlag)
+            .column("confirmation_of_payee_result", String.class, Transaction::getConfirmationOfPayeeResult)
+            .column("asset_type", String.class, t -> t.getAssetType() != null ? t.getAssetType().name() : "FIAT")
+            .column("blockchain_network_id", UUID.class, Transaction::getBlockchainNetworkId)
+            .column("blockchain_transaction_hash", String.class, Transaction::getBlockchainTransactionHash)
+            .column("crypto_compliance_check_result", String.class, Transaction::getCryptoComplianceCheckResult)
+            .column("crypto_address_risk_score", Integer.class, Transaction::getCryptoAddressRiskScore)
+            .column("crypto_transaction_source", String.class, Transaction::getCryptoTransactionSource);
+
+    /*
+     * request_id cannot be unique across the partitions of transaction, so its uniqueness lives in
+     * transaction_request_key: a proposed row is only inserted once its request ID has been claimed there.
+     * Within one statement, one of several rows sharing a request ID wins.
+     */
+    private static final String CLAIM_REQUEST_IDS =
+            "claimed AS (INSERT INTO transaction_request_key (request_id, transaction_id) " +
+            "SELECT DISTINCT ON (request_id) request_id, transaction_id FROM proposed WHERE request_id IS NOT NULL " +
+            "ON CONFLICT (request_id) DO NOTHING RETURNING transaction_id)";
+
+    private static final String REQUEST_ID_CLAIMED =
+            "request_id IS NULL OR transaction_id IN (SELECT transaction_id FROM claimed)";
+
+    // Served in index order by the keyset pagination indexes, so the first rows flow without sorting the history
+    private static final String STREAM_BY_ACCOUNT_SQL =
+            "SELECT * FROM transaction WHERE account_id = $1 ORDER BY booking_date DESC, transaction_id DESC";
+
+    private static final String STREAM_BY_ACCOUNT_SPACE_SQL =
+            "SELECT * FROM transaction WHERE account_space_id = $1 ORDER BY booking_date DESC, transaction_id DESC";
+
+    private static final String STREAM_KEYS_BY_BATCH_SQL = "SELECT transaction_id, booking_date FROM transaction WHERE batch_id = $1";
+
+    /*
+     * The previous status is read from the locked rows before the update; the join on booking_date lets each
+     * row be updated in its own partition. The lookup by ID probes every partition unless the second condition
+     * bounds booking_date (BookingDateRange).
+     */
+    private static final String UPDATE_STATUSES_RETURNING_SQL =
+            "UPDATE transaction t SET transaction_status = CAST(:status AS transaction_status_enum), " +
+            "row_version = t.row_version + 1 " +
+            "FROM (SELECT transaction_id, booking_date, transaction_status AS previous_status FROM transaction " +
+            "WHERE %s AND %s AND transaction_status <> CAST(:status AS transaction_status_enum) " +
+            "ORDER BY transaction_id FOR UPDATE) p " +
+            "WHERE t.transaction_id = p.transaction_id AND t.booking_date = p.booking_date " +
+            "RETURNING t.*, p.previous_status::text AS previous_status";
+
+    // Haversine great-circle distance in kilometres; unlike the spherical law of cosines it stays defined for
+    // points that are very close together
+    private static final String DISTANCE_KM =
+            "(2 * " + GeoGrid.EARTH_RADIUS_KM + " * asin(sqrt(" +
+            "power(sin(radians(t.latitude - :latitude) / 2), 2) + " +
+            "cos(radians(:latitude)) * cos(radians(t.latitude)) * power(sin(radians(t.longitude - :longitude) / 2), 2))))";
+
+    /*
+     * Each branch can use the trigram index of its column; a transaction matching several columns is ranked by
+     * its best match.
+     */
+    private static final String SEARCH_MATCHES =
+            "WITH matches AS (" +
+            searchBranch("transaction", "description") +
+            " UNION ALL " + searchBranch("transaction", "initiating_party") +
+            " UNION ALL " + searchBranch("transaction_line_card", "card_merchant_name") +
+            " UNION ALL " + searchBranch("transaction_line_direct_debit", "direct_debit_debtor_name") +
+            " UNION ALL " + searchBranch("transaction_line_sepa_transfer", "sepa_recipient_name") +
+            " UNION ALL " + searchBranch("transaction_line_wire_transfer", "wire_beneficiary_name") +
+            " UNION ALL " + searchBranch("transaction_line_standing_order", "standing_order_recipient_name") +
+            "), ranked AS (SELECT transaction_id, max(score) AS score FROM matches GROUP BY transaction_id) ";
+
+    private static final String SEARCH_SQL = SEARCH_MATCHES +
+            "SELECT t.* FROM ranked r JOIN transaction t ON t.transaction_id = r.transaction_id " +
+            "ORDER BY r.score DESC, t.transaction_id";
+
+    private static final String COUNT_SEARCH_SQL = SEARCH_MATCHES + "SELECT COUNT(*) FROM ranked";
+
+    private static final CriteriaQuery<Transaction> FILTER = CriteriaQuery.<Transaction>select("t.*", "transaction t")
+            .where("startDate", "t.transaction_date >= :startDate")
+            .where("endDate", "t.transaction_date <= :endDate")
+            .where("minAmount", "t.total_amount >= :minAmount")
+            .where("maxAmount", "t.total_amount <= :maxAmount")
+            .where("currencies", "t.currency = ANY(:currencies)")
+            .where("types", "t.transaction_type = ANY(CAST(:types AS transaction_type_enum[]))")
+            .where("statuses", "t.transaction_status = ANY(CAST(:statuses AS transaction_status_enum[]))")
+            .where("categoryIds", "t.transaction_category_id = ANY(:categoryIds)")
+            .where("accountIds", "t.account_id = ANY(:accountIds)")
+            .where("referenceNumber", "t.external_reference LIKE concat('%', :referenceNumber, '%')")
+            .where("description", "t.description LIKE concat('%', :description, '%')")
+            .where("initiatingParty", "t.initiating_party LIKE concat('%', :initiatingParty, '%')")
+            .whereFlag("includeReversed", "t.transaction_status = 'REVERSED'", "t.transaction_status <> 'REVERSED'")
+            .whereFlag("onlyFailed", "t.transaction_status = 'FAILED'", null)
+            .whereFlag("onlyPending", "t.transaction_status = 'PENDING'", null)
+            .where("currency", "t.currency = :currency")
+            .sortable("transactionDate", "t.transaction_date")
+            .sortable("valueDate", "t.value_date")
+            .sortable("bookingDate", "t.booking_date")
+            .sortable("totalAmount", "t.total_amount")
+            .sortable("currency", "t.currency")
+            .sortable("transactionStatus", "t.transaction_status")
+            .orderBy("t.transaction_date DESC, t.transaction_id DESC", "t.transaction_id");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcConverter converter;
+
+    @Override
+    public Mono<Long> insertAll(List<Transaction> transactions) {
+        return INSERT.execute(databaseClient, transactions);
+    }
+
+    @Override
+    public Flux<Transaction> insertAllIfAbsent(List<Transaction> transactions) {
+        return INSERT.executeWhere(databaseClient, transactions, CLAIM_REQUEST_IDS, REQUEST_ID_CLAIMED,
+                (row, metadata) -> converter.read(Transaction.class, row, metadata));
+    }
+
+    @Override
+    public Flux<Transaction> streamByAccountId(UUID accountId, int fetchSize) {
+        return stream(STREAM_BY_ACCOUNT_SQL, accountId, fetchSize);
+    }
+
+    @Override
+    public Flux<Transaction> streamByAccountSpaceId(UUID accountSpaceId, int fetchSize) {
+        return stream(STREAM_BY_ACCOUNT_SPACE_SQL, accountSpaceId, fetchSize);
+    }
+
+    @Override
+    public Flux<TransactionKeyView> streamKeysByBatchId(String batchId, int fetchSize) {
+        return databaseClient.sql(STREAM_KEYS_BY_BATCH_SQL)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind(0, batchId)
+                .map(row -> new TransactionKeyView(row.get(0, UUID.class), row.get(1, LocalDateTime.class)))
+                .all();
+    }
+
+    @Override
+    public Flux<TransactionStatusChangeView> updateStatusesReturning(Collection<UUID> transactionIds,
+                                                                     TransactionStatusEnum status,
+                                                                     TransactionStatusEnum currentStatus,
+                                                                     BookingDateRange bookedWithin) {
+        if (transactionIds.isEmpty()) {
+            return Flux.empty();
+        }
+        String sql = String.format(UPDATE_STATUSES_RETURNING_SQL, currentStatus != null
+                ? "transaction_id = ANY(:transactionIds) AND transaction_status = CAST(:currentStatus AS transaction_status_enum)"
+                : "transaction_id = ANY(:transactionIds)",
+                BookingDateRange.condition(bookedWithin, "booking_date"));
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("status", status.name())
+                .bind("transactionIds", transactionIds.toArray(new UUID[0]));
+        if (currentStatus != null) {
+            spec = spec.bind("currentStatus", currentStatus.name());
+        }
+        return BookingDateRange.bind(spec, bookedWithin).map(this::readStatusChange).all();
+    }
+
+    @Override
+    public Flux<TransactionStatusChangeView> updateRelatedStatusesReturning(Collection<UUID> relatedTransactionIds,
+                                                                            String relationType,
+                                                                            TransactionStatusEnum status,
+                                                                            BookingDateRange bookedWithin) {
+        if (relatedTransactionIds.isEmpty()) {
+            return Flux.empty();
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(String.format(UPDATE_STATUSES_RETURNING_SQL,
+                        "related_transaction_id = ANY(:relatedTransactionIds) AND relation_type = :relationType",
+                        BookingDateRange.condition(bookedWithin, "booking_date")))
+                .bind("status", status.name())
+                .bind("relatedTransactionIds", relatedTransactionIds.toArray(new UUID[0]))
+                .bind("relationType", relationType);
+        return BookingDateRange.bind(spec, bookedWithin)
+                .map(this::readStatusChange)
+                .all();
+    }
+
+    private TransactionStatusChangeView readStatusChange(Row row, RowMetadata metadata) {
+        return new TransactionStatusChangeView(
+                read(row, metadata),
+                TransactionStatusEnum.valueOf(row.get("previous_status", String.class)));
+    }
+
+    private Flux<Transaction> stream(String sql, UUID id, int fetchSize) {
+        return databaseClient.sql(sql)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind(0, id)
+                .map(this::read)
+                .all();
+    }
+
+    @Override
+    public Flux<Transaction> findTransactionsWithinRadius(Double latitude, Double longitude, Double radiusInKm, Pageable pageable) {
+        GeoGrid.BoundingBox box = GeoGrid.boundingBox(latitude, longitude, radiusInKm);
+        StringBuilder sql = new StringBuilder("SELECT t.* FROM transaction t WHERE ")
+                .append(withinRadius(box))
+                .append(" ORDER BY ").append(DISTANCE_KM).append(", t.transaction_id");
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT ").append(pageable.getPageSize()).append(" OFFSET ").append(pageable.getOffset());
+        }
+        return bind(databaseClient.sql(sql.toString()), latitude, longitude, radiusInKm, box)
+                .map((row, metadata) -> converter.read(Transaction.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countTransactionsWithinRadius(Double latitude, Double longitude, Double radiusInKm) {
+        GeoGrid.BoundingBox box = GeoGrid.boundingBox(latitude, longitude, radiusInKm);
+        String sql = "SELECT COUNT(*) FROM transaction t WHERE " + withinRadius(box);
+        return bind(databaseClient.sql(sql), latitude, longitude, radiusInKm, box)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    @Override
+    public Flux<Transaction> findTransactionsByFilter(LocalDateTime startDate, LocalDateTime endDate,
+                                                      BigDecimal minAmount, BigDecimal maxAmount,
+                                                      List<String> currencies, List<TransactionTypeEnum> types,
+                                                      List<TransactionStatusEnum> statuses, List<UUID> categoryIds,
+                                                      List<UUID> accountIds, String referenceNumber,
+                                                      String description, String initiatingParty,
+                                                      Boolean includeReversed, Boolean onlyFailed, Boolean onlyPending,
+                                                      Integer pageSize, Integer pageOffset,
+                                                      String sortBy, String sortDirection) {
+        Sort sort = sortBy != null
+                ? Sort.by(Sort.Direction.fromOptionalString(sortDirection).orElse(Sort.Direction.ASC), sortBy)
+                : Sort.unsorted();
+        return filter(startDate, endDate, minAmount, maxAmount, currencies, types, statuses, categoryIds, accountIds,
+                referenceNumber, description, initiatingParty, includeReversed, onlyFailed, onlyPending)
+                .find(databaseClient, sort, pageSize, pageOffset != null ? pageOffset.longValue() : null, this::read);
+    }
+
+    @Override
+    public Mono<Long> countTransactionsByFilter(LocalDateTime startDate, LocalDateTime endDate,
+                                                BigDecimal minAmount, BigDecimal maxAmount,
+                                                List<String> currencies, List<TransactionTypeEnum> types,
+                                                List<TransactionStatusEnum> statuses, List<UUID> categoryIds,
+                                                List<UUID> accountIds, String referenceNumber,
+                                                String description, String initiatingParty,
+                                                Boolean includeReversed, Boolean onlyFailed, Boolean onlyPending) {
+        return filter(startDate, endDate, minAmount, maxAmount, currencies, types, statuses, categoryIds, accountIds,
+                referenceNumber, description, initiatingParty, includeReversed, onlyFailed, onlyPending)
+                .count(databaseClient);
+    }
+
+    @Override
+    public Flux<Transaction> findByDateRangeAndCurrency(LocalDateTime startDate, LocalDateTime endDate, String currency,
+                                                        Pageable pageable) {
+        return FILTER.search()
+                .with("startDate", startDate)
+                .with("endDate", endDate)
+                .with("currency", currency)
+                .find(databaseClient, pageable, this::read);
+    }
+
+    @Override
+    public Mono<Long> countByDateRangeAndCurrency(LocalDateTime startDate, LocalDateTime endDate, String currency) {
+        return FILTER.search()
+                .with("startDate", startDate)
+                .with("endDate", endDate)
+                .with("currency", currency)
+                .count(databaseClient);
+    }
+
+    private static CriteriaQuery<Transaction>.Search filter(LocalDateTime startDate, LocalDateTime endDate,
+                                                            BigDecimal minAmount, BigDecimal maxAmount,
+                                                            List<String> currencies, List<TransactionTypeEnum> types,
+                                                            List<TransactionStatusEnum> statuses, List<UUID> categoryIds,
+                                                            List<UUID> accountIds, String referenceNumber,
+                                                            String description, String initiatingParty,
+                                                            Boolean includeReversed, Boolean onlyFailed, Boolean onlyPending) {
+        return FILTER.search()
+                .with("startDate", startDate)
+                .with("endDate", endDate)
+                .with("minAmount", minAmount)
+                .with("maxAmount", maxAmount)
+                .with("currencies", currencies)
+                .with("types", types)
+                .with("statuses", statuses)
+                .with("categoryIds", categoryIds)
+                .with("accountIds", accountIds)
+                .with("referenceNumber", referenceNumber)
+                .with("description", description)
+                .with("initiatingParty", initiatingParty)
+                .with("includeReversed", includeReversed)
+                .with("onlyFailed", onlyFailed)
+                .with("onlyPending", onlyPending);
+    }
+
+    private Transaction read(Row row, RowMetadata metadata) {
+        return converter.read(Transaction.class, row, metadata);
+    }
+
+    @Override
+    public Flux<Transaction> searchTransactions(String query, Pageable pageable) {
+        String sql = pageable.isPaged()
+                ? SEARCH_SQL + " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset()
+                : SEARCH_SQL;
+        return databaseClient.sql(sql)
+                .bind("query", query)
+                .map((row, metadata) -> converter.read(Transaction.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countSearchTransactions(String query) {
+        return databaseClient.sql(COUNT_SEARCH_SQL)
+                .bind("query", query)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private static String searchBranch(String table, String column) {
+        return "SELECT transaction_id, word_similarity(:query, " + column + ") AS score FROM " + table +
+                " WHERE :query <% " + column;
+    }
+
+    /*
+     * The cell ranges are computed here and inlined as integer literals: they select the index ranges to scan.
+     * The bounding box is repeated on latitude/longitude so rows of the edge cells outside the box are dropped
+     * from the index entries, and the exact distance is evaluated last.
+     */
+    private static String withinRadius(GeoGrid.BoundingBox box) {
+        String cells = GeoGrid.cellRanges(box).stream()
+                .map(range -> "t.geo_cell BETWEEN " + range.first() + " AND " + range.last())
+                .collect(Collectors.joining(" OR ", "(", ")"));
+        StringBuilder condition = new StringBuilder(cells)
+                .append(" AND t.latitude BETWEEN :minLatitude AND :maxLatitude");
+        if (box.crossesAntimeridian()) {
+            condition.append(" AND (t.longitude >= :minLongitude OR t.longitude <= :maxLongitude)");
+        } else if (!box.coversAllLongitudes()) {
+            condition.append(" AND t.longitude BETWEEN :minLongitude AND :maxLongitude");
+        }
+        return condition.append(" AND ").append(DISTANCE_KM).append(" <= :radiusInKm").toString();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, double latitude,
+                                                          double longitude, double radiusInKm, GeoGrid.BoundingBox box) {
+        spec = spec.bind("latitude", latitude)
+                .bind("longitude", longitude)
+                .bind("radiusInKm", radiusInKm)
+                .bind("minLatitude", box.minLatitude())
+                .bind("maxLatitude", box.maxLatitude());
+        if (!box.coversAllLongitudes()) {
+            spec = spec.bind("minLongitude", box.minLongitude())
+                    .bind("maxLongitude", box.maxLongitude());
+        }
+        return spec;
+    }
+}
@@ -25,7 +25,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
-public interface TransactionStatusHistoryRepository extends BaseRepository<TransactionStatusHistory, UUID> {
+public interface TransactionStatusHistoryRepository extends BaseRepository<TransactionStatusHistory, UUID>, TransactionStatusHistoryRepositoryCustom {
     Flux<TransactionStatusHistory> findByTransactionId(UUID transactionId, Pageable pageable);
     Mono<Long> countByTransactionId(UUID transactionId);
 
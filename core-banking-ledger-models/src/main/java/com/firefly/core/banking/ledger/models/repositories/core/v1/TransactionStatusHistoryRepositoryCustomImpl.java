@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.core.v1;
+
+import com.firefly.core.banking.ledger.models.entities.core.v1.TransactionStatusHistory;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionStatusHistoryRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionStatusHistoryRepositoryCustomImpl implements TransactionStatusHistoryRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionStatusHistory> INSERT = MultiRowInsert.<TransactionStatusHistory>into("transaction_status_history")
+            .column("transaction_status_history_id", UUID.class, h -> h.getTransactionStatusHistoryId() != null ? h.getTransactionStatusHistoryId() : UUID.randomUUID())
+            .column("transaction_id", UUID.class, TransactionStatusHistory::getTransactionId)
+            .column("status_code", String.class, h -> h.getStatusCode() != null ? h.getStatusCode().name() : null)
+            .column("status_start_datetime", LocalDateTime.class, TransactionStatusHistory::getStatusStartDatetime)
+            .column("status_end_datetime", LocalDateTime.class, TransactionStatusHistory::getStatusEndDatetime)
+            .column("reason", String.class, TransactionStatusHistory::getReason)
+            .column("regulated_reporting_flag", Boolean.class, TransactionStatusHistory::getRegulatedReportingFlag);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionStatusHistory> statusHistories) {
+        return INSERT.execute(databaseClient, statusHistories);
+    }
+}
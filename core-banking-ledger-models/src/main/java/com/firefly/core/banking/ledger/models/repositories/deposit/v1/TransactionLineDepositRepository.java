@@ -32,7 +32,8 @@ import java.time.LocalDateTime;
 /**
  * Repository interface for TransactionLineDeposit entity.
  */
-public interface TransactionLineDepositRepository extends BaseRepository<TransactionLineDeposit, UUID> {
+public interface TransactionLineDepositRepository extends BaseRepository<TransactionLineDeposit, UUID>,
+        TransactionLineDepositRepositoryCustom {
     /**
      * Find deposit transaction line by transaction ID.
      *
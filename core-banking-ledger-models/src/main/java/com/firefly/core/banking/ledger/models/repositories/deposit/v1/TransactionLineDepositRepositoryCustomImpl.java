@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.deposit.v1;
+
+import com.firefly.core.banking.ledger.models.entities.deposit.v1.TransactionLineDeposit;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineDepositRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineDepositRepositoryCustomImpl implements TransactionLineDepositRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLineDeposit> INSERT =
+            MultiRowInsert.<TransactionLineDeposit>into("transaction_line_deposit")
+                    .column("transaction_line_deposit_id", UUID.class,
+                            l -> l.getTransactionLineDepositId() != null ? l.getTransactionLineDepositId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineDeposit::getTransactionId)
+                    .column("deposit_method", String.class, TransactionLineDeposit::getDepositMethod)
+                    .column("deposit_reference", String.class, TransactionLineDeposit::getDepositReference)
+                    .column("deposit_location", String.class, TransactionLineDeposit::getDepositLocation)
+                    .column("deposit_notes", String.class, TransactionLineDeposit::getDepositNotes)
+                    .column("deposit_confirmation_code", String.class, TransactionLineDeposit::getDepositConfirmationCode)
+                    .column("deposit_receipt_number", String.class, TransactionLineDeposit::getDepositReceiptNumber)
+                    .column("deposit_atm_id", String.class, TransactionLineDeposit::getDepositAtmId)
+                    .column("deposit_branch_id", String.class, TransactionLineDeposit::getDepositBranchId)
+                    .column("deposit_cash_amount", BigDecimal.class, TransactionLineDeposit::getDepositCashAmount)
+                    .column("deposit_check_amount", BigDecimal.class, TransactionLineDeposit::getDepositCheckAmount)
+                    .column("deposit_check_number", String.class, TransactionLineDeposit::getDepositCheckNumber)
+                    .column("deposit_check_date", LocalDate.class, TransactionLineDeposit::getDepositCheckDate)
+                    .column("deposit_check_bank", String.class, TransactionLineDeposit::getDepositCheckBank)
+                    .column("deposit_timestamp", LocalDateTime.class, TransactionLineDeposit::getDepositTimestamp)
+                    .column("deposit_processed_by", String.class, TransactionLineDeposit::getDepositProcessedBy)
+                    .column("deposit_spanish_tax_code", String.class, TransactionLineDeposit::getDepositSpanishTaxCode);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineDeposit> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+}
@@ -19,19 +19,22 @@ package com.firefly.core.banking.ledger.models.repositories.directdebit.v1;
 
 import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitProcessingStatusEnum;
 import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitSequenceTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.DirectDebitMandateHistoryView;
 import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
 import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 
+import java.util.Collection;
 import java.util.UUID;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
-public interface TransactionLineDirectDebitRepository extends BaseRepository<TransactionLineDirectDebit, UUID> {
+public interface TransactionLineDirectDebitRepository extends BaseRepository<TransactionLineDirectDebit, UUID>,
+        TransactionLineDirectDebitRepositoryCustom {
 
     Mono<TransactionLineDirectDebit> findByTransactionId(UUID transactionId);
 
@@ -84,59 +87,6 @@ public interface TransactionLineDirectDebitRepository extends BaseRepository<Tra
             DirectDebitSequenceTypeEnum sequenceType,
             DirectDebitProcessingStatusEnum status);
 
-    @Query("SELECT tldd.* FROM transaction_line_direct_debit tldd " +
-            "JOIN transaction t ON t.transaction_id = tldd.transaction_id " +
-            "WHERE (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount) " +
-            "AND (:mandateId IS NULL OR tldd.direct_debit_mandate_id = :mandateId) " +
-            "AND (:creditorId IS NULL OR tldd.direct_debit_creditor_id = :creditorId) " +
-            "AND (:debtorName IS NULL OR tldd.direct_debit_debtor_name ILIKE concat('%', :debtorName, '%')) " +
-            "AND (:processingStatus IS NULL OR tldd.direct_debit_processing_status = :processingStatus) " +
-            "AND (:sequenceType IS NULL OR tldd.direct_debit_sequence_type = :sequenceType) " +
-            "AND (:dueDateStart IS NULL OR tldd.direct_debit_due_date >= :dueDateStart) " +
-            "AND (:dueDateEnd IS NULL OR tldd.direct_debit_due_date <= :dueDateEnd) " +
-            "AND (:isRevoked IS NULL OR " +
-            "     CASE WHEN :isRevoked = true THEN tldd.direct_debit_revocation_date IS NOT NULL " +
-            "          ELSE tldd.direct_debit_revocation_date IS NULL END)")
-    Flux<TransactionLineDirectDebit> findByCustomCriteria(
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            String mandateId,
-            String creditorId,
-            String debtorName,
-            DirectDebitProcessingStatusEnum processingStatus,
-            DirectDebitSequenceTypeEnum sequenceType,
-            LocalDate dueDateStart,
-            LocalDate dueDateEnd,
-            Boolean isRevoked,
-            Pageable pageable);
-
-    @Query("SELECT COUNT(*) FROM transaction_line_direct_debit tldd " +
-            "JOIN transaction t ON t.transaction_id = tldd.transaction_id " +
-            "WHERE (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount) " +
-            "AND (:mandateId IS NULL OR tldd.direct_debit_mandate_id = :mandateId) " +
-            "AND (:creditorId IS NULL OR tldd.direct_debit_creditor_id = :creditorId) " +
-            "AND (:debtorName IS NULL OR tldd.direct_debit_debtor_name ILIKE concat('%', :debtorName, '%')) " +
-            "AND (:processingStatus IS NULL OR tldd.direct_debit_processing_status = :processingStatus) " +
-            "AND (:sequenceType IS NULL OR tldd.direct_debit_sequence_type = :sequenceType) " +
-            "AND (:dueDateStart IS NULL OR tldd.direct_debit_due_date >= :dueDateStart) " +
-            "AND (:dueDateEnd IS NULL OR tldd.direct_debit_due_date <= :dueDateEnd) " +
-            "AND (:isRevoked IS NULL OR " +
-            "     CASE WHEN :isRevoked = true THEN tldd.direct_debit_revocation_date IS NOT NULL " +
-            "          ELSE tldd.direct_debit_revocation_date IS NULL END)")
-    Mono<Long> countByCustomCriteria(
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            String mandateId,
-            String creditorId,
-            String debtorName,
-            DirectDebitProcessingStatusEnum processingStatus,
-            DirectDebitSequenceTypeEnum sequenceType,
-            LocalDate dueDateStart,
-            LocalDate dueDateEnd,
-            Boolean isRevoked);
-
     @Query("SELECT * FROM transaction_line_direct_debit " +
             "WHERE direct_debit_processing_status = 'INITIATED' " +
             "AND direct_debit_due_date <= :date " +
@@ -181,4 +131,47 @@ public interface TransactionLineDirectDebitRepository extends BaseRepository<Tra
             "AND direct_debit_processing_status = 'COMPLETED'")
     Mono<Long> countCompletedRecurringByMandate(String mandateId);
 
+    /**
+     * Claim a page of collectable debits due on or before {@code date}.
+     * <p>
+     * Only the first collectable debit of each mandate is returned (ordered FRST/OOFF, RCUR, FNAL, then by due
+     * date), so a mandate's collections are processed in sequence even by concurrent workers or replicas: the
+     * next one becomes claimable once the previous one has been committed. Rows are locked with
+     * {@code FOR UPDATE SKIP LOCKED} until the surrounding transaction ends.
+     */
+    @Query("SELECT d.* FROM transaction_line_direct_debit d " +
+            "WHERE d.direct_debit_processing_status = 'INITIATED' " +
+            "AND d.direct_debit_due_date <= :date " +
+            "AND d.direct_debit_revocation_date IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM transaction_line_direct_debit p " +
+            "    WHERE p.direct_debit_mandate_id = d.direct_debit_mandate_id " +
+            "    AND p.direct_debit_processing_status = 'INITIATED' " +
+            "    AND p.direct_debit_revocation_date IS NULL " +
+            "    AND (CASE p.direct_debit_sequence_type WHEN 'RCUR' THEN 1 WHEN 'FNAL' THEN 2 ELSE 0 END, " +
+            "         p.direct_debit_due_date, p.transaction_line_direct_debit_id) " +
+            "      < (CASE d.direct_debit_sequence_type WHEN 'RCUR' THEN 1 WHEN 'FNAL' THEN 2 ELSE 0 END, " +
+            "         d.direct_debit_due_date, d.transaction_line_direct_debit_id)) " +
+            "ORDER BY d.direct_debit_due_date " +
+            "LIMIT :limit FOR UPDATE OF d SKIP LOCKED")
+    Flux<TransactionLineDirectDebit> claimCollectableDirectDebits(LocalDate date, int limit);
+
+    /**
+     * Summarize the completed collections of the given mandates. Mandates without any are not returned.
+     */
+    @Query("SELECT direct_debit_mandate_id AS mandate_id, " +
+            "COUNT(*) AS completed_collections, " +
+            "bool_or(direct_debit_sequence_type = 'FNAL') AS finalized " +
+            "FROM transaction_line_direct_debit " +
+            "WHERE direct_debit_mandate_id IN (:mandateIds) " +
+            "AND direct_debit_processing_status = 'COMPLETED' " +
+            "GROUP BY direct_debit_mandate_id")
+    Flux<DirectDebitMandateHistoryView> findMandateHistories(Collection<String> mandateIds);
+
+    /**
+     * Move the given debits to a new processing status.
+     */
+    @Modifying
+    @Query("UPDATE transaction_line_direct_debit SET direct_debit_processing_status = :status " +
+            "WHERE transaction_line_direct_debit_id IN (:ids)")
+    Mono<Long> updateProcessingStatus(Collection<UUID> ids, DirectDebitProcessingStatusEnum status);
 }
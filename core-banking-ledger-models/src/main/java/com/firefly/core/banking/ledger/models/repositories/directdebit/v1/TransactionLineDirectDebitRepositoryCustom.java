@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.directdebit.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitProcessingStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitSequenceTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Custom queries and writes for direct debit lines that cannot be expressed as derived or annotated queries.
+ */
+public interface TransactionLineDirectDebitRepositoryCustom {
+    /**
+     * Find direct debit lines matching the given criteria; null criteria are ignored.
+     * Only the predicates of the given criteria are part of the statement, ordered by the page's sort when it
+     * uses a sortable property.
+     */
+    Flux<TransactionLineDirectDebit> findByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String mandateId,
+            String creditorId,
+            String debtorName,
+            DirectDebitProcessingStatusEnum processingStatus,
+            DirectDebitSequenceTypeEnum sequenceType,
+            LocalDate dueDateStart,
+            LocalDate dueDateEnd,
+            Boolean isRevoked,
+            Pageable pageable);
+
+    /**
+     * Count the direct debit lines matching the given criteria; null criteria are ignored.
+     */
+    Mono<Long> countByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String mandateId,
+            String creditorId,
+            String debtorName,
+            DirectDebitProcessingStatusEnum processingStatus,
+            DirectDebitSequenceTypeEnum sequenceType,
+            LocalDate dueDateStart,
+            LocalDate dueDateEnd,
+            Boolean isRevoked);
+
+    /**
+     * Insert all direct debit lines with multi-row INSERT statements.
+     *
+     * @param lines The direct debit lines to insert; lines without an ID get a generated one
+     * @return A Mono containing the number of inserted rows
+     */
+    Mono<Long> insertAll(List<TransactionLineDirectDebit> lines);
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.directdebit.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitProcessingStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.directdebit.v1.DirectDebitSequenceTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.directdebit.v1.TransactionLineDirectDebit;
+import com.firefly.core.banking.ledger.models.repositories.CriteriaQuery;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineDirectDebitRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineDirectDebitRepositoryCustomImpl implements TransactionLineDirectDebitRepositoryCustom {
+
+    private static final CriteriaQuery<TransactionLineDirectDebit> CRITERIA = CriteriaQuery.<TransactionLineDirectDebit>select(
+                    "tldd.*",
+                    "transaction_line_direct_debit tldd JOIN transaction t ON t.transaction_id = tldd.transaction_id")
+            .where("minAmount", "t.total_amount >= :minAmount")
+            .where("maxAmount", "t.total_amount <= :maxAmount")
+            .where("mandateId", "tldd.direct_debit_mandate_id = :mandateId")
+            .where("creditorId", "tldd.direct_debit_creditor_id = :creditorId")
+            .where("debtorName", "tldd.direct_debit_debtor_name ILIKE concat('%', :debtorName, '%')")
+            .where("processingStatus", "tldd.direct_debit_processing_status = :processingStatus")
+            .where("sequenceType", "tldd.direct_debit_sequence_type = :sequenceType")
+            .where("dueDateStart", "tldd.direct_debit_due_date >= :dueDateStart")
+            .where("dueDateEnd", "tldd.direct_debit_due_date <= :dueDateEnd")
+            .whereFlag("isRevoked", "tldd.direct_debit_revocation_date IS NOT NULL", "tldd.direct_debit_revocation_date IS NULL")
+            .sortable("directDebitDueDate", "tldd.direct_debit_due_date")
+            .sortable("directDebitDebtorName", "tldd.direct_debit_debtor_name")
+            .sortable("totalAmount", "t.total_amount")
+            .orderBy("tldd.direct_debit_due_date DESC, tldd.transaction_line_direct_debit_id DESC", "tldd.transaction_line_direct_debit_id");
+
+    private static final MultiRowInsert<TransactionLineDirectDebit> INSERT =
+            MultiRowInsert.<TransactionLineDirectDebit>into("transaction_line_direct_debit")
+                    .column("transaction_line_direct_debit_id", UUID.class,
+                            l -> l.getTransactionLineDirectDebitId() != null ? l.getTransactionLineDirectDebitId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineDirectDebit::getTransactionId)
+                    .column("direct_debit_mandate_id", String.class, TransactionLineDirectDebit::getDirectDebitMandateId)
+                    .column("direct_debit_creditor_id", String.class, TransactionLineDirectDebit::getDirectDebitCreditorId)
+                    .column("direct_debit_reference", String.class, TransactionLineDirectDebit::getDirectDebitReference)
+                    .column("direct_debit_sequence_type", String.class,
+                            l -> l.getDirectDebitSequenceType() != null ? l.getDirectDebitSequenceType().name() : null)
+                    .column("direct_debit_due_date", LocalDate.class, TransactionLineDirectDebit::getDirectDebitDueDate)
+                    .column("direct_debit_payment_method", String.class, TransactionLineDirectDebit::getDirectDebitPaymentMethod)
+                    .column("direct_debit_debtor_name", String.class, TransactionLineDirectDebit::getDirectDebitDebtorName)
+                    .column("direct_debit_debtor_address", String.class, TransactionLineDirectDebit::getDirectDebitDebtorAddress)
+                    .column("direct_debit_debtor_contact", String.class, TransactionLineDirectDebit::getDirectDebitDebtorContact)
+                    .column("direct_debit_processing_status", String.class,
+                            l -> l.getDirectDebitProcessingStatus() != null ? l.getDirectDebitProcessingStatus().name() : null)
+                    .column("direct_debit_authorization_date", LocalDateTime.class, TransactionLineDirectDebit::getDirectDebitAuthorizationDate)
+                    .column("direct_debit_revocation_date", LocalDateTime.class, TransactionLineDirectDebit::getDirectDebitRevocationDate)
+                    .column("direct_debit_spanish_scheme", String.class,
+                            l -> l.getDirectDebitSpanishScheme() != null ? l.getDirectDebitSpanishScheme().name() : null);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcConverter converter;
+
+    @Override
+    public Flux<TransactionLineDirectDebit> findByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String mandateId,
+            String creditorId,
+            String debtorName,
+            DirectDebitProcessingStatusEnum processingStatus,
+            DirectDebitSequenceTypeEnum sequenceType,
+            LocalDate dueDateStart,
+            LocalDate dueDateEnd,
+            Boolean isRevoked,
+            Pageable pageable) {
+        return criteria(minAmount, maxAmount, mandateId, creditorId, debtorName, processingStatus, sequenceType,
+                dueDateStart, dueDateEnd, isRevoked)
+                .find(databaseClient, pageable, (row, metadata) -> converter.read(TransactionLineDirectDebit.class, row, metadata));
+    }
+
+    @Override
+    public Mono<Long> countByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String mandateId,
+            String creditorId,
+            String debtorName,
+            DirectDebitProcessingStatusEnum processingStatus,
+            DirectDebitSequenceTypeEnum sequenceType,
+            LocalDate dueDateStart,
+            LocalDate dueDateEnd,
+            Boolean isRevoked) {
+        return criteria(minAmount, maxAmount, mandateId, creditorId, debtorName, processingStatus, sequenceType,
+                dueDateStart, dueDateEnd, isRevoked)
+                .count(databaseClient);
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineDirectDebit> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+
+    private static CriteriaQuery<TransactionLineDirectDebit>.Search criteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String mandateId,
+            String creditorId,
+            String debtorName,
+            DirectDebitProcessingStatusEnum processingStatus,
+            DirectDebitSequenceTypeEnum sequenceType,
+            LocalDate dueDateStart,
+            LocalDate dueDateEnd,
+            Boolean isRevoked) {
+        return CRITERIA.search()
+                .with("minAmount", minAmount)
+                .with("maxAmount", maxAmount)
+                .with("mandateId", mandateId)
+                .with("creditorId", creditorId)
+                .with("debtorName", debtorName)
+                .with("processingStatus", processingStatus)
+                .with("sequenceType", sequenceType)
+                .with("dueDateStart", dueDateStart)
+                .with("dueDateEnd", dueDateEnd)
+                .with("isRevoked", isRevoked);
+    }
+}
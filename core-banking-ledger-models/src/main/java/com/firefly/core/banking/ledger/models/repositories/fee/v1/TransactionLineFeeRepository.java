@@ -32,7 +32,8 @@ import java.time.LocalDateTime;
 /**
  * Repository interface for TransactionLineFee entity.
  */
-public interface TransactionLineFeeRepository extends BaseRepository<TransactionLineFee, UUID> {
+public interface TransactionLineFeeRepository extends BaseRepository<TransactionLineFee, UUID>,
+        TransactionLineFeeRepositoryCustom {
     /**
      * Find fee transaction line by transaction ID.
      *
@@ -75,7 +76,7 @@ public interface TransactionLineFeeRepository extends BaseRepository<Transaction
             "WHERE fee_related_transaction_id = :relatedTransactionId " +
             "ORDER BY fee_timestamp DESC " +
             "LIMIT :#{#pageable.pageSize} OFFSET :#{#pageable.offset}")
-    Flux<TransactionLineFee> findByFeeRelatedTransactionId(Long relatedTransactionId, Pageable pageable);
+    Flux<TransactionLineFee> findByFeeRelatedTransactionId(UUID relatedTransactionId, Pageable pageable);
 
     /**
      * Count fee transaction lines by related transaction ID.
@@ -85,7 +86,7 @@ public interface TransactionLineFeeRepository extends BaseRepository<Transaction
      */
     @Query("SELECT COUNT(*) FROM transaction_line_fee " +
             "WHERE fee_related_transaction_id = :relatedTransactionId")
-    Mono<Long> countByFeeRelatedTransactionId(Long relatedTransactionId);
+    Mono<Long> countByFeeRelatedTransactionId(UUID relatedTransactionId);
 
     /**
      * Find fee transaction lines by waived status.
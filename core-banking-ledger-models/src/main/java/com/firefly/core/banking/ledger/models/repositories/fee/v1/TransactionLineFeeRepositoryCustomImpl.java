@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.fee.v1;
+
+import com.firefly.core.banking.ledger.models.entities.fee.v1.TransactionLineFee;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineFeeRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineFeeRepositoryCustomImpl implements TransactionLineFeeRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLineFee> INSERT =
+            MultiRowInsert.<TransactionLineFee>into("transaction_line_fee")
+                    .column("transaction_line_fee_id", UUID.class,
+                            l -> l.getTransactionLineFeeId() != null ? l.getTransactionLineFeeId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineFee::getTransactionId)
+                    .column("fee_type", String.class, TransactionLineFee::getFeeType)
+                    .column("fee_description", String.class, TransactionLineFee::getFeeDescription)
+                    .column("fee_reference", String.class, TransactionLineFee::getFeeReference)
+                    .column("fee_related_transaction_id", UUID.class, TransactionLineFee::getFeeRelatedTransactionId)
+                    .column("fee_related_service", String.class, TransactionLineFee::getFeeRelatedService)
+                    .column("fee_calculation_method", String.class, TransactionLineFee::getFeeCalculationMethod)
+                    .column("fee_calculation_base", BigDecimal.class, TransactionLineFee::getFeeCalculationBase)
+                    .column("fee_rate_percentage", BigDecimal.class, TransactionLineFee::getFeeRatePercentage)
+                    .column("fee_fixed_amount", BigDecimal.class, TransactionLineFee::getFeeFixedAmount)
+                    .column("fee_currency", String.class, TransactionLineFee::getFeeCurrency)
+                    .column("fee_waived", Boolean.class, l -> l.getFeeWaived() != null ? l.getFeeWaived() : Boolean.FALSE)
+                    .column("fee_waiver_reason", String.class, TransactionLineFee::getFeeWaiverReason)
+                    .column("fee_waiver_authorized_by", String.class, TransactionLineFee::getFeeWaiverAuthorizedBy)
+                    .column("fee_timestamp", LocalDateTime.class, TransactionLineFee::getFeeTimestamp)
+                    .column("fee_processed_by", String.class, TransactionLineFee::getFeeProcessedBy)
+                    .column("fee_spanish_tax_code", String.class, TransactionLineFee::getFeeSpanishTaxCode);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineFee> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.interest.v1;
+
+import com.firefly.core.banking.ledger.models.entities.interest.v1.AccountInterestTerms;
+import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for AccountInterestTerms entity.
+ */
+public interface AccountInterestTermsRepository extends BaseRepository<AccountInterestTerms, UUID>,
+        AccountInterestTermsRepositoryCustom {
+    /**
+     * Find the interest terms of an account, in every currency.
+     */
+    Flux<AccountInterestTerms> findByAccountId(UUID accountId);
+}
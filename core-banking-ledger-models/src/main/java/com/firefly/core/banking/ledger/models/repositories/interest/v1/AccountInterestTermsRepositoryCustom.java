@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.interest.v1;
+
+import com.firefly.core.banking.ledger.models.entities.interest.v1.InterestAccrualView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom claim and bulk operations for interest terms, used by the interest accrual engine.
+ */
+public interface AccountInterestTermsRepositoryCustom {
+    /**
+     * Lock up to {@code limit} terms with a day to accrue on or before {@code throughDate}, oldest day first,
+     * each with the account's closing balance on its next accrual date.
+     * <p>
+     * Rows are locked with {@code FOR UPDATE SKIP LOCKED}, so the lock lasts until the surrounding transaction
+     * ends and concurrent claimers skip them instead of waiting. Only terms whose account ID hashes to
+     * {@code partition} modulo {@code partitionCount} are returned.
+     *
+     * @param excludedIds terms to skip (e.g. those that already failed in the current run)
+     */
+    Flux<InterestAccrualView> claimDueTerms(LocalDate throughDate, int partitionCount, int partition,
+                                            Collection<UUID> excludedIds, int limit);
+
+    /**
+     * Lock a single terms row if it still has a day to accrue, skipping it if another claimer holds it.
+     */
+    Mono<InterestAccrualView> claimDueTerm(UUID accountInterestTermsId, LocalDate throughDate);
+
+    /**
+     * Record one accrued day on each terms row in a single statement: the next accrual date moves one day
+     * forward and the carried amount is replaced. The lists are positional.
+     *
+     * @return the number of updated terms
+     */
+    Mono<Long> advanceAccruals(List<UUID> accountInterestTermsIds, List<BigDecimal> carriedAmounts);
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.interest.v1;
+
+import com.firefly.core.banking.ledger.models.entities.interest.v1.AccountInterestTerms;
+import com.firefly.core.banking.ledger.models.entities.interest.v1.InterestAccrualView;
+import com.firefly.core.banking.ledger.models.repositories.HashShards;
+import com.firefly.core.banking.ledger.models.repositories.balance.v1.AccountBalanceSnapshotRepository;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link AccountInterestTermsRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class AccountInterestTermsRepositoryCustomImpl implements AccountInterestTermsRepositoryCustom {
+
+    private static final String DUE_CONDITION =
+            "next_accrual_date <= :throughDate " +
+            "AND (end_date IS NULL OR next_accrual_date <= end_date) ";
+
+    // Balance by value date up to the end of the next accrual date, from the nearest valid snapshot
+    private static final String ACCRUAL_BALANCE =
+            AccountBalanceSnapshotRepository.balanceBeforeSql("c.account_id", "c.currency", "c.next_accrual_date + 1") +
+            " AS accrual_balance";
+
+    // Terms are partitioned by account, so the terms of one account are never accrued concurrently
+    private static final String CLAIM_DUE_SQL =
+            "WITH c AS (" + HashShards.claimSql("account_interest_terms", DUE_CONDITION, "account_id::text",
+                    "account_interest_terms_id", "next_accrual_date") + ") " +
+            "SELECT c.*, " + ACCRUAL_BALANCE + " FROM c";
+
+    private static final String CLAIM_ONE_SQL =
+            "WITH c AS (SELECT * FROM account_interest_terms " +
+            "WHERE account_interest_terms_id = :id AND " + DUE_CONDITION +
+            "FOR UPDATE SKIP LOCKED) " +
+            "SELECT c.*, " + ACCRUAL_BALANCE + " FROM c";
+
+    private static final String ADVANCE_SQL =
+            "UPDATE account_interest_terms t SET " +
+            "next_accrual_date = t.next_accrual_date + 1, " +
+            "carried_amount = v.carried_amount, " +
+            "date_updated = CURRENT_TIMESTAMP " +
+            "FROM unnest(CAST(:ids AS uuid[]), CAST(:carriedAmounts AS numeric[])) AS v(id, carried_amount) " +
+            "WHERE t.account_interest_terms_id = v.id";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcConverter converter;
+
+    @Override
+    public Flux<InterestAccrualView> claimDueTerms(LocalDate throughDate, int partitionCount, int partition,
+                                                   Collection<UUID> excludedIds, int limit) {
+        return databaseClient.sql(CLAIM_DUE_SQL)
+                .bind("throughDate", throughDate)
+                .bind("shardCount", partitionCount)
+                .bind("shardIndex", partition)
+                .bind("excludedIds", excludedIds.toArray(new UUID[0]))
+                .bind("limit", limit)
+                .map(this::toView)
+                .all();
+    }
+
+    @Override
+    public Mono<InterestAccrualView> claimDueTerm(UUID accountInterestTermsId, LocalDate throughDate) {
+        return databaseClient.sql(CLAIM_ONE_SQL)
+                .bind("id", accountInterestTermsId)
+                .bind("throughDate", throughDate)
+                .map(this::toView)
+                .one();
+    }
+
+    @Override
+    public Mono<Long> advanceAccruals(List<UUID> accountInterestTermsIds, List<BigDecimal> carriedAmounts) {
+        if (accountInterestTermsIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(ADVANCE_SQL)
+                .bind("ids", accountInterestTermsIds.toArray(new UUID[0]))
+                .bind("carriedAmounts", carriedAmounts.toArray(new BigDecimal[0]))
+                .fetch()
+                .rowsUpdated()
+                .map(Number::longValue);
+    }
+
+    private InterestAccrualView toView(Row row, RowMetadata metadata) {
+        return new InterestAccrualView(
+                converter.read(AccountInterestTerms.class, row, metadata),
+                row.get("accrual_balance", BigDecimal.class));
+    }
+}
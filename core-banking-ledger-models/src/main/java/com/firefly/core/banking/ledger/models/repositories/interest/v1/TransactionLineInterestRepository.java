@@ -26,14 +26,13 @@ import reactor.core.publisher.Mono;
 
 
 import java.util.UUID;
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 /**
  * Repository interface for TransactionLineInterest entity.
  */
-public interface TransactionLineInterestRepository extends BaseRepository<TransactionLineInterest, UUID> {
+public interface TransactionLineInterestRepository extends BaseRepository<TransactionLineInterest, UUID>,
+        TransactionLineInterestRepositoryCustom {
     /**
      * Find interest transaction line by transaction ID.
      *
@@ -115,59 +114,4 @@ public interface TransactionLineInterestRepository extends BaseRepository<Transa
             "AND interest_accrual_end_date <= :endDate")
     Mono<Long> countByAccrualPeriod(LocalDate startDate, LocalDate endDate);
 
-    /**
-     * Find interest transaction lines by custom criteria.
-     *
-     * @param startDate The start date for the search
-     * @param endDate The end date for the search
-     * @param interestType The interest type
-     * @param relatedAccountId The related account ID
-     * @param minRate The minimum interest rate
-     * @param maxRate The maximum interest rate
-     * @param pageable Pagination information
-     * @return A Flux of interest transaction lines
-     */
-    @Query("SELECT tli.* FROM transaction_line_interest tli " +
-            "WHERE (:startDate IS NULL OR tli.interest_timestamp >= :startDate) " +
-            "AND (:endDate IS NULL OR tli.interest_timestamp <= :endDate) " +
-            "AND (:interestType IS NULL OR tli.interest_type = :interestType) " +
-            "AND (:relatedAccountId IS NULL OR tli.interest_related_account_id = :relatedAccountId) " +
-            "AND (:minRate IS NULL OR tli.interest_rate_percentage >= :minRate) " +
-            "AND (:maxRate IS NULL OR tli.interest_rate_percentage <= :maxRate) " +
-            "ORDER BY tli.interest_timestamp DESC " +
-            "LIMIT :#{#pageable.pageSize} OFFSET :#{#pageable.offset}")
-    Flux<TransactionLineInterest> findByCustomCriteria(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            String interestType,
-            Long relatedAccountId,
-            BigDecimal minRate,
-            BigDecimal maxRate,
-            Pageable pageable);
-
-    /**
-     * Count interest transaction lines by custom criteria.
-     *
-     * @param startDate The start date for the search
-     * @param endDate The end date for the search
-     * @param interestType The interest type
-     * @param relatedAccountId The related account ID
-     * @param minRate The minimum interest rate
-     * @param maxRate The maximum interest rate
-     * @return A Mono containing the count
-     */
-    @Query("SELECT COUNT(*) FROM transaction_line_interest tli " +
-            "WHERE (:startDate IS NULL OR tli.interest_timestamp >= :startDate) " +
-            "AND (:endDate IS NULL OR tli.interest_timestamp <= :endDate) " +
-            "AND (:interestType IS NULL OR tli.interest_type = :interestType) " +
-            "AND (:relatedAccountId IS NULL OR tli.interest_related_account_id = :relatedAccountId) " +
-            "AND (:minRate IS NULL OR tli.interest_rate_percentage >= :minRate) " +
-            "AND (:maxRate IS NULL OR tli.interest_rate_percentage <= :maxRate)")
-    Mono<Long> countByCustomCriteria(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            String interestType,
-            Long relatedAccountId,
-            BigDecimal minRate,
-            BigDecimal maxRate);
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.interest.v1;
+
+import com.firefly.core.banking.ledger.models.entities.interest.v1.TransactionLineInterest;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom queries for interest lines that cannot be expressed as derived or annotated queries.
+ */
+public interface TransactionLineInterestRepositoryCustom {
+    /**
+     * Find interest transaction lines by custom criteria.
+     *
+     * @param startDate The start date for the search
+     * @param endDate The end date for the search
+     * @param interestType The interest type
+     * @param relatedAccountId The related account ID
+     * @param minRate The minimum interest rate
+     * @param maxRate The maximum interest rate
+     * @param pageable Pagination information
+     * @return A Flux of interest transaction lines
+     */
+    Flux<TransactionLineInterest> findByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String interestType,
+            Long relatedAccountId,
+            BigDecimal minRate,
+            BigDecimal maxRate,
+            Pageable pageable);
+
+    /**
+     * Count interest transaction lines by custom criteria.
+     *
+     * @param startDate The start date for the search
+     * @param endDate The end date for the search
+     * @param interestType The interest type
+     * @param relatedAccountId The related account ID
+     * @param minRate The minimum interest rate
+     * @param maxRate The maximum interest rate
+     * @return A Mono containing the count
+     */
+    Mono<Long> countByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String interestType,
+            Long relatedAccountId,
+            BigDecimal minRate,
+            BigDecimal maxRate);
+
+    /**
+     * Insert all interest lines using multi-row INSERT statements.
+     *
+     * @return the number of inserted rows
+     */
+    Mono<Long> insertAll(List<TransactionLineInterest> lines);
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.interest.v1;
+
+import com.firefly.core.banking.ledger.models.entities.interest.v1.TransactionLineInterest;
+import com.firefly.core.banking.ledger.models.repositories.CriteriaQuery;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineInterestRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineInterestRepositoryCustomImpl implements TransactionLineInterestRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLineInterest> INSERT =
+            MultiRowInsert.<TransactionLineInterest>into("transaction_line_interest")
+                    .column("transaction_line_interest_id", UUID.class,
+                            l -> l.getTransactionLineInterestId() != null ? l.getTransactionLineInterestId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineInterest::getTransactionId)
+                    .column("interest_type", String.class, TransactionLineInterest::getInterestType)
+                    .column("interest_description", String.class, TransactionLineInterest::getInterestDescription)
+                    .column("interest_reference", String.class, TransactionLineInterest::getInterestReference)
+                    .column("interest_calculation_method", String.class, TransactionLineInterest::getInterestCalculationMethod)
+                    .column("interest_calculation_base", BigDecimal.class, TransactionLineInterest::getInterestCalculationBase)
+                    .column("interest_rate_percentage", BigDecimal.class, TransactionLineInterest::getInterestRatePercentage)
+                    .column("interest_accrual_start_date", LocalDate.class, TransactionLineInterest::getInterestAccrualStartDate)
+                    .column("interest_accrual_end_date", LocalDate.class, TransactionLineInterest::getInterestAccrualEndDate)
+                    .column("interest_days_calculated", Integer.class, TransactionLineInterest::getInterestDaysCalculated)
+                    .column("interest_currency", String.class, TransactionLineInterest::getInterestCurrency)
+                    .column("interest_tax_withheld_amount", BigDecimal.class, TransactionLineInterest::getInterestTaxWithheldAmount)
+                    .column("interest_tax_withheld_rate", BigDecimal.class, TransactionLineInterest::getInterestTaxWithheldRate)
+                    .column("interest_gross_amount", BigDecimal.class, TransactionLineInterest::getInterestGrossAmount)
+                    .column("interest_net_amount", BigDecimal.class, TransactionLineInterest::getInterestNetAmount)
+                    .column("interest_timestamp", LocalDateTime.class, TransactionLineInterest::getInterestTimestamp)
+                    .column("interest_processed_by", String.class, TransactionLineInterest::getInterestProcessedBy);
+
+    private static final CriteriaQuery<TransactionLineInterest> CRITERIA = CriteriaQuery.<TransactionLineInterest>select(
+                    "tli.*",
+                    "transaction_line_interest tli")
+            .where("startDate", "tli.interest_timestamp >= :startDate")
+            .where("endDate", "tli.interest_timestamp <= :endDate")
+            .where("interestType", "tli.interest_type = :interestType")
+            .where("relatedAccountId", "tli.interest_related_account_id = :relatedAccountId")
+            .where("minRate", "tli.interest_rate_percentage >= :minRate")
+            .where("maxRate", "tli.interest_rate_percentage <= :maxRate")
+            .sortable("interestTimestamp", "tli.interest_timestamp")
+            .sortable("interestRatePercentage", "tli.interest_rate_percentage")
+            .orderBy("tli.interest_timestamp DESC, tli.transaction_line_interest_id DESC", "tli.transaction_line_interest_id");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcConverter converter;
+
+    @Override
+    public Flux<TransactionLineInterest> findByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String interestType,
+            Long relatedAccountId,
+            BigDecimal minRate,
+            BigDecimal maxRate,
+            Pageable pageable) {
+        return criteria(startDate, endDate, interestType, relatedAccountId, minRate, maxRate)
+                .find(databaseClient, pageable, (row, metadata) -> converter.read(TransactionLineInterest.class, row, metadata));
+    }
+
+    @Override
+    public Mono<Long> countByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String interestType,
+            Long relatedAccountId,
+            BigDecimal minRate,
+            BigDecimal maxRate) {
+        return criteria(startDate, endDate, interestType, relatedAccountId, minRate, maxRate)
+                .count(databaseClient);
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineInterest> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+
+    private static CriteriaQuery<TransactionLineInterest>.Search criteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String interestType,
+            Long relatedAccountId,
+            BigDecimal minRate,
+            BigDecimal maxRate) {
+        return CRITERIA.search()
+                .with("startDate", startDate)
+                .with("endDate", endDate)
+                .with("interestType", interestType)
+                .with("relatedAccountId", relatedAccountId)
+                .with("minRate", minRate)
+                .with("maxRate", maxRate);
+    }
+}
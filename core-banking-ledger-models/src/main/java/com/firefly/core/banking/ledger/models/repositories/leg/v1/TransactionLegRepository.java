@@ -25,13 +25,14 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 
+import java.util.Collection;
 import java.util.UUID;
 import java.time.LocalDateTime;
 
 /**
  * Repository interface for transaction legs.
  */
-public interface TransactionLegRepository extends BaseRepository<TransactionLeg, UUID> {
+public interface TransactionLegRepository extends BaseRepository<TransactionLeg, UUID>, TransactionLegRepositoryCustom {
     /**
      * Find all legs for a specific transaction.
      */
@@ -41,6 +42,11 @@ public interface TransactionLegRepository extends BaseRepository<TransactionLeg,
      * Count all legs for a specific transaction.
      */
     Mono<Long> countByTransactionId(UUID transactionId);
+
+    /**
+     * Find all legs of the given transactions.
+     */
+    Flux<TransactionLeg> findByTransactionIdIn(Collection<UUID> transactionIds);
     
     /**
      * Find all legs for a specific account.
@@ -73,4 +79,23 @@ public interface TransactionLegRepository extends BaseRepository<TransactionLeg,
      */
     @Query("SELECT COUNT(*) FROM transaction_leg WHERE account_id = :accountId AND booking_date BETWEEN :startDate AND :endDate")
     Mono<Long> countByAccountIdAndBookingDateBetween(UUID accountId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Keyset pagination: first page of legs for an account within a booking date range,
+     * ordered by (booking_date, transaction_leg_id) descending.
+     */
+    @Query("SELECT * FROM transaction_leg WHERE account_id = :accountId AND booking_date BETWEEN :startDate AND :endDate " +
+           "ORDER BY booking_date DESC, transaction_leg_id DESC LIMIT :limit")
+    Flux<TransactionLeg> findAccountLegsFirstPage(UUID accountId, LocalDateTime startDate, LocalDateTime endDate, int limit);
+
+    /**
+     * Keyset pagination: legs for an account within a booking date range that come after the
+     * given (booking_date, transaction_leg_id) position, ordered by both columns descending.
+     * The redundant bound on booking_date alone lets the planner skip the partitions after the cursor.
+     */
+    @Query("SELECT * FROM transaction_leg WHERE account_id = :accountId AND booking_date BETWEEN :startDate AND :endDate " +
+           "AND booking_date <= :cursorBookingDate AND (booking_date, transaction_leg_id) < (:cursorBookingDate, :cursorId) " +
+           "ORDER BY booking_date DESC, transaction_leg_id DESC LIMIT :limit")
+    Flux<TransactionLeg> findAccountLegsAfter(UUID accountId, LocalDateTime startDate, LocalDateTime endDate,
+                                              LocalDateTime cursorBookingDate, UUID cursorId, int limit);
 }
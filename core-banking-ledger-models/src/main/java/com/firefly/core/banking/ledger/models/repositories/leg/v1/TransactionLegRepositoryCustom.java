@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.leg.v1;
+
+import com.firefly.core.banking.ledger.models.entities.leg.v1.StatementLegView;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.StatementTotalsView;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom bulk and streaming operations for transaction legs.
+ */
+public interface TransactionLegRepositoryCustom {
+    /**
+     * Insert all legs using multi-row INSERT statements.
+     *
+     * @return the number of inserted rows
+     */
+    Mono<Long> insertAll(List<TransactionLeg> legs);
+
+    /**
+     * Signed sum (credits minus debits) of the account's legs in {@code currency} booked strictly before
+     * {@code before}, restricted to transactions in one of {@code statuses}. Emits zero when there are none.
+     */
+    Mono<BigDecimal> sumSignedAmountBefore(UUID accountId, String currency, LocalDateTime before,
+                                           Collection<String> statuses);
+
+    /**
+     * Stream the account's legs in {@code currency} booked in {@code [from, to)} joined with their transaction,
+     * in booking order. Rows are pulled from the database {@code fetchSize} at a time, so the full result set
+     * is never materialized. Each leg's amount also comes back in units of {@code scale}, converted by the
+     * database, unless it has digits beyond that scale.
+     */
+    Flux<StatementLegView> streamStatementLegs(UUID accountId, String currency, LocalDateTime from, LocalDateTime to,
+                                               Collection<String> statuses, int scale, int fetchSize);
+
+    /**
+     * Credit and debit totals and leg count of the account's legs in {@code currency} booked in {@code [from, to)},
+     * restricted to transactions in one of {@code statuses}.
+     */
+    Mono<StatementTotalsView> sumStatementPeriod(UUID accountId, String currency, LocalDateTime from, LocalDateTime to,
+                                                 Collection<String> statuses);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.leg.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionTypeEnum;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.StatementLegView;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.StatementTotalsView;
+import com.firefly.core.banking.ledger.models.entities.leg.v1.TransactionLeg;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLegRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLegRepositoryCustomImpl implements TransactionLegRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLeg> INSERT = MultiRowInsert.<TransactionLeg>into("transaction_leg")
+            .column("transaction_leg_id", UUID.class, l -> l.getTransactionLegId() != null ? l.getTransactionLegId() : UUID.randomUUID())
+            .column("transaction_id", UUID.class, TransactionLeg::getTransactionId)
+            .column("account_id", UUID.class, TransactionLeg::getAccountId)
+            .column("account_space_id", UUID.class, TransactionLeg::getAccountSpaceId)
+            .column("leg_type", String.class, TransactionLeg::getLegType)
+            .column("amount", BigDecimal.class, TransactionLeg::getAmount)
+            .column("currency", String.class, TransactionLeg::getCurrency)
+            .column("description", String.class, TransactionLeg::getDescription)
+            .column("value_date", LocalDateTime.class, TransactionLeg::getValueDate)
+            .column("booking_date", LocalDateTime.class, TransactionLeg::getBookingDate);
+
+    private static final String SUM_SIGNED_AMOUNT_BEFORE_SQL =
+            "SELECT COALESCE(SUM(CASE WHEN l.leg_type::text = 'CREDIT' THEN l.amount ELSE -l.amount END), 0) AS balance " +
+            "FROM transaction_leg l JOIN transaction t ON t.transaction_id = l.transaction_id " +
+            "WHERE l.account_id = $1 AND l.currency = $2 AND l.booking_date < $3 " +
+            "AND t.transaction_status::text = ANY($4)";
+
+    private static final String SUM_STATEMENT_PERIOD_SQL =
+            "SELECT COALESCE(SUM(CASE WHEN l.leg_type::text = 'CREDIT' THEN l.amount ELSE 0 END), 0) AS total_credits, " +
+            "COALESCE(SUM(CASE WHEN l.leg_type::text = 'CREDIT' THEN 0 ELSE l.amount END), 0) AS total_debits, " +
+            "COUNT(*) AS leg_count " +
+            "FROM transaction_leg l JOIN transaction t ON t.transaction_id = l.transaction_id " +
+            "WHERE l.account_id = $1 AND l.currency = $2 AND l.booking_date >= $3 AND l.booking_date < $4 " +
+            "AND t.transaction_status::text = ANY($5)";
+
+    private static final String STREAM_STATEMENT_LEGS_SQL =
+            "SELECT l.transaction_leg_id, l.transaction_id, l.leg_type::text AS leg_type, l.amount, " +
+            "CASE WHEN l.amount = round(l.amount, $6) THEN (l.amount * power(10::numeric, $6))::bigint END AS amount_units, " +
+            "l.currency, " +
+            "COALESCE(l.description, t.description) AS description, l.value_date, l.booking_date, " +
+            "t.transaction_date, t.transaction_type::text AS transaction_type, " +
+            "t.transaction_status::text AS transaction_status, t.initiating_party, t.external_reference, " +
+            "t.transaction_category_id " +
+            "FROM transaction_leg l JOIN transaction t ON t.transaction_id = l.transaction_id " +
+            "WHERE l.account_id = $1 AND l.currency = $2 AND l.booking_date >= $3 AND l.booking_date < $4 " +
+            "AND t.transaction_status::text = ANY($5) " +
+            "ORDER BY l.booking_date, l.transaction_leg_id";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLeg> legs) {
+        return INSERT.execute(databaseClient, legs);
+    }
+
+    @Override
+    public Mono<BigDecimal> sumSignedAmountBefore(UUID accountId, String currency, LocalDateTime before,
+                                                  Collection<String> statuses) {
+        return databaseClient.sql(SUM_SIGNED_AMOUNT_BEFORE_SQL)
+                .bind(0, accountId)
+                .bind(1, currency)
+                .bind(2, before)
+                .bind(3, statuses.toArray(new String[0]))
+                .map((row, metadata) -> row.get("balance", BigDecimal.class))
+                .one()
+                .defaultIfEmpty(BigDecimal.ZERO);
+    }
+
+    @Override
+    public Mono<StatementTotalsView> sumStatementPeriod(UUID accountId, String currency, LocalDateTime from,
+                                                       LocalDateTime to, Collection<String> statuses) {
+        return databaseClient.sql(SUM_STATEMENT_PERIOD_SQL)
+                .bind(0, accountId)
+                .bind(1, currency)
+                .bind(2, from)
+                .bind(3, to)
+                .bind(4, statuses.toArray(new String[0]))
+                .map((row, metadata) -> new StatementTotalsView(
+                        row.get("total_credits", BigDecimal.class),
+                        row.get("total_debits", BigDecimal.class),
+                        row.get("leg_count", Long.class)))
+                .one();
+    }
+
+    @Override
+    public Flux<StatementLegView> streamStatementLegs(UUID accountId, String currency, LocalDateTime from,
+                                                      LocalDateTime to, Collection<String> statuses, int scale,
+                                                      int fetchSize) {
+        return databaseClient.sql(STREAM_STATEMENT_LEGS_SQL)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind(0, accountId)
+                .bind(1, currency)
+                .bind(2, from)
+                .bind(3, to)
+                .bind(4, statuses.toArray(new String[0]))
+                .bind(5, scale)
+                .map((row, metadata) -> toStatementLegView(row))
+                .all();
+    }
+
+    private static StatementLegView toStatementLegView(Row row) {
+        String transactionType = row.get("transaction_type", String.class);
+        String transactionStatus = row.get("transaction_status", String.class);
+        return new StatementLegView(
+                row.get("transaction_leg_id", UUID.class),
+                row.get("transaction_id", UUID.class),
+                row.get("leg_type", String.class),
+                row.get("amount", BigDecimal.class),
+                row.get("amount_units", Long.class),
+                row.get("currency", String.class),
+                row.get("description", String.class),
+                row.get("value_date", LocalDateTime.class),
+                row.get("booking_date", LocalDateTime.class),
+                row.get("transaction_date", LocalDateTime.class),
+                transactionType != null ? TransactionTypeEnum.valueOf(transactionType) : null,
+                transactionStatus != null ? TransactionStatusEnum.valueOf(transactionStatus) : null,
+                row.get("initiating_party", String.class),
+                row.get("external_reference", String.class),
+                row.get("transaction_category_id", UUID.class));
+    }
+}
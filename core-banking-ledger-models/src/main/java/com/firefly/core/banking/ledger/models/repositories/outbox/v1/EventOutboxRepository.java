@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.outbox.v1;
+
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repository interface for the transactional outbox.
+ */
+public interface EventOutboxRepository extends BaseRepository<EventOutbox, UUID>, EventOutboxRepositoryCustom {
+
+    /**
+     * Claim a batch of due events for publication.
+     * <p>
+     * Rows locked by a concurrent claim are skipped ({@code FOR UPDATE SKIP LOCKED}) and the claimed
+     * rows are leased by pushing {@code next_attempt_at} forward, so several relay replicas never
+     * publish the same event concurrently. If the claiming replica dies, the events become due again
+     * once the lease expires. An event is only claimed while no older pending event of its aggregate
+     * is leased or in backoff, so the events of an aggregate are published in order across batches;
+     * this relies on the claims being serialized with {@link #lockClaims()}. Dead-lettered events
+     * are never claimed. The lookup is served by the partial indexes on pending events.
+     */
+    @Query("UPDATE event_outbox SET next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds) " +
+           "WHERE event_id IN (" +
+           "SELECT e.event_id FROM event_outbox e " +
+           "WHERE e.processed = FALSE AND e.dead_lettered_at IS NULL AND e.next_attempt_at <= CURRENT_TIMESTAMP " +
+           "AND NOT EXISTS (SELECT 1 FROM event_outbox o " +
+           "WHERE o.aggregate_type = e.aggregate_type AND o.aggregate_id = e.aggregate_id " +
+           "AND o.sequence_number < e.sequence_number " +
+           "AND o.processed = FALSE AND o.dead_lettered_at IS NULL AND o.next_attempt_at > CURRENT_TIMESTAMP) " +
+           "ORDER BY e.sequence_number LIMIT :batchSize FOR UPDATE OF e SKIP LOCKED) " +
+           "RETURNING *")
+    Flux<EventOutbox> claimBatch(int batchSize, double leaseSeconds);
+
+    /**
+     * Mark the given events as published.
+     */
+    @Modifying
+    @Query("UPDATE event_outbox SET processed = TRUE, processed_at = CURRENT_TIMESTAMP, last_error = NULL " +
+           "WHERE event_id IN (:eventIds)")
+    Mono<Long> markProcessed(Collection<UUID> eventIds);
+
+    /**
+     * Record a failed publication and schedule the next attempt after the given backoff.
+     */
+    @Modifying
+    @Query("UPDATE event_outbox SET retry_count = retry_count + 1, last_error = :lastError, " +
+           "next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => :backoffSeconds) " +
+           "WHERE event_id = :eventId")
+    Mono<Long> markFailed(UUID eventId, String lastError, double backoffSeconds);
+
+    /**
+     * Make claimed events that were held back behind a failed event of their aggregate due again,
+     * instead of waiting for their lease to expire. They stay blocked until the failed event is published.
+     */
+    @Modifying
+    @Query("UPDATE event_outbox SET next_attempt_at = CURRENT_TIMESTAMP " +
+           "WHERE event_id IN (:eventIds) AND processed = FALSE")
+    Mono<Long> release(Collection<UUID> eventIds);
+
+    /**
+     * Park an event that exhausted its retries.
+     */
+    @Modifying
+    @Query("UPDATE event_outbox SET retry_count = retry_count + 1, last_error = :lastError, " +
+           "dead_lettered_at = CURRENT_TIMESTAMP " +
+           "WHERE event_id = :eventId")
+    Mono<Long> markDeadLettered(UUID eventId, String lastError);
+
+    /**
+     * Park the pending events that already reached the given number of retries, e.g. after
+     * {@code max-retries} was lowered.
+     *
+     * @return the number of dead-lettered events
+     */
+    @Modifying
+    @Query("UPDATE event_outbox SET dead_lettered_at = CURRENT_TIMESTAMP " +
+           "WHERE processed = FALSE AND dead_lettered_at IS NULL AND retry_count >= :maxRetries")
+    Mono<Long> deadLetterExhausted(int maxRetries);
+
+    /**
+     * Delete up to {@code batchSize} events published more than {@code retentionSeconds} ago. Pending and
+     * dead-lettered events are never deleted.
+     *
+     * @return the number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM event_outbox WHERE event_id IN (" +
+           "SELECT event_id FROM event_outbox " +
+           "WHERE processed = TRUE AND processed_at < CURRENT_TIMESTAMP - make_interval(secs => :retentionSeconds) " +
+           "LIMIT :batchSize)")
+    Mono<Long> deleteProcessed(double retentionSeconds, int batchSize);
+}
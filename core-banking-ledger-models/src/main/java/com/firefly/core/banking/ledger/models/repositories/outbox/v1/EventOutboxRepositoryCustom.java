@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.outbox.v1;
+
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Custom bulk operations for outbox events.
+ */
+public interface EventOutboxRepositoryCustom {
+    /**
+     * Insert all events using multi-row INSERT statements.
+     * Event IDs must be assigned by the caller.
+     *
+     * @return the number of inserted rows
+     */
+    Mono<Long> insertAll(List<EventOutbox> events);
+
+    /**
+     * Serialize outbox claims across relay replicas until the end of the current database transaction.
+     * <p>
+     * {@code SKIP LOCKED} alone lets a replica claim a newer event of an aggregate while another replica is
+     * claiming an older one it cannot see as leased yet. Claims are short, so waiting for each other is cheap.
+     */
+    Mono<Void> lockClaims();
+}
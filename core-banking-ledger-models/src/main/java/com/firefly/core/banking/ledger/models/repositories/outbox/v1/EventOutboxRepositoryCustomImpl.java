@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.outbox.v1;
+
+import com.firefly.core.banking.ledger.models.entities.outbox.v1.EventOutbox;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link EventOutboxRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class EventOutboxRepositoryCustomImpl implements EventOutboxRepositoryCustom {
+
+    private static final MultiRowInsert<EventOutbox> INSERT = MultiRowInsert.<EventOutbox>into("event_outbox")
+            .column("event_id", UUID.class, EventOutbox::getEventId)
+            .column("aggregate_type", String.class, EventOutbox::getAggregateType)
+            .column("aggregate_id", String.class, EventOutbox::getAggregateId)
+            .column("event_type", String.class, EventOutbox::getEventType)
+            .column("payload", Json.class, EventOutbox::getPayload);
+
+    private static final String CLAIM_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('event_outbox.claim'))";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<EventOutbox> events) {
+        return INSERT.execute(databaseClient, events);
+    }
+
+    @Override
+    public Mono<Void> lockClaims() {
+        return databaseClient.sql(CLAIM_LOCK_SQL).then();
+    }
+}
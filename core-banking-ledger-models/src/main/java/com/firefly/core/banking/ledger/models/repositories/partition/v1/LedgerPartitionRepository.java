@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.partition.v1;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Partition maintenance of the tables range partitioned by month of {@code booking_date}
+ * ({@code transaction}, {@code transaction_leg}), as registered in {@code ledger_partitioned_table}.
+ */
+@Repository
+public class LedgerPartitionRepository {
+
+    // Range partitions of a table with their bound and the upper bound of their range; the default partition has none
+    private static final String FIND_PARTITIONS_SQL =
+            "SELECT c.relname AS partition_name, pg_get_expr(c.relpartbound, c.oid) AS bound, " +
+            "substring(pg_get_expr(c.relpartbound, c.oid) FROM 'TO \\(''([^'']+)''\\)')::timestamp AS upper_bound " +
+            "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass(:table) " +
+            "ORDER BY upper_bound";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Names of the partitioned tables.
+     */
+    public Flux<String> findPartitionedTables() {
+        return databaseClient.sql("SELECT table_name FROM ledger_partitioned_table ORDER BY table_name")
+                .map(row -> row.get("table_name", String.class))
+                .all();
+    }
+
+    /**
+     * Create the missing monthly partitions of a table up to and including the month of {@code through}.
+     *
+     * @return the number of partitions created
+     */
+    public Mono<Integer> createMonthlyPartitions(String table, LocalDate through) {
+        return databaseClient.sql("SELECT ledger_create_monthly_partitions(:table, :through) AS created")
+                .bind("table", table)
+                .bind("through", through)
+                .map(row -> row.get("created", Integer.class))
+                .one();
+    }
+
+    /**
+     * The partitions currently attached to a table, oldest first.
+     */
+    public Flux<Partition> findPartitions(String table) {
+        return databaseClient.sql(FIND_PARTITIONS_SQL)
+                .bind("table", table)
+                .map(row -> new Partition(row.get("partition_name", String.class), row.get("bound", String.class),
+                        row.get("upper_bound", LocalDateTime.class)))
+                .all();
+    }
+
+    /**
+     * Detach a partition from its table, leaving it in place as a standalone table.
+     * {@code CONCURRENTLY} only blocks the partitioned table briefly, but cannot run inside a database
+     * transaction, so this must not be called from a transactional pipeline.
+     */
+    public Mono<Void> detachPartition(String table, String partition) {
+        return databaseClient.sql("ALTER TABLE " + quote(table) + " DETACH PARTITION " + quote(partition) + " CONCURRENTLY")
+                .then();
+    }
+
+    /**
+     * Attach a detached partition again, with the bound it had.
+     *
+     * @param bound the partition bound, e.g. {@code FOR VALUES FROM ('2025-01-01') TO ('2025-02-01')}
+     */
+    public Mono<Void> attachPartition(String table, String partition, String bound) {
+        return databaseClient.sql("ALTER TABLE " + quote(table) + " ATTACH PARTITION " + quote(partition) + " " + bound)
+                .then();
+    }
+
+    /**
+     * The first column, as {@code table.column}, still referencing a transaction of a {@code transaction} partition.
+     * Legs in {@code legPartition} and relations within the partition do not count. Works on attached and on
+     * detached partitions.
+     *
+     * @return empty when nothing references the transactions of the partition
+     */
+    public Mono<String> findTransactionReference(String partition, String legPartition) {
+        return databaseClient.sql("SELECT ledger_transaction_partition_reference(:partition, :legPartition) AS reference")
+                .bind("partition", partition)
+                .bind("legPartition", legPartition)
+                .map(row -> Optional.ofNullable(row.get("reference", String.class)))
+                .one()
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Release the request IDs and external references held by the transactions of a detached partition.
+     *
+     * @return the number of keys released
+     */
+    public Mono<Long> purgeTransactionKeys(String partition) {
+        return databaseClient.sql("SELECT ledger_purge_transaction_keys(:partition) AS purged")
+                .bind("partition", partition)
+                .map(row -> row.get("purged", Long.class))
+                .one();
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * A partition, its bound and the exclusive upper bound of its {@code booking_date} range.
+     */
+    public record Partition(String name, String bound, LocalDateTime upperBound) {
+    }
+}
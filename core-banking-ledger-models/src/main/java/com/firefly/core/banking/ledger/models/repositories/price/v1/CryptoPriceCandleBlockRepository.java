@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.price.v1;
+
+import com.firefly.core.banking.ledger.models.entities.price.v1.CryptoPriceCandleBlock;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compressed blocks of OHLC price candles ({@code crypto_price_candle_block}).
+ */
+@Repository
+public class CryptoPriceCandleBlockRepository {
+
+    private static final String COLUMNS = "b.crypto_asset_id, b.quote_currency, b.resolution, b.block_start, b.candle_count, b.candles";
+
+    private static final String FIND_RANGE_SQL =
+            "SELECT " + COLUMNS + " FROM crypto_price_candle_block b " +
+            "WHERE b.crypto_asset_id = :assetId AND b.quote_currency = :quoteCurrency AND b.resolution = :resolution " +
+            "AND b.block_start >= :fromBlock AND b.block_start < :to " +
+            "ORDER BY b.block_start";
+
+    private static final String FIND_KEYS_SQL =
+            "SELECT " + COLUMNS + " FROM crypto_price_candle_block b " +
+            "JOIN unnest(CAST(:assetIds AS uuid[]), CAST(:quoteCurrencies AS text[]), CAST(:resolutions AS text[]), " +
+            "CAST(:blockStarts AS timestamp[])) AS k(crypto_asset_id, quote_currency, resolution, block_start) " +
+            "ON b.crypto_asset_id = k.crypto_asset_id AND b.quote_currency = k.quote_currency " +
+            "AND b.resolution = k.resolution AND b.block_start = k.block_start";
+
+    private static final MultiRowInsert<CryptoPriceCandleBlock> UPSERT =
+            MultiRowInsert.<CryptoPriceCandleBlock>into("crypto_price_candle_block")
+                    .column("crypto_asset_id", UUID.class, CryptoPriceCandleBlock::getCryptoAssetId)
+                    .column("quote_currency", String.class, CryptoPriceCandleBlock::getQuoteCurrency)
+                    .column("resolution", String.class, CryptoPriceCandleBlock::getResolution)
+                    .column("block_start", LocalDateTime.class, CryptoPriceCandleBlock::getBlockStart)
+                    .column("candle_count", Integer.class, CryptoPriceCandleBlock::getCandleCount)
+                    .column("candles", ByteBuffer.class, b -> ByteBuffer.wrap(b.getCandles()));
+
+    private static final String ON_CONFLICT =
+            "(crypto_asset_id, quote_currency, resolution, block_start) DO UPDATE SET " +
+            "candle_count = EXCLUDED.candle_count, candles = EXCLUDED.candles, date_updated = CURRENT_TIMESTAMP";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Blocks of a series and resolution starting in {@code [fromBlock, to)}, in block order.
+     */
+    public Flux<CryptoPriceCandleBlock> findBlocks(UUID assetId, String quoteCurrency, String resolution,
+                                                   LocalDateTime fromBlock, LocalDateTime to) {
+        return databaseClient.sql(FIND_RANGE_SQL)
+                .bind("assetId", assetId)
+                .bind("quoteCurrency", quoteCurrency)
+                .bind("resolution", resolution)
+                .bind("fromBlock", fromBlock)
+                .bind("to", to)
+                .map(this::toBlock)
+                .all();
+    }
+
+    /**
+     * The stored blocks among the given keys (asset, quote currency, resolution and block start).
+     */
+    public Flux<CryptoPriceCandleBlock> findByKeys(List<CryptoPriceCandleBlock> keys) {
+        if (keys.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(FIND_KEYS_SQL)
+                .bind("assetIds", keys.stream().map(CryptoPriceCandleBlock::getCryptoAssetId).toArray(UUID[]::new))
+                .bind("quoteCurrencies", keys.stream().map(CryptoPriceCandleBlock::getQuoteCurrency).toArray(String[]::new))
+                .bind("resolutions", keys.stream().map(CryptoPriceCandleBlock::getResolution).toArray(String[]::new))
+                .bind("blockStarts", keys.stream().map(CryptoPriceCandleBlock::getBlockStart).toArray(LocalDateTime[]::new))
+                .map(this::toBlock)
+                .all();
+    }
+
+    /**
+     * Insert or replace blocks, each key at most once.
+     *
+     * @return the number of rows written
+     */
+    public Mono<Long> upsertAll(List<CryptoPriceCandleBlock> blocks) {
+        return UPSERT.executeOnConflict(databaseClient, blocks, ON_CONFLICT);
+    }
+
+    private CryptoPriceCandleBlock toBlock(Row row, RowMetadata metadata) {
+        CryptoPriceCandleBlock block = new CryptoPriceCandleBlock();
+        block.setCryptoAssetId(row.get("crypto_asset_id", UUID.class));
+        block.setQuoteCurrency(row.get("quote_currency", String.class));
+        block.setResolution(row.get("resolution", String.class));
+        block.setBlockStart(row.get("block_start", LocalDateTime.class));
+        block.setCandleCount(row.get("candle_count", Integer.class));
+        ByteBuffer candles = row.get("candles", ByteBuffer.class);
+        byte[] bytes = new byte[candles.remaining()];
+        candles.get(bytes);
+        block.setCandles(bytes);
+        return block;
+    }
+}
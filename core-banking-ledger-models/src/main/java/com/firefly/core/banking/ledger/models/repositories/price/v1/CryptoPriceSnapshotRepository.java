@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.price.v1;
+
+import com.firefly.core.banking.ledger.models.entities.price.v1.CryptoPriceSnapshot;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Latest persisted crypto prices ({@code crypto_price_snapshot}).
+ * <p>
+ * Snapshots are upserted in bulk; a row is only replaced by a price with the same or a later timestamp, so
+ * replicas ingesting the same feed never move a price back in time.
+ */
+@Repository
+public class CryptoPriceSnapshotRepository {
+
+    private static final MultiRowInsert<CryptoPriceSnapshot> UPSERT =
+            MultiRowInsert.<CryptoPriceSnapshot>into("crypto_price_snapshot AS s")
+                    .column("crypto_asset_id", UUID.class, CryptoPriceSnapshot::getCryptoAssetId)
+                    .column("quote_currency", String.class, CryptoPriceSnapshot::getQuoteCurrency)
+                    .column("asset_symbol", String.class, CryptoPriceSnapshot::getAssetSymbol)
+                    .column("asset_name", String.class, CryptoPriceSnapshot::getAssetName)
+                    .column("price", BigDecimal.class, CryptoPriceSnapshot::getPrice)
+                    .column("price_change_24h", BigDecimal.class, CryptoPriceSnapshot::getPriceChange24h)
+                    .column("price_change_percentage_24h", Double.class, CryptoPriceSnapshot::getPriceChangePercentage24h)
+                    .column("source", String.class, CryptoPriceSnapshot::getSource)
+                    .column("price_timestamp", LocalDateTime.class, CryptoPriceSnapshot::getPriceTimestamp);
+
+    private static final String ON_CONFLICT =
+            "(crypto_asset_id, quote_currency) DO UPDATE SET " +
+            "asset_symbol = EXCLUDED.asset_symbol, asset_name = EXCLUDED.asset_name, price = EXCLUDED.price, " +
+            "price_change_24h = EXCLUDED.price_change_24h, " +
+            "price_change_percentage_24h = EXCLUDED.price_change_percentage_24h, source = EXCLUDED.source, " +
+            "price_timestamp = EXCLUDED.price_timestamp, date_updated = CURRENT_TIMESTAMP " +
+            "WHERE s.price_timestamp <= EXCLUDED.price_timestamp";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Insert or replace the snapshots of the given prices, each key at most once.
+     *
+     * @return the number of rows written
+     */
+    public Mono<Long> upsertAll(List<CryptoPriceSnapshot> snapshots) {
+        return UPSERT.executeOnConflict(databaseClient, snapshots, ON_CONFLICT);
+    }
+
+    public Flux<CryptoPriceSnapshot> findAll() {
+        return databaseClient.sql("SELECT crypto_asset_id, quote_currency, asset_symbol, asset_name, price, " +
+                        "price_change_24h, price_change_percentage_24h, source, price_timestamp FROM crypto_price_snapshot")
+                .map(row -> {
+                    CryptoPriceSnapshot snapshot = new CryptoPriceSnapshot();
+                    snapshot.setCryptoAssetId(row.get("crypto_asset_id", UUID.class));
+                    snapshot.setQuoteCurrency(row.get("quote_currency", String.class));
+                    snapshot.setAssetSymbol(row.get("asset_symbol", String.class));
+                    snapshot.setAssetName(row.get("asset_name", String.class));
+                    snapshot.setPrice(row.get("price", BigDecimal.class));
+                    snapshot.setPriceChange24h(row.get("price_change_24h", BigDecimal.class));
+                    snapshot.setPriceChangePercentage24h(row.get("price_change_percentage_24h", Double.class));
+                    snapshot.setSource(row.get("source", String.class));
+                    snapshot.setPriceTimestamp(row.get("price_timestamp", LocalDateTime.class));
+                    return snapshot;
+                })
+                .all();
+    }
+}
@@ -30,7 +30,8 @@ import java.util.UUID;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
-public interface TransactionLineSepaRepository extends BaseRepository<TransactionLineSepaTransfer, UUID> {
+public interface TransactionLineSepaRepository extends BaseRepository<TransactionLineSepaTransfer, UUID>,
+        TransactionLineSepaRepositoryCustom {
     Mono<TransactionLineSepaTransfer> findByTransactionId(UUID transactionId);
 
     Mono<TransactionLineSepaTransfer> findBySepaEndToEndId(String endToEndId);
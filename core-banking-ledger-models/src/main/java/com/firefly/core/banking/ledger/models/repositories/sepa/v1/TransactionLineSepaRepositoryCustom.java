@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.sepa.v1;
+
+import com.firefly.core.banking.ledger.models.entities.sepa.v1.TransactionLineSepaTransfer;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Custom writes for SEPA transfer lines that cannot be expressed as derived or annotated queries.
+ */
+public interface TransactionLineSepaRepositoryCustom {
+    /**
+     * Insert all SEPA transfer lines with multi-row INSERT statements.
+     *
+     * @param lines The SEPA transfer lines to insert; lines without an ID get a generated one
+     * @return A Mono containing the number of inserted rows
+     */
+    Mono<Long> insertAll(List<TransactionLineSepaTransfer> lines);
+}
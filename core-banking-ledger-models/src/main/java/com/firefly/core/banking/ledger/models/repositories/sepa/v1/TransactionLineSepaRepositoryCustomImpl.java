@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.sepa.v1;
+
+import com.firefly.core.banking.ledger.models.entities.sepa.v1.TransactionLineSepaTransfer;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineSepaRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineSepaRepositoryCustomImpl implements TransactionLineSepaRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLineSepaTransfer> INSERT =
+            MultiRowInsert.<TransactionLineSepaTransfer>into("transaction_line_sepa_transfer")
+                    .column("transaction_line_sepa_id", UUID.class,
+                            l -> l.getTransactionLineSepaId() != null ? l.getTransactionLineSepaId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineSepaTransfer::getTransactionId)
+                    .column("sepa_end_to_end_id", String.class, TransactionLineSepaTransfer::getSepaEndToEndId)
+                    .column("sepa_remittance_info", String.class, TransactionLineSepaTransfer::getSepaRemittanceInfo)
+                    .column("sepa_origin_iban", String.class, TransactionLineSepaTransfer::getSepaOriginIban)
+                    .column("sepa_origin_bic", String.class, TransactionLineSepaTransfer::getSepaOriginBic)
+                    .column("sepa_destination_iban", String.class, TransactionLineSepaTransfer::getSepaDestinationIban)
+                    .column("sepa_destination_bic", String.class, TransactionLineSepaTransfer::getSepaDestinationBic)
+                    .column("sepa_transaction_status", String.class,
+                            l -> l.getSepaTransactionStatus() != null ? l.getSepaTransactionStatus().name() : null)
+                    .column("sepa_creditor_id", String.class, TransactionLineSepaTransfer::getSepaCreditorId)
+                    .column("sepa_debtor_id", String.class, TransactionLineSepaTransfer::getSepaDebtorId)
+                    .column("sepa_initiating_agent_bic", String.class, TransactionLineSepaTransfer::getSepaInitiatingAgentBic)
+                    .column("sepa_intermediary_bic", String.class, TransactionLineSepaTransfer::getSepaIntermediaryBic)
+                    .column("sepa_transaction_purpose", String.class, TransactionLineSepaTransfer::getSepaTransactionPurpose)
+                    .column("sepa_requested_execution_date", LocalDate.class, TransactionLineSepaTransfer::getSepaRequestedExecutionDate)
+                    .column("sepa_exchange_rate", BigDecimal.class, TransactionLineSepaTransfer::getSepaExchangeRate)
+                    .column("sepa_fee_amount", BigDecimal.class, TransactionLineSepaTransfer::getSepaFeeAmount)
+                    .column("sepa_fee_currency", String.class, TransactionLineSepaTransfer::getSepaFeeCurrency)
+                    .column("sepa_recipient_name", String.class, TransactionLineSepaTransfer::getSepaRecipientName)
+                    .column("sepa_recipient_address", String.class, TransactionLineSepaTransfer::getSepaRecipientAddress)
+                    .column("sepa_processing_date", LocalDateTime.class, TransactionLineSepaTransfer::getSepaProcessingDate)
+                    .column("sepa_notes", String.class, TransactionLineSepaTransfer::getSepaNotes)
+                    .column("sepa_payment_scheme", String.class,
+                            l -> l.getSepaPaymentScheme() != null ? l.getSepaPaymentScheme().name() : null);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineSepaTransfer> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+}
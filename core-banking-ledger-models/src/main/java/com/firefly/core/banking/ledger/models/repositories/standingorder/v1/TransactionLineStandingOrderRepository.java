@@ -22,18 +22,24 @@ import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.Standin
 import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
 import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 
 import java.util.UUID;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
-public interface TransactionLineStandingOrderRepository extends BaseRepository<TransactionLineStandingOrder, UUID> {
+public interface TransactionLineStandingOrderRepository extends BaseRepository<TransactionLineStandingOrder, UUID>,
+        TransactionLineStandingOrderRepositoryCustom {
     Mono<TransactionLineStandingOrder> findByTransactionId(UUID transactionId);
 
+    /**
+     * Find the schedule line of a standing order (execution lines share its standing order ID).
+     */
+    @Query("SELECT * FROM transaction_line_standing_order " +
+            "WHERE standing_order_id = :standingOrderId AND standing_order_source_line_id IS NULL")
     Mono<TransactionLineStandingOrder> findByStandingOrderId(String standingOrderId);
 
     Flux<TransactionLineStandingOrder> findByStandingOrderStatus(StandingOrderStatusEnum status, Pageable pageable);
@@ -59,99 +65,9 @@ public interface TransactionLineStandingOrderRepository extends BaseRepository<T
             "AND (standing_order_end_date IS NULL OR standing_order_end_date >= :currentDate)")
     Mono<Long> countActiveStandingOrders(LocalDate currentDate);
 
-    @Query("SELECT tlso.* FROM transaction_line_standing_order tlso " +
-            "JOIN transaction t ON t.transaction_id = tlso.transaction_id " +
-            "WHERE (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount) " +
-            "AND (:standingOrderId IS NULL OR tlso.standing_order_id = :standingOrderId) " +
-            "AND (:recipientName IS NULL OR tlso.standing_order_recipient_name ILIKE concat('%', :recipientName, '%')) " +
-            "AND (:recipientIban IS NULL OR tlso.standing_order_recipient_iban = :recipientIban) " +
-            "AND (:recipientBic IS NULL OR tlso.standing_order_recipient_bic = :recipientBic) " +
-            "AND (:status IS NULL OR tlso.standing_order_status = :status) " +
-            "AND (:frequency IS NULL OR tlso.standing_order_frequency = :frequency) " +
-            "AND (:startDateFrom IS NULL OR tlso.standing_order_start_date >= :startDateFrom) " +
-            "AND (:startDateTo IS NULL OR tlso.standing_order_start_date <= :startDateTo) " +
-            "AND (:endDateFrom IS NULL OR tlso.standing_order_end_date >= :endDateFrom) " +
-            "AND (:endDateTo IS NULL OR tlso.standing_order_end_date <= :endDateTo) " +
-            "AND (:nextExecutionDateFrom IS NULL OR tlso.standing_order_next_execution_date >= :nextExecutionDateFrom) " +
-            "AND (:nextExecutionDateTo IS NULL OR tlso.standing_order_next_execution_date <= :nextExecutionDateTo) " +
-            "AND (:isSuspended IS NULL OR " +
-            "     CASE WHEN :isSuspended = true THEN tlso.standing_order_suspended_until_date > CURRENT_DATE " +
-            "          ELSE (tlso.standing_order_suspended_until_date IS NULL OR tlso.standing_order_suspended_until_date <= CURRENT_DATE) " +
-            "     END) " +
-            "AND (:minTotalExecutions IS NULL OR tlso.standing_order_total_executions >= :minTotalExecutions) " +
-            "AND (:maxTotalExecutions IS NULL OR tlso.standing_order_total_executions <= :maxTotalExecutions) " +
-            "AND (:createdBy IS NULL OR tlso.standing_order_created_by = :createdBy) " +
-            "AND (:updatedBy IS NULL OR tlso.standing_order_updated_by = :updatedBy)")
-    Flux<TransactionLineStandingOrder> findByCustomCriteria(
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            String standingOrderId,
-            String recipientName,
-            String recipientIban,
-            String recipientBic,
-            StandingOrderStatusEnum status,
-            StandingOrderFrequencyEnum frequency,
-            LocalDate startDateFrom,
-            LocalDate startDateTo,
-            LocalDate endDateFrom,
-            LocalDate endDateTo,
-            LocalDate nextExecutionDateFrom,
-            LocalDate nextExecutionDateTo,
-            Boolean isSuspended,
-            Integer minTotalExecutions,
-            Integer maxTotalExecutions,
-            String createdBy,
-            String updatedBy,
-            Pageable pageable);
-
-    @Query("SELECT COUNT(*) FROM transaction_line_standing_order tlso " +
-            "JOIN transaction t ON t.transaction_id = tlso.transaction_id " +
-            "WHERE (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount) " +
-            "AND (:standingOrderId IS NULL OR tlso.standing_order_id = :standingOrderId) " +
-            "AND (:recipientName IS NULL OR tlso.standing_order_recipient_name ILIKE concat('%', :recipientName, '%')) " +
-            "AND (:recipientIban IS NULL OR tlso.standing_order_recipient_iban = :recipientIban) " +
-            "AND (:recipientBic IS NULL OR tlso.standing_order_recipient_bic = :recipientBic) " +
-            "AND (:status IS NULL OR tlso.standing_order_status = :status) " +
-            "AND (:frequency IS NULL OR tlso.standing_order_frequency = :frequency) " +
-            "AND (:startDateFrom IS NULL OR tlso.standing_order_start_date >= :startDateFrom) " +
-            "AND (:startDateTo IS NULL OR tlso.standing_order_start_date <= :startDateTo) " +
-            "AND (:endDateFrom IS NULL OR tlso.standing_order_end_date >= :endDateFrom) " +
-            "AND (:endDateTo IS NULL OR tlso.standing_order_end_date <= :endDateTo) " +
-            "AND (:nextExecutionDateFrom IS NULL OR tlso.standing_order_next_execution_date >= :nextExecutionDateFrom) " +
-            "AND (:nextExecutionDateTo IS NULL OR tlso.standing_order_next_execution_date <= :nextExecutionDateTo) " +
-            "AND (:isSuspended IS NULL OR " +
-            "     CASE WHEN :isSuspended = true THEN tlso.standing_order_suspended_until_date > CURRENT_DATE " +
-            "          ELSE (tlso.standing_order_suspended_until_date IS NULL OR tlso.standing_order_suspended_until_date <= CURRENT_DATE) " +
-            "     END) " +
-            "AND (:minTotalExecutions IS NULL OR tlso.standing_order_total_executions >= :minTotalExecutions) " +
-            "AND (:maxTotalExecutions IS NULL OR tlso.standing_order_total_executions <= :maxTotalExecutions) " +
-            "AND (:createdBy IS NULL OR tlso.standing_order_created_by = :createdBy) " +
-            "AND (:updatedBy IS NULL OR tlso.standing_order_updated_by = :updatedBy)")
-    Mono<Long> countByCustomCriteria(
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            String standingOrderId,
-            String recipientName,
-            String recipientIban,
-            String recipientBic,
-            StandingOrderStatusEnum status,
-            StandingOrderFrequencyEnum frequency,
-            LocalDate startDateFrom,
-            LocalDate startDateTo,
-            LocalDate endDateFrom,
-            LocalDate endDateTo,
-            LocalDate nextExecutionDateFrom,
-            LocalDate nextExecutionDateTo,
-            Boolean isSuspended,
-            Integer minTotalExecutions,
-            Integer maxTotalExecutions,
-            String createdBy,
-            String updatedBy);
-
     @Query("SELECT * FROM transaction_line_standing_order " +
             "WHERE standing_order_status = 'ACTIVE' " +
+            "AND standing_order_source_line_id IS NULL " +
             "AND standing_order_next_execution_date = :executionDate " +
             "AND (standing_order_suspended_until_date IS NULL OR standing_order_suspended_until_date <= :executionDate) " +
             "ORDER BY :#{#pageable.sort} LIMIT :#{#pageable.pageSize} OFFSET :#{#pageable.offset}")
@@ -159,6 +75,7 @@ public interface TransactionLineStandingOrderRepository extends BaseRepository<T
 
     @Query("SELECT COUNT(*) FROM transaction_line_standing_order " +
             "WHERE standing_order_status = 'ACTIVE' " +
+            "AND standing_order_source_line_id IS NULL " +
             "AND standing_order_next_execution_date = :executionDate " +
             "AND (standing_order_suspended_until_date IS NULL OR standing_order_suspended_until_date <= :executionDate)")
     Mono<Long> countStandingOrdersForExecution(LocalDate executionDate);
@@ -193,4 +110,17 @@ public interface TransactionLineStandingOrderRepository extends BaseRepository<T
             "WHERE standing_order_status = 'SUSPENDED' " +
             "AND standing_order_suspended_until_date < :date")
     Mono<Long> countExpiredSuspensions(LocalDate date);
-}
\ No newline at end of file
+
+    /**
+     * Reactivate suspended standing orders whose suspension ended before {@code date}.
+     *
+     * @return the number of reactivated standing orders
+     */
+    @Modifying
+    @Query("UPDATE transaction_line_standing_order " +
+            "SET standing_order_status = 'ACTIVE', standing_order_suspended_until_date = NULL, " +
+            "standing_order_update_timestamp = CURRENT_TIMESTAMP " +
+            "WHERE standing_order_status = 'SUSPENDED' " +
+            "AND standing_order_suspended_until_date < :date")
+    Mono<Long> reactivateExpiredSuspensions(LocalDate date);
+}
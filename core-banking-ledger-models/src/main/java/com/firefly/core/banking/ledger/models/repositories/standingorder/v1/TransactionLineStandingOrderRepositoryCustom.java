@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.standingorder.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.StandingOrderFrequencyEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.StandingOrderStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom claim and bulk operations for standing order lines, used by the standing order scheduler,
+ * and the criteria search.
+ */
+public interface TransactionLineStandingOrderRepositoryCustom {
+    /**
+     * Lock up to {@code limit} active schedule lines due on or before {@code executionDate}.
+     * <p>
+     * Rows are locked with {@code FOR UPDATE SKIP LOCKED}, so the lock lasts until the surrounding transaction
+     * ends and concurrent claimers skip them instead of waiting. Only lines whose standing order ID hashes to
+     * {@code shardIndex} modulo {@code shardCount} are returned; a {@code shardCount} of 1 claims from every shard.
+     *
+     * @param excludedIds lines to skip (e.g. those that already failed in the current run)
+     */
+    Flux<TransactionLineStandingOrder> claimDueStandingOrders(LocalDate executionDate, int shardCount, int shardIndex,
+                                                              Collection<UUID> excludedIds, int limit);
+
+    /**
+     * Lock a single schedule line if it is still due, skipping it if another claimer holds it.
+     */
+    Mono<TransactionLineStandingOrder> claimDueStandingOrder(UUID transactionLineStandingOrderId, LocalDate executionDate);
+
+    /**
+     * Insert all lines using multi-row INSERT statements.
+     *
+     * @return the number of inserted rows
+     */
+    Mono<Long> insertAll(List<TransactionLineStandingOrder> lines);
+
+    /**
+     * Record one execution on each schedule line in a single statement: the last execution date is set,
+     * the execution counter incremented and the next execution date moved to the given value (null when the
+     * schedule has ended). The three lists are positional.
+     *
+     * @return the number of updated schedule lines
+     */
+    Mono<Long> advanceSchedules(List<UUID> transactionLineStandingOrderIds, List<LocalDate> executionDates,
+                                List<LocalDate> nextExecutionDates);
+
+    /**
+     * Find standing order lines matching the given criteria; null criteria are ignored.
+     * Only the predicates of the given criteria are part of the statement, ordered by the page's sort when it
+     * uses a sortable property.
+     */
+    Flux<TransactionLineStandingOrder> findByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String standingOrderId,
+            String recipientName,
+            String recipientIban,
+            String recipientBic,
+            StandingOrderStatusEnum status,
+            StandingOrderFrequencyEnum frequency,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            LocalDate endDateFrom,
+            LocalDate endDateTo,
+            LocalDate nextExecutionDateFrom,
+            LocalDate nextExecutionDateTo,
+            Boolean isSuspended,
+            Integer minTotalExecutions,
+            Integer maxTotalExecutions,
+            String createdBy,
+            String updatedBy,
+            Pageable pageable);
+
+    /**
+     * Count the standing order lines matching the given criteria; null criteria are ignored.
+     */
+    Mono<Long> countByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String standingOrderId,
+            String recipientName,
+            String recipientIban,
+            String recipientBic,
+            StandingOrderStatusEnum status,
+            StandingOrderFrequencyEnum frequency,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            LocalDate endDateFrom,
+            LocalDate endDateTo,
+            LocalDate nextExecutionDateFrom,
+            LocalDate nextExecutionDateTo,
+            Boolean isSuspended,
+            Integer minTotalExecutions,
+            Integer maxTotalExecutions,
+            String createdBy,
+            String updatedBy);
+}
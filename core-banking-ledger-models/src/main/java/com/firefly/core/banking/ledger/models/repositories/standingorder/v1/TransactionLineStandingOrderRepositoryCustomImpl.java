@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.standingorder.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.StandingOrderFrequencyEnum;
+import com.firefly.core.banking.ledger.interfaces.enums.standingorder.v1.StandingOrderStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.standingorder.v1.TransactionLineStandingOrder;
+import com.firefly.core.banking.ledger.models.repositories.CriteriaQuery;
+import com.firefly.core.banking.ledger.models.repositories.HashShards;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineStandingOrderRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineStandingOrderRepositoryCustomImpl implements TransactionLineStandingOrderRepositoryCustom {
+
+    private static final String DUE_CONDITION =
+            "standing_order_status = 'ACTIVE' " +
+            "AND standing_order_source_line_id IS NULL " +
+            "AND standing_order_next_execution_date <= :executionDate " +
+            "AND (standing_order_suspended_until_date IS NULL OR standing_order_suspended_until_date <= :executionDate) " +
+            "AND (standing_order_end_date IS NULL OR standing_order_next_execution_date <= standing_order_end_date) ";
+
+    // Lines without a standing order ID are sharded by their own ID
+    private static final String CLAIM_DUE_SQL = HashShards.claimSql(
+            "transaction_line_standing_order",
+            DUE_CONDITION,
+            "COALESCE(standing_order_id, transaction_line_standing_order_id::text)",
+            "transaction_line_standing_order_id",
+            "standing_order_next_execution_date");
+
+    private static final String CLAIM_ONE_SQL =
+            "SELECT * FROM transaction_line_standing_order " +
+            "WHERE transaction_line_standing_order_id = :id AND " + DUE_CONDITION +
+            "FOR UPDATE SKIP LOCKED";
+
+    private static final String ADVANCE_SQL =
+            "UPDATE transaction_line_standing_order o SET " +
+            "standing_order_last_execution_date = v.last_date, " +
+            "standing_order_next_execution_date = v.next_date, " +
+            "standing_order_total_executions = COALESCE(o.standing_order_total_executions, 0) + 1, " +
+            "standing_order_update_timestamp = CURRENT_TIMESTAMP " +
+            "FROM unnest(CAST(:ids AS uuid[]), CAST(:lastDates AS date[]), CAST(:nextDates AS date[])) AS v(id, last_date, next_date) " +
+            "WHERE o.transaction_line_standing_order_id = v.id";
+
+    private static final MultiRowInsert<TransactionLineStandingOrder> INSERT =
+            MultiRowInsert.<TransactionLineStandingOrder>into("transaction_line_standing_order")
+                    .column("transaction_line_standing_order_id", UUID.class, TransactionLineStandingOrder::getTransactionLineStandingOrderId)
+                    .column("transaction_id", UUID.class, TransactionLineStandingOrder::getTransactionId)
+                    .column("standing_order_id", String.class, TransactionLineStandingOrder::getStandingOrderId)
+                    .column("standing_order_frequency", String.class,
+                            l -> l.getStandingOrderFrequency() != null ? l.getStandingOrderFrequency().name() : null)
+                    .column("standing_order_start_date", LocalDate.class, TransactionLineStandingOrder::getStandingOrderStartDate)
+                    .column("standing_order_end_date", LocalDate.class, TransactionLineStandingOrder::getStandingOrderEndDate)
+                    .column("standing_order_next_execution_date", LocalDate.class, TransactionLineStandingOrder::getStandingOrderNextExecutionDate)
+                    .column("standing_order_reference", String.class, TransactionLineStandingOrder::getStandingOrderReference)
+                    .column("standing_order_recipient_name", String.class, TransactionLineStandingOrder::getStandingOrderRecipientName)
+                    .column("standing_order_recipient_iban", String.class, TransactionLineStandingOrder::getStandingOrderRecipientIban)
+                    .column("standing_order_recipient_bic", String.class, TransactionLineStandingOrder::getStandingOrderRecipientBic)
+                    .column("standing_order_purpose", String.class, TransactionLineStandingOrder::getStandingOrderPurpose)
+                    .column("standing_order_status", String.class,
+                            l -> l.getStandingOrderStatus() != null ? l.getStandingOrderStatus().name() : null)
+                    .column("standing_order_notes", String.class, TransactionLineStandingOrder::getStandingOrderNotes)
+                    .column("standing_order_last_execution_date", LocalDate.class, TransactionLineStandingOrder::getStandingOrderLastExecutionDate)
+                    .column("standing_order_total_executions", Integer.class,
+                            l -> l.getStandingOrderTotalExecutions() != null ? l.getStandingOrderTotalExecutions() : 0)
+                    .column("standing_order_created_by", String.class, TransactionLineStandingOrder::getStandingOrderCreatedBy)
+                    .column("standing_order_creation_timestamp", LocalDateTime.class,
+                            l -> l.getStandingOrderCreationTimestamp() != null ? l.getStandingOrderCreationTimestamp() : LocalDateTime.now())
+                    .column("standing_order_update_timestamp", LocalDateTime.class,
+                            l -> l.getStandingOrderUpdateTimestamp() != null ? l.getStandingOrderUpdateTimestamp() : LocalDateTime.now())
+                    .column("standing_order_spanish_tax_flag", Boolean.class,
+                            l -> l.getStandingOrderSpanishTaxFlag() != null ? l.getStandingOrderSpanishTaxFlag() : Boolean.FALSE)
+                    .column("standing_order_source_line_id", UUID.class, TransactionLineStandingOrder::getStandingOrderSourceLineId);
+
+    private static final CriteriaQuery<TransactionLineStandingOrder> CRITERIA = CriteriaQuery.<TransactionLineStandingOrder>select(
+                    "tlso.*",
+                    "transaction_line_standing_order tlso JOIN transaction t ON t.transaction_id = tlso.transaction_id")
+            // Executions copy the standing order line; only the standing orders themselves are searched
+            .whereAlways("tlso.standing_order_source_line_id IS NULL")
+            .where("minAmount", "t.total_amount >= :minAmount")
+            .where("maxAmount", "t.total_amount <= :maxAmount")
+            .where("standingOrderId", "tlso.standing_order_id = :standingOrderId")
+            .where("recipientName", "tlso.standing_order_recipient_name ILIKE concat('%', :recipientName, '%')")
+            .where("recipientIban", "tlso.standing_order_recipient_iban = :recipientIban")
+            .where("recipientBic", "tlso.standing_order_recipient_bic = :recipientBic")
+            .where("status", "tlso.standing_order_status = :status")
+            .where("frequency", "tlso.standing_order_frequency = :frequency")
+            .where("startDateFrom", "tlso.standing_order_start_date >= :startDateFrom")
+            .where("startDateTo", "tlso.standing_order_start_date <= :startDateTo")
+            .where("endDateFrom", "tlso.standing_order_end_date >= :endDateFrom")
+            .where("endDateTo", "tlso.standing_order_end_date <= :endDateTo")
+            .where("nextExecutionDateFrom", "tlso.standing_order_next_execution_date >= :nextExecutionDateFrom")
+            .where("nextExecutionDateTo", "tlso.standing_order_next_execution_date <= :nextExecutionDateTo")
+            .whereFlag("isSuspended", "tlso.standing_order_suspended_until_date > CURRENT_DATE", "(tlso.standing_order_suspended_until_date IS NULL OR tlso.standing_order_suspended_until_date <= CURRENT_DATE)")
+            .where("minTotalExecutions", "tlso.standing_order_total_executions >= :minTotalExecutions")
+            .where("maxTotalExecutions", "tlso.standing_order_total_executions <= :maxTotalExecutions")
+            .where("createdBy", "tlso.standing_order_created_by = :createdBy")
+            .where("updatedBy", "tlso.standing_order_updated_by = :updatedBy")
+            .sortable("standingOrderNextExecutionDate", "tlso.standing_order_next_execution_date")
+            .sortable("standingOrderStartDate", "tlso.standing_order_start_date")
+            .sortable("standingOrderRecipientName", "tlso.standing_order_recipient_name")
+            .sortable("totalAmount", "t.total_amount")
+            .orderBy("tlso.standing_order_next_execution_date ASC, tlso.transaction_line_standing_order_id ASC", "tlso.transaction_line_standing_order_id");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcConverter converter;
+
+    @Override
+    public Flux<TransactionLineStandingOrder> claimDueStandingOrders(LocalDate executionDate, int shardCount, int shardIndex,
+                                                                     Collection<UUID> excludedIds, int limit) {
+        return databaseClient.sql(CLAIM_DUE_SQL)
+                .bind("executionDate", executionDate)
+                .bind("shardCount", shardCount)
+                .bind("shardIndex", shardIndex)
+                .bind("excludedIds", excludedIds.toArray(new UUID[0]))
+                .bind("limit", limit)
+                .map((row, metadata) -> converter.read(TransactionLineStandingOrder.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Mono<TransactionLineStandingOrder> claimDueStandingOrder(UUID transactionLineStandingOrderId, LocalDate executionDate) {
+        return databaseClient.sql(CLAIM_ONE_SQL)
+                .bind("id", transactionLineStandingOrderId)
+                .bind("executionDate", executionDate)
+                .map((row, metadata) -> converter.read(TransactionLineStandingOrder.class, row, metadata))
+                .one();
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineStandingOrder> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+
+    @Override
+    public Mono<Long> advanceSchedules(List<UUID> transactionLineStandingOrderIds, List<LocalDate> executionDates,
+                                       List<LocalDate> nextExecutionDates) {
+        if (transactionLineStandingOrderIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql(ADVANCE_SQL)
+                .bind("ids", transactionLineStandingOrderIds.toArray(new UUID[0]))
+                .bind("lastDates", executionDates.toArray(new LocalDate[0]))
+                .bind("nextDates", nextExecutionDates.toArray(new LocalDate[0]))
+                .fetch()
+                .rowsUpdated()
+                .map(Number::longValue);
+    }
+
+    @Override
+    public Flux<TransactionLineStandingOrder> findByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String standingOrderId,
+            String recipientName,
+            String recipientIban,
+            String recipientBic,
+            StandingOrderStatusEnum status,
+            StandingOrderFrequencyEnum frequency,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            LocalDate endDateFrom,
+            LocalDate endDateTo,
+            LocalDate nextExecutionDateFrom,
+            LocalDate nextExecutionDateTo,
+            Boolean isSuspended,
+            Integer minTotalExecutions,
+            Integer maxTotalExecutions,
+            String createdBy,
+            String updatedBy,
+            Pageable pageable) {
+        return criteria(minAmount, maxAmount, standingOrderId, recipientName, recipientIban, recipientBic, status,
+                frequency, startDateFrom, startDateTo, endDateFrom, endDateTo, nextExecutionDateFrom,
+                nextExecutionDateTo, isSuspended, minTotalExecutions, maxTotalExecutions, createdBy, updatedBy)
+                .find(databaseClient, pageable, (row, metadata) -> converter.read(TransactionLineStandingOrder.class, row, metadata));
+    }
+
+    @Override
+    public Mono<Long> countByCustomCriteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String standingOrderId,
+            String recipientName,
+            String recipientIban,
+            String recipientBic,
+            StandingOrderStatusEnum status,
+            StandingOrderFrequencyEnum frequency,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            LocalDate endDateFrom,
+            LocalDate endDateTo,
+            LocalDate nextExecutionDateFrom,
+            LocalDate nextExecutionDateTo,
+            Boolean isSuspended,
+            Integer minTotalExecutions,
+            Integer maxTotalExecutions,
+            String createdBy,
+            String updatedBy) {
+        return criteria(minAmount, maxAmount, standingOrderId, recipientName, recipientIban, recipientBic, status,
+                frequency, startDateFrom, startDateTo, endDateFrom, endDateTo, nextExecutionDateFrom,
+                nextExecutionDateTo, isSuspended, minTotalExecutions, maxTotalExecutions, createdBy, updatedBy)
+                .count(databaseClient);
+    }
+
+    private static CriteriaQuery<TransactionLineStandingOrder>.Search criteria(
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String standingOrderId,
+            String recipientName,
+            String recipientIban,
+            String recipientBic,
+            StandingOrderStatusEnum status,
+            StandingOrderFrequencyEnum frequency,
+            LocalDate startDateFrom,
+            LocalDate startDateTo,
+            LocalDate endDateFrom,
+            LocalDate endDateTo,
+            LocalDate nextExecutionDateFrom,
+            LocalDate nextExecutionDateTo,
+            Boolean isSuspended,
+            Integer minTotalExecutions,
+            Integer maxTotalExecutions,
+            String createdBy,
+            String updatedBy) {
+        return CRITERIA.search()
+                .with("minAmount", minAmount)
+                .with("maxAmount", maxAmount)
+                .with("standingOrderId", standingOrderId)
+                .with("recipientName", recipientName)
+                .with("recipientIban", recipientIban)
+                .with("recipientBic", recipientBic)
+                .with("status", status)
+                .with("frequency", frequency)
+                .with("startDateFrom", startDateFrom)
+                .with("startDateTo", startDateTo)
+                .with("endDateFrom", endDateFrom)
+                .with("endDateTo", endDateTo)
+                .with("nextExecutionDateFrom", nextExecutionDateFrom)
+                .with("nextExecutionDateTo", nextExecutionDateTo)
+                .with("isSuspended", isSuspended)
+                .with("minTotalExecutions", minTotalExecutions)
+                .with("maxTotalExecutions", maxTotalExecutions)
+                .with("createdBy", createdBy)
+                .with("updatedBy", updatedBy);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobItemStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJobItem;
+import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repository for the account items of statement batch jobs.
+ */
+public interface StatementJobItemRepository extends BaseRepository<StatementJobItem, UUID> {
+    /**
+     * Enumerate one item per account and currency with activity in the given account spaces,
+     * using the account balance projection instead of scanning the legs.
+     *
+     * @return the number of items created
+     */
+    @Modifying
+    @Query("INSERT INTO statement_job_item (job_id, account_space_id, account_id, currency) " +
+           "SELECT DISTINCT ON (account_id, currency) :jobId, account_space_id, account_id, currency " +
+           "FROM account_balance WHERE account_space_id IN (:accountSpaceIds) " +
+           "ORDER BY account_id, currency, account_space_id " +
+           "ON CONFLICT (job_id, account_id, currency) DO NOTHING")
+    Mono<Long> insertItemsForAccountSpaces(UUID jobId, Collection<UUID> accountSpaceIds);
+
+    /**
+     * Claim a batch of open items of a job.
+     * <p>
+     * Pending items and items whose lease has expired are leased with {@code FOR UPDATE SKIP LOCKED},
+     * so several workers (or replicas) can drain the same job without processing an item twice.
+     */
+    @Query("UPDATE statement_job_item SET status = 'IN_PROGRESS', " +
+           "lease_until = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds) " +
+           "WHERE job_item_id IN (" +
+           "SELECT job_item_id FROM statement_job_item " +
+           "WHERE job_id = :jobId AND (status = 'PENDING' OR (status = 'IN_PROGRESS' AND lease_until < CURRENT_TIMESTAMP)) " +
+           "ORDER BY job_item_id LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+           "RETURNING *")
+    Flux<StatementJobItem> claimBatch(UUID jobId, int batchSize, double leaseSeconds);
+
+    /**
+     * Checkpoint an item as completed with the statement generated for it.
+     */
+    @Modifying
+    @Query("UPDATE statement_job_item SET status = 'COMPLETED', statement_id = :statementId, " +
+           "attempts = attempts + 1, error_message = NULL, lease_until = NULL, processed_at = CURRENT_TIMESTAMP " +
+           "WHERE job_item_id = :jobItemId")
+    Mono<Long> markCompleted(UUID jobItemId, UUID statementId);
+
+    /**
+     * Record a failed attempt: the item goes back to PENDING, or to FAILED once {@code maxAttempts} is reached.
+     */
+    @Modifying
+    @Query("UPDATE statement_job_item SET attempts = attempts + 1, error_message = :errorMessage, lease_until = NULL, " +
+           "status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, " +
+           "processed_at = CASE WHEN attempts + 1 >= :maxAttempts THEN CURRENT_TIMESTAMP ELSE NULL END " +
+           "WHERE job_item_id = :jobItemId")
+    Mono<Long> markFailed(UUID jobItemId, String errorMessage, int maxAttempts);
+
+    /**
+     * Put the failed items of a job back to PENDING with a fresh attempt budget.
+     *
+     * @return the number of items reset
+     */
+    @Modifying
+    @Query("UPDATE statement_job_item SET status = 'PENDING', attempts = 0, processed_at = NULL " +
+           "WHERE job_id = :jobId AND status = 'FAILED'")
+    Mono<Long> resetFailed(UUID jobId);
+
+    /**
+     * Count the items of a job in a given status.
+     */
+    Mono<Long> countByJobIdAndStatus(UUID jobId, StatementJobItemStatusEnum status);
+}
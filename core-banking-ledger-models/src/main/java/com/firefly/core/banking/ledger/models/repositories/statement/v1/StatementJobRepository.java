@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.models.repositories.statement.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.statement.v1.StatementJobStatusEnum;
+import com.firefly.core.banking.ledger.models.entities.statement.v1.StatementJob;
+import com.firefly.core.banking.ledger.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Repository for statement batch jobs.
+ */
+public interface StatementJobRepository extends BaseRepository<StatementJob, UUID> {
+    /**
+     * Find jobs by status.
+     */
+    Flux<StatementJob> findByStatus(StatementJobStatusEnum status);
+
+    /**
+     * Record the number of items enumerated for a job.
+     */
+    @Modifying
+    @Query("UPDATE statement_job SET total_items = :totalItems, date_updated = CURRENT_TIMESTAMP WHERE job_id = :jobId")
+    Mono<Long> updateTotalItems(UUID jobId, int totalItems);
+
+    /**
+     * Mark a running job as completed once none of its items is pending or in progress.
+     *
+     * @return 1 if the job was completed by this call, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE statement_job SET status = 'COMPLETED', completed_at = CURRENT_TIMESTAMP, date_updated = CURRENT_TIMESTAMP " +
+           "WHERE job_id = :jobId AND status = 'RUNNING' " +
+           "AND NOT EXISTS (SELECT 1 FROM statement_job_item i " +
+           "WHERE i.job_id = :jobId AND i.status IN ('PENDING', 'IN_PROGRESS'))")
+    Mono<Long> completeIfDrained(UUID jobId);
+
+    /**
+     * Put a job back into the RUNNING state.
+     */
+    @Modifying
+    @Query("UPDATE statement_job SET status = 'RUNNING', completed_at = NULL, date_updated = CURRENT_TIMESTAMP " +
+           "WHERE job_id = :jobId")
+    Mono<Long> reopen(UUID jobId);
+}
@@ -72,7 +72,8 @@ public interface StatementRepository extends BaseRepository<Statement, UUID> {
      * @param accountId The account ID.
      * @param startDate The start date.
      * @param endDate The end date.
-     * @param pageable Pagination parameters.
+     * @param limit The maximum number of statements to return.
+     * @param offset The number of statements to skip.
      * @return A flux of statements.
      */
     @Query("SELECT * FROM statement " +
@@ -80,8 +81,22 @@ public interface StatementRepository extends BaseRepository<Statement, UUID> {
            "AND start_date >= :startDate " +
            "AND end_date <= :endDate " +
            "ORDER BY generation_date DESC " +
-           "LIMIT :#{#pageable.pageSize} OFFSET :#{#pageable.offset}")
-    Flux<Statement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+           "LIMIT :limit OFFSET :offset")
+    Flux<Statement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate, int limit, long offset);
+
+    /**
+     * Count statements by account ID and date range, with the same filter as {@link #findByAccountIdAndDateRange}.
+     *
+     * @param accountId The account ID.
+     * @param startDate The start date.
+     * @param endDate The end date.
+     * @return The count of statements.
+     */
+    @Query("SELECT COUNT(*) FROM statement " +
+           "WHERE account_id = :accountId " +
+           "AND start_date >= :startDate " +
+           "AND end_date <= :endDate")
+    Mono<Long> countByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate);
     
     /**
      * Find statements by account space ID and date range.
@@ -89,7 +104,8 @@ public interface StatementRepository extends BaseRepository<Statement, UUID> {
      * @param accountSpaceId The account space ID.
      * @param startDate The start date.
      * @param endDate The end date.
-     * @param pageable Pagination parameters.
+     * @param limit The maximum number of statements to return.
+     * @param offset The number of statements to skip.
      * @return A flux of statements.
      */
     @Query("SELECT * FROM statement " +
@@ -97,6 +113,20 @@ public interface StatementRepository extends BaseRepository<Statement, UUID> {
            "AND start_date >= :startDate " +
            "AND end_date <= :endDate " +
            "ORDER BY generation_date DESC " +
-           "LIMIT :#{#pageable.pageSize} OFFSET :#{#pageable.offset}")
-    Flux<Statement> findByAccountSpaceIdAndDateRange(UUID accountSpaceId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+           "LIMIT :limit OFFSET :offset")
+    Flux<Statement> findByAccountSpaceIdAndDateRange(UUID accountSpaceId, LocalDate startDate, LocalDate endDate, int limit, long offset);
+
+    /**
+     * Count statements by account space ID and date range, with the same filter as {@link #findByAccountSpaceIdAndDateRange}.
+     *
+     * @param accountSpaceId The account space ID.
+     * @param startDate The start date.
+     * @param endDate The end date.
+     * @return The count of statements.
+     */
+    @Query("SELECT COUNT(*) FROM statement " +
+           "WHERE account_space_id = :accountSpaceId " +
+           "AND start_date >= :startDate " +
+           "AND end_date <= :endDate")
+    Mono<Long> countByAccountSpaceIdAndDateRange(UUID accountSpaceId, LocalDate startDate, LocalDate endDate);
 }
@@ -32,7 +32,8 @@ import java.time.LocalDateTime;
 /**
  * Repository interface for TransactionLineTransfer entity.
  */
-public interface TransactionLineTransferRepository extends BaseRepository<TransactionLineTransfer, UUID> {
+public interface TransactionLineTransferRepository extends BaseRepository<TransactionLineTransfer, UUID>,
+        TransactionLineTransferRepositoryCustom {
     /**
      * Find transfer transaction line by transaction ID.
      *
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.transfer.v1;
+
+import com.firefly.core.banking.ledger.models.entities.transfer.v1.TransactionLineTransfer;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineTransferRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineTransferRepositoryCustomImpl implements TransactionLineTransferRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLineTransfer> INSERT =
+            MultiRowInsert.<TransactionLineTransfer>into("transaction_line_transfer")
+                    .column("transaction_line_transfer_id", UUID.class,
+                            l -> l.getTransactionLineTransferId() != null ? l.getTransactionLineTransferId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineTransfer::getTransactionId)
+                    .column("transfer_reference", String.class, TransactionLineTransfer::getTransferReference)
+                    .column("transfer_source_account_id", UUID.class, TransactionLineTransfer::getTransferSourceAccountId)
+                    .column("transfer_destination_account_id", UUID.class, TransactionLineTransfer::getTransferDestinationAccountId)
+                    .column("transfer_source_account_number", String.class, TransactionLineTransfer::getTransferSourceAccountNumber)
+                    .column("transfer_destination_account_number", String.class, TransactionLineTransfer::getTransferDestinationAccountNumber)
+                    .column("transfer_source_account_name", String.class, TransactionLineTransfer::getTransferSourceAccountName)
+                    .column("transfer_destination_account_name", String.class, TransactionLineTransfer::getTransferDestinationAccountName)
+                    .column("transfer_purpose", String.class, TransactionLineTransfer::getTransferPurpose)
+                    .column("transfer_notes", String.class, TransactionLineTransfer::getTransferNotes)
+                    .column("transfer_timestamp", LocalDateTime.class, TransactionLineTransfer::getTransferTimestamp)
+                    .column("transfer_processed_by", String.class, TransactionLineTransfer::getTransferProcessedBy)
+                    .column("transfer_fee_amount", BigDecimal.class, TransactionLineTransfer::getTransferFeeAmount)
+                    .column("transfer_fee_currency", String.class, TransactionLineTransfer::getTransferFeeCurrency)
+                    .column("transfer_scheduled_date", LocalDate.class, TransactionLineTransfer::getTransferScheduledDate)
+                    .column("transfer_execution_date", LocalDate.class, TransactionLineTransfer::getTransferExecutionDate)
+                    .column("transfer_spanish_tax_code", String.class, TransactionLineTransfer::getTransferSpanishTaxCode);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineTransfer> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+}
@@ -27,10 +27,9 @@ import reactor.core.publisher.Mono;
 
 
 import java.util.UUID;
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
 
-public interface TransactionLineWireRepository extends BaseRepository<TransactionLineWireTransfer, UUID> {
+public interface TransactionLineWireRepository extends BaseRepository<TransactionLineWireTransfer, UUID>,
+        TransactionLineWireRepositoryCustom {
     Mono<TransactionLineWireTransfer> findByTransactionId(UUID transactionId);
 
     Mono<TransactionLineWireTransfer> findByWireTransferReference(String reference);
@@ -67,67 +66,6 @@ public interface TransactionLineWireRepository extends BaseRepository<Transactio
     @Query("SELECT COUNT(*) FROM transaction_line_wire_transfer WHERE wire_destination_swift_bic = :swiftCode")
     Mono<Long> countIncomingTransfersBySwift(String swiftCode);
 
-    @Query("SELECT tlw.* FROM transaction_line_wire_transfer tlw " +
-            "JOIN transaction t ON t.transaction_id = tlw.transaction_id " +
-            "WHERE (:startDate IS NULL OR tlw.wire_processing_date >= :startDate) " +
-            "AND (:endDate IS NULL OR tlw.wire_processing_date <= :endDate) " +
-            "AND (:priority IS NULL OR tlw.wire_transfer_priority = :priority) " +
-            "AND (:cancelled IS NULL OR tlw.wire_cancelled_flag = :cancelled) " +
-            "AND (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount) " +
-            "AND (:beneficiaryName IS NULL OR tlw.wire_beneficiary_name ILIKE concat('%', :beneficiaryName, '%')) " +
-            "AND (:originSwiftCode IS NULL OR tlw.wire_origin_swift_bic = :originSwiftCode) " +
-            "AND (:destinationSwiftCode IS NULL OR tlw.wire_destination_swift_bic = :destinationSwiftCode) " +
-            "AND (:minExchangeRate IS NULL OR tlw.wire_exchange_rate >= :minExchangeRate) " +
-            "AND (:maxExchangeRate IS NULL OR tlw.wire_exchange_rate <= :maxExchangeRate) " +
-            "AND (:minFeeAmount IS NULL OR tlw.wire_fee_amount >= :minFeeAmount) " +
-            "AND (:maxFeeAmount IS NULL OR tlw.wire_fee_amount <= :maxFeeAmount)")
-    Flux<TransactionLineWireTransfer> findByCustomCriteria(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            WireTransferPriorityEnum priority,
-            Boolean cancelled,
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            String beneficiaryName,
-            String originSwiftCode,
-            String destinationSwiftCode,
-            BigDecimal minExchangeRate,
-            BigDecimal maxExchangeRate,
-            BigDecimal minFeeAmount,
-            BigDecimal maxFeeAmount,
-            Pageable pageable);
-
-    @Query("SELECT COUNT(*) FROM transaction_line_wire_transfer tlw " +
-            "JOIN transaction t ON t.transaction_id = tlw.transaction_id " +
-            "WHERE (:startDate IS NULL OR tlw.wire_processing_date >= :startDate) " +
-            "AND (:endDate IS NULL OR tlw.wire_processing_date <= :endDate) " +
-            "AND (:priority IS NULL OR tlw.wire_transfer_priority = :priority) " +
-            "AND (:cancelled IS NULL OR tlw.wire_cancelled_flag = :cancelled) " +
-            "AND (:minAmount IS NULL OR t.total_amount >= :minAmount) " +
-            "AND (:maxAmount IS NULL OR t.total_amount <= :maxAmount) " +
-            "AND (:beneficiaryName IS NULL OR tlw.wire_beneficiary_name ILIKE concat('%', :beneficiaryName, '%')) " +
-            "AND (:originSwiftCode IS NULL OR tlw.wire_origin_swift_bic = :originSwiftCode) " +
-            "AND (:destinationSwiftCode IS NULL OR tlw.wire_destination_swift_bic = :destinationSwiftCode) " +
-            "AND (:minExchangeRate IS NULL OR tlw.wire_exchange_rate >= :minExchangeRate) " +
-            "AND (:maxExchangeRate IS NULL OR tlw.wire_exchange_rate <= :maxExchangeRate) " +
-            "AND (:minFeeAmount IS NULL OR tlw.wire_fee_amount >= :minFeeAmount) " +
-            "AND (:maxFeeAmount IS NULL OR tlw.wire_fee_amount <= :maxFeeAmount)")
-    Mono<Long> countByCustomCriteria(
-            LocalDateTime startDate,
-            LocalDateTime endDate,
-            WireTransferPriorityEnum priority,
-            Boolean cancelled,
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            String beneficiaryName,
-            String originSwiftCode,
-            String destinationSwiftCode,
-            BigDecimal minExchangeRate,
-            BigDecimal maxExchangeRate,
-            BigDecimal minFeeAmount,
-            BigDecimal maxFeeAmount);
-
 
     @Query("SELECT * FROM transaction_line_wire_transfer " +
             "WHERE wire_beneficiary_name ILIKE concat('%', :beneficiaryName, '%') " +
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.wire.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.wire.v1.WireTransferPriorityEnum;
+import com.firefly.core.banking.ledger.models.entities.wire.v1.TransactionLineWireTransfer;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom queries and writes for wire transfer lines that cannot be expressed as derived or annotated queries.
+ */
+public interface TransactionLineWireRepositoryCustom {
+    /**
+     * Find wire transfer lines matching the given criteria; null criteria are ignored.
+     * Only the predicates of the given criteria are part of the statement, ordered by the page's sort when it
+     * uses a sortable property.
+     */
+    Flux<TransactionLineWireTransfer> findByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            WireTransferPriorityEnum priority,
+            Boolean cancelled,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String beneficiaryName,
+            String originSwiftCode,
+            String destinationSwiftCode,
+            BigDecimal minExchangeRate,
+            BigDecimal maxExchangeRate,
+            BigDecimal minFeeAmount,
+            BigDecimal maxFeeAmount,
+            Pageable pageable);
+
+    /**
+     * Count the wire transfer lines matching the given criteria; null criteria are ignored.
+     */
+    Mono<Long> countByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            WireTransferPriorityEnum priority,
+            Boolean cancelled,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String beneficiaryName,
+            String originSwiftCode,
+            String destinationSwiftCode,
+            BigDecimal minExchangeRate,
+            BigDecimal maxExchangeRate,
+            BigDecimal minFeeAmount,
+            BigDecimal maxFeeAmount);
+
+    /**
+     * Insert all wire transfer lines with multi-row INSERT statements.
+     *
+     * @param lines The wire transfer lines to insert; lines without an ID get a generated one
+     * @return A Mono containing the number of inserted rows
+     */
+    Mono<Long> insertAll(List<TransactionLineWireTransfer> lines);
+}
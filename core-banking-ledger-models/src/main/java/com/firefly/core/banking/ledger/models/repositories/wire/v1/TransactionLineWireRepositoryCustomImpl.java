@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.wire.v1;
+
+import com.firefly.core.banking.ledger.interfaces.enums.wire.v1.WireTransferPriorityEnum;
+import com.firefly.core.banking.ledger.models.entities.wire.v1.TransactionLineWireTransfer;
+import com.firefly.core.banking.ledger.models.repositories.CriteriaQuery;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineWireRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineWireRepositoryCustomImpl implements TransactionLineWireRepositoryCustom {
+
+    private static final CriteriaQuery<TransactionLineWireTransfer> CRITERIA = CriteriaQuery.<TransactionLineWireTransfer>select(
+                    "tlw.*",
+                    "transaction_line_wire_transfer tlw JOIN transaction t ON t.transaction_id = tlw.transaction_id")
+            .where("startDate", "tlw.wire_processing_date >= :startDate")
+            .where("endDate", "tlw.wire_processing_date <= :endDate")
+            .where("priority", "tlw.wire_transfer_priority = :priority")
+            .where("cancelled", "tlw.wire_cancelled_flag = :cancelled")
+            .where("minAmount", "t.total_amount >= :minAmount")
+            .where("maxAmount", "t.total_amount <= :maxAmount")
+            .where("beneficiaryName", "tlw.wire_beneficiary_name ILIKE concat('%', :beneficiaryName, '%')")
+            .where("originSwiftCode", "tlw.wire_origin_swift_bic = :originSwiftCode")
+            .where("destinationSwiftCode", "tlw.wire_destination_swift_bic = :destinationSwiftCode")
+            .where("minExchangeRate", "tlw.wire_exchange_rate >= :minExchangeRate")
+            .where("maxExchangeRate", "tlw.wire_exchange_rate <= :maxExchangeRate")
+            .where("minFeeAmount", "tlw.wire_fee_amount >= :minFeeAmount")
+            .where("maxFeeAmount", "tlw.wire_fee_amount <= :maxFeeAmount")
+            .sortable("wireProcessingDate", "tlw.wire_processing_date")
+            .sortable("wireBeneficiaryName", "tlw.wire_beneficiary_name")
+            .sortable("wireFeeAmount", "tlw.wire_fee_amount")
+            .sortable("totalAmount", "t.total_amount")
+            .orderBy("tlw.wire_processing_date DESC, tlw.transaction_line_wire_transfer_id DESC", "tlw.transaction_line_wire_transfer_id");
+
+    private static final MultiRowInsert<TransactionLineWireTransfer> INSERT =
+            MultiRowInsert.<TransactionLineWireTransfer>into("transaction_line_wire_transfer")
+                    .column("transaction_line_wire_transfer_id", UUID.class,
+                            l -> l.getTransactionLineWireTransferId() != null ? l.getTransactionLineWireTransferId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineWireTransfer::getTransactionId)
+                    .column("wire_transfer_reference", String.class, TransactionLineWireTransfer::getWireTransferReference)
+                    .column("wire_origin_swift_bic", String.class, TransactionLineWireTransfer::getWireOriginSwiftBic)
+                    .column("wire_destination_swift_bic", String.class, TransactionLineWireTransfer::getWireDestinationSwiftBic)
+                    .column("wire_origin_account_number", String.class, TransactionLineWireTransfer::getWireOriginAccountNumber)
+                    .column("wire_destination_account_number", String.class, TransactionLineWireTransfer::getWireDestinationAccountNumber)
+                    .column("wire_transfer_purpose", String.class, TransactionLineWireTransfer::getWireTransferPurpose)
+                    .column("wire_transfer_priority", String.class,
+                            l -> l.getWireTransferPriority() != null ? l.getWireTransferPriority().name() : null)
+                    .column("wire_exchange_rate", BigDecimal.class, TransactionLineWireTransfer::getWireExchangeRate)
+                    .column("wire_fee_amount", BigDecimal.class, TransactionLineWireTransfer::getWireFeeAmount)
+                    .column("wire_fee_currency", String.class, TransactionLineWireTransfer::getWireFeeCurrency)
+                    .column("wire_instructing_party", String.class, TransactionLineWireTransfer::getWireInstructingParty)
+                    .column("wire_beneficiary_name", String.class, TransactionLineWireTransfer::getWireBeneficiaryName)
+                    .column("wire_beneficiary_address", String.class, TransactionLineWireTransfer::getWireBeneficiaryAddress)
+                    .column("wire_processing_date", LocalDateTime.class, TransactionLineWireTransfer::getWireProcessingDate)
+                    .column("wire_transaction_notes", String.class, TransactionLineWireTransfer::getWireTransactionNotes)
+                    .column("wire_reception_status", String.class, TransactionLineWireTransfer::getWireReceptionStatus)
+                    .column("wire_decline_reason", String.class, TransactionLineWireTransfer::getWireDeclineReason)
+                    .column("wire_cancelled_flag", Boolean.class, l -> l.getWireCancelledFlag() != null ? l.getWireCancelledFlag() : Boolean.FALSE)
+                    .column("bank_of_spain_reg_code", String.class, TransactionLineWireTransfer::getBankOfSpainRegCode);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcConverter converter;
+
+    @Override
+    public Flux<TransactionLineWireTransfer> findByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            WireTransferPriorityEnum priority,
+            Boolean cancelled,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String beneficiaryName,
+            String originSwiftCode,
+            String destinationSwiftCode,
+            BigDecimal minExchangeRate,
+            BigDecimal maxExchangeRate,
+            BigDecimal minFeeAmount,
+            BigDecimal maxFeeAmount,
+            Pageable pageable) {
+        return criteria(startDate, endDate, priority, cancelled, minAmount, maxAmount, beneficiaryName,
+                originSwiftCode, destinationSwiftCode, minExchangeRate, maxExchangeRate, minFeeAmount, maxFeeAmount)
+                .find(databaseClient, pageable, (row, metadata) -> converter.read(TransactionLineWireTransfer.class, row, metadata));
+    }
+
+    @Override
+    public Mono<Long> countByCustomCriteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            WireTransferPriorityEnum priority,
+            Boolean cancelled,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String beneficiaryName,
+            String originSwiftCode,
+            String destinationSwiftCode,
+            BigDecimal minExchangeRate,
+            BigDecimal maxExchangeRate,
+            BigDecimal minFeeAmount,
+            BigDecimal maxFeeAmount) {
+        return criteria(startDate, endDate, priority, cancelled, minAmount, maxAmount, beneficiaryName,
+                originSwiftCode, destinationSwiftCode, minExchangeRate, maxExchangeRate, minFeeAmount, maxFeeAmount)
+                .count(databaseClient);
+    }
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineWireTransfer> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+
+    private static CriteriaQuery<TransactionLineWireTransfer>.Search criteria(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            WireTransferPriorityEnum priority,
+            Boolean cancelled,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String beneficiaryName,
+            String originSwiftCode,
+            String destinationSwiftCode,
+            BigDecimal minExchangeRate,
+            BigDecimal maxExchangeRate,
+            BigDecimal minFeeAmount,
+            BigDecimal maxFeeAmount) {
+        return CRITERIA.search()
+                .with("startDate", startDate)
+                .with("endDate", endDate)
+                .with("priority", priority)
+                .with("cancelled", cancelled)
+                .with("minAmount", minAmount)
+                .with("maxAmount", maxAmount)
+                .with("beneficiaryName", beneficiaryName)
+                .with("originSwiftCode", originSwiftCode)
+                .with("destinationSwiftCode", destinationSwiftCode)
+                .with("minExchangeRate", minExchangeRate)
+                .with("maxExchangeRate", maxExchangeRate)
+                .with("minFeeAmount", minFeeAmount)
+                .with("maxFeeAmount", maxFeeAmount);
+    }
+}
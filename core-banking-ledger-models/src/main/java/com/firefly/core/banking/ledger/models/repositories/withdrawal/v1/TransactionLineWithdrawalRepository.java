@@ -32,7 +32,8 @@ import java.time.LocalDateTime;
 /**
  * Repository interface for TransactionLineWithdrawal entity.
  */
-public interface TransactionLineWithdrawalRepository extends BaseRepository<TransactionLineWithdrawal, UUID> {
+public interface TransactionLineWithdrawalRepository extends BaseRepository<TransactionLineWithdrawal, UUID>,
+        TransactionLineWithdrawalRepositoryCustom {
     /**
      * Find withdrawal transaction line by transaction ID.
      *
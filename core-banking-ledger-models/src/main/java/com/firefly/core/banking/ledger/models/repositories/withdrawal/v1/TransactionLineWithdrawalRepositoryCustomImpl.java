@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories.withdrawal.v1;
+
+import com.firefly.core.banking.ledger.models.entities.withdrawal.v1.TransactionLineWithdrawal;
+import com.firefly.core.banking.ledger.models.repositories.MultiRowInsert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TransactionLineWithdrawalRepositoryCustom} on top of {@link DatabaseClient}.
+ */
+public class TransactionLineWithdrawalRepositoryCustomImpl implements TransactionLineWithdrawalRepositoryCustom {
+
+    private static final MultiRowInsert<TransactionLineWithdrawal> INSERT =
+            MultiRowInsert.<TransactionLineWithdrawal>into("transaction_line_withdrawal")
+                    .column("transaction_line_withdrawal_id", UUID.class,
+                            l -> l.getTransactionLineWithdrawalId() != null ? l.getTransactionLineWithdrawalId() : UUID.randomUUID())
+                    .column("transaction_id", UUID.class, TransactionLineWithdrawal::getTransactionId)
+                    .column("withdrawal_method", String.class, TransactionLineWithdrawal::getWithdrawalMethod)
+                    .column("withdrawal_reference", String.class, TransactionLineWithdrawal::getWithdrawalReference)
+                    .column("withdrawal_location", String.class, TransactionLineWithdrawal::getWithdrawalLocation)
+                    .column("withdrawal_notes", String.class, TransactionLineWithdrawal::getWithdrawalNotes)
+                    .column("withdrawal_confirmation_code", String.class, TransactionLineWithdrawal::getWithdrawalConfirmationCode)
+                    .column("withdrawal_receipt_number", String.class, TransactionLineWithdrawal::getWithdrawalReceiptNumber)
+                    .column("withdrawal_atm_id", String.class, TransactionLineWithdrawal::getWithdrawalAtmId)
+                    .column("withdrawal_branch_id", String.class, TransactionLineWithdrawal::getWithdrawalBranchId)
+                    .column("withdrawal_timestamp", LocalDateTime.class, TransactionLineWithdrawal::getWithdrawalTimestamp)
+                    .column("withdrawal_processed_by", String.class, TransactionLineWithdrawal::getWithdrawalProcessedBy)
+                    .column("withdrawal_authorization_code", String.class, TransactionLineWithdrawal::getWithdrawalAuthorizationCode)
+                    .column("withdrawal_daily_limit_check", Boolean.class, l -> l.getWithdrawalDailyLimitCheck() != null ? l.getWithdrawalDailyLimitCheck() : Boolean.FALSE)
+                    .column("withdrawal_daily_amount_used", BigDecimal.class, TransactionLineWithdrawal::getWithdrawalDailyAmountUsed)
+                    .column("withdrawal_daily_limit", BigDecimal.class, TransactionLineWithdrawal::getWithdrawalDailyLimit)
+                    .column("withdrawal_spanish_tax_code", String.class, TransactionLineWithdrawal::getWithdrawalSpanishTaxCode);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<TransactionLineWithdrawal> lines) {
+        return INSERT.execute(databaseClient, lines);
+    }
+}
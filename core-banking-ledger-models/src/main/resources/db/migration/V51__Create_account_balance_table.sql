@@ -0,0 +1,49 @@
+-- V51__Create_account_balance_table.sql
+-- Requires PostgreSQL 15 or later: the projection's unique constraint uses UNIQUE NULLS NOT DISTINCT.
+
+-- =============================================
+-- ACCOUNT_BALANCE (Running Balance Projection)
+-- =============================================
+CREATE TABLE IF NOT EXISTS account_balance (
+    account_balance_id      UUID NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    account_id              UUID NOT NULL,
+    account_space_id        UUID,
+    currency                CHAR(3) NOT NULL,
+    balance                 DECIMAL(19,4) NOT NULL DEFAULT 0,
+    total_credits           DECIMAL(19,4) NOT NULL DEFAULT 0,
+    total_debits            DECIMAL(19,4) NOT NULL DEFAULT 0,
+    leg_count               BIGINT NOT NULL DEFAULT 0,
+    last_booking_date       TIMESTAMP,
+    date_created            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- One projection row per account, account space and currency (a NULL account space is the account itself).
+    -- NULLS NOT DISTINCT (PostgreSQL 15+) makes the NULL account space conflict with itself, so the
+    -- ON CONFLICT (account_id, account_space_id, currency) upserts also work for the account's own balance.
+    CONSTRAINT uq_account_balance_account_space_currency
+        UNIQUE NULLS NOT DISTINCT (account_id, account_space_id, currency)
+);
+
+-- Add comments explaining the purpose of the table
+COMMENT ON TABLE account_balance IS 'Running balance projection per account, account space and currency, maintained on every transaction_leg insert';
+COMMENT ON COLUMN account_balance.account_id IS 'Logical reference to the account ID in external account microservice';
+COMMENT ON COLUMN account_balance.account_space_id IS 'Logical reference to the account space ID in external account microservice (null for the account itself)';
+COMMENT ON COLUMN account_balance.balance IS 'Current balance: total credits minus total debits';
+COMMENT ON COLUMN account_balance.total_credits IS 'Sum of all CREDIT legs applied to this balance';
+COMMENT ON COLUMN account_balance.total_debits IS 'Sum of all DEBIT legs applied to this balance';
+COMMENT ON COLUMN account_balance.leg_count IS 'Number of transaction legs applied to this balance';
+COMMENT ON COLUMN account_balance.last_booking_date IS 'Latest booking date among the applied legs';
+
+-- Seed the projection from the legs already in the ledger
+INSERT INTO account_balance (account_id, account_space_id, currency, balance, total_credits, total_debits, leg_count, last_booking_date)
+SELECT account_id,
+       account_space_id,
+       currency,
+       SUM(CASE WHEN leg_type = 'CREDIT' THEN amount ELSE -amount END),
+       SUM(CASE WHEN leg_type = 'CREDIT' THEN amount ELSE 0 END),
+       SUM(CASE WHEN leg_type = 'DEBIT' THEN amount ELSE 0 END),
+       COUNT(*),
+       MAX(booking_date)
+FROM transaction_leg
+WHERE account_id IS NOT NULL
+GROUP BY account_id, account_space_id, currency;
@@ -0,0 +1,16 @@
+-- V52__Add_keyset_pagination_indexes.sql
+
+-- Composite indexes backing keyset (cursor) pagination ordered by (booking_date DESC, id DESC).
+-- Each page seeks directly to the cursor position instead of scanning and discarding an OFFSET prefix.
+CREATE INDEX IF NOT EXISTS idx_transaction_leg_account_booking_keyset
+    ON transaction_leg (account_id, booking_date DESC, transaction_leg_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_account_booking_keyset
+    ON transaction (account_id, booking_date DESC, transaction_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_account_space_booking_keyset
+    ON transaction (account_space_id, booking_date DESC, transaction_id DESC);
+
+COMMENT ON INDEX idx_transaction_leg_account_booking_keyset IS 'Keyset pagination of account legs by booking date';
+COMMENT ON INDEX idx_transaction_account_booking_keyset IS 'Keyset pagination of account transactions by booking date';
+COMMENT ON INDEX idx_transaction_account_space_booking_keyset IS 'Keyset pagination of account space transactions by booking date';
@@ -0,0 +1,18 @@
+-- V53__Add_event_outbox_relay_columns.sql
+
+-- =============================================
+-- EVENT_OUTBOX relay support
+-- =============================================
+-- next_attempt_at drives both the claim lease and the retry backoff:
+-- a relay claiming a batch pushes it forward by the lease duration, so other replicas skip the
+-- rows while they are being published, and a failed publication pushes it forward by the backoff.
+ALTER TABLE event_outbox
+    ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+COMMENT ON COLUMN event_outbox.next_attempt_at IS 'Earliest time the relay may (re)claim the event: lease expiry while publishing, backoff after a failure';
+
+-- Only pending events are ever polled, so index just those instead of scanning processed = false
+DROP INDEX IF EXISTS idx_event_outbox_processed;
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending
+    ON event_outbox (next_attempt_at)
+    WHERE processed = FALSE;
@@ -0,0 +1,62 @@
+-- V54__Create_statement_job_tables.sql
+
+-- =============================================
+-- STATEMENT_JOB (Statement fan-out batch jobs)
+-- =============================================
+CREATE TABLE IF NOT EXISTS statement_job (
+    job_id                  UUID NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    period_type             VARCHAR(20) NOT NULL,
+    start_date              DATE NOT NULL,
+    end_date                DATE NOT NULL,
+    include_pending         BOOLEAN NOT NULL DEFAULT FALSE,
+    include_details         BOOLEAN NOT NULL DEFAULT TRUE,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    total_items             INTEGER NOT NULL DEFAULT 0,
+    started_at              TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at            TIMESTAMP,
+    date_created            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE statement_job IS 'Batch job generating statements for every account of a set of account spaces';
+COMMENT ON COLUMN statement_job.status IS 'RUNNING until no item is pending or in progress, then COMPLETED';
+COMMENT ON COLUMN statement_job.total_items IS 'Number of account/currency items enumerated when the job was created';
+
+CREATE INDEX IF NOT EXISTS idx_statement_job_running
+    ON statement_job (job_id)
+    WHERE status = 'RUNNING';
+
+-- =============================================
+-- STATEMENT_JOB_ITEM (Per-account checkpoints)
+-- =============================================
+-- One row per account and currency to generate. The item status is the job checkpoint: it is updated in
+-- the same database transaction that persists the statement, so a restarted job only processes the items
+-- that are still pending, and items claimed by a worker that died are reclaimed once their lease expires.
+CREATE TABLE IF NOT EXISTS statement_job_item (
+    job_item_id             UUID NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    job_id                  UUID NOT NULL REFERENCES statement_job (job_id) ON DELETE CASCADE,
+    account_space_id        UUID,
+    account_id              UUID NOT NULL,
+    currency                CHAR(3) NOT NULL,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts                INTEGER NOT NULL DEFAULT 0,
+    statement_id            UUID,
+    error_message           TEXT,
+    lease_until             TIMESTAMP,
+    processed_at            TIMESTAMP,
+
+    CONSTRAINT uq_statement_job_item_account_currency UNIQUE (job_id, account_id, currency)
+);
+
+COMMENT ON COLUMN statement_job_item.status IS 'PENDING, IN_PROGRESS (leased by a worker), COMPLETED or FAILED (attempts exhausted)';
+COMMENT ON COLUMN statement_job_item.lease_until IS 'Expiry of the claim of an IN_PROGRESS item; expired items are claimed again';
+COMMENT ON COLUMN statement_job_item.statement_id IS 'Statement generated for the item';
+
+-- Progress counters (count per job and status)
+CREATE INDEX IF NOT EXISTS idx_statement_job_item_job_status
+    ON statement_job_item (job_id, status);
+
+-- Claim lookups only ever look at items that still have work to do
+CREATE INDEX IF NOT EXISTS idx_statement_job_item_open
+    ON statement_job_item (job_id, job_item_id)
+    WHERE status IN ('PENDING', 'IN_PROGRESS');
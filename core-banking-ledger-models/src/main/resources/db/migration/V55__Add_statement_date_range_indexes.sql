@@ -0,0 +1,16 @@
+-- V55__Add_statement_date_range_indexes.sql
+
+-- Composite indexes backing the statement date-range listings and their counts.
+-- The counts only read (owner, start_date, end_date), so they are answered with an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_statement_account_date_range
+    ON statement (account_id, start_date, end_date);
+
+CREATE INDEX IF NOT EXISTS idx_statement_account_space_date_range
+    ON statement (account_space_id, start_date, end_date);
+
+COMMENT ON INDEX idx_statement_account_date_range IS 'Statement date-range listing and count per account';
+COMMENT ON INDEX idx_statement_account_space_date_range IS 'Statement date-range listing and count per account space';
+
+-- The single-column owner indexes are prefixes of the composite ones above
+DROP INDEX IF EXISTS idx_statement_account_uuid;
+DROP INDEX IF EXISTS idx_statement_account_space_uuid;
@@ -0,0 +1,23 @@
+-- V56__Add_standing_order_execution_support.sql
+
+-- =============================================
+-- TRANSACTION_LINE_STANDING_ORDER execution support
+-- =============================================
+-- Every execution of a standing order creates a transaction with its own standing order line.
+-- Those execution lines point back at the schedule line that produced them; the schedule line itself
+-- keeps standing_order_source_line_id NULL and is the only row the scheduler claims.
+ALTER TABLE transaction_line_standing_order
+    ADD COLUMN IF NOT EXISTS standing_order_source_line_id UUID
+        REFERENCES transaction_line_standing_order (transaction_line_standing_order_id);
+
+COMMENT ON COLUMN transaction_line_standing_order.standing_order_source_line_id IS 'For execution lines: the schedule line that produced the execution (NULL for the schedule itself)';
+
+-- Due-order lookup of the scheduler: only active schedule lines are ever claimed
+CREATE INDEX IF NOT EXISTS idx_standing_order_due
+    ON transaction_line_standing_order (standing_order_next_execution_date)
+    WHERE standing_order_status = 'ACTIVE' AND standing_order_source_line_id IS NULL;
+
+-- A schedule executes at most once per execution date, whatever happens to the scheduler
+CREATE UNIQUE INDEX IF NOT EXISTS uq_standing_order_execution
+    ON transaction_line_standing_order (standing_order_source_line_id, standing_order_last_execution_date)
+    WHERE standing_order_source_line_id IS NOT NULL;
@@ -0,0 +1,19 @@
+-- V57__Add_direct_debit_collection_indexes.sql
+
+-- =============================================
+-- TRANSACTION_LINE_DIRECT_DEBIT collection support
+-- =============================================
+-- Due-debit lookup of the collection processor: only collectable (initiated, not revoked) debits
+CREATE INDEX IF NOT EXISTS idx_direct_debit_collectable
+    ON transaction_line_direct_debit (direct_debit_due_date)
+    WHERE direct_debit_processing_status = 'INITIATED' AND direct_debit_revocation_date IS NULL;
+
+-- Per-mandate ordering check: is there an earlier collectable debit on the same mandate?
+CREATE INDEX IF NOT EXISTS idx_direct_debit_initiated_mandate
+    ON transaction_line_direct_debit (direct_debit_mandate_id, direct_debit_due_date)
+    WHERE direct_debit_processing_status = 'INITIATED';
+
+-- Mandate history lookup (completed collections per mandate)
+CREATE INDEX IF NOT EXISTS idx_direct_debit_completed_mandate
+    ON transaction_line_direct_debit (direct_debit_mandate_id, direct_debit_sequence_type)
+    WHERE direct_debit_processing_status = 'COMPLETED';
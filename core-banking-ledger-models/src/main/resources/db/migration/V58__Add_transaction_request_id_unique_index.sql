@@ -0,0 +1,12 @@
+-- V58__Add_transaction_request_id_unique_index.sql
+
+-- =============================================
+-- TRANSACTION idempotency
+-- =============================================
+-- request_id is the idempotency key sent by the channel: a retried creation must not
+-- insert a second transaction. Existing duplicates have to be resolved before this runs.
+DROP INDEX IF EXISTS idx_transaction_request_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_transaction_request_id
+    ON transaction (request_id)
+    WHERE request_id IS NOT NULL;
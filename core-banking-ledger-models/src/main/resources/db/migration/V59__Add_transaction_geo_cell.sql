@@ -0,0 +1,26 @@
+-- V59__Add_transaction_geo_cell.sql
+
+-- =============================================
+-- TRANSACTION geo search
+-- =============================================
+-- geo_cell numbers the 0.1 degree grid cell of the transaction location, row by row from the
+-- south-west corner (see GeoGrid; the formula must match GeoGrid.cellOf). Being generated, it is
+-- kept up to date by every write path, including bulk inserts and updates.
+-- Adding a stored generated column rewrites the table; on large installations run this in a
+-- maintenance window.
+ALTER TABLE transaction
+ADD COLUMN geo_cell INTEGER GENERATED ALWAYS AS (
+    LEAST(floor((latitude + 90) * 10), 1799)::integer * 3600
+        + LEAST(floor((longitude + 180) * 10), 3599)::integer
+) STORED;
+
+COMMENT ON COLUMN transaction.geo_cell IS 'Grid cell of the transaction location, used to index radius searches';
+
+-- Radius searches scan the cell ranges covering the circle's bounding box and check the box on the
+-- index entries before visiting the heap; the exact distance is only computed for those rows.
+CREATE INDEX IF NOT EXISTS idx_transaction_geo_cell
+    ON transaction (geo_cell, latitude, longitude)
+    WHERE geo_cell IS NOT NULL;
+
+-- Superseded by idx_transaction_geo_cell
+DROP INDEX IF EXISTS idx_transaction_geolocation;
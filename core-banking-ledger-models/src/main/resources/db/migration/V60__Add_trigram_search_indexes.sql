@@ -0,0 +1,29 @@
+-- V60__Add_trigram_search_indexes.sql
+
+-- =============================================
+-- Free-text search on descriptions and counterparty names
+-- =============================================
+-- Substring searches (LIKE/ILIKE '%...%') cannot use B-tree indexes. Trigram GIN indexes serve both
+-- those filters and the ranked word-similarity search behind GET /api/v1/transactions/search.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_transaction_description_trgm
+    ON transaction USING gin (description gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_initiating_party_trgm
+    ON transaction USING gin (initiating_party gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_line_card_merchant_name_trgm
+    ON transaction_line_card USING gin (card_merchant_name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_line_direct_debit_debtor_name_trgm
+    ON transaction_line_direct_debit USING gin (direct_debit_debtor_name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_line_sepa_recipient_name_trgm
+    ON transaction_line_sepa_transfer USING gin (sepa_recipient_name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_line_wire_beneficiary_name_trgm
+    ON transaction_line_wire_transfer USING gin (wire_beneficiary_name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_transaction_line_standing_order_recipient_name_trgm
+    ON transaction_line_standing_order USING gin (standing_order_recipient_name gin_trgm_ops);
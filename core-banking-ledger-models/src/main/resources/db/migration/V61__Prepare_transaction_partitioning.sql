@@ -0,0 +1,223 @@
+-- V61__Prepare_transaction_partitioning.sql
+
+-- =============================================
+-- TRANSACTION / TRANSACTION_LEG partitioning, step 1 of 3
+-- =============================================
+-- transaction and transaction_leg become range partitioned by booking_date, one partition per month (V63).
+-- The existing tables are not copied: each is attached as the partition holding everything booked before
+-- the cutover month. Steps 1 and 3 only take short locks; step 2 validates and builds everything that needs
+-- a full scan without blocking writes.
+--
+-- From this step on every write must set booking_date: application versions older than this migration
+-- must be drained before it runs.
+
+-- The partition key cannot be null. Rows booked before booking_date was maintained fall back to the value date.
+-- Rewriting every such row inside this migration's transaction would lock and bloat the tables in one go, so
+-- the backfill is a procedure committing every p_batch_size rows, walking the primary keys. V62 runs it outside
+-- a transaction before validating the constraints below; on large ledgers it can also be run by hand
+-- (CALL ledger_backfill_booking_date(10000)) between deploying V61 and V62.
+CREATE OR REPLACE PROCEDURE ledger_backfill_booking_date(p_batch_size INTEGER DEFAULT 10000)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    last_id UUID := '00000000-0000-0000-0000-000000000000';
+BEGIN
+    LOOP
+        WITH batch AS (
+            SELECT transaction_id FROM transaction
+            WHERE transaction_id > last_id
+            ORDER BY transaction_id
+            LIMIT p_batch_size
+        ), backfilled AS (
+            UPDATE transaction t
+            SET booking_date = COALESCE(t.value_date, t.transaction_date, t.date_created)
+            FROM batch b
+            WHERE t.transaction_id = b.transaction_id AND t.booking_date IS NULL
+        )
+        SELECT max(transaction_id) INTO last_id FROM batch;
+        EXIT WHEN last_id IS NULL;
+        COMMIT;
+    END LOOP;
+
+    -- Legs take the booking date of their transaction, so they go second
+    last_id := '00000000-0000-0000-0000-000000000000';
+    LOOP
+        WITH batch AS (
+            SELECT transaction_leg_id FROM transaction_leg
+            WHERE transaction_leg_id > last_id
+            ORDER BY transaction_leg_id
+            LIMIT p_batch_size
+        ), backfilled AS (
+            UPDATE transaction_leg l
+            SET booking_date = COALESCE(
+                    (SELECT t.booking_date FROM transaction t WHERE t.transaction_id = l.transaction_id),
+                    l.value_date,
+                    l.date_created)
+            FROM batch b
+            WHERE l.transaction_leg_id = b.transaction_leg_id AND l.booking_date IS NULL
+        )
+        SELECT max(transaction_leg_id) INTO last_id FROM batch;
+        EXIT WHEN last_id IS NULL;
+        COMMIT;
+    END LOOP;
+END $$;
+
+-- =============================================
+-- Partitioned tables
+-- =============================================
+-- Monthly partitions are named <table>_pYYYY_MM and cover [first day of the month, first day of the next
+-- month). Months before first_partition_month live in the legacy partition.
+CREATE TABLE IF NOT EXISTS ledger_partitioned_table (
+    table_name              VARCHAR(63) NOT NULL PRIMARY KEY,
+    legacy_partition        VARCHAR(63) NOT NULL,
+    first_partition_month   DATE NOT NULL,
+    date_created            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE ledger_partitioned_table IS 'Tables range partitioned by month of booking_date, maintained by PartitionMaintenanceScheduler';
+COMMENT ON COLUMN ledger_partitioned_table.legacy_partition IS 'Pre-partitioning table attached as the partition of every month before first_partition_month';
+
+-- The cutover leaves at least a week, and every booking already recorded, before the first monthly partition,
+-- so rows written between this step and step 3 still satisfy the legacy range checks below. Rows not backfilled
+-- yet count with the date the backfill will give them.
+DO $$
+DECLARE
+    cutover DATE;
+BEGIN
+    cutover := (date_trunc('month', GREATEST(
+            now()::timestamp + INTERVAL '7 days',
+            (SELECT max(COALESCE(booking_date, value_date, transaction_date, date_created)) FROM transaction),
+            (SELECT max(COALESCE(booking_date, value_date, date_created)) FROM transaction_leg))) + INTERVAL '1 month')::date;
+
+    INSERT INTO ledger_partitioned_table (table_name, legacy_partition, first_partition_month)
+    VALUES ('transaction', 'transaction_legacy', cutover),
+           ('transaction_leg', 'transaction_leg_legacy', cutover)
+    ON CONFLICT (table_name) DO NOTHING;
+
+    -- NOT VALID: enforced for new rows right away, existing rows are checked by V62 without blocking writes.
+    -- Once validated they let V63 set NOT NULL and attach the tables without scanning them.
+    EXECUTE 'ALTER TABLE transaction ADD CONSTRAINT ck_transaction_booking_date_not_null '
+            'CHECK (booking_date IS NOT NULL) NOT VALID';
+    EXECUTE format('ALTER TABLE transaction ADD CONSTRAINT ck_transaction_legacy_booking_date '
+                   'CHECK (booking_date < %L) NOT VALID', cutover);
+    EXECUTE 'ALTER TABLE transaction_leg ADD CONSTRAINT ck_transaction_leg_booking_date_not_null '
+            'CHECK (booking_date IS NOT NULL) NOT VALID';
+    EXECUTE format('ALTER TABLE transaction_leg ADD CONSTRAINT ck_transaction_leg_legacy_booking_date '
+                   'CHECK (booking_date < %L) NOT VALID', cutover);
+END $$;
+
+-- Creates the monthly partitions of a partitioned table up to and including the month of through_date.
+-- Months that already have a partition, including detached ones still present, are skipped. Replicas running
+-- this concurrently are serialized by an advisory lock.
+CREATE OR REPLACE FUNCTION ledger_create_monthly_partitions(p_table TEXT, p_through DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ledger_create_monthly_partitions'));
+
+    SELECT first_partition_month INTO month_start FROM ledger_partitioned_table WHERE table_name = p_table;
+    IF month_start IS NULL THEN
+        RAISE EXCEPTION 'Table % is not partitioned by the ledger', p_table;
+    END IF;
+
+    WHILE month_start <= p_through LOOP
+        partition_name := format('%s_p%s', p_table, to_char(month_start, 'YYYY_MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, p_table, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END $$;
+
+-- =============================================
+-- Global unique keys
+-- =============================================
+-- Unique indexes of a partitioned table must contain the partition key, so they cannot keep request_id and
+-- external_reference unique across months. These key tables do, maintained by a trigger on every write path;
+-- a duplicate raises unique_violation like the unique indexes they replace. Idempotent inserts claim the
+-- request key first (TransactionRepositoryCustomImpl.insertAllIfAbsent).
+CREATE TABLE IF NOT EXISTS transaction_request_key (
+    request_id              VARCHAR(100) NOT NULL PRIMARY KEY,
+    transaction_id          UUID NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS transaction_external_reference_key (
+    external_reference      VARCHAR(100) NOT NULL PRIMARY KEY,
+    transaction_id          UUID NOT NULL
+);
+
+COMMENT ON TABLE transaction_request_key IS 'Request IDs (idempotency keys) in use, unique across all transaction partitions';
+COMMENT ON TABLE transaction_external_reference_key IS 'External references in use, unique across all transaction partitions';
+
+CREATE OR REPLACE FUNCTION transaction_sync_unique_keys()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    old_request_id VARCHAR(100);
+    old_external_reference VARCHAR(100);
+    new_request_id VARCHAR(100);
+    new_external_reference VARCHAR(100);
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        old_request_id := OLD.request_id;
+        old_external_reference := OLD.external_reference;
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        new_request_id := NEW.request_id;
+        new_external_reference := NEW.external_reference;
+    END IF;
+
+    IF old_request_id IS DISTINCT FROM new_request_id THEN
+        IF old_request_id IS NOT NULL THEN
+            DELETE FROM transaction_request_key
+            WHERE request_id = old_request_id AND transaction_id = OLD.transaction_id;
+        END IF;
+        -- The key may already have been claimed for this very row by insertAllIfAbsent
+        IF new_request_id IS NOT NULL THEN
+            INSERT INTO transaction_request_key (request_id, transaction_id)
+            VALUES (new_request_id, NEW.transaction_id)
+            ON CONFLICT (request_id) DO NOTHING;
+            IF NOT FOUND AND NOT EXISTS (SELECT 1 FROM transaction_request_key
+                                         WHERE request_id = new_request_id
+                                           AND transaction_id = NEW.transaction_id) THEN
+                RAISE unique_violation USING
+                    MESSAGE = format('duplicate request_id %s', new_request_id),
+                    CONSTRAINT = 'transaction_request_key_pkey';
+            END IF;
+        END IF;
+    END IF;
+
+    IF old_external_reference IS DISTINCT FROM new_external_reference THEN
+        IF old_external_reference IS NOT NULL THEN
+            DELETE FROM transaction_external_reference_key
+            WHERE external_reference = old_external_reference AND transaction_id = OLD.transaction_id;
+        END IF;
+        IF new_external_reference IS NOT NULL THEN
+            INSERT INTO transaction_external_reference_key (external_reference, transaction_id)
+            VALUES (new_external_reference, NEW.transaction_id);
+        END IF;
+    END IF;
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER trg_transaction_unique_keys
+    AFTER INSERT OR DELETE OR UPDATE OF request_id, external_reference ON transaction
+    FOR EACH ROW EXECUTE FUNCTION transaction_sync_unique_keys();
+
+-- Existing keys are unique already (uq_transaction_request_id, idx_transaction_external_reference)
+INSERT INTO transaction_request_key (request_id, transaction_id)
+SELECT request_id, transaction_id FROM transaction WHERE request_id IS NOT NULL
+ON CONFLICT (request_id) DO NOTHING;
+
+INSERT INTO transaction_external_reference_key (external_reference, transaction_id)
+SELECT external_reference, transaction_id FROM transaction WHERE external_reference IS NOT NULL
+ON CONFLICT (external_reference) DO NOTHING;
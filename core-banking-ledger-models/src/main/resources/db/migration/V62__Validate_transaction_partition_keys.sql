@@ -0,0 +1,35 @@
+-- V62__Validate_transaction_partition_keys.sql
+
+-- =============================================
+-- TRANSACTION / TRANSACTION_LEG partitioning, step 2 of 3
+-- =============================================
+-- Runs outside a transaction (see the .conf file next to this script): every statement here scans or indexes
+-- the full tables, and none of them blocks reads or writes while doing so. If a CONCURRENTLY build fails it
+-- leaves an invalid index behind; drop it and run the migration again.
+
+-- Fill the partition key of the rows booked before it was maintained, committing batch by batch (see V61).
+-- Rows already backfilled by hand are skipped.
+CALL ledger_backfill_booking_date(10000);
+
+-- SHARE UPDATE EXCLUSIVE: writes continue while the existing rows are checked
+ALTER TABLE transaction VALIDATE CONSTRAINT ck_transaction_booking_date_not_null;
+ALTER TABLE transaction VALIDATE CONSTRAINT ck_transaction_legacy_booking_date;
+ALTER TABLE transaction_leg VALIDATE CONSTRAINT ck_transaction_leg_booking_date_not_null;
+ALTER TABLE transaction_leg VALIDATE CONSTRAINT ck_transaction_leg_legacy_booking_date;
+
+-- Primary keys of the partitioned tables have to include the partition key. Building them now lets V63
+-- attach the legacy tables without building anything.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS transaction_partition_key
+    ON transaction (transaction_id, booking_date);
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS transaction_leg_partition_key
+    ON transaction_leg (transaction_leg_id, booking_date);
+
+-- Non-unique lookups replacing the unique indexes that V63 drops; uniqueness moves to the key tables of V61
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_request_id
+    ON transaction (request_id)
+    WHERE request_id IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_external_reference_lookup
+    ON transaction (external_reference)
+    WHERE external_reference IS NOT NULL;
@@ -0,0 +1,201 @@
+-- V63__Partition_transaction_tables.sql
+
+-- =============================================
+-- TRANSACTION / TRANSACTION_LEG partitioning, step 3 of 3
+-- =============================================
+-- Each table is renamed to <table>_legacy and attached to a new partitioned table of the same name, covering
+-- every month before the cutover. Thanks to V62 nothing is scanned or built: the validated checks prove the
+-- partition bound and NOT NULL, and every index of the partitioned table matches an existing legacy index.
+
+-- Foreign keys can only reference a partitioned table through a key that includes booking_date, which the
+-- referencing tables do not store. They are replaced, in this same migration, by triggers checking the same rules:
+--   * an insert or update of a referencing table fails with foreign_key_violation when the transaction does not
+--     exist, and locks the referenced transactions (FOR KEY SHARE) like a foreign key does, so a concurrent
+--     delete waits for it;
+--   * a delete of transactions fails with foreign_key_violation while rows still reference them (NO ACTION).
+-- The checks are statement-level, one anti-join per statement over its transition table, so multi-row inserts
+-- pay once. The trade-off against real foreign keys: a lookup by transaction_id alone probes the primary key
+-- index of every partition, so the cost grows with the number of months kept attached (detach old months with
+-- ledger.partitions.maintenance.retention-months), and the transaction_id of a transaction itself is assumed
+-- never to change.
+CREATE TABLE IF NOT EXISTS ledger_transaction_reference (
+    table_name              VARCHAR(63) NOT NULL,
+    column_name             VARCHAR(63) NOT NULL,
+    PRIMARY KEY (table_name, column_name)
+);
+
+COMMENT ON TABLE ledger_transaction_reference IS 'Columns referencing transaction.transaction_id, checked by triggers since transaction is partitioned';
+
+-- Exactly the foreign keys dropped below; nothing references transaction_leg
+INSERT INTO ledger_transaction_reference (table_name, column_name)
+SELECT r.relname, a.attname
+FROM pg_constraint c
+JOIN pg_class r ON r.oid = c.conrelid
+JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+WHERE c.contype = 'f'
+  AND c.confrelid = 'transaction'::regclass
+  AND cardinality(c.conkey) = 1
+ON CONFLICT DO NOTHING;
+
+-- Referencing side: every non-null reference written by the statement must exist
+CREATE OR REPLACE FUNCTION ledger_check_transaction_reference()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    missing UUID;
+BEGIN
+    EXECUTE format('SELECT 1 FROM transaction t WHERE t.transaction_id IN '
+                   '(SELECT n.%1$I FROM new_rows n WHERE n.%1$I IS NOT NULL) FOR KEY SHARE OF t', TG_ARGV[0]);
+    EXECUTE format('SELECT n.%1$I FROM new_rows n WHERE n.%1$I IS NOT NULL '
+                   'AND NOT EXISTS (SELECT 1 FROM transaction t WHERE t.transaction_id = n.%1$I) LIMIT 1', TG_ARGV[0])
+        INTO missing;
+    IF missing IS NOT NULL THEN
+        RAISE foreign_key_violation USING
+            MESSAGE = format('%s.%s references transaction %s, which does not exist', TG_TABLE_NAME, TG_ARGV[0], missing),
+            TABLE = TG_TABLE_NAME;
+    END IF;
+    RETURN NULL;
+END $$;
+
+-- Referenced side: deleted transactions must no longer be referenced
+CREATE OR REPLACE FUNCTION ledger_check_transaction_delete()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    reference RECORD;
+    referenced UUID;
+BEGIN
+    FOR reference IN SELECT table_name, column_name FROM ledger_transaction_reference LOOP
+        EXECUTE format('SELECT r.%2$I FROM %1$I r JOIN old_rows o ON r.%2$I = o.transaction_id LIMIT 1',
+                       reference.table_name, reference.column_name)
+            INTO referenced;
+        IF referenced IS NOT NULL THEN
+            RAISE foreign_key_violation USING
+                MESSAGE = format('transaction %s is still referenced from %s.%s',
+                                 referenced, reference.table_name, reference.column_name),
+                TABLE = 'transaction';
+        END IF;
+    END LOOP;
+    RETURN NULL;
+END $$;
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS table_name, conname
+        FROM pg_constraint
+        WHERE contype = 'f'
+          AND confrelid IN ('transaction'::regclass, 'transaction_leg'::regclass)
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END $$;
+
+CREATE FUNCTION pg_temp.partition_by_booking_date(p_table TEXT, p_id_column TEXT)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    legacy TEXT;
+    cutover DATE;
+    item RECORD;
+    index_definitions TEXT[] := '{}';
+    index_definition TEXT;
+BEGIN
+    SELECT legacy_partition, first_partition_month INTO legacy, cutover
+    FROM ledger_partitioned_table WHERE table_name = p_table;
+
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', p_table, legacy);
+
+    -- Unique on the ID alone: superseded by the primary key below
+    FOR item IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = legacy::regclass AND contype IN ('p', 'u')
+    LOOP
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', legacy, item.conname);
+    END LOOP;
+
+    -- Unique request_id / external_reference: superseded by the key tables of V61
+    FOR item IN
+        SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE i.indrelid = legacy::regclass AND i.indisunique AND c.relname <> p_table || '_partition_key'
+    LOOP
+        EXECUTE format('DROP INDEX %I', item.relname);
+    END LOOP;
+
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN booking_date SET NOT NULL', legacy);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY USING INDEX %I',
+                   legacy, legacy || '_pkey', p_table || '_partition_key');
+
+    -- The partitioned table takes over the index names; the legacy indexes become its partition indexes
+    FOR item IN
+        SELECT c.relname, pg_get_indexdef(i.indexrelid) AS definition
+        FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE i.indrelid = legacy::regclass AND NOT i.indisunique
+    LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', item.relname, left(item.relname, 56) || '_legacy');
+        index_definitions := index_definitions || regexp_replace(item.definition, '^CREATE INDEX \S+ ON \S+',
+                                                                 format('CREATE INDEX %I ON %I', item.relname, p_table));
+    END LOOP;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS '
+                   'INCLUDING COMMENTS INCLUDING STORAGE) PARTITION BY RANGE (booking_date)', p_table, legacy);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT IF EXISTS %I', p_table, 'ck_' || p_table || '_booking_date_not_null');
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT IF EXISTS %I', p_table, 'ck_' || p_table || '_legacy_booking_date');
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (%I, booking_date)',
+                   p_table, p_table || '_pkey', p_id_column);
+
+    FOR item IN
+        SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint
+        WHERE conrelid = legacy::regclass AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I %s', p_table, item.conname, item.definition);
+    END LOOP;
+
+    FOREACH index_definition IN ARRAY index_definitions LOOP
+        EXECUTE index_definition;
+    END LOOP;
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)', p_table, legacy, cutover);
+
+    -- The current month and the next three; PartitionMaintenanceScheduler keeps extending this
+    PERFORM ledger_create_monthly_partitions(p_table, (date_trunc('month', now()) + INTERVAL '3 months')::date);
+END $$;
+
+DROP TRIGGER trg_transaction_unique_keys ON transaction;
+
+SELECT pg_temp.partition_by_booking_date('transaction', 'transaction_id');
+SELECT pg_temp.partition_by_booking_date('transaction_leg', 'transaction_leg_id');
+
+-- Defined on the partitioned table, so every partition gets it
+CREATE TRIGGER trg_transaction_unique_keys
+    AFTER INSERT OR DELETE OR UPDATE OF request_id, external_reference ON transaction
+    FOR EACH ROW EXECUTE FUNCTION transaction_sync_unique_keys();
+
+-- Reference checks, created once the partitioned tables exist so that every partition gets them
+DO $$
+DECLARE
+    reference RECORD;
+BEGIN
+    FOR reference IN SELECT table_name, column_name FROM ledger_transaction_reference LOOP
+        -- Transition tables cannot be combined with a column list, so updates are checked whatever they change
+        EXECUTE format('CREATE TRIGGER %I AFTER INSERT ON %I REFERENCING NEW TABLE AS new_rows '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION ledger_check_transaction_reference(%L)',
+                       left('trg_' || reference.table_name || '_ref_ins', 63), reference.table_name, reference.column_name);
+        EXECUTE format('CREATE TRIGGER %I AFTER UPDATE ON %I REFERENCING NEW TABLE AS new_rows '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION ledger_check_transaction_reference(%L)',
+                       left('trg_' || reference.table_name || '_ref_upd', 63), reference.table_name, reference.column_name);
+    END LOOP;
+END $$;
+
+CREATE TRIGGER trg_transaction_ref_del
+    AFTER DELETE ON transaction
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION ledger_check_transaction_delete();
+
+COMMENT ON TABLE transaction IS 'Ledger transactions, range partitioned by month of booking_date';
+COMMENT ON TABLE transaction_leg IS 'Stores individual debit and credit legs for each transaction, enabling double-entry accounting; range partitioned by month of booking_date';
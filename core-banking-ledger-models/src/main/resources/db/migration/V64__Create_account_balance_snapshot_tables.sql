@@ -0,0 +1,53 @@
+-- V64__Create_account_balance_snapshot_tables.sql
+
+-- =============================================
+-- ACCOUNT_BALANCE_SNAPSHOT (End-of-Day Closing Balances)
+-- =============================================
+-- The balance date of a leg is its value date, or its booking date when it has none. A snapshot holds the sum
+-- of every leg of an account and currency up to the end of its day; a balance as of any date is the nearest
+-- valid snapshot before it plus the legs dated in between. Snapshots are only written for days with movement.
+CREATE TABLE IF NOT EXISTS account_balance_snapshot (
+    account_balance_snapshot_id UUID NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    account_id              UUID NOT NULL,
+    currency                CHAR(3) NOT NULL,
+    snapshot_date           DATE NOT NULL,
+    closing_balance         DECIMAL(19,4) NOT NULL,
+    date_created            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uq_account_balance_snapshot_account_currency_date
+        UNIQUE (account_id, currency, snapshot_date)
+);
+
+COMMENT ON TABLE account_balance_snapshot IS 'End-of-day closing balance per account and currency, by leg value date, written by BalanceSnapshotScheduler';
+COMMENT ON COLUMN account_balance_snapshot.closing_balance IS 'Credits minus debits of every leg with a value date (or booking date) up to the end of snapshot_date';
+
+-- A leg dated before the current day may change closing balances already snapshotted. Its writer records the
+-- earliest affected date here, in the same database transaction; from that date on the snapshots of the account
+-- and currency are ignored by as-of queries until the scheduler has recomputed them.
+CREATE TABLE IF NOT EXISTS account_balance_snapshot_invalidation (
+    account_id              UUID NOT NULL,
+    currency                CHAR(3) NOT NULL,
+    from_date               DATE NOT NULL,
+    invalidated_at          TIMESTAMP NOT NULL DEFAULT clock_timestamp(),
+
+    PRIMARY KEY (account_id, currency)
+);
+
+COMMENT ON TABLE account_balance_snapshot_invalidation IS 'Snapshots from from_date on are stale because of a backdated leg and wait to be recomputed';
+
+-- One row per snapshotted day, claimed by one replica at a time
+CREATE TABLE IF NOT EXISTS account_balance_snapshot_run (
+    snapshot_date           DATE NOT NULL PRIMARY KEY,
+    claimed_at              TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at            TIMESTAMP
+);
+
+COMMENT ON TABLE account_balance_snapshot_run IS 'End-of-day snapshot runs; a run not completed within its lease is picked up again';
+
+-- Legs of an account and currency by balance date: the delta since a snapshot, and snapshot computation.
+-- Built on every partition of transaction_leg, blocking writes to it for the duration of the build.
+CREATE INDEX IF NOT EXISTS idx_transaction_leg_account_balance_date
+    ON transaction_leg (account_id, currency, (COALESCE(value_date, booking_date)));
+
+COMMENT ON INDEX idx_transaction_leg_account_balance_date IS 'Legs of an account and currency by value date (booking date when unset), for balance as-of queries';
@@ -0,0 +1,44 @@
+-- V65__Create_account_interest_terms_table.sql
+
+-- =============================================
+-- ACCOUNT_INTEREST_TERMS (Daily Interest Accrual)
+-- =============================================
+-- Interest conditions of an account in one currency. InterestAccrualService accrues them one day at a time on
+-- the end-of-day balance (by value date) and posts each day's interest as a transaction with its legs and a
+-- transaction_line_interest row. next_accrual_date is the first day not accrued yet: it is advanced in the same
+-- database transaction as the postings, so a run can be interrupted and repeated at any point.
+CREATE TABLE IF NOT EXISTS account_interest_terms (
+    account_interest_terms_id   UUID NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    account_id                  UUID NOT NULL,
+    currency                    CHAR(3) NOT NULL,
+    interest_type               VARCHAR(10) NOT NULL,
+    rate_percentage             DECIMAL(7,4) NOT NULL,
+    day_count_convention        VARCHAR(20) NOT NULL,
+    interest_account_id         UUID NOT NULL,
+    tax_withheld_rate           DECIMAL(5,2) NOT NULL DEFAULT 0,
+    tax_account_id              UUID,
+    start_date                  DATE NOT NULL,
+    end_date                    DATE,
+    next_accrual_date           DATE NOT NULL,
+    carried_amount              DECIMAL(24,10) NOT NULL DEFAULT 0,
+    date_created                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT ck_account_interest_terms_interest_type CHECK (interest_type IN ('CREDIT', 'DEBIT')),
+    CONSTRAINT ck_account_interest_terms_day_count CHECK (day_count_convention IN ('ACT_360', 'ACT_365', 'THIRTY_360')),
+    CONSTRAINT ck_account_interest_terms_tax_account CHECK (tax_withheld_rate = 0 OR tax_account_id IS NOT NULL),
+    CONSTRAINT uq_account_interest_terms_account_currency_type UNIQUE (account_id, currency, interest_type)
+);
+
+COMMENT ON TABLE account_interest_terms IS 'Interest conditions per account and currency, accrued daily by InterestAccrualService';
+COMMENT ON COLUMN account_interest_terms.interest_type IS 'CREDIT: interest paid on positive balances; DEBIT: interest charged on negative balances';
+COMMENT ON COLUMN account_interest_terms.interest_account_id IS 'Bank account the interest is paid from (CREDIT) or into (DEBIT)';
+COMMENT ON COLUMN account_interest_terms.next_accrual_date IS 'First day not accrued yet';
+COMMENT ON COLUMN account_interest_terms.carried_amount IS 'Interest accrued below the smallest currency unit, carried into the next day';
+
+-- Due terms are claimed in next_accrual_date order
+CREATE INDEX IF NOT EXISTS idx_account_interest_terms_next_accrual_date ON account_interest_terms (next_accrual_date);
+CREATE INDEX IF NOT EXISTS idx_account_interest_terms_account_id ON account_interest_terms (account_id);
+
+-- Rates of the terms have four decimals; interest lines record the rate they were accrued at
+ALTER TABLE transaction_line_interest ALTER COLUMN interest_rate_percentage TYPE DECIMAL(7,4);
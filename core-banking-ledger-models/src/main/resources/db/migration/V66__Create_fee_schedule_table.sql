@@ -0,0 +1,52 @@
+-- V66__Create_fee_schedule_table.sql
+
+-- =============================================
+-- FEE_SCHEDULE (Fee Rules)
+-- =============================================
+-- Fees charged on new transactions. FeeAssessmentService keeps the active rules in memory, indexed by
+-- transaction type, line type and currency, and evaluates them when a posting or a bulk ingestion batch is
+-- written: each fee is posted as a FEE transaction with its legs and a transaction_line_fee row, in the same
+-- database transaction as its source.
+CREATE TABLE IF NOT EXISTS fee_schedule (
+    fee_schedule_id             UUID NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    fee_type                    VARCHAR(50) NOT NULL,
+    fee_description             VARCHAR(255),
+    transaction_type            VARCHAR(50) NOT NULL,
+    line_type                   VARCHAR(30),
+    currency                    CHAR(3) NOT NULL,
+    calculation_method          VARCHAR(30) NOT NULL,
+    rate_percentage             DECIMAL(7,4) NOT NULL DEFAULT 0,
+    fixed_amount                DECIMAL(18,2) NOT NULL DEFAULT 0,
+    minimum_amount              DECIMAL(18,2),
+    maximum_amount              DECIMAL(18,2),
+    fee_account_id              UUID NOT NULL,
+    active                      BOOLEAN NOT NULL DEFAULT TRUE,
+    date_created                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT ck_fee_schedule_calculation_method CHECK (calculation_method IN ('FIXED', 'PERCENTAGE', 'FIXED_PLUS_PERCENTAGE')),
+    CONSTRAINT ck_fee_schedule_bounds CHECK (minimum_amount IS NULL OR maximum_amount IS NULL OR minimum_amount <= maximum_amount)
+);
+
+-- One rule per fee type and key; a NULL line type counts as a key of its own
+CREATE UNIQUE INDEX IF NOT EXISTS uq_fee_schedule_rule
+    ON fee_schedule (transaction_type, COALESCE(line_type, ''), currency, fee_type);
+
+COMMENT ON TABLE fee_schedule IS 'Fee rules evaluated in memory by FeeAssessmentService when transactions are created';
+COMMENT ON COLUMN fee_schedule.line_type IS 'Transaction line the source carries; NULL matches any line, including none';
+COMMENT ON COLUMN fee_schedule.fee_account_id IS 'Bank account credited with the fee; the source transaction''s account is debited';
+COMMENT ON COLUMN fee_schedule.minimum_amount IS 'Lower bound of the computed fee';
+COMMENT ON COLUMN fee_schedule.maximum_amount IS 'Upper bound of the computed fee';
+
+-- =============================================
+-- TRANSACTION_LINE_FEE
+-- =============================================
+-- The UUID switch of V50 left the related transaction on its BIGINT column; fee lines written by the rules link
+-- their source transaction through it.
+ALTER TABLE transaction_line_fee DROP COLUMN IF EXISTS fee_related_transaction_id;
+ALTER TABLE transaction_line_fee RENAME COLUMN fee_related_transaction_id_uuid TO fee_related_transaction_id;
+ALTER INDEX IF EXISTS idx_transaction_line_fee_related_transaction_uuid RENAME TO idx_transaction_line_fee_related_transaction_id;
+COMMENT ON COLUMN transaction_line_fee.fee_related_transaction_id IS 'Transaction the fee was charged for';
+
+-- Rates of the rules have four decimals; fee lines record the rate they were charged at
+ALTER TABLE transaction_line_fee ALTER COLUMN fee_rate_percentage TYPE DECIMAL(7,4);
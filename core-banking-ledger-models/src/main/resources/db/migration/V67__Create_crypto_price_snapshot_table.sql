@@ -0,0 +1,26 @@
+-- V67__Create_crypto_price_snapshot_table.sql
+
+-- =============================================
+-- CRYPTO_PRICE_SNAPSHOT (Latest Prices)
+-- =============================================
+-- Latest price of each crypto asset per quote currency. Price updates are conflated in memory by PriceService,
+-- which serves every current-price read; this table only receives the prices that changed since the previous
+-- snapshot, every ledger.prices.snapshots.interval, and warms the in-memory table on startup.
+CREATE TABLE IF NOT EXISTS crypto_price_snapshot (
+    crypto_asset_id             UUID NOT NULL,
+    quote_currency              CHAR(3) NOT NULL,
+    asset_symbol                VARCHAR(20),
+    asset_name                  VARCHAR(100),
+    price                       NUMERIC(38,18) NOT NULL,
+    price_change_24h            NUMERIC(38,18),
+    price_change_percentage_24h DOUBLE PRECISION,
+    source                      VARCHAR(100),
+    price_timestamp             TIMESTAMP NOT NULL,
+    date_created                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_crypto_price_snapshot PRIMARY KEY (crypto_asset_id, quote_currency)
+);
+
+COMMENT ON TABLE crypto_price_snapshot IS 'Latest crypto asset prices, persisted periodically from the in-memory price table';
+COMMENT ON COLUMN crypto_price_snapshot.price_timestamp IS 'Timestamp of the price update; a snapshot never replaces a newer price written by another replica';
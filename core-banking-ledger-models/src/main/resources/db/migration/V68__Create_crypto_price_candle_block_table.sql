@@ -0,0 +1,27 @@
+-- V68__Create_crypto_price_candle_block_table.sql
+
+-- =============================================
+-- CRYPTO_PRICE_CANDLE_BLOCK (Price History)
+-- =============================================
+-- OHLC candles of each crypto asset and quote currency at 1 minute, 1 hour and 1 day resolution, rolled up in
+-- memory by PriceHistoryService as price updates arrive. Candles are stored in fixed blocks (a day of minute
+-- candles, 30 days of hourly candles, 360 days of daily candles), each packed into one row: prices are
+-- delta-encoded as variable-length integers at the block's price scale (see CandleCodec). Closed candles are
+-- merged into their block every ledger.prices.history.flush-interval.
+CREATE TABLE IF NOT EXISTS crypto_price_candle_block (
+    crypto_asset_id             UUID NOT NULL,
+    quote_currency              CHAR(3) NOT NULL,
+    resolution                  VARCHAR(10) NOT NULL,
+    block_start                 TIMESTAMP NOT NULL,
+    candle_count                INTEGER NOT NULL,
+    candles                     BYTEA NOT NULL,
+    date_created                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    date_updated                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_crypto_price_candle_block PRIMARY KEY (crypto_asset_id, quote_currency, resolution, block_start),
+    CONSTRAINT ck_crypto_price_candle_block_resolution CHECK (resolution IN ('MINUTE', 'HOUR', 'DAY'))
+);
+
+COMMENT ON TABLE crypto_price_candle_block IS 'Compressed OHLC price candles, one row per crypto asset, quote currency, resolution and block';
+COMMENT ON COLUMN crypto_price_candle_block.block_start IS 'Start of the block (UTC), aligned on the block length since the epoch';
+COMMENT ON COLUMN crypto_price_candle_block.candles IS 'Candles of the block, delta and varint encoded';
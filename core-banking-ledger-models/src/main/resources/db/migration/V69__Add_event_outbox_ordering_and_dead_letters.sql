@@ -0,0 +1,32 @@
+-- V69__Add_event_outbox_ordering_and_dead_letters.sql
+
+-- =============================================
+-- EVENT_OUTBOX ordering and dead letters
+-- =============================================
+-- sequence_number gives the events of an aggregate a total order, also between events appended in the
+-- same database transaction (they share created_at). The relay only claims an event when no older
+-- pending event of the same aggregate is in backoff or leased, so ordering holds across claim batches.
+ALTER TABLE event_outbox
+    ADD COLUMN IF NOT EXISTS sequence_number BIGINT GENERATED ALWAYS AS IDENTITY;
+
+-- Events that exhausted ledger.outbox.relay.max-retries are parked instead of being retried forever.
+-- They no longer block later events of their aggregate and have to be replayed by an operator.
+ALTER TABLE event_outbox
+    ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP;
+
+COMMENT ON COLUMN event_outbox.sequence_number IS 'Append order of the event, used to publish the events of an aggregate in order';
+COMMENT ON COLUMN event_outbox.dead_lettered_at IS 'When the event was parked after exhausting its retries; NULL while it is still relayed';
+
+DROP INDEX IF EXISTS idx_event_outbox_pending;
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending
+    ON event_outbox (sequence_number)
+    WHERE processed = FALSE AND dead_lettered_at IS NULL;
+
+-- Serves the "older pending event of the same aggregate" check of the claim
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending_aggregate
+    ON event_outbox (aggregate_type, aggregate_id, sequence_number)
+    WHERE processed = FALSE AND dead_lettered_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_event_outbox_dead_lettered
+    ON event_outbox (dead_lettered_at)
+    WHERE dead_lettered_at IS NOT NULL;
@@ -0,0 +1,10 @@
+-- V70__Add_event_outbox_retention_index.sql
+
+-- =============================================
+-- EVENT_OUTBOX retention
+-- =============================================
+-- Events are appended whether or not a relay drains the table; OutboxCleanupScheduler deletes the
+-- published ones after ledger.outbox.cleanup.retention. This index serves its lookup.
+CREATE INDEX IF NOT EXISTS idx_event_outbox_processed_at
+    ON event_outbox (processed_at)
+    WHERE processed = TRUE;
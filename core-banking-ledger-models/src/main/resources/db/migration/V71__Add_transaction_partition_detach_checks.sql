@@ -0,0 +1,55 @@
+-- V71__Add_transaction_partition_detach_checks.sql
+
+-- =============================================
+-- Detaching TRANSACTION partitions
+-- =============================================
+-- The reference triggers of V63 only fire on DELETE, which a DETACH PARTITION is not. PartitionMaintenanceScheduler
+-- therefore detaches a month of transaction together with the same month of transaction_leg, and only while
+-- nothing else references its transactions: status history, transaction lines, attachments, legs booked in
+-- another month and related transactions keep the month attached until they are archived first.
+
+-- The first column still referencing a transaction of p_partition, as table.column, or NULL when there is none.
+-- Legs of p_leg_partition, detached along with it, and relations within p_partition do not count. Also valid
+-- once both are detached, to catch references written while they were being detached.
+CREATE OR REPLACE FUNCTION ledger_transaction_partition_reference(p_partition TEXT, p_leg_partition TEXT)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    reference RECORD;
+    excluded TEXT;
+    referenced UUID;
+BEGIN
+    FOR reference IN SELECT table_name, column_name FROM ledger_transaction_reference ORDER BY table_name, column_name LOOP
+        excluded := CASE reference.table_name
+                        WHEN 'transaction' THEN p_partition
+                        WHEN 'transaction_leg' THEN p_leg_partition
+                    END;
+        EXECUTE format('SELECT r.%2$I FROM %1$I r WHERE r.%2$I IN (SELECT p.transaction_id FROM %3$I p) '
+                       'AND (%4$L::regclass IS NULL OR r.tableoid <> %4$L::regclass) LIMIT 1',
+                       reference.table_name, reference.column_name, p_partition, excluded)
+            INTO referenced;
+        IF referenced IS NOT NULL THEN
+            RETURN reference.table_name || '.' || reference.column_name;
+        END IF;
+    END LOOP;
+    RETURN NULL;
+END $$;
+
+-- Release the request IDs and external references of the transactions of a detached partition
+CREATE OR REPLACE FUNCTION ledger_purge_transaction_keys(p_partition TEXT)
+RETURNS BIGINT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    purged BIGINT;
+    purged_references BIGINT;
+BEGIN
+    EXECUTE format('DELETE FROM transaction_request_key k USING %I t '
+                   'WHERE k.request_id = t.request_id AND k.transaction_id = t.transaction_id', p_partition);
+    GET DIAGNOSTICS purged = ROW_COUNT;
+    EXECUTE format('DELETE FROM transaction_external_reference_key k USING %I t '
+                   'WHERE k.external_reference = t.external_reference AND k.transaction_id = t.transaction_id', p_partition);
+    GET DIAGNOSTICS purged_references = ROW_COUNT;
+    RETURN purged + purged_references;
+END $$;
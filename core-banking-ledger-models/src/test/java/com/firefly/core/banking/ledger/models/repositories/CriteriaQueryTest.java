@@ -0,0 +1,333 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories;
+
+import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CriteriaQueryTest {
+
+    private static final String SELECT = "SELECT o.* FROM orders o JOIN customers c ON c.customer_id = o.customer_id";
+    private static final String DEFAULT_ORDER = " ORDER BY o.created_at DESC, o.order_id DESC";
+    private static final BiFunction<Row, RowMetadata, String> MAPPER = (row, metadata) -> "order";
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<String> rows;
+
+    @Mock
+    private RowsFetchSpec<Long> counts;
+
+    @Test
+    void find_NoCriteria_NoWhereClause() {
+        // Arrange
+        stubFind();
+
+        // Act & Assert
+        StepVerifier.create(query().search().find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+
+        assertEquals(SELECT + DEFAULT_ORDER, executedSql());
+        verify(spec, never()).bind(anyString(), any());
+    }
+
+    @Test
+    void find_SingleCriterion_OnlyItsPredicateIsBound() {
+        // Arrange
+        stubFind();
+
+        // Act & Assert
+        StepVerifier.create(query().search()
+                        .with("status", TransactionStatusEnum.POSTED)
+                        .with("customerName", null)
+                        .find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+
+        assertEquals(SELECT + " WHERE o.status = :status" + DEFAULT_ORDER, executedSql());
+        verify(spec).bind("status", "POSTED");
+        verify(spec, never()).bind(eq("customerName"), any());
+    }
+
+    @Test
+    void with_UnknownCriterion_Rejected() {
+        // Act & Assert
+        CriteriaQuery<String>.Search search = query().search();
+        assertThrows(IllegalArgumentException.class, () -> search.with("password", "secret"));
+    }
+
+    @Test
+    void find_ListCriteria_BoundAsOneArray() {
+        // Arrange
+        stubFind();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // Act & Assert
+        StepVerifier.create(query().search()
+                        .with("orderIds", List.of(first, second))
+                        .with("statuses", List.of(TransactionStatusEnum.POSTED, TransactionStatusEnum.PENDING))
+                        .find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+
+        assertEquals(SELECT + " WHERE o.order_id = ANY(:orderIds) AND o.status = ANY(:statuses)" + DEFAULT_ORDER,
+                executedSql());
+        verify(spec).bind(eq("orderIds"), argThat(value -> value instanceof UUID[] ids
+                && ids.length == 2 && ids[0].equals(first) && ids[1].equals(second)));
+        verify(spec).bind(eq("statuses"), argThat(value -> value instanceof String[] statuses
+                && List.of(statuses).equals(List.of("POSTED", "PENDING"))));
+    }
+
+    @Test
+    void find_EmptyList_CriterionLeftOut() {
+        // Arrange
+        stubFind();
+
+        // Act & Assert
+        StepVerifier.create(query().search()
+                        .with("orderIds", List.of())
+                        .find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+
+        assertEquals(SELECT + DEFAULT_ORDER, executedSql());
+    }
+
+    @Test
+    void find_FlagCriterion_SelectsConditionWithoutBinding() {
+        // Arrange
+        stubFind();
+        CriteriaQuery<String> query = query();
+
+        // Act & Assert
+        StepVerifier.create(query.search().with("overdue", true).find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+        StepVerifier.create(query.search().with("overdue", false).find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+        StepVerifier.create(query.search().with("flagged", false).find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+
+        assertEquals(List.of(
+                        SELECT + " WHERE o.due_date < CURRENT_DATE" + DEFAULT_ORDER,
+                        SELECT + " WHERE o.due_date >= CURRENT_DATE" + DEFAULT_ORDER,
+                        SELECT + DEFAULT_ORDER),
+                executedSqls());
+        verify(spec, never()).bind(anyString(), any());
+    }
+
+    @Test
+    void find_ConditionsAppliedToEverySearch() {
+        // Arrange
+        stubFind();
+        CriteriaQuery<String> query = query().whereAlways("o.deleted = FALSE");
+
+        // Act & Assert
+        StepVerifier.create(query.search().find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+        StepVerifier.create(query.search().with("customerName", "Ada").find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+
+        assertEquals(List.of(
+                        SELECT + " WHERE o.deleted = FALSE" + DEFAULT_ORDER,
+                        SELECT + " WHERE o.deleted = FALSE AND c.customer_name = :customerName" + DEFAULT_ORDER),
+                executedSqls());
+    }
+
+    @Test
+    void search_PredicatesFollowDeclarationOrderWhateverTheCallOrder() {
+        // Arrange
+        stubFind();
+        CriteriaQuery<String> query = query();
+
+        // Act & Assert
+        StepVerifier.create(query.search()
+                        .with("customerName", "Ada")
+                        .with("status", TransactionStatusEnum.POSTED)
+                        .find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+        StepVerifier.create(query.search()
+                        .with("status", TransactionStatusEnum.FAILED)
+                        .with("customerName", "Grace")
+                        .find(databaseClient, Pageable.unpaged(), MAPPER))
+                .verifyComplete();
+
+        List<String> sqls = executedSqls();
+        assertEquals(SELECT + " WHERE o.status = :status AND c.customer_name = :customerName" + DEFAULT_ORDER, sqls.get(0));
+        assertSame(sqls.get(0), sqls.get(1));
+    }
+
+    @Test
+    void search_MorePredicatesThanMaskBits_Rejected() {
+        // Arrange
+        CriteriaQuery<String> query = CriteriaQuery.select("o.*", "orders o");
+        for (int i = 0; i <= Long.SIZE; i++) {
+            query.where("criterion" + i, "o.column" + i + " = :criterion" + i);
+        }
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, query::search);
+    }
+
+    @Test
+    void find_SameShape_StatementBuiltOnceAndCached() {
+        // Arrange
+        stubFind();
+        when(spec.map(any(Function.class))).thenReturn(counts);
+        when(counts.one()).thenReturn(Mono.just(0L));
+        CriteriaQuery<String> query = query();
+
+        // Act
+        query.search().with("status", TransactionStatusEnum.POSTED).find(databaseClient, Pageable.unpaged(), MAPPER).blockLast();
+        query.search().with("status", TransactionStatusEnum.FAILED).find(databaseClient, Pageable.unpaged(), MAPPER).blockLast();
+        query.search().with("customerName", "Ada").find(databaseClient, Pageable.unpaged(), MAPPER).blockLast();
+        query.search().with("status", TransactionStatusEnum.POSTED).count(databaseClient).block();
+
+        // Assert
+        List<String> sqls = executedSqls();
+        assertSame(sqls.get(0), sqls.get(1));
+        assertNotEquals(sqls.get(0), sqls.get(2));
+        Map<?, ?> statements = (Map<?, ?>) ReflectionTestUtils.getField(query, "statements");
+        assertEquals(3, statements.size());
+    }
+
+    @Test
+    void find_SortByWhitelistedProperties_UniqueColumnBreaksTies() {
+        // Arrange
+        stubFind();
+        Sort sort = Sort.by(Sort.Order.desc("totalAmount"), Sort.Order.asc("created_at"));
+
+        // Act & Assert
+        StepVerifier.create(query().search().find(databaseClient, sort, null, null, MAPPER))
+                .verifyComplete();
+
+        assertEquals(SELECT + " ORDER BY o.total_amount DESC, o.created_at ASC, o.order_id DESC", executedSql());
+    }
+
+    @Test
+    void find_UnknownSortProperty_Ignored() {
+        // Arrange
+        stubFind();
+        Sort sort = Sort.by(Sort.Order.asc("1; DROP TABLE orders"), Sort.Order.desc("totalAmount"));
+
+        // Act & Assert
+        StepVerifier.create(query().search().find(databaseClient, Sort.by("password"), null, null, MAPPER))
+                .verifyComplete();
+        StepVerifier.create(query().search().find(databaseClient, sort, null, null, MAPPER))
+                .verifyComplete();
+
+        assertEquals(List.of(
+                        SELECT + DEFAULT_ORDER,
+                        SELECT + " ORDER BY o.total_amount DESC, o.order_id DESC"),
+                executedSqls());
+    }
+
+    @Test
+    void find_Paged_BindsLimitAndOffset() {
+        // Arrange
+        stubFind();
+
+        // Act & Assert
+        StepVerifier.create(query().search().find(databaseClient, PageRequest.of(2, 10), MAPPER))
+                .verifyComplete();
+
+        assertEquals(SELECT + DEFAULT_ORDER + " LIMIT :limit OFFSET :offset", executedSql());
+        verify(spec).bind("limit", 10);
+        verify(spec).bind("offset", 20L);
+    }
+
+    @Test
+    void count_OnlyPredicatesOfGivenCriteria() {
+        // Arrange
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.map(any(Function.class))).thenReturn(counts);
+        when(counts.one()).thenReturn(Mono.just(3L));
+
+        // Act & Assert
+        StepVerifier.create(query().search().with("customerName", "Ada").count(databaseClient))
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertEquals("SELECT COUNT(*) FROM orders o JOIN customers c ON c.customer_id = o.customer_id "
+                + "WHERE c.customer_name = :customerName", executedSql());
+        verify(spec).bind("customerName", "Ada");
+    }
+
+    private CriteriaQuery<String> query() {
+        return CriteriaQuery.<String>select("o.*", "orders o JOIN customers c ON c.customer_id = o.customer_id")
+                .where("orderIds", "o.order_id = ANY(:orderIds)")
+                .where("status", "o.status = :status")
+                .where("statuses", "o.status = ANY(:statuses)")
+                .where("customerName", "c.customer_name = :customerName")
+                .whereFlag("overdue", "o.due_date < CURRENT_DATE", "o.due_date >= CURRENT_DATE")
+                .whereFlag("flagged", "o.flagged_at IS NOT NULL", null)
+                .sortable("totalAmount", "o.total_amount")
+                .sortable("createdAt", "o.created_at")
+                .orderBy("o.created_at DESC, o.order_id DESC", "o.order_id DESC");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubFind() {
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.empty());
+    }
+
+    private String executedSql() {
+        List<String> sqls = executedSqls();
+        assertEquals(1, sqls.size());
+        return sqls.get(0);
+    }
+
+    private List<String> executedSqls() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient, atLeastOnce()).sql(sql.capture());
+        return sql.getAllValues();
+    }
+}
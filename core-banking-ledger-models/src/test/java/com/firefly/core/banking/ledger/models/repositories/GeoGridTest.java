@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.models.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeoGridTest {
+
+    /** Default of {@code ledger.geo.max-radius-km}; searches with larger radii are rejected before reaching the grid. */
+    private static final double MAX_RADIUS_KM = 500.0;
+
+    @Test
+    void cellOf_NumbersCellsRowByRowFromTheSouthWest() {
+        // Act & Assert
+        assertEquals(0, GeoGrid.cellOf(-90, -180));
+        assertEquals(1, GeoGrid.cellOf(-90, -179.85));
+        assertEquals(GeoGrid.COLUMNS, GeoGrid.cellOf(-89.85, -180));
+        assertEquals(GeoGrid.ROWS * GeoGrid.COLUMNS - 1, GeoGrid.cellOf(90, 180));
+    }
+
+    @Test
+    void boundingBox_CrossingAntimeridian_Wraps() {
+        // Act
+        GeoGrid.BoundingBox east = GeoGrid.boundingBox(0, 179.9, 50);
+        GeoGrid.BoundingBox west = GeoGrid.boundingBox(0, -179.9, 50);
+
+        // Assert
+        assertTrue(east.crossesAntimeridian());
+        assertTrue(east.minLongitude() > 179 && east.maxLongitude() < -179);
+        assertTrue(west.crossesAntimeridian());
+        assertTrue(west.minLongitude() > 179 && west.maxLongitude() < -179);
+        assertFalse(GeoGrid.boundingBox(0, 0, 50).crossesAntimeridian());
+    }
+
+    @Test
+    void cellRanges_CrossingAntimeridian_CoversBothEdgesOnly() {
+        // Arrange
+        GeoGrid.BoundingBox box = GeoGrid.boundingBox(10, 179.95, 30);
+
+        // Act
+        List<GeoGrid.CellRange> ranges = GeoGrid.cellRanges(box);
+
+        // Assert
+        assertSortedAndDisjoint(ranges);
+        assertTrue(covers(ranges, GeoGrid.cellOf(10, 179.95)));
+        assertTrue(covers(ranges, GeoGrid.cellOf(10, -179.95)));
+        assertFalse(covers(ranges, GeoGrid.cellOf(10, 0)));
+        assertFalse(covers(ranges, GeoGrid.cellOf(10, 178)));
+        assertFalse(covers(ranges, GeoGrid.cellOf(10, -178)));
+    }
+
+    @Test
+    void boundingBox_ReachingAPole_CoversAllLongitudes() {
+        // Act
+        GeoGrid.BoundingBox north = GeoGrid.boundingBox(89.9, 10, 50);
+        GeoGrid.BoundingBox south = GeoGrid.boundingBox(-89.9, -170, 50);
+
+        // Assert
+        assertEquals(90, north.maxLatitude());
+        assertTrue(north.coversAllLongitudes());
+        assertFalse(north.crossesAntimeridian());
+        assertEquals(-90, south.minLatitude());
+        assertTrue(south.coversAllLongitudes());
+    }
+
+    @Test
+    void cellRanges_ReachingAPole_OneRangeUpToTheLastCell() {
+        // Act
+        List<GeoGrid.CellRange> north = GeoGrid.cellRanges(GeoGrid.boundingBox(89.9, 10, 50));
+        List<GeoGrid.CellRange> south = GeoGrid.cellRanges(GeoGrid.boundingBox(-89.9, -170, 50));
+
+        // Assert
+        assertEquals(1, north.size());
+        assertEquals(GeoGrid.ROWS * GeoGrid.COLUMNS - 1, north.get(0).last());
+        assertTrue(covers(north, GeoGrid.cellOf(90, -180)));
+        assertEquals(1, south.size());
+        assertEquals(0, south.get(0).first());
+        assertTrue(covers(south, GeoGrid.cellOf(-90, 180)));
+    }
+
+    @Test
+    void cellRanges_MaximumRadius_CoversTheCircleWithinTheRangeLimit() {
+        // Arrange
+        double[][] centres = {{0, 0}, {40.4168, -3.7038}, {0, 180}, {-45, -179.99}, {65, 179.5}, {85, 30}, {-87, 0}};
+
+        for (double[] centre : centres) {
+            // Act
+            List<GeoGrid.CellRange> ranges = GeoGrid.cellRanges(GeoGrid.boundingBox(centre[0], centre[1], MAX_RADIUS_KM));
+
+            // Assert
+            assertTrue(ranges.size() <= GeoGrid.MAX_RANGES, "too many ranges around " + centre[0] + "," + centre[1]);
+            assertSortedAndDisjoint(ranges);
+            assertTrue(covers(ranges, GeoGrid.cellOf(centre[0], centre[1])));
+            for (int bearing = 0; bearing < 360; bearing += 10) {
+                double[] point = destination(centre[0], centre[1], bearing, MAX_RADIUS_KM * 0.999);
+                assertTrue(covers(ranges, GeoGrid.cellOf(point[0], point[1])),
+                        "point " + point[0] + "," + point[1] + " not covered around " + centre[0] + "," + centre[1]);
+            }
+        }
+    }
+
+    @Test
+    void cellRanges_BeyondTheRangeLimit_OneRangeOverTheLatitudeBand() {
+        // Arrange
+        GeoGrid.BoundingBox box = GeoGrid.boundingBox(0, 0, 2000);
+
+        // Act
+        List<GeoGrid.CellRange> ranges = GeoGrid.cellRanges(box);
+
+        // Assert
+        assertEquals(1, ranges.size());
+        assertEquals(GeoGrid.cellOf(box.minLatitude(), box.minLongitude()), ranges.get(0).first());
+        assertEquals(GeoGrid.cellOf(box.maxLatitude(), box.maxLongitude()), ranges.get(0).last());
+    }
+
+    private static boolean covers(List<GeoGrid.CellRange> ranges, int cell) {
+        return ranges.stream().anyMatch(range -> range.first() <= cell && cell <= range.last());
+    }
+
+    private static void assertSortedAndDisjoint(List<GeoGrid.CellRange> ranges) {
+        for (int i = 0; i < ranges.size(); i++) {
+            assertTrue(ranges.get(i).first() <= ranges.get(i).last());
+            if (i > 0) {
+                assertTrue(ranges.get(i - 1).last() < ranges.get(i).first());
+            }
+        }
+    }
+
+    /**
+     * Point reached from the centre along the great circle with the given bearing, normalized to [-180, 180].
+     */
+    private static double[] destination(double latitude, double longitude, double bearingDegrees, double distanceKm) {
+        double angularDistance = distanceKm / GeoGrid.EARTH_RADIUS_KM;
+        double bearing = Math.toRadians(bearingDegrees);
+        double phi = Math.toRadians(latitude);
+        double targetPhi = Math.asin(Math.sin(phi) * Math.cos(angularDistance)
+                + Math.cos(phi) * Math.sin(angularDistance) * Math.cos(bearing));
+        double lambda = Math.toRadians(longitude) + Math.atan2(
+                Math.sin(bearing) * Math.sin(angularDistance) * Math.cos(phi),
+                Math.cos(angularDistance) - Math.sin(phi) * Math.sin(targetPhi));
+        double targetLongitude = Math.toDegrees(lambda);
+        if (targetLongitude > 180) {
+            targetLongitude -= 360;
+        } else if (targetLongitude < -180) {
+            targetLongitude += 360;
+        }
+        return new double[]{Math.toDegrees(targetPhi), targetLongitude};
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.web.controllers.balance.v1;
+
+import com.firefly.core.banking.ledger.core.services.balance.v1.AccountBalanceService;
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceAsOfDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.balance.v1.AccountBalanceDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import java.util.UUID;
+/**
+ * REST controller for reading the account balance projection.
+ */
+@RestController
+@RequestMapping("/api/v1/accounts/{accountId}/balance")
+@Tag(name = "Account Balances", description = "API endpoints for reading running account balances")
+public class AccountBalanceController {
+
+    @Autowired
+    private AccountBalanceService service;
+
+    @Operation(
+            summary = "Get Account Balance",
+            description = "Retrieve the running balances of an account, one per account space and currency, " +
+                    "without aggregating the transaction legs."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Account balances retrieved successfully",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AccountBalanceDTO.class)))
+    )
+    @ApiResponse(responseCode = "404", description = "No balance found for the account")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AccountBalanceDTO>>> getAccountBalance(
+            @Parameter(description = "Account ID", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Optional account space ID filter")
+            @RequestParam(required = false) UUID accountSpaceId,
+
+            @Parameter(description = "Optional currency filter (ISO 4217)")
+            @RequestParam(required = false) String currency
+    ) {
+        return service.getAccountBalances(accountId, accountSpaceId, currency)
+                .collectList()
+                .filter(balances -> !balances.isEmpty())
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Get Account Balance As Of Date",
+            description = "Retrieve the closing balances of an account at the end of a day, one per currency, by leg " +
+                    "value date (booking date when unset). Each balance is read from the nearest end-of-day snapshot " +
+                    "plus the legs dated since, including backdated postings not yet reflected in the snapshots."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Account balances retrieved successfully",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AccountBalanceAsOfDTO.class)))
+    )
+    @ApiResponse(responseCode = "404", description = "No balance found for the account")
+    @GetMapping(value = "/as-of", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AccountBalanceAsOfDTO>>> getAccountBalanceAsOf(
+            @Parameter(description = "Account ID", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Day whose closing balance is returned (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+
+            @Parameter(description = "Optional currency filter (ISO 4217)")
+            @RequestParam(required = false) String currency
+    ) {
+        return service.getAccountBalancesAsOf(accountId, currency, date)
+                .collectList()
+                .filter(balances -> !balances.isEmpty())
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.web.controllers.core.v1;
+
+import com.firefly.core.banking.ledger.core.services.core.v1.TransactionService;
+import com.firefly.core.banking.ledger.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+/**
+ * REST controller for listing the transactions of an account space.
+ */
+@RestController
+@RequestMapping("/api/v1/account-spaces/{accountSpaceId}/transactions")
+@Tag(name = "Account Space Transactions", description = "API endpoints for listing transactions by account space")
+public class AccountSpaceTransactionController {
+
+    @Autowired
+    private TransactionService service;
+
+    @Operation(
+            summary = "List Account Space Transactions",
+            description = "Retrieve a page of transactions for a specific account space using keyset (cursor) pagination, " +
+                    "newest booking date first. Pass the returned nextCursor to fetch the following page; " +
+                    "every page costs the same regardless of its depth. Transactions without a booking date are not listed."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Account Space transactions retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponse.class))
+    )
+    @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageResponse<TransactionDTO>>> listAccountSpaceTransactions(
+            @Parameter(description = "Account Space ID", required = true)
+            @PathVariable UUID accountSpaceId,
+
+            @Parameter(description = "Optional start of the booking date range (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "Optional end of the booking date range (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @Parameter(description = "Cursor returned with the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size,
+
+            @Parameter(description = "Whether to compute the total number of matching transactions")
+            @RequestParam(defaultValue = "false") boolean includeCount
+    ) {
+        return service.listTransactionsByAccountSpaceId(accountSpaceId, startDate, endDate, cursor, size, includeCount)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Stream Account Space Transactions",
+            description = "Stream every transaction of a specific account space, newest booking date first, as " +
+                    "newline-delimited JSON or server-sent events. Rows are read from the database through a cursor " +
+                    "as the client consumes them, so exports of any size run in constant memory on both sides."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Account space transactions streamed successfully",
+            content = {
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TransactionDTO.class)),
+                    @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TransactionDTO.class))
+            }
+    )
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<TransactionDTO> streamAccountSpaceTransactions(
+            @Parameter(description = "Account Space ID", required = true)
+            @PathVariable UUID accountSpaceId
+    ) {
+        return service.getTransactionsByAccountSpaceId(accountSpaceId);
+    }
+}
@@ -20,9 +20,15 @@ package com.firefly.core.banking.ledger.web.controllers.core.v1;
 import java.util.UUID;
 
 import org.fireflyframework.core.filters.FilterRequest;
+import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.ledger.core.services.core.v1.TransactionBatchService;
 import com.firefly.core.banking.ledger.core.services.core.v1.TransactionServiceImpl;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchItemDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionBatchResultDTO;
 import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionStatusUpdateProgressDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.core.v1.TransactionStatusUpdateRequestDTO;
 import com.firefly.core.banking.ledger.interfaces.enums.core.v1.TransactionStatusEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,11 +37,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Tag(name = "Transactions", description = "APIs for managing transaction records in the ledger system")
@@ -46,6 +56,9 @@ public class TransactionController {
     @Autowired
     private TransactionServiceImpl service;
 
+    @Autowired
+    private TransactionBatchService batchService;
+
     @Operation(
             summary = "Create Transaction",
             description = "Create a new transaction record in the ledger."
@@ -68,6 +81,28 @@ public class TransactionController {
                 .defaultIfEmpty(ResponseEntity.badRequest().build());
     }
 
+    @Operation(
+            summary = "Create Transactions in Bulk",
+            description = "Ingest a newline-delimited JSON stream of transactions with their legs. " +
+                    "Items are written in chunks with multi-row inserts and one result is streamed back per item, in input order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-item ingestion results",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = TransactionBatchResultDTO.class)))
+    })
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TransactionBatchResultDTO> createTransactionsBatch(
+            @Parameter(description = "Stream of transactions (with legs) to be created", required = true,
+                    schema = @Schema(implementation = TransactionBatchItemDTO.class))
+            @RequestBody Flux<TransactionBatchItemDTO> items,
+
+            @Parameter(description = "Batch ID stored on every created transaction; generated when omitted")
+            @RequestParam(required = false) String batchId
+    ) {
+        return batchService.createTransactions(items, batchId);
+    }
+
     @Operation(
             summary = "Filter Transactions",
             description = "Apply custom filters to retrieve a paginated list of transactions from the ledger."
@@ -181,6 +216,32 @@ public class TransactionController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Update Transaction Statuses in Bulk",
+            description = "Move a list of transactions, or every transaction of a batch, to a new status. " +
+                    "Transactions are updated in chunks, each with one set-based update and one status history insert " +
+                    "in its own database transaction; the progress of each committed chunk is streamed as " +
+                    "newline-delimited JSON. Transactions already in the new status, or not in the optional current " +
+                    "status, are skipped, so an interrupted run can be repeated. Use batchId for large runs."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk progress streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = TransactionStatusUpdateProgressDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Neither or both of transaction IDs and batch ID given",
+                    content = @Content)
+    })
+    @PatchMapping(value = "/status", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TransactionStatusUpdateProgressDTO> updateTransactionStatuses(
+            @Parameter(description = "Transactions to update and their new status", required = true,
+                    schema = @Schema(implementation = TransactionStatusUpdateRequestDTO.class))
+            @Valid @RequestBody TransactionStatusUpdateRequestDTO request
+    ) {
+        return batchService.updateTransactionStatuses(request)
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+
 
 
     @Operation(
@@ -203,4 +264,70 @@ public class TransactionController {
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Search Transactions Within Radius",
+            description = "Find the transactions located within a radius (in km) of a point, nearest first. " +
+                    "Only the grid cells around the point are read, so the cost depends on the radius and the " +
+                    "local density rather than on the size of the ledger."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the transactions",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinates or radius",
+                    content = @Content)
+    })
+    @GetMapping(value = "/geo/radius", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginationResponse<TransactionDTO>>> searchTransactionsWithinRadius(
+            @Parameter(description = "Latitude of the centre, in degrees", required = true)
+            @RequestParam Double latitude,
+
+            @Parameter(description = "Longitude of the centre, in degrees", required = true)
+            @RequestParam Double longitude,
+
+            @Parameter(description = "Radius, in kilometres", required = true)
+            @RequestParam Double radiusInKm,
+
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PaginationRequest paginationRequest = new PaginationRequest(page, size, null, null);
+        return service.searchTransactionsWithinRadius(latitude, longitude, radiusInKm, paginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Search Transactions",
+            description = "Free-text search over transaction descriptions, initiating parties and counterparty names " +
+                    "(card merchants, direct debit debtors, SEPA recipients, wire beneficiaries, standing order recipients), " +
+                    "best match first. Matching is by trigram word similarity, so small typos are tolerated."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the matching transactions",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Query shorter than 3 characters",
+                    content = @Content)
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginationResponse<TransactionDTO>>> searchTransactions(
+            @Parameter(description = "Search text (at least 3 characters)", required = true)
+            @RequestParam("q") String query,
+
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PaginationRequest paginationRequest = new PaginationRequest(page, size, null, null);
+        return service.searchTransactions(query, paginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
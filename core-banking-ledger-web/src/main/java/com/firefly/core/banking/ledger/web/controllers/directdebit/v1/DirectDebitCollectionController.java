@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.web.controllers.directdebit.v1;
+
+import com.firefly.core.banking.ledger.core.services.directdebit.v1.DirectDebitCollectionService;
+import com.firefly.core.banking.ledger.interfaces.dtos.directdebit.v1.DirectDebitCollectionResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+/**
+ * REST controller for direct debit collection runs.
+ */
+@RestController
+@RequestMapping("/api/v1/direct-debits/collections")
+@Tag(name = "Direct Debit Collections", description = "API endpoints for collecting due direct debits in bulk")
+public class DirectDebitCollectionController {
+
+    @Autowired
+    private DirectDebitCollectionService service;
+
+    @Operation(
+            summary = "Collect Due Direct Debits",
+            description = "Collect every pending direct debit due on or before the given date (today by default). " +
+                    "Collections of a mandate are processed in FRST, RCUR, FNAL order; debits violating their mandate " +
+                    "sequence are marked FAILED. Repeating a run only processes debits that are still pending."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Collection run completed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = DirectDebitCollectionResultDTO.class))
+    )
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<DirectDebitCollectionResultDTO>> collectDueDirectDebits(
+            @Parameter(description = "Collect debits due on or before this date (defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate
+    ) {
+        return service.collectDueDirectDebits(dueDate != null ? dueDate : LocalDate.now())
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.web.controllers.fee.v1;
+
+import com.firefly.core.banking.ledger.core.services.fee.v1.FeeScheduleService;
+import com.firefly.core.banking.ledger.interfaces.dtos.fee.v1.FeeScheduleDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+/**
+ * REST controller for the fee schedules charged on new transactions.
+ */
+@RestController
+@RequestMapping("/api/v1/fee-schedules")
+@Tag(name = "Fee Schedules", description = "API endpoints for the fee rules charged on postings and bulk ingestion")
+public class FeeScheduleController {
+
+    @Autowired
+    private FeeScheduleService service;
+
+    @Operation(
+            summary = "Get Fee Schedules",
+            description = "Retrieve every fee rule, active or not."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the fee schedules",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = FeeScheduleDTO.class))
+    )
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<FeeScheduleDTO>>> getFeeSchedules() {
+        return service.getFeeSchedules()
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Get Fee Schedule",
+            description = "Retrieve a fee rule by its unique identifier."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the fee schedule",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FeeScheduleDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Fee schedule not found",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{feeScheduleId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<FeeScheduleDTO>> getFeeSchedule(
+            @Parameter(description = "Unique identifier of the fee schedule", required = true)
+            @PathVariable UUID feeScheduleId
+    ) {
+        return service.getFeeSchedule(feeScheduleId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Create Fee Schedule",
+            description = "Create a fee rule. It is charged on every transaction of its transaction type, line type " +
+                    "and currency created from then on, as a FEE transaction debiting the transaction's account."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Fee schedule created successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FeeScheduleDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid fee schedule",
+                    content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<FeeScheduleDTO>> createFeeSchedule(
+            @Parameter(description = "Fee schedule to create", required = true,
+                    schema = @Schema(implementation = FeeScheduleDTO.class))
+            @Valid @RequestBody FeeScheduleDTO scheduleDTO
+    ) {
+        return service.createFeeSchedule(scheduleDTO)
+                .map(created -> ResponseEntity.status(201).body(created))
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+
+    @Operation(
+            summary = "Update Fee Schedule",
+            description = "Update a fee rule. Fees already charged are not changed; set active to false to stop charging it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fee schedule updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FeeScheduleDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid fee schedule",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Fee schedule not found",
+                    content = @Content)
+    })
+    @PutMapping(value = "/{feeScheduleId}", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<FeeScheduleDTO>> updateFeeSchedule(
+            @Parameter(description = "Unique identifier of the fee schedule", required = true)
+            @PathVariable UUID feeScheduleId,
+
+            @Parameter(description = "Updated fee schedule", required = true,
+                    schema = @Schema(implementation = FeeScheduleDTO.class))
+            @Valid @RequestBody FeeScheduleDTO scheduleDTO
+    ) {
+        return service.updateFeeSchedule(feeScheduleId, scheduleDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+}
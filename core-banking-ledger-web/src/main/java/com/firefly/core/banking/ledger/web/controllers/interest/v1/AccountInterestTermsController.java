@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.web.controllers.interest.v1;
+
+import com.firefly.core.banking.ledger.core.services.interest.v1.InterestAccrualService;
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.AccountInterestTermsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+/**
+ * REST controller for the interest terms of an account.
+ */
+@RestController
+@RequestMapping("/api/v1/accounts/{accountId}/interest-terms")
+@Tag(name = "Account Interest Terms", description = "API endpoints for the interest conditions accrued daily on an account")
+public class AccountInterestTermsController {
+
+    @Autowired
+    private InterestAccrualService service;
+
+    @Operation(
+            summary = "Get Interest Terms",
+            description = "Retrieve the interest terms of an account in every currency, with the next day to accrue."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the interest terms",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = AccountInterestTermsDTO.class))
+    )
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AccountInterestTermsDTO>>> getInterestTerms(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId
+    ) {
+        return service.getInterestTerms(accountId)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Create Interest Terms",
+            description = "Create interest terms for an account in one currency. Interest is accrued daily from the " +
+                    "start date on, on the account's end-of-day balance."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Interest terms created successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AccountInterestTermsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid interest terms",
+                    content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<AccountInterestTermsDTO>> createInterestTerms(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Interest terms to create", required = true,
+                    schema = @Schema(implementation = AccountInterestTermsDTO.class))
+            @Valid @RequestBody AccountInterestTermsDTO termsDTO
+    ) {
+        return service.createInterestTerms(accountId, termsDTO)
+                .map(created -> ResponseEntity.status(201).body(created))
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+
+    @Operation(
+            summary = "Update Interest Terms",
+            description = "Update the conditions of interest terms. Changes apply to the days not accrued yet."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Interest terms updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AccountInterestTermsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid interest terms",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Interest terms not found for this account",
+                    content = @Content)
+    })
+    @PutMapping(value = "/{accountInterestTermsId}", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<AccountInterestTermsDTO>> updateInterestTerms(
+            @Parameter(description = "Unique identifier of the account", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Unique identifier of the interest terms", required = true)
+            @PathVariable UUID accountInterestTermsId,
+
+            @Parameter(description = "Updated interest terms", required = true,
+                    schema = @Schema(implementation = AccountInterestTermsDTO.class))
+            @Valid @RequestBody AccountInterestTermsDTO termsDTO
+    ) {
+        return service.updateInterestTerms(accountId, accountInterestTermsId, termsDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+}
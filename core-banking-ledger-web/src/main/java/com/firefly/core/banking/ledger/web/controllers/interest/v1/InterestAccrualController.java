@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.web.controllers.interest.v1;
+
+import com.firefly.core.banking.ledger.core.services.interest.v1.InterestAccrualService;
+import com.firefly.core.banking.ledger.interfaces.dtos.interest.v1.InterestAccrualResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+/**
+ * REST controller for interest accrual runs.
+ */
+@RestController
+@RequestMapping("/api/v1/interest-accruals")
+@Tag(name = "Interest Accruals", description = "API endpoints for accruing interest on every account in bulk")
+public class InterestAccrualController {
+
+    @Autowired
+    private InterestAccrualService service;
+
+    @Operation(
+            summary = "Accrue Interest",
+            description = "Accrue interest on every account with interest terms up to and including the given date " +
+                    "(the last settled day by default), one day at a time. Each day is posted as an INTEREST transaction " +
+                    "with its legs and interest line. Repeating a run only accrues days that were not accrued yet. A day " +
+                    "is settled once it has been over for ledger.interest.accrual.settle-delay."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Accrual run completed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InterestAccrualResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Through date is not settled yet",
+                    content = @Content)
+    })
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<InterestAccrualResultDTO>> accrueInterest(
+            @Parameter(description = "Last day to accrue (defaults to the last settled day)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate throughDate
+    ) {
+        return service.accrueInterest(throughDate != null ? throughDate : service.lastSettledDate())
+                .map(ResponseEntity::ok)
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+}
@@ -20,6 +20,7 @@ package com.firefly.core.banking.ledger.web.controllers.leg.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.ledger.core.services.leg.v1.TransactionLegService;
+import com.firefly.core.banking.ledger.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.banking.ledger.interfaces.dtos.leg.v1.TransactionLegDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -117,4 +118,41 @@ public class AccountLegController {
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
+
+    @Operation(
+            summary = "List Account Legs by Cursor",
+            description = "Retrieve a page of transaction legs for a specific account using keyset (cursor) pagination, " +
+                    "newest booking date first. Pass the returned nextCursor to fetch the following page; " +
+                    "every page costs the same regardless of its depth. Legs without a booking date are not listed."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Account legs retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponse.class))
+    )
+    @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content)
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageResponse<TransactionLegDTO>>> listAccountLegsByCursor(
+            @Parameter(description = "Account ID", required = true)
+            @PathVariable UUID accountId,
+
+            @Parameter(description = "Optional start of the booking date range (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "Optional end of the booking date range (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @Parameter(description = "Cursor returned with the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size,
+
+            @Parameter(description = "Whether to compute the total number of matching legs")
+            @RequestParam(defaultValue = "false") boolean includeCount
+    ) {
+        return service.listAccountLegsByCursor(accountId, startDate, endDate, cursor, size, includeCount)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
 }
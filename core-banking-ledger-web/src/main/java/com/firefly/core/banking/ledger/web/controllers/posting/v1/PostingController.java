@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.web.controllers.posting.v1;
+
+import com.firefly.core.banking.ledger.core.services.posting.v1.PostingService;
+import com.firefly.core.banking.ledger.interfaces.dtos.posting.v1.PostingDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+/**
+ * REST controller for atomic double-entry postings.
+ */
+@RestController
+@RequestMapping("/api/v1/postings")
+@Tag(name = "Postings", description = "API endpoints for creating a transaction with its legs and line in one call")
+public class PostingController {
+
+    @Autowired
+    private PostingService service;
+
+    @Operation(
+            summary = "Create Posting",
+            description = "Create a transaction, its debit and credit legs and an optional transaction line atomically. " +
+                    "Debits must equal credits per currency; nothing is written when the posting is unbalanced."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Posting created successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PostingDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Incomplete or unbalanced posting",
+                    content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PostingDTO>> createPosting(
+            @Parameter(description = "Transaction with its legs and optional line", required = true,
+                    schema = @Schema(implementation = PostingDTO.class))
+            @RequestBody PostingDTO posting
+    ) {
+        return service.createPosting(posting)
+                .map(created -> ResponseEntity.status(201).body(created))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.ledger.web.controllers.price.v1;
+
+import com.firefly.core.banking.ledger.core.services.price.v1.PriceHistoryService;
+import com.firefly.core.banking.ledger.core.services.price.v1.PriceService;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.MarketData;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceCandleDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceIngestionResultDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.price.v1.PriceUpdate;
+import com.firefly.core.banking.ledger.interfaces.enums.price.v1.PriceResolutionEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+/**
+ * REST controller for the live crypto price table and the price history.
+ */
+@RestController
+@RequestMapping("/api/v1/prices")
+@Tag(name = "Prices", description = "API endpoints for ingesting crypto price feeds and reading current prices")
+public class PriceController {
+
+    @Autowired
+    private PriceService service;
+
+    @Autowired
+    private PriceHistoryService historyService;
+
+    @Operation(
+            summary = "Ingest Price Updates",
+            description = "Ingest a newline-delimited JSON stream of price updates. Updates are conflated in memory " +
+                    "to the latest price per crypto asset and quote currency; updates older than the price held are " +
+                    "ignored. Prices are persisted periodically, not per update."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Updates ingested",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceIngestionResultDTO.class)))
+    })
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceIngestionResultDTO>> ingestPriceUpdates(
+            @Parameter(description = "Stream of price updates", required = true,
+                    schema = @Schema(implementation = PriceUpdate.class))
+            @RequestBody Flux<PriceUpdate> updates
+    ) {
+        return service.ingestPriceUpdates(updates)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Ingest Market Data",
+            description = "Ingest a newline-delimited JSON stream of market data. The current price of each item is " +
+                    "applied like a price update; the 24h price change is taken from its \"24h\" entries."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Market data ingested",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceIngestionResultDTO.class)))
+    })
+    @PostMapping(value = "/market-data/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceIngestionResultDTO>> ingestMarketData(
+            @Parameter(description = "Stream of market data", required = true,
+                    schema = @Schema(implementation = MarketData.class))
+            @RequestBody Flux<MarketData> marketData
+    ) {
+        return service.ingestMarketData(marketData)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Get Current Prices",
+            description = "Retrieve the latest price of a crypto asset in every quote currency, or in one quote " +
+                    "currency. Served from memory."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the prices",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceUpdate.class))),
+            @ApiResponse(responseCode = "404", description = "No price received for the asset",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{assetId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<PriceUpdate>>> getPrices(
+            @Parameter(description = "Unique identifier of the crypto asset", required = true)
+            @PathVariable UUID assetId,
+
+            @Parameter(description = "Quote currency (e.g., USD, EUR); every quote currency when omitted")
+            @RequestParam(required = false) String quoteCurrency
+    ) {
+        Flux<PriceUpdate> prices = quoteCurrency != null
+                ? service.getPrice(assetId, quoteCurrency).flux()
+                : service.getPrices(assetId);
+        return prices.collectList()
+                .map(list -> list.isEmpty()
+                        ? ResponseEntity.<List<PriceUpdate>>notFound().build()
+                        : ResponseEntity.ok(list));
+    }
+
+    @Operation(
+            summary = "Get Recent Ticks",
+            description = "Retrieve the latest price updates of a crypto asset in a quote currency, oldest first, " +
+                    "from the in-memory tick buffer."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the ticks",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PriceUpdate.class))
+    )
+    @GetMapping(value = "/{assetId}/ticks", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<PriceUpdate>>> getRecentTicks(
+            @Parameter(description = "Unique identifier of the crypto asset", required = true)
+            @PathVariable UUID assetId,
+
+            @Parameter(description = "Quote currency (e.g., USD, EUR)", required = true)
+            @RequestParam String quoteCurrency,
+
+            @Parameter(description = "Maximum number of ticks")
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return historyService.getRecentTicks(assetId, quoteCurrency, limit)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Get Price Candles",
+            description = "Retrieve the OHLC candles of a crypto asset in a quote currency whose period starts in " +
+                    "[from, to) (UTC). Without a resolution, the finest of MINUTE, HOUR and DAY that covers the range " +
+                    "within maxPoints candles is used."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the candles",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PriceCandleDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid range or candle budget",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{assetId}/candles", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<PriceCandleDTO>>> getCandles(
+            @Parameter(description = "Unique identifier of the crypto asset", required = true)
+            @PathVariable UUID assetId,
+
+            @Parameter(description = "Quote currency (e.g., USD, EUR)", required = true)
+            @RequestParam String quoteCurrency,
+
+            @Parameter(description = "Start of the range (UTC)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "End of the range, exclusive (UTC)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            @Parameter(description = "Candle resolution; picked from the range and maxPoints when omitted")
+            @RequestParam(required = false) PriceResolutionEnum resolution,
+
+            @Parameter(description = "Maximum number of candles used to pick the resolution")
+            @RequestParam(required = false) Integer maxPoints
+    ) {
+        return historyService.getCandles(assetId, quoteCurrency, from, to, resolution, maxPoints)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+}
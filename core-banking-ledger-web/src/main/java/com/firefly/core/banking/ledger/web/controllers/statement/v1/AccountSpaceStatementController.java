@@ -20,6 +20,7 @@ package com.firefly.core.banking.ledger.web.controllers.statement.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.ledger.core.services.statement.v1.StatementService;
+import com.firefly.core.banking.ledger.interfaces.dtos.OffsetPageResponse;
 import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementMetadataDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -81,10 +82,10 @@ public class AccountSpaceStatementController {
     @ApiResponse(
             responseCode = "200",
             description = "Account space statements retrieved successfully",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = OffsetPageResponse.class))
     )
     @GetMapping(value = "/date-range", produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<ResponseEntity<PaginationResponse<StatementMetadataDTO>>> listStatementsByDateRange(
+    public Mono<ResponseEntity<OffsetPageResponse<StatementMetadataDTO>>> listStatementsByDateRange(
             @Parameter(description = "Account Space ID", required = true)
             @PathVariable UUID accountSpaceId,
 
@@ -95,9 +96,12 @@ public class AccountSpaceStatementController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+
+            @Parameter(description = "Whether to count the statements in the range; when false totalElements and totalPages are null and hasNext tells whether another page exists (for infinite scroll)")
+            @RequestParam(defaultValue = "true") boolean includeCount
     ) {
-        return service.listAccountSpaceStatementsByDateRange(accountSpaceId, startDate, endDate, paginationRequest)
+        return service.listAccountSpaceStatementsByDateRange(accountSpaceId, startDate, endDate, paginationRequest, includeCount)
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
@@ -20,19 +20,26 @@ package com.firefly.core.banking.ledger.web.controllers.statement.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.ledger.core.services.statement.v1.StatementService;
+import com.firefly.core.banking.ledger.interfaces.dtos.OffsetPageResponse;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementLineDTO;
 import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementMetadataDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -50,7 +57,31 @@ public class AccountStatementController {
     @Autowired
     private StatementService service;
 
+    @Operation(
+            summary = "Generate Account Statement",
+            description = "Generate a statement for a specific account and stream it as newline-delimited JSON: " +
+                    "a HEADER record with the opening balance, one ENTRY record per leg in booking order with its " +
+                    "running balance, and a SUMMARY record with totals, closing balance and the persisted statement metadata."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Statement generated successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = StatementLineDTO.class))
+    )
+    @ApiResponse(responseCode = "400", description = "Invalid statement period or missing currency", content = @Content)
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StatementLineDTO> generateStatement(
+            @Parameter(description = "Account ID", required = true)
+            @PathVariable UUID accountId,
 
+            @Parameter(description = "Statement period and options", required = true,
+                    schema = @Schema(implementation = StatementRequestDTO.class))
+            @Valid @RequestBody StatementRequestDTO request
+    ) {
+        return service.generateAccountStatement(accountId, request)
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
 
     @Operation(
             summary = "List Account Statements",
@@ -80,10 +111,10 @@ public class AccountStatementController {
     @ApiResponse(
             responseCode = "200",
             description = "Account statements retrieved successfully",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginationResponse.class))
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = OffsetPageResponse.class))
     )
     @GetMapping(value = "/date-range", produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<ResponseEntity<PaginationResponse<StatementMetadataDTO>>> listStatementsByDateRange(
+    public Mono<ResponseEntity<OffsetPageResponse<StatementMetadataDTO>>> listStatementsByDateRange(
             @Parameter(description = "Account ID", required = true)
             @PathVariable UUID accountId,
 
@@ -94,9 +125,12 @@ public class AccountStatementController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+
+            @Parameter(description = "Whether to count the statements in the range; when false totalElements and totalPages are null and hasNext tells whether another page exists (for infinite scroll)")
+            @RequestParam(defaultValue = "true") boolean includeCount
     ) {
-        return service.listAccountStatementsByDateRange(accountId, startDate, endDate, paginationRequest)
+        return service.listAccountStatementsByDateRange(accountId, startDate, endDate, paginationRequest, includeCount)
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.ledger.web.controllers.statement.v1;
+
+import com.firefly.core.banking.ledger.core.services.statement.v1.StatementJobService;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobDTO;
+import com.firefly.core.banking.ledger.interfaces.dtos.statement.v1.StatementJobRequestDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+/**
+ * REST controller for statement batch jobs.
+ * A job generates statements for every account of a set of account spaces in the background.
+ */
+@RestController
+@RequestMapping("/api/v1/statement-jobs")
+@Tag(name = "Statement Jobs", description = "API endpoints for batch statement generation across account spaces")
+public class StatementJobController {
+
+    @Autowired
+    private StatementJobService service;
+
+    @Operation(
+            summary = "Create Statement Job",
+            description = "Generate statements for every account of the given account spaces for one period. " +
+                    "The job runs in the background with bounded parallelism; poll it for progress."
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "Statement job accepted",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = StatementJobDTO.class))
+    )
+    @ApiResponse(responseCode = "400", description = "Invalid statement period", content = @Content)
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<StatementJobDTO>> createJob(
+            @Parameter(description = "Account spaces and statement period", required = true,
+                    schema = @Schema(implementation = StatementJobRequestDTO.class))
+            @Valid @RequestBody StatementJobRequestDTO request
+    ) {
+        return service.createJob(request)
+                .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Get Statement Job",
+            description = "Retrieve a statement job with its progress counters and throughput."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Statement job retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = StatementJobDTO.class))
+    )
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<StatementJobDTO>> getJob(
+            @Parameter(description = "Statement job ID", required = true)
+            @PathVariable UUID jobId
+    ) {
+        return service.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Resume Statement Job",
+            description = "Retry the failed items of a statement job and run it again. Completed items are not regenerated."
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "Statement job resumed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = StatementJobDTO.class))
+    )
+    @PostMapping(value = "/{jobId}/resume", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<StatementJobDTO>> resumeJob(
+            @Parameter(description = "Statement job ID", required = true)
+            @PathVariable UUID jobId
+    ) {
+        return service.resumeJob(jobId)
+                .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}